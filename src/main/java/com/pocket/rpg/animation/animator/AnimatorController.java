@@ -1,5 +1,6 @@
 package com.pocket.rpg.animation.animator;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -16,6 +17,11 @@ import java.util.Objects;
  * - Parameters (runtime values that drive transitions)
  * <p>
  * Loaded from .animator.json files via AnimatorControllerLoader.
+ * <p>
+ * State machines run the {@link #getCompiled() compiled} form, which is rebuilt after
+ * any change made through this class or through the setters of its states, transitions,
+ * conditions and parameters. Call {@link #invalidateCompiled()} after mutating one of
+ * their lists directly.
  */
 @Getter
 @Setter
@@ -46,6 +52,10 @@ public class AnimatorController {
      */
     private List<AnimatorParameter> parameters = new ArrayList<>();
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient CompiledAnimator compiled;
+
     // ========================================================================
     // CONSTRUCTORS
     // ========================================================================
@@ -66,6 +76,7 @@ public class AnimatorController {
      * Adds a state to this controller.
      */
     public void addState(AnimatorState state) {
+        invalidateCompiled();
         states.add(state);
         // If this is the first state, make it the default
         if (defaultState == null || defaultState.isEmpty()) {
@@ -77,6 +88,7 @@ public class AnimatorController {
      * Removes a state by name.
      */
     public void removeState(String name) {
+        invalidateCompiled();
         states.removeIf(s -> Objects.equals(s.getName(), name));
         // Also remove transitions involving this state
         transitions.removeIf(t ->
@@ -149,6 +161,7 @@ public class AnimatorController {
         if (Objects.equals(transition.getFrom(), transition.getTo())) {
             return;
         }
+        invalidateCompiled();
         transitions.add(transition);
     }
 
@@ -157,6 +170,7 @@ public class AnimatorController {
      */
     public void removeTransition(int index) {
         if (index >= 0 && index < transitions.size()) {
+            invalidateCompiled();
             transitions.remove(index);
         }
     }
@@ -216,6 +230,7 @@ public class AnimatorController {
      * Adds a parameter to this controller.
      */
     public void addParameter(AnimatorParameter parameter) {
+        invalidateCompiled();
         parameters.add(parameter);
     }
 
@@ -224,6 +239,7 @@ public class AnimatorController {
      */
     public void removeParameter(int index) {
         if (index >= 0 && index < parameters.size()) {
+            invalidateCompiled();
             parameters.remove(index);
         }
     }
@@ -232,6 +248,7 @@ public class AnimatorController {
      * Removes a parameter by name.
      */
     public void removeParameter(String name) {
+        invalidateCompiled();
         parameters.removeIf(p -> Objects.equals(p.getName(), name));
     }
 
@@ -301,6 +318,7 @@ public class AnimatorController {
      * Used for hot-reload.
      */
     public void copyFrom(AnimatorController other) {
+        invalidateCompiled();
         this.name = other.name;
         this.defaultState = other.defaultState;
 
@@ -320,6 +338,67 @@ public class AnimatorController {
         }
     }
 
+    // ========================================================================
+    // COMPILED FORM
+    // ========================================================================
+
+    /**
+     * Gets the compiled form of this controller, compiling it on first use after a change.
+     * State machines compare the returned instance to notice recompilation.
+     */
+    public CompiledAnimator getCompiled() {
+        CompiledAnimator result = compiled;
+        if (result == null) {
+            attachParts();
+            result = CompiledAnimator.compile(this);
+            compiled = result;
+        }
+        return result;
+    }
+
+    /**
+     * Discards the compiled form so the next {@link #getCompiled()} rebuilds it.
+     */
+    public void invalidateCompiled() {
+        compiled = null;
+    }
+
+    /**
+     * Points every state, transition, condition and parameter at this controller,
+     * so their setters invalidate the compiled form when edited in place.
+     */
+    private void attachParts() {
+        for (AnimatorState state : states) {
+            state.attach(this);
+        }
+        for (AnimatorTransition transition : transitions) {
+            transition.attach(this);
+        }
+        for (AnimatorParameter param : parameters) {
+            param.attach(this);
+        }
+    }
+
+    public void setDefaultState(String defaultState) {
+        invalidateCompiled();
+        this.defaultState = defaultState;
+    }
+
+    public void setStates(List<AnimatorState> states) {
+        invalidateCompiled();
+        this.states = states;
+    }
+
+    public void setTransitions(List<AnimatorTransition> transitions) {
+        invalidateCompiled();
+        this.transitions = transitions;
+    }
+
+    public void setParameters(List<AnimatorParameter> parameters) {
+        invalidateCompiled();
+        this.parameters = parameters;
+    }
+
     // ========================================================================
     // VALIDATION
     // ========================================================================
@@ -1,6 +1,7 @@
 package com.pocket.rpg.animation.animator;
 
 import com.pocket.rpg.collision.Direction;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -18,6 +19,13 @@ public class AnimatorParameter {
     private ParameterType type;
     private Object defaultValue;
 
+    /**
+     * Controller last compiled from this parameter, invalidated by the setters.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient AnimatorController owner;
+
     /**
      * Default constructor for serialization.
      */
@@ -65,6 +73,31 @@ public class AnimatorParameter {
         this.defaultValue = defaultValue;
     }
 
+    public void setName(String name) {
+        this.name = name;
+        changed();
+    }
+
+    public void setType(ParameterType type) {
+        this.type = type;
+        changed();
+    }
+
+    public void setDefaultValue(Object defaultValue) {
+        this.defaultValue = defaultValue;
+        changed();
+    }
+
+    void attach(AnimatorController owner) {
+        this.owner = owner;
+    }
+
+    private void changed() {
+        if (owner != null) {
+            owner.invalidateCompiled();
+        }
+    }
+
     /**
      * Creates a deep copy of this parameter.
      */
@@ -3,6 +3,7 @@ package com.pocket.rpg.animation.animator;
 import com.pocket.rpg.animation.Animation;
 import com.pocket.rpg.collision.Direction;
 import com.pocket.rpg.resources.Assets;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -40,6 +41,14 @@ public class AnimatorState {
      */
     private String directionParameter;
 
+    /**
+     * Controller last compiled from this state. Setters that change the compiled
+     * form invalidate it, so in-place edits are picked up by running state machines.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient AnimatorController owner;
+
     /**
      * Default constructor for serialization.
      */
@@ -68,6 +77,33 @@ public class AnimatorState {
         }
     }
 
+    // ========================================================================
+    // COMPILED FIELDS
+    // ========================================================================
+
+    public void setName(String name) {
+        this.name = name;
+        changed();
+    }
+
+    public void setType(StateType type) {
+        this.type = type;
+        changed();
+    }
+
+    /**
+     * Called while {@code owner} compiles, so later edits can invalidate it.
+     */
+    void attach(AnimatorController owner) {
+        this.owner = owner;
+    }
+
+    private void changed() {
+        if (owner != null) {
+            owner.invalidateCompiled();
+        }
+    }
+
     // ========================================================================
     // DIRECTIONAL ANIMATIONS
     // ========================================================================
@@ -78,6 +114,7 @@ public class AnimatorState {
     public void setDirectionalAnimation(Direction direction, String animationPath) {
         if (type != StateType.DIRECTIONAL) {
             type = StateType.DIRECTIONAL;
+            changed();
         }
         if (directionalAnimations == null) {
             directionalAnimations = new EnumMap<>(Direction.class);
@@ -175,6 +212,7 @@ public class AnimatorState {
      */
     public void setDirectionParameter(String directionParameter) {
         this.directionParameter = directionParameter;
+        changed();
     }
 
     /**
@@ -3,11 +3,7 @@ package com.pocket.rpg.animation.animator;
 import com.pocket.rpg.animation.Animation;
 import com.pocket.rpg.animation.AnimationPlayer;
 import com.pocket.rpg.collision.Direction;
-import lombok.Getter;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -18,22 +14,28 @@ import java.util.Objects;
  * - Parameter values
  * - Pending transitions
  * - Animation playback
+ * <p>
+ * It runs the controller's {@link CompiledAnimator}: states, transitions and parameters
+ * are int slots, so a frame without transitions only compares ints. Name-based
+ * parameter setters resolve the slot through a map; hot paths can resolve it once with
+ * {@link #getParameterIndex(String)} and use the index overloads. Slots stay valid
+ * until the controller is recompiled (see {@link #getCompiled()}).
  */
 public class AnimatorStateMachine {
 
     private final AnimatorController controller;
     private final AnimationPlayer player;
 
-    @Getter
-    private String currentState;
+    private CompiledAnimator compiled;
 
-    @Getter
-    private String previousState;
+    private int currentState = CompiledAnimator.NONE;
+    private int previousState = CompiledAnimator.NONE;
 
-    private final Map<String, Object> parameterValues = new HashMap<>();
+    // Parameter values by slot, encoded as in CompiledAnimator
+    private int[] values;
 
-    // Pending transition (for WAIT_FOR_COMPLETION)
-    private AnimatorTransition pendingTransition;
+    // Pending transition (for WAIT_FOR_COMPLETION), compiled transition index
+    private int pendingTransition = CompiledAnimator.NONE;
 
     // Track if we need to update the animation due to direction change
     private Direction lastAppliedDirection;
@@ -45,15 +47,14 @@ public class AnimatorStateMachine {
     public AnimatorStateMachine(AnimatorController controller, AnimationPlayer player) {
         this.controller = controller;
         this.player = player;
+        this.compiled = controller.getCompiled();
 
         // Initialize parameter values to defaults
-        for (AnimatorParameter param : controller.getParameters()) {
-            parameterValues.put(param.getName(), param.getDefaultValue());
-        }
+        values = compiled.parameterDefaults.clone();
 
         // Enter default state
-        if (controller.getDefaultState() != null) {
-            enterState(controller.getDefaultState());
+        if (compiled.defaultState != CompiledAnimator.NONE) {
+            enterState(compiled.defaultState);
         }
     }
 
@@ -68,33 +69,39 @@ public class AnimatorStateMachine {
      * @return true if the animation frame changed
      */
     public boolean update(float deltaTime) {
-        if (controller == null || currentState == null) {
+        if (controller == null) {
+            return false;
+        }
+        if (compiled != controller.getCompiled()) {
+            rebind(controller.getCompiled());
+        }
+        if (currentState == CompiledAnimator.NONE) {
             return false;
         }
 
         boolean animationChanged = false;
 
         // Check for pending transition completion
-        if (pendingTransition != null) {
+        if (pendingTransition != CompiledAnimator.NONE) {
             if (canCompletePendingTransition()) {
-                String before = currentState;
+                int before = currentState;
                 executeTransition(pendingTransition);
-                pendingTransition = null;
-                animationChanged = !Objects.equals(before, currentState);
+                pendingTransition = CompiledAnimator.NONE;
+                animationChanged = before != currentState;
             }
         } else {
             // Evaluate automatic transitions
-            String before = currentState;
+            int before = currentState;
             evaluateTransitions();
-            animationChanged = !Objects.equals(before, currentState);
+            animationChanged = before != currentState;
         }
 
         // Check for direction change in directional states
-        AnimatorState state = controller.getState(currentState);
-        if (state != null && state.getType() == StateType.DIRECTIONAL) {
-            Direction currentDir = getDirectionForState(state);
+        AnimatorState state = compiled.states[currentState];
+        if (state.getType() == StateType.DIRECTIONAL) {
+            Direction currentDir = getDirectionForState(currentState);
             if (lastAppliedDirection != currentDir) {
-                applyStateAnimation(state);
+                applyStateAnimation(currentState);
                 animationChanged = true;
             }
         }
@@ -107,19 +114,14 @@ public class AnimatorStateMachine {
 
     /**
      * Evaluates all transitions from the current state and fires the first one that matches.
+     * Transitions without conditions or back to the current state are left out at compile time.
      */
     private void evaluateTransitions() {
-        List<AnimatorTransition> transitions = controller.getTransitionsFrom(currentState);
+        int[] transitions = compiled.stateTransitions[currentState];
 
-        for (AnimatorTransition trans : transitions) {
-            // Skip transitions to current state
-            if (Objects.equals(trans.getTo(), currentState)) {
-                continue;
-            }
-
-            // Check if all conditions are met
-            if (checkConditions(trans)) {
-                requestTransition(trans);
+        for (int transition : transitions) {
+            if (checkConditions(transition)) {
+                requestTransition(transition);
                 break; // First matching transition wins
             }
         }
@@ -128,46 +130,23 @@ public class AnimatorStateMachine {
     /**
      * Checks if all conditions for a transition are met.
      */
-    private boolean checkConditions(AnimatorTransition transition) {
-        if (!transition.hasConditions()) {
-            return false; // No conditions = manual trigger only
-        }
+    private boolean checkConditions(int transition) {
+        int[] slots = compiled.conditionSlots[transition];
+        int[] expected = compiled.conditionValues[transition];
 
-        for (TransitionCondition cond : transition.getConditions()) {
-            if (!checkCondition(cond)) {
+        for (int i = 0; i < slots.length; i++) {
+            if (values[slots[i]] != expected[i]) {
                 return false;
             }
         }
         return true;
     }
 
-    /**
-     * Checks if a single condition is met.
-     */
-    private boolean checkCondition(TransitionCondition condition) {
-        Object currentValue = parameterValues.get(condition.getParameter());
-        Object expectedValue = condition.getValue();
-
-        if (currentValue == null) {
-            return expectedValue == null;
-        }
-
-        // Handle Direction comparison (may be stored as String)
-        if (currentValue instanceof Direction && expectedValue instanceof String) {
-            return currentValue.toString().equals(expectedValue);
-        }
-        if (currentValue instanceof String && expectedValue instanceof Direction) {
-            return currentValue.equals(expectedValue.toString());
-        }
-
-        return Objects.equals(currentValue, expectedValue);
-    }
-
     /**
      * Requests a transition to occur.
      */
-    private void requestTransition(AnimatorTransition transition) {
-        switch (transition.getType()) {
+    private void requestTransition(int transition) {
+        switch (compiled.transitionTypes[transition]) {
             case INSTANT -> executeTransition(transition);
             case WAIT_FOR_COMPLETION -> {
                 if (player.isFinished() || !player.hasAnimation()) {
@@ -188,18 +167,20 @@ public class AnimatorStateMachine {
         }
 
         // Consume triggers
-        consumeTriggers(transition);
+        for (int slot : compiled.triggerSlots[transition]) {
+            values[slot] = 0;
+        }
     }
 
     /**
      * Checks if a pending transition can now complete.
      */
     private boolean canCompletePendingTransition() {
-        if (pendingTransition == null) {
+        if (pendingTransition == CompiledAnimator.NONE) {
             return false;
         }
 
-        return switch (pendingTransition.getType()) {
+        return switch (compiled.transitionTypes[pendingTransition]) {
             case INSTANT -> true;
             case WAIT_FOR_COMPLETION -> player.isFinished() || !player.hasAnimation();
             case WAIT_FOR_LOOP -> player.getCurrentFrame() == 0 || player.isFinished();
@@ -209,42 +190,25 @@ public class AnimatorStateMachine {
     /**
      * Executes a transition to a new state.
      */
-    private void executeTransition(AnimatorTransition transition) {
-        String targetState = transition.getTo();
+    private void executeTransition(int transition) {
+        int targetState = compiled.transitionTargets[transition];
 
         // Handle "return to previous" wildcard
-        if (transition.isToPreviousState()) {
-            targetState = previousState != null ? previousState : controller.getDefaultState();
+        if (targetState == CompiledAnimator.PREVIOUS_STATE) {
+            targetState = previousState != CompiledAnimator.NONE ? previousState : compiled.defaultState;
         }
 
-        if (targetState != null && !Objects.equals(targetState, currentState)) {
+        if (targetState != CompiledAnimator.NONE && targetState != currentState) {
             enterState(targetState);
         }
     }
 
-    /**
-     * Consumes any trigger parameters used in a transition's conditions.
-     */
-    private void consumeTriggers(AnimatorTransition transition) {
-        for (TransitionCondition cond : transition.getConditions()) {
-            AnimatorParameter param = controller.getParameter(cond.getParameter());
-            if (param != null && param.getType() == ParameterType.TRIGGER) {
-                parameterValues.put(cond.getParameter(), false);
-            }
-        }
-    }
-
     /**
      * Enters a new state.
      */
-    private void enterState(String stateName) {
-        AnimatorState state = controller.getState(stateName);
-        if (state == null) {
-            return;
-        }
-
+    private void enterState(int state) {
         previousState = currentState;
-        currentState = stateName;
+        currentState = state;
 
         applyStateAnimation(state);
     }
@@ -252,9 +216,9 @@ public class AnimatorStateMachine {
     /**
      * Applies the animation for the current state and direction.
      */
-    private void applyStateAnimation(AnimatorState state) {
+    private void applyStateAnimation(int state) {
         Direction dir = getDirectionForState(state);
-        Animation anim = state.loadAnimation(dir);
+        Animation anim = compiled.states[state].loadAnimation(dir);
         if (anim != null) {
             player.setAnimation(anim);
         }
@@ -262,45 +226,83 @@ public class AnimatorStateMachine {
     }
 
     /**
-     * Resolves the current direction for a given state.
-     * Uses the state's configured direction parameter, falling back to DOWN.
+     * Resolves the current direction for a given state from its direction parameter
+     * (resolved at compile time), falling back to DOWN.
      */
-    private Direction getDirectionForState(AnimatorState state) {
-        if (state == null) return Direction.DOWN;
-
-        // Use the state's explicit direction parameter if set
-        String paramName = state.getDirectionParameter();
-
-        // Fallback: find the first direction parameter in the controller
-        if (paramName == null) {
-            for (AnimatorParameter param : controller.getParameters()) {
-                if (param.getType() == ParameterType.DIRECTION) {
-                    paramName = param.getName();
-                    break;
-                }
+    private Direction getDirectionForState(int state) {
+        int slot = compiled.stateDirectionSlots[state];
+        if (slot != CompiledAnimator.NONE) {
+            Direction direction = CompiledAnimator.direction(values[slot]);
+            if (direction != null) {
+                return direction;
             }
         }
+        return Direction.DOWN;
+    }
 
-        if (paramName != null) {
-            Object value = parameterValues.get(paramName);
-            if (value instanceof Direction d) {
-                return d;
+    /**
+     * Switches to a recompiled controller (hot reload or editing), carrying over the
+     * current and previous state and the parameter values by name.
+     */
+    private void rebind(CompiledAnimator next) {
+        int[] nextValues = next.parameterDefaults.clone();
+        for (int slot = 0; slot < next.parameterNames.length; slot++) {
+            int old = compiled.parameterIndex(next.parameterNames[slot]);
+            if (old != CompiledAnimator.NONE && compiled.parameterTypes[old] == next.parameterTypes[slot]) {
+                nextValues[slot] = values[old];
+            }
+        }
+
+        int nextCurrent = next.stateIndex(compiled.stateName(currentState));
+        int nextPrevious = next.stateIndex(compiled.stateName(previousState));
+
+        compiled = next;
+        values = nextValues;
+        pendingTransition = CompiledAnimator.NONE;
+        previousState = nextPrevious;
+        if (nextCurrent != CompiledAnimator.NONE) {
+            currentState = nextCurrent;
+        } else {
+            currentState = CompiledAnimator.NONE;
+            if (next.defaultState != CompiledAnimator.NONE) {
+                enterState(next.defaultState);
             }
         }
-        return Direction.DOWN;
     }
 
     // ========================================================================
     // PARAMETER API
     // ========================================================================
 
+    /**
+     * Gets the slot of a parameter for the index-based setters, or
+     * {@link CompiledAnimator#NONE} if the controller has no such parameter.
+     * Re-resolve when {@link #getCompiled()} returns a different instance.
+     */
+    public int getParameterIndex(String name) {
+        return compiled.parameterIndex(name);
+    }
+
+    /**
+     * Gets the compiled controller this state machine currently runs.
+     */
+    public CompiledAnimator getCompiled() {
+        return compiled;
+    }
+
     /**
      * Sets a boolean parameter value.
      */
     public void setBool(String name, boolean value) {
-        AnimatorParameter param = controller.getParameter(name);
-        if (param != null && param.getType() == ParameterType.BOOL) {
-            parameterValues.put(name, value);
+        setBool(compiled.parameterIndex(name), value);
+    }
+
+    /**
+     * Sets a boolean parameter value by slot.
+     */
+    public void setBool(int index, boolean value) {
+        if (isParameter(index, ParameterType.BOOL)) {
+            values[index] = value ? 1 : 0;
         }
     }
 
@@ -308,17 +310,24 @@ public class AnimatorStateMachine {
      * Gets a boolean parameter value.
      */
     public boolean getBool(String name) {
-        Object value = parameterValues.get(name);
-        return value instanceof Boolean ? (Boolean) value : false;
+        int index = compiled.parameterIndex(name);
+        return (isParameter(index, ParameterType.BOOL) || isParameter(index, ParameterType.TRIGGER))
+                && values[index] == 1;
     }
 
     /**
      * Sets a direction parameter value by name.
      */
     public void setDirection(String name, Direction direction) {
-        AnimatorParameter param = controller.getParameter(name);
-        if (param != null && param.getType() == ParameterType.DIRECTION) {
-            parameterValues.put(name, direction);
+        setDirection(compiled.parameterIndex(name), direction);
+    }
+
+    /**
+     * Sets a direction parameter value by slot.
+     */
+    public void setDirection(int index, Direction direction) {
+        if (isParameter(index, ParameterType.DIRECTION)) {
+            values[index] = direction != null ? direction.ordinal() : CompiledAnimator.NONE;
         }
     }
 
@@ -327,17 +336,26 @@ public class AnimatorStateMachine {
      * Returns DOWN if the parameter doesn't exist or isn't a direction.
      */
     public Direction getDirection(String name) {
-        Object value = parameterValues.get(name);
-        return value instanceof Direction d ? d : Direction.DOWN;
+        int index = compiled.parameterIndex(name);
+        Direction direction = isParameter(index, ParameterType.DIRECTION)
+                ? CompiledAnimator.direction(values[index])
+                : null;
+        return direction != null ? direction : Direction.DOWN;
     }
 
     /**
      * Fires a trigger parameter.
      */
     public void setTrigger(String name) {
-        AnimatorParameter param = controller.getParameter(name);
-        if (param != null && param.getType() == ParameterType.TRIGGER) {
-            parameterValues.put(name, true);
+        setTrigger(compiled.parameterIndex(name));
+    }
+
+    /**
+     * Fires a trigger parameter by slot.
+     */
+    public void setTrigger(int index) {
+        if (isParameter(index, ParameterType.TRIGGER)) {
+            values[index] = 1;
         }
     }
 
@@ -345,9 +363,9 @@ public class AnimatorStateMachine {
      * Resets a trigger parameter without consuming it.
      */
     public void resetTrigger(String name) {
-        AnimatorParameter param = controller.getParameter(name);
-        if (param != null && param.getType() == ParameterType.TRIGGER) {
-            parameterValues.put(name, false);
+        int index = compiled.parameterIndex(name);
+        if (isParameter(index, ParameterType.TRIGGER)) {
+            values[index] = 0;
         }
     }
 
@@ -355,20 +373,45 @@ public class AnimatorStateMachine {
      * Gets any parameter value.
      */
     public Object getParameterValue(String name) {
-        return parameterValues.get(name);
+        int index = compiled.parameterIndex(name);
+        if (index == CompiledAnimator.NONE || values[index] == CompiledAnimator.NONE) {
+            return null;
+        }
+        return compiled.parameterTypes[index] == ParameterType.DIRECTION
+                ? CompiledAnimator.direction(values[index])
+                : Boolean.valueOf(values[index] == 1);
+    }
+
+    private boolean isParameter(int index, ParameterType type) {
+        return index >= 0 && index < values.length && compiled.parameterTypes[index] == type;
     }
 
     // ========================================================================
     // STATE CONTROL
     // ========================================================================
 
+    /**
+     * Gets the name of the current state, or null if there is none.
+     */
+    public String getCurrentState() {
+        return compiled.stateName(currentState);
+    }
+
+    /**
+     * Gets the name of the previous state, or null if there is none.
+     */
+    public String getPreviousState() {
+        return compiled.stateName(previousState);
+    }
+
     /**
      * Forces a transition to a specific state, ignoring conditions.
      */
     public void forceState(String stateName) {
-        if (controller.hasState(stateName)) {
-            pendingTransition = null;
-            enterState(stateName);
+        int state = compiled.stateIndex(stateName);
+        if (state != CompiledAnimator.NONE) {
+            pendingTransition = CompiledAnimator.NONE;
+            enterState(state);
         }
     }
 
@@ -376,21 +419,21 @@ public class AnimatorStateMachine {
      * Checks if currently in a specific state.
      */
     public boolean isInState(String stateName) {
-        return Objects.equals(currentState, stateName);
+        return Objects.equals(getCurrentState(), stateName);
     }
 
     /**
      * Checks if a transition is pending.
      */
     public boolean hasPendingTransition() {
-        return pendingTransition != null;
+        return pendingTransition != CompiledAnimator.NONE;
     }
 
     /**
      * Cancels any pending transition.
      */
     public void cancelPendingTransition() {
-        pendingTransition = null;
+        pendingTransition = CompiledAnimator.NONE;
     }
 
     /**
@@ -404,18 +447,17 @@ public class AnimatorStateMachine {
      * Resets the state machine to the default state.
      */
     public void reset() {
-        pendingTransition = null;
+        compiled = controller.getCompiled();
+        pendingTransition = CompiledAnimator.NONE;
 
         // Reset parameters to defaults
-        for (AnimatorParameter param : controller.getParameters()) {
-            parameterValues.put(param.getName(), param.getDefaultValue());
-        }
+        values = compiled.parameterDefaults.clone();
 
         // Enter default state without recording previous state
-        if (controller.getDefaultState() != null) {
-            enterState(controller.getDefaultState());
+        if (compiled.defaultState != CompiledAnimator.NONE) {
+            enterState(compiled.defaultState);
         }
         // Clear previous state after entering default (reset means fresh start)
-        previousState = null;
+        previousState = CompiledAnimator.NONE;
     }
 }
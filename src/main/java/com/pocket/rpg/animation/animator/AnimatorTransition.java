@@ -1,5 +1,6 @@
 package com.pocket.rpg.animation.animator;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -40,6 +41,13 @@ public class AnimatorTransition {
      */
     private List<TransitionCondition> conditions = new ArrayList<>();
 
+    /**
+     * Controller last compiled from this transition, invalidated by the setters.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient AnimatorController owner;
+
     /**
      * Default constructor for serialization.
      */
@@ -67,6 +75,45 @@ public class AnimatorTransition {
         this.conditions = conditions != null ? new ArrayList<>(conditions) : new ArrayList<>();
     }
 
+    // ========================================================================
+    // COMPILED FIELDS
+    // ========================================================================
+
+    public void setFrom(String from) {
+        this.from = from;
+        changed();
+    }
+
+    public void setTo(String to) {
+        this.to = to;
+        changed();
+    }
+
+    public void setType(TransitionType type) {
+        this.type = type;
+        changed();
+    }
+
+    public void setConditions(List<TransitionCondition> conditions) {
+        this.conditions = conditions;
+        changed();
+    }
+
+    void attach(AnimatorController owner) {
+        this.owner = owner;
+        if (conditions != null) {
+            for (TransitionCondition condition : conditions) {
+                condition.attach(owner);
+            }
+        }
+    }
+
+    private void changed() {
+        if (owner != null) {
+            owner.invalidateCompiled();
+        }
+    }
+
     // ========================================================================
     // CONDITIONS
     // ========================================================================
@@ -79,6 +126,7 @@ public class AnimatorTransition {
             conditions = new ArrayList<>();
         }
         conditions.add(condition);
+        changed();
     }
 
     /**
@@ -87,6 +135,7 @@ public class AnimatorTransition {
     public void removeCondition(int index) {
         if (conditions != null && index >= 0 && index < conditions.size()) {
             conditions.remove(index);
+            changed();
         }
     }
 
@@ -0,0 +1,275 @@
+package com.pocket.rpg.animation.animator;
+
+import com.pocket.rpg.collision.Direction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Integer-indexed form of an {@link AnimatorController}, built by
+ * {@link AnimatorController#getCompiled()} and shared by every
+ * {@link AnimatorStateMachine} running that controller.
+ * <p>
+ * States and parameters become slots, and parameter values become ints: 0/1 for
+ * BOOL and TRIGGER, the {@link Direction} ordinal for DIRECTION, {@link #NONE} for
+ * null. Each state lists the transitions that can fire automatically from it (its
+ * own and any-state ones, in controller order), and each condition is a parameter
+ * slot plus the expected int. Direction names stored as strings are resolved here,
+ * so evaluation never compares strings or boxes values.
+ */
+public final class CompiledAnimator {
+
+    /** Missing state or parameter slot, and the value of unset parameters. */
+    public static final int NONE = -1;
+
+    /** Transition target meaning "return to the previous state". */
+    static final int PREVIOUS_STATE = -2;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // States
+    final String[] stateNames;
+    final AnimatorState[] states;
+    final int defaultState;
+    final int[] stateDirectionSlots;
+    final int[][] stateTransitions;
+
+    // Transitions (only those that can fire automatically)
+    final TransitionType[] transitionTypes;
+    final int[] transitionTargets;
+    final int[][] conditionSlots;
+    final int[][] conditionValues;
+    final int[][] triggerSlots;
+
+    // Parameters
+    final String[] parameterNames;
+    final ParameterType[] parameterTypes;
+    final int[] parameterDefaults;
+
+    private final Map<String, Integer> stateIds = new HashMap<>();
+    private final Map<String, Integer> parameterSlots = new HashMap<>();
+
+    private CompiledAnimator(AnimatorController controller) {
+        // Parameters: the first parameter with a name wins, as in getParameter(name)
+        List<AnimatorParameter> parameters = controller.getParameters();
+        int parameterCount = parameters.size();
+        parameterNames = new String[parameterCount];
+        parameterTypes = new ParameterType[parameterCount];
+        parameterDefaults = new int[parameterCount];
+        for (int i = 0; i < parameterCount; i++) {
+            AnimatorParameter param = parameters.get(i);
+            parameterNames[i] = param.getName();
+            parameterTypes[i] = param.getType();
+            parameterDefaults[i] = encodeDefault(param.getType(), param.getDefaultValue());
+            parameterSlots.putIfAbsent(param.getName(), i);
+        }
+
+        // States
+        List<AnimatorState> stateList = controller.getStates();
+        int stateCount = stateList.size();
+        stateNames = new String[stateCount];
+        states = stateList.toArray(new AnimatorState[0]);
+        stateDirectionSlots = new int[stateCount];
+        for (int i = 0; i < stateCount; i++) {
+            stateNames[i] = states[i].getName();
+            stateIds.putIfAbsent(stateNames[i], i);
+        }
+        for (int i = 0; i < stateCount; i++) {
+            stateDirectionSlots[i] = directionSlot(states[i]);
+        }
+        defaultState = stateIndex(controller.getDefaultState());
+
+        // Transitions
+        List<AnimatorTransition> candidates = new ArrayList<>();
+        List<int[][]> compiledConditions = new ArrayList<>();
+        for (AnimatorTransition transition : controller.getTransitions()) {
+            int[][] conditions = compileConditions(transition);
+            if (conditions != null) {
+                candidates.add(transition);
+                compiledConditions.add(conditions);
+            }
+        }
+
+        int transitionCount = candidates.size();
+        transitionTypes = new TransitionType[transitionCount];
+        transitionTargets = new int[transitionCount];
+        conditionSlots = new int[transitionCount][];
+        conditionValues = new int[transitionCount][];
+        triggerSlots = new int[transitionCount][];
+        for (int t = 0; t < transitionCount; t++) {
+            AnimatorTransition transition = candidates.get(t);
+            transitionTypes[t] = transition.getType();
+            transitionTargets[t] = transition.isToPreviousState() ? PREVIOUS_STATE : stateIndex(transition.getTo());
+            conditionSlots[t] = compiledConditions.get(t)[0];
+            conditionValues[t] = compiledConditions.get(t)[1];
+            triggerSlots[t] = triggerSlots(transition);
+        }
+
+        stateTransitions = new int[stateCount][];
+        for (int s = 0; s < stateCount; s++) {
+            int[] from = new int[transitionCount];
+            int count = 0;
+            for (int t = 0; t < transitionCount; t++) {
+                AnimatorTransition transition = candidates.get(t);
+                boolean leavesState = transition.isFromAnyState() || Objects.equals(transition.getFrom(), stateNames[s]);
+                if (leavesState && !Objects.equals(transition.getTo(), stateNames[s])) {
+                    from[count++] = t;
+                }
+            }
+            stateTransitions[s] = Arrays.copyOf(from, count);
+        }
+    }
+
+    /**
+     * Compiles a controller as it is now. Prefer {@link AnimatorController#getCompiled()},
+     * which caches the result.
+     */
+    public static CompiledAnimator compile(AnimatorController controller) {
+        return new CompiledAnimator(controller);
+    }
+
+    // ========================================================================
+    // LOOKUP
+    // ========================================================================
+
+    /**
+     * Gets the slot of a state, or {@link #NONE}.
+     */
+    public int stateIndex(String name) {
+        Integer id = name != null ? stateIds.get(name) : null;
+        return id != null ? id : NONE;
+    }
+
+    /**
+     * Gets the slot of a parameter, or {@link #NONE}.
+     */
+    public int parameterIndex(String name) {
+        Integer slot = name != null ? parameterSlots.get(name) : null;
+        return slot != null ? slot : NONE;
+    }
+
+    public String stateName(int state) {
+        return state >= 0 ? stateNames[state] : null;
+    }
+
+    public int getStateCount() {
+        return stateNames.length;
+    }
+
+    public int getParameterCount() {
+        return parameterNames.length;
+    }
+
+    /**
+     * Decodes a direction parameter value, or null for {@link #NONE}.
+     */
+    static Direction direction(int value) {
+        return value >= 0 ? DIRECTIONS[value] : null;
+    }
+
+    // ========================================================================
+    // COMPILATION
+    // ========================================================================
+
+    /**
+     * Returns {slots, values} for a transition's conditions, or null if the transition
+     * can never fire automatically (no conditions, or a condition no value can meet).
+     * Conditions on unknown parameters compare against null, as at runtime.
+     */
+    private int[][] compileConditions(AnimatorTransition transition) {
+        if (!transition.hasConditions()) {
+            return null;
+        }
+
+        List<TransitionCondition> conditions = transition.getConditions();
+        int[] slots = new int[conditions.size()];
+        int[] values = new int[conditions.size()];
+        int count = 0;
+        for (TransitionCondition condition : conditions) {
+            int slot = parameterIndex(condition.getParameter());
+            Object expected = condition.getValue();
+            if (slot == NONE) {
+                if (expected != null) {
+                    return null;
+                }
+                continue;
+            }
+
+            int value = encodeExpected(parameterTypes[slot], expected);
+            if (value == Integer.MIN_VALUE) {
+                return null;
+            }
+            slots[count] = slot;
+            values[count] = value;
+            count++;
+        }
+        return new int[][]{Arrays.copyOf(slots, count), Arrays.copyOf(values, count)};
+    }
+
+    private int[] triggerSlots(AnimatorTransition transition) {
+        int[] slots = new int[transition.getConditions().size()];
+        int count = 0;
+        for (TransitionCondition condition : transition.getConditions()) {
+            int slot = parameterIndex(condition.getParameter());
+            if (slot != NONE && parameterTypes[slot] == ParameterType.TRIGGER) {
+                slots[count++] = slot;
+            }
+        }
+        return Arrays.copyOf(slots, count);
+    }
+
+    /**
+     * Resolves the direction parameter of a state: its own, else the controller's
+     * first DIRECTION parameter. {@link #NONE} if that is missing or not a direction.
+     */
+    private int directionSlot(AnimatorState state) {
+        String name = state.getDirectionParameter();
+        if (name == null) {
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (parameterTypes[i] == ParameterType.DIRECTION) {
+                    name = parameterNames[i];
+                    break;
+                }
+            }
+        }
+
+        int slot = parameterIndex(name);
+        return slot != NONE && parameterTypes[slot] == ParameterType.DIRECTION ? slot : NONE;
+    }
+
+    private static int encodeDefault(ParameterType type, Object value) {
+        int encoded = encodeExpected(type, value);
+        return encoded == Integer.MIN_VALUE ? NONE : encoded;
+    }
+
+    /**
+     * Encodes a value for a parameter type, or Integer.MIN_VALUE if no parameter
+     * value of that type can equal it.
+     */
+    private static int encodeExpected(ParameterType type, Object value) {
+        if (value == null) {
+            return NONE;
+        }
+        if (type == ParameterType.DIRECTION) {
+            if (value instanceof Direction direction) {
+                return direction.ordinal();
+            }
+            if (value instanceof String name) {
+                for (Direction direction : DIRECTIONS) {
+                    if (direction.toString().equals(name)) {
+                        return direction.ordinal();
+                    }
+                }
+            }
+            return Integer.MIN_VALUE;
+        }
+        if (value instanceof Boolean bool) {
+            return bool ? 1 : 0;
+        }
+        return Integer.MIN_VALUE;
+    }
+}
@@ -1,5 +1,6 @@
 package com.pocket.rpg.animation.animator;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -26,6 +27,13 @@ public class TransitionCondition {
      */
     private Object value;
 
+    /**
+     * Controller last compiled from this condition, invalidated by the setters.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient AnimatorController owner;
+
     /**
      * Default constructor for serialization.
      */
@@ -50,6 +58,26 @@ public class TransitionCondition {
         this.value = value;
     }
 
+    public void setParameter(String parameter) {
+        this.parameter = parameter;
+        changed();
+    }
+
+    public void setValue(Object value) {
+        this.value = value;
+        changed();
+    }
+
+    void attach(AnimatorController owner) {
+        this.owner = owner;
+    }
+
+    private void changed() {
+        if (owner != null) {
+            owner.invalidateCompiled();
+        }
+    }
+
     /**
      * Creates a deep copy of this condition.
      */
@@ -0,0 +1,80 @@
+package com.pocket.rpg.animation.tween;
+
+import java.util.ArrayDeque;
+
+/**
+ * Pooled tween over a single float, interpolated without boxing.
+ * <p>
+ * Obtain instances with {@link #obtain}; they register with {@link TweenManager}
+ * immediately and return to the pool once finished or killed.
+ */
+public class FloatTween extends Tween<Float> {
+
+    private static final int MAX_POOLED = 4096;
+    private static final ArrayDeque<FloatTween> POOL = new ArrayDeque<>();
+
+    private float start;
+    private float end;
+    private FloatSetter floatSetter;
+
+    private FloatTween() {
+    }
+
+    /**
+     * Takes a tween from the pool (or creates one) and starts it.
+     *
+     * @param start    Starting value
+     * @param end      Ending value
+     * @param duration Duration in seconds
+     * @param setter   Receives the current value each update
+     */
+    public static FloatTween obtain(float start, float end, float duration, FloatSetter setter) {
+        FloatTween tween = POOL.poll();
+        if (tween == null) {
+            tween = new FloatTween();
+        }
+        tween.reset();
+        tween.start = start;
+        tween.end = end;
+        tween.duration = Math.max(0.001f, duration);
+        tween.floatSetter = setter;
+        TweenManager.add(tween);
+        return tween;
+    }
+
+    @Override
+    protected void apply(float easedT) {
+        float value = start + (end - start) * easedT;
+        floatSetter.set(value);
+
+        if (onUpdate != null) {
+            onUpdate.accept(value);
+        }
+    }
+
+    @Override
+    protected void applyEnd() {
+        floatSetter.set(end);
+    }
+
+    @Override
+    protected void recycle() {
+        reset();
+        floatSetter = null;
+        if (POOL.size() < MAX_POOLED) {
+            POOL.push(this);
+        }
+    }
+
+    static int pooledCount() {
+        return POOL.size();
+    }
+
+    /**
+     * Receives a float without boxing.
+     */
+    @FunctionalInterface
+    public interface FloatSetter {
+        void set(float value);
+    }
+}
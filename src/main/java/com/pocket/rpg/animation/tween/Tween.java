@@ -6,7 +6,11 @@ import java.util.function.Consumer;
  * Represents an animation that interpolates values over time.
  * <p>
  * Use the static factory methods in {@link Tweens} to create tweens for UI components,
- * or create custom tweens by extending this class.
+ * or create custom tweens by extending this class. Float and vector tweens from
+ * {@link Tweens} are {@link FloatTween}/{@link Vector2Tween} instances that interpolate
+ * without boxing and are pooled: once finished they are recycled, so control them
+ * through {@link TweenManager} by target or id rather than keeping a reference
+ * (or call {@link #setRecyclable(boolean) setRecyclable(false)}).
  * <p>
  * Example:
  * <pre>
@@ -23,7 +27,7 @@ public class Tween<T> {
     // Target state
     protected final T startValue;
     protected final T endValue;
-    protected final float duration;
+    protected float duration;
     protected final TweenInterpolator<T> interpolator;
     protected final Consumer<T> setter;
 
@@ -50,6 +54,10 @@ public class Tween<T> {
     protected Object target;
     protected String id;
 
+    // Managed by TweenManager: index in its active array, -1 if not there
+    int slot = -1;
+    boolean recyclable = false;
+
     /**
      * Creates a new tween.
      *
@@ -71,6 +79,17 @@ public class Tween<T> {
         TweenManager.add(this);
     }
 
+    /**
+     * Constructor for pooled subclasses, which keep their values in their own fields
+     * and register with the manager when obtained.
+     */
+    protected Tween() {
+        this.startValue = null;
+        this.endValue = null;
+        this.interpolator = null;
+        this.setter = null;
+    }
+
     // ========================================================================
     // FLUENT CONFIGURATION
     // ========================================================================
@@ -135,6 +154,7 @@ public class Tween<T> {
      * Associates this tween with a target object (for killing by target).
      */
     public Tween<T> setTarget(Object target) {
+        TweenManager.retarget(this, this.target, target);
         this.target = target;
         return this;
     }
@@ -147,6 +167,16 @@ public class Tween<T> {
         return this;
     }
 
+    /**
+     * Sets whether this tween returns to its pool once finished.
+     * Only pooled tweens (see {@link Tweens}) are recyclable by default; pass false
+     * to keep using the instance after it completes, e.g. to poll {@link #isCompleted()}.
+     */
+    public Tween<T> setRecyclable(boolean recyclable) {
+        this.recyclable = recyclable;
+        return this;
+    }
+
     // ========================================================================
     // CONTROL
     // ========================================================================
@@ -173,7 +203,7 @@ public class Tween<T> {
     public void complete() {
         if (completed) return;
 
-        setter.accept(endValue);
+        applyEnd();
         completed = true;
 
         if (onComplete != null) {
@@ -185,7 +215,6 @@ public class Tween<T> {
      * Kills the tween without completing it.
      */
     public void kill() {
-        completed = true;
         TweenManager.remove(this);
     }
 
@@ -226,13 +255,7 @@ public class Tween<T> {
         float easedT = ease.apply(isReversed ? 1 - t : t);
 
         // Interpolate and apply value
-        T currentValue = interpolator.interpolate(startValue, endValue, easedT);
-        setter.accept(currentValue);
-
-        // Fire update callback
-        if (onUpdate != null) {
-            onUpdate.accept(currentValue);
-        }
+        apply(easedT);
 
         // Check completion
         if (t >= 1f) {
@@ -242,6 +265,25 @@ public class Tween<T> {
         return true;
     }
 
+    /**
+     * Applies the value at the eased progress and fires the update callback.
+     */
+    protected void apply(float easedT) {
+        T currentValue = interpolator.interpolate(startValue, endValue, easedT);
+        setter.accept(currentValue);
+
+        if (onUpdate != null) {
+            onUpdate.accept(currentValue);
+        }
+    }
+
+    /**
+     * Applies the end value, used by {@link #complete()}.
+     */
+    protected void applyEnd() {
+        setter.accept(endValue);
+    }
+
     private boolean handleLoopOrComplete() {
         // Check for looping
         if (loopCount == -1 || currentLoop < loopCount) {
@@ -264,6 +306,40 @@ public class Tween<T> {
         return false;
     }
 
+    // ========================================================================
+    // POOLING
+    // ========================================================================
+
+    /**
+     * Called by TweenManager once a {@link #setRecyclable recyclable} tween has left
+     * the active set. Pooled subclasses reset and return themselves to their pool.
+     */
+    protected void recycle() {
+    }
+
+    /**
+     * Restores the default options and clears callbacks, ready for reuse.
+     */
+    protected void reset() {
+        delay = 0f;
+        elapsed = 0f;
+        started = false;
+        completed = false;
+        paused = false;
+        ease = Ease.OUT_QUAD;
+        loopCount = 0;
+        currentLoop = 0;
+        yoyo = false;
+        isReversed = false;
+        onStart = null;
+        onComplete = null;
+        onUpdate = null;
+        target = null;
+        id = null;
+        slot = -1;
+        recyclable = true;
+    }
+
     // ========================================================================
     // GETTERS
     // ========================================================================
@@ -1,8 +1,10 @@
 package com.pocket.rpg.animation.tween;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Manages and updates all active tweens.
@@ -14,11 +16,19 @@ import java.util.List;
  *     // ... rest of game update
  * }
  * </pre>
+ * Active tweens live in a flat array and finished ones are removed by moving the last
+ * tween into their slot, so removal is O(1) but tweens do not update in creation order:
+ * kill a target's tweens before starting a competing one on the same property.
+ * Tweens are also indexed by {@link Tween#setTarget target}, so per-target operations
+ * only visit that target's tweens. Removal requested while updating (e.g. from a
+ * callback) only marks the tween; the update sweep takes it out.
  */
 public class TweenManager {
 
-    private static final List<Tween<?>> activeTweens = new ArrayList<>();
+    private static Tween<?>[] activeTweens = new Tween<?>[64];
+    private static int activeCount = 0;
     private static final List<Tween<?>> tweensToAdd = new ArrayList<>();
+    private static final Map<Object, List<Tween<?>>> byTarget = new IdentityHashMap<>();
     private static boolean isUpdating = false;
 
     private TweenManager() {
@@ -38,18 +48,22 @@ public class TweenManager {
     public static void update(float deltaTime) {
         // Add pending tweens
         if (!tweensToAdd.isEmpty()) {
-            activeTweens.addAll(tweensToAdd);
+            for (Tween<?> tween : tweensToAdd) {
+                append(tween);
+            }
             tweensToAdd.clear();
         }
 
-        // Update tweens
+        // Update tweens; a removed slot receives the last (not yet updated) tween
         isUpdating = true;
-        Iterator<Tween<?>> iterator = activeTweens.iterator();
-        while (iterator.hasNext()) {
-            Tween<?> tween = iterator.next();
-            boolean alive = tween.update(deltaTime);
-            if (!alive) {
-                iterator.remove();
+        int i = 0;
+        while (i < activeCount) {
+            Tween<?> tween = activeTweens[i];
+            if (tween.update(deltaTime)) {
+                i++;
+            } else {
+                removeAt(i);
+                retire(tween);
             }
         }
         isUpdating = false;
@@ -64,19 +78,21 @@ public class TweenManager {
      * Called automatically by Tween constructor.
      */
     public static void add(Tween<?> tween) {
+        if (tween.target != null) {
+            index(tween, tween.target);
+        }
         if (isUpdating) {
             tweensToAdd.add(tween);
         } else {
-            activeTweens.add(tween);
+            append(tween);
         }
     }
 
     /**
-     * Removes a tween from management.
+     * Removes a tween from management without completing it.
      */
     public static void remove(Tween<?> tween) {
-        activeTweens.remove(tween);
-        tweensToAdd.remove(tween);
+        discard(tween);
     }
 
     /**
@@ -86,15 +102,14 @@ public class TweenManager {
      * @param complete If true, tweens jump to end value before killing
      */
     public static void kill(Object target, boolean complete) {
-        Iterator<Tween<?>> iterator = activeTweens.iterator();
-        while (iterator.hasNext()) {
-            Tween<?> tween = iterator.next();
-            if (tween.getTarget() == target) {
-                if (complete) {
-                    tween.complete();
-                }
-                iterator.remove();
+        List<Tween<?>> tweens = byTarget.remove(target);
+        if (tweens == null) return;
+
+        for (Tween<?> tween : tweens) {
+            if (complete) {
+                tween.complete();
             }
+            discard(tween);
         }
     }
 
@@ -107,15 +122,23 @@ public class TweenManager {
     public static void kill(String id, boolean complete) {
         if (id == null) return;
 
-        Iterator<Tween<?>> iterator = activeTweens.iterator();
-        while (iterator.hasNext()) {
-            Tween<?> tween = iterator.next();
+        List<Tween<?>> matches = new ArrayList<>();
+        for (int i = 0; i < activeCount; i++) {
+            if (id.equals(activeTweens[i].getId())) {
+                matches.add(activeTweens[i]);
+            }
+        }
+        for (Tween<?> tween : tweensToAdd) {
             if (id.equals(tween.getId())) {
-                if (complete) {
-                    tween.complete();
-                }
-                iterator.remove();
+                matches.add(tween);
+            }
+        }
+
+        for (Tween<?> tween : matches) {
+            if (complete) {
+                tween.complete();
             }
+            discard(tween);
         }
     }
 
@@ -125,23 +148,27 @@ public class TweenManager {
      * @param complete If true, tweens jump to end value before killing
      */
     public static void killAll(boolean complete) {
-        if (complete) {
-            for (Tween<?> tween : activeTweens) {
+        List<Tween<?>> all = new ArrayList<>(activeCount + tweensToAdd.size());
+        all.addAll(Arrays.asList(activeTweens).subList(0, activeCount));
+        all.addAll(tweensToAdd);
+
+        for (Tween<?> tween : all) {
+            if (complete) {
                 tween.complete();
             }
+            discard(tween);
         }
-        activeTweens.clear();
-        tweensToAdd.clear();
     }
 
     /**
      * Pauses all tweens for a target.
      */
     public static void pause(Object target) {
-        for (Tween<?> tween : activeTweens) {
-            if (tween.getTarget() == target) {
-                tween.pause();
-            }
+        List<Tween<?>> tweens = byTarget.get(target);
+        if (tweens == null) return;
+
+        for (Tween<?> tween : tweens) {
+            tween.pause();
         }
     }
 
@@ -149,10 +176,11 @@ public class TweenManager {
      * Resumes all tweens for a target.
      */
     public static void resume(Object target) {
-        for (Tween<?> tween : activeTweens) {
-            if (tween.getTarget() == target) {
-                tween.resume();
-            }
+        List<Tween<?>> tweens = byTarget.get(target);
+        if (tweens == null) return;
+
+        for (Tween<?> tween : tweens) {
+            tween.resume();
         }
     }
 
@@ -160,7 +188,10 @@ public class TweenManager {
      * Pauses all active tweens.
      */
     public static void pauseAll() {
-        for (Tween<?> tween : activeTweens) {
+        for (int i = 0; i < activeCount; i++) {
+            activeTweens[i].pause();
+        }
+        for (Tween<?> tween : tweensToAdd) {
             tween.pause();
         }
     }
@@ -169,11 +200,28 @@ public class TweenManager {
      * Resumes all active tweens.
      */
     public static void resumeAll() {
-        for (Tween<?> tween : activeTweens) {
+        for (int i = 0; i < activeCount; i++) {
+            activeTweens[i].resume();
+        }
+        for (Tween<?> tween : tweensToAdd) {
             tween.resume();
         }
     }
 
+    /**
+     * Moves a tween between target buckets. Called by {@link Tween#setTarget}.
+     */
+    static void retarget(Tween<?> tween, Object oldTarget, Object newTarget) {
+        if (oldTarget == newTarget || !isManaged(tween)) return;
+
+        if (oldTarget != null) {
+            unindex(tween, oldTarget);
+        }
+        if (newTarget != null) {
+            index(tween, newTarget);
+        }
+    }
+
     // ========================================================================
     // QUERIES
     // ========================================================================
@@ -182,15 +230,18 @@ public class TweenManager {
      * Gets the count of active tweens.
      */
     public static int getActiveCount() {
-        return activeTweens.size();
+        return activeCount;
     }
 
     /**
      * Checks if a target has any active tweens.
      */
     public static boolean hasActiveTweens(Object target) {
-        for (Tween<?> tween : activeTweens) {
-            if (tween.getTarget() == target && !tween.isCompleted()) {
+        List<Tween<?>> tweens = byTarget.get(target);
+        if (tweens == null) return false;
+
+        for (Tween<?> tween : tweens) {
+            if (!tween.isCompleted()) {
                 return true;
             }
         }
@@ -201,6 +252,76 @@ public class TweenManager {
      * Checks if any tweens are active.
      */
     public static boolean hasActiveTweens() {
-        return !activeTweens.isEmpty();
+        return activeCount > 0;
+    }
+
+    // ========================================================================
+    // PRIVATE HELPERS
+    // ========================================================================
+
+    private static void append(Tween<?> tween) {
+        if (activeCount == activeTweens.length) {
+            activeTweens = Arrays.copyOf(activeTweens, activeCount * 2);
+        }
+        tween.slot = activeCount;
+        activeTweens[activeCount++] = tween;
+    }
+
+    private static void removeAt(int slot) {
+        Tween<?> last = activeTweens[--activeCount];
+        activeTweens[activeCount] = null;
+        if (slot < activeCount) {
+            activeTweens[slot] = last;
+            last.slot = slot;
+        }
+    }
+
+    /**
+     * Stops a tween and takes it out of the active set. While updating, the tween is
+     * only marked completed and the update sweep retires it.
+     */
+    private static void discard(Tween<?> tween) {
+        tween.completed = true;
+        if (isUpdating) return;
+
+        if (tween.slot >= 0 && tween.slot < activeCount && activeTweens[tween.slot] == tween) {
+            removeAt(tween.slot);
+            retire(tween);
+        } else if (tweensToAdd.remove(tween)) {
+            retire(tween);
+        }
+    }
+
+    /**
+     * Drops a tween that has left the active set from the target index and, if it
+     * is pooled, hands it back for reuse.
+     */
+    private static void retire(Tween<?> tween) {
+        if (tween.target != null) {
+            unindex(tween, tween.target);
+        }
+        tween.slot = -1;
+        if (tween.recyclable) {
+            tween.recycle();
+        }
+    }
+
+    private static boolean isManaged(Tween<?> tween) {
+        return (tween.slot >= 0 && tween.slot < activeCount && activeTweens[tween.slot] == tween)
+                || tweensToAdd.contains(tween);
+    }
+
+    private static void index(Tween<?> tween, Object target) {
+        byTarget.computeIfAbsent(target, k -> new ArrayList<>(2)).add(tween);
+    }
+
+    private static void unindex(Tween<?> tween, Object target) {
+        List<Tween<?>> tweens = byTarget.get(target);
+        if (tweens == null) return;
+
+        tweens.remove(tween);
+        if (tweens.isEmpty()) {
+            byTarget.remove(target);
+        }
     }
 }
\ No newline at end of file
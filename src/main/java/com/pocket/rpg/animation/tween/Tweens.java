@@ -7,6 +7,10 @@ import org.joml.Vector4f;
 /**
  * Factory methods for creating common tweens, especially for UI.
  * <p>
+ * Float and Vector2f tweens are pooled {@link FloatTween}/{@link Vector2Tween}s:
+ * control them by target or id through {@link TweenManager} instead of keeping
+ * the returned reference past completion.
+ * <p>
  * Example usage:
  * <pre>
  * // Slide panel in from right
@@ -50,13 +54,7 @@ public class Tweens {
      */
     public static Tween<Float> value(float startValue, float endValue, float duration,
                                      java.util.function.Consumer<Float> setter) {
-        return new Tween<>(
-                startValue,
-                endValue,
-                duration,
-                (start, end, t) -> start + (end - start) * t,
-                setter
-        );
+        return FloatTween.obtain(startValue, endValue, duration, setter::accept);
     }
 
     // ========================================================================
@@ -67,14 +65,8 @@ public class Tweens {
      * Tweens UITransform offset (position relative to anchor).
      */
     public static Tween<Vector2f> offset(UITransform transform, Vector2f endValue, float duration) {
-        Vector2f start = new Vector2f(transform.getOffset());
-        return new Tween<>(
-                start,
-                endValue,
-                duration,
-                Tweens::lerpVector2f,
-                transform::setOffset
-        ).setTarget(transform);
+        return Vector2Tween.obtain(transform.getOffset(), endValue, duration, transform::setOffset)
+                .setTarget(transform);
     }
 
     /**
@@ -82,13 +74,8 @@ public class Tweens {
      */
     public static Tween<Float> offsetX(UITransform transform, float endX, float duration) {
         float startX = transform.getOffset().x;
-        return new Tween<>(
-                startX,
-                endX,
-                duration,
-                Tweens::lerpFloat,
-                x -> transform.setOffset(x, transform.getOffset().y)
-        ).setTarget(transform);
+        return FloatTween.obtain(startX, endX, duration, x -> transform.setOffset(x, transform.getOffset().y))
+                .setTarget(transform);
     }
 
     /**
@@ -96,13 +83,8 @@ public class Tweens {
      */
     public static Tween<Float> offsetY(UITransform transform, float endY, float duration) {
         float startY = transform.getOffset().y;
-        return new Tween<>(
-                startY,
-                endY,
-                duration,
-                Tweens::lerpFloat,
-                y -> transform.setOffset(transform.getOffset().x, y)
-        ).setTarget(transform);
+        return FloatTween.obtain(startY, endY, duration, y -> transform.setOffset(transform.getOffset().x, y))
+                .setTarget(transform);
     }
 
     // ========================================================================
@@ -114,42 +96,26 @@ public class Tweens {
      */
     public static Tween<Vector2f> size(UITransform transform, Vector2f endSize, float duration) {
         Vector2f start = new Vector2f(transform.getWidth(), transform.getHeight());
-        return new Tween<>(
-                start,
-                endSize,
-                duration,
-                Tweens::lerpVector2f,
-                size -> {
-                    transform.setWidth(size.x);
-                    transform.setHeight(size.y);
-                }
-        ).setTarget(transform);
+        return Vector2Tween.obtain(start, endSize, duration, (width, height) -> {
+            transform.setWidth(width);
+            transform.setHeight(height);
+        }).setTarget(transform);
     }
 
     /**
      * Tweens UITransform width only.
      */
     public static Tween<Float> width(UITransform transform, float endWidth, float duration) {
-        return new Tween<>(
-                transform.getWidth(),
-                endWidth,
-                duration,
-                Tweens::lerpFloat,
-                transform::setWidth
-        ).setTarget(transform);
+        return FloatTween.obtain(transform.getWidth(), endWidth, duration, transform::setWidth)
+                .setTarget(transform);
     }
 
     /**
      * Tweens UITransform height only.
      */
     public static Tween<Float> height(UITransform transform, float endHeight, float duration) {
-        return new Tween<>(
-                transform.getHeight(),
-                endHeight,
-                duration,
-                Tweens::lerpFloat,
-                transform::setHeight
-        ).setTarget(transform);
+        return FloatTween.obtain(transform.getHeight(), endHeight, duration, transform::setHeight)
+                .setTarget(transform);
     }
 
     /**
@@ -160,16 +126,10 @@ public class Tweens {
         float startHeight = transform.getHeight();
         float startScale = 1f;
 
-        return new Tween<>(
-                startScale,
-                endScale,
-                duration,
-                Tweens::lerpFloat,
-                scale -> {
-                    transform.setWidth(startWidth * scale);
-                    transform.setHeight(startHeight * scale);
-                }
-        ).setTarget(transform);
+        return FloatTween.obtain(startScale, endScale, duration, scale -> {
+            transform.setWidth(startWidth * scale);
+            transform.setHeight(startHeight * scale);
+        }).setTarget(transform);
     }
 
     // ========================================================================
@@ -180,28 +140,16 @@ public class Tweens {
      * Tweens UITransform anchor.
      */
     public static Tween<Vector2f> anchor(UITransform transform, Vector2f endAnchor, float duration) {
-        Vector2f start = new Vector2f(transform.getAnchor());
-        return new Tween<>(
-                start,
-                endAnchor,
-                duration,
-                Tweens::lerpVector2f,
-                transform::setAnchor
-        ).setTarget(transform);
+        return Vector2Tween.obtain(transform.getAnchor(), endAnchor, duration, transform::setAnchor)
+                .setTarget(transform);
     }
 
     /**
      * Tweens UITransform pivot.
      */
     public static Tween<Vector2f> pivot(UITransform transform, Vector2f endPivot, float duration) {
-        Vector2f start = new Vector2f(transform.getPivot());
-        return new Tween<>(
-                start,
-                endPivot,
-                duration,
-                Tweens::lerpVector2f,
-                transform::setPivot
-        ).setTarget(transform);
+        return Vector2Tween.obtain(transform.getPivot(), endPivot, duration, transform::setPivot)
+                .setTarget(transform);
     }
 
     // ========================================================================
@@ -227,14 +175,7 @@ public class Tweens {
      * Tweens alpha (opacity) of a Vector4f color.
      */
     public static Tween<Float> alpha(Vector4f color, float endAlpha, float duration) {
-        float startAlpha = color.w;
-        return new Tween<>(
-                startAlpha,
-                endAlpha,
-                duration,
-                Tweens::lerpFloat,
-                alpha -> color.w = alpha
-        );
+        return FloatTween.obtain(color.w, endAlpha, duration, alpha -> color.w = alpha);
     }
 
     // ========================================================================
@@ -246,11 +187,7 @@ public class Tweens {
      * Useful for sequences.
      */
     public static Tween<Float> delay(float duration, Runnable onComplete) {
-        return new Tween<>(
-                0f, 0f, duration,
-                (s, e, t) -> 0f,
-                v -> {}
-        ).onComplete(onComplete);
+        return FloatTween.obtain(0f, 0f, duration, NO_OP).onComplete(onComplete);
     }
 
     /**
@@ -264,16 +201,7 @@ public class Tweens {
     // INTERPOLATION HELPERS
     // ========================================================================
 
-    private static Float lerpFloat(Float start, Float end, float t) {
-        return start + (end - start) * t;
-    }
-
-    private static Vector2f lerpVector2f(Vector2f start, Vector2f end, float t) {
-        return new Vector2f(
-                start.x + (end.x - start.x) * t,
-                start.y + (end.y - start.y) * t
-        );
-    }
+    private static final FloatTween.FloatSetter NO_OP = value -> {};
 
     private static Vector4f lerpVector4f(Vector4f start, Vector4f end, float t) {
         return new Vector4f(
@@ -303,16 +231,10 @@ public class Tweens {
 
         return scale(transform, 1f + punch, duration / 2)
                 .setEase(Ease.OUT_QUAD)
-                .onComplete(() -> {
-                    new Tween<>(
-                            1f + punch, 1f, duration / 2,
-                            Tweens::lerpFloat,
-                            scale -> {
-                                transform.setWidth(startWidth * scale);
-                                transform.setHeight(startHeight * scale);
-                            }
-                    ).setEase(Ease.IN_QUAD).setTarget(transform);
-                });
+                .onComplete(() -> FloatTween.obtain(1f + punch, 1f, duration / 2, scale -> {
+                    transform.setWidth(startWidth * scale);
+                    transform.setHeight(startHeight * scale);
+                }).setEase(Ease.IN_QUAD).setTarget(transform));
     }
 
     /**
@@ -325,21 +247,15 @@ public class Tweens {
      * @param duration  Duration in seconds over which the shake decays to zero
      */
     public static Tween<Float> shake(UITransform transform, float intensity, float duration) {
-        Vector2f originalOffset = new Vector2f(transform.getOffset());
-
-        return new Tween<>(
-                0f, 1f, duration,
-                Tweens::lerpFloat,
-                t -> {
-                    float decay = 1f - t;
-                    float offsetX = (float) (Math.sin(t * 50) * intensity * decay);
-                    float offsetY = (float) (Math.cos(t * 47) * intensity * decay * 0.5f);
-                    transform.setOffset(new Vector2f(
-                            originalOffset.x + offsetX,
-                            originalOffset.y + offsetY
-                    ));
-                }
-        ).setTarget(transform).setEase(Ease.LINEAR);
+        float originalX = transform.getOffset().x;
+        float originalY = transform.getOffset().y;
+
+        return FloatTween.obtain(0f, 1f, duration, t -> {
+            float decay = 1f - t;
+            float offsetX = (float) (Math.sin(t * 50) * intensity * decay);
+            float offsetY = (float) (Math.cos(t * 47) * intensity * decay * 0.5f);
+            transform.setOffset(originalX + offsetX, originalY + offsetY);
+        }).setTarget(transform).setEase(Ease.LINEAR);
     }
 
     /**
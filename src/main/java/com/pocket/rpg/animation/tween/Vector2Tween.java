@@ -0,0 +1,83 @@
+package com.pocket.rpg.animation.tween;
+
+import org.joml.Vector2f;
+
+import java.util.ArrayDeque;
+
+/**
+ * Pooled tween over two float channels (offsets, sizes, anchors), interpolated
+ * without allocating a vector per update.
+ * <p>
+ * Obtain instances with {@link #obtain}; they register with {@link TweenManager}
+ * immediately and return to the pool once finished or killed.
+ */
+public class Vector2Tween extends Tween<Vector2f> {
+
+    private static final int MAX_POOLED = 4096;
+    private static final ArrayDeque<Vector2Tween> POOL = new ArrayDeque<>();
+
+    private float startX, startY;
+    private float endX, endY;
+    private Vector2Setter vectorSetter;
+
+    private Vector2Tween() {
+    }
+
+    /**
+     * Takes a tween from the pool (or creates one) and starts it.
+     * The start and end vectors are copied.
+     *
+     * @param start    Starting value
+     * @param end      Ending value
+     * @param duration Duration in seconds
+     * @param setter   Receives the current x and y each update
+     */
+    public static Vector2Tween obtain(Vector2f start, Vector2f end, float duration, Vector2Setter setter) {
+        Vector2Tween tween = POOL.poll();
+        if (tween == null) {
+            tween = new Vector2Tween();
+        }
+        tween.reset();
+        tween.startX = start.x;
+        tween.startY = start.y;
+        tween.endX = end.x;
+        tween.endY = end.y;
+        tween.duration = Math.max(0.001f, duration);
+        tween.vectorSetter = setter;
+        TweenManager.add(tween);
+        return tween;
+    }
+
+    @Override
+    protected void apply(float easedT) {
+        float x = startX + (endX - startX) * easedT;
+        float y = startY + (endY - startY) * easedT;
+        vectorSetter.set(x, y);
+
+        if (onUpdate != null) {
+            onUpdate.accept(new Vector2f(x, y));
+        }
+    }
+
+    @Override
+    protected void applyEnd() {
+        vectorSetter.set(endX, endY);
+    }
+
+    @Override
+    protected void recycle() {
+        reset();
+        vectorSetter = null;
+        if (POOL.size() < MAX_POOLED) {
+            POOL.push(this);
+        }
+    }
+
+    /**
+     * Receives both channels without boxing or allocation.
+     */
+    @FunctionalInterface
+    public interface Vector2Setter {
+        void set(float x, float y);
+    }
+}
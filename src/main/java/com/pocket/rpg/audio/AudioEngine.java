@@ -2,10 +2,12 @@ package com.pocket.rpg.audio;
 
 import com.pocket.rpg.audio.backend.AudioBackend;
 import com.pocket.rpg.audio.clips.AudioClip;
+import com.pocket.rpg.audio.clips.StreamingAudioClip;
 import com.pocket.rpg.audio.mixing.AudioChannel;
 import com.pocket.rpg.audio.mixing.AudioMixer;
 import com.pocket.rpg.audio.sources.AudioHandle;
 import com.pocket.rpg.audio.sources.PlaybackSettings;
+import com.pocket.rpg.audio.sources.StreamingAudioHandle;
 import lombok.Getter;
 import org.joml.Vector3f;
 
@@ -66,15 +68,19 @@ public class AudioEngine {
             }
         }
 
-        // Create source
+        // Create source (streaming clips queue their buffers themselves)
         int sourceId = backend.createSource();
-        backend.setSourceBuffer(sourceId, clip.getBufferId());
+        boolean streaming = clip.isStreaming();
+        if (!streaming) {
+            backend.setSourceBuffer(sourceId, clip.getBufferId());
+        }
 
         // Apply settings
         float finalVolume = mixer.calculateFinalVolume(settings.getChannel(), volumeProvider.getVolume());
         backend.setSourceVolume(sourceId, finalVolume);
         backend.setSourcePitch(sourceId, settings.getPitch());
-        backend.setSourceLooping(sourceId, settings.isLoop());
+        // A looping source would replay its buffer queue; streams loop by rewinding the decoder
+        backend.setSourceLooping(sourceId, settings.isLoop() && !streaming);
 
         // 3D positioning
         if (settings.is3D() && clip.supports3D()) {
@@ -86,10 +92,18 @@ public class AudioEngine {
         }
 
         // Play
-        backend.playSource(sourceId);
+        AudioHandle handle;
+        if (streaming) {
+            handle = startStream(sourceId, (StreamingAudioClip) clip, settings.isLoop());
+            if (handle == null) {
+                return null;
+            }
+        } else {
+            backend.playSource(sourceId);
+            handle = new AudioHandle(backend, sourceId, clip);
+        }
 
-        // Create handle and track
-        AudioHandle handle = new AudioHandle(backend, sourceId, clip);
+        // Track
         activeSources.add(new ActiveSource(handle, settings, volumeProvider));
 
         return handle;
@@ -138,6 +152,11 @@ public class AudioEngine {
      * Update engine state.
      */
     public void update(float deltaTime) {
+        // Refill stream buffers before checking which sources have finished
+        for (ActiveSource source : activeSources) {
+            StreamingAudioHandle.pump(source.handle);
+        }
+
         cleanupFinishedSources();
 
         // Update volumes for active sources (in case mixer volumes changed)
@@ -197,17 +216,25 @@ public class AudioEngine {
         }
     }
 
+    private StreamingAudioHandle startStream(int sourceId, StreamingAudioClip clip, boolean loop) {
+        StreamingAudioHandle handle = StreamingAudioHandle.start(backend, sourceId, clip, loop);
+        if (handle == null) {
+            backend.deleteSource(sourceId);
+        }
+        return handle;
+    }
+
     private void cleanupFinishedSources() {
         Iterator<ActiveSource> it = activeSources.iterator();
         while (it.hasNext()) {
             ActiveSource source = it.next();
             if (!source.handle.isValid()) {
-                backend.deleteSource(source.handle.getSourceId());
                 source.handle.invalidate();
+                backend.deleteSource(source.handle.getSourceId());
                 it.remove();
             } else if (!source.handle.isPlaying() && !backend.isSourcePaused(source.handle.getSourceId())) {
-                backend.deleteSource(source.handle.getSourceId());
                 source.handle.invalidate();
+                backend.deleteSource(source.handle.getSourceId());
                 it.remove();
             }
         }
@@ -227,6 +254,7 @@ public class AudioEngine {
         if (lowestPriority != null && lowestPriority.settings.getPriority() > newPriority) {
             // Steal this source
             lowestPriority.handle.stop();
+            lowestPriority.handle.invalidate();
             backend.deleteSource(lowestPriority.handle.getSourceId());
             activeSources.remove(lowestPriority);
             return true;
@@ -36,6 +36,53 @@ public interface AudioBackend {
      */
     void deleteBuffer(int bufferId);
 
+    // ========================================================================
+    // STREAMING
+    // ========================================================================
+
+    /**
+     * Create an empty buffer to be filled with {@link #fillBuffer} for streaming.
+     *
+     * @return Buffer ID
+     */
+    int createStreamBuffer();
+
+    /**
+     * Replace the contents of a buffer. The buffer must not be queued on a source.
+     *
+     * @param bufferId   Buffer ID
+     * @param data       Interleaved 16-bit PCM samples
+     * @param length     Number of samples of {@code data} to use
+     * @param format     Audio format
+     * @param sampleRate Sample rate in Hz
+     */
+    void fillBuffer(int bufferId, short[] data, int length, int format, int sampleRate);
+
+    /**
+     * Append a buffer to a source's playback queue.
+     *
+     * @param sourceId Source ID
+     * @param bufferId Buffer ID
+     */
+    void queueBuffer(int sourceId, int bufferId);
+
+    /**
+     * Get how many queued buffers the source has finished playing.
+     *
+     * @param sourceId Source ID
+     * @return Number of processed buffers ready to be unqueued
+     */
+    int getProcessedBufferCount(int sourceId);
+
+    /**
+     * Remove the oldest buffer from a source's queue. Call only for processed
+     * buffers, or for any buffer once the source is stopped.
+     *
+     * @param sourceId Source ID
+     * @return The unqueued buffer ID
+     */
+    int unqueueBuffer(int sourceId);
+
     /**
      * Create a new audio source.
      *
@@ -2,14 +2,25 @@ package com.pocket.rpg.audio.backend;
 
 import org.joml.Vector3f;
 
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Silent/no-op audio backend for testing or headless environments.
+ * <p>
+ * Buffer queues are tracked so streaming playback runs its full decode path:
+ * every queued buffer counts as processed immediately, so each pump refills
+ * the whole queue.
  */
 public class NullAudioBackend implements AudioBackend {
 
     private int nextBufferId = 1;
     private int nextSourceId = 1;
 
+    private final Map<Integer, ArrayDeque<Integer>> sourceQueues = new HashMap<>();
+    private long streamedSamples;
+
     @Override
     public void initialize() {
         System.out.println("NullAudioBackend initialized (silent mode)");
@@ -30,6 +41,51 @@ public class NullAudioBackend implements AudioBackend {
         // No-op
     }
 
+    @Override
+    public int createStreamBuffer() {
+        return nextBufferId++;
+    }
+
+    @Override
+    public void fillBuffer(int bufferId, short[] data, int length, int format, int sampleRate) {
+        streamedSamples += length;
+    }
+
+    @Override
+    public void queueBuffer(int sourceId, int bufferId) {
+        sourceQueues.computeIfAbsent(sourceId, k -> new ArrayDeque<>()).addLast(bufferId);
+    }
+
+    @Override
+    public int getProcessedBufferCount(int sourceId) {
+        ArrayDeque<Integer> queue = sourceQueues.get(sourceId);
+        if (queue == null) return 0;
+        // Stopped sources have processed everything; playing ones consume instantly
+        return queue.size();
+    }
+
+    @Override
+    public int unqueueBuffer(int sourceId) {
+        ArrayDeque<Integer> queue = sourceQueues.get(sourceId);
+        Integer bufferId = queue != null ? queue.pollFirst() : null;
+        return bufferId != null ? bufferId : 0;
+    }
+
+    /**
+     * Total samples uploaded through {@link #fillBuffer}, for tests.
+     */
+    public long getStreamedSamples() {
+        return streamedSamples;
+    }
+
+    /**
+     * Number of buffers currently queued on a source, for tests.
+     */
+    public int getQueuedBufferCount(int sourceId) {
+        ArrayDeque<Integer> queue = sourceQueues.get(sourceId);
+        return queue != null ? queue.size() : 0;
+    }
+
     @Override
     public int createSource() {
         return nextSourceId++;
@@ -37,7 +93,7 @@ public class NullAudioBackend implements AudioBackend {
 
     @Override
     public void deleteSource(int sourceId) {
-        // No-op
+        sourceQueues.remove(sourceId);
     }
 
     @Override
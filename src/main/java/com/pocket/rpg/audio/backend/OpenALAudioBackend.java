@@ -5,6 +5,7 @@ import org.lwjgl.openal.*;
 
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
 
 import static org.lwjgl.openal.AL10.*;
 import static org.lwjgl.openal.AL11.*;
@@ -21,6 +22,9 @@ public class OpenALAudioBackend implements AudioBackend {
     private long context;
     private boolean initialized = false;
 
+    // Upload scratch reused by fillBuffer (streams are pumped from the main thread)
+    private ShortBuffer streamScratch;
+
     @Override
     public void initialize() {
         if (initialized) {
@@ -103,6 +107,38 @@ public class OpenALAudioBackend implements AudioBackend {
         alDeleteBuffers(bufferId);
     }
 
+    @Override
+    public int createStreamBuffer() {
+        return alGenBuffers();
+    }
+
+    @Override
+    public void fillBuffer(int bufferId, short[] data, int length, int format, int sampleRate) {
+        ShortBuffer buffer = streamScratch;
+        if (buffer == null || buffer.capacity() < length) {
+            buffer = org.lwjgl.BufferUtils.createShortBuffer(length);
+            streamScratch = buffer;
+        }
+        buffer.clear();
+        buffer.put(data, 0, length).flip();
+        alBufferData(bufferId, format, buffer, sampleRate);
+    }
+
+    @Override
+    public void queueBuffer(int sourceId, int bufferId) {
+        alSourceQueueBuffers(sourceId, bufferId);
+    }
+
+    @Override
+    public int getProcessedBufferCount(int sourceId) {
+        return alGetSourcei(sourceId, AL_BUFFERS_PROCESSED);
+    }
+
+    @Override
+    public int unqueueBuffer(int sourceId) {
+        return alSourceUnqueueBuffers(sourceId);
+    }
+
     @Override
     public int createSource() {
         int sourceId = alGenSources();
@@ -46,6 +46,15 @@ public class AudioClip {
         return channels == 2;
     }
 
+    /**
+     * Streaming clips decode while playing and have no buffer.
+     *
+     * @return true if this clip is a {@link StreamingAudioClip}
+     */
+    public boolean isStreaming() {
+        return false;
+    }
+
     /**
      * 3D audio requires mono clips for proper spatialization.
      *
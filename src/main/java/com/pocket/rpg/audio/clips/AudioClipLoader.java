@@ -26,13 +26,23 @@ import java.nio.file.Path;
 /**
  * Asset loader for audio clips.
  * Supports WAV, OGG Vorbis, and MP3 formats.
+ * <p>
+ * Files larger than {@link #STREAMING_THRESHOLD_BYTES} (typically music) load as
+ * {@link StreamingAudioClip}s, which decode while playing instead of up front.
  */
 public class AudioClipLoader implements AssetLoader<AudioClip> {
 
+    /** Files at least this large are streamed rather than fully decoded. */
+    public static final long STREAMING_THRESHOLD_BYTES = 1024 * 1024;
+
     @Override
     public AudioClip load(String path) throws IOException {
         String lowerPath = path.toLowerCase();
 
+        if (Files.size(Path.of(path)) >= STREAMING_THRESHOLD_BYTES) {
+            return loadStreaming(path);
+        }
+
         if (lowerPath.endsWith(".ogg")) {
             return loadOgg(path);
         } else if (lowerPath.endsWith(".wav") || lowerPath.endsWith(".mp3")) {
@@ -94,6 +104,35 @@ public class AudioClipLoader implements AssetLoader<AudioClip> {
         return entity;
     }
 
+    // ========================================================================
+    // STREAMING
+    // ========================================================================
+
+    /**
+     * Creates a streaming clip. Only the file header is read here; audio is decoded
+     * by each playback as it goes.
+     *
+     * @param path Path to a WAV, OGG or MP3 file
+     * @return Streaming clip
+     */
+    public static StreamingAudioClip loadStreaming(String path) throws IOException {
+        String lowerPath = path.toLowerCase();
+        String name = extractName(path);
+
+        if (lowerPath.endsWith(".ogg")) {
+            try (OggStreamDecoder probe = new OggStreamDecoder(path)) {
+                return new StreamingAudioClip(name, probe.getDuration(), probe.getSampleRate(),
+                        probe.getChannels(), () -> new OggStreamDecoder(path));
+            }
+        } else if (lowerPath.endsWith(".wav") || lowerPath.endsWith(".mp3")) {
+            try (PcmStreamDecoder probe = new PcmStreamDecoder(path)) {
+                return new StreamingAudioClip(name, probe.getDuration(), probe.getSampleRate(),
+                        probe.getChannels(), () -> new PcmStreamDecoder(path));
+            }
+        }
+        throw new IOException("Unsupported audio format: " + path);
+    }
+
     // ========================================================================
     // WAV/MP3 LOADING (via Java AudioSystem)
     // ========================================================================
@@ -223,7 +262,7 @@ public class AudioClipLoader implements AssetLoader<AudioClip> {
         return null;
     }
 
-    private String extractName(String path) {
+    private static String extractName(String path) {
         int lastSlash = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
         String filename = lastSlash >= 0 ? path.substring(lastSlash + 1) : path;
         int lastDot = filename.lastIndexOf('.');
@@ -0,0 +1,50 @@
+package com.pocket.rpg.audio.clips;
+
+import java.io.IOException;
+
+/**
+ * Incremental decoder producing interleaved 16-bit PCM.
+ * Used by streaming clips, which decode a few milliseconds of audio at a time
+ * instead of the whole file.
+ * <p>
+ * A decoder is used by one thread at a time but may be handed between threads.
+ */
+public interface AudioDecoder extends AutoCloseable {
+
+    /**
+     * Opens a fresh decoder positioned at the start of the audio.
+     */
+    @FunctionalInterface
+    interface Opener {
+        AudioDecoder open() throws IOException;
+    }
+
+    /**
+     * @return Number of interleaved channels (1 = mono, 2 = stereo)
+     */
+    int getChannels();
+
+    /**
+     * @return Sample rate in Hz
+     */
+    int getSampleRate();
+
+    /**
+     * Decodes up to {@code length} interleaved samples into {@code out}.
+     * Only whole frames are written.
+     *
+     * @return Number of samples written, 0 at the end of the stream
+     */
+    int read(short[] out, int offset, int length) throws IOException;
+
+    /**
+     * Moves the read position to the given frame (sample index per channel).
+     */
+    void seekToFrame(long frame) throws IOException;
+
+    /**
+     * Releases decoder resources. Safe to call more than once.
+     */
+    @Override
+    void close();
+}
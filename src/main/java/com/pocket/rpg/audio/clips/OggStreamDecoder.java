@@ -0,0 +1,96 @@
+package com.pocket.rpg.audio.clips;
+
+import org.lwjgl.stb.STBVorbis;
+import org.lwjgl.stb.STBVorbisInfo;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * Streaming OGG Vorbis decoder backed by stb_vorbis' pull API.
+ * Reads the file incrementally, so memory stays constant regardless of track length.
+ */
+class OggStreamDecoder implements AudioDecoder {
+
+    private static final int SCRATCH_FRAMES = 4096;
+
+    private final String path;
+    private long handle;
+    private final int channels;
+    private final int sampleRate;
+    private final long lengthInFrames;
+    private ShortBuffer scratch;
+
+    OggStreamDecoder(String path) throws IOException {
+        this.path = path;
+        try (MemoryStack stack = MemoryStack.stackPush()) {
+            IntBuffer error = stack.mallocInt(1);
+            handle = STBVorbis.stb_vorbis_open_filename(path, error, null);
+            if (handle == MemoryUtil.NULL) {
+                throw new IOException("Failed to open OGG file: " + path + " (error " + error.get(0) + ")");
+            }
+
+            STBVorbisInfo info = STBVorbisInfo.malloc(stack);
+            STBVorbis.stb_vorbis_get_info(handle, info);
+            channels = info.channels();
+            sampleRate = info.sample_rate();
+        }
+        lengthInFrames = STBVorbis.stb_vorbis_stream_length_in_samples(handle);
+        scratch = MemoryUtil.memAllocShort(SCRATCH_FRAMES * channels);
+    }
+
+    float getDuration() {
+        return sampleRate > 0 ? (float) lengthInFrames / sampleRate : 0f;
+    }
+
+    @Override
+    public int getChannels() {
+        return channels;
+    }
+
+    @Override
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public int read(short[] out, int offset, int length) throws IOException {
+        if (handle == MemoryUtil.NULL) {
+            throw new IOException("Decoder closed: " + path);
+        }
+        int written = 0;
+        while (written + channels <= length) {
+            int frames = Math.min(SCRATCH_FRAMES, (length - written) / channels);
+            scratch.clear().limit(frames * channels);
+            int decoded = STBVorbis.stb_vorbis_get_samples_short_interleaved(handle, channels, scratch);
+            if (decoded <= 0) {
+                break;
+            }
+            scratch.get(0, out, offset + written, decoded * channels);
+            written += decoded * channels;
+        }
+        return written;
+    }
+
+    @Override
+    public void seekToFrame(long frame) throws IOException {
+        if (!STBVorbis.stb_vorbis_seek(handle, (int) frame)) {
+            throw new IOException("Failed to seek OGG file: " + path);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (handle != MemoryUtil.NULL) {
+            STBVorbis.stb_vorbis_close(handle);
+            handle = MemoryUtil.NULL;
+        }
+        if (scratch != null) {
+            MemoryUtil.memFree(scratch);
+            scratch = null;
+        }
+    }
+}
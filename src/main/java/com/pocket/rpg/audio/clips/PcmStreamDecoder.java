@@ -0,0 +1,110 @@
+package com.pocket.rpg.audio.clips;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Streaming WAV/MP3 decoder using Java's AudioSystem, converted to 16-bit little-endian PCM.
+ * Seeking reopens the file and skips forward, since AudioInputStream cannot rewind.
+ */
+class PcmStreamDecoder implements AudioDecoder {
+
+    private final String path;
+    private AudioInputStream pcmStream;
+    private AudioFormat format;
+    private long lengthInFrames;
+    private byte[] scratch = new byte[0];
+
+    PcmStreamDecoder(String path) throws IOException {
+        this.path = path;
+        open();
+    }
+
+    private void open() throws IOException {
+        try {
+            AudioInputStream source = AudioSystem.getAudioInputStream(
+                    new BufferedInputStream(new FileInputStream(path)));
+            AudioFormat sourceFormat = source.getFormat();
+
+            format = new AudioFormat(
+                    AudioFormat.Encoding.PCM_SIGNED,
+                    sourceFormat.getSampleRate(),
+                    16,
+                    sourceFormat.getChannels(),
+                    sourceFormat.getChannels() * 2,
+                    sourceFormat.getSampleRate(),
+                    false
+            );
+            lengthInFrames = source.getFrameLength();
+            pcmStream = AudioSystem.getAudioInputStream(format, source);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Failed to open audio file: " + path, e);
+        }
+    }
+
+    float getDuration() {
+        return lengthInFrames > 0 ? lengthInFrames / format.getSampleRate() : 0f;
+    }
+
+    @Override
+    public int getChannels() {
+        return format.getChannels();
+    }
+
+    @Override
+    public int getSampleRate() {
+        return (int) format.getSampleRate();
+    }
+
+    @Override
+    public int read(short[] out, int offset, int length) throws IOException {
+        int frameBytes = format.getFrameSize();
+        int bytesWanted = (length / format.getChannels()) * frameBytes;
+        if (scratch.length < bytesWanted) {
+            scratch = new byte[bytesWanted];
+        }
+
+        int bytesRead = 0;
+        while (bytesRead < bytesWanted) {
+            int n = pcmStream.read(scratch, bytesRead, bytesWanted - bytesRead);
+            if (n < 0) break;
+            bytesRead += n;
+        }
+        bytesRead -= bytesRead % frameBytes;
+
+        int samples = bytesRead / 2;
+        for (int i = 0; i < samples; i++) {
+            out[offset + i] = (short) ((scratch[i * 2] & 0xFF) | (scratch[i * 2 + 1] << 8));
+        }
+        return samples;
+    }
+
+    @Override
+    public void seekToFrame(long frame) throws IOException {
+        close();
+        open();
+        long toSkip = frame * format.getFrameSize();
+        while (toSkip > 0) {
+            long skipped = pcmStream.skip(toSkip);
+            if (skipped <= 0) break;
+            toSkip -= skipped;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (pcmStream != null) {
+            try {
+                pcmStream.close();
+            } catch (IOException ignored) {
+            }
+            pcmStream = null;
+        }
+    }
+}
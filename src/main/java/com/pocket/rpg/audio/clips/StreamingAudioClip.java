@@ -0,0 +1,48 @@
+package com.pocket.rpg.audio.clips;
+
+import java.io.IOException;
+
+/**
+ * Audio clip decoded on the fly while it plays, instead of being held in one buffer.
+ * <p>
+ * Used for long tracks (music, ambience) where decoding the whole file would cost
+ * tens of megabytes and a long stall. Each playback opens its own decoder, so the
+ * same clip can play more than once at a time. Has no buffer ID.
+ *
+ * @see com.pocket.rpg.audio.sources.AudioStream
+ */
+public class StreamingAudioClip extends AudioClip {
+
+    private final AudioDecoder.Opener opener;
+
+    /**
+     * @param name       Display name
+     * @param duration   Duration in seconds, 0 if unknown
+     * @param sampleRate Sample rate in Hz
+     * @param channels   Number of channels
+     * @param opener     Opens a new decoder positioned at the start
+     */
+    public StreamingAudioClip(String name, float duration, int sampleRate, int channels,
+                              AudioDecoder.Opener opener) {
+        super(name, 0, duration, sampleRate, channels);
+        this.opener = opener;
+    }
+
+    /**
+     * Opens a new decoder for one playback.
+     */
+    public AudioDecoder openDecoder() throws IOException {
+        return opener.open();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StreamingAudioClip[%s, %.2fs, %s, %dHz]",
+                getName(), getDuration(), isMono() ? "mono" : "stereo", getSampleRate());
+    }
+}
@@ -2,8 +2,10 @@ package com.pocket.rpg.audio.editor;
 
 import com.pocket.rpg.audio.backend.AudioBackend;
 import com.pocket.rpg.audio.clips.AudioClip;
+import com.pocket.rpg.audio.clips.StreamingAudioClip;
 import com.pocket.rpg.components.audio.AudioSource;
 import com.pocket.rpg.audio.sources.AudioHandle;
+import com.pocket.rpg.audio.sources.StreamingAudioHandle;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -13,6 +15,7 @@ import java.util.Map;
 
 /**
  * Editor-specific audio context for preview functionality.
+ * Streaming clips (music, long clips) play through an AudioStream pumped by {@link #update(float)}.
  */
 public class EditorAudioContext {
 
@@ -46,12 +49,11 @@ public class EditorAudioContext {
 
         // Create source and play
         int sourceId = backend.createSource();
-        backend.setSourceBuffer(sourceId, clip.getBufferId());
         backend.setSourceVolume(sourceId, volume * previewVolume);
-        backend.setSourceLooping(sourceId, false);
-        backend.playSource(sourceId);
-
-        AudioHandle handle = new AudioHandle(backend, sourceId, clip);
+        AudioHandle handle = play(sourceId, clip, false);
+        if (handle == null) {
+            return null;
+        }
         clipPreviews.put(clip, handle);
 
         return handle;
@@ -62,9 +64,8 @@ public class EditorAudioContext {
      */
     public void stopPreview(AudioClip clip) {
         AudioHandle handle = clipPreviews.remove(clip);
-        if (handle != null && handle.isPlaying()) {
-            handle.stop();
-            backend.deleteSource(handle.getSourceId());
+        if (handle != null) {
+            release(handle);
         }
     }
 
@@ -99,14 +100,12 @@ public class EditorAudioContext {
         }
 
         int sourceId = backend.createSource();
-        backend.setSourceBuffer(sourceId, clip.getBufferId());
         backend.setSourceVolume(sourceId, source.getVolume() * previewVolume);
         backend.setSourcePitch(sourceId, source.getPitch());
-        backend.setSourceLooping(sourceId, source.isLoop());
-        backend.playSource(sourceId);
-
-        AudioHandle handle = new AudioHandle(backend, sourceId, clip);
-        sourcePreviews.put(source, handle);
+        AudioHandle handle = play(sourceId, clip, source.isLoop());
+        if (handle != null) {
+            sourcePreviews.put(source, handle);
+        }
     }
 
     /**
@@ -114,9 +113,8 @@ public class EditorAudioContext {
      */
     public void stopSourcePreview(AudioSource source) {
         AudioHandle handle = sourcePreviews.remove(source);
-        if (handle != null && handle.isPlaying()) {
-            handle.stop();
-            backend.deleteSource(handle.getSourceId());
+        if (handle != null) {
+            release(handle);
         }
     }
 
@@ -145,18 +143,12 @@ public class EditorAudioContext {
      */
     public void stopAllPreviews() {
         for (AudioHandle handle : clipPreviews.values()) {
-            if (handle.isPlaying()) {
-                handle.stop();
-                backend.deleteSource(handle.getSourceId());
-            }
+            release(handle);
         }
         clipPreviews.clear();
 
         for (AudioHandle handle : sourcePreviews.values()) {
-            if (handle.isPlaying()) {
-                handle.stop();
-                backend.deleteSource(handle.getSourceId());
-            }
+            release(handle);
         }
         sourcePreviews.clear();
     }
@@ -165,11 +157,15 @@ public class EditorAudioContext {
      * Update (cleanup finished previews).
      */
     public void update(float deltaTime) {
+        // Refill stream buffers before checking which previews have finished
+        clipPreviews.values().forEach(StreamingAudioHandle::pump);
+        sourcePreviews.values().forEach(StreamingAudioHandle::pump);
+
         // Cleanup finished clip previews
         clipPreviews.entrySet().removeIf(e -> {
             AudioHandle handle = e.getValue();
             if (!handle.isValid() || !handle.isPlaying()) {
-                backend.deleteSource(handle.getSourceId());
+                release(handle);
                 return true;
             }
             return false;
@@ -179,13 +175,44 @@ public class EditorAudioContext {
         sourcePreviews.entrySet().removeIf(e -> {
             AudioHandle handle = e.getValue();
             if (!handle.isValid() || !handle.isPlaying()) {
-                backend.deleteSource(handle.getSourceId());
+                release(handle);
                 return true;
             }
             return false;
         });
     }
 
+    /**
+     * Starts a clip on a fresh source. Streaming clips get an AudioStream instead of a buffer.
+     *
+     * @return The handle, or null if the clip could not be played (the source is deleted)
+     */
+    private AudioHandle play(int sourceId, AudioClip clip, boolean loop) {
+        if (clip instanceof StreamingAudioClip streamingClip) {
+            // Streams loop by rewinding the decoder, not by replaying the buffer queue
+            backend.setSourceLooping(sourceId, false);
+            AudioHandle handle = StreamingAudioHandle.start(backend, sourceId, streamingClip, loop);
+            if (handle == null) {
+                backend.deleteSource(sourceId);
+            }
+            return handle;
+        }
+
+        backend.setSourceBuffer(sourceId, clip.getBufferId());
+        backend.setSourceLooping(sourceId, loop);
+        backend.playSource(sourceId);
+        return new AudioHandle(backend, sourceId, clip);
+    }
+
+    /**
+     * Stops a preview and frees its source (and stream buffers).
+     */
+    private void release(AudioHandle handle) {
+        handle.stop();
+        handle.invalidate();
+        backend.deleteSource(handle.getSourceId());
+    }
+
     /**
      * Destroy and release resources.
      */
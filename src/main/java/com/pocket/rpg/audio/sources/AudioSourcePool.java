@@ -2,6 +2,7 @@ package com.pocket.rpg.audio.sources;
 
 import com.pocket.rpg.audio.backend.AudioBackend;
 import com.pocket.rpg.audio.clips.AudioClip;
+import com.pocket.rpg.audio.clips.StreamingAudioClip;
 import lombok.Getter;
 
 import java.util.ArrayList;
@@ -11,6 +12,9 @@ import java.util.List;
 /**
  * Pool of pre-allocated audio sources for efficient playback.
  * Manages voice stealing when pool is exhausted.
+ * <p>
+ * Streaming clips have no buffer to bind: acquiring one starts its {@link AudioStream}
+ * right away, and {@link #update()} keeps the stream's buffer queue filled.
  */
 public class AudioSourcePool {
 
@@ -32,7 +36,7 @@ public class AudioSourcePool {
      *
      * @param clip     Clip to play
      * @param priority Priority (0 = highest, 255 = lowest)
-     * @return AudioHandle, or null if no source available
+     * @return AudioHandle, or null if no source available (or a streaming clip failed to open)
      */
     public AudioHandle acquire(AudioClip clip, int priority) {
         // First, try to find a free source
@@ -74,6 +78,10 @@ public class AudioSourcePool {
     public void release(AudioHandle handle) {
         for (PooledSource source : sources) {
             if (source.handle == handle) {
+                // A stream would keep queueing buffers on the recycled source
+                if (handle instanceof StreamingAudioHandle) {
+                    handle.invalidate();
+                }
                 source.inUse = false;
                 source.handle = null;
                 activeCount--;
@@ -86,6 +94,13 @@ public class AudioSourcePool {
      * Clean up finished sources.
      */
     public void update() {
+        // Refill stream buffers before checking which sources have finished
+        for (PooledSource source : sources) {
+            if (source.inUse) {
+                StreamingAudioHandle.pump(source.handle);
+            }
+        }
+
         for (PooledSource source : sources) {
             if (source.inUse && source.handle != null && !source.handle.isPlaying()) {
                 source.inUse = false;
@@ -129,9 +144,24 @@ public class AudioSourcePool {
         source.priority = priority;
         source.isLooping = false;
 
-        backend.setSourceBuffer(source.sourceId, clip.getBufferId());
+        // A source must be stopped before its buffer binding can change
+        backend.stopSource(source.sourceId);
+
+        AudioHandle handle;
+        if (clip instanceof StreamingAudioClip streamingClip) {
+            // Detach any static buffer left by a previous clip so buffers can be queued
+            backend.setSourceBuffer(source.sourceId, 0);
+            backend.setSourceLooping(source.sourceId, false);
+            handle = StreamingAudioHandle.start(backend, source.sourceId, streamingClip, false);
+            if (handle == null) {
+                source.inUse = false;
+                return null;
+            }
+        } else {
+            backend.setSourceBuffer(source.sourceId, clip.getBufferId());
+            handle = new AudioHandle(backend, source.sourceId, clip);
+        }
 
-        AudioHandle handle = new AudioHandle(backend, source.sourceId, clip);
         source.handle = handle;
         activeCount++;
 
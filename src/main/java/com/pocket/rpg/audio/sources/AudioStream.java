@@ -0,0 +1,335 @@
+package com.pocket.rpg.audio.sources;
+
+import com.pocket.rpg.audio.backend.AudioBackend;
+import com.pocket.rpg.audio.clips.AudioDecoder;
+import com.pocket.rpg.audio.clips.StreamingAudioClip;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays a {@link StreamingAudioClip} through a small ring of queued backend buffers.
+ * <p>
+ * A background thread decodes fixed-size chunks into a bounded ready queue. The
+ * main thread, once per frame in {@link #update()}, unqueues buffers the source has
+ * finished playing, refills them from ready chunks and queues them again. All backend
+ * calls stay on the main thread.
+ * <p>
+ * {@link #start()} decodes the first buffers synchronously, so playback begins right
+ * away. Memory is bounded by {@link #BUFFER_COUNT} + {@link #READY_CHUNKS} chunks of
+ * {@link #CHUNK_FRAMES} frames, whatever the track length.
+ */
+public class AudioStream {
+
+    /** Buffers cycling through the source queue. */
+    static final int BUFFER_COUNT = 4;
+
+    /** Decoded chunks the decode thread may run ahead by. */
+    static final int READY_CHUNKS = 4;
+
+    /** Frames per chunk: about 93 ms at 44.1 kHz. */
+    static final int CHUNK_FRAMES = 4096;
+
+    private static final class Chunk {
+        final short[] samples;
+        int length;
+
+        Chunk(int capacity) {
+            samples = new short[capacity];
+        }
+    }
+
+    private final AudioBackend backend;
+    @Getter
+    private final int sourceId;
+    private final StreamingAudioClip clip;
+    private final boolean loop;
+
+    private final int format;
+    private final int sampleRate;
+    private final int channels;
+    private final int[] bufferIds;
+
+    // Main thread only
+    private final ArrayDeque<Integer> idleBuffers = new ArrayDeque<>();
+    private final ArrayDeque<Integer> queuedFrames = new ArrayDeque<>();
+    private long startFrame;
+    private long framesPlayed;
+    @Getter
+    private boolean paused;
+    private boolean closed;
+
+    // Shared with the decode thread
+    private final ArrayBlockingQueue<Chunk> ready = new ArrayBlockingQueue<>(READY_CHUNKS);
+    private final ArrayBlockingQueue<Chunk> free = new ArrayBlockingQueue<>(READY_CHUNKS);
+    private volatile boolean running;
+    private volatile boolean decodeDone;
+
+    private AudioDecoder decoder;
+    private Thread decodeThread;
+    private final Chunk primeChunk;
+
+    public AudioStream(AudioBackend backend, int sourceId, StreamingAudioClip clip, boolean loop) {
+        this.backend = backend;
+        this.sourceId = sourceId;
+        this.clip = clip;
+        this.loop = loop;
+        this.sampleRate = clip.getSampleRate();
+        this.channels = Math.max(1, clip.getChannels());
+        this.format = channels == 1 ? backend.getFormatMono16() : backend.getFormatStereo16();
+
+        int chunkSamples = CHUNK_FRAMES * channels;
+        this.primeChunk = new Chunk(chunkSamples);
+        for (int i = 0; i < READY_CHUNKS; i++) {
+            free.add(new Chunk(chunkSamples));
+        }
+
+        this.bufferIds = new int[BUFFER_COUNT];
+        for (int i = 0; i < BUFFER_COUNT; i++) {
+            bufferIds[i] = backend.createStreamBuffer();
+            idleBuffers.add(bufferIds[i]);
+        }
+    }
+
+    // ========================================================================
+    // CONTROL
+    // ========================================================================
+
+    /**
+     * Opens the decoder, fills the first buffers and starts playback.
+     */
+    public void start() throws IOException {
+        decoder = clip.openDecoder();
+        primeAndPlay();
+    }
+
+    /**
+     * Pumps decoded audio into the source. Call once per frame on the main thread.
+     */
+    public void update() {
+        if (closed) {
+            return;
+        }
+
+        int processed = backend.getProcessedBufferCount(sourceId);
+        for (int i = 0; i < processed && !queuedFrames.isEmpty(); i++) {
+            idleBuffers.add(backend.unqueueBuffer(sourceId));
+            framesPlayed += queuedFrames.poll();
+        }
+
+        while (!idleBuffers.isEmpty()) {
+            Chunk chunk = ready.poll();
+            if (chunk == null) {
+                break;
+            }
+            submit(chunk);
+            free.offer(chunk);
+        }
+
+        // Restart after an underrun (the source stops when its queue runs dry)
+        if (!paused && !queuedFrames.isEmpty() && !backend.isSourcePlaying(sourceId)) {
+            backend.playSource(sourceId);
+        }
+    }
+
+    public void pause() {
+        if (closed) return;
+        paused = true;
+        backend.pauseSource(sourceId);
+    }
+
+    public void resume() {
+        if (closed) return;
+        paused = false;
+        backend.playSource(sourceId);
+    }
+
+    /**
+     * Restarts decoding from the given position.
+     */
+    public void seek(float seconds) {
+        if (closed) return;
+
+        stopDecodeThread();
+        backend.stopSource(sourceId);
+        flushQueue();
+
+        try {
+            long frame = (long) (Math.max(0f, seconds) * sampleRate);
+            decoder.seekToFrame(frame);
+            startFrame = frame;
+            framesPlayed = 0;
+            primeAndPlay();
+        } catch (IOException e) {
+            System.err.println("Failed to seek stream " + clip.getName() + ": " + e.getMessage());
+            decodeDone = true;
+        }
+    }
+
+    /**
+     * Stops playback and releases the decoder and buffers. Safe to call more than once.
+     * The source itself belongs to the caller.
+     */
+    public void close() {
+        if (closed) return;
+        closed = true;
+
+        stopDecodeThread();
+        backend.stopSource(sourceId);
+        flushQueue();
+        for (int bufferId : bufferIds) {
+            backend.deleteBuffer(bufferId);
+        }
+        if (decoder != null) {
+            decoder.close();
+        }
+    }
+
+    // ========================================================================
+    // STATE
+    // ========================================================================
+
+    /**
+     * @return true once the whole clip has been played (never for looping streams)
+     */
+    public boolean isFinished() {
+        return closed || (decodeDone && ready.isEmpty() && queuedFrames.isEmpty());
+    }
+
+    /**
+     * @return Playback position in seconds
+     */
+    public float getPlaybackTime() {
+        if (sampleRate <= 0) return 0f;
+        float time = (float) (startFrame + framesPlayed) / sampleRate + backend.getSourcePlaybackTime(sourceId);
+        float duration = clip.getDuration();
+        if (loop && duration > 0) {
+            time %= duration;
+        }
+        return time;
+    }
+
+    // ========================================================================
+    // INTERNALS
+    // ========================================================================
+
+    private void primeAndPlay() throws IOException {
+        decodeDone = false;
+        while (!idleBuffers.isEmpty()) {
+            if (decodeChunk(primeChunk) == 0) {
+                decodeDone = true;
+                break;
+            }
+            submit(primeChunk);
+        }
+
+        if (!paused && !queuedFrames.isEmpty()) {
+            backend.playSource(sourceId);
+        }
+        if (!decodeDone) {
+            startDecodeThread();
+        }
+    }
+
+    private void submit(Chunk chunk) {
+        int bufferId = idleBuffers.poll();
+        backend.fillBuffer(bufferId, chunk.samples, chunk.length, format, sampleRate);
+        backend.queueBuffer(sourceId, bufferId);
+        queuedFrames.add(chunk.length / channels);
+    }
+
+    private void flushQueue() {
+        while (!queuedFrames.isEmpty()) {
+            idleBuffers.add(backend.unqueueBuffer(sourceId));
+            queuedFrames.poll();
+        }
+        Chunk chunk;
+        while ((chunk = ready.poll()) != null) {
+            free.offer(chunk);
+        }
+    }
+
+    /**
+     * Fills a chunk, rewinding at the end of the clip when looping.
+     *
+     * @return Samples decoded, 0 at the end of a non-looping clip
+     */
+    private int decodeChunk(Chunk chunk) throws IOException {
+        int capacity = chunk.samples.length;
+        int length = 0;
+        boolean rewound = false;
+        while (length < capacity) {
+            int n = decoder.read(chunk.samples, length, capacity - length);
+            if (n > 0) {
+                length += n;
+                rewound = false;
+                continue;
+            }
+            // End of clip: rewind once; an empty read right after rewinding means no audio
+            if (!loop || rewound) {
+                break;
+            }
+            decoder.seekToFrame(0);
+            rewound = true;
+        }
+        chunk.length = length;
+        return length;
+    }
+
+    private void startDecodeThread() {
+        running = true;
+        decodeThread = new Thread(this::decodeLoop, "audio-stream-" + clip.getName());
+        decodeThread.setDaemon(true);
+        decodeThread.start();
+    }
+
+    private void stopDecodeThread() {
+        running = false;
+        Thread thread = decodeThread;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            decodeThread = null;
+        }
+    }
+
+    private void decodeLoop() {
+        Chunk held = null;
+        try {
+            while (running) {
+                held = free.poll(50, TimeUnit.MILLISECONDS);
+                if (held == null) {
+                    continue;
+                }
+                if (decodeChunk(held) == 0) {
+                    decodeDone = true;
+                    return;
+                }
+                // Waits while the ready queue is full: the source is still playing earlier chunks
+                while (running) {
+                    if (ready.offer(held, 50, TimeUnit.MILLISECONDS)) {
+                        held = null;
+                        break;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            // Stopped by the main thread
+        } catch (IOException e) {
+            System.err.println("Audio stream decode failed for " + clip.getName() + ": " + e.getMessage());
+            decodeDone = true;
+        } finally {
+            // Keep the pool whole for the next start after a seek
+            if (held != null) {
+                free.offer(held);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.pocket.rpg.audio.sources;
+
+import com.pocket.rpg.audio.backend.AudioBackend;
+import com.pocket.rpg.audio.clips.StreamingAudioClip;
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * Handle to a playing {@link StreamingAudioClip}.
+ * Playback state comes from the {@link AudioStream} rather than the source, which
+ * briefly stops whenever its buffer queue runs dry.
+ */
+public class StreamingAudioHandle extends AudioHandle {
+
+    @Getter
+    private final AudioStream stream;
+
+    public StreamingAudioHandle(AudioBackend backend, AudioStream stream, StreamingAudioClip clip) {
+        super(backend, stream.getSourceId(), clip);
+        this.stream = stream;
+    }
+
+    /**
+     * Starts streaming a clip on a source and returns its handle.
+     * The source must have no static buffer attached. The caller pumps
+     * {@link AudioStream#update()} every frame and keeps ownership of the source.
+     *
+     * @return The handle, or null if the clip could not be opened
+     */
+    public static StreamingAudioHandle start(AudioBackend backend, int sourceId, StreamingAudioClip clip, boolean loop) {
+        AudioStream stream = new AudioStream(backend, sourceId, clip, loop);
+        try {
+            stream.start();
+        } catch (IOException e) {
+            System.err.println("Failed to start audio stream " + clip.getName() + ": " + e.getMessage());
+            stream.close();
+            return null;
+        }
+        return new StreamingAudioHandle(backend, stream, clip);
+    }
+
+    /**
+     * Pumps the stream if the handle is a live streaming handle. Call once per frame.
+     */
+    public static void pump(AudioHandle handle) {
+        if (handle instanceof StreamingAudioHandle streamHandle && streamHandle.isValid()) {
+            streamHandle.stream.update();
+        }
+    }
+
+    @Override
+    public boolean isPlaying() {
+        return isValid() && !stream.isFinished() && !stream.isPaused();
+    }
+
+    @Override
+    public void stop() {
+        if (!isValid()) {
+            return;
+        }
+        stream.close();
+        super.stop();
+    }
+
+    @Override
+    public void pause() {
+        if (!isValid()) {
+            return;
+        }
+        stream.pause();
+    }
+
+    @Override
+    public void resume() {
+        if (!isValid()) {
+            return;
+        }
+        stream.resume();
+    }
+
+    @Override
+    public float getPlaybackTime() {
+        if (!isValid()) {
+            return 0f;
+        }
+        return stream.getPlaybackTime();
+    }
+
+    @Override
+    public void setTime(float seconds) {
+        if (!isValid()) {
+            return;
+        }
+        stream.seek(seconds);
+    }
+
+    @Override
+    public void invalidate() {
+        stream.close();
+        super.invalidate();
+    }
+}
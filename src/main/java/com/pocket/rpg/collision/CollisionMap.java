@@ -16,12 +16,50 @@ import java.util.*;
  * - Z-level 0 is ground level
  * - Higher Z = higher elevation (bridges, second floor, etc.)
  * - Negative Z = underground/underwater
+ * <p>
+ * Single-tile lookups go through a last-chunk cache, so walking neighbouring tiles avoids
+ * the layer and chunk hash lookups. Region queries ({@link #anyInRow}, {@link #countInRect},
+ * {@link #forEachInRect}) work on the chunks' per-type row bitsets, 32 tiles at a time.
+ * <p>
+ * Not thread-safe: read and written on the main thread.
  */
 public class CollisionMap {
 
     // Map of z-level -> chunk storage for that level
     private final Map<Integer, Map<Long, CollisionChunk>> zLayers = new HashMap<>();
 
+    private final List<ChangeListener> listeners = new ArrayList<>();
+
+    // Chunk hit by the last lookup. Final fields, so a stale read is at worst a miss.
+    private CachedChunk lastChunk;
+
+    private record CachedChunk(int z, CollisionChunk chunk) {
+    }
+
+    /**
+     * Receives tiles matched by {@link #forEachInRect}.
+     */
+    @FunctionalInterface
+    public interface TileVisitor {
+        void visit(int tileX, int tileY);
+    }
+
+    /**
+     * Notified when collision data changes, so derived data (navigation graphs) can be
+     * invalidated per chunk instead of rebuilt.
+     */
+    public interface ChangeListener {
+        /**
+         * A tile changed in chunk (cx, cy) on Z-level z.
+         */
+        void onChunkChanged(int cx, int cy, int z);
+
+        /**
+         * All collision data was cleared or replaced.
+         */
+        void onMapReset();
+    }
+
     /**
      * Gets the collision type at a tile position on a specific Z-level.
      *
@@ -31,19 +69,10 @@ public class CollisionMap {
      * @return CollisionType at that position (NONE if not set)
      */
     public CollisionType get(int tileX, int tileY, int z) {
-        Map<Long, CollisionChunk> layer = zLayers.get(z);
-        if (layer == null) return CollisionType.NONE;
-
-        int cx = floorDiv(tileX, CollisionChunk.CHUNK_SIZE);
-        int cy = floorDiv(tileY, CollisionChunk.CHUNK_SIZE);
-
-        CollisionChunk chunk = layer.get(key(cx, cy));
+        CollisionChunk chunk = findChunk(tileX >> CollisionChunk.CHUNK_SHIFT, tileY >> CollisionChunk.CHUNK_SHIFT, z);
         if (chunk == null) return CollisionType.NONE;
 
-        int tx = tileX - cx * CollisionChunk.CHUNK_SIZE;
-        int ty = tileY - cy * CollisionChunk.CHUNK_SIZE;
-
-        return chunk.get(tx, ty);
+        return chunk.get(tileX & CollisionChunk.CHUNK_MASK, tileY & CollisionChunk.CHUNK_MASK);
     }
 
     /**
@@ -62,42 +91,44 @@ public class CollisionMap {
      * @param type  Collision type to set
      */
     public void set(int tileX, int tileY, int z, CollisionType type) {
-        int cx = floorDiv(tileX, CollisionChunk.CHUNK_SIZE);
-        int cy = floorDiv(tileY, CollisionChunk.CHUNK_SIZE);
-
-        long k = key(cx, cy);
+        int cx = tileX >> CollisionChunk.CHUNK_SHIFT;
+        int cy = tileY >> CollisionChunk.CHUNK_SHIFT;
+        int tx = tileX & CollisionChunk.CHUNK_MASK;
+        int ty = tileY & CollisionChunk.CHUNK_MASK;
 
-        // Get or create layer
-        Map<Long, CollisionChunk> layer = zLayers.computeIfAbsent(z, k1 -> new HashMap<>());
+        CollisionChunk chunk = findChunk(cx, cy, z);
 
         // If setting to NONE, remove from chunk
         if (type == CollisionType.NONE) {
-            CollisionChunk chunk = layer.get(k);
-            if (chunk != null) {
-                int tx = tileX - cx * CollisionChunk.CHUNK_SIZE;
-                int ty = tileY - cy * CollisionChunk.CHUNK_SIZE;
-                chunk.set(tx, ty, CollisionType.NONE);
-
-                // Remove empty chunks
-                if (chunk.isEmpty()) {
-                    layer.remove(k);
-                }
+            if (chunk == null || chunk.get(tx, ty) == CollisionType.NONE) {
+                return;
+            }
+            chunk.set(tx, ty, CollisionType.NONE);
+            notifyChunkChanged(cx, cy, z);
 
-                // Remove empty layers
+            // Remove empty chunks, and empty layers with them
+            if (chunk.isEmpty()) {
+                Map<Long, CollisionChunk> layer = zLayers.get(z);
+                layer.remove(key(cx, cy));
                 if (layer.isEmpty()) {
                     zLayers.remove(z);
                 }
+                lastChunk = null;
             }
             return;
         }
 
         // Create chunk if needed
-        CollisionChunk chunk = layer.computeIfAbsent(k, k1 -> new CollisionChunk(cx, cy));
-
-        int tx = tileX - cx * CollisionChunk.CHUNK_SIZE;
-        int ty = tileY - cy * CollisionChunk.CHUNK_SIZE;
+        if (chunk == null) {
+            chunk = new CollisionChunk(cx, cy);
+            zLayers.computeIfAbsent(z, k -> new HashMap<>()).put(key(cx, cy), chunk);
+            lastChunk = new CachedChunk(z, chunk);
+        }
 
-        chunk.set(tx, ty, type);
+        if (chunk.get(tx, ty) != type) {
+            chunk.set(tx, ty, type);
+            notifyChunkChanged(cx, cy, z);
+        }
     }
 
     /**
@@ -140,8 +171,7 @@ public class CollisionMap {
      * Gets a chunk at the given coordinates and Z-level.
      */
     public CollisionChunk getChunk(int cx, int cy, int z) {
-        Map<Long, CollisionChunk> layer = zLayers.get(z);
-        return layer != null ? layer.get(key(cx, cy)) : null;
+        return findChunk(cx, cy, z);
     }
 
     /**
@@ -179,6 +209,8 @@ public class CollisionMap {
      */
     public void clear() {
         zLayers.clear();
+        lastChunk = null;
+        notifyMapReset();
     }
 
     /**
@@ -194,17 +226,142 @@ public class CollisionMap {
         return count;
     }
 
+    // ========================================================================
+    // REGION QUERIES
+    // ========================================================================
+
+    /**
+     * Checks if any tile of a row span has one of the given types.
+     * <pre>
+     * boolean blocked = map.anyInRow(y, x0, x1, z, EnumSet.of(CollisionType.SOLID));
+     * </pre>
+     *
+     * @param tileY Row
+     * @param fromX First tile X (inclusive)
+     * @param toX   Last tile X (inclusive)
+     * @param types Types to look for; NONE matches tiles without collision data
+     */
+    public boolean anyInRow(int tileY, int fromX, int toX, int z, Set<CollisionType> types) {
+        long mask = typeMask(types);
+        int cy = tileY >> CollisionChunk.CHUNK_SHIFT;
+        int ty = tileY & CollisionChunk.CHUNK_MASK;
+
+        for (int cx = fromX >> CollisionChunk.CHUNK_SHIFT; cx <= toX >> CollisionChunk.CHUNK_SHIFT; cx++) {
+            int base = cx << CollisionChunk.CHUNK_SHIFT;
+            int span = spanMask(Math.max(fromX, base) - base,
+                    Math.min(toX, base + CollisionChunk.CHUNK_MASK) - base);
+            if ((rowBits(findChunk(cx, cy, z), ty, mask) & span) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts tiles of a rectangle that have one of the given types.
+     *
+     * @param types Types to look for; NONE matches tiles without collision data
+     */
+    public int countInRect(int minX, int minY, int maxX, int maxY, int z, Set<CollisionType> types) {
+        int[] count = new int[1];
+        scanRect(minX, minY, maxX, maxY, z, typeMask(types), (rowY, baseX, bits) -> count[0] += Integer.bitCount(bits));
+        return count[0];
+    }
+
+    /**
+     * Visits every tile of a rectangle that has one of the given types, row by row
+     * within each chunk.
+     * <pre>
+     * Set&lt;CollisionType&gt; walkable = EnumSet.complementOf(EnumSet.of(CollisionType.SOLID, CollisionType.WATER));
+     * map.forEachInRect(0, 0, 63, 63, 0, walkable, (x, y) -&gt; spawnPoints.add(new TileCoord(x, y)));
+     * </pre>
+     *
+     * @param types Types to look for; NONE matches tiles without collision data
+     */
+    public void forEachInRect(int minX, int minY, int maxX, int maxY, int z,
+                              Set<CollisionType> types, TileVisitor visitor) {
+        scanRect(minX, minY, maxX, maxY, z, typeMask(types), (rowY, baseX, bits) -> {
+            while (bits != 0) {
+                visitor.visit(baseX + Integer.numberOfTrailingZeros(bits), rowY);
+                bits &= bits - 1;
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface RowVisitor {
+        /**
+         * @param bits Matching tiles of the row, bit i = tile baseX + i
+         */
+        void visit(int tileY, int baseX, int bits);
+    }
+
+    private void scanRect(int minX, int minY, int maxX, int maxY, int z, long mask, RowVisitor visitor) {
+        for (int cx = minX >> CollisionChunk.CHUNK_SHIFT; cx <= maxX >> CollisionChunk.CHUNK_SHIFT; cx++) {
+            int baseX = cx << CollisionChunk.CHUNK_SHIFT;
+            int span = spanMask(Math.max(minX, baseX) - baseX,
+                    Math.min(maxX, baseX + CollisionChunk.CHUNK_MASK) - baseX);
+
+            for (int cy = minY >> CollisionChunk.CHUNK_SHIFT; cy <= maxY >> CollisionChunk.CHUNK_SHIFT; cy++) {
+                int baseY = cy << CollisionChunk.CHUNK_SHIFT;
+                CollisionChunk chunk = findChunk(cx, cy, z);
+                int fromY = Math.max(minY, baseY);
+                int toY = Math.min(maxY, baseY + CollisionChunk.CHUNK_MASK);
+
+                for (int y = fromY; y <= toY; y++) {
+                    int bits = rowBits(chunk, y - baseY, mask) & span;
+                    if (bits != 0) {
+                        visitor.visit(y, baseX, bits);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int rowBits(CollisionChunk chunk, int ty, long mask) {
+        if (chunk == null) {
+            // Missing chunks are all NONE
+            return (mask & 1L << CollisionType.NONE.ordinal()) != 0 ? -1 : 0;
+        }
+        return chunk.getRowBits(ty, mask);
+    }
+
+    /**
+     * Bits from..to (inclusive) of a chunk row.
+     */
+    private static int spanMask(int from, int to) {
+        return (int) (((1L << (to - from + 1)) - 1) << from);
+    }
+
+    private static long typeMask(Set<CollisionType> types) {
+        long mask = 0;
+        for (CollisionType type : types) {
+            mask |= 1L << type.ordinal();
+        }
+        return mask;
+    }
+
     // ========================================================================
     // SERIALIZATION SUPPORT (Base64 Binary)
     // ========================================================================
 
+    /**
+     * Header of the run-length format. Older data starts directly with the layer count,
+     * which never reaches this value.
+     */
+    private static final int RLE_FORMAT = 0x434D5231; // "CMR1"
+
     /**
      * Serializes collision data to a compact Base64 string.
+     * <p>
+     * Each chunk is written as runs of (type id, length) over its tiles in
+     * {@link CollisionChunk#index} order, so empty and uniform areas cost a few bytes.
      */
     public String toBase64() {
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
              DataOutputStream dos = new DataOutputStream(baos)) {
 
+            dos.writeInt(RLE_FORMAT);
             dos.writeInt(zLayers.size());
             for (Map.Entry<Integer, Map<Long, CollisionChunk>> zEntry : zLayers.entrySet()) {
                 dos.writeInt(zEntry.getKey());          // Z-Level
@@ -213,17 +370,17 @@ public class CollisionMap {
                 for (CollisionChunk chunk : zEntry.getValue().values()) {
                     dos.writeInt(chunk.getChunkX());
                     dos.writeInt(chunk.getChunkY());
-                    dos.writeInt(chunk.getTileCount());
-
-                    for (int x = 0; x < CollisionChunk.CHUNK_SIZE; x++) {
-                        for (int y = 0; y < CollisionChunk.CHUNK_SIZE; y++) {
-                            CollisionType type = chunk.get(x, y);
-                            if (type != CollisionType.NONE) {
-                                dos.writeByte(x);       // Local X (0-31)
-                                dos.writeByte(y);       // Local Y (0-31)
-                                dos.writeInt(type.getId());
-                            }
+
+                    int index = 0;
+                    while (index < CollisionChunk.TILES) {
+                        byte ordinal = chunk.types[index];
+                        int run = 1;
+                        while (index + run < CollisionChunk.TILES && chunk.types[index + run] == ordinal) {
+                            run++;
                         }
+                        dos.writeByte(CollisionChunk.TYPES[ordinal].getId());
+                        writeVarInt(dos, run);
+                        index += run;
                     }
                 }
             }
@@ -234,37 +391,122 @@ public class CollisionMap {
     }
 
     /**
-     * Loads collision data from a compact Base64 string.
+     * Loads collision data from a compact Base64 string. Reads both the run-length
+     * format and the older per-tile format.
      */
     public void fromBase64(String data) {
         if (data == null || data.isEmpty()) return;
         clear();
 
         try (DataInputStream dis = new DataInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(data)))) {
-            int layers = dis.readInt();
-            while (layers-- > 0) {
-                int z = dis.readInt();
-                int chunks = dis.readInt();
+            int header = dis.readInt();
+            if (header == RLE_FORMAT) {
+                readRuns(dis);
+            } else {
+                readTiles(dis, header);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Deserialization failed", e);
+        }
+        notifyMapReset();
+    }
 
-                // Get or create Z-layer map
-                Map<Long, CollisionChunk> layer = zLayers.computeIfAbsent(z, k -> new HashMap<>());
+    private void readRuns(DataInputStream dis) throws IOException {
+        int layers = dis.readInt();
+        while (layers-- > 0) {
+            int z = dis.readInt();
+            int chunks = dis.readInt();
+
+            while (chunks-- > 0) {
+                CollisionChunk chunk = new CollisionChunk(dis.readInt(), dis.readInt());
+                int index = 0;
+                while (index < CollisionChunk.TILES) {
+                    CollisionType type = CollisionType.fromId(dis.readUnsignedByte());
+                    int end = index + readVarInt(dis);
+                    if (end > CollisionChunk.TILES) {
+                        throw new IOException("Collision run overflows chunk (" + chunk.getChunkX() + ", " + chunk.getChunkY() + ")");
+                    }
+                    for (; index < end; index++) {
+                        if (type != CollisionType.NONE) {
+                            chunk.set(index >> CollisionChunk.CHUNK_SHIFT, index & CollisionChunk.CHUNK_MASK, type);
+                        }
+                    }
+                }
+                addLoadedChunk(z, chunk);
+            }
+        }
+    }
 
-                while (chunks-- > 0) {
-                    int cx = dis.readInt();
-                    int cy = dis.readInt();
-                    int tiles = dis.readInt();
+    /**
+     * Per-tile format: (local x, local y, type id) for every non-empty tile.
+     */
+    private void readTiles(DataInputStream dis, int layers) throws IOException {
+        while (layers-- > 0) {
+            int z = dis.readInt();
+            int chunks = dis.readInt();
+
+            while (chunks-- > 0) {
+                int cx = dis.readInt();
+                int cy = dis.readInt();
+                int tiles = dis.readInt();
+
+                CollisionChunk chunk = new CollisionChunk(cx, cy);
+                while (tiles-- > 0) {
+                    // Read local coords (byte) and ID (int)
+                    chunk.set(dis.readByte(), dis.readByte(), CollisionType.fromId(dis.readInt()));
+                }
+                addLoadedChunk(z, chunk);
+            }
+        }
+    }
 
-                    CollisionChunk chunk = new CollisionChunk(cx, cy);
-                    layer.put(key(cx, cy), chunk);
+    private void addLoadedChunk(int z, CollisionChunk chunk) {
+        if (!chunk.isEmpty()) {
+            zLayers.computeIfAbsent(z, k -> new HashMap<>()).put(key(chunk.getChunkX(), chunk.getChunkY()), chunk);
+        }
+    }
 
-                    while (tiles-- > 0) {
-                        // Read local coords (byte) and ID (int)
-                        chunk.set(dis.readByte(), dis.readByte(), CollisionType.fromId(dis.readInt()));
-                    }
-                }
+    private static void writeVarInt(DataOutputStream dos, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            dos.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        dos.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream dis) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = dis.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
             }
-        } catch (IOException e) {
-            throw new RuntimeException("Deserialization failed", e);
+        }
+        throw new IOException("Malformed run length");
+    }
+
+    // ========================================================================
+    // CHANGE LISTENERS
+    // ========================================================================
+
+    public void addChangeListener(ChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeChangeListener(ChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifyChunkChanged(int cx, int cy, int z) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onChunkChanged(cx, cy, z);
+        }
+    }
+
+    private void notifyMapReset() {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onMapReset();
         }
     }
 
@@ -273,19 +515,27 @@ public class CollisionMap {
     // ========================================================================
 
     /**
-     * Encodes chunk coordinates into a 64-bit key.
+     * Looks up a chunk, checking the last chunk hit first.
      */
-    private static long key(int cx, int cy) {
-        return (((long) cx) << 32) ^ (cy & 0xffffffffL);
+    private CollisionChunk findChunk(int cx, int cy, int z) {
+        CachedChunk cached = lastChunk;
+        if (cached != null && cached.z == z && cached.chunk.chunkX == cx && cached.chunk.chunkY == cy) {
+            return cached.chunk;
+        }
+
+        Map<Long, CollisionChunk> layer = zLayers.get(z);
+        CollisionChunk chunk = layer != null ? layer.get(key(cx, cy)) : null;
+        if (chunk != null) {
+            lastChunk = new CachedChunk(z, chunk);
+        }
+        return chunk;
     }
 
     /**
-     * Floor division that handles negative numbers correctly.
+     * Encodes chunk coordinates into a 64-bit key.
      */
-    private static int floorDiv(int a, int b) {
-        int r = a / b;
-        if ((a ^ b) < 0 && (r * b != a)) r--;
-        return r;
+    private static long key(int cx, int cy) {
+        return (((long) cx) << 32) ^ (cy & 0xffffffffL);
     }
 
     @Override
@@ -300,49 +550,114 @@ public class CollisionMap {
 
     /**
      * A chunk of collision data. Chunks are 32x32 tiles.
+     * <p>
+     * Types are stored as ordinals in a flat byte array, plus one bitset per type with one
+     * int per row (bit tx of row ty), allocated the first time the type is used.
      */
-    @Getter
     public static class CollisionChunk {
         public static final int CHUNK_SIZE = 32;
+        public static final int CHUNK_SHIFT = 5;
+        public static final int CHUNK_MASK = CHUNK_SIZE - 1;
+        static final int TILES = CHUNK_SIZE * CHUNK_SIZE;
+
+        static final CollisionType[] TYPES = CollisionType.values();
 
+        static {
+            if (TYPES.length > Long.SIZE) {
+                throw new IllegalStateException("Type masks hold at most 64 collision types");
+            }
+        }
+
+        @Getter
         private final int chunkX;
+        @Getter
         private final int chunkY;
-        private final CollisionType[][] data;
+        @Getter
         private int tileCount = 0;
 
+        // Ordinal per tile, see index()
+        private final byte[] types = new byte[TILES];
+        // typeRows[ordinal][ty], bit tx set if the tile has that type
+        private final int[][] typeRows = new int[TYPES.length][];
+
         public CollisionChunk(int chunkX, int chunkY) {
             this.chunkX = chunkX;
             this.chunkY = chunkY;
-            this.data = new CollisionType[CHUNK_SIZE][CHUNK_SIZE];
 
-            // Initialize all to NONE
-            for (int x = 0; x < CHUNK_SIZE; x++) {
-                Arrays.fill(data[x], CollisionType.NONE);
-            }
+            // All tiles start as NONE (ordinal 0)
+            int[] noneRows = new int[CHUNK_SIZE];
+            Arrays.fill(noneRows, -1);
+            typeRows[CollisionType.NONE.ordinal()] = noneRows;
+        }
+
+        /**
+         * Flat index of a local tile: {@code tx * CHUNK_SIZE + ty}.
+         */
+        public static int index(int tx, int ty) {
+            return (tx << CHUNK_SHIFT) | ty;
         }
 
         /**
          * Gets collision type at local chunk coordinates.
          */
         public CollisionType get(int tx, int ty) {
-            return data[tx][ty];
+            return TYPES[types[index(tx, ty)]];
         }
 
         /**
          * Sets collision type at local chunk coordinates.
          */
         public void set(int tx, int ty, CollisionType type) {
-            CollisionType old = data[tx][ty];
-            data[tx][ty] = type;
+            int index = index(tx, ty);
+            int oldOrdinal = types[index];
+            int newOrdinal = type.ordinal();
+            if (oldOrdinal == newOrdinal) {
+                return;
+            }
+            types[index] = (byte) newOrdinal;
+
+            int bit = 1 << tx;
+            typeRows[oldOrdinal][ty] &= ~bit;
+            int[] rows = typeRows[newOrdinal];
+            if (rows == null) {
+                rows = typeRows[newOrdinal] = new int[CHUNK_SIZE];
+            }
+            rows[ty] |= bit;
 
             // Track tile count (only count non-NONE tiles)
-            if (old == CollisionType.NONE && type != CollisionType.NONE) {
+            if (oldOrdinal == 0) {
                 tileCount++;
-            } else if (old != CollisionType.NONE && type == CollisionType.NONE) {
+            } else if (newOrdinal == 0) {
                 tileCount--;
             }
         }
 
+        /**
+         * Gets the tiles of a row whose type is in a mask of ordinals.
+         *
+         * @param ty       Local row
+         * @param typeMask Bit n set to include the type with ordinal n
+         * @return Bit tx set for each matching tile
+         */
+        public int getRowBits(int ty, long typeMask) {
+            int bits = 0;
+            while (typeMask != 0) {
+                int[] rows = typeRows[Long.numberOfTrailingZeros(typeMask)];
+                if (rows != null) {
+                    bits |= rows[ty];
+                }
+                typeMask &= typeMask - 1;
+            }
+            return bits;
+        }
+
+        /**
+         * Copies the type ordinal of every tile into {@code dest}, indexed by {@link #index}.
+         */
+        public void copyOrdinals(byte[] dest) {
+            System.arraycopy(types, 0, dest, 0, TILES);
+        }
+
         /**
          * Checks if this chunk is empty (all NONE).
          */
@@ -350,4 +665,4 @@ public class CollisionMap {
             return tileCount == 0;
         }
     }
-}
\ No newline at end of file
+}
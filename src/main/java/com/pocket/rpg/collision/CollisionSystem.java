@@ -2,6 +2,7 @@ package com.pocket.rpg.collision;
 
 import com.pocket.rpg.collision.behavior.CollisionBehaviorRegistry;
 import com.pocket.rpg.collision.behavior.TileBehavior;
+import com.pocket.rpg.collision.pathfinding.PathfindingService;
 import com.pocket.rpg.collision.trigger.TileCoord;
 import lombok.Getter;
 
@@ -33,6 +34,11 @@ public class CollisionSystem {
 
     private final CollisionBehaviorRegistry behaviorRegistry;
 
+    /**
+     * Path queries over this system, created on first use.
+     */
+    private PathfindingService pathfinding;
+
     /**
      * Default Z-level for queries (ground level).
      */
@@ -144,6 +150,20 @@ public class CollisionSystem {
         return behavior.checkMove(fromX, fromY, fromZ, toX, toY, toZ, direction, context);
     }
 
+    // ========================================================================
+    // PATHFINDING
+    // ========================================================================
+
+    /**
+     * Gets the pathfinding service for this collision system.
+     */
+    public PathfindingService getPathfinding() {
+        if (pathfinding == null) {
+            pathfinding = new PathfindingService(this);
+        }
+        return pathfinding;
+    }
+
     // ========================================================================
     // SIMPLE QUERIES
     // ========================================================================
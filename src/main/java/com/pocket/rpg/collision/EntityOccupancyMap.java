@@ -1,5 +1,7 @@
 package com.pocket.rpg.collision;
 
+import com.pocket.rpg.collision.trigger.TileCoord;
+
 import java.util.*;
 
 /**
@@ -10,12 +12,22 @@ import java.util.*;
  * - NPCs cannot walk through each other
  * - Multiple entities can occupy the same tile if allowed (flying over ground entity)
  * <p>
- * Thread-safe for concurrent access.
+ * Backed by a {@link TileBucketMap}: register, move and occupancy checks do not allocate.
+ * Not thread-safe: written and read on the main thread. Use {@link #copy()} to give
+ * another thread a snapshot.
  */
 public class EntityOccupancyMap {
 
-    // Map of (x,y,z) -> set of entities at that position
-    private final Map<Long, Set<Object>> occupancy = new HashMap<>();
+    // Packed (x,y,z) -> entities at that position
+    private final TileBucketMap<Object> occupancy;
+
+    public EntityOccupancyMap() {
+        this(new TileBucketMap<>());
+    }
+
+    private EntityOccupancyMap(TileBucketMap<Object> occupancy) {
+        this.occupancy = occupancy;
+    }
 
     /**
      * Registers an entity at a tile position.
@@ -25,9 +37,8 @@ public class EntityOccupancyMap {
      * @param tileY  Tile Y coordinate
      * @param z      Z-level
      */
-    public synchronized void register(Object entity, int tileX, int tileY, int z) {
-        long key = key(tileX, tileY, z);
-        occupancy.computeIfAbsent(key, k -> new HashSet<>()).add(entity);
+    public void register(Object entity, int tileX, int tileY, int z) {
+        occupancy.add(TileCoord.pack(tileX, tileY, z), entity);
     }
 
     /**
@@ -38,15 +49,8 @@ public class EntityOccupancyMap {
      * @param tileY  Tile Y coordinate
      * @param z      Z-level
      */
-    public synchronized void unregister(Object entity, int tileX, int tileY, int z) {
-        long key = key(tileX, tileY, z);
-        Set<Object> entities = occupancy.get(key);
-        if (entities != null) {
-            entities.remove(entity);
-            if (entities.isEmpty()) {
-                occupancy.remove(key);
-            }
-        }
+    public void unregister(Object entity, int tileX, int tileY, int z) {
+        occupancy.remove(TileCoord.pack(tileX, tileY, z), entity);
     }
 
     /**
@@ -60,10 +64,15 @@ public class EntityOccupancyMap {
      * @param toY    New tile Y
      * @param toZ    New Z-level
      */
-    public synchronized void move(Object entity, int fromX, int fromY, int fromZ,
-                                  int toX, int toY, int toZ) {
-        unregister(entity, fromX, fromY, fromZ);
-        register(entity, toX, toY, toZ);
+    public void move(Object entity, int fromX, int fromY, int fromZ,
+                     int toX, int toY, int toZ) {
+        long from = TileCoord.pack(fromX, fromY, fromZ);
+        long to = TileCoord.pack(toX, toY, toZ);
+        if (from == to) {
+            return;
+        }
+        occupancy.remove(from, entity);
+        occupancy.add(to, entity);
     }
 
     /**
@@ -75,65 +84,62 @@ public class EntityOccupancyMap {
      * @param entity Entity to exclude from check (usually the one trying to move)
      * @return true if tile is occupied by another entity
      */
-    public synchronized boolean isOccupied(int tileX, int tileY, int z, Object entity) {
-        long key = key(tileX, tileY, z);
-        Set<Object> entities = occupancy.get(key);
-        if (entities == null || entities.isEmpty()) {
-            return false;
-        }
-
-        // Check if any other entity is present
-        if (entity == null) {
-            return true;
-        }
-
-        return entities.size() > 1 || !entities.contains(entity);
+    public boolean isOccupied(int tileX, int tileY, int z, Object entity) {
+        return occupancy.containsOther(TileCoord.pack(tileX, tileY, z), entity);
     }
 
     /**
      * Gets all entities at a tile position.
+     * <p>
+     * Allocates a new set; prefer {@link #getEntities(int, int, int, List)} in per-frame code.
      *
      * @param tileX Tile X coordinate
      * @param tileY Tile Y coordinate
      * @param z     Z-level
      * @return Set of entities (empty if none)
      */
-    public synchronized Set<Object> getEntities(int tileX, int tileY, int z) {
-        long key = key(tileX, tileY, z);
-        Set<Object> entities = occupancy.get(key);
-        return entities != null ? new HashSet<>(entities) : Collections.emptySet();
+    public Set<Object> getEntities(int tileX, int tileY, int z) {
+        List<Object> entities = new ArrayList<>();
+        if (getEntities(tileX, tileY, z, entities) == 0) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(entities);
+    }
+
+    /**
+     * Appends all entities at a tile position to a caller-supplied list.
+     *
+     * @param out Receives the entities; not cleared first
+     * @return Number of entities appended
+     */
+    public int getEntities(int tileX, int tileY, int z, List<Object> out) {
+        return occupancy.collect(TileCoord.pack(tileX, tileY, z), out);
     }
 
     /**
      * Clears all entity registrations.
      */
-    public synchronized void clear() {
+    public void clear() {
         occupancy.clear();
     }
 
     /**
      * Gets the total number of registered entities across all tiles.
      */
-    public synchronized int getEntityCount() {
-        int count = 0;
-        for (Set<Object> entities : occupancy.values()) {
-            count += entities.size();
-        }
-        return count;
+    public int getEntityCount() {
+        return occupancy.getItemCount();
     }
 
     /**
-     * Encodes tile coordinates into a 64-bit key.
-     * Uses (x, y, z) where z is stored in the upper bits.
+     * Creates an independent snapshot, safe to read on another thread.
      */
-    private static long key(int x, int y, int z) {
-        // Pack: z (16 bits) | x (24 bits) | y (24 bits)
-        return ((long) z << 48) | ((long) (x & 0xFFFFFF) << 24) | (y & 0xFFFFFF);
+    public EntityOccupancyMap copy() {
+        return new EntityOccupancyMap(occupancy.copy());
     }
 
     @Override
     public String toString() {
         return String.format("EntityOccupancyMap[occupiedTiles=%d, totalEntities=%d]",
-                occupancy.size(), getEntityCount());
+                occupancy.getTileCount(), getEntityCount());
     }
-}
\ No newline at end of file
+}
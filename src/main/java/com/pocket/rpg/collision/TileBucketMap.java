@@ -0,0 +1,293 @@
+package com.pocket.rpg.collision;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Open-addressing map from packed tile keys ({@link com.pocket.rpg.collision.trigger.TileCoord#pack})
+ * to small sets of items.
+ * <p>
+ * Each slot holds its items inline in a short array that is kept when the slot empties,
+ * so registering, moving and querying entities allocates nothing once the map has
+ * warmed up. Linear probing with backward-shift deletion, no tombstones.
+ * <p>
+ * Not thread-safe: single writer, reads on the same thread. Use {@link #copy()} to hand a
+ * snapshot to another thread.
+ *
+ * @param <T> Item type
+ */
+final class TileBucketMap<T> {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int INITIAL_BUCKET_SIZE = 2;
+
+    private long[] keys;
+    private Object[][] items;
+    private int[] counts;
+    private boolean[] used;
+    private int mask;
+
+    private int tileCount;
+    private int itemCount;
+
+    TileBucketMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        items = new Object[capacity][];
+        counts = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    // ========================================================================
+    // WRITES
+    // ========================================================================
+
+    /**
+     * Adds an item to a tile. Does nothing if it is already there.
+     *
+     * @return true if the item was added
+     */
+    boolean add(long key, T item) {
+        int slot = find(key);
+        if (slot < 0) {
+            if ((tileCount + 1) * 4 > keys.length * 3) {
+                resize(keys.length * 2);
+            }
+            slot = insertSlot(key);
+        } else if (indexOf(slot, item) >= 0) {
+            return false;
+        }
+
+        Object[] bucket = items[slot];
+        int count = counts[slot];
+        if (bucket == null) {
+            bucket = items[slot] = new Object[INITIAL_BUCKET_SIZE];
+        } else if (count == bucket.length) {
+            bucket = items[slot] = Arrays.copyOf(bucket, count * 2);
+        }
+        bucket[count] = item;
+        counts[slot] = count + 1;
+        itemCount++;
+        return true;
+    }
+
+    /**
+     * Removes an item from a tile.
+     *
+     * @return true if the item was there
+     */
+    boolean remove(long key, Object item) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        int index = indexOf(slot, item);
+        if (index < 0) {
+            return false;
+        }
+
+        Object[] bucket = items[slot];
+        int last = --counts[slot];
+        bucket[index] = bucket[last];
+        bucket[last] = null;
+        itemCount--;
+
+        if (last == 0) {
+            deleteSlot(slot);
+        }
+        return true;
+    }
+
+    /**
+     * Removes everything, keeping the allocated capacity.
+     */
+    void clear() {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (used[slot]) {
+                Arrays.fill(items[slot], 0, counts[slot], null);
+                counts[slot] = 0;
+                used[slot] = false;
+            }
+        }
+        tileCount = 0;
+        itemCount = 0;
+    }
+
+    // ========================================================================
+    // READS
+    // ========================================================================
+
+    /**
+     * @return Slot holding the tile's items, or -1 if the tile is empty
+     */
+    int find(long key) {
+        int slot = hash(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @return Number of items in a slot returned by {@link #find}
+     */
+    int countAt(int slot) {
+        return counts[slot];
+    }
+
+    /**
+     * @return Item {@code index} of a slot returned by {@link #find}
+     */
+    @SuppressWarnings("unchecked")
+    T itemAt(int slot, int index) {
+        return (T) items[slot][index];
+    }
+
+    /**
+     * @return true if the tile holds an item other than {@code exclude} (null excludes nothing)
+     */
+    boolean containsOther(long key, Object exclude) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        int count = counts[slot];
+        return exclude == null || count > 1 || items[slot][0] != exclude;
+    }
+
+    /**
+     * Appends the tile's items to {@code out}.
+     *
+     * @return Number of items appended
+     */
+    int collect(long key, List<? super T> out) {
+        int slot = find(key);
+        if (slot < 0) {
+            return 0;
+        }
+        int count = counts[slot];
+        for (int i = 0; i < count; i++) {
+            out.add(itemAt(slot, i));
+        }
+        return count;
+    }
+
+    int getTileCount() {
+        return tileCount;
+    }
+
+    int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * @return Independent copy, safe to read on another thread while this map changes
+     */
+    TileBucketMap<T> copy() {
+        TileBucketMap<T> copy = new TileBucketMap<>();
+        copy.allocate(keys.length);
+        copy.tileCount = tileCount;
+        copy.itemCount = itemCount;
+        System.arraycopy(keys, 0, copy.keys, 0, keys.length);
+        System.arraycopy(counts, 0, copy.counts, 0, counts.length);
+        System.arraycopy(used, 0, copy.used, 0, used.length);
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (used[slot]) {
+                copy.items[slot] = Arrays.copyOf(items[slot], counts[slot]);
+            }
+        }
+        return copy;
+    }
+
+    // ========================================================================
+    // INTERNALS
+    // ========================================================================
+
+    private int indexOf(int slot, Object item) {
+        Object[] bucket = items[slot];
+        int count = counts[slot];
+        for (int i = 0; i < count; i++) {
+            if (bucket[i] == item || bucket[i].equals(item)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int insertSlot(long key) {
+        int slot = hash(key) & mask;
+        while (used[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        used[slot] = true;
+        keys[slot] = key;
+        tileCount++;
+        return slot;
+    }
+
+    /**
+     * Frees an empty slot, shifting later entries of its probe run back so lookups never
+     * stop early. Item arrays travel with their entries; the freed array stays behind
+     * for reuse.
+     */
+    private void deleteSlot(int slot) {
+        used[slot] = false;
+        tileCount--;
+
+        int free = slot;
+        int next = (slot + 1) & mask;
+        while (used[next]) {
+            int home = hash(keys[next]) & mask;
+            // Move the entry if its home is not cyclically within (free, next]
+            boolean movable = free <= next
+                    ? home <= free || home > next
+                    : home <= free && home > next;
+            if (movable) {
+                Object[] spare = items[free];
+                keys[free] = keys[next];
+                items[free] = items[next];
+                counts[free] = counts[next];
+                used[free] = true;
+                items[next] = spare;
+                counts[next] = 0;
+                used[next] = false;
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[][] oldItems = items;
+        int[] oldCounts = counts;
+        boolean[] oldUsed = used;
+
+        allocate(capacity);
+        tileCount = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int slot = insertSlot(oldKeys[i]);
+                items[slot] = oldItems[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        // MurmurHash3 finalizer: packed coordinates differ mostly in low bits per field
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
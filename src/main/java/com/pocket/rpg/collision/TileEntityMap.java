@@ -13,11 +13,24 @@ import java.util.*;
  * - Trigger queries (after movement) - finds TriggerZone components
  * - Future: damage zones, cutscene triggers, etc.
  * <p>
- * Thread-safe for concurrent access.
+ * Backed by a {@link TileBucketMap}. Registration and blocking queries do not allocate;
+ * per-frame code should use the buffer-filling {@code collect} variants over the
+ * allocating {@code getAll}/{@code get}.
+ * <p>
+ * Not thread-safe: written and read on the main thread. Use {@link #copy()} to give
+ * another thread a snapshot.
  */
 public class TileEntityMap {
 
-    private final Map<Long, Set<Component>> entities = new HashMap<>();
+    private final TileBucketMap<Component> entities;
+
+    public TileEntityMap() {
+        this(new TileBucketMap<>());
+    }
+
+    private TileEntityMap(TileBucketMap<Component> entities) {
+        this.entities = entities;
+    }
 
     // ========================================================================
     // REGISTRATION
@@ -26,53 +39,52 @@ public class TileEntityMap {
     /**
      * Registers a component at a tile position.
      */
-    public synchronized void register(Component comp, TileCoord tile) {
-        long key = tile.pack();
-        entities.computeIfAbsent(key, k -> new HashSet<>()).add(comp);
+    public void register(Component comp, TileCoord tile) {
+        entities.add(tile.pack(), comp);
     }
 
     /**
      * Registers a component at a tile position (x, y, z).
      */
-    public synchronized void register(Component comp, int x, int y, int z) {
-        register(comp, new TileCoord(x, y, z));
+    public void register(Component comp, int x, int y, int z) {
+        entities.add(TileCoord.pack(x, y, z), comp);
     }
 
     /**
      * Unregisters a component from a tile position.
      */
-    public synchronized void unregister(Component comp, TileCoord tile) {
-        long key = tile.pack();
-        Set<Component> set = entities.get(key);
-        if (set != null) {
-            set.remove(comp);
-            if (set.isEmpty()) {
-                entities.remove(key);
-            }
-        }
+    public void unregister(Component comp, TileCoord tile) {
+        entities.remove(tile.pack(), comp);
     }
 
     /**
      * Unregisters a component from a tile position (x, y, z).
      */
-    public synchronized void unregister(Component comp, int x, int y, int z) {
-        unregister(comp, new TileCoord(x, y, z));
+    public void unregister(Component comp, int x, int y, int z) {
+        entities.remove(TileCoord.pack(x, y, z), comp);
     }
 
     /**
      * Moves a component from one tile to another.
      */
-    public synchronized void move(Component comp, TileCoord from, TileCoord to) {
-        unregister(comp, from);
-        register(comp, to);
+    public void move(Component comp, TileCoord from, TileCoord to) {
+        move(comp, from.pack(), to.pack());
     }
 
     /**
      * Moves a component from one tile to another (x, y, z).
      */
-    public synchronized void move(Component comp, int fromX, int fromY, int fromZ,
-                                  int toX, int toY, int toZ) {
-        move(comp, new TileCoord(fromX, fromY, fromZ), new TileCoord(toX, toY, toZ));
+    public void move(Component comp, int fromX, int fromY, int fromZ,
+                     int toX, int toY, int toZ) {
+        move(comp, TileCoord.pack(fromX, fromY, fromZ), TileCoord.pack(toX, toY, toZ));
+    }
+
+    private void move(Component comp, long from, long to) {
+        if (from == to) {
+            return;
+        }
+        entities.remove(from, comp);
+        entities.add(to, comp);
     }
 
     // ========================================================================
@@ -80,46 +92,97 @@ public class TileEntityMap {
     // ========================================================================
 
     /**
-     * Gets all components at a tile.
+     * Gets all components at a tile. Allocates a new set.
      */
-    public synchronized Set<Component> getAll(TileCoord tile) {
-        Set<Component> set = entities.get(tile.pack());
-        return set != null ? new HashSet<>(set) : Collections.emptySet();
+    public Set<Component> getAll(TileCoord tile) {
+        return getAll(tile.x(), tile.y(), tile.elevation());
     }
 
     /**
-     * Gets all components at a tile (x, y, z).
+     * Gets all components at a tile (x, y, z). Allocates a new set.
      */
-    public synchronized Set<Component> getAll(int x, int y, int z) {
-        return getAll(new TileCoord(x, y, z));
+    public Set<Component> getAll(int x, int y, int z) {
+        int slot = entities.find(TileCoord.pack(x, y, z));
+        if (slot < 0) {
+            return Collections.emptySet();
+        }
+        Set<Component> result = new HashSet<>();
+        for (int i = 0; i < entities.countAt(slot); i++) {
+            result.add(entities.itemAt(slot, i));
+        }
+        return result;
+    }
+
+    /**
+     * Appends all components at a tile to a caller-supplied list.
+     *
+     * @param out Receives the components; not cleared first
+     * @return Number of components appended
+     */
+    public int collect(int x, int y, int z, List<? super Component> out) {
+        return entities.collect(TileCoord.pack(x, y, z), out);
     }
 
     /**
      * Gets components of a specific type at a tile.
+     * Returns an immutable empty list, without allocating, when there are none.
      */
-    public synchronized <T> List<T> get(TileCoord tile, Class<T> type) {
+    public <T> List<T> get(TileCoord tile, Class<T> type) {
+        return get(tile.x(), tile.y(), tile.elevation(), type);
+    }
+
+    /**
+     * Gets components of a specific type at a tile (x, y, z).
+     * Returns an immutable empty list, without allocating, when there are none.
+     */
+    public <T> List<T> get(int x, int y, int z, Class<T> type) {
+        if (!hasType(x, y, z, type)) {
+            return Collections.emptyList();
+        }
         List<T> result = new ArrayList<>();
-        for (Component c : getAll(tile)) {
+        collect(x, y, z, type, result);
+        return result;
+    }
+
+    /**
+     * Appends components of a specific type at a tile to a caller-supplied list.
+     *
+     * @param out Receives the components; not cleared first
+     * @return Number of components appended
+     */
+    public <T> int collect(int x, int y, int z, Class<T> type, List<? super T> out) {
+        int slot = entities.find(TileCoord.pack(x, y, z));
+        if (slot < 0) {
+            return 0;
+        }
+        int added = 0;
+        for (int i = 0; i < entities.countAt(slot); i++) {
+            Component c = entities.itemAt(slot, i);
             if (type.isInstance(c)) {
-                result.add(type.cast(c));
+                out.add(type.cast(c));
+                added++;
             }
         }
-        return result;
+        return added;
     }
 
     /**
-     * Gets components of a specific type at a tile (x, y, z).
+     * Checks if tile has any component of the given type.
      */
-    public synchronized <T> List<T> get(int x, int y, int z, Class<T> type) {
-        return get(new TileCoord(x, y, z), type);
+    public <T> boolean hasType(TileCoord tile, Class<T> type) {
+        return hasType(tile.x(), tile.y(), tile.elevation(), type);
     }
 
     /**
-     * Checks if tile has any component of the given type.
+     * Checks if tile has any component of the given type (x, y, z).
      */
-    public synchronized <T> boolean hasType(TileCoord tile, Class<T> type) {
-        for (Component c : getAll(tile)) {
-            if (type.isInstance(c)) {
+    public <T> boolean hasType(int x, int y, int z, Class<T> type) {
+        int slot = entities.find(TileCoord.pack(x, y, z));
+        if (slot < 0) {
+            return false;
+        }
+        for (int i = 0; i < entities.countAt(slot); i++) {
+            if (type.isInstance(entities.itemAt(slot, i))) {
                 return true;
             }
         }
@@ -139,8 +202,20 @@ public class TileEntityMap {
      * @param mover The entity trying to move (excluded from check), can be null
      * @return true if blocked by another entity
      */
-    public synchronized boolean isBlocked(TileCoord tile, Object mover) {
-        for (Component c : getAll(tile)) {
+    public boolean isBlocked(TileCoord tile, Object mover) {
+        return isBlocked(tile.x(), tile.y(), tile.elevation(), mover);
+    }
+
+    /**
+     * Checks if tile is blocked (x, y, z variant).
+     */
+    public boolean isBlocked(int x, int y, int z, Object mover) {
+        int slot = entities.find(TileCoord.pack(x, y, z));
+        if (slot < 0) {
+            return false;
+        }
+        for (int i = 0; i < entities.countAt(slot); i++) {
+            Component c = entities.itemAt(slot, i);
             if (c == mover) continue;
             if (c instanceof BlockingComponent bc && bc.isBlocking()) {
                 return true;
@@ -149,13 +224,6 @@ public class TileEntityMap {
         return false;
     }
 
-    /**
-     * Checks if tile is blocked (x, y, z variant).
-     */
-    public synchronized boolean isBlocked(int x, int y, int z, Object mover) {
-        return isBlocked(new TileCoord(x, y, z), mover);
-    }
-
     // ========================================================================
     // UTILITY
     // ========================================================================
@@ -163,26 +231,29 @@ public class TileEntityMap {
     /**
      * Clears all registrations.
      */
-    public synchronized void clear() {
+    public void clear() {
         entities.clear();
     }
 
     /**
      * Gets the number of tiles with registered components.
      */
-    public synchronized int getTileCount() {
-        return entities.size();
+    public int getTileCount() {
+        return entities.getTileCount();
     }
 
     /**
      * Gets the total number of registered components.
      */
-    public synchronized int getComponentCount() {
-        int count = 0;
-        for (Set<Component> set : entities.values()) {
-            count += set.size();
-        }
-        return count;
+    public int getComponentCount() {
+        return entities.getItemCount();
+    }
+
+    /**
+     * Creates an independent snapshot, safe to read on another thread.
+     */
+    public TileEntityMap copy() {
+        return new TileEntityMap(entities.copy());
     }
 
     @Override
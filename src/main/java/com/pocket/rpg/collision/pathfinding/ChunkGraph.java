@@ -0,0 +1,230 @@
+package com.pocket.rpg.collision.pathfinding;
+
+import com.pocket.rpg.collision.Direction;
+import com.pocket.rpg.collision.behavior.TileBehavior;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inter-chunk portal graph for one terrain snapshot and one set of movement abilities.
+ * <p>
+ * Every (chunk, Z-level) is a region. A region's exits are the moves that leave it:
+ * border crossings, grouped into runs of up to {@link #MAX_RUN} tiles with one portal
+ * in the middle, plus individual ice slides and elevated ledges that land elsewhere.
+ * Distances from an entry tile to every exit of its region are computed on demand and
+ * cached, which makes them the edges of the graph.
+ * <p>
+ * Regions are built lazily by whichever thread needs them first. Each region records
+ * the chunks it read while being built, so a tile change only discards the regions
+ * that depend on the changed chunk (see {@link #retain}).
+ */
+final class ChunkGraph {
+
+    /** Longest border run represented by a single portal. */
+    static final int MAX_RUN = 8;
+
+    /** Cached entry tiles per region before the cache is reset. */
+    private static final int MAX_CACHED_ENTRIES = 1024;
+
+    /**
+     * A move leaving a region.
+     *
+     * @param fromIndex Local index of the tile the move starts from
+     * @param direction Move direction
+     * @param target    Packed landing tile, in another region
+     * @param cost      Move cost
+     */
+    record Transition(int fromIndex, Direction direction, long target, float cost) {
+    }
+
+    /**
+     * One chunk on one Z-level.
+     */
+    static final class Region {
+        final long key;
+        final int originX;
+        final int originY;
+        final int z;
+        final List<Transition> exits;
+        final Set<Long> dependencies;
+
+        private final Map<Integer, float[]> exitDistances = new ConcurrentHashMap<>();
+
+        Region(long key, List<Transition> exits, Set<Long> dependencies) {
+            this.key = key;
+            this.originX = NavTerrain.unpackX(key) * NavTerrain.SIZE;
+            this.originY = NavTerrain.unpackY(key) * NavTerrain.SIZE;
+            this.z = NavTerrain.unpackZ(key);
+            this.exits = exits;
+            this.dependencies = dependencies;
+        }
+
+        int tileX(int localIndex) {
+            return originX + localIndex / NavTerrain.SIZE;
+        }
+
+        int tileY(int localIndex) {
+            return originY + localIndex % NavTerrain.SIZE;
+        }
+
+        boolean contains(int x, int y, int tileZ) {
+            return tileZ == z
+                    && x >= originX && x < originX + NavTerrain.SIZE
+                    && y >= originY && y < originY + NavTerrain.SIZE;
+        }
+    }
+
+    @Getter
+    private final NavTerrain terrain;
+    @Getter
+    private final TileBehavior.MoveContext context;
+
+    private final Map<Long, Region> regions = new ConcurrentHashMap<>();
+
+    ChunkGraph(NavTerrain terrain, TileBehavior.MoveContext context) {
+        this.terrain = terrain;
+        this.context = context;
+    }
+
+    /**
+     * Creates a graph over a new terrain snapshot, keeping the regions of this one that
+     * did not read any of the changed chunks.
+     */
+    ChunkGraph retain(NavTerrain next, Collection<Long> changedChunks) {
+        ChunkGraph graph = new ChunkGraph(next, context);
+        for (Region region : regions.values()) {
+            if (Collections.disjoint(region.dependencies, changedChunks)) {
+                graph.regions.put(region.key, region);
+            }
+        }
+        return graph;
+    }
+
+    int getRegionCount() {
+        return regions.size();
+    }
+
+    /**
+     * Gets a region, building it if needed.
+     */
+    Region region(long chunkKey) {
+        Region region = regions.get(chunkKey);
+        if (region == null) {
+            region = build(chunkKey);
+            Region existing = regions.putIfAbsent(chunkKey, region);
+            if (existing != null) {
+                region = existing;
+            }
+        }
+        return region;
+    }
+
+    /**
+     * Terrain-only distances from a tile to each exit of its region, staying inside the
+     * region. Indexed like {@link Region#exits}; unreachable exits are
+     * {@link Float#POSITIVE_INFINITY}.
+     */
+    float[] exitDistances(Region region, int localIndex) {
+        float[] table = region.exitDistances.get(localIndex);
+        if (table == null) {
+            table = LocalSearch.current().exitDistances(this, region, localIndex);
+            if (region.exitDistances.size() >= MAX_CACHED_ENTRIES) {
+                region.exitDistances.clear();
+            }
+            region.exitDistances.put(localIndex, table);
+        }
+        return table;
+    }
+
+    // ========================================================================
+    // BUILDING
+    // ========================================================================
+
+    private Region build(long key) {
+        int size = NavTerrain.SIZE;
+        Region shape = new Region(key, List.of(), Set.of());
+        int z = shape.z;
+
+        Set<Long> dependencies = new HashSet<>();
+        dependencies.add(key);
+        List<Transition> exits = new ArrayList<>();
+        NavTerrain.Move move = new NavTerrain.Move();
+
+        // Single-tile border crossings, grouped into runs
+        float[] costs = new float[size];
+        for (Direction dir : Direction.values()) {
+            int runStart = -1;
+            for (int i = 0; i <= size; i++) {
+                boolean open = false;
+                if (i < size) {
+                    int x = borderX(shape, dir, i);
+                    int y = borderY(shape, dir, i);
+                    open = terrain.step(x, y, z, dir, context, null, dependencies, move)
+                            && move.tiles == 1 && move.z == z && !shape.contains(move.x, move.y, move.z);
+                    costs[i] = move.cost;
+                }
+
+                if (open) {
+                    if (runStart < 0) {
+                        runStart = i;
+                    } else if (i - runStart == MAX_RUN) {
+                        exits.add(portal(shape, dir, runStart, i - 1, costs));
+                        runStart = i;
+                    }
+                } else if (runStart >= 0) {
+                    exits.add(portal(shape, dir, runStart, i - 1, costs));
+                    runStart = -1;
+                }
+            }
+        }
+
+        // Slides and elevation changes that land outside the region
+        for (int index = 0; index < NavTerrain.TILES_PER_CHUNK; index++) {
+            int x = shape.tileX(index);
+            int y = shape.tileY(index);
+            for (Direction dir : Direction.values()) {
+                if (!terrain.step(x, y, z, dir, context, null, dependencies, move)) {
+                    continue;
+                }
+                if (shape.contains(move.x, move.y, move.z) || (move.tiles == 1 && move.z == z)) {
+                    continue;
+                }
+                exits.add(new Transition(index, dir, NavTerrain.pack(move.x, move.y, move.z), move.cost));
+            }
+        }
+
+        return new Region(key, List.copyOf(exits), dependencies);
+    }
+
+    private static Transition portal(Region region, Direction dir, int runStart, int runEnd, float[] costs) {
+        int mid = (runStart + runEnd) / 2;
+        int x = borderX(region, dir, mid);
+        int y = borderY(region, dir, mid);
+        return new Transition(NavTerrain.localIndex(x, y), dir,
+                NavTerrain.pack(x + dir.dx, y + dir.dy, region.z), costs[mid]);
+    }
+
+    private static int borderX(Region region, Direction dir, int i) {
+        return switch (dir) {
+            case LEFT -> region.originX;
+            case RIGHT -> region.originX + NavTerrain.SIZE - 1;
+            case UP, DOWN -> region.originX + i;
+        };
+    }
+
+    private static int borderY(Region region, Direction dir, int i) {
+        return switch (dir) {
+            case DOWN -> region.originY;
+            case UP -> region.originY + NavTerrain.SIZE - 1;
+            case LEFT, RIGHT -> region.originY + i;
+        };
+    }
+}
@@ -0,0 +1,196 @@
+package com.pocket.rpg.collision.pathfinding;
+
+import com.pocket.rpg.collision.Direction;
+import com.pocket.rpg.collision.trigger.TileCoord;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A* and Dijkstra restricted to one region (32x32 tiles on one Z-level).
+ * <p>
+ * Working arrays are sized for one chunk and reused across searches, one instance
+ * per thread (see {@link #current()}). Moves that land outside the region are
+ * skipped; leaving a region is the job of the portal graph.
+ */
+final class LocalSearch {
+
+    private static final ThreadLocal<LocalSearch> INSTANCES = ThreadLocal.withInitial(LocalSearch::new);
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int NO_PARENT = -1;
+
+    private final float[] cost = new float[NavTerrain.TILES_PER_CHUNK];
+    private final int[] parent = new int[NavTerrain.TILES_PER_CHUNK];
+    private final byte[] parentDir = new byte[NavTerrain.TILES_PER_CHUNK];
+    private final boolean[] closed = new boolean[NavTerrain.TILES_PER_CHUNK];
+    private final NavTerrain.Move move = new NavTerrain.Move();
+
+    // Binary min-heap of (tile, priority), stale entries skipped on pop
+    private int[] heapNodes = new int[256];
+    private float[] heapKeys = new float[256];
+    private int heapSize;
+
+    static LocalSearch current() {
+        return INSTANCES.get();
+    }
+
+    /**
+     * Terrain-only costs from a tile to every tile of the region.
+     *
+     * @return New array, {@link Float#POSITIVE_INFINITY} for unreachable tiles
+     */
+    float[] distances(ChunkGraph graph, ChunkGraph.Region region, int source) {
+        search(graph, region, source, NO_PARENT, null);
+        return Arrays.copyOf(cost, cost.length);
+    }
+
+    /**
+     * Terrain-only costs from a tile to the start tile of each region exit.
+     *
+     * @return New array indexed like {@code region.exits}
+     */
+    float[] exitDistances(ChunkGraph graph, ChunkGraph.Region region, int source) {
+        search(graph, region, source, NO_PARENT, null);
+        float[] result = new float[region.exits.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = cost[region.exits.get(i).fromIndex()];
+        }
+        return result;
+    }
+
+    /**
+     * Finds a path between two tiles of the region and appends its steps.
+     *
+     * @param blocker Entity check, or null for terrain only
+     * @param out     Receives the steps on success
+     * @return false if the target cannot be reached inside the region
+     */
+    boolean path(ChunkGraph graph, ChunkGraph.Region region, int from, int to,
+                 NavTerrain.Blocker blocker, List<PathStep> out) {
+        if (from == to) {
+            return true;
+        }
+        if (!search(graph, region, from, to, blocker)) {
+            return false;
+        }
+
+        int count = 0;
+        for (int node = to; node != from; node = parent[node]) {
+            count++;
+        }
+        int insertAt = out.size();
+        for (int i = 0; i < count; i++) {
+            out.add(null);
+        }
+        int slot = insertAt + count - 1;
+        for (int node = to; node != from; node = parent[node]) {
+            TileCoord target = new TileCoord(region.tileX(node), region.tileY(node), region.z);
+            out.set(slot--, new PathStep(DIRECTIONS[parentDir[node]], target));
+        }
+        return true;
+    }
+
+    /**
+     * Runs A* towards {@code target}, or Dijkstra over the whole region when the target
+     * is {@link #NO_PARENT}.
+     */
+    private boolean search(ChunkGraph graph, ChunkGraph.Region region, int source, int target,
+                           NavTerrain.Blocker blocker) {
+        NavTerrain terrain = graph.getTerrain();
+        Arrays.fill(cost, Float.POSITIVE_INFINITY);
+        Arrays.fill(closed, false);
+        heapSize = 0;
+
+        int targetX = target == NO_PARENT ? 0 : region.tileX(target);
+        int targetY = target == NO_PARENT ? 0 : region.tileY(target);
+
+        cost[source] = 0f;
+        parent[source] = NO_PARENT;
+        push(source, 0f);
+
+        while (heapSize > 0) {
+            int node = pop();
+            if (closed[node]) {
+                continue;
+            }
+            if (node == target) {
+                return true;
+            }
+            closed[node] = true;
+
+            int x = region.tileX(node);
+            int y = region.tileY(node);
+            for (Direction dir : DIRECTIONS) {
+                if (!terrain.step(x, y, region.z, dir, graph.getContext(), blocker, null, move)) {
+                    continue;
+                }
+                if (!region.contains(move.x, move.y, move.z)) {
+                    continue;
+                }
+                int next = NavTerrain.localIndex(move.x, move.y);
+                float nextCost = cost[node] + move.cost;
+                if (closed[next] || nextCost >= cost[next]) {
+                    continue;
+                }
+                cost[next] = nextCost;
+                parent[next] = node;
+                parentDir[next] = (byte) dir.ordinal();
+
+                float priority = nextCost;
+                if (target != NO_PARENT) {
+                    priority += (Math.abs(targetX - move.x) + Math.abs(targetY - move.y)) / NavTerrain.MAX_SPEED;
+                }
+                push(next, priority);
+            }
+        }
+        return target == NO_PARENT;
+    }
+
+    // ========================================================================
+    // HEAP
+    // ========================================================================
+
+    private void push(int node, float key) {
+        if (heapSize == heapNodes.length) {
+            heapNodes = Arrays.copyOf(heapNodes, heapSize * 2);
+            heapKeys = Arrays.copyOf(heapKeys, heapSize * 2);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int up = (i - 1) >>> 1;
+            if (heapKeys[up] <= key) {
+                break;
+            }
+            heapNodes[i] = heapNodes[up];
+            heapKeys[i] = heapKeys[up];
+            i = up;
+        }
+        heapNodes[i] = node;
+        heapKeys[i] = key;
+    }
+
+    private int pop() {
+        int result = heapNodes[0];
+        int lastNode = heapNodes[--heapSize];
+        float lastKey = heapKeys[heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) {
+                child++;
+            }
+            if (heapKeys[child] >= lastKey) {
+                break;
+            }
+            heapNodes[i] = heapNodes[child];
+            heapKeys[i] = heapKeys[child];
+            i = child;
+        }
+        heapNodes[i] = lastNode;
+        heapKeys[i] = lastKey;
+        return result;
+    }
+}
@@ -0,0 +1,306 @@
+package com.pocket.rpg.collision.pathfinding;
+
+import com.pocket.rpg.collision.CollisionMap;
+import com.pocket.rpg.collision.CollisionType;
+import com.pocket.rpg.collision.Direction;
+import com.pocket.rpg.collision.MoveResult;
+import com.pocket.rpg.collision.MovementModifier;
+import com.pocket.rpg.collision.behavior.CollisionBehaviorRegistry;
+import com.pocket.rpg.collision.behavior.TileBehavior;
+import com.pocket.rpg.collision.trigger.TileCoord;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of a {@link CollisionMap}, safe to read from worker threads.
+ * <p>
+ * Each chunk is copied into a flat array of collision type ordinals. Chunks that are
+ * missing from the map read as {@link CollisionType#NONE}; tiles outside the bounding
+ * box of all chunks (every Z-level) are not navigable, so searches stay finite.
+ * <p>
+ * {@link #step} reproduces what {@code GridMovement} does for one {@code move(Direction)}:
+ * the tile behavior check, elevation change from elevated ledges, and ice sliding.
+ */
+final class NavTerrain {
+
+    static final int SIZE = CollisionMap.CollisionChunk.CHUNK_SIZE;
+    static final int TILES_PER_CHUNK = SIZE * SIZE;
+
+    /** Upper bound on tiles crossed by one slide, in case of unbounded ice. */
+    private static final int MAX_SLIDE = 256;
+
+    private static final CollisionType[] TYPES = CollisionType.values();
+    private static final CollisionBehaviorRegistry BEHAVIORS = CollisionBehaviorRegistry.getInstance();
+
+    /** Fastest movement modifier, used to keep the A* heuristic admissible. */
+    static final float MAX_SPEED;
+
+    static {
+        float max = 0f;
+        for (MovementModifier modifier : MovementModifier.values()) {
+            max = Math.max(max, modifier.getSpeedMultiplier());
+        }
+        MAX_SPEED = max;
+    }
+
+    /**
+     * Extra blocking check applied on top of terrain (entity occupancy).
+     */
+    @FunctionalInterface
+    interface Blocker {
+        boolean isBlocked(int x, int y, int z);
+    }
+
+    /**
+     * Result of {@link #step}. Reused by callers to avoid allocation.
+     */
+    static final class Move {
+        int x;
+        int y;
+        int z;
+        int tiles;
+        float cost;
+    }
+
+    private final Map<Long, byte[]> chunks;
+    private final int minX;
+    private final int minY;
+    private final int maxX;
+    private final int maxY;
+
+    // Dense lookup built from the chunk map: grids[level][(cx - minCx) * chunkRows + (cy - minCy)]
+    private final int[] levels;
+    private final byte[][][] grids;
+    private final int minCx;
+    private final int minCy;
+    private final int chunkRows;
+
+    private NavTerrain(Map<Long, byte[]> chunks, CollisionMap map) {
+        this.chunks = chunks;
+
+        int minCx = Integer.MAX_VALUE, minCy = Integer.MAX_VALUE;
+        int maxCx = Integer.MIN_VALUE, maxCy = Integer.MIN_VALUE;
+        for (int z : map.getZLevels()) {
+            for (long chunkKey : map.getChunkKeysForLevel(z)) {
+                int cx = CollisionMap.chunkKeyToX(chunkKey);
+                int cy = CollisionMap.chunkKeyToY(chunkKey);
+                minCx = Math.min(minCx, cx);
+                minCy = Math.min(minCy, cy);
+                maxCx = Math.max(maxCx, cx);
+                maxCy = Math.max(maxCy, cy);
+            }
+        }
+        if (maxCx == Integer.MIN_VALUE) {
+            // Empty map: nothing is navigable
+            this.minX = 0;
+            this.minY = 0;
+            this.maxX = -1;
+            this.maxY = -1;
+        } else {
+            this.minX = minCx * SIZE;
+            this.minY = minCy * SIZE;
+            this.maxX = maxCx * SIZE + SIZE - 1;
+            this.maxY = maxCy * SIZE + SIZE - 1;
+        }
+
+        this.minCx = Math.floorDiv(minX, SIZE);
+        this.minCy = Math.floorDiv(minY, SIZE);
+        this.chunkRows = Math.max(0, (maxY - minY + 1) / SIZE);
+        int chunkColumns = Math.max(0, (maxX - minX + 1) / SIZE);
+
+        Set<Integer> zLevels = map.getZLevels();
+        this.levels = new int[zLevels.size()];
+        this.grids = new byte[zLevels.size()][][];
+        int level = 0;
+        for (int z : zLevels) {
+            levels[level] = z;
+            grids[level] = new byte[chunkColumns * chunkRows][];
+            level++;
+        }
+        for (Map.Entry<Long, byte[]> entry : chunks.entrySet()) {
+            long key = entry.getKey();
+            int levelIndex = levelIndex(unpackZ(key));
+            if (levelIndex >= 0) {
+                grids[levelIndex][(unpackX(key) - minCx) * chunkRows + (unpackY(key) - minCy)] = entry.getValue();
+            }
+        }
+    }
+
+    /**
+     * Copies every chunk of the map.
+     */
+    static NavTerrain capture(CollisionMap map) {
+        Map<Long, byte[]> chunks = new HashMap<>();
+        for (int z : map.getZLevels()) {
+            for (CollisionMap.CollisionChunk chunk : map.getChunksForLevel(z)) {
+                chunks.put(pack(chunk.getChunkX(), chunk.getChunkY(), z), copy(chunk));
+            }
+        }
+        return new NavTerrain(chunks, map);
+    }
+
+    /**
+     * Returns a new snapshot sharing unchanged chunks with this one.
+     *
+     * @param map     Live collision map
+     * @param changed Packed (cx, cy, z) keys of chunks to copy again
+     */
+    NavTerrain withChanges(CollisionMap map, Collection<Long> changed) {
+        Map<Long, byte[]> next = new HashMap<>(chunks);
+        for (long key : changed) {
+            CollisionMap.CollisionChunk chunk = map.getChunk(unpackX(key), unpackY(key), unpackZ(key));
+            if (chunk == null) {
+                next.remove(key);
+            } else {
+                next.put(key, copy(chunk));
+            }
+        }
+        return new NavTerrain(next, map);
+    }
+
+    private static byte[] copy(CollisionMap.CollisionChunk chunk) {
+        // Chunk ordinals use the same tx * SIZE + ty layout as localIndex()
+        byte[] types = new byte[TILES_PER_CHUNK];
+        chunk.copyOrdinals(types);
+        return types;
+    }
+
+    // ========================================================================
+    // QUERIES
+    // ========================================================================
+
+    /**
+     * @return true if both snapshots cover the same tile area
+     */
+    boolean sameBounds(NavTerrain other) {
+        return minX == other.minX && minY == other.minY && maxX == other.maxX && maxY == other.maxY;
+    }
+
+    boolean inBounds(int x, int y) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY;
+    }
+
+    CollisionType typeAt(int x, int y, int z) {
+        int level = levelIndex(z);
+        if (level < 0 || !inBounds(x, y)) {
+            return CollisionType.NONE;
+        }
+        int cx = Math.floorDiv(x, SIZE);
+        int cy = Math.floorDiv(y, SIZE);
+        byte[] types = grids[level][(cx - minCx) * chunkRows + (cy - minCy)];
+        if (types == null) {
+            return CollisionType.NONE;
+        }
+        return TYPES[types[(x - cx * SIZE) * SIZE + (y - cy * SIZE)]];
+    }
+
+    private int levelIndex(int z) {
+        for (int i = 0; i < levels.length; i++) {
+            if (levels[i] == z) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Simulates one move command from (x, y, z).
+     *
+     * @param context Movement abilities
+     * @param blocker Entity check, or null for terrain only
+     * @param touched Receives the chunk key of every tile examined, or null
+     * @param out     Receives the landing tile, tiles crossed and cost
+     * @return false if the move is blocked
+     */
+    boolean step(int x, int y, int z, Direction dir, TileBehavior.MoveContext context,
+                 Blocker blocker, Set<Long> touched, Move out) {
+        int tx = x + dir.dx;
+        int ty = y + dir.dy;
+        MovementModifier modifier = enter(x, y, z, tx, ty, dir, context, blocker, touched);
+        if (modifier == null) {
+            return false;
+        }
+
+        int tiles = 1;
+        float cost = 1f / modifier.getSpeedMultiplier();
+
+        // Ice keeps sliding in the same direction until blocked or off the ice
+        while (modifier == MovementModifier.SLIDE && tiles < MAX_SLIDE) {
+            int nx = tx + dir.dx;
+            int ny = ty + dir.dy;
+            MovementModifier next = enter(tx, ty, z, nx, ny, dir, context, blocker, touched);
+            if (next == null) {
+                break;
+            }
+            tx = nx;
+            ty = ny;
+            tiles++;
+            cost += 1f / next.getSpeedMultiplier();
+            modifier = next;
+        }
+
+        out.x = tx;
+        out.y = ty;
+        out.z = z + typeAt(tx, ty, z).getElevationChange();
+        out.tiles = tiles;
+        out.cost = cost;
+        return true;
+    }
+
+    private MovementModifier enter(int fromX, int fromY, int z, int toX, int toY, Direction dir,
+                                   TileBehavior.MoveContext context, Blocker blocker, Set<Long> touched) {
+        if (!inBounds(toX, toY)) {
+            return null;
+        }
+        if (touched != null) {
+            touched.add(pack(Math.floorDiv(toX, SIZE), Math.floorDiv(toY, SIZE), z));
+        }
+        if (blocker != null && blocker.isBlocked(toX, toY, z)) {
+            return null;
+        }
+        TileBehavior behavior = BEHAVIORS.getBehavior(typeAt(toX, toY, z));
+        MoveResult result = behavior.checkMove(fromX, fromY, z, toX, toY, z, dir, context);
+        return result.allowed() ? result.modifier() : null;
+    }
+
+    // ========================================================================
+    // KEYS
+    // ========================================================================
+
+    /**
+     * Packs coordinates with {@link TileCoord#pack(int, int, int)}. Used for both tile
+     * keys and chunk keys.
+     */
+    static long pack(int x, int y, int z) {
+        return TileCoord.pack(x, y, z);
+    }
+
+    static int unpackX(long key) {
+        return ((int) (key & 0xFFFFF) << 12) >> 12;
+    }
+
+    static int unpackY(long key) {
+        return ((int) ((key >> 20) & 0xFFFFF) << 12) >> 12;
+    }
+
+    static int unpackZ(long key) {
+        return (short) ((key >> 40) & 0xFFFF);
+    }
+
+    /**
+     * Chunk key of the chunk containing a tile.
+     */
+    static long chunkOf(int x, int y, int z) {
+        return pack(Math.floorDiv(x, SIZE), Math.floorDiv(y, SIZE), z);
+    }
+
+    /**
+     * Index of a tile within its chunk.
+     */
+    static int localIndex(int x, int y) {
+        return Math.floorMod(x, SIZE) * SIZE + Math.floorMod(y, SIZE);
+    }
+}
@@ -0,0 +1,31 @@
+package com.pocket.rpg.collision.pathfinding;
+
+import java.util.List;
+
+/**
+ * Result of a path query.
+ *
+ * @param found Whether the goal is reachable
+ * @param steps Move commands from the start to the goal (empty if not found or already there)
+ */
+public record Path(boolean found, List<PathStep> steps) {
+
+    /**
+     * Result for an unreachable goal.
+     */
+    public static final Path NOT_FOUND = new Path(false, List.of());
+
+    /**
+     * @return Number of move commands
+     */
+    public int size() {
+        return steps.size();
+    }
+
+    /**
+     * @return The first move command, or null if there is none
+     */
+    public PathStep first() {
+        return steps.isEmpty() ? null : steps.get(0);
+    }
+}
@@ -0,0 +1,31 @@
+package com.pocket.rpg.collision.pathfinding;
+
+import com.pocket.rpg.collision.behavior.TileBehavior;
+import com.pocket.rpg.collision.trigger.TileCoord;
+
+/**
+ * Path query between two tiles.
+ *
+ * @param start         Starting tile (elevation = Z-level)
+ * @param goal          Goal tile (elevation = Z-level)
+ * @param entity        Moving entity, ignored by its own occupancy (may be null)
+ * @param context       Movement abilities (swim, fly)
+ * @param avoidEntities Whether tiles occupied by other entities are blocked
+ */
+public record PathRequest(TileCoord start, TileCoord goal, Object entity,
+                          TileBehavior.MoveContext context, boolean avoidEntities) {
+
+    /**
+     * Ground movement request that routes around other entities.
+     */
+    public static PathRequest of(TileCoord start, TileCoord goal, Object entity) {
+        return new PathRequest(start, goal, entity, TileBehavior.MoveContext.defaultContext(entity), true);
+    }
+
+    /**
+     * Ground movement request that only considers terrain.
+     */
+    public static PathRequest terrainOnly(TileCoord start, TileCoord goal) {
+        return new PathRequest(start, goal, null, TileBehavior.MoveContext.defaultContext(null), false);
+    }
+}
@@ -0,0 +1,15 @@
+package com.pocket.rpg.collision.pathfinding;
+
+import com.pocket.rpg.collision.Direction;
+import com.pocket.rpg.collision.trigger.TileCoord;
+
+/**
+ * One move command of a path: the direction to pass to {@code GridMovement.move()}
+ * and the tile the entity ends up on. A slide across ice is a single step whose
+ * target is where the slide stops.
+ *
+ * @param direction Direction to move
+ * @param target    Tile reached after the move, including any elevation change
+ */
+public record PathStep(Direction direction, TileCoord target) {
+}
@@ -0,0 +1,291 @@
+package com.pocket.rpg.collision.pathfinding;
+
+import com.pocket.rpg.collision.Direction;
+import com.pocket.rpg.collision.trigger.TileCoord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Hierarchical path search over a {@link ChunkGraph}.
+ * <p>
+ * A query first searches the portal graph (terrain only), then refines each hop with
+ * a {@link LocalSearch} inside its region, this time honouring entity occupancy. If
+ * entities block the planned route, a bounded tile-level A* looks for a detour.
+ * Stateless; safe to call from any thread.
+ */
+final class Pathfinder {
+
+    /** Portal graph nodes expanded before a query gives up. */
+    static final int MAX_ABSTRACT_EXPANSIONS = 50_000;
+
+    /** Tiles expanded by the entity detour search before it gives up. */
+    static final int MAX_DETOUR_EXPANSIONS = 20_000;
+
+    private static final long GOAL = Long.MAX_VALUE;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private Pathfinder() {
+    }
+
+    private static final class Node {
+        final long key;
+        float cost = Float.POSITIVE_INFINITY;
+        Node parent;
+        ChunkGraph.Transition via;
+        Direction direction;
+        boolean closed;
+
+        Node(long key) {
+            this.key = key;
+        }
+    }
+
+    private record QueueEntry(Node node, float priority) {
+    }
+
+    /**
+     * Finds a path for a request.
+     *
+     * @param graph   Portal graph matching the request's movement abilities
+     * @param blocker Entity check, or null for terrain only
+     */
+    static Path find(ChunkGraph graph, PathRequest request, NavTerrain.Blocker blocker) {
+        NavTerrain terrain = graph.getTerrain();
+        TileCoord start = request.start();
+        TileCoord goal = request.goal();
+
+        if (start.equals(goal)) {
+            return new Path(true, List.of());
+        }
+        if (!terrain.inBounds(start.x(), start.y()) || !terrain.inBounds(goal.x(), goal.y())) {
+            return Path.NOT_FOUND;
+        }
+
+        long startKey = NavTerrain.pack(start.x(), start.y(), start.elevation());
+        long goalKey = NavTerrain.pack(goal.x(), goal.y(), goal.elevation());
+        long startRegion = NavTerrain.chunkOf(start.x(), start.y(), start.elevation());
+        long goalRegion = NavTerrain.chunkOf(goal.x(), goal.y(), goal.elevation());
+
+        // Same chunk: a local search is usually enough
+        if (startRegion == goalRegion) {
+            List<PathStep> steps = new ArrayList<>();
+            if (LocalSearch.current().path(graph, graph.region(startRegion),
+                    NavTerrain.localIndex(start.x(), start.y()),
+                    NavTerrain.localIndex(goal.x(), goal.y()), blocker, steps)) {
+                return new Path(true, steps);
+            }
+        }
+
+        Node goalNode = searchPortals(graph, startKey, goalKey);
+        if (goalNode == null) {
+            return Path.NOT_FOUND;
+        }
+
+        List<PathStep> steps = refine(graph, goalNode, goalKey, blocker);
+        if (steps != null) {
+            return new Path(true, steps);
+        }
+
+        // The route exists but entities are in the way
+        return blocker != null ? searchTiles(terrain, graph, startKey, goalKey, blocker) : Path.NOT_FOUND;
+    }
+
+    // ========================================================================
+    // PORTAL GRAPH SEARCH
+    // ========================================================================
+
+    /**
+     * A* over region entry tiles. Nodes are tiles where a path enters a region; edges
+     * are in-region distances plus the cost of the exit move.
+     *
+     * @return The goal node, whose parent chain gives the hops, or null if unreachable
+     */
+    private static Node searchPortals(ChunkGraph graph, long startKey, long goalKey) {
+        int goalX = NavTerrain.unpackX(goalKey);
+        int goalY = NavTerrain.unpackY(goalKey);
+        long goalRegion = NavTerrain.chunkOf(goalX, goalY, NavTerrain.unpackZ(goalKey));
+        int goalIndex = NavTerrain.localIndex(goalX, goalY);
+
+        Map<Long, Node> nodes = new HashMap<>();
+        PriorityQueue<QueueEntry> open = new PriorityQueue<>((a, b) -> Float.compare(a.priority, b.priority));
+
+        Node startNode = new Node(startKey);
+        startNode.cost = 0f;
+        nodes.put(startKey, startNode);
+        open.add(new QueueEntry(startNode, 0f));
+
+        int expansions = 0;
+        while (!open.isEmpty() && expansions < MAX_ABSTRACT_EXPANSIONS) {
+            Node node = open.poll().node;
+            if (node.closed) {
+                continue;
+            }
+            if (node.key == GOAL) {
+                return node;
+            }
+            node.closed = true;
+            expansions++;
+
+            int x = NavTerrain.unpackX(node.key);
+            int y = NavTerrain.unpackY(node.key);
+            int z = NavTerrain.unpackZ(node.key);
+            ChunkGraph.Region region = graph.region(NavTerrain.chunkOf(x, y, z));
+            int localIndex = NavTerrain.localIndex(x, y);
+
+            if (region.key == goalRegion) {
+                float distance = LocalSearch.current().distances(graph, region, localIndex)[goalIndex];
+                if (distance < Float.POSITIVE_INFINITY) {
+                    relax(nodes, open, GOAL, node, null, node.cost + distance, 0f);
+                }
+            }
+
+            float[] exitDistances = graph.exitDistances(region, localIndex);
+            for (int i = 0; i < exitDistances.length; i++) {
+                float distance = exitDistances[i];
+                if (distance == Float.POSITIVE_INFINITY) {
+                    continue;
+                }
+                ChunkGraph.Transition exit = region.exits.get(i);
+                long target = exit.target();
+                float heuristic = (Math.abs(goalX - NavTerrain.unpackX(target))
+                        + Math.abs(goalY - NavTerrain.unpackY(target))) / NavTerrain.MAX_SPEED;
+                relax(nodes, open, target, node, exit, node.cost + distance + exit.cost(), heuristic);
+            }
+        }
+        return null;
+    }
+
+    private static void relax(Map<Long, Node> nodes, PriorityQueue<QueueEntry> open,
+                              long key, Node parent, ChunkGraph.Transition via, float cost, float heuristic) {
+        Node node = nodes.computeIfAbsent(key, Node::new);
+        if (node.closed || cost >= node.cost) {
+            return;
+        }
+        node.cost = cost;
+        node.parent = parent;
+        node.via = via;
+        open.add(new QueueEntry(node, cost + heuristic));
+    }
+
+    /**
+     * Expands portal hops into tile steps.
+     *
+     * @return The steps, or null if a hop is blocked by an entity
+     */
+    private static List<PathStep> refine(ChunkGraph graph, Node goalNode, long goalKey, NavTerrain.Blocker blocker) {
+        List<Node> hops = new ArrayList<>();
+        for (Node node = goalNode; node.parent != null; node = node.parent) {
+            hops.add(node);
+        }
+        Collections.reverse(hops);
+
+        NavTerrain terrain = graph.getTerrain();
+        NavTerrain.Move move = new NavTerrain.Move();
+        LocalSearch local = LocalSearch.current();
+        List<PathStep> steps = new ArrayList<>();
+
+        for (Node hop : hops) {
+            long from = hop.parent.key;
+            int fromX = NavTerrain.unpackX(from);
+            int fromY = NavTerrain.unpackY(from);
+            int fromZ = NavTerrain.unpackZ(from);
+            ChunkGraph.Region region = graph.region(NavTerrain.chunkOf(fromX, fromY, fromZ));
+            int fromIndex = NavTerrain.localIndex(fromX, fromY);
+
+            if (hop.key == GOAL) {
+                int goalIndex = NavTerrain.localIndex(NavTerrain.unpackX(goalKey), NavTerrain.unpackY(goalKey));
+                if (!local.path(graph, region, fromIndex, goalIndex, blocker, steps)) {
+                    return null;
+                }
+                continue;
+            }
+
+            ChunkGraph.Transition exit = hop.via;
+            if (!local.path(graph, region, fromIndex, exit.fromIndex(), blocker, steps)) {
+                return null;
+            }
+
+            // Re-check the exit move itself against entities
+            int exitX = region.tileX(exit.fromIndex());
+            int exitY = region.tileY(exit.fromIndex());
+            if (!terrain.step(exitX, exitY, region.z, exit.direction(), graph.getContext(), blocker, null, move)
+                    || NavTerrain.pack(move.x, move.y, move.z) != exit.target()) {
+                return null;
+            }
+            steps.add(new PathStep(exit.direction(), new TileCoord(move.x, move.y, move.z)));
+        }
+        return steps;
+    }
+
+    // ========================================================================
+    // TILE SEARCH (ENTITY DETOURS)
+    // ========================================================================
+
+    /**
+     * Bounded A* over individual tiles, used when entities block the portal route.
+     */
+    private static Path searchTiles(NavTerrain terrain, ChunkGraph graph, long startKey, long goalKey,
+                                    NavTerrain.Blocker blocker) {
+        int goalX = NavTerrain.unpackX(goalKey);
+        int goalY = NavTerrain.unpackY(goalKey);
+
+        Map<Long, Node> nodes = new HashMap<>();
+        PriorityQueue<QueueEntry> open = new PriorityQueue<>((a, b) -> Float.compare(a.priority, b.priority));
+        NavTerrain.Move move = new NavTerrain.Move();
+
+        Node startNode = new Node(startKey);
+        startNode.cost = 0f;
+        nodes.put(startKey, startNode);
+        open.add(new QueueEntry(startNode, 0f));
+
+        int expansions = 0;
+        while (!open.isEmpty() && expansions < MAX_DETOUR_EXPANSIONS) {
+            Node node = open.poll().node;
+            if (node.closed) {
+                continue;
+            }
+            if (node.key == goalKey) {
+                return new Path(true, tileSteps(node));
+            }
+            node.closed = true;
+            expansions++;
+
+            int x = NavTerrain.unpackX(node.key);
+            int y = NavTerrain.unpackY(node.key);
+            int z = NavTerrain.unpackZ(node.key);
+            for (Direction dir : DIRECTIONS) {
+                if (!terrain.step(x, y, z, dir, graph.getContext(), blocker, null, move)) {
+                    continue;
+                }
+                long key = NavTerrain.pack(move.x, move.y, move.z);
+                Node next = nodes.computeIfAbsent(key, Node::new);
+                float cost = node.cost + move.cost;
+                if (next.closed || cost >= next.cost) {
+                    continue;
+                }
+                next.cost = cost;
+                next.parent = node;
+                next.direction = dir;
+                float heuristic = (Math.abs(goalX - move.x) + Math.abs(goalY - move.y)) / NavTerrain.MAX_SPEED;
+                open.add(new QueueEntry(next, cost + heuristic));
+            }
+        }
+        return Path.NOT_FOUND;
+    }
+
+    private static List<PathStep> tileSteps(Node goal) {
+        List<PathStep> steps = new ArrayList<>();
+        for (Node node = goal; node.parent != null; node = node.parent) {
+            TileCoord target = new TileCoord(NavTerrain.unpackX(node.key), NavTerrain.unpackY(node.key),
+                    NavTerrain.unpackZ(node.key));
+            steps.add(new PathStep(node.direction, target));
+        }
+        Collections.reverse(steps);
+        return steps;
+    }
+}
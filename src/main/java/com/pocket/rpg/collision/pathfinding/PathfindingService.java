@@ -0,0 +1,214 @@
+package com.pocket.rpg.collision.pathfinding;
+
+import com.pocket.rpg.collision.CollisionMap;
+import com.pocket.rpg.collision.CollisionSystem;
+import com.pocket.rpg.collision.EntityOccupancyMap;
+import com.pocket.rpg.collision.TileEntityMap;
+import com.pocket.rpg.collision.behavior.TileBehavior;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Path queries over a scene's {@link CollisionSystem}.
+ * <p>
+ * Understands every {@link com.pocket.rpg.collision.CollisionType} through the same tile
+ * behaviors as {@code GridMovement}: one-way ledges, elevated ledges changing the Z-level,
+ * water for swimmers, ice slides. Entity occupancy ({@link EntityOccupancyMap} and
+ * {@link TileEntityMap}) is honoured when a request asks for it.
+ * <p>
+ * Searches run against an immutable snapshot of the collision map and a hierarchical
+ * portal graph per chunk (see {@link ChunkGraph}). The service listens to the map and,
+ * on the next query, re-copies only the chunks that changed and drops only the portal
+ * regions that read them.
+ * <p>
+ * Query methods must be called from the main thread; the async variants then run the
+ * search itself on a shared worker pool, so many NPCs can path in the same frame.
+ * <pre>
+ * PathfindingService paths = scene.getCollisionSystem().getPathfinding();
+ * CompletableFuture&lt;Path&gt; future = paths.findPathAsync(PathRequest.of(from, to, gameObject));
+ * </pre>
+ */
+public class PathfindingService {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static volatile ExecutorService workers;
+
+    private final CollisionSystem collisionSystem;
+    private final CollisionMap.ChangeListener listener;
+
+    // Main thread only
+    private final Set<Long> changedChunks = new LinkedHashSet<>();
+    private boolean resetPending = true;
+
+    private volatile NavTerrain terrain;
+    private volatile Map<TileBehavior.MoveContext, ChunkGraph> graphs = Map.of();
+
+    public PathfindingService(CollisionSystem collisionSystem) {
+        this.collisionSystem = collisionSystem;
+        this.listener = new CollisionMap.ChangeListener() {
+            @Override
+            public void onChunkChanged(int cx, int cy, int z) {
+                changedChunks.add(NavTerrain.pack(cx, cy, z));
+            }
+
+            @Override
+            public void onMapReset() {
+                resetPending = true;
+            }
+        };
+        collisionSystem.getCollisionMap().addChangeListener(listener);
+    }
+
+    // ========================================================================
+    // QUERIES
+    // ========================================================================
+
+    /**
+     * Finds a path on the calling (main) thread.
+     */
+    public Path findPath(PathRequest request) {
+        refresh();
+        return Pathfinder.find(graphFor(request.context()), request, blockerFor(request,
+                collisionSystem.getEntityOccupancyMap(), collisionSystem.getTileEntityMap()));
+    }
+
+    /**
+     * Finds a path on a worker thread. The collision snapshot is taken now; later
+     * changes to the map do not affect this query.
+     */
+    public CompletableFuture<Path> findPathAsync(PathRequest request) {
+        return findPathsAsync(List.of(request)).get(0);
+    }
+
+    /**
+     * Finds several paths on worker threads against the same collision snapshot.
+     *
+     * @return One future per request, in request order
+     */
+    public List<CompletableFuture<Path>> findPathsAsync(List<PathRequest> requests) {
+        refresh();
+
+        // The occupancy maps are main-thread only: workers read a copy taken now
+        EntityOccupancyMap occupancy = null;
+        TileEntityMap tileEntities = null;
+        for (PathRequest request : requests) {
+            if (request.avoidEntities()) {
+                occupancy = collisionSystem.getEntityOccupancyMap().copy();
+                tileEntities = collisionSystem.getTileEntityMap().copy();
+                break;
+            }
+        }
+
+        List<CompletableFuture<Path>> futures = new ArrayList<>(requests.size());
+        for (PathRequest request : requests) {
+            ChunkGraph graph = graphFor(request.context());
+            NavTerrain.Blocker blocker = blockerFor(request, occupancy, tileEntities);
+            futures.add(CompletableFuture.supplyAsync(() -> Pathfinder.find(graph, request, blocker), workers()));
+        }
+        return futures;
+    }
+
+    // ========================================================================
+    // SNAPSHOT MANAGEMENT
+    // ========================================================================
+
+    /**
+     * Applies pending collision map changes to the snapshot. Called by every query;
+     * call it directly to pay the cost at a chosen time (e.g. after a scene edit).
+     */
+    public void refresh() {
+        CollisionMap map = collisionSystem.getCollisionMap();
+        if (resetPending || terrain == null) {
+            resetPending = false;
+            changedChunks.clear();
+            terrain = NavTerrain.capture(map);
+            graphs = Map.of();
+            return;
+        }
+        if (changedChunks.isEmpty()) {
+            return;
+        }
+
+        NavTerrain next = terrain.withChanges(map, changedChunks);
+        Map<TileBehavior.MoveContext, ChunkGraph> nextGraphs = new HashMap<>();
+        if (next.sameBounds(terrain)) {
+            for (Map.Entry<TileBehavior.MoveContext, ChunkGraph> entry : graphs.entrySet()) {
+                nextGraphs.put(entry.getKey(), entry.getValue().retain(next, changedChunks));
+            }
+        }
+        // Otherwise the navigable area grew or shrank, which affects every border region
+
+        changedChunks.clear();
+        terrain = next;
+        graphs = nextGraphs;
+    }
+
+    /**
+     * Stops listening to the collision map.
+     */
+    public void dispose() {
+        collisionSystem.getCollisionMap().removeChangeListener(listener);
+    }
+
+    /**
+     * @return Number of portal regions built for the current snapshot, for tests and diagnostics
+     */
+    public int getCachedRegionCount() {
+        int count = 0;
+        for (ChunkGraph graph : graphs.values()) {
+            count += graph.getRegionCount();
+        }
+        return count;
+    }
+
+    private ChunkGraph graphFor(TileBehavior.MoveContext context) {
+        // Graphs depend only on movement abilities, not on the entity
+        TileBehavior.MoveContext profile = new TileBehavior.MoveContext(
+                null, context.canSwim(), context.canFly(), context.triggersEncounters());
+        ChunkGraph graph = graphs.get(profile);
+        if (graph == null) {
+            graph = new ChunkGraph(terrain, profile);
+            Map<TileBehavior.MoveContext, ChunkGraph> next = new HashMap<>(graphs);
+            next.put(profile, graph);
+            graphs = next;
+        }
+        return graph;
+    }
+
+    private static NavTerrain.Blocker blockerFor(PathRequest request, EntityOccupancyMap occupancy,
+                                                 TileEntityMap tileEntities) {
+        if (!request.avoidEntities()) {
+            return null;
+        }
+        Object entity = request.entity();
+        return (x, y, z) -> occupancy.isOccupied(x, y, z, entity) || tileEntities.isBlocked(x, y, z, entity);
+    }
+
+    private static ExecutorService workers() {
+        ExecutorService pool = workers;
+        if (pool == null) {
+            synchronized (PathfindingService.class) {
+                pool = workers;
+                if (pool == null) {
+                    int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+                    pool = Executors.newFixedThreadPool(threads, runnable -> {
+                        Thread thread = new Thread(runnable, "pathfinding-" + THREAD_COUNTER.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    workers = pool;
+                }
+            }
+        }
+        return pool;
+    }
+}
@@ -25,6 +25,13 @@ public record TileCoord(int x, int y, int elevation) {
      * Supports coordinates from -524288 to 524287 and elevations from -32768 to 32767.
      */
     public long pack() {
+        return pack(x, y, elevation);
+    }
+
+    /**
+     * Packs coordinates without creating a TileCoord. Same format as {@link #pack()}.
+     */
+    public static long pack(int x, int y, int elevation) {
         return ((long) x & 0xFFFFF)
                 | (((long) y & 0xFFFFF) << 20)
                 | (((long) elevation & 0xFFFF) << 40);
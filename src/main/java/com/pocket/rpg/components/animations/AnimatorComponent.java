@@ -3,6 +3,7 @@ package com.pocket.rpg.components.animations;
 import com.pocket.rpg.animation.AnimationPlayer;
 import com.pocket.rpg.animation.animator.AnimatorController;
 import com.pocket.rpg.animation.animator.AnimatorStateMachine;
+import com.pocket.rpg.animation.animator.CompiledAnimator;
 import com.pocket.rpg.collision.Direction;
 import com.pocket.rpg.components.*;
 import com.pocket.rpg.components.ComponentReference.Source;
@@ -129,6 +130,24 @@ public class AnimatorComponent extends Component {
         }
     }
 
+    /**
+     * Gets the slot of a parameter for the index-based setters, or
+     * {@link CompiledAnimator#NONE}. Slots belong to the state machine's current
+     * {@link AnimatorStateMachine#getCompiled() compiled controller}.
+     */
+    public int getParameterIndex(String name) {
+        return stateMachine != null ? stateMachine.getParameterIndex(name) : CompiledAnimator.NONE;
+    }
+
+    /**
+     * Sets a boolean parameter value by slot (see {@link #getParameterIndex}).
+     */
+    public void setBool(int index, boolean value) {
+        if (stateMachine != null) {
+            stateMachine.setBool(index, value);
+        }
+    }
+
     /**
      * Gets a boolean parameter value.
      */
@@ -145,6 +164,15 @@ public class AnimatorComponent extends Component {
         }
     }
 
+    /**
+     * Sets a direction parameter value by slot (see {@link #getParameterIndex}).
+     */
+    public void setDirection(int index, Direction direction) {
+        if (stateMachine != null) {
+            stateMachine.setDirection(index, direction);
+        }
+    }
+
     /**
      * Gets a direction parameter value by name.
      * Returns DOWN if the parameter doesn't exist or no state machine.
@@ -163,6 +191,15 @@ public class AnimatorComponent extends Component {
         }
     }
 
+    /**
+     * Fires a trigger parameter by slot (see {@link #getParameterIndex}).
+     */
+    public void setTrigger(int index) {
+        if (stateMachine != null) {
+            stateMachine.setTrigger(index);
+        }
+    }
+
     /**
      * Resets a trigger without consuming it.
      */
@@ -649,6 +649,7 @@ public class PlayerDialogueManager extends Component {
     private void clearDialogueText() {
         if (dialogueText != null) {
             dialogueText.setText("");
+            dialogueText.setVisibleCharacters(-1);
         }
     }
 
@@ -658,10 +659,12 @@ public class PlayerDialogueManager extends Component {
 
     /**
      * Updates the dialogue UIText with the currently visible portion of text.
+     * The full line is laid out once; revealing characters only changes the visible count.
      */
     private void updateUIText() {
         if (dialogueText == null) return;
-        dialogueText.setText(getVisibleText());
+        dialogueText.setText(fullText);  // Same instance for the whole line, so no relayout
+        dialogueText.setVisibleCharacters(visibleChars);
     }
 
     // ========================================================================
@@ -714,6 +717,7 @@ public class PlayerDialogueManager extends Component {
                     sb.append(group.getChoices().get(i).getText()).append("\n");
                 }
                 dialogueText.setText(sb.toString());
+                dialogueText.setVisibleCharacters(-1);
             }
             return;
         }
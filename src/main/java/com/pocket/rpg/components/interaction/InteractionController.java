@@ -1,7 +1,6 @@
 package com.pocket.rpg.components.interaction;
 
 import com.pocket.rpg.collision.TileEntityMap;
-import com.pocket.rpg.collision.trigger.TileCoord;
 import com.pocket.rpg.components.Component;
 import com.pocket.rpg.components.ComponentMeta;
 import com.pocket.rpg.components.ComponentReference;
@@ -18,7 +17,6 @@ import org.joml.Vector3f;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Detects nearby interactables and handles player interaction input.
@@ -60,6 +58,7 @@ public class InteractionController extends Component {
     // Runtime state
     private transient TileEntityMap tileEntityMap;
     private transient GridMovement gridMovement;
+    private transient final List<Component> componentBuffer = new ArrayList<>();
     /**
      * -- GETTER --
      *  Gets the current interaction target, if any.
@@ -187,10 +186,10 @@ public class InteractionController extends Component {
 
     private void addInteractablesAt(List<InteractableCandidate> result,
                                      int x, int y, int z, double distance) {
-        TileCoord coord = new TileCoord(x, y, z);
-        Set<Component> components = tileEntityMap.getAll(coord);
+        componentBuffer.clear();
+        tileEntityMap.collect(x, y, z, componentBuffer);
 
-        for (Component comp : components) {
+        for (Component comp : componentBuffer) {
             if (comp instanceof Interactable interactable) {
                 if (interactable.canInteract(gameObject)) {
                     result.add(new InteractableCandidate(
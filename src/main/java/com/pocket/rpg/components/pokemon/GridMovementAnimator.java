@@ -1,5 +1,7 @@
 package com.pocket.rpg.components.pokemon;
 
+import com.pocket.rpg.animation.animator.AnimatorStateMachine;
+import com.pocket.rpg.animation.animator.CompiledAnimator;
 import com.pocket.rpg.collision.Direction;
 import com.pocket.rpg.components.Component;
 import com.pocket.rpg.components.ComponentMeta;
@@ -18,7 +20,8 @@ import lombok.Setter;
  * - "isSliding" (bool): true while sliding on ice
  * - direction: the facing direction (used for directional animations)
  * <p>
- * Optionally supports jump triggers and custom parameter names.
+ * Optionally supports jump triggers and custom parameter names. Parameter names are
+ * resolved to animator slots once per compiled controller.
  *
  * <h2>Usage</h2>
  * <pre>
@@ -40,19 +43,15 @@ public class GridMovementAnimator extends Component {
     // ========================================================================
 
     @Getter
-    @Setter
     private String movingParam = "isMoving";
 
     @Getter
-    @Setter
     private String slidingParam = "isSliding";
 
     @Getter
-    @Setter
     private String jumpTrigger = null;
 
     @Getter
-    @Setter
     private String directionParam = "direction";
 
     @Getter
@@ -82,6 +81,13 @@ public class GridMovementAnimator extends Component {
     @HideInInspector
     private Direction lastDirection = null;
 
+    // Parameter slots, valid for the compiled controller they were resolved against
+    private transient CompiledAnimator boundTo;
+    private transient int movingSlot;
+    private transient int slidingSlot;
+    private transient int jumpSlot;
+    private transient int directionSlot;
+
     // ========================================================================
     // CONSTRUCTORS
     // ========================================================================
@@ -107,37 +113,83 @@ public class GridMovementAnimator extends Component {
         if (gridMovement == null || animator == null) {
             return;
         }
+        bindSlots();
 
         // Sync moving state
         boolean isMoving = gridMovement.isMoving();
         if (isMoving != wasMoving) {
-            animator.setBool(movingParam, isMoving);
+            animator.setBool(movingSlot, isMoving);
             wasMoving = isMoving;
         }
 
         // Sync sliding state (if configured)
-        if (slidingParam != null && !slidingParam.isEmpty()) {
-            animator.setBool(slidingParam, gridMovement.isSliding());
+        if (slidingSlot != CompiledAnimator.NONE) {
+            animator.setBool(slidingSlot, gridMovement.isSliding());
         }
 
         // Fire jump trigger on jump start
         if (jumpTrigger != null && !jumpTrigger.isEmpty()) {
             boolean isJumping = gridMovement.isJumping();
             if (isJumping && !wasJumping) {
-                animator.setTrigger(jumpTrigger);
+                animator.setTrigger(jumpSlot);
             }
             wasJumping = isJumping;
         }
 
         // Sync direction
-        if (syncDirection && directionParam != null && !directionParam.isEmpty()) {
+        if (syncDirection && directionSlot != CompiledAnimator.NONE) {
             Direction direction = gridMovement.getFacingDirection();
             if (direction != lastDirection) {
-                animator.setDirection(directionParam, direction);
+                animator.setDirection(directionSlot, direction);
                 lastDirection = direction;
             }
         }
     }
+
+    /**
+     * Resolves the parameter names to slots when the animator's compiled controller changes.
+     */
+    private void bindSlots() {
+        AnimatorStateMachine stateMachine = animator.getStateMachine();
+        CompiledAnimator compiled = stateMachine != null ? stateMachine.getCompiled() : null;
+        if (compiled == boundTo && compiled != null) {
+            return;
+        }
+
+        boundTo = compiled;
+        movingSlot = animator.getParameterIndex(movingParam);
+        slidingSlot = optionalSlot(slidingParam);
+        jumpSlot = optionalSlot(jumpTrigger);
+        directionSlot = optionalSlot(directionParam);
+    }
+
+    private int optionalSlot(String param) {
+        return param != null && !param.isEmpty() ? animator.getParameterIndex(param) : CompiledAnimator.NONE;
+    }
+    // ========================================================================
+    // CONFIGURATION SETTERS
+    // ========================================================================
+
+    public void setMovingParam(String movingParam) {
+        this.movingParam = movingParam;
+        boundTo = null;
+    }
+
+    public void setSlidingParam(String slidingParam) {
+        this.slidingParam = slidingParam;
+        boundTo = null;
+    }
+
+    public void setJumpTrigger(String jumpTrigger) {
+        this.jumpTrigger = jumpTrigger;
+        boundTo = null;
+    }
+
+    public void setDirectionParam(String directionParam) {
+        this.directionParam = directionParam;
+        boundTo = null;
+    }
+
     // ========================================================================
     // MANUAL CONTROL
     // ========================================================================
@@ -9,10 +9,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.joml.Vector3f;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
 /**
  * Component for efficient tile-based map rendering.
@@ -25,6 +22,10 @@ import java.util.Set;
  * <h2>Chunks</h2>
  * Tiles are grouped into {@value TileChunk#CHUNK_SIZE}x{@value TileChunk#CHUNK_SIZE} chunks.
  * Chunks are created on-demand when tiles are set, and culled at chunk-level during rendering.
+ * <p>
+ * Loaders may also register {@link EncodedChunk}s, which are decoded the first time the
+ * chunk is read ({@link #get}, {@link #getChunk}, {@link #allChunks}). Culling only needs
+ * {@link #chunkKeys()}, so off-screen chunks of a large map are never decoded.
  *
  * <h2>World Space</h2>
  * Each tile occupies {@link #tileSize} world units. The world position of tile (tx, ty) is:
@@ -40,6 +41,12 @@ public class TilemapRenderer extends Component implements Renderable {
 
     private transient final Map<Long, TileChunk> chunks = new HashMap<>();
 
+    // Chunks not decoded yet; their keys are also in chunkKeys
+    private transient final Map<Long, EncodedChunk> encodedChunks = new HashMap<>();
+
+    // Keys of decoded and encoded chunks
+    private transient final Set<Long> chunkKeys = new HashSet<>();
+
     /**
      * Z-index for render ordering.
      * All tiles in this tilemap render at this z-level.
@@ -56,9 +63,6 @@ public class TilemapRenderer extends Component implements Renderable {
     @Setter
     private float tileSize = 1.0f;
 
-    // Track dirty chunks for static batching invalidation
-    private transient final Map<Long, Boolean> dirtyChunks = new HashMap<>();
-
     // ========================================================================
     // CONSTRUCTORS
     // ========================================================================
@@ -112,7 +116,7 @@ public class TilemapRenderer extends Component implements Renderable {
             return false;
         }
         // Must have at least one chunk
-        return !chunks.isEmpty();
+        return !chunkKeys.isEmpty();
     }
 
     // ========================================================================
@@ -130,7 +134,7 @@ public class TilemapRenderer extends Component implements Renderable {
         int cx = floorDiv(tileX, TileChunk.CHUNK_SIZE);
         int cy = floorDiv(tileY, TileChunk.CHUNK_SIZE);
 
-        TileChunk chunk = chunks.get(key(cx, cy));
+        TileChunk chunk = chunkAt(key(cx, cy));
         if (chunk == null) return null;
 
         int tx = tileX - cx * TileChunk.CHUNK_SIZE;
@@ -152,7 +156,12 @@ public class TilemapRenderer extends Component implements Renderable {
         int cy = floorDiv(tileY, TileChunk.CHUNK_SIZE);
 
         long k = key(cx, cy);
-        TileChunk chunk = chunks.computeIfAbsent(k, k1 -> new TileChunk(cx, cy));
+        TileChunk chunk = chunkAt(k);
+        if (chunk == null) {
+            chunk = new TileChunk(cx, cy);
+            chunks.put(k, chunk);
+            chunkKeys.add(k);
+        }
 
         int tx = tileX - cx * TileChunk.CHUNK_SIZE;
         int ty = tileY - cy * TileChunk.CHUNK_SIZE;
@@ -182,32 +191,102 @@ public class TilemapRenderer extends Component implements Renderable {
      * @return true if chunk exists
      */
     public boolean hasChunk(int cx, int cy) {
-        return chunks.containsKey(key(cx, cy));
+        return chunkKeys.contains(key(cx, cy));
     }
 
     /**
-     * Gets a chunk at the specified chunk coordinates.
+     * Gets a chunk at the specified chunk coordinates, decoding it if needed.
      *
      * @param cx Chunk X coordinate
      * @param cy Chunk Y coordinate
      * @return The chunk, or null if it doesn't exist
      */
     public TileChunk getChunk(int cx, int cy) {
-        return chunks.get(key(cx, cy));
+        return chunkAt(key(cx, cy));
     }
 
     /**
-     * Returns all chunks in this tilemap.
+     * Returns all chunks in this tilemap. Decodes every encoded chunk first.
      */
     public Collection<TileChunk> allChunks() {
+        if (!encodedChunks.isEmpty()) {
+            for (Long k : new ArrayList<>(encodedChunks.keySet())) {
+                decode(k);
+            }
+        }
         return chunks.values();
     }
 
     /**
-     * Returns all chunk keys (encoded cx, cy pairs).
+     * Returns all chunk keys (encoded cx, cy pairs), including chunks not decoded yet.
      */
     public Set<Long> chunkKeys() {
-        return chunks.keySet();
+        return Collections.unmodifiableSet(chunkKeys);
+    }
+
+    /**
+     * Registers a chunk to decode on first access. Replaces any existing chunk at (cx, cy).
+     *
+     * @param cx    Chunk X coordinate
+     * @param cy    Chunk Y coordinate
+     * @param chunk Encoded tile data
+     */
+    public void addEncodedChunk(int cx, int cy, EncodedChunk chunk) {
+        long k = key(cx, cy);
+        chunks.remove(k);
+        encodedChunks.put(k, chunk);
+        chunkKeys.add(k);
+    }
+
+    /**
+     * Checks if a chunk exists and has been decoded.
+     */
+    public boolean isChunkDecoded(int cx, int cy) {
+        return chunks.containsKey(key(cx, cy));
+    }
+
+    /**
+     * Returns every distinct tile used by this tilemap, without decoding encoded chunks.
+     * Encoded chunks contribute their palette.
+     */
+    public Set<Tile> getUsedTiles() {
+        Set<Tile> used = new LinkedHashSet<>();
+        for (TileChunk chunk : chunks.values()) {
+            for (Tile[] column : chunk.getTiles()) {
+                for (Tile tile : column) {
+                    if (tile != null) {
+                        used.add(tile);
+                    }
+                }
+            }
+        }
+        for (EncodedChunk chunk : encodedChunks.values()) {
+            used.addAll(chunk.palette());
+        }
+        return used;
+    }
+
+    /**
+     * Copies all tiles from another tilemap. Encoded chunks are shared rather than decoded,
+     * which is safe because they are immutable and each decode produces a new chunk.
+     */
+    public void copyTilesFrom(TilemapRenderer source) {
+        for (var entry : source.encodedChunks.entrySet()) {
+            long k = entry.getKey();
+            addEncodedChunk(chunkKeyToX(k), chunkKeyToY(k), entry.getValue());
+        }
+        for (TileChunk chunk : source.chunks.values()) {
+            int baseX = chunk.getChunkX() * TileChunk.CHUNK_SIZE;
+            int baseY = chunk.getChunkY() * TileChunk.CHUNK_SIZE;
+            for (int tx = 0; tx < TileChunk.CHUNK_SIZE; tx++) {
+                for (int ty = 0; ty < TileChunk.CHUNK_SIZE; ty++) {
+                    Tile tile = chunk.get(tx, ty);
+                    if (tile != null) {
+                        set(baseX + tx, baseY + ty, tile);
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -306,6 +385,24 @@ public class TilemapRenderer extends Component implements Renderable {
         return (((long) cx) << 32) ^ (cy & 0xffffffffL);
     }
 
+    private TileChunk chunkAt(long k) {
+        TileChunk chunk = chunks.get(k);
+        if (chunk == null && !encodedChunks.isEmpty()) {
+            chunk = decode(k);
+        }
+        return chunk;
+    }
+
+    private TileChunk decode(long k) {
+        EncodedChunk encoded = encodedChunks.remove(k);
+        if (encoded == null) {
+            return null;
+        }
+        TileChunk chunk = encoded.decode(chunkKeyToX(k), chunkKeyToY(k));
+        chunks.put(k, chunk);
+        return chunk;
+    }
+
     /**
      * Floor division that handles negative numbers correctly.
      */
@@ -374,7 +471,7 @@ public class TilemapRenderer extends Component implements Renderable {
 
     @Override
     public String toString() {
-        return String.format("Tilemap[chunks=%d, tileSize=%.2f, zIndex=%d]", chunks.size(), tileSize, zIndex);
+        return String.format("Tilemap[chunks=%d, tileSize=%.2f, zIndex=%d]", chunkKeys.size(), tileSize, zIndex);
     }
 
     // ========================================================================
@@ -420,7 +517,7 @@ public class TilemapRenderer extends Component implements Renderable {
         /**
          * -- GETTER --
          * Returns the raw tile array.
-         * Use with caution - modifications bypass dirty tracking.
+         * Use with caution - modifications bypass dirty tracking (call {@link #markDirty()}).
          */
         private final Tile[][] tiles;
         /**
@@ -428,6 +525,12 @@ public class TilemapRenderer extends Component implements Renderable {
          * Returns the number of non-null tiles in this chunk.
          */
         private int tileCount = 0;
+        /**
+         * -- GETTER --
+         * Returns the modification counter, bumped on every tile change.
+         * Static batching caches compare it to know when to rebuild.
+         */
+        private int version = 0;
 
         public TileChunk(int chunkX, int chunkY) {
             this.chunkX = chunkX;
@@ -456,6 +559,9 @@ public class TilemapRenderer extends Component implements Renderable {
         public void set(int tx, int ty, Tile tile) {
             Tile old = tiles[tx][ty];
             tiles[tx][ty] = tile;
+            if (old != tile) {
+                version++;
+            }
 
             // Track tile count
             if (old == null && tile != null) {
@@ -465,6 +571,13 @@ public class TilemapRenderer extends Component implements Renderable {
             }
         }
 
+        /**
+         * Marks this chunk as modified after writing to {@link #getTiles()} directly.
+         */
+        public void markDirty() {
+            version++;
+        }
+
         /**
          * Checks if this chunk is empty (no tiles).
          */
@@ -474,6 +587,23 @@ public class TilemapRenderer extends Component implements Renderable {
 
     }
 
+    /**
+     * Tile data for one chunk that is decoded on first access.
+     * Implementations must be immutable: copies of a tilemap share them.
+     */
+    public interface EncodedChunk {
+
+        /**
+         * Builds the chunk. Called at most once per tilemap.
+         */
+        TileChunk decode(int chunkX, int chunkY);
+
+        /**
+         * Tiles the chunk may contain, for asset collection without decoding.
+         */
+        Collection<Tile> palette();
+    }
+
     /**
      * Represents a single tile's data.
      * Contains visual (sprite) and collision information.
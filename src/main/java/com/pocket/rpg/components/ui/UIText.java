@@ -23,6 +23,7 @@ import org.joml.Vector4f;
  *   <li>Auto-fit scaling to UITransform bounds</li>
  *   <li>Drop shadow effect</li>
  *   <li>Color tinting</li>
+ *   <li>Typewriter reveal via {@link #setVisibleCharacters(int)}, without relayout</li>
  * </ul>
  *
  * <h2>Usage</h2>
@@ -64,6 +65,15 @@ public class UIText extends UIVisual {
     @Getter
     private String text = "";
 
+    /**
+     * Number of characters of {@link #text} to draw, or -1 for all of them.
+     * Layout is always computed for the full text, so revealing more characters
+     * only emits more glyphs: nothing is re-wrapped and words never jump lines.
+     * Not reset by {@link #setText(String)}.
+     */
+    @Getter
+    private transient int visibleCharacters = -1;
+
     @Getter
     @Setter
     private HorizontalAlignment horizontalAlignment = HorizontalAlignment.LEFT;
@@ -130,6 +140,7 @@ public class UIText extends UIVisual {
 
     private transient String[] lines;
     private transient float[] lineWidths;
+    private transient int[] lineStarts;       // Index in text of each line's first character
     private transient float naturalWidth;     // Width at current font size
     private transient float naturalHeight;    // Height at current font size
     private transient boolean layoutDirty = true;
@@ -206,6 +217,30 @@ public class UIText extends UIVisual {
         }
     }
 
+    /**
+     * Limits drawing to the first characters of the text (typewriter reveal).
+     * Does not mark layout dirty.
+     *
+     * @param count Number of characters to draw, or a negative value for all of them
+     */
+    public void setVisibleCharacters(int count) {
+        this.visibleCharacters = count < 0 ? -1 : count;
+    }
+
+    /**
+     * Gets how many characters of a laid-out line are currently revealed.
+     *
+     * @param lineIndex Index into {@link #getLines()}
+     * @return Number of leading characters of that line to draw
+     */
+    public int getVisibleCharCount(int lineIndex) {
+        int lineLength = lines[lineIndex].length();
+        if (visibleCharacters < 0) {
+            return lineLength;
+        }
+        return Math.clamp(visibleCharacters - lineStarts[lineIndex], 0, lineLength);
+    }
+
     // ========================================================================
     // COLOR
     // ========================================================================
@@ -350,6 +385,13 @@ public class UIText extends UIVisual {
         return lineWidths;
     }
 
+    /**
+     * Gets the index in the text of each computed line's first character.
+     */
+    public int[] getLineStarts() {
+        return lineStarts;
+    }
+
     /**
      * Calculates horizontal start position based on alignment.
      */
@@ -376,6 +418,7 @@ public class UIText extends UIVisual {
         if (text.isEmpty() || renderFont == null) {
             lines = new String[0];
             lineWidths = new float[0];
+            lineStarts = new int[0];
             naturalWidth = 0;
             naturalHeight = 0;
             layoutDirty = false;
@@ -396,11 +439,15 @@ public class UIText extends UIVisual {
         String[] rawLines = text.split("\n", -1);
         lines = rawLines;
         lineWidths = new float[lines.length];
+        lineStarts = new int[lines.length];
 
         naturalWidth = 0;
+        int start = 0;
         for (int i = 0; i < lines.length; i++) {
             lineWidths[i] = renderFont.getStringWidth(lines[i]);
             naturalWidth = Math.max(naturalWidth, lineWidths[i]);
+            lineStarts[i] = start;
+            start += lines[i].length() + 1;  // Skip the newline
         }
 
         calculateNaturalHeight(renderFont);
@@ -409,13 +456,17 @@ public class UIText extends UIVisual {
     private void calculateWrappedLayout(float maxWidth, Font renderFont) {
         java.util.List<String> wrappedLines = new java.util.ArrayList<>();
         java.util.List<Float> widths = new java.util.ArrayList<>();
+        java.util.List<Integer> starts = new java.util.ArrayList<>();
 
         String[] paragraphs = text.split("\n", -1);
+        int paragraphStart = 0;
 
         for (String paragraph : paragraphs) {
             if (paragraph.isEmpty()) {
                 wrappedLines.add("");
                 widths.add(0f);
+                starts.add(paragraphStart);
+                paragraphStart += 1;  // Skip the newline
                 continue;
             }
 
@@ -423,6 +474,8 @@ public class UIText extends UIVisual {
             StringBuilder currentLine = new StringBuilder();
             float currentWidth = 0;
             float spaceWidth = renderFont.getGlyph(' ') != null ? renderFont.getGlyph(' ').advance : 0;
+            int wordStart = paragraphStart;
+            int lineStart = paragraphStart;
 
             for (String word : words) {
                 float wordWidth = renderFont.getStringWidth(word);
@@ -431,6 +484,7 @@ public class UIText extends UIVisual {
                     // First word on line
                     currentLine.append(word);
                     currentWidth = wordWidth;
+                    lineStart = wordStart;
                 } else if (currentWidth + spaceWidth + wordWidth <= maxWidth) {
                     // Word fits on current line
                     currentLine.append(" ").append(word);
@@ -439,24 +493,33 @@ public class UIText extends UIVisual {
                     // Word doesn't fit - start new line
                     wrappedLines.add(currentLine.toString());
                     widths.add(currentWidth);
+                    starts.add(lineStart);
                     currentLine = new StringBuilder(word);
                     currentWidth = wordWidth;
+                    lineStart = wordStart;
                 }
+
+                wordStart += word.length() + 1;  // Words are separated by one space
             }
 
             // Add remaining text
             if (currentLine.length() > 0) {
                 wrappedLines.add(currentLine.toString());
                 widths.add(currentWidth);
+                starts.add(lineStart);
             }
+
+            paragraphStart += paragraph.length() + 1;  // Skip the newline
         }
 
         lines = wrappedLines.toArray(new String[0]);
         lineWidths = new float[widths.size()];
+        lineStarts = new int[starts.size()];
 
         naturalWidth = 0;
         for (int i = 0; i < widths.size(); i++) {
             lineWidths[i] = widths.get(i);
+            lineStarts[i] = starts.get(i);
             naturalWidth = Math.max(naturalWidth, lineWidths[i]);
         }
 
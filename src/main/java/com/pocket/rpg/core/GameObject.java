@@ -12,8 +12,10 @@ import lombok.Setter;
 import org.joml.Vector3f;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * GameObject is the fundamental entity in the game.
@@ -31,7 +33,8 @@ public class GameObject {
     @Getter
     private boolean destroyed = false;
 
-    private final List<Component> components;
+    // Snapshot lists: lifecycle loops iterate cached arrays that are only rebuilt on change
+    private final SnapshotList<Component> components;
 
     @Getter
     private Transform transform;
@@ -43,7 +46,19 @@ public class GameObject {
     @Getter
     private GameObject parent;
 
-    private final List<GameObject> children = new ArrayList<>();
+    private final SnapshotList<GameObject> children = new SnapshotList<>(GameObject[]::new, this::hierarchyChanged);
+
+    // Counter of the hierarchy (scene) this object belongs to, bumped by both lists
+    private HierarchyVersion hierarchyVersion = new HierarchyVersion();
+
+    // getComponent() results by requested type (including supertypes and interfaces),
+    // valid while componentTypeCacheVersion matches components.version(). Parallel arrays
+    // matched by identity: an object is queried for a few types, so a scan beats hashing.
+    private static final Object NO_COMPONENT = new Object();
+    private Class<?>[] componentTypeCacheKeys;
+    private Object[] componentTypeCacheValues;
+    private int componentTypeCacheSize;
+    private int componentTypeCacheVersion;
 
     public String getId() {
         return "go_" + System.identityHashCode(this);
@@ -51,14 +66,14 @@ public class GameObject {
 
     public GameObject(String name) {
         this.name = name;
-        this.components = new ArrayList<>();
+        this.components = new SnapshotList<>(Component[]::new, this::hierarchyChanged);
         this.transform = new Transform();
         addComponentInternal(transform);
     }
 
     public GameObject(String name, Vector3f position) {
         this.name = name;
-        this.components = new ArrayList<>();
+        this.components = new SnapshotList<>(Component[]::new, this::hierarchyChanged);
         this.transform = new Transform(position);
         addComponentInternal(transform);
     }
@@ -100,6 +115,7 @@ public class GameObject {
 
         // Add to new parent and maintain sorted order
         if (newParent != null) {
+            setHierarchyVersion(newParent.hierarchyVersion);
             newParent.children.add(this);
             newParent.sortChildrenByOrder();
         }
@@ -270,7 +286,7 @@ public class GameObject {
         this.enabled = enabled;
 
         // Notify components on this GameObject (snapshot for iteration safety)
-        for (Component component : new ArrayList<>(components)) {
+        for (Component component : components.snapshot()) {
             if (enabled) {
                 component.triggerEnable();
             } else {
@@ -289,7 +305,7 @@ public class GameObject {
         }
 
         // Propagate to children — only notify children whose effective state changed
-        for (GameObject child : new ArrayList<>(children)) {
+        for (GameObject child : children.snapshot()) {
             child.propagateParentEnabledChange(enabled);
         }
     }
@@ -305,7 +321,7 @@ public class GameObject {
         if (!this.enabled) return;
 
         // This child is individually enabled, so parent change affects it
-        for (Component component : new ArrayList<>(components)) {
+        for (Component component : components.snapshot()) {
             if (parentNowEnabled) {
                 component.triggerEnable();
             } else {
@@ -324,7 +340,7 @@ public class GameObject {
         }
 
         // Recurse to grandchildren
-        for (GameObject child : new ArrayList<>(children)) {
+        for (GameObject child : children.snapshot()) {
             child.propagateParentEnabledChange(parentNowEnabled);
         }
     }
@@ -349,7 +365,7 @@ public class GameObject {
 
             // Only auto-start if this GO is part of the active scene
             // (i.e., it has been added via scene.addGameObject and the scene is initialized)
-            if (scene != null && scene.getGameObjects().contains(this) && enabled) {
+            if (scene != null && scene.containsGameObject(this) && enabled) {
                 component.start();
             }
 
@@ -373,7 +389,7 @@ public class GameObject {
 
         // Only auto-start if this GO is part of the active scene
         // (i.e., it has been added via scene.addGameObject and the scene is initialized)
-        if (scene != null && scene.getGameObjects().contains(this) && enabled) {
+        if (scene != null && scene.containsGameObject(this) && enabled) {
             component.start();
         }
 
@@ -427,38 +443,130 @@ public class GameObject {
         }
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Returns the first component that is an instance of {@code componentClass}, or null.
+     * Results are cached per requested type and invalidated when the component list changes,
+     * so repeated lookups (e.g. from update loops) skip the {@code isInstance} scan.
+     */
     public <T extends Component> T getComponent(Class<T> componentClass) {
-        for (Component component : components) {
+        int version = components.version();
+        if (componentTypeCacheKeys == null) {
+            componentTypeCacheKeys = new Class<?>[4];
+            componentTypeCacheValues = new Object[4];
+        } else if (componentTypeCacheVersion != version) {
+            Arrays.fill(componentTypeCacheValues, 0, componentTypeCacheSize, null);
+            componentTypeCacheSize = 0;
+        }
+        componentTypeCacheVersion = version;
+
+        Class<?>[] keys = componentTypeCacheKeys;
+        for (int i = 0, n = componentTypeCacheSize; i < n; i++) {
+            if (keys[i] == componentClass) {
+                Object cached = componentTypeCacheValues[i];
+                return cached == NO_COMPONENT ? null : componentClass.cast(cached);
+            }
+        }
+
+        Component found = findComponent(componentClass);
+        if (componentTypeCacheSize == keys.length) {
+            componentTypeCacheKeys = Arrays.copyOf(keys, keys.length * 2);
+            componentTypeCacheValues = Arrays.copyOf(componentTypeCacheValues, keys.length * 2);
+        }
+        componentTypeCacheKeys[componentTypeCacheSize] = componentClass;
+        componentTypeCacheValues[componentTypeCacheSize++] = found != null ? found : NO_COMPONENT;
+        return componentClass.cast(found);
+    }
+
+    private Component findComponent(Class<?> componentClass) {
+        for (int i = 0, n = components.size(); i < n; i++) {
+            Component component = components.get(i);
             if (componentClass.isInstance(component)) {
-                return (T) component;
+                return component;
             }
         }
         return null;
     }
 
-    @SuppressWarnings("unchecked")
     public <T extends Component> List<T> getComponents(Class<T> componentClass) {
         List<T> result = new ArrayList<>();
-        for (Component component : components) {
+        getComponents(componentClass, result);
+        return result;
+    }
+
+    /**
+     * Non-allocating variant of {@link #getComponents(Class)}: appends matches to {@code out}.
+     *
+     * @return Number of components appended
+     */
+    public <T extends Component> int getComponents(Class<T> componentClass, List<? super T> out) {
+        int added = 0;
+        for (int i = 0, n = components.size(); i < n; i++) {
+            Component component = components.get(i);
             if (componentClass.isInstance(component)) {
-                result.add((T) component);
+                out.add(componentClass.cast(component));
+                added++;
             }
         }
-        return result;
+        return added;
     }
 
     public List<Component> getAllComponents() {
         return new ArrayList<>(components);
     }
 
+    /**
+     * Non-allocating variant of {@link #getAllComponents()}: appends all components to {@code out}.
+     */
+    public void getAllComponents(List<? super Component> out) {
+        for (int i = 0, n = components.size(); i < n; i++) {
+            out.add(components.get(i));
+        }
+    }
+
+    /**
+     * Visits every component without allocating. The visitor may add or remove
+     * components; changes take effect on the next call.
+     */
+    public void forEachComponent(Consumer<? super Component> visitor) {
+        for (Component component : components.snapshot()) {
+            visitor.accept(component);
+        }
+    }
+
+    /**
+     * Gets the counter of the hierarchy this object belongs to, bumped whenever the
+     * component or child list of any object in it changes.
+     */
+    public HierarchyVersion getHierarchyVersion() {
+        return hierarchyVersion;
+    }
+
+    /**
+     * Moves this object and its descendants to another hierarchy counter, and bumps it.
+     * Called by Scene for root objects; children adopt their parent's counter when attached.
+     */
+    public void setHierarchyVersion(HierarchyVersion version) {
+        adoptHierarchyVersion(version);
+        version.bump();
+    }
+
+    private void adoptHierarchyVersion(HierarchyVersion version) {
+        hierarchyVersion = version;
+        for (GameObject child : children.snapshot()) {
+            child.adoptHierarchyVersion(version);
+        }
+    }
+
+    private void hierarchyChanged() {
+        hierarchyVersion.bump();
+    }
+
     // =======================================================================
     // Transform Change Notification
     // =======================================================================
 
     public void notifyTransformChanged() {
-        List<Component> snapshot = new ArrayList<>(components);
-        for (Component component : snapshot) {
+        for (Component component : components.snapshot()) {
             if (component.isEnabled()) {
                 component.onTransformChanged();
             }
@@ -470,15 +578,14 @@ public class GameObject {
     // =======================================================================
 
     public void start() {
-        List<Component> snapshot = new ArrayList<>(components);
-        for (Component component : snapshot) {
+        for (Component component : components.snapshot()) {
             if (component.isEnabled()) {
                 component.start();
             }
         }
 
         // Start children too
-        for (GameObject child : new ArrayList<>(children)) {
+        for (GameObject child : children.snapshot()) {
             child.start();
         }
     }
@@ -486,8 +593,7 @@ public class GameObject {
     public void update(float deltaTime) {
         if (!enabled) return;
 
-        List<Component> snapshot = new ArrayList<>(components);
-        for (Component component : snapshot) {
+        for (Component component : components.snapshot()) {
             if (component.isEnabled()) {
                 if (!component.isStarted()) {
                     component.start();
@@ -503,7 +609,7 @@ public class GameObject {
         }
 
         // Update children
-        for (GameObject child : new ArrayList<>(children)) {
+        for (GameObject child : children.snapshot()) {
             child.update(deltaTime);
         }
     }
@@ -511,8 +617,7 @@ public class GameObject {
     public void lateUpdate(float deltaTime) {
         if (!enabled) return;
 
-        List<Component> snapshot = new ArrayList<>(components);
-        for (Component component : snapshot) {
+        for (Component component : components.snapshot()) {
             if (component.isEnabled()) {
                 try {
                     component.lateUpdate(deltaTime);
@@ -523,7 +628,7 @@ public class GameObject {
         }
 
         // Late update children
-        for (GameObject child : new ArrayList<>(children)) {
+        for (GameObject child : children.snapshot()) {
             child.lateUpdate(deltaTime);
         }
     }
@@ -539,14 +644,13 @@ public class GameObject {
         }
 
         // Destroy children first
-        for (GameObject child : new ArrayList<>(children)) {
+        for (GameObject child : children.snapshot()) {
             child.destroy();
         }
         children.clear();
 
         // Destroy components
-        List<Component> snapshot = new ArrayList<>(components);
-        for (Component component : snapshot) {
+        for (Component component : components.snapshot()) {
             component.destroy();
         }
         components.clear();
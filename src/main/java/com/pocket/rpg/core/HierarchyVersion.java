@@ -0,0 +1,28 @@
+package com.pocket.rpg.core;
+
+/**
+ * Modification counter shared by every GameObject in one hierarchy.
+ * <p>
+ * A {@link com.pocket.rpg.scenes.Scene} hands its counter to each root object it adds, and
+ * children adopt their parent's counter when attached. Any change to the component or
+ * child list of an object in the hierarchy bumps it, so scene-wide caches revalidate
+ * with a single comparison. Objects that leave a hierarchy keep its counter until they
+ * join another one; that only costs the old hierarchy a spurious rebuild.
+ * <p>
+ * Like the lists it tracks, it is only used from the game thread.
+ */
+public final class HierarchyVersion {
+
+    private int value;
+
+    /**
+     * Gets the current value. Changes whenever the hierarchy changes.
+     */
+    public int get() {
+        return value;
+    }
+
+    void bump() {
+        value++;
+    }
+}
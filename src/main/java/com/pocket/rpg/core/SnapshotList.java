@@ -0,0 +1,165 @@
+package com.pocket.rpg.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * ArrayList that tracks modifications and hands out a cached array snapshot of its
+ * contents for safe iteration.
+ * <p>
+ * The snapshot is rebuilt only after the list is modified, so iterating an unchanged
+ * list allocates nothing. Callers may keep iterating an old snapshot while the list is
+ * modified: a modification never touches an array that was already handed out, it only
+ * causes the next {@link #snapshot()} call to build a new one.
+ * <p>
+ * Every mutator bumps {@link #version()} and runs the change callback, which lets
+ * callers cache derived data (type lookups, scene-wide queries) and revalidate it
+ * with a single comparison. Iterator and list-iterator mutations go through the
+ * overridden methods; {@link #subList} views are read-only so they cannot bypass tracking.
+ */
+final class SnapshotList<E> extends ArrayList<E> {
+
+    private final IntFunction<E[]> arrayFactory;
+    private final Runnable onChange;
+
+    private int version;
+    private E[] snapshot;
+    private int snapshotVersion = -1;
+
+    SnapshotList(IntFunction<E[]> arrayFactory, Runnable onChange) {
+        this.arrayFactory = arrayFactory;
+        this.onChange = onChange;
+    }
+
+    /**
+     * Returns the current contents as an array. The array must not be modified.
+     */
+    E[] snapshot() {
+        if (snapshotVersion != version) {
+            snapshot = toArray(arrayFactory.apply(size()));
+            snapshotVersion = version;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Counter bumped on every modification of this list.
+     */
+    int version() {
+        return version;
+    }
+
+    private void changed() {
+        version++;
+        onChange.run();
+    }
+
+    // ========================================================================
+    // TRACKED MUTATORS
+    // ========================================================================
+
+    @Override
+    public boolean add(E element) {
+        super.add(element);
+        changed();
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        super.add(index, element);
+        changed();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        boolean modified = super.addAll(c);
+        if (modified) changed();
+        return modified;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        boolean modified = super.addAll(index, c);
+        if (modified) changed();
+        return modified;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E previous = super.set(index, element);
+        changed();
+        return previous;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = super.remove(index);
+        changed();
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        boolean modified = super.remove(o);
+        if (modified) changed();
+        return modified;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        boolean modified = super.removeAll(c);
+        if (modified) changed();
+        return modified;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        boolean modified = super.retainAll(c);
+        if (modified) changed();
+        return modified;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        boolean modified = super.removeIf(filter);
+        if (modified) changed();
+        return modified;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        super.removeRange(fromIndex, toIndex);
+        changed();
+    }
+
+    @Override
+    public void clear() {
+        if (isEmpty()) return;
+        super.clear();
+        changed();
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        super.replaceAll(operator);
+        changed();
+    }
+
+    @Override
+    public void sort(Comparator<? super E> c) {
+        super.sort(c);
+        changed();
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return Collections.unmodifiableList(super.subList(fromIndex, toIndex));
+    }
+}
@@ -264,6 +264,10 @@ public class GameApplication {
             engine.destroy();
         }
 
+        // After the scene is unloaded, so exit autosaves are flushed too
+        SaveManager.shutdown();
+        Assets.destroy();
+
         if (window != null) {
             window.destroy();
         }
@@ -14,6 +14,7 @@ import com.pocket.rpg.rendering.pipeline.RenderPipeline;
 import com.pocket.rpg.rendering.postfx.PostProcessing;
 import com.pocket.rpg.rendering.postfx.PostProcessor;
 import com.pocket.rpg.rendering.core.RenderTarget;
+import com.pocket.rpg.resources.Assets;
 import com.pocket.rpg.scenes.Scene;
 import com.pocket.rpg.scenes.DefaultSceneManagerContext;
 import com.pocket.rpg.scenes.SceneManager;
@@ -125,8 +126,10 @@ public class GameEngine {
 
     /**
      * Updates game logic. Reads {@code Time.deltaTime()} internally.
+     * Async asset uploads are applied first so objects see them this frame.
      */
     public void update() {
+        Assets.processUploads();
         gameLoop.update(Time.deltaTime());
     }
 
@@ -7,6 +7,7 @@ import com.pocket.rpg.config.RenderingConfig;
 import com.pocket.rpg.logging.Log;
 import com.pocket.rpg.logging.Logger;
 import com.pocket.rpg.editor.camera.EditorCamera;
+import com.pocket.rpg.editor.events.AssetChangedEvent;
 import com.pocket.rpg.editor.events.EditorEventBus;
 import com.pocket.rpg.editor.events.RegistriesRefreshRequestEvent;
 import com.pocket.rpg.editor.scene.RuntimeGameObjectAdapter;
@@ -434,8 +435,22 @@ public class EditorApplication {
 
     private void update() {
         MainThreadQueue.drain();
+
+        // Finish async loads and run unloads deferred from other threads
+        Assets.processUploads();
+
+        // Hot-reload assets changed on disk, then let panels refresh
+        Assets.processFileChanges(change -> EditorEventBus.get().publish(
+                new AssetChangedEvent(change.path(), switch (change.kind()) {
+                    case CREATED -> AssetChangedEvent.ChangeType.CREATED;
+                    case MODIFIED -> AssetChangedEvent.ChangeType.MODIFIED;
+                    case DELETED -> AssetChangedEvent.ChangeType.DELETED;
+                })));
         float deltaTime = ImGui.getIO().getDeltaTime();
 
+        // Pump streaming previews and free finished ones
+        EditorAudio.update(deltaTime);
+
         // Handle Escape key to stop play mode (edge-triggered)
         if (playModeController.isActive()) {
             boolean escapePressed = isEscapePressed();
@@ -692,6 +707,9 @@ public class EditorApplication {
         EditorAudio.destroy();
         Audio.destroy();
 
+        // Stop asset loader threads and file watchers
+        Assets.destroy();
+
         if (imGuiLayer != null) {
             imGuiLayer.destroy();
         }
@@ -329,6 +329,9 @@ public class PlayModeController {
             engine = null;
         }
 
+        // Flush saves made during play (including autosaves on scene exit)
+        SaveManager.shutdown();
+
         // Restore editor's audio context
         if (editorAudioContext != null) {
             Audio.setContext(editorAudioContext);
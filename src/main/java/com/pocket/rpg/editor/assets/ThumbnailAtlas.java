@@ -0,0 +1,157 @@
+package com.pocket.rpg.editor.assets;
+
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.lwjgl.opengl.GL33.*;
+
+/**
+ * Shared atlas pages holding {@link ThumbnailTile}s, so the asset browser draws every
+ * thumbnail from a handful of small textures instead of the full-resolution sources.
+ * <p>
+ * Slots are handed out densely and recycled through a free list; a page texture is only
+ * created once a slot on it is first used. Slot allocation and UV math don't touch
+ * OpenGL; {@link #upload} and {@link #destroy} must run on the GL thread.
+ */
+final class ThumbnailAtlas {
+
+    /** Width and height of an atlas page in pixels. */
+    static final int PAGE_SIZE = 1024;
+
+    /** Tiles per page row. */
+    static final int TILES_PER_ROW = PAGE_SIZE / ThumbnailTile.SIZE;
+
+    /** Tiles per page. */
+    static final int TILES_PER_PAGE = TILES_PER_ROW * TILES_PER_ROW;
+
+    private final List<Integer> pageTextures = new ArrayList<>();
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int nextSlot;
+
+    private ByteBuffer uploadBuffer;
+
+    // ========================================================================
+    // SLOTS
+    // ========================================================================
+
+    /**
+     * Reserves a tile slot, reusing freed slots first.
+     */
+    int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        return nextSlot++;
+    }
+
+    /**
+     * Returns a slot to the free list. Its pixels stay in the page until overwritten.
+     */
+    void free(int slot) {
+        if (freeCount == freeSlots.length) {
+            int[] grown = new int[freeSlots.length * 2];
+            System.arraycopy(freeSlots, 0, grown, 0, freeCount);
+            freeSlots = grown;
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    /**
+     * Number of slots currently in use.
+     */
+    int usedSlots() {
+        return nextSlot - freeCount;
+    }
+
+    static int page(int slot) {
+        return slot / TILES_PER_PAGE;
+    }
+
+    /**
+     * Gets the UVs of a slot within its page.
+     *
+     * @return [u0, v0, u1, v1], v0 being the bottom edge (same convention as Sprite UVs)
+     */
+    static float[] uvs(int slot) {
+        int index = slot % TILES_PER_PAGE;
+        float tile = (float) ThumbnailTile.SIZE / PAGE_SIZE;
+        float u0 = (index % TILES_PER_ROW) * tile;
+        float v0 = (index / TILES_PER_ROW) * tile;
+        return new float[]{u0, v0, u0 + tile, v0 + tile};
+    }
+
+    // ========================================================================
+    // GPU
+    // ========================================================================
+
+    /**
+     * Gets the OpenGL texture of the page holding a slot, or 0 if nothing has been
+     * uploaded to that page yet.
+     */
+    int textureId(int slot) {
+        int page = page(slot);
+        return page < pageTextures.size() ? pageTextures.get(page) : 0;
+    }
+
+    /**
+     * Copies tile pixels into a slot, creating its page texture if needed.
+     *
+     * @param pixels Tile pixels ({@link ThumbnailTile#BYTES} long, bottom row first)
+     * @return The page texture id
+     */
+    int upload(int slot, byte[] pixels) {
+        int page = page(slot);
+        while (pageTextures.size() <= page) {
+            pageTextures.add(createPage());
+        }
+
+        if (uploadBuffer == null) {
+            uploadBuffer = MemoryUtil.memAlloc(ThumbnailTile.BYTES);
+        }
+        uploadBuffer.clear();
+        uploadBuffer.put(pixels).flip();
+
+        int index = slot % TILES_PER_PAGE;
+        int texture = pageTextures.get(page);
+        glBindTexture(GL_TEXTURE_2D, texture);
+        glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
+        glTexSubImage2D(GL_TEXTURE_2D, 0,
+                (index % TILES_PER_ROW) * ThumbnailTile.SIZE, (index / TILES_PER_ROW) * ThumbnailTile.SIZE,
+                ThumbnailTile.SIZE, ThumbnailTile.SIZE, GL_RGBA, GL_UNSIGNED_BYTE, uploadBuffer);
+        glBindTexture(GL_TEXTURE_2D, 0);
+        return texture;
+    }
+
+    private int createPage() {
+        int id = glGenTextures();
+        glBindTexture(GL_TEXTURE_2D, id);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_NEAREST);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_NEAREST);
+        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, PAGE_SIZE, PAGE_SIZE, 0,
+                GL_RGBA, GL_UNSIGNED_BYTE, (ByteBuffer) null);
+        glBindTexture(GL_TEXTURE_2D, 0);
+        return id;
+    }
+
+    /**
+     * Deletes all page textures and forgets every slot.
+     */
+    void destroy() {
+        for (int texture : pageTextures) {
+            glDeleteTextures(texture);
+        }
+        pageTextures.clear();
+        freeCount = 0;
+        nextSlot = 0;
+        if (uploadBuffer != null) {
+            MemoryUtil.memFree(uploadBuffer);
+            uploadBuffer = null;
+        }
+    }
+}
@@ -1,114 +1,409 @@
 package com.pocket.rpg.editor.assets;
 
+import com.pocket.rpg.logging.Log;
 import com.pocket.rpg.rendering.resources.Sprite;
 import com.pocket.rpg.rendering.resources.Texture;
+import com.pocket.rpg.resources.AssetMetadata;
+import com.pocket.rpg.resources.Assets;
+import com.pocket.rpg.resources.SpriteMetadata;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Cache for asset preview thumbnails.
  * <p>
- * Stores OpenGL texture IDs for ImGui.image() calls.
- * Lazy loads thumbnails on first access.
+ * Thumbnails are downscaled into fixed-size tiles packed into shared atlas pages, so the
+ * asset browser never needs the full-resolution textures. Tiles are generated on a
+ * background thread and persisted in a {@link ThumbnailDiskCache} keyed by asset path and
+ * validated against the asset's modification stamp, so a restarted editor shows them
+ * without loading anything.
+ * <p>
+ * Image assets are decoded straight from disk. Other asset types (animations, prefabs...)
+ * have no image of their own: on a cache miss their preview sprite is loaded once on the
+ * GL thread to find which image region to render, and the resulting tile is cached like
+ * any other.
+ * <p>
+ * All public methods must be called from the GL thread. {@link #update()} must be called
+ * once per frame to upload finished tiles.
  */
 public class ThumbnailCache {
 
-    private final Map<String, Integer> textureIds = new HashMap<>();
-    private final Map<String, float[]> uvCoords = new HashMap<>(); // [u0, v0, u1, v1]
+    /** Time spent uploading finished tiles per frame: 2 ms. */
+    private static final long UPLOAD_BUDGET_NANOS = 2_000_000L;
+
+    /** Extensions decoded directly as images (same as SpriteLoader). */
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of(".png", ".jpg", ".jpeg", ".bmp", ".tga");
 
     /**
-     * Gets the cached texture ID for an asset, or caches it if not present.
-     *
-     * @param path   Asset path (cache key)
-     * @param sprite Preview sprite (may be null)
-     * @return OpenGL texture ID, or 0 if no preview available
+     * A ready thumbnail: the atlas page to draw and the tile's UVs.
+     * UVs follow the Sprite convention (v0 is the bottom edge).
      */
-    public int getTextureId(String path, Sprite sprite) {
-        if (sprite == null || sprite.getTexture() == null) {
-            return 0;
-        }
+    public record Thumbnail(int textureId, float u0, float v0, float u1, float v1) {
+    }
 
-        Integer cached = textureIds.get(path);
-        if (cached != null) {
-            return cached;
-        }
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final ConcurrentLinkedQueue<Runnable> completed = new ConcurrentLinkedQueue<>();
+    private final ThumbnailAtlas atlas = new ThumbnailAtlas();
+    private final ThumbnailDiskCache diskCache;
+    private ExecutorService worker;
 
-        // Cache the texture ID and UV coords
-        Texture texture = sprite.getTexture();
-        int texId = texture.getTextureId();
-        textureIds.put(path, texId);
+    public ThumbnailCache() {
+        this(Path.of(ThumbnailDiskCache.DEFAULT_ROOT));
+    }
+
+    /**
+     * @param cacheDirectory Directory where generated tiles are persisted
+     */
+    public ThumbnailCache(Path cacheDirectory) {
+        this.diskCache = new ThumbnailDiskCache(cacheDirectory);
+    }
 
-        // Store UV coordinates for sprite sheets
-        uvCoords.put(path, new float[]{
-                sprite.getU0(),
-                sprite.getV0(),
-                sprite.getU1(),
-                sprite.getV1()
-        });
+    // ========================================================================
+    // LOOKUP
+    // ========================================================================
 
-        return texId;
+    /**
+     * Gets the thumbnail of an asset, queuing its generation on first access.
+     *
+     * @param path Asset path
+     * @param type Asset type
+     * @return The thumbnail, or null while it is being generated or if the asset has no preview
+     */
+    public Thumbnail get(String path, Class<?> type) {
+        return get(path, path, type, -1);
     }
 
     /**
-     * Gets the cached texture ID for a spritesheet sprite.
+     * Gets the thumbnail of a spritesheet cell, queuing its generation on first access.
      *
      * @param sheetPath   Spritesheet path
      * @param spriteIndex Sprite index within the sheet
-     * @param sprite      The sprite at that index
-     * @return OpenGL texture ID, or 0 if no preview available
+     * @return The thumbnail, or null while it is being generated
      */
-    public int getTextureId(String sheetPath, int spriteIndex, Sprite sprite) {
-        String key = sheetPath + "#" + spriteIndex;
-        return getTextureId(key, sprite);
+    public Thumbnail get(String sheetPath, int spriteIndex) {
+        return get(sheetPath + "#" + spriteIndex, sheetPath, Sprite.class, spriteIndex);
+    }
+
+    private Thumbnail get(String key, String path, Class<?> type, int spriteIndex) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry(key, path, type, spriteIndex);
+            entries.put(key, entry);
+            submit(entry, null);
+        }
+        return entry.thumbnail;
     }
 
     /**
-     * Gets UV coordinates for a cached sprite.
-     *
-     * @param path Asset path (same as used in getTextureId)
-     * @return [u0, v0, u1, v1] or default [0,0,1,1] if not cached
+     * Checks if a thumbnail is ready to draw.
      */
-    public float[] getUVCoords(String path) {
-        float[] coords = uvCoords.get(path);
-        return coords != null ? coords : new float[]{0f, 0f, 1f, 1f};
+    public boolean isCached(String key) {
+        Entry entry = entries.get(key);
+        return entry != null && entry.thumbnail != null;
     }
 
     /**
-     * Gets UV coordinates for a spritesheet sprite.
+     * Gets the number of ready thumbnails.
      */
-    public float[] getUVCoords(String sheetPath, int spriteIndex) {
-        String key = sheetPath + "#" + spriteIndex;
-        return getUVCoords(key);
+    public int size() {
+        return atlas.usedSlots();
     }
 
+    // ========================================================================
+    // FRAME UPDATE
+    // ========================================================================
+
     /**
-     * Checks if a path is cached.
+     * Uploads tiles finished by the background thread, within a small time budget.
+     * Call once per frame from the GL thread.
      */
-    public boolean isCached(String path) {
-        return textureIds.containsKey(path);
+    public void update() {
+        long start = System.nanoTime();
+        Runnable task;
+        while ((task = completed.poll()) != null) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                Log.warn("ThumbnailCache", "Thumbnail upload failed: " + e.getMessage());
+            }
+            if (System.nanoTime() - start >= UPLOAD_BUDGET_NANOS) {
+                break;
+            }
+        }
     }
 
+    // ========================================================================
+    // INVALIDATION
+    // ========================================================================
+
     /**
-     * Invalidates a cached thumbnail.
+     * Re-checks every thumbnail against the files on disk in the background.
+     * Unchanged thumbnails stay on screen; changed ones are regenerated in place,
+     * deleted ones are dropped, and failed ones are retried on next access.
+     */
+    public void revalidate() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.failed) {
+                it.remove();
+            } else if (!entry.pending) {
+                submit(entry, null);
+            }
+        }
+    }
+
+    /**
+     * Invalidates a cached thumbnail (and all of its spritesheet cells), also removing
+     * it from the disk cache.
      */
     public void invalidate(String path) {
-        textureIds.remove(path);
-        uvCoords.remove(path);
+        String cellPrefix = path + "#";
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.key.equals(path) || entry.key.startsWith(cellPrefix)) {
+                release(entry);
+                diskCache.delete(entry.key);
+                it.remove();
+            }
+        }
     }
 
     /**
-     * Clears all cached thumbnails.
+     * Clears all in-memory thumbnails. The disk cache is kept.
      */
     public void clear() {
-        textureIds.clear();
-        uvCoords.clear();
+        completed.clear();
+        entries.clear();
+        atlas.destroy();
     }
 
     /**
-     * Gets the number of cached thumbnails.
+     * Clears everything and stops the background thread.
      */
-    public int size() {
-        return textureIds.size();
+    public void destroy() {
+        clear();
+        if (worker != null) {
+            worker.shutdownNow();
+            worker = null;
+        }
+    }
+
+    // ========================================================================
+    // GENERATION
+    // ========================================================================
+
+    /**
+     * Tracks one thumbnail. Only touched on the GL thread; background work is handed a
+     * {@link Request} snapshot and reports back through {@link #completed}.
+     */
+    private static final class Entry {
+        final String key;
+        final String path;
+        final Class<?> type;
+        final int spriteIndex; // -1 for the whole asset
+
+        Thumbnail thumbnail;
+        int slot = -1;
+        boolean pending;
+        boolean failed;
+
+        // What the current tile was generated from
+        long assetStamp;
+        String sourceFile;
+        long sourceModified;
+
+        Entry(String key, String path, Class<?> type, int spriteIndex) {
+            this.key = key;
+            this.path = path;
+            this.type = type;
+            this.spriteIndex = spriteIndex;
+        }
+    }
+
+    /**
+     * Image region to render for assets that aren't images themselves.
+     */
+    private record Preview(String file, float u0, float v0, float u1, float v1) {
+    }
+
+    /**
+     * Immutable snapshot of an entry handed to the background thread.
+     */
+    private record Request(Entry entry, String key, Path assetFile, String path, Class<?> type, boolean image, int spriteIndex,
+                           long knownStamp, String knownSource, long knownSourceModified, Preview preview) {
+    }
+
+    private void submit(Entry entry, Preview preview) {
+        entry.pending = true;
+        Path assetFile = Path.of(Assets.getAssetRoot(), entry.path);
+        Request request = new Request(entry, entry.key, assetFile, entry.path, entry.type, isImage(entry), entry.spriteIndex,
+                entry.assetStamp, entry.sourceFile, entry.sourceModified, preview);
+        worker().execute(() -> generate(request));
+    }
+
+    /**
+     * Background step: validates the current tile, then tries the disk cache, then
+     * renders a new tile. Asset types that need their preview sprite bounce back to
+     * the GL thread through {@link #resolvePreview}.
+     */
+    private void generate(Request request) {
+        Path metadataFile = Path.of(AssetMetadata.getMetadataPath(request.path()));
+        long stamp = ThumbnailDiskCache.stamp(request.assetFile(), metadataFile);
+        if (stamp == 0) {
+            complete(request.entry(), null);
+            return;
+        }
+
+        if (request.preview() == null) {
+            if (stamp == request.knownStamp() && request.knownSource() != null
+                    && ThumbnailDiskCache.lastModified(Path.of(request.knownSource())) == request.knownSourceModified()) {
+                completed.add(() -> request.entry().pending = false);
+                return;
+            }
+
+            ThumbnailDiskCache.Entry cached = diskCache.read(request.key(), stamp);
+            if (cached != null) {
+                complete(request.entry(), cached);
+                return;
+            }
+
+            if (!request.image()) {
+                completed.add(() -> resolvePreview(request.entry()));
+                return;
+            }
+        }
+
+        try {
+            complete(request.entry(), render(request, stamp));
+        } catch (Exception e) {
+            Log.warn("ThumbnailCache", "Failed to generate thumbnail for " + request.key() + ": " + e.getMessage());
+            complete(request.entry(), null);
+        }
+    }
+
+    private ThumbnailDiskCache.Entry render(Request request, long stamp) {
+        Preview preview = request.preview();
+        String sourceFile = preview != null ? preview.file() : request.assetFile().toString();
+
+        byte[] pixels;
+        Texture.DecodedImage image = Texture.decode(sourceFile);
+        try {
+            int[] rect = preview != null
+                    ? ThumbnailTile.uvRect(preview.u0(), preview.v0(), preview.u1(), preview.v1(), image.width(), image.height())
+                    : imageRect(request, image.width(), image.height());
+            if (rect == null) {
+                return null;
+            }
+            pixels = ThumbnailTile.render(image.pixels(), image.width(), image.height(), rect);
+        } finally {
+            image.free();
+        }
+
+        ThumbnailDiskCache.Entry tile = new ThumbnailDiskCache.Entry(
+                stamp, sourceFile, ThumbnailDiskCache.lastModified(Path.of(sourceFile)), pixels);
+        try {
+            diskCache.write(request.key(), tile);
+        } catch (IOException e) {
+            Log.warn("ThumbnailCache", "Failed to cache thumbnail for " + request.key() + ": " + e.getMessage());
+        }
+        return tile;
+    }
+
+    /**
+     * Region of an image asset to show: the requested cell of a spritesheet, the
+     * first cell for the sheet itself (like its preview sprite), or the whole image.
+     */
+    private static int[] imageRect(Request request, int width, int height) {
+        SpriteMetadata meta = request.type() == Sprite.class
+                ? AssetMetadata.load(request.path(), SpriteMetadata.class) : null;
+        if (meta != null && meta.isMultiple() && meta.grid != null) {
+            return ThumbnailTile.cellRect(meta.grid, Math.max(0, request.spriteIndex()), width, height);
+        }
+        return request.spriteIndex() > 0 ? null : new int[]{0, 0, width, height};
+    }
+
+    /**
+     * GL-thread step for non-image assets missing from the disk cache: loads the
+     * preview sprite to find its source image and region, then renders in the background.
+     */
+    private void resolvePreview(Entry entry) {
+        if (entries.get(entry.key) != entry) return;
+
+        Sprite sprite = Assets.getPreviewSprite(entry.path, entry.type);
+        Texture texture = sprite != null ? sprite.getTexture() : null;
+        if (texture == null || texture.getFilePath() == null) {
+            complete(entry, null);
+            return;
+        }
+
+        submit(entry, new Preview(texture.getFilePath(),
+                sprite.getU0(), sprite.getV0(), sprite.getU1(), sprite.getV1()));
+    }
+
+    /**
+     * Hands a finished tile (or a failure, when null) back to the GL thread.
+     */
+    private void complete(Entry entry, ThumbnailDiskCache.Entry tile) {
+        completed.add(() -> apply(entry, tile));
+    }
+
+    private void apply(Entry entry, ThumbnailDiskCache.Entry tile) {
+        if (entries.get(entry.key) != entry) return; // Cleared or invalidated meanwhile
+
+        entry.pending = false;
+        if (tile == null) {
+            release(entry);
+            entry.failed = true;
+            return;
+        }
+
+        if (entry.slot < 0) {
+            entry.slot = atlas.allocate();
+        }
+        int textureId = atlas.upload(entry.slot, tile.pixels());
+        float[] uv = ThumbnailAtlas.uvs(entry.slot);
+        entry.thumbnail = new Thumbnail(textureId, uv[0], uv[1], uv[2], uv[3]);
+        entry.assetStamp = tile.assetStamp();
+        entry.sourceFile = tile.sourceFile();
+        entry.sourceModified = tile.sourceModified();
+    }
+
+    private void release(Entry entry) {
+        if (entry.slot >= 0) {
+            atlas.free(entry.slot);
+            entry.slot = -1;
+        }
+        entry.thumbnail = null;
+    }
+
+    private static boolean isImage(Entry entry) {
+        if (entry.type != Sprite.class && entry.type != Texture.class) {
+            return false;
+        }
+        String path = entry.path.toLowerCase(Locale.ROOT);
+        int dot = path.lastIndexOf('.');
+        return dot >= 0 && IMAGE_EXTENSIONS.contains(path.substring(dot));
+    }
+
+    private ExecutorService worker() {
+        if (worker == null) {
+            worker = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "thumbnail-generator");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return worker;
     }
 }
@@ -0,0 +1,152 @@
+package com.pocket.rpg.editor.assets;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * On-disk store for generated thumbnail tiles, so a restarted editor can show
+ * thumbnails without loading the source assets.
+ * <p>
+ * One file per thumbnail key (asset path, plus {@code #index} for spritesheet cells).
+ * Each file records the stamp of the asset it was generated from and the image file the
+ * pixels came from, and is only used while both are unchanged on disk. A regenerated
+ * thumbnail overwrites the same file, so stale entries don't accumulate.
+ * <p>
+ * Safe to use from worker threads; every call only touches its own file.
+ */
+final class ThumbnailDiskCache {
+
+    /** Default cache directory, relative to working directory. */
+    static final String DEFAULT_ROOT = "gameData/.cache/thumbnails/";
+
+    private static final int MAGIC = 0x50544842; // "PTHB"
+    private static final int VERSION = 1;
+
+    private final Path root;
+
+    /**
+     * A cached tile and what it was generated from.
+     *
+     * @param assetStamp     {@link #stamp} of the asset (and its metadata) at generation time
+     * @param sourceFile     Image file the pixels were rendered from
+     * @param sourceModified Last-modified time of the image file at generation time
+     * @param pixels         Tile pixels ({@link ThumbnailTile#BYTES} long)
+     */
+    record Entry(long assetStamp, String sourceFile, long sourceModified, byte[] pixels) {
+    }
+
+    ThumbnailDiskCache(Path root) {
+        this.root = root;
+    }
+
+    /**
+     * Computes a stamp that changes whenever the asset file or its metadata changes.
+     *
+     * @param asset    Asset file
+     * @param metadata Metadata file (may not exist)
+     * @return Stamp, or 0 if the asset file doesn't exist
+     */
+    static long stamp(Path asset, Path metadata) {
+        try {
+            long modified = Files.getLastModifiedTime(asset).toMillis();
+            long size = Files.size(asset);
+            long metaModified = Files.exists(metadata) ? Files.getLastModifiedTime(metadata).toMillis() : 0;
+            return ((modified * 31 + size) * 31 + metaModified) | 1;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Gets the last-modified time of a file, or 0 if it can't be read.
+     */
+    static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Reads a cached tile if it is still valid for the given asset stamp.
+     *
+     * @return The entry, or null if missing, stale or unreadable
+     */
+    Entry read(String key, long assetStamp) {
+        Path file = fileFor(key);
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new InflaterInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            long stamp = in.readLong();
+            String sourceFile = in.readUTF();
+            long sourceModified = in.readLong();
+            if (stamp != assetStamp || lastModified(Path.of(sourceFile)) != sourceModified) {
+                return null;
+            }
+
+            byte[] pixels = new byte[ThumbnailTile.BYTES];
+            in.readFully(pixels);
+            return new Entry(stamp, sourceFile, sourceModified, pixels);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes a tile, replacing any previous file for the key. Written to a temporary
+     * file first so a concurrent reader never sees a partial tile.
+     *
+     * @throws IOException if the file can't be written
+     */
+    void write(String key, Entry entry) throws IOException {
+        Path file = fileFor(key);
+        Files.createDirectories(file.getParent());
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new DeflaterOutputStream(Files.newOutputStream(temp))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(entry.assetStamp());
+            out.writeUTF(entry.sourceFile());
+            out.writeLong(entry.sourceModified());
+            out.write(entry.pixels());
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Deletes the cached tile for a key, if any.
+     */
+    void delete(String key) {
+        try {
+            Files.deleteIfExists(fileFor(key));
+        } catch (IOException ignored) {
+        }
+    }
+
+    Path fileFor(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] hash = digest.digest(key.getBytes(StandardCharsets.UTF_8));
+            return root.resolve(HexFormat.of().formatHex(hash) + ".thumb");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+}
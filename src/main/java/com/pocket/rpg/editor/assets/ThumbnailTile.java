@@ -0,0 +1,123 @@
+package com.pocket.rpg.editor.assets;
+
+import com.pocket.rpg.resources.SpriteMetadata;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-size RGBA thumbnail rendered from a region of a decoded image.
+ * <p>
+ * Pure CPU code so it can run on worker threads. Pixel rows are stored bottom row
+ * first, matching {@link com.pocket.rpg.rendering.resources.Texture#decode(String)},
+ * so tiles can be uploaded straight into an atlas page.
+ */
+final class ThumbnailTile {
+
+    /** Width and height of every tile in pixels. */
+    static final int SIZE = 64;
+
+    /** Byte length of a tile's pixel data. */
+    static final int BYTES = SIZE * SIZE * 4;
+
+    private ThumbnailTile() {
+    }
+
+    /**
+     * Scales a region of an image into a square tile, preserving its aspect ratio and
+     * centering it on a transparent background. Regions larger than the tile are box
+     * filtered; smaller ones are scaled up with nearest sampling so pixel art stays crisp.
+     *
+     * @param rgba        Image pixels, RGBA, bottom row first
+     * @param imageWidth  Image width in pixels
+     * @param imageHeight Image height in pixels
+     * @param rect        Region {x, y, width, height} in pixels, y measured from the bottom
+     * @return Tile pixels ({@link #BYTES} long)
+     */
+    static byte[] render(ByteBuffer rgba, int imageWidth, int imageHeight, int[] rect) {
+        byte[] tile = new byte[BYTES];
+
+        int x = Math.max(0, rect[0]);
+        int y = Math.max(0, rect[1]);
+        int w = Math.min(imageWidth, rect[0] + rect[2]) - x;
+        int h = Math.min(imageHeight, rect[1] + rect[3]) - y;
+        if (w <= 0 || h <= 0) {
+            return tile;
+        }
+
+        float scale = (float) SIZE / Math.max(w, h);
+        int dstW = Math.max(1, Math.min(SIZE, Math.round(w * scale)));
+        int dstH = Math.max(1, Math.min(SIZE, Math.round(h * scale)));
+        int offsetX = (SIZE - dstW) / 2;
+        int offsetY = (SIZE - dstH) / 2;
+
+        for (int dy = 0; dy < dstH; dy++) {
+            int sy0 = y + (int) ((long) dy * h / dstH);
+            int sy1 = Math.max(sy0 + 1, y + (int) ((long) (dy + 1) * h / dstH));
+
+            for (int dx = 0; dx < dstW; dx++) {
+                int sx0 = x + (int) ((long) dx * w / dstW);
+                int sx1 = Math.max(sx0 + 1, x + (int) ((long) (dx + 1) * w / dstW));
+
+                // Alpha-weighted average so transparent pixels don't darken the edges
+                long r = 0, g = 0, b = 0, a = 0;
+                int count = 0;
+                for (int sy = sy0; sy < sy1; sy++) {
+                    int row = sy * imageWidth;
+                    for (int sx = sx0; sx < sx1; sx++) {
+                        int i = (row + sx) * 4;
+                        int pa = rgba.get(i + 3) & 0xFF;
+                        r += (long) (rgba.get(i) & 0xFF) * pa;
+                        g += (long) (rgba.get(i + 1) & 0xFF) * pa;
+                        b += (long) (rgba.get(i + 2) & 0xFF) * pa;
+                        a += pa;
+                        count++;
+                    }
+                }
+
+                int o = ((offsetY + dy) * SIZE + offsetX + dx) * 4;
+                if (a > 0) {
+                    tile[o] = (byte) (r / a);
+                    tile[o + 1] = (byte) (g / a);
+                    tile[o + 2] = (byte) (b / a);
+                    tile[o + 3] = (byte) (a / count);
+                }
+            }
+        }
+        return tile;
+    }
+
+    /**
+     * Gets the pixel rect of a spritesheet cell, using the same layout as
+     * {@link com.pocket.rpg.rendering.resources.SpriteGrid}.
+     *
+     * @return {x, y, width, height} with y measured from the bottom, or null if the
+     *         index is outside the grid
+     */
+    static int[] cellRect(SpriteMetadata.GridSettings grid, int index, int imageWidth, int imageHeight) {
+        int columns = grid.calculateColumns(imageWidth);
+        int total = columns * grid.calculateRows(imageHeight);
+        if (index < 0 || index >= total) {
+            return null;
+        }
+
+        int row = index / columns;
+        int col = index % columns;
+        int px = grid.offsetX + col * (grid.spriteWidth + grid.spacingX);
+        int pyTop = grid.offsetY + row * (grid.spriteHeight + grid.spacingY);
+        int py = imageHeight - (pyTop + grid.spriteHeight);
+        return new int[]{px, py, grid.spriteWidth, grid.spriteHeight};
+    }
+
+    /**
+     * Converts sprite UVs to a pixel rect.
+     *
+     * @return {x, y, width, height} with y measured from the bottom
+     */
+    static int[] uvRect(float u0, float v0, float u1, float v1, int imageWidth, int imageHeight) {
+        int x0 = Math.round(Math.min(u0, u1) * imageWidth);
+        int y0 = Math.round(Math.min(v0, v1) * imageHeight);
+        int x1 = Math.round(Math.max(u0, u1) * imageWidth);
+        int y1 = Math.round(Math.max(v0, v1) * imageHeight);
+        return new int[]{x0, y0, x1 - x0, y1 - y0};
+    }
+}
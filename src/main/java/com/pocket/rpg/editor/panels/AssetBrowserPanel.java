@@ -10,7 +10,6 @@ import com.pocket.rpg.editor.assets.ThumbnailCache;
 import com.pocket.rpg.editor.core.EditorColors;
 import com.pocket.rpg.editor.core.EditorFonts;
 import com.pocket.rpg.editor.core.MaterialIcons;
-import com.pocket.rpg.logging.Log;
 import com.pocket.rpg.rendering.resources.Sprite;
 import com.pocket.rpg.rendering.resources.SpriteGrid;
 import com.pocket.rpg.resources.AssetMetadata;
@@ -91,7 +90,6 @@ public class AssetBrowserPanel extends EditorPanel {
     // Refresh tracking
     private boolean needsRefresh = true;
     private long lastRefreshTime = 0;
-    private boolean isRefreshing = false;
     private static final long REFRESH_COOLDOWN_MS = 1000;
 
     // Highlight state for focusOnAsset
@@ -126,22 +124,20 @@ public class AssetBrowserPanel extends EditorPanel {
     }
 
     private void onAssetChanged(AssetChangedEvent event) {
-        if (isRefreshing) return; // Ignore events from our own refresh
-
-        // Evict deleted assets from cache before refreshing — avoids
-        // "Failed to reload" errors when reloadAll() tries to read a removed file.
+        // Evict deleted assets so nothing keeps serving a removed file
         if (event.changeType() == AssetChangedEvent.ChangeType.DELETED) {
             Assets.unload(event.path());
         }
 
-        // Force refresh (bypass cooldown) when assets change
+        // Refresh on next render (bypassing cooldown), once per burst of changes
         lastRefreshTime = 0;
-        refresh();
+        needsRefresh = true;
     }
 
     /**
-     * Refreshes the asset list from disk.
-     * Also hot-reloads any cached assets that have been modified.
+     * Refreshes the asset list from the asset index.
+     * Modified assets are hot-reloaded by the file watcher before their change event
+     * arrives, so this only rebuilds the view.
      */
     public void refresh() {
         long now = System.currentTimeMillis();
@@ -150,22 +146,9 @@ public class AssetBrowserPanel extends EditorPanel {
         }
         lastRefreshTime = now;
 
-        // Hot-reload modified assets from disk
-        isRefreshing = true;
-        try {
-            int reloaded = Assets.reloadAll();
-            if (reloaded > 0) {
-                Log.info("AssetBrowser", "Reloaded " + reloaded + " assets from disk");
-                // Notify other panels (e.g. GameViewPanel) that assets were reloaded
-                EditorEventBus.get().publish(new AssetChangedEvent("*", AssetChangedEvent.ChangeType.MODIFIED));
-            }
-        } finally {
-            isRefreshing = false;
-        }
-
-        // Clear caches (thumbnails will regenerate with new data)
+        // Clear caches (thumbnails are re-checked in the background and regenerate if changed)
         multipleModeCache.clear();
-        thumbnailCache.clear();
+        thumbnailCache.revalidate();
 
         // Scan all assets
         List<String> allPaths = Assets.scanAll();
@@ -286,6 +269,8 @@ public class AssetBrowserPanel extends EditorPanel {
             refresh();
         }
 
+        thumbnailCache.update();
+
         // Check for Escape to cancel drag operation.
         // Workaround: imgui-java doesn't expose ImGui::ClearDragDrop(), so we use a flag-based
         // approach. The drag tooltip is hidden but the user must release the mouse to fully end it.
@@ -356,8 +341,9 @@ public class AssetBrowserPanel extends EditorPanel {
 
         // Refresh button
         if (ImGui.button(MaterialIcons.Sync + " Refresh")) {
+            // Re-walk the asset folders in case the file watcher missed something
+            Assets.rescanAssets();
             needsRefresh = true;
-            thumbnailCache.clear();
         }
     }
 
@@ -800,16 +786,13 @@ public class AssetBrowserPanel extends EditorPanel {
 
         boolean clicked = false;
 
-        // Try to get preview
-        Sprite preview = getPreviewSprite(entry);
-        if (preview != null && preview.getTexture() != null) {
-            int texId = thumbnailCache.getTextureId(entry.path, preview);
-            float[] uv = thumbnailCache.getUVCoords(entry.path);
-
+        // Try to get preview (null until generated, or if the asset has none)
+        ThumbnailCache.Thumbnail preview = thumbnailCache.get(entry.path, entry.type);
+        if (preview != null) {
             // Remove frame padding so imageButton matches button total size
             ImGui.pushStyleVar(ImGuiStyleVar.FramePadding, 0, 0);
-            clicked = ImGui.imageButton(entry.path, texId, thumbnailSize, thumbnailSize,
-                    uv[0], uv[3], uv[2], uv[1]);
+            clicked = ImGui.imageButton(entry.path, preview.textureId(), thumbnailSize, thumbnailSize,
+                    preview.u0(), preview.v1(), preview.u1(), preview.v0());
             ImGui.popStyleVar();
         } else {
             // Fallback: icon-only button with appropriately sized font
@@ -896,10 +879,9 @@ public class AssetBrowserPanel extends EditorPanel {
                 ImGui.setDragDropPayload(AssetDragPayload.DRAG_TYPE, payload.serialize());
 
                 // Drag preview with sprite thumbnail
-                if (preview != null && preview.getTexture() != null) {
-                    int texId = thumbnailCache.getTextureId(entry.path, preview);
-                    float[] uv = thumbnailCache.getUVCoords(entry.path);
-                    ImGui.image(texId, 32, 32, uv[0], uv[3], uv[2], uv[1]);
+                if (preview != null) {
+                    ImGui.image(preview.textureId(), 32, 32,
+                            preview.u0(), preview.v1(), preview.u1(), preview.v0());
                     ImGui.sameLine();
                 }
                 ImGui.text(entry.filename);
@@ -1013,13 +995,15 @@ public class AssetBrowserPanel extends EditorPanel {
 
         ImGui.pushID(spriteId);
 
-        int texId = thumbnailCache.getTextureId(sheetEntry.path, index, sprite);
-        float[] uv = thumbnailCache.getUVCoords(sheetEntry.path, index);
+        ThumbnailCache.Thumbnail thumbnail = thumbnailCache.get(sheetEntry.path, index);
 
         // Remove frame padding so imageButton matches button total size
         ImGui.pushStyleVar(ImGuiStyleVar.FramePadding, 0, 0);
-        if (ImGui.imageButton(spriteId, texId, size, size,
-                uv[0], uv[3], uv[2], uv[1])) {
+        boolean clicked = thumbnail != null
+                ? ImGui.imageButton(spriteId, thumbnail.textureId(), size, size,
+                        thumbnail.u0(), thumbnail.v1(), thumbnail.u1(), thumbnail.v0())
+                : ImGui.button("##" + spriteId, size, size); // Blank until generated
+        if (clicked) {
             // Selected this sprite
             selectedAsset = sheetEntry; // Keep sheet selected
         }
@@ -1047,8 +1031,11 @@ public class AssetBrowserPanel extends EditorPanel {
                 ImGui.setDragDropPayload(AssetDragPayload.DRAG_TYPE, payload.serialize());
 
                 // Drag preview with sprite thumbnail
-                ImGui.image(texId, 32, 32, uv[0], uv[3], uv[2], uv[1]);
-                ImGui.sameLine();
+                if (thumbnail != null) {
+                    ImGui.image(thumbnail.textureId(), 32, 32,
+                            thumbnail.u0(), thumbnail.v1(), thumbnail.u1(), thumbnail.v0());
+                    ImGui.sameLine();
+                }
                 ImGui.text(sheetEntry.filename + "#" + index);
             }
             // When cancelled, empty tooltip (small box remains due to imgui-java limitation)
@@ -1211,10 +1198,6 @@ public class AssetBrowserPanel extends EditorPanel {
         }
     }
 
-    private Sprite getPreviewSprite(AssetEntry entry) {
-        return Assets.getPreviewSprite(entry.path, entry.type);
-    }
-
     private String getIconForType(Class<?> type) {
         return Assets.getIconCodepoint(type);
     }
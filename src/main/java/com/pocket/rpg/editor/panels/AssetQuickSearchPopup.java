@@ -1,7 +1,6 @@
 package com.pocket.rpg.editor.panels;
 
 import com.pocket.rpg.editor.core.MaterialIcons;
-import com.pocket.rpg.editor.utils.FuzzyMatcher;
 import com.pocket.rpg.resources.Assets;
 import imgui.ImGui;
 import imgui.flag.ImGuiCond;
@@ -10,7 +9,6 @@ import imgui.flag.ImGuiWindowFlags;
 import imgui.type.ImString;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -37,7 +35,7 @@ public class AssetQuickSearchPopup {
     private Set<String> favoritePathsSet = Set.of();
     private List<String> recentPaths = List.of();
 
-    private record SearchResult(String path, Class<?> type, int score) {}
+    private record SearchResult(String path, Class<?> type) {}
 
     public void open(Consumer<String> onSelect) {
         open(onSelect, List.of(), List.of());
@@ -153,18 +151,18 @@ public class AssetQuickSearchPopup {
             Set<String> added = new HashSet<>();
             for (String p : favoritePaths) {
                 if (added.add(p) && results.size() < MAX_RESULTS) {
-                    results.add(new SearchResult(p, Assets.getTypeForPath(p), 0));
+                    results.add(new SearchResult(p, Assets.getTypeForPath(p)));
                 }
             }
             favoritesEndIndex = !results.isEmpty() ? results.size() : -1;
             for (String p : recentPaths) {
                 if (added.add(p) && results.size() < MAX_RESULTS) {
-                    results.add(new SearchResult(p, Assets.getTypeForPath(p), 0));
+                    results.add(new SearchResult(p, Assets.getTypeForPath(p)));
                 }
             }
             for (String p : allAssetPaths) {
                 if (added.add(p) && results.size() < MAX_RESULTS) {
-                    results.add(new SearchResult(p, Assets.getTypeForPath(p), 0));
+                    results.add(new SearchResult(p, Assets.getTypeForPath(p)));
                 }
             }
             filteredResults = results;
@@ -172,14 +170,8 @@ public class AssetQuickSearchPopup {
         }
 
         favoritesEndIndex = -1;
-        filteredResults = allAssetPaths.stream()
-                .map(path -> {
-                    int s = FuzzyMatcher.score(query, path);
-                    return s > 0 ? new SearchResult(path, Assets.getTypeForPath(path), s) : null;
-                })
-                .filter(r -> r != null)
-                .sorted(Comparator.comparingInt(SearchResult::score).reversed())
-                .limit(MAX_RESULTS)
+        filteredResults = Assets.searchAssets(query, MAX_RESULTS).stream()
+                .map(entry -> new SearchResult(entry.path(), entry.type()))
                 .toList();
     }
 
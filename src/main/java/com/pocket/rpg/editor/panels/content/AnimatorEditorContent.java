@@ -735,6 +735,8 @@ public class AnimatorEditorContent implements AssetEditorContent {
     // ========================================================================
 
     private void markModified() {
+        // Covers edits that bypass the model setters, e.g. condition list changes
+        if (editingController != null) editingController.invalidateCompiled();
         if (shell != null) shell.markDirty();
     }
 
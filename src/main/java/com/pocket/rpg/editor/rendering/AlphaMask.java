@@ -0,0 +1,69 @@
+package com.pocket.rpg.editor.rendering;
+
+import com.pocket.rpg.rendering.resources.Texture;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Alpha channel of a texture, kept on the CPU for pixel-accurate picking.
+ * <p>
+ * Rows are stored bottom row first, like the decoded texture, so UVs map to
+ * texels directly. Sampling is nearest-texel, like the picking framebuffer.
+ */
+public final class AlphaMask {
+
+    @Getter
+    private final int width;
+
+    @Getter
+    private final int height;
+
+    private final byte[] alpha;
+
+    private AlphaMask(int width, int height, byte[] alpha) {
+        this.width = width;
+        this.height = height;
+        this.alpha = alpha;
+    }
+
+    /**
+     * Extracts the alpha channel from tightly packed RGBA pixels.
+     *
+     * @param pixels RGBA rows, bottom row first
+     * @param width  Image width
+     * @param height Image height
+     */
+    public static AlphaMask fromRgba(ByteBuffer pixels, int width, int height) {
+        byte[] alpha = new byte[width * height];
+        for (int i = 0; i < alpha.length; i++) {
+            alpha[i] = pixels.get(i * 4 + 3);
+        }
+        return new AlphaMask(width, height, alpha);
+    }
+
+    /**
+     * Decodes an image file and keeps its alpha channel. Does not touch OpenGL.
+     *
+     * @throws RuntimeException if the image fails to load
+     */
+    public static AlphaMask decode(String filepath) {
+        Texture.DecodedImage image = Texture.decode(filepath);
+        try {
+            return fromRgba(image.pixels(), image.width(), image.height());
+        } finally {
+            image.free();
+        }
+    }
+
+    /**
+     * Samples the alpha at a texture coordinate. Coordinates are clamped to the edge.
+     *
+     * @return Alpha in the 0-1 range
+     */
+    public float alphaAt(float u, float v) {
+        int x = Math.clamp((int) Math.floor(u * width), 0, width - 1);
+        int y = Math.clamp((int) Math.floor(v * height), 0, height - 1);
+        return (alpha[y * width + x] & 0xFF) / 255f;
+    }
+}
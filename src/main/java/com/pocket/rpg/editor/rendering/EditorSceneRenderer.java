@@ -5,6 +5,8 @@ import com.pocket.rpg.rendering.targets.Framebuffer;
 import com.pocket.rpg.components.ui.UITransform;
 import com.pocket.rpg.config.RenderingConfig;
 import com.pocket.rpg.editor.camera.EditorCamera;
+import com.pocket.rpg.editor.events.AssetChangedEvent;
+import com.pocket.rpg.editor.events.EditorEventBus;
 import com.pocket.rpg.editor.scene.EditorGameObject;
 import com.pocket.rpg.editor.scene.EditorScene;
 import com.pocket.rpg.editor.scene.LayerUtils;
@@ -16,6 +18,7 @@ import com.pocket.rpg.rendering.pipeline.RenderDispatcher;
 import com.pocket.rpg.rendering.batch.SpriteBatch;
 import com.pocket.rpg.rendering.batch.BatchRenderer;
 import com.pocket.rpg.rendering.resources.Sprite;
+import com.pocket.rpg.rendering.resources.Texture;
 import com.pocket.rpg.resources.Assets;
 import imgui.ImGui;
 import imgui.ImVec2;
@@ -23,6 +26,8 @@ import org.joml.Vector2f;
 import org.joml.Vector3f;
 import org.joml.Vector4f;
 
+import java.util.function.Consumer;
+
 import static org.lwjgl.opengl.GL33.*;
 
 /**
@@ -36,7 +41,7 @@ import static org.lwjgl.opengl.GL33.*;
  *   <li>Layer opacity based on visibility mode (dim inactive layers)</li>
  *   <li>Entity rendering with layer-aware tinting</li>
  *   <li>Frustum culling via RenderDispatcher's CullingSystem</li>
- *   <li>GPU color picking for pixel-accurate entity selection</li>
+ *   <li>CPU picking index for pixel-accurate entity selection</li>
  * </ul>
  */
 public class EditorSceneRenderer {
@@ -50,10 +55,12 @@ public class EditorSceneRenderer {
     private RenderDispatcher dispatcher;
     private boolean initialized = false;
 
-    // GPU picking
-    private PickingPass pickingPass;
+    // Picking: filled by the entity pass, queried on demand by tools
+    private final PickingIndex<EditorGameObject> pickingIndex = new PickingIndex<>(AlphaMask::decode);
+    private final Consumer<AssetChangedEvent> assetChangedHandler = event -> pickingIndex.clearMasks();
+    private EditorCamera pickingCamera;
 
-    // Viewport bounds for lazy pixel readback (updated each frame from SceneViewport)
+    // Viewport bounds for mouse to world conversion (updated each frame from SceneViewport)
     private float viewportScreenX, viewportScreenY;
 
     public EditorSceneRenderer(Framebuffer framebuffer, RenderingConfig renderingConfig) {
@@ -69,9 +76,8 @@ public class EditorSceneRenderer {
 
         dispatcher = new RenderDispatcher();
 
-        // Initialize GPU picking
-        pickingPass = new PickingPass(renderingConfig);
-        pickingPass.init(framebuffer.getWidth(), framebuffer.getHeight());
+        // Reloaded textures invalidate their picking masks
+        EditorEventBus.get().subscribe(AssetChangedEvent.class, assetChangedHandler);
 
         initialized = true;
         System.out.println("[EditorSceneRenderer] Initialized");
@@ -97,15 +103,11 @@ public class EditorSceneRenderer {
 
         framebuffer.unbind();
 
-        // Sync picking buffer size with the main framebuffer (which tracks viewport size).
-        // Cannot use onResize() for this — that receives window dimensions, not viewport dimensions.
-        if (pickingPass != null) {
-            pickingPass.resize(framebuffer.getWidth(), framebuffer.getHeight());
-        }
-
-        // Picking pass runs after the main FBO is unbound (no interference)
+        // Wire lazy picking — queries the index when findEntityAt() is called
         if (scene != null && camera != null) {
-            renderPickingPass(scene, camera);
+            pickingCamera = camera;
+            scene.setEntityPicker(this::pickEntityUnderMouse);
+            scene.setPickingIndex(pickingIndex);
         }
     }
 
@@ -140,87 +142,20 @@ public class EditorSceneRenderer {
     }
 
     /**
-     * Renders entity IDs to the picking framebuffer for GPU color picking.
-     * Same entity filtering and z-order as the main render pass, but with
-     * entity ID encoded as color instead of tint.
-     * <p>
-     * The actual pixel readback is deferred — it happens lazily when
-     * {@code findEntityAt()} is called via the GPU picker supplier.
-     */
-    private void renderPickingPass(EditorScene scene, EditorCamera camera) {
-        if (!pickingPass.isInitialized()) return;
-
-        pickingPass.execute(
-                camera.getProjectionMatrix(),
-                camera.getViewMatrix(),
-                (batch, entityIdMap) -> {
-                    TilemapLayer activeLayer = scene.getActiveLayer();
-                    for (EditorGameObject entity : scene.getEntities()) {
-                        if (!entity.isActiveInHierarchy()) continue;
-                        if (entity.hasComponent(UITransform.class)) continue;
-
-                        Vector4f tint = getEntityTint(entity, activeLayer, scene);
-                        if (tint == null) continue;
-
-                        // Read sprite from SpriteRenderer
-                        SpriteRenderer sr = entity.getComponent(SpriteRenderer.class);
-                        Sprite sprite = (sr != null && sr.isOwnEnabled()) ? sr.getSprite() : null;
-
-                        // Broken-prefab fallback
-                        if (sprite == null && entity.isPrefabInstance()
-                                && !entity.isPrefabChildNode() && !entity.isPrefabValid()) {
-                            sprite = Assets.load("editor/brokenPrefabLink.png");
-                        }
-
-                        if (sprite == null) continue;
-
-                        // Resolve geometry
-                        Vector3f pos = entity.getPosition();
-                        Vector3f scale = entity.getScale();
-                        Vector3f rotation = entity.getRotation();
-                        float width = sprite.getWorldWidth() * scale.x;
-                        float height = sprite.getWorldHeight() * scale.y;
-
-                        float originX = 0.5f;
-                        float originY = 0.5f;
-                        int zIndex = 0;
-                        if (sr != null) {
-                            originX = sr.getEffectiveOriginX();
-                            originY = sr.getEffectiveOriginY();
-                            zIndex = sr.getZIndex();
-                        }
-
-                        Vector4f idColor = PickingPass.registerEntity(entityIdMap, entity);
-                        batch.submit(sprite, pos.x, pos.y, width, height,
-                                rotation.z, originX, originY, zIndex, idColor);
-                    }
-                }
-        );
-
-        // Wire lazy GPU picker — reads the pixel on demand when findEntityAt() is called
-        scene.setGpuPicker(this::pickEntityUnderMouse);
-    }
-
-    /**
-     * Lazily reads the picking buffer pixel under the current mouse cursor.
-     * Called on-demand when tools invoke {@code findEntityAt()}.
+     * Picks the entity under the current mouse cursor from the index built by the
+     * last entity pass. Called on-demand when tools invoke {@code findEntityAt()}.
      * Uses {@code ImGui.getMousePos()} at call time for accurate coordinates.
      */
     private EditorGameObject pickEntityUnderMouse() {
-        if (!pickingPass.isInitialized()) return null;
+        if (pickingCamera == null) return null;
 
         ImVec2 mousePos = ImGui.getMousePos();
-        float localX = mousePos.x - viewportScreenX;
-        float localY = mousePos.y - viewportScreenY;
-
-        int pixelX = (int) localX;
-        int pixelY = (pickingPass.getHeight() - 1) - (int) localY;
-
-        return pickingPass.readEntityAt(pixelX, pixelY);
+        Vector3f world = pickingCamera.screenToWorld(mousePos.x - viewportScreenX, mousePos.y - viewportScreenY);
+        return pickingIndex.pick(world.x, world.y);
     }
 
     /**
-     * Updates the viewport screen-space origin for GPU picking coordinate conversion.
+     * Updates the viewport screen-space origin for picking coordinate conversion.
      * Must be called each frame after the viewport bounds are computed by ImGui.
      */
     public void setViewportScreenOrigin(float screenX, float screenY) {
@@ -246,10 +181,12 @@ public class EditorSceneRenderer {
 
     /**
      * Renders entities with visibility mode support.
-     * Reads SpriteRenderer components directly from entities.
+     * Reads SpriteRenderer components directly from entities, and adds every drawn
+     * sprite to the picking index with the same geometry.
      */
     private void renderEntities(EditorScene scene, SpriteBatch batch, RenderCamera camera) {
         TilemapLayer activeLayer = scene.getActiveLayer();
+        pickingIndex.clear();
 
         for (EditorGameObject entity : scene.getEntities()) {
             if (!entity.isActiveInHierarchy()) continue;
@@ -290,6 +227,12 @@ public class EditorSceneRenderer {
 
             batch.submit(sprite, pos.x, pos.y, width, height,
                     rotation.z, originX, originY, zIndex, tint);
+
+            Texture texture = sprite.getTexture();
+            pickingIndex.add(entity, pos.x, pos.y, width, height,
+                    rotation.z, originX, originY, zIndex,
+                    texture != null ? texture.getFilePath() : null,
+                    sprite.getU0(), sprite.getV0(), sprite.getU1(), sprite.getV1());
         }
     }
 
@@ -343,8 +286,6 @@ public class EditorSceneRenderer {
         if (batchRenderer != null && width > 0 && height > 0) {
             batchRenderer.setProjection(width, height);
         }
-        // Note: pickingBuffer is synced with framebuffer (viewport) dimensions
-        // in render(), not here — onResize receives window dimensions which differ.
     }
 
     public void destroy() {
@@ -352,10 +293,10 @@ public class EditorSceneRenderer {
             batchRenderer.destroy();
             batchRenderer = null;
         }
-        if (pickingPass != null) {
-            pickingPass.destroy();
-            pickingPass = null;
-        }
+        EditorEventBus.get().unsubscribe(AssetChangedEvent.class, assetChangedHandler);
+        pickingIndex.clear();
+        pickingIndex.clearMasks();
+        pickingCamera = null;
         dispatcher = null;
         initialized = false;
         System.out.println("[EditorSceneRenderer] Destroyed");
@@ -0,0 +1,430 @@
+package com.pocket.rpg.editor.rendering;
+
+import com.pocket.rpg.logging.Log;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * CPU spatial index for picking sprites, used instead of the GPU picking pass.
+ * <p>
+ * Quads are added with the same geometry that is submitted to the {@code SpriteBatch}
+ * (position, size, rotation, origin, UVs) and bucketed into a uniform grid of
+ * {@link #CELL_SIZE} world units. A point query only tests the quads of one cell,
+ * so picking stays in the microsecond range regardless of scene size, and never
+ * waits on the GPU.
+ * <p>
+ * Hits are exact for rotated and flipped quads. When a quad has a mask path, the
+ * texel under the point must also pass the alpha threshold, like the picking shader.
+ * Masks are loaded on first hit and cached until {@link #clearMasks()}.
+ * <p>
+ * Overlapping hits resolve in the batch's draw order: higher zIndex on top, then
+ * lower Y on top, then the last added quad. The grid is rebuilt lazily on the first
+ * query after the quads change. Not thread-safe.
+ *
+ * @param <T> Picked object type
+ */
+public class PickingIndex<T> {
+
+    public static final float DEFAULT_ALPHA_THRESHOLD = 0.5f;
+
+    /** Grid cell size in world units. */
+    static final float CELL_SIZE = 4f;
+
+    /** Quads spanning more cells than this skip the grid and are tested on every query. */
+    static final int MAX_CELLS_PER_ITEM = 64;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Function<String, AlphaMask> maskLoader;
+    private final Map<String, AlphaMask> masks = new HashMap<>();
+
+    /**
+     * Texels with alpha below this value are not pickable.
+     */
+    @Getter
+    @Setter
+    private float alphaThreshold = DEFAULT_ALPHA_THRESHOLD;
+
+    // Per-quad data (structure of arrays)
+    @Getter
+    private int size;
+    private Object[] items = new Object[INITIAL_CAPACITY];
+    private float[] x = new float[INITIAL_CAPACITY];
+    private float[] y = new float[INITIAL_CAPACITY];
+    private float[] width = new float[INITIAL_CAPACITY];
+    private float[] height = new float[INITIAL_CAPACITY];
+    private float[] originX = new float[INITIAL_CAPACITY];
+    private float[] originY = new float[INITIAL_CAPACITY];
+    private float[] cos = new float[INITIAL_CAPACITY];
+    private float[] sin = new float[INITIAL_CAPACITY];
+    private float[] zIndex = new float[INITIAL_CAPACITY];
+    private float[] u0 = new float[INITIAL_CAPACITY];
+    private float[] v0 = new float[INITIAL_CAPACITY];
+    private float[] u1 = new float[INITIAL_CAPACITY];
+    private float[] v1 = new float[INITIAL_CAPACITY];
+    private String[] maskPath = new String[INITIAL_CAPACITY];
+    private float[] minX = new float[INITIAL_CAPACITY];
+    private float[] minY = new float[INITIAL_CAPACITY];
+    private float[] maxX = new float[INITIAL_CAPACITY];
+    private float[] maxY = new float[INITIAL_CAPACITY];
+
+    // Grid, rebuilt when dirty: cells are hashed into buckets, stored as one flat
+    // array sorted by bucket (bucketStart[b] .. bucketStart[b + 1]). A bucket may
+    // hold quads of several cells; the bounds test rejects them.
+    private int bucketMask;
+    private int[] bucketStart = new int[1];
+    private int[] bucketItems = new int[INITIAL_CAPACITY];
+    private int[] largeItems = new int[16];
+    private int largeCount;
+    private boolean gridDirty = true;
+
+    // Per-quad stamp so rect queries report quads spanning several cells once
+    private int[] visited = new int[INITIAL_CAPACITY];
+    private int queryStamp;
+
+    /**
+     * @param maskLoader Loads the alpha mask for a mask path; may return null or throw,
+     *                   in which case the quad is pickable over its whole area
+     */
+    public PickingIndex(Function<String, AlphaMask> maskLoader) {
+        this.maskLoader = maskLoader;
+    }
+
+    // ========================================================================
+    // BUILDING
+    // ========================================================================
+
+    /**
+     * Removes all quads. Loaded masks are kept.
+     */
+    public void clear() {
+        Arrays.fill(items, 0, size, null);
+        Arrays.fill(maskPath, 0, size, null);
+        size = 0;
+        gridDirty = true;
+    }
+
+    /**
+     * Drops the cached alpha masks, e.g. after textures were reloaded.
+     */
+    public void clearMasks() {
+        masks.clear();
+    }
+
+    /**
+     * Adds a quad, using the same parameters as {@code SpriteBatch.submitQuad}.
+     *
+     * @param item     Object returned when this quad is picked
+     * @param x        World X position
+     * @param y        World Y position
+     * @param width    Width in world units (negative when flipped)
+     * @param height   Height in world units (negative when flipped)
+     * @param rotation Z rotation in degrees
+     * @param originX  Origin X (0-1)
+     * @param originY  Origin Y (0-1)
+     * @param zIndex   Depth sorting index
+     * @param mask     Mask path for the alpha test (texture file), or null to skip it
+     * @param u0       Left texture coordinate
+     * @param v0       Bottom texture coordinate
+     * @param u1       Right texture coordinate
+     * @param v1       Top texture coordinate
+     */
+    public void add(T item, float x, float y, float width, float height,
+                    float rotation, float originX, float originY, float zIndex,
+                    String mask, float u0, float v0, float u1, float v1) {
+        if (width == 0 || height == 0) {
+            return;
+        }
+        if (size == items.length) {
+            grow();
+        }
+
+        int i = size++;
+        float angle = (float) Math.toRadians(rotation);
+        float c = angle != 0 ? (float) Math.cos(angle) : 1f;
+        float s = angle != 0 ? (float) Math.sin(angle) : 0f;
+
+        items[i] = item;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.width[i] = width;
+        this.height[i] = height;
+        this.originX[i] = originX;
+        this.originY[i] = originY;
+        this.cos[i] = c;
+        this.sin[i] = s;
+        this.zIndex[i] = zIndex;
+        this.u0[i] = u0;
+        this.v0[i] = v0;
+        this.u1[i] = u1;
+        this.v1[i] = v1;
+        this.maskPath[i] = mask;
+
+        // World bounds of the (rotated) quad
+        float left = -originX * width;
+        float right = left + width;
+        float bottom = -originY * height;
+        float top = bottom + height;
+        float ex = Math.abs(c) * Math.abs(width) + Math.abs(s) * Math.abs(height);
+        float ey = Math.abs(s) * Math.abs(width) + Math.abs(c) * Math.abs(height);
+        float centerX = (left + right) * 0.5f;
+        float centerY = (bottom + top) * 0.5f;
+        float worldCenterX = x + centerX * c - centerY * s;
+        float worldCenterY = y + centerX * s + centerY * c;
+        minX[i] = worldCenterX - ex * 0.5f;
+        maxX[i] = worldCenterX + ex * 0.5f;
+        minY[i] = worldCenterY - ey * 0.5f;
+        maxY[i] = worldCenterY + ey * 0.5f;
+
+        gridDirty = true;
+    }
+
+    private void grow() {
+        int capacity = items.length * 2;
+        items = Arrays.copyOf(items, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        originX = Arrays.copyOf(originX, capacity);
+        originY = Arrays.copyOf(originY, capacity);
+        cos = Arrays.copyOf(cos, capacity);
+        sin = Arrays.copyOf(sin, capacity);
+        zIndex = Arrays.copyOf(zIndex, capacity);
+        u0 = Arrays.copyOf(u0, capacity);
+        v0 = Arrays.copyOf(v0, capacity);
+        u1 = Arrays.copyOf(u1, capacity);
+        v1 = Arrays.copyOf(v1, capacity);
+        maskPath = Arrays.copyOf(maskPath, capacity);
+        minX = Arrays.copyOf(minX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        visited = Arrays.copyOf(visited, capacity);
+    }
+
+    // ========================================================================
+    // QUERIES
+    // ========================================================================
+
+    /**
+     * Finds the topmost quad under a world position.
+     *
+     * @return The picked item, or null
+     */
+    @SuppressWarnings("unchecked")
+    public T pick(float worldX, float worldY) {
+        ensureGrid();
+
+        int best = pickIn(largeItems, 0, largeCount, worldX, worldY, -1);
+        int bucket = bucketOf(cellOf(worldX), cellOf(worldY));
+        best = pickIn(bucketItems, bucketStart[bucket], bucketStart[bucket + 1], worldX, worldY, best);
+        return best >= 0 ? (T) items[best] : null;
+    }
+
+    private int pickIn(int[] candidates, int from, int to, float worldX, float worldY, int best) {
+        for (int k = from; k < to; k++) {
+            int i = candidates[k];
+            if ((best < 0 || isAbove(i, best)) && hits(i, worldX, worldY)) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds every quad whose bounds overlap a world-space rectangle, for marquee selection.
+     * No alpha test is applied.
+     *
+     * @return Items in the order they were added
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> queryRect(float rectMinX, float rectMinY, float rectMaxX, float rectMaxY) {
+        ensureGrid();
+        int stamp = nextQueryStamp();
+
+        List<Integer> found = new ArrayList<>();
+        collectRect(largeItems, 0, largeCount, rectMinX, rectMinY, rectMaxX, rectMaxY, stamp, found);
+
+        int cx0 = cellOf(rectMinX), cx1 = cellOf(rectMaxX);
+        int cy0 = cellOf(rectMinY), cy1 = cellOf(rectMaxY);
+        if ((long) (cx1 - cx0 + 1) * (cy1 - cy0 + 1) > bucketMask + 1) {
+            // Rect covers more cells than there are buckets: scan everything once
+            collectRect(bucketItems, 0, bucketStart[bucketMask + 1], rectMinX, rectMinY, rectMaxX, rectMaxY, stamp, found);
+        } else {
+            for (int cy = cy0; cy <= cy1; cy++) {
+                for (int cx = cx0; cx <= cx1; cx++) {
+                    int bucket = bucketOf(cx, cy);
+                    collectRect(bucketItems, bucketStart[bucket], bucketStart[bucket + 1],
+                            rectMinX, rectMinY, rectMaxX, rectMaxY, stamp, found);
+                }
+            }
+        }
+
+        found.sort(null);
+        List<T> result = new ArrayList<>(found.size());
+        for (int i : found) {
+            result.add((T) items[i]);
+        }
+        return result;
+    }
+
+    private void collectRect(int[] candidates, int from, int to,
+                             float rectMinX, float rectMinY, float rectMaxX, float rectMaxY,
+                             int stamp, List<Integer> found) {
+        for (int k = from; k < to; k++) {
+            int i = candidates[k];
+            if (visited[i] == stamp) continue;
+            visited[i] = stamp;
+            if (minX[i] <= rectMaxX && maxX[i] >= rectMinX && minY[i] <= rectMaxY && maxY[i] >= rectMinY) {
+                found.add(i);
+            }
+        }
+    }
+
+    private int nextQueryStamp() {
+        if (++queryStamp == 0) {
+            Arrays.fill(visited, 0);
+            queryStamp = 1;
+        }
+        return queryStamp;
+    }
+
+    // ========================================================================
+    // HIT TESTING
+    // ========================================================================
+
+    /**
+     * Tests a point against a quad's exact shape, then its alpha mask.
+     */
+    private boolean hits(int i, float worldX, float worldY) {
+        if (worldX < minX[i] || worldX > maxX[i] || worldY < minY[i] || worldY > maxY[i]) {
+            return false;
+        }
+
+        // Inverse rotation around the quad position, then normalize to 0-1 across the quad
+        float dx = worldX - x[i];
+        float dy = worldY - y[i];
+        float localX = dx * cos[i] + dy * sin[i];
+        float localY = -dx * sin[i] + dy * cos[i];
+        float fx = localX / width[i] + originX[i];
+        float fy = localY / height[i] + originY[i];
+        if (fx < 0f || fx > 1f || fy < 0f || fy > 1f) {
+            return false;
+        }
+
+        AlphaMask mask = mask(maskPath[i]);
+        if (mask == null) {
+            return true;
+        }
+        float u = u0[i] + fx * (u1[i] - u0[i]);
+        float v = v0[i] + fy * (v1[i] - v0[i]);
+        return mask.alphaAt(u, v) >= alphaThreshold;
+    }
+
+    /**
+     * Draw order: higher zIndex, then lower Y, then later quads render on top.
+     */
+    private boolean isAbove(int a, int b) {
+        if (zIndex[a] != zIndex[b]) return zIndex[a] > zIndex[b];
+        if (y[a] != y[b]) return y[a] < y[b];
+        return a > b;
+    }
+
+    private AlphaMask mask(String path) {
+        if (path == null) {
+            return null;
+        }
+        if (masks.containsKey(path)) {
+            return masks.get(path);
+        }
+
+        AlphaMask mask = null;
+        try {
+            mask = maskLoader.apply(path);
+        } catch (RuntimeException e) {
+            Log.warn("PickingIndex", "No alpha mask for " + path + ": " + e.getMessage());
+        }
+        masks.put(path, mask); // Failures are cached too, so they are not retried every frame
+        return mask;
+    }
+
+    // ========================================================================
+    // GRID
+    // ========================================================================
+
+    /**
+     * Rebuilds the buckets with a counting sort: count quads per bucket, prefix-sum
+     * into start offsets, then place. No allocation once the arrays have grown.
+     */
+    private void ensureGrid() {
+        if (!gridDirty) return;
+        gridDirty = false;
+
+        int buckets = Integer.highestOneBit(Math.max(size, 16) * 2);
+        bucketMask = buckets - 1;
+        if (bucketStart.length < buckets + 1) {
+            bucketStart = new int[buckets + 1];
+        } else {
+            Arrays.fill(bucketStart, 0, buckets + 1, 0);
+        }
+        largeCount = 0;
+
+        // Count (shifted by one so the prefix sum yields start offsets)
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            int cx0 = cellOf(minX[i]), cx1 = cellOf(maxX[i]);
+            int cy0 = cellOf(minY[i]), cy1 = cellOf(maxY[i]);
+            if ((long) (cx1 - cx0 + 1) * (cy1 - cy0 + 1) > MAX_CELLS_PER_ITEM) {
+                if (largeCount == largeItems.length) {
+                    largeItems = Arrays.copyOf(largeItems, largeCount * 2);
+                }
+                largeItems[largeCount++] = i;
+                continue;
+            }
+            for (int cy = cy0; cy <= cy1; cy++) {
+                for (int cx = cx0; cx <= cx1; cx++) {
+                    bucketStart[bucketOf(cx, cy) + 1]++;
+                    total++;
+                }
+            }
+        }
+        for (int b = 0; b < buckets; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+
+        // Place, using bucketStart[b] as a cursor, then shift the cursors back
+        if (bucketItems.length < total) {
+            bucketItems = new int[Math.max(total, bucketItems.length * 2)];
+        }
+        for (int i = 0; i < size; i++) {
+            int cx0 = cellOf(minX[i]), cx1 = cellOf(maxX[i]);
+            int cy0 = cellOf(minY[i]), cy1 = cellOf(maxY[i]);
+            if ((long) (cx1 - cx0 + 1) * (cy1 - cy0 + 1) > MAX_CELLS_PER_ITEM) continue;
+            for (int cy = cy0; cy <= cy1; cy++) {
+                for (int cx = cx0; cx <= cx1; cx++) {
+                    bucketItems[bucketStart[bucketOf(cx, cy)]++] = i;
+                }
+            }
+        }
+        for (int b = buckets; b > 0; b--) {
+            bucketStart[b] = bucketStart[b - 1];
+        }
+        bucketStart[0] = 0;
+    }
+
+    private static int cellOf(float coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private int bucketOf(int cx, int cy) {
+        return (cx * 0x9E3779B1 ^ cy * 0x85EBCA6B) & bucketMask;
+    }
+}
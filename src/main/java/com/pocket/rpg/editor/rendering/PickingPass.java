@@ -24,7 +24,8 @@ import static org.lwjgl.opengl.GL33.*;
  * Callers provide entity submission logic via {@link PickingSubmitter}; this class handles
  * the GL state setup/teardown, buffer management, coordinate conversion, and ID readback.
  * <p>
- * Used by both the scene view (sprite entities) and UI designer (UI elements).
+ * Used by the UI designer (UI elements). The scene view picks sprite entities on the
+ * CPU with {@link PickingIndex} instead, avoiding the pixel readback stall.
  */
 public class PickingPass {
 
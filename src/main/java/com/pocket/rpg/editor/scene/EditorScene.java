@@ -5,6 +5,7 @@ import com.pocket.rpg.collision.trigger.TriggerDataMap;
 import com.pocket.rpg.components.rendering.SpriteRenderer;
 import com.pocket.rpg.components.ui.UITransform;
 import com.pocket.rpg.core.GameObject;
+import com.pocket.rpg.editor.rendering.PickingIndex;
 import com.pocket.rpg.rendering.core.Renderable;
 import com.pocket.rpg.rendering.resources.Sprite;
 import com.pocket.rpg.rendering.resources.SpriteGrid;
@@ -109,18 +110,28 @@ public class EditorScene implements DirtyTracker {
     private final Set<EditorGameObject> selectedEntities = new LinkedHashSet<>();
 
     // ========================================================================
-    // GPU PICKING
+    // ENTITY PICKING
     // ========================================================================
 
     /**
-     * GPU-based entity picker. When set, findEntityAt() delegates to this
-     * supplier instead of the CPU-based bounding box hit test.
+     * Entity picker for the mouse cursor. When set, findEntityAt() delegates to this
+     * supplier instead of the bounding box hit test.
      * Returns the entity under the actual mouse cursor (screen-space, not world-space).
      */
-    private Supplier<EditorGameObject> gpuPicker;
+    private Supplier<EditorGameObject> entityPicker;
 
-    public void setGpuPicker(Supplier<EditorGameObject> picker) {
-        this.gpuPicker = picker;
+    /**
+     * Spatial index of the entities drawn last frame. When set, findEntitiesInRect()
+     * queries it instead of scanning every entity.
+     */
+    private PickingIndex<EditorGameObject> pickingIndex;
+
+    public void setEntityPicker(Supplier<EditorGameObject> picker) {
+        this.entityPicker = picker;
+    }
+
+    public void setPickingIndex(PickingIndex<EditorGameObject> pickingIndex) {
+        this.pickingIndex = pickingIndex;
     }
 
     // ========================================================================
@@ -376,20 +387,46 @@ public class EditorScene implements DirtyTracker {
     /**
      * Finds an entity at the given world position.
      * <p>
-     * When GPU picking is available, delegates to the GPU picker which uses
-     * screen-space pixel readback for pixel-accurate selection (ignoring the
-     * world coordinate parameters). Falls back to CPU-based bounding box
-     * hit testing when GPU picking is not available.
+     * When an entity picker is set, delegates to it for pixel-accurate selection
+     * under the mouse cursor (ignoring the world coordinate parameters). Falls back
+     * to bounding box hit testing otherwise.
      */
     public EditorGameObject findEntityAt(float worldX, float worldY) {
-        if (gpuPicker != null) {
-            return gpuPicker.get();
+        if (entityPicker != null) {
+            return entityPicker.get();
         }
         return cpuFindEntityAt(worldX, worldY);
     }
 
     /**
-     * CPU-based entity hit testing fallback.
+     * Finds the entities inside a world-space rectangle, for marquee selection.
+     * <p>
+     * With a picking index, returns the drawn entities whose bounds overlap the
+     * rectangle. Otherwise falls back to the sprite entities whose position lies
+     * inside it.
+     *
+     * @return Matching entities, in hierarchy order
+     */
+    public List<EditorGameObject> findEntitiesInRect(float minX, float minY, float maxX, float maxY) {
+        if (pickingIndex != null) {
+            return pickingIndex.queryRect(minX, minY, maxX, maxY);
+        }
+
+        List<EditorGameObject> found = new ArrayList<>();
+        for (EditorGameObject entity : entities) {
+            if (!entity.isActiveInHierarchy()) continue;
+            SpriteRenderer sr = entity.getComponent(SpriteRenderer.class);
+            if (sr == null || !sr.isOwnEnabled() || sr.getSprite() == null) continue;
+            Vector3f pos = entity.getPosition();
+            if (pos.x >= minX && pos.x <= maxX && pos.y >= minY && pos.y <= maxY) {
+                found.add(entity);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Bounding box entity hit testing fallback.
      * Searches in reverse order (top entities first).
      * Accounts for pivot, scale, and rotation using AABB.
      */
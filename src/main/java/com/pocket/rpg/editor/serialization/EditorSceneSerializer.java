@@ -372,24 +372,10 @@ public class EditorSceneSerializer {
 
     /**
      * Copies tile data from source to destination tilemap.
+     * Chunks the source has not decoded yet stay encoded in the destination.
      */
     private static void copyTilemapData(TilemapRenderer source, TilemapRenderer dest) {
-        for (Long chunkKey : source.chunkKeys()) {
-            int cx = TilemapRenderer.chunkKeyToX(chunkKey);
-            int cy = TilemapRenderer.chunkKeyToY(chunkKey);
-            TilemapRenderer.TileChunk chunk = source.getChunk(cx, cy);
-
-            for (int tx = 0; tx < TilemapRenderer.TileChunk.CHUNK_SIZE; tx++) {
-                for (int ty = 0; ty < TilemapRenderer.TileChunk.CHUNK_SIZE; ty++) {
-                    TilemapRenderer.Tile tile = chunk.get(tx, ty);
-                    if (tile != null) {
-                        int worldTx = cx * TilemapRenderer.TileChunk.CHUNK_SIZE + tx;
-                        int worldTy = cy * TilemapRenderer.TileChunk.CHUNK_SIZE + ty;
-                        dest.set(worldTx, worldTy, tile);
-                    }
-                }
-            }
-        }
+        dest.copyTilesFrom(source);
     }
 
     // ========================================================================
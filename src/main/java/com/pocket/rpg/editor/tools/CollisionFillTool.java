@@ -8,19 +8,17 @@ import com.pocket.rpg.editor.undo.UndoManager;
 import com.pocket.rpg.editor.undo.commands.BatchCollisionCommand;
 import imgui.ImDrawList;
 import imgui.ImGui;
+import imgui.flag.ImGuiKey;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.*;
-
 /**
  * Fill tool for flood-filling collision areas.
+ * Shift+click replaces every matching cell on the Z-level instead.
  * Supports undo/redo.
  */
 public class CollisionFillTool implements EditorTool, ViewportAwareTool {
 
-    private static final int MAX_FILL_TILES = 2000;
-
     @Setter
     private EditorScene scene;
 
@@ -60,7 +58,8 @@ public class CollisionFillTool implements EditorTool, ViewportAwareTool {
     @Override
     public void onMouseDown(int tileX, int tileY, int button) {
         if (button == 0) {
-            fillAt(tileX, tileY);
+            boolean replaceAll = ImGui.isKeyDown(ImGuiKey.LeftShift) || ImGui.isKeyDown(ImGuiKey.RightShift);
+            fillAt(tileX, tileY, replaceAll);
         }
     }
 
@@ -72,7 +71,7 @@ public class CollisionFillTool implements EditorTool, ViewportAwareTool {
     public void onMouseUp(int tileX, int tileY, int button) {
     }
 
-    private void fillAt(int startX, int startY) {
+    private void fillAt(int startX, int startY, boolean replaceAll) {
         if (scene == null || scene.getCollisionMap() == null) return;
 
         CollisionMap collisionMap = scene.getCollisionMap();
@@ -82,31 +81,24 @@ public class CollisionFillTool implements EditorTool, ViewportAwareTool {
         if (targetType == selectedType) return;
 
         // Create undo command
-        BatchCollisionCommand command = new BatchCollisionCommand(collisionMap, zLevel, "Fill " + selectedType);
-
-        Set<Long> filled = new HashSet<>();
-        Queue<int[]> queue = new LinkedList<>();
-        queue.add(new int[]{startX, startY});
-
-        while (!queue.isEmpty() && filled.size() < MAX_FILL_TILES) {
-            int[] pos = queue.poll();
-            int x = pos[0];
-            int y = pos[1];
-
-            long key = key(x, y);
-            if (filled.contains(key)) continue;
-
-            if (collisionMap.get(x, y, zLevel) != targetType) continue;
-
-            // Record and apply change
-            command.recordChange(x, y, selectedType);
-            collisionMap.set(x, y, zLevel, selectedType);
-            filled.add(key);
-
-            queue.add(new int[]{x + 1, y});
-            queue.add(new int[]{x - 1, y});
-            queue.add(new int[]{x, y + 1});
-            queue.add(new int[]{x, y - 1});
+        BatchCollisionCommand command = new BatchCollisionCommand(collisionMap, zLevel,
+                (replaceAll ? "Replace " : "Fill ") + selectedType);
+
+        // CollisionMap.get caches the last chunk, so row-wise reads stay on the chunk arrays
+        ScanlineFill.Bounds bounds = FillBounds.forScene(scene, startX, startY);
+        ScanlineFill.CellMatcher matcher = (x, y) -> collisionMap.get(x, y, zLevel) == targetType;
+        ScanlineFill.SpanConsumer apply = (y, x0, x1) -> {
+            for (int x = x0; x <= x1; x++) {
+                // Record and apply change
+                command.recordChange(x, y, selectedType);
+                collisionMap.set(x, y, zLevel, selectedType);
+            }
+        };
+
+        if (replaceAll) {
+            ScanlineFill.scan(bounds, matcher, apply);
+        } else {
+            ScanlineFill.flood(startX, startY, bounds, matcher, apply);
         }
 
         if (command.hasChanges()) {
@@ -116,10 +108,6 @@ public class CollisionFillTool implements EditorTool, ViewportAwareTool {
         scene.markDirty();
     }
 
-    private long key(int x, int y) {
-        return (((long) x) << 32) | (y & 0xFFFFFFFFL);
-    }
-
     @Override
     public void renderOverlay(EditorCamera camera, int hoveredTileX, int hoveredTileY) {
         if (hoveredTileX == Integer.MIN_VALUE || hoveredTileY == Integer.MIN_VALUE) return;
@@ -0,0 +1,54 @@
+package com.pocket.rpg.editor.tools;
+
+import com.pocket.rpg.collision.CollisionMap;
+import com.pocket.rpg.components.rendering.TilemapRenderer;
+import com.pocket.rpg.components.rendering.TilemapRenderer.TileChunk;
+import com.pocket.rpg.editor.scene.EditorScene;
+import com.pocket.rpg.editor.scene.TilemapLayer;
+
+/**
+ * Computes the area fill tools may cover.
+ * <p>
+ * Empty space is unbounded, so fills are limited to the chunks the scene uses:
+ * every tilemap layer and collision level, plus the chunk under the cursor.
+ * Filling empty space therefore stops at the edge of the painted map.
+ */
+final class FillBounds {
+
+    private static final int CHUNK_SIZE = TileChunk.CHUNK_SIZE;
+
+    private FillBounds() {
+    }
+
+    /**
+     * Fill bounds around a start tile, limited to {@link ScanlineFill#MAX_AREA}.
+     */
+    static ScanlineFill.Bounds forScene(EditorScene scene, int startX, int startY) {
+        ScanlineFill.Bounds bounds = chunkBounds(Math.floorDiv(startX, CHUNK_SIZE), Math.floorDiv(startY, CHUNK_SIZE));
+
+        for (TilemapLayer layer : scene.getLayers()) {
+            TilemapRenderer tilemap = layer.getTilemap();
+            if (tilemap == null) continue;
+            for (long key : tilemap.chunkKeys()) {
+                bounds = bounds.union(chunkBounds(TilemapRenderer.chunkKeyToX(key), TilemapRenderer.chunkKeyToY(key)));
+            }
+        }
+
+        CollisionMap collisionMap = scene.getCollisionMap();
+        if (collisionMap != null) {
+            for (int z : collisionMap.getZLevels()) {
+                for (long key : collisionMap.getChunkKeysForLevel(z)) {
+                    bounds = bounds.union(chunkBounds(CollisionMap.chunkKeyToX(key), CollisionMap.chunkKeyToY(key)));
+                }
+            }
+        }
+
+        return bounds.limitAround(startX, startY);
+    }
+
+    private static ScanlineFill.Bounds chunkBounds(int cx, int cy) {
+        int minX = cx * CHUNK_SIZE;
+        int minY = cy * CHUNK_SIZE;
+        return new ScanlineFill.Bounds(minX, minY, minX + CHUNK_SIZE - 1, minY + CHUNK_SIZE - 1);
+    }
+}
@@ -0,0 +1,288 @@
+package com.pocket.rpg.editor.tools;
+
+import java.util.Arrays;
+
+/**
+ * Span-based area operations for tile grids: flood fill, and row scans for rectangle
+ * and replace-all operations.
+ * <p>
+ * Results are reported as horizontal spans, so callers can write a row at a time.
+ * Flood fill is a scanline fill: each matching run is expanded left and right once,
+ * and seeds one entry per run in the rows above and below. Visited cells live in a
+ * bitset over the bounds (1 bit per cell), so a million-cell fill needs 128 KB and no
+ * per-cell objects.
+ * <p>
+ * The grid is only read through a {@link CellMatcher}. Spans are reported as they are
+ * found and never revisited, so the consumer may modify the grid while filling.
+ */
+public final class ScanlineFill {
+
+    /** Largest area a single operation may cover (4096 x 4096 cells, 2 MB of bitset). */
+    public static final long MAX_AREA = 1L << 24;
+
+    private ScanlineFill() {
+    }
+
+    /**
+     * Tests whether a cell belongs to the region being filled.
+     */
+    @FunctionalInterface
+    public interface CellMatcher {
+        boolean matches(int x, int y);
+    }
+
+    /**
+     * Receives a horizontal run of cells, from x0 to x1 inclusive.
+     */
+    @FunctionalInterface
+    public interface SpanConsumer {
+        void accept(int y, int x0, int x1);
+    }
+
+    /**
+     * Inclusive cell rectangle limiting an operation.
+     */
+    public record Bounds(int minX, int minY, int maxX, int maxY) {
+
+        public Bounds {
+            if (maxX < minX || maxY < minY) {
+                throw new IllegalArgumentException("Empty bounds: " + minX + "," + minY + " to " + maxX + "," + maxY);
+            }
+        }
+
+        /**
+         * Bounds spanning two corners given in any order.
+         */
+        public static Bounds of(int x0, int y0, int x1, int y1) {
+            return new Bounds(Math.min(x0, x1), Math.min(y0, y1), Math.max(x0, x1), Math.max(y0, y1));
+        }
+
+        public int width() {
+            return maxX - minX + 1;
+        }
+
+        public int height() {
+            return maxY - minY + 1;
+        }
+
+        public long area() {
+            return (long) width() * height();
+        }
+
+        public boolean contains(int x, int y) {
+            return x >= minX && x <= maxX && y >= minY && y <= maxY;
+        }
+
+        /**
+         * Smallest bounds containing both.
+         */
+        public Bounds union(Bounds other) {
+            return new Bounds(Math.min(minX, other.minX), Math.min(minY, other.minY),
+                    Math.max(maxX, other.maxX), Math.max(maxY, other.maxY));
+        }
+
+        /**
+         * Shrinks these bounds to at most {@link #MAX_AREA} cells, keeping the given cell
+         * inside and as centered as the original bounds allow.
+         */
+        public Bounds limitAround(int x, int y) {
+            if (area() <= MAX_AREA) {
+                return this;
+            }
+            int side = (int) Math.sqrt(MAX_AREA);
+            int w = Math.min(width(), side);
+            int h = (int) Math.min(height(), MAX_AREA / w);
+            int left = Math.clamp((long) x - w / 2, minX, maxX - w + 1);
+            int bottom = Math.clamp((long) y - h / 2, minY, maxY - h + 1);
+            return new Bounds(left, bottom, left + w - 1, bottom + h - 1);
+        }
+    }
+
+    // ========================================================================
+    // FLOOD FILL
+    // ========================================================================
+
+    /**
+     * Flood fills the 4-connected region of matching cells around a start cell.
+     *
+     * @param startX  Start cell X
+     * @param startY  Start cell Y
+     * @param bounds  Cells outside are never visited (at most {@link #MAX_AREA})
+     * @param matcher Cells belonging to the region
+     * @param out     Receives each filled span once
+     * @return Number of cells filled
+     * @throws IllegalArgumentException if the bounds exceed {@link #MAX_AREA}
+     */
+    public static long flood(int startX, int startY, Bounds bounds, CellMatcher matcher, SpanConsumer out) {
+        checkArea(bounds);
+        if (!bounds.contains(startX, startY) || !matcher.matches(startX, startY)) {
+            return 0;
+        }
+
+        Visited visited = new Visited(bounds);
+        SeedStack seeds = new SeedStack();
+        seeds.push(startX, startY);
+
+        long filled = 0;
+        while (seeds.size > 0) {
+            int y = seeds.popY();
+            int x = seeds.popX();
+            if (visited.get(x, y) || !matcher.matches(x, y)) {
+                continue;
+            }
+
+            // Expand the run left and right
+            int x0 = x;
+            while (x0 > bounds.minX() && !visited.get(x0 - 1, y) && matcher.matches(x0 - 1, y)) {
+                x0--;
+            }
+            int x1 = x;
+            while (x1 < bounds.maxX() && !visited.get(x1 + 1, y) && matcher.matches(x1 + 1, y)) {
+                x1++;
+            }
+
+            visited.setRange(x0, x1, y);
+            out.accept(y, x0, x1);
+            filled += x1 - x0 + 1;
+
+            if (y > bounds.minY()) {
+                seedRow(x0, x1, y - 1, visited, matcher, seeds);
+            }
+            if (y < bounds.maxY()) {
+                seedRow(x0, x1, y + 1, visited, matcher, seeds);
+            }
+        }
+        return filled;
+    }
+
+    /**
+     * Pushes one seed per run of unvisited matching cells in a neighbouring row.
+     */
+    private static void seedRow(int x0, int x1, int y, Visited visited, CellMatcher matcher, SeedStack seeds) {
+        boolean inRun = false;
+        for (int x = x0; x <= x1; x++) {
+            boolean open = !visited.get(x, y) && matcher.matches(x, y);
+            if (open && !inRun) {
+                seeds.push(x, y);
+            }
+            inRun = open;
+        }
+    }
+
+    // ========================================================================
+    // ROW SCANS
+    // ========================================================================
+
+    /**
+     * Reports every run of matching cells inside the bounds, row by row.
+     * With a matcher that always matches this is a rectangle fill; with a
+     * "same value" matcher over the whole map it is a replace-all.
+     *
+     * @param bounds  Cells to scan
+     * @param matcher Cells to report, or null for all of them
+     * @param out     Receives each run once
+     * @return Number of cells reported
+     */
+    public static long scan(Bounds bounds, CellMatcher matcher, SpanConsumer out) {
+        long count = 0;
+        for (int y = bounds.minY(); y <= bounds.maxY(); y++) {
+            if (matcher == null) {
+                out.accept(y, bounds.minX(), bounds.maxX());
+                count += bounds.width();
+                continue;
+            }
+
+            int runStart = Integer.MIN_VALUE;
+            for (int x = bounds.minX(); x <= bounds.maxX(); x++) {
+                if (matcher.matches(x, y)) {
+                    if (runStart == Integer.MIN_VALUE) runStart = x;
+                } else if (runStart != Integer.MIN_VALUE) {
+                    out.accept(y, runStart, x - 1);
+                    count += x - runStart;
+                    runStart = Integer.MIN_VALUE;
+                }
+            }
+            if (runStart != Integer.MIN_VALUE) {
+                out.accept(y, runStart, bounds.maxX());
+                count += bounds.maxX() - runStart + 1;
+            }
+        }
+        return count;
+    }
+
+    private static void checkArea(Bounds bounds) {
+        if (bounds.area() > MAX_AREA) {
+            throw new IllegalArgumentException("Fill area too large: " + bounds.width() + "x" + bounds.height());
+        }
+    }
+
+    // ========================================================================
+    // STORAGE
+    // ========================================================================
+
+    /**
+     * One bit per cell of the bounds, row-major.
+     */
+    private static final class Visited {
+        private final long[] bits;
+        private final int minX, minY, width;
+
+        Visited(Bounds bounds) {
+            this.minX = bounds.minX();
+            this.minY = bounds.minY();
+            this.width = bounds.width();
+            this.bits = new long[(int) ((bounds.area() + 63) >>> 6)];
+        }
+
+        boolean get(int x, int y) {
+            long i = index(x, y);
+            return (bits[(int) (i >>> 6)] & (1L << i)) != 0;
+        }
+
+        void setRange(int x0, int x1, int y) {
+            long from = index(x0, y);
+            long to = index(x1, y) + 1; // exclusive
+            int firstWord = (int) (from >>> 6);
+            int lastWord = (int) ((to - 1) >>> 6);
+            long firstMask = -1L << from;
+            long lastMask = -1L >>> -to;
+            if (firstWord == lastWord) {
+                bits[firstWord] |= firstMask & lastMask;
+                return;
+            }
+            bits[firstWord] |= firstMask;
+            for (int w = firstWord + 1; w < lastWord; w++) {
+                bits[w] = -1L;
+            }
+            bits[lastWord] |= lastMask;
+        }
+
+        private long index(int x, int y) {
+            return (long) (y - minY) * width + (x - minX);
+        }
+    }
+
+    /**
+     * Growable stack of (x, y) seeds.
+     */
+    private static final class SeedStack {
+        private int[] data = new int[256];
+        private int size;
+
+        void push(int x, int y) {
+            if (size + 2 > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            data[size++] = x;
+            data[size++] = y;
+        }
+
+        int popY() {
+            return data[--size];
+        }
+
+        int popX() {
+            return data[--size];
+        }
+    }
+}
@@ -216,16 +216,8 @@ public class SelectionTool implements EditorTool, ViewportAwareTool {
                 float minY = Math.min(worldStart.y, worldEnd.y);
                 float maxY = Math.max(worldStart.y, worldEnd.y);
 
-                Set<EditorGameObject> selected = new LinkedHashSet<>();
-                for (EditorGameObject entity : scene.getEntities()) {
-                    if (!entity.isActiveInHierarchy()) continue;
-                    SpriteRenderer sr = entity.getComponent(SpriteRenderer.class);
-                    if (sr == null || !sr.isOwnEnabled() || sr.getSprite() == null) continue;
-                    Vector3f pos = entity.getPosition();
-                    if (pos.x >= minX && pos.x <= maxX && pos.y >= minY && pos.y <= maxY) {
-                        selected.add(entity);
-                    }
-                }
+                Set<EditorGameObject> selected = new LinkedHashSet<>(
+                        scene.findEntitiesInRect(minX, minY, maxX, maxY));
 
                 if (!selected.isEmpty() && selectionManager != null) {
                     selectionManager.selectEntities(selected);
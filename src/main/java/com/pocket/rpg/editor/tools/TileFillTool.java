@@ -10,22 +10,17 @@ import com.pocket.rpg.editor.undo.commands.BatchTileCommand;
 import com.pocket.rpg.rendering.resources.Sprite;
 import imgui.ImDrawList;
 import imgui.ImGui;
+import imgui.flag.ImGuiKey;
 import lombok.Setter;
 import org.joml.Vector2f;
 
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.Queue;
-import java.util.Set;
-
 /**
  * Fill tool for flood-filling tiles on the active layer.
+ * Shift+click replaces every matching tile on the layer instead.
  * Supports undo/redo.
  */
 public class TileFillTool implements EditorTool {
 
-    private static final int MAX_FILL_TILES = 2000;
-
     @Setter
     private EditorScene scene;
 
@@ -54,7 +49,8 @@ public class TileFillTool implements EditorTool {
     @Override
     public void onMouseDown(int tileX, int tileY, int button) {
         if (button == 0) {
-            floodFill(tileX, tileY);
+            boolean replaceAll = ImGui.isKeyDown(ImGuiKey.LeftShift) || ImGui.isKeyDown(ImGuiKey.RightShift);
+            floodFill(tileX, tileY, replaceAll);
         }
     }
 
@@ -66,7 +62,7 @@ public class TileFillTool implements EditorTool {
     public void onMouseUp(int tileX, int tileY, int button) {
     }
 
-    private void floodFill(int startX, int startY) {
+    private void floodFill(int startX, int startY, boolean replaceAll) {
         if (scene == null) return;
 
         TilemapLayer layer = scene.getActiveLayer();
@@ -83,34 +79,23 @@ public class TileFillTool implements EditorTool {
         if (targetSprite == fillSprite) return;
 
         // Create undo command
-        BatchTileCommand command = new BatchTileCommand(layer, "Fill");
-
-        Queue<TilePos> queue = new LinkedList<>();
-        Set<TilePos> visited = new HashSet<>();
-
-        queue.add(new TilePos(startX, startY));
-        visited.add(new TilePos(startX, startY));
-
-        int fillCount = 0;
+        BatchTileCommand command = new BatchTileCommand(layer, replaceAll ? "Replace" : "Fill");
         TilemapRenderer.Tile newTile = new TilemapRenderer.Tile(fillSprite);
 
-        while (!queue.isEmpty() && fillCount < MAX_FILL_TILES) {
-            TilePos pos = queue.poll();
-
-            TilemapRenderer.Tile currentTile = tilemap.get(pos.x, pos.y);
-            Sprite currentSprite = (currentTile != null) ? currentTile.sprite() : null;
-
-            if (currentSprite != targetSprite) continue;
-
-            // Record and apply change
-            command.recordChange(pos.x, pos.y, newTile);
-            tilemap.set(pos.x, pos.y, newTile);
-            fillCount++;
-
-            addNeighbor(queue, visited, pos.x + 1, pos.y);
-            addNeighbor(queue, visited, pos.x - 1, pos.y);
-            addNeighbor(queue, visited, pos.x, pos.y + 1);
-            addNeighbor(queue, visited, pos.x, pos.y - 1);
+        ScanlineFill.Bounds bounds = FillBounds.forScene(scene, startX, startY);
+        ScanlineFill.CellMatcher matcher = new SpriteMatcher(tilemap, targetSprite);
+        ScanlineFill.SpanConsumer apply = (y, x0, x1) -> {
+            for (int x = x0; x <= x1; x++) {
+                // Record and apply change
+                command.recordChange(x, y, newTile);
+                tilemap.set(x, y, newTile);
+            }
+        };
+
+        if (replaceAll) {
+            ScanlineFill.scan(bounds, matcher, apply);
+        } else {
+            ScanlineFill.flood(startX, startY, bounds, matcher, apply);
         }
 
         if (command.hasChanges()) {
@@ -120,14 +105,6 @@ public class TileFillTool implements EditorTool {
         scene.markDirty();
     }
 
-    private void addNeighbor(Queue<TilePos> queue, Set<TilePos> visited, int x, int y) {
-        TilePos pos = new TilePos(x, y);
-        if (!visited.contains(pos)) {
-            queue.add(pos);
-            visited.add(pos);
-        }
-    }
-
     @Override
     public void renderOverlay(EditorCamera camera, int hoveredTileX, int hoveredTileY) {
         if (hoveredTileX == Integer.MIN_VALUE || hoveredTileY == Integer.MIN_VALUE) return;
@@ -163,25 +140,36 @@ public class TileFillTool implements EditorTool {
         drawList.addRect(minX, minY, maxX, maxY, borderColor, 0, 0, 1.5f);
     }
 
-    private static class TilePos {
-        final int x, y;
-
-        TilePos(int x, int y) {
-            this.x = x;
-            this.y = y;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (!(o instanceof TilePos)) return false;
-            TilePos tilePos = (TilePos) o;
-            return x == tilePos.x && y == tilePos.y;
+    /**
+     * Matches tiles by sprite, reading the chunk arrays directly.
+     * Caches the last chunk, since fills walk along rows.
+     */
+    private static final class SpriteMatcher implements ScanlineFill.CellMatcher {
+        private static final int CHUNK_SIZE = TilemapRenderer.TileChunk.CHUNK_SIZE;
+
+        private final TilemapRenderer tilemap;
+        private final Sprite target;
+        private int chunkX = Integer.MIN_VALUE, chunkY = Integer.MIN_VALUE;
+        private TilemapRenderer.TileChunk chunk;
+
+        SpriteMatcher(TilemapRenderer tilemap, Sprite target) {
+            this.tilemap = tilemap;
+            this.target = target;
         }
 
         @Override
-        public int hashCode() {
-            return 31 * x + y;
+        public boolean matches(int x, int y) {
+            int cx = Math.floorDiv(x, CHUNK_SIZE);
+            int cy = Math.floorDiv(y, CHUNK_SIZE);
+            // Chunks are created by filling, so re-read until the cached one exists
+            if (cx != chunkX || cy != chunkY || chunk == null) {
+                chunkX = cx;
+                chunkY = cy;
+                chunk = tilemap.getChunk(cx, cy);
+            }
+            TilemapRenderer.Tile tile = chunk != null ? chunk.get(x - cx * CHUNK_SIZE, y - cy * CHUNK_SIZE) : null;
+            Sprite sprite = (tile != null) ? tile.sprite() : null;
+            return sprite == target;
         }
     }
 }
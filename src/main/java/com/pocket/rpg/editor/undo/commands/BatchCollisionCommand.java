@@ -4,12 +4,10 @@ import com.pocket.rpg.collision.CollisionMap;
 import com.pocket.rpg.collision.CollisionType;
 import com.pocket.rpg.editor.undo.EditorCommand;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Batch command for collision painting/erasing operations.
- * Captures all collision changes during a single drag operation.
+ * Captures all collision changes during a single drag operation or fill.
+ * Changes are stored compactly, so one command can hold a whole-map fill.
  * 
  * Supports proper undo AND redo.
  */
@@ -17,8 +15,7 @@ public class BatchCollisionCommand implements EditorCommand {
 
     private final CollisionMap collisionMap;
     private final int zLevel;
-    private final Map<Long, CollisionType> beforeTypes = new HashMap<>();
-    private final Map<Long, CollisionType> afterTypes = new HashMap<>();
+    private final CellChangeSet<CollisionType> changes = new CellChangeSet<>();
     private final String description;
     
     // Track if this is the first execute call (during initial drag, changes already applied)
@@ -34,23 +31,15 @@ public class BatchCollisionCommand implements EditorCommand {
      * Records a collision change. Call this BEFORE modifying the collision.
      */
     public void recordChange(int x, int y, CollisionType newType) {
-        long key = key(x, y);
-        
-        // Only capture the original state once
-        if (!beforeTypes.containsKey(key)) {
-            CollisionType oldType = collisionMap.get(x, y, zLevel);
-            beforeTypes.put(key, oldType);
-        }
-        
-        // Always update the final state
-        afterTypes.put(key, newType);
+        // Only captures the original state once, always updates the final state
+        changes.record(x, y, newType, (cx, cy) -> collisionMap.get(cx, cy, zLevel));
     }
 
     /**
      * Checks if any changes were recorded.
      */
     public boolean hasChanges() {
-        return !afterTypes.isEmpty();
+        return !changes.isEmpty();
     }
 
     @Override
@@ -63,31 +52,17 @@ public class BatchCollisionCommand implements EditorCommand {
         }
         
         // Redo: Apply all "after" types
-        for (Map.Entry<Long, CollisionType> entry : afterTypes.entrySet()) {
-            int[] coords = fromKey(entry.getKey());
-            collisionMap.set(coords[0], coords[1], zLevel, entry.getValue());
-        }
+        changes.applyAfter((x, y, type) -> collisionMap.set(x, y, zLevel, type));
     }
 
     @Override
     public void undo() {
         // Restore all "before" types
-        for (Map.Entry<Long, CollisionType> entry : beforeTypes.entrySet()) {
-            int[] coords = fromKey(entry.getKey());
-            collisionMap.set(coords[0], coords[1], zLevel, entry.getValue());
-        }
+        changes.applyBefore((x, y, type) -> collisionMap.set(x, y, zLevel, type));
     }
 
     @Override
     public String getDescription() {
-        return description + " (" + afterTypes.size() + " cells)";
-    }
-
-    private static long key(int x, int y) {
-        return (((long) x) << 32) | (y & 0xFFFFFFFFL);
-    }
-
-    private static int[] fromKey(long key) {
-        return new int[]{(int) (key >> 32), (int) key};
+        return description + " (" + changes.size() + " cells)";
     }
 }
@@ -4,20 +4,17 @@ import com.pocket.rpg.components.rendering.TilemapRenderer;
 import com.pocket.rpg.editor.scene.TilemapLayer;
 import com.pocket.rpg.editor.undo.EditorCommand;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Batch command for tile painting/erasing operations.
- * Captures all tile changes during a single drag operation.
+ * Captures all tile changes during a single drag operation or fill.
+ * Changes are stored compactly, so one command can hold a whole-map fill.
  * 
  * Supports proper undo AND redo.
  */
 public class BatchTileCommand implements EditorCommand {
 
     private final TilemapLayer layer;
-    private final Map<Long, TilemapRenderer.Tile> beforeTiles = new HashMap<>();
-    private final Map<Long, TilemapRenderer.Tile> afterTiles = new HashMap<>();
+    private final CellChangeSet<TilemapRenderer.Tile> changes = new CellChangeSet<>();
     private final String description;
     
     // Track if this is the first execute call (during initial drag, changes already applied)
@@ -32,23 +29,15 @@ public class BatchTileCommand implements EditorCommand {
      * Records a tile change. Call this BEFORE modifying the tile.
      */
     public void recordChange(int x, int y, TilemapRenderer.Tile newTile) {
-        long key = key(x, y);
-        
-        // Only capture the original state once
-        if (!beforeTiles.containsKey(key)) {
-            TilemapRenderer.Tile oldTile = layer.getTilemap().get(x, y);
-            beforeTiles.put(key, oldTile); // May be null
-        }
-        
-        // Always update the final state
-        afterTiles.put(key, newTile);
+        // Only captures the original state once, always updates the final state
+        changes.record(x, y, newTile, layer.getTilemap()::get); // Old tile may be null
     }
 
     /**
      * Checks if any changes were recorded.
      */
     public boolean hasChanges() {
-        return !afterTiles.isEmpty();
+        return !changes.isEmpty();
     }
 
     @Override
@@ -61,43 +50,25 @@ public class BatchTileCommand implements EditorCommand {
         }
         
         // Redo: Apply all "after" tiles
-        for (Map.Entry<Long, TilemapRenderer.Tile> entry : afterTiles.entrySet()) {
-            int[] coords = fromKey(entry.getKey());
-            TilemapRenderer.Tile tile = entry.getValue();
-            
-            if (tile == null) {
-                layer.getTilemap().clear(coords[0], coords[1]);
-            } else {
-                layer.getTilemap().set(coords[0], coords[1], tile);
-            }
-        }
+        changes.applyAfter(this::applyTile);
     }
 
     @Override
     public void undo() {
         // Restore all "before" tiles
-        for (Map.Entry<Long, TilemapRenderer.Tile> entry : beforeTiles.entrySet()) {
-            int[] coords = fromKey(entry.getKey());
-            TilemapRenderer.Tile tile = entry.getValue();
-            
-            if (tile == null) {
-                layer.getTilemap().clear(coords[0], coords[1]);
-            } else {
-                layer.getTilemap().set(coords[0], coords[1], tile);
-            }
+        changes.applyBefore(this::applyTile);
+    }
+
+    private void applyTile(int x, int y, TilemapRenderer.Tile tile) {
+        if (tile == null) {
+            layer.getTilemap().clear(x, y);
+        } else {
+            layer.getTilemap().set(x, y, tile);
         }
     }
 
     @Override
     public String getDescription() {
-        return description + " (" + afterTiles.size() + " tiles)";
-    }
-
-    private static long key(int x, int y) {
-        return (((long) x) << 32) | (y & 0xFFFFFFFFL);
-    }
-
-    private static int[] fromKey(long key) {
-        return new int[]{(int) (key >> 32), (int) key};
+        return description + " (" + changes.size() + " tiles)";
     }
 }
@@ -0,0 +1,159 @@
+package com.pocket.rpg.editor.undo.commands;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact before/after record of grid cell changes, shared by the batch commands.
+ * <p>
+ * Cells are stored in parallel primitive arrays (packed coordinates plus palette indices),
+ * indexed by an open-addressing hash table. Values are deduplicated into a palette, so a
+ * million-cell fill with a handful of distinct values costs about 20 bytes per cell
+ * instead of two boxed map entries.
+ * <p>
+ * The first recorded "before" value of a cell is kept, the last "after" value wins.
+ * Cells are replayed in recording order.
+ *
+ * @param <V> Cell value type (null allowed)
+ */
+class CellChangeSet<V> {
+
+    private static final int EMPTY = -1;
+
+    @FunctionalInterface
+    interface CellReader<V> {
+        V get(int x, int y);
+    }
+
+    @FunctionalInterface
+    interface CellWriter<V> {
+        void set(int x, int y, V value);
+    }
+
+    private long[] keys = new long[16];
+    private int[] before = new int[16];
+    private int[] after = new int[16];
+    private int size;
+
+    /** Entry index per slot, EMPTY when free. */
+    private int[] table = newTable(32);
+
+    private final List<V> palette = new ArrayList<>();
+    private final Map<V, Integer> paletteIndex = new HashMap<>();
+
+    /**
+     * Records a change. The current value is only read the first time a cell is seen,
+     * so call this BEFORE modifying the cell.
+     */
+    void record(int x, int y, V newValue, CellReader<V> current) {
+        long key = key(x, y);
+        int slot = findSlot(key);
+        int entry = table[slot];
+        if (entry != EMPTY) {
+            after[entry] = paletteId(newValue);
+            return;
+        }
+
+        if (size == keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            before = Arrays.copyOf(before, capacity);
+            after = Arrays.copyOf(after, capacity);
+        }
+        keys[size] = key;
+        before[size] = paletteId(current.get(x, y));
+        after[size] = paletteId(newValue);
+        table[slot] = size;
+        size++;
+
+        // Keep the load factor under 1/2
+        if (size * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Writes every cell's original value, in recording order.
+     */
+    void applyBefore(CellWriter<V> writer) {
+        apply(before, writer);
+    }
+
+    /**
+     * Writes every cell's final value, in recording order.
+     */
+    void applyAfter(CellWriter<V> writer) {
+        apply(after, writer);
+    }
+
+    private void apply(int[] values, CellWriter<V> writer) {
+        for (int i = 0; i < size; i++) {
+            long key = keys[i];
+            writer.set((int) (key >> 32), (int) key, palette.get(values[i]));
+        }
+    }
+
+    // ========================================================================
+    // HASHING
+    // ========================================================================
+
+    private int findSlot(long key) {
+        int mask = table.length - 1;
+        int slot = hash(key) & mask;
+        while (true) {
+            int entry = table[slot];
+            if (entry == EMPTY || keys[entry] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void rehash(int capacity) {
+        table = newTable(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = hash(keys[i]) & mask;
+            while (table[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i;
+        }
+    }
+
+    private int paletteId(V value) {
+        Integer id = paletteIndex.get(value);
+        if (id == null) {
+            id = palette.size();
+            palette.add(value);
+            paletteIndex.put(value, id);
+        }
+        return id;
+    }
+
+    private static int[] newTable(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long key(int x, int y) {
+        return (((long) x) << 32) | (y & 0xFFFFFFFFL);
+    }
+}
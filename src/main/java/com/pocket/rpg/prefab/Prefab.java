@@ -11,7 +11,6 @@ import com.pocket.rpg.serialization.GameObjectData;
 import com.pocket.rpg.serialization.SerializationUtils;
 import org.joml.Vector3f;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -279,10 +278,8 @@ public interface Prefab {
             Object override = overrides.get(fieldMeta.name());
             if (override != null) {
                 try {
-                    Field field = fieldMeta.field();
-                    field.setAccessible(true);
-                    Object converted = SerializationUtils.fromSerializable(override, field.getType());
-                    field.set(component, converted);
+                    Object converted = SerializationUtils.fromSerializable(override, fieldMeta.field().getType());
+                    fieldMeta.accessor().set(component, converted);
                 } catch (Exception e) {
                     System.err.println("Failed to apply override for " + fieldMeta.name() + ": " + e.getMessage());
                 }
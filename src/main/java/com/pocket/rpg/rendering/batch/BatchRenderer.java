@@ -19,7 +19,8 @@ import static org.lwjgl.opengl.GL33.*;
  * <h2>Supported Renderables</h2>
  * <ul>
  *   <li>{@link SpriteRenderer} - Individual sprites</li>
- *   <li>{@link TilemapRenderer} - Tile-based maps (rendered via chunk submission)</li>
+ *   <li>{@link TilemapRenderer} - Tile-based maps (rendered via chunk submission, from cached
+ *       static chunk meshes when the tilemap owns its z-index)</li>
  * </ul>
  */
 public class BatchRenderer extends Renderer {
@@ -0,0 +1,164 @@
+package com.pocket.rpg.rendering.batch;
+
+import java.util.Arrays;
+
+/**
+ * Struct-of-arrays storage for the quads submitted to a {@link SpriteBatch} during one frame.
+ * <p>
+ * Every attribute lives in its own primitive array indexed by quad slot. The arrays grow
+ * (doubling) the first time a frame exceeds the current capacity and are reused afterwards,
+ * so a steady-state frame writes quads without allocating any objects.
+ * <p>
+ * {@link #order} holds the draw order as slot indices; sorting permutes it instead of
+ * moving the attribute data (see {@link QuadSorter}).
+ */
+final class QuadBuffer {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    int size;
+
+    int[] textureId;
+    float[] x, y;                   // World position
+    float[] width, height;          // Size in world units
+    float[] rotation;               // Z rotation in degrees
+    float[] originX, originY;       // 0-1 normalized origin
+    float[] u0, v0, u1, v1;         // UVs
+    float[] zIndex;
+    float[] yPosition;              // For depth sorting
+    float[] r, g, b, a;             // Final tint (pre-multiplied)
+    long[] sortKey;                 // Packed sort key, filled by QuadSorter
+    int[] meshRef;                  // -1 for a plain quad, else a static chunk mesh entry
+
+    // Draw order (slot indices), plus scratch space for sorting
+    int[] order;
+    int[] scratch;
+    long[] keyScratch;
+    long[] keyScratch2;
+
+    QuadBuffer() {
+        this(INITIAL_CAPACITY);
+    }
+
+    QuadBuffer(int initialCapacity) {
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    /**
+     * Resets the quad count. Backing arrays are kept for the next frame.
+     */
+    void clear() {
+        size = 0;
+    }
+
+    int capacity() {
+        return textureId.length;
+    }
+
+    /**
+     * Appends a quad and returns its slot index.
+     */
+    int add(int textureId,
+            float x, float y,
+            float width, float height,
+            float rotation,
+            float originX, float originY,
+            float u0, float v0, float u1, float v1,
+            float zIndex,
+            float r, float g, float b, float a) {
+        if (size == capacity()) {
+            grow(size * 2);
+        }
+
+        int i = size++;
+        this.textureId[i] = textureId;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.width[i] = width;
+        this.height[i] = height;
+        this.rotation[i] = rotation;
+        this.originX[i] = originX;
+        this.originY[i] = originY;
+        this.u0[i] = u0;
+        this.v0[i] = v0;
+        this.u1[i] = u1;
+        this.v1[i] = v1;
+        this.zIndex[i] = zIndex;
+        this.yPosition[i] = y;
+        this.r[i] = r;
+        this.g[i] = g;
+        this.b[i] = b;
+        this.a[i] = a;
+        this.meshRef[i] = -1;
+        this.order[i] = i;
+        return i;
+    }
+
+    /**
+     * Appends a placeholder slot that stands for a whole static chunk mesh.
+     * It takes part in sorting like a quad but is drawn from the mesh cache.
+     *
+     * @param ref    Index of the chunk submission this slot draws
+     * @param zIndex Depth sorting index
+     * @return The slot index
+     */
+    int addMesh(int ref, float zIndex) {
+        int i = add(0, 0f, 0f, 0f, 0f, 0f, 0f, 0f, 0f, 0f, 0f, 0f, zIndex, 0f, 0f, 0f, 0f);
+        this.meshRef[i] = ref;
+        return i;
+    }
+
+    private void allocate(int capacity) {
+        textureId = new int[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+        rotation = new float[capacity];
+        originX = new float[capacity];
+        originY = new float[capacity];
+        u0 = new float[capacity];
+        v0 = new float[capacity];
+        u1 = new float[capacity];
+        v1 = new float[capacity];
+        zIndex = new float[capacity];
+        yPosition = new float[capacity];
+        r = new float[capacity];
+        g = new float[capacity];
+        b = new float[capacity];
+        a = new float[capacity];
+        sortKey = new long[capacity];
+        meshRef = new int[capacity];
+        order = new int[capacity];
+        scratch = new int[capacity];
+        keyScratch = new long[capacity];
+        keyScratch2 = new long[capacity];
+    }
+
+    private void grow(int newCapacity) {
+        textureId = Arrays.copyOf(textureId, newCapacity);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        width = Arrays.copyOf(width, newCapacity);
+        height = Arrays.copyOf(height, newCapacity);
+        rotation = Arrays.copyOf(rotation, newCapacity);
+        originX = Arrays.copyOf(originX, newCapacity);
+        originY = Arrays.copyOf(originY, newCapacity);
+        u0 = Arrays.copyOf(u0, newCapacity);
+        v0 = Arrays.copyOf(v0, newCapacity);
+        u1 = Arrays.copyOf(u1, newCapacity);
+        v1 = Arrays.copyOf(v1, newCapacity);
+        zIndex = Arrays.copyOf(zIndex, newCapacity);
+        yPosition = Arrays.copyOf(yPosition, newCapacity);
+        r = Arrays.copyOf(r, newCapacity);
+        g = Arrays.copyOf(g, newCapacity);
+        b = Arrays.copyOf(b, newCapacity);
+        a = Arrays.copyOf(a, newCapacity);
+        sortKey = new long[newCapacity];
+        meshRef = Arrays.copyOf(meshRef, newCapacity);
+        order = Arrays.copyOf(order, newCapacity);
+        scratch = new int[newCapacity];
+        keyScratch = new long[newCapacity];
+        keyScratch2 = new long[newCapacity];
+    }
+}
@@ -0,0 +1,252 @@
+package com.pocket.rpg.rendering.batch;
+
+import com.pocket.rpg.rendering.batch.SpriteBatch.SortingStrategy;
+
+import java.util.Arrays;
+
+/**
+ * Sorts a {@link QuadBuffer} by compiling each quad into a 64-bit packed key and
+ * running an in-place LSD radix sort over the buffer's index array.
+ * <p>
+ * Key layout (compared as unsigned):
+ * <pre>
+ *   bits 63..32  zIndex (order-preserving float bits, exact)
+ *   bits 31..0   strategy-dependent:
+ *     TEXTURE_PRIORITY  texture(12) | yDesc(20)
+ *     DEPTH_PRIORITY    yDesc(20)   | texture(12)
+ *     BALANCED          bandDesc(10) | texture(12) | yInBandDesc(10)
+ * </pre>
+ * Texture ids are remapped each frame to dense ranks (ascending id), so the 12-bit
+ * field holds up to 4096 distinct textures per frame; beyond that, textures share the
+ * last rank, which only costs batching, never depth order.
+ * <p>
+ * Y is descending (higher Y renders first, behind). DEPTH/TEXTURE quantize Y over the
+ * frame's Y range. BALANCED uses world-aligned bands of {@link #BALANCED_BAND_SIZE}
+ * units, so band membership does not depend on the camera, and the ordering is a
+ * total order (unlike the old "within 4 units" comparator, which was not transitive).
+ * <p>
+ * The radix sort is stable and skips byte passes where all keys agree, so for typical
+ * frames (few z layers) only 3-5 passes run. Cost is linear in the quad count.
+ */
+final class QuadSorter {
+
+    /** Height of a BALANCED depth band in world units. */
+    static final float BALANCED_BAND_SIZE = 4f;
+
+    private static final int TEXTURE_BITS = 12;
+    private static final int MAX_TEXTURE_RANK = (1 << TEXTURE_BITS) - 1;
+    private static final int Y_BITS = 20;
+    private static final int MAX_Y = (1 << Y_BITS) - 1;
+    private static final int BAND_BITS = 10;
+    private static final int MAX_BAND = (1 << BAND_BITS) - 1;
+    private static final int FINE_Y_BITS = 10;
+    private static final int MAX_FINE_Y = (1 << FINE_Y_BITS) - 1;
+
+    private static final int RADIX_PASSES = 8;
+
+    private final int[] histograms = new int[RADIX_PASSES * 256];
+
+    // Per-frame texture id -> dense rank, with stamps to avoid clearing
+    private int[] textureRank = new int[64];
+    private int[] textureStamp = new int[64];
+    private int stamp;
+
+    /**
+     * Sorts {@code quads.order} according to {@code strategy}.
+     */
+    void sort(QuadBuffer quads, SortingStrategy strategy) {
+        int n = quads.size;
+        if (n < 2) {
+            return;
+        }
+
+        computeKeys(quads, strategy);
+        radixSort(quads, n);
+    }
+
+    // ========================================================================
+    // KEY COMPILATION
+    // ========================================================================
+
+    private void computeKeys(QuadBuffer quads, SortingStrategy strategy) {
+        int n = quads.size;
+        rankTextures(quads);
+
+        float minY = Float.POSITIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            float y = quads.yPosition[i];
+            if (y < minY) minY = y;
+            if (y > maxY) maxY = y;
+        }
+
+        long[] keys = quads.sortKey;
+        int[] textureIds = quads.textureId;
+        float[] zIndex = quads.zIndex;
+        float[] yPosition = quads.yPosition;
+
+        switch (strategy) {
+            case TEXTURE_PRIORITY -> {
+                float yScale = yScale(minY, maxY, MAX_Y);
+                for (int i = 0; i < n; i++) {
+                    long low = ((long) textureRank[textureSlot(textureIds[i])] << Y_BITS)
+                            | quantizeDescending(yPosition[i], maxY, yScale, MAX_Y);
+                    keys[i] = zKey(zIndex[i]) | low;
+                }
+            }
+            case DEPTH_PRIORITY -> {
+                float yScale = yScale(minY, maxY, MAX_Y);
+                for (int i = 0; i < n; i++) {
+                    long low = ((long) quantizeDescending(yPosition[i], maxY, yScale, MAX_Y) << TEXTURE_BITS)
+                            | textureRank[textureSlot(textureIds[i])];
+                    keys[i] = zKey(zIndex[i]) | low;
+                }
+            }
+            case BALANCED -> {
+                long topBand = band(maxY);
+                float fineScale = (MAX_FINE_Y + 1) / BALANCED_BAND_SIZE;
+                for (int i = 0; i < n; i++) {
+                    float y = yPosition[i];
+                    long band = band(y);
+                    long bandDesc = Math.min(topBand - band, MAX_BAND);
+
+                    float inBand = y - band * BALANCED_BAND_SIZE;
+                    int fine = Math.min((int) (inBand * fineScale), MAX_FINE_Y);
+                    int fineDesc = MAX_FINE_Y - Math.max(fine, 0);
+
+                    long low = (bandDesc << (TEXTURE_BITS + FINE_Y_BITS))
+                            | ((long) textureRank[textureSlot(textureIds[i])] << FINE_Y_BITS)
+                            | fineDesc;
+                    keys[i] = zKey(zIndex[i]) | low;
+                }
+            }
+        }
+    }
+
+    /**
+     * Maps a float to the upper 32 bits of an unsigned key, preserving order.
+     */
+    static long zKey(float z) {
+        int bits = Float.floatToIntBits(z + 0f); // + 0f folds -0 into +0
+        bits ^= (bits >> 31) | 0x80000000;
+        return (bits & 0xFFFFFFFFL) << 32;
+    }
+
+    private static long band(float y) {
+        return (long) Math.floor(y / BALANCED_BAND_SIZE);
+    }
+
+    private static float yScale(float minY, float maxY, int maxValue) {
+        float range = maxY - minY;
+        return range > 0f ? maxValue / range : 0f;
+    }
+
+    private static int quantizeDescending(float y, float maxY, float scale, int maxValue) {
+        int q = (int) ((maxY - y) * scale);
+        return Math.min(Math.max(q, 0), maxValue);
+    }
+
+    private static int textureSlot(int textureId) {
+        return Math.max(textureId, 0);
+    }
+
+    /**
+     * Assigns dense ranks (by ascending texture id) to the textures used this frame.
+     */
+    private void rankTextures(QuadBuffer quads) {
+        int n = quads.size;
+        int[] textureIds = quads.textureId;
+
+        stamp++;
+        if (stamp == 0) {
+            Arrays.fill(textureStamp, 0);
+            stamp = 1;
+        }
+
+        int maxId = 0;
+        for (int i = 0; i < n; i++) {
+            int id = textureSlot(textureIds[i]);
+            if (id >= textureStamp.length) {
+                int newLength = Math.max(textureStamp.length * 2, id + 1);
+                textureStamp = Arrays.copyOf(textureStamp, newLength);
+                textureRank = Arrays.copyOf(textureRank, newLength);
+            }
+            textureStamp[id] = stamp;
+            if (id > maxId) maxId = id;
+        }
+
+        int rank = 0;
+        for (int id = 0; id <= maxId; id++) {
+            if (textureStamp[id] == stamp) {
+                textureRank[id] = Math.min(rank++, MAX_TEXTURE_RANK);
+            }
+        }
+    }
+
+    // ========================================================================
+    // RADIX SORT
+    // ========================================================================
+
+    /**
+     * Stable LSD radix sort of {@code order[0..n)} by {@code keys[order[i]]} (unsigned).
+     * Keys are gathered into sort order once and moved alongside the indices, so each
+     * pass streams through memory instead of chasing indices.
+     */
+    private void radixSort(QuadBuffer quads, int n) {
+        long[] slotKeys = quads.sortKey;
+        int[] order = quads.order;
+
+        long[] srcKeys = quads.keyScratch;
+        long[] dstKeys = quads.keyScratch2;
+        int[] src = order;
+        int[] dst = quads.scratch;
+
+        int[] hist = histograms;
+        Arrays.fill(hist, 0);
+
+        // Gather keys into current order; one pass builds all eight byte histograms
+        for (int i = 0; i < n; i++) {
+            long key = slotKeys[order[i]];
+            srcKeys[i] = key;
+            for (int pass = 0; pass < RADIX_PASSES; pass++) {
+                hist[(pass << 8) + (int) ((key >>> (pass << 3)) & 0xFF)]++;
+            }
+        }
+
+        for (int pass = 0; pass < RADIX_PASSES; pass++) {
+            int base = pass << 8;
+            int shift = pass << 3;
+
+            // Skip passes where every key has the same byte
+            if (hist[base + (int) ((srcKeys[0] >>> shift) & 0xFF)] == n) {
+                continue;
+            }
+
+            // Exclusive prefix sum -> bucket start offsets
+            int sum = 0;
+            for (int b = 0; b < 256; b++) {
+                int count = hist[base + b];
+                hist[base + b] = sum;
+                sum += count;
+            }
+
+            for (int i = 0; i < n; i++) {
+                long key = srcKeys[i];
+                int target = hist[base + (int) ((key >>> shift) & 0xFF)]++;
+                dstKeys[target] = key;
+                dst[target] = src[i];
+            }
+
+            long[] tmpKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = tmpKeys;
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+
+        if (src != order) {
+            System.arraycopy(src, 0, order, 0, n);
+        }
+    }
+}
@@ -12,8 +12,7 @@ import org.joml.Vector4f;
 import org.lwjgl.system.MemoryUtil;
 
 import java.nio.FloatBuffer;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import static org.lwjgl.opengl.GL33.*;
 
@@ -24,8 +23,9 @@ import static org.lwjgl.opengl.GL33.*;
  * Uses deferred submission with global sorting and auto-flush for unlimited sprite counts.
  * Sprites are buffered during begin/end, then globally sorted and rendered in batches.
  * <p>
- * All submission types are normalized to {@link RenderableQuad} before rendering,
- * ensuring a single code path for vertex generation.
+ * All submission types are written straight into a struct-of-arrays {@link QuadBuffer}
+ * that is reused every frame, so steady-state submission allocates nothing and there is
+ * a single code path for vertex generation.
  * <p>
  * Uses world units for all position and size calculations.
  * Sprite dimensions come from {@link Sprite#getWorldWidth()} and {@link Sprite#getWorldHeight()}.
@@ -35,13 +35,18 @@ public class SpriteBatch {
     // Maximum sprites per GPU batch (vertex buffer size)
     private final int maxBatchSize;
 
-    // Submission buffers (unbounded) - different input types
-    private final List<SpriteRendererSubmission> spriteRendererSubmissions = new ArrayList<>();
-    private final List<TileSubmission> tileSubmissions = new ArrayList<>();
-    private final List<SpriteSubmission> spriteSubmissions = new ArrayList<>();
+    // Submitted quads for the current frame (grows once, reused every frame)
+    private final QuadBuffer quads = new QuadBuffer();
+    private final QuadSorter sorter = new QuadSorter();
 
-    // Normalized quads for rendering (populated during processBatches)
-    private final List<RenderableQuad> renderableQuads = new ArrayList<>();
+    // Distinct z-indices of the sprite quads submitted this frame (tilemap chunks excluded)
+    private final ZIndexSet dynamicZIndices = new ZIndexSet();
+
+    // Tilemap chunks submitted this frame (drawn from static meshes when possible)
+    private final ChunkSubmissions chunks = new ChunkSubmissions();
+
+    // Static per-chunk GPU meshes (null without an OpenGL context)
+    private final StaticChunkMeshCache chunkMeshCache;
 
     // Vertex buffer (fixed size, reused each flush)
     private final FloatBuffer vertexBuffer;
@@ -82,79 +87,71 @@ public class SpriteBatch {
 
         /**
          * Balance between batching and depth.
-         * Sort: Z-index → Texture (within tolerance) → Y-position
+         * Sort: Z-index → Y band (4 world units, world-aligned) → Texture → Y-position
          * Best for: Most games
          */
         BALANCED
     }
 
     // ========================================================================
-    // SUBMISSION RECORDS (buffered until end())
-    // ========================================================================
-
-    /**
-     * Buffered submission from SpriteRenderer component.
-     */
-    private record SpriteRendererSubmission(
-            SpriteRenderer spriteRenderer,
-            Vector4f tintColor
-    ) {}
-
-    /**
-     * Buffered tile submission (no rotation support).
-     */
-    private record TileSubmission(
-            Sprite sprite,
-            float x,
-            float y,
-            float width,
-            float height,
-            float zIndex,
-            Vector4f tintColor
-    ) {}
-
-    /**
-     * Buffered sprite submission with full transform support.
-     * Used for entities that need rotation but aren't SpriteRenderers.
-     */
-    private record SpriteSubmission(
-            Sprite sprite,
-            float x,
-            float y,
-            float width,
-            float height,
-            float rotation,    // Z rotation in degrees
-            float originX,     // 0-1 normalized origin
-            float originY,
-            float zIndex,
-            Vector4f tintColor
-    ) {}
-
-    // ========================================================================
-    // NORMALIZED QUAD (single format for rendering)
+    // CONSTRUCTOR & INITIALIZATION
     // ========================================================================
 
     /**
-     * Normalized quad ready for sorting and rendering.
-     * All submission types are converted to this format during processBatches().
+     * Tilemap chunk submissions for the current frame. Arrays are reused across frames.
      * <p>
-     * This ensures a single code path for vertex generation regardless of input type.
+     * Also records which tilemap submitted each z-index, and which z-indices were
+     * submitted by more than one tilemap.
      */
-    record RenderableQuad(
-            int textureId,
-            float x, float y,                          // World position
-            float width, float height,                 // Size in world units
-            float rotation,                            // Z rotation in degrees
-            float originX, float originY,              // 0-1 normalized origin
-            float u0, float v0, float u1, float v1,    // UVs
-            float zIndex,
-            float yPosition,                           // For depth sorting
-            float r, float g, float b, float a         // Final tint (pre-multiplied)
-    ) {}
+    private static final class ChunkSubmissions {
+        TilemapRenderer[] tilemaps = new TilemapRenderer[16];
+        TilemapRenderer.TileChunk[] chunks = new TilemapRenderer.TileChunk[16];
+        float[] tints = new float[16 * 4];
+        int count;
+
+        final ZIndexSet zIndices = new ZIndexSet();
+        TilemapRenderer[] zIndexOwners = new TilemapRenderer[8];    // Indexed by zIndices slot
+        final ZIndexSet sharedZIndices = new ZIndexSet();
+
+        void add(TilemapRenderer tilemap, TilemapRenderer.TileChunk chunk, Vector4f tint) {
+            if (count == tilemaps.length) {
+                tilemaps = Arrays.copyOf(tilemaps, count * 2);
+                chunks = Arrays.copyOf(chunks, count * 2);
+                tints = Arrays.copyOf(tints, count * 2 * 4);
+            }
+            tilemaps[count] = tilemap;
+            chunks[count] = chunk;
+            tints[count * 4] = tint.x;
+            tints[count * 4 + 1] = tint.y;
+            tints[count * 4 + 2] = tint.z;
+            tints[count * 4 + 3] = tint.w;
+            count++;
+
+            float z = tilemap.getZIndex();
+            int slot = zIndices.indexOf(z);
+            if (slot < 0) {
+                slot = zIndices.add(z);
+                if (slot == zIndexOwners.length) {
+                    zIndexOwners = Arrays.copyOf(zIndexOwners, slot * 2);
+                }
+                zIndexOwners[slot] = tilemap;
+            } else if (zIndexOwners[slot] != tilemap) {
+                sharedZIndices.add(z);
+            }
+        }
 
-    // ========================================================================
-    // CONSTRUCTOR & INITIALIZATION
-    // ========================================================================
+        /**
+         * Drops references so destroyed tilemaps are not retained between frames.
+         */
+        void clear() {
+            Arrays.fill(tilemaps, 0, count, null);
+            Arrays.fill(chunks, 0, count, null);
+            Arrays.fill(zIndexOwners, 0, zIndices.size(), null);
+            count = 0;
+            zIndices.clear();
+            sharedZIndices.clear();
+        }
+    }
 
     /**
      * Package-private constructor for testing sort logic without OpenGL context.
@@ -162,6 +159,7 @@ public class SpriteBatch {
     SpriteBatch(SortingStrategy sortingStrategy) {
         this.maxBatchSize = 0;
         this.vertexBuffer = null;
+        this.chunkMeshCache = null;
         this.sortingStrategy = sortingStrategy;
     }
 
@@ -172,6 +170,7 @@ public class SpriteBatch {
         // Allocate vertex buffer (off-heap for performance)
         int bufferSize = maxBatchSize * VertexLayout.FLOATS_PER_SPRITE;
         vertexBuffer = MemoryUtil.memAllocFloat(bufferSize);
+        chunkMeshCache = new StaticChunkMeshCache();
 
         initGL();
     }
@@ -205,10 +204,9 @@ public class SpriteBatch {
             throw new IllegalStateException("Already batching! Call end() first.");
         }
 
-        spriteRendererSubmissions.clear();
-        tileSubmissions.clear();
-        spriteSubmissions.clear();
-        renderableQuads.clear();
+        quads.clear();
+        dynamicZIndices.clear();
+        chunks.clear();
         drawCalls = 0;
         totalSprites = 0;
         isBatching = true;
@@ -223,6 +221,10 @@ public class SpriteBatch {
         }
 
         processBatches();
+        chunks.clear();
+        if (chunkMeshCache != null) {
+            chunkMeshCache.endFrame();
+        }
         isBatching = false;
     }
 
@@ -246,12 +248,37 @@ public class SpriteBatch {
             return;
         }
 
-        spriteRendererSubmissions.add(new SpriteRendererSubmission(spriteRenderer, tintColor));
+        Transform transform = spriteRenderer.getGameObject().getTransform();
+        Vector3f pos = transform.getPosition();
+        Vector3f scale = transform.getScale();
+
+        // Pre-multiply tints
+        Vector4f spriteTint = spriteRenderer.getTintColor();
+
+        quads.add(
+                sprite.getTexture().getTextureId(),
+                pos.x, pos.y,
+                sprite.getWorldWidth() * scale.x, sprite.getWorldHeight() * scale.y,
+                transform.getRotation().z,
+                spriteRenderer.getEffectiveOriginX(), spriteRenderer.getEffectiveOriginY(),
+                sprite.getU0(), sprite.getV0(), sprite.getU1(), sprite.getV1(),
+                spriteRenderer.getZIndex(),
+                spriteTint.x * tintColor.x,
+                spriteTint.y * tintColor.y,
+                spriteTint.z * tintColor.z,
+                spriteTint.w * tintColor.w
+        );
+        dynamicZIndices.add(spriteRenderer.getZIndex());
         totalSprites++;
     }
 
     /**
      * Submits all tiles from a tilemap chunk to the batch.
+     * <p>
+     * If no other quad or tilemap shares the tilemap's z-index this frame, the chunk is
+     * drawn from a cached static mesh (one draw call per texture, no vertex upload) at
+     * its place in the z-order. Otherwise its tiles are expanded into individual quads
+     * so they interleave with the other renderables exactly as before.
      *
      * @param tilemapRenderer The tilemap renderer
      * @param cx              Chunk X coordinate
@@ -268,35 +295,8 @@ public class SpriteBatch {
             return;
         }
 
-        Vector3f tilemapPos = tilemapRenderer.getGameObject().getTransform().getPosition();
-        float tileSize = tilemapRenderer.getTileSize();
-        float zIndex = tilemapRenderer.getZIndex();
-
-        int chunkSize = TilemapRenderer.TileChunk.CHUNK_SIZE;
-        int baseX = cx * chunkSize;
-        int baseY = cy * chunkSize;
-
-        TilemapRenderer.Tile[][] tiles = chunk.getTiles();
-
-        for (int tx = 0; tx < chunkSize; tx++) {
-            for (int ty = 0; ty < chunkSize; ty++) {
-                TilemapRenderer.Tile tile = tiles[tx][ty];
-                if (tile == null || tile.sprite() == null || tile.sprite().getTexture() == null) {
-                    continue;
-                }
-
-                int tileX = baseX + tx;
-                int tileY = baseY + ty;
-
-                float worldX = tilemapPos.x + (tileX * tileSize);
-                float worldY = tilemapPos.y + (tileY * tileSize);
-
-                tileSubmissions.add(new TileSubmission(
-                        tile.sprite(), worldX, worldY, tileSize, tileSize, zIndex, tintColor
-                ));
-                totalSprites++;
-            }
-        }
+        chunks.add(tilemapRenderer, chunk, tintColor);
+        totalSprites += chunk.getTileCount();
     }
 
     /**
@@ -320,15 +320,32 @@ public class SpriteBatch {
             return;
         }
 
-        tileSubmissions.add(new TileSubmission(sprite, x, y, width, height, zIndex, tint));
-        totalSprites++;
+        // No rotation for tiles, origin at bottom-left
+        addSprite(sprite, x, y, width, height, 0f, 0f, 0f, zIndex, tint);
     }
 
     /**
      * Draws a sprite with default white tint.
      */
     public void submit(Sprite sprite, float x, float y, float width, float height, float zIndex) {
-        submit(sprite, x, y, width, height, zIndex, new Vector4f(1f, 1f, 1f, 1f));
+        if (!isBatching) {
+            throw new IllegalStateException("Not batching! Call begin() first.");
+        }
+
+        if (sprite == null || sprite.getTexture() == null) {
+            return;
+        }
+
+        quads.add(
+                sprite.getTexture().getTextureId(),
+                x, y, width, height,
+                0f, 0f, 0f,
+                sprite.getU0(), sprite.getV0(), sprite.getU1(), sprite.getV1(),
+                zIndex,
+                1f, 1f, 1f, 1f
+        );
+        dynamicZIndices.add(zIndex);
+        totalSprites++;
     }
 
     /**
@@ -356,9 +373,59 @@ public class SpriteBatch {
             return;
         }
 
-        spriteSubmissions.add(new SpriteSubmission(
-                sprite, x, y, width, height, rotation, originX, originY, zIndex, tint
-        ));
+        addSprite(sprite, x, y, width, height, rotation, originX, originY, zIndex, tint);
+    }
+
+    /**
+     * Submits a raw quad, bypassing the Sprite/component adapters.
+     * <p>
+     * Values are copied straight into the reusable quad arrays, so this path
+     * performs no per-call allocation. The other {@code submit} overloads
+     * are thin adapters over it.
+     *
+     * @param textureId OpenGL texture handle
+     * @param x         World X position
+     * @param y         World Y position
+     * @param width     Width in world units
+     * @param height    Height in world units
+     * @param rotation  Z rotation in degrees
+     * @param originX   Origin X (0-1)
+     * @param originY   Origin Y (0-1)
+     * @param u0        Left texture coordinate
+     * @param v0        Bottom texture coordinate
+     * @param u1        Right texture coordinate
+     * @param v1        Top texture coordinate
+     * @param zIndex    Depth sorting index
+     * @param r         Tint red
+     * @param g         Tint green
+     * @param b         Tint blue
+     * @param a         Tint alpha
+     */
+    public void submitQuad(int textureId, float x, float y, float width, float height,
+                           float rotation, float originX, float originY,
+                           float u0, float v0, float u1, float v1,
+                           float zIndex, float r, float g, float b, float a) {
+        if (!isBatching) {
+            throw new IllegalStateException("Not batching! Call begin() first.");
+        }
+
+        quads.add(textureId, x, y, width, height, rotation, originX, originY,
+                u0, v0, u1, v1, zIndex, r, g, b, a);
+        dynamicZIndices.add(zIndex);
+        totalSprites++;
+    }
+
+    private void addSprite(Sprite sprite, float x, float y, float width, float height,
+                           float rotation, float originX, float originY, float zIndex, Vector4f tint) {
+        quads.add(
+                sprite.getTexture().getTextureId(),
+                x, y, width, height,
+                rotation, originX, originY,
+                sprite.getU0(), sprite.getV0(), sprite.getU1(), sprite.getV1(),
+                zIndex,
+                tint.x, tint.y, tint.z, tint.w
+        );
+        dynamicZIndices.add(zIndex);
         totalSprites++;
     }
 
@@ -367,109 +434,98 @@ public class SpriteBatch {
     // ========================================================================
 
     /**
-     * Converts all submissions to RenderableQuads, sorts globally, and renders in batches.
+     * Sorts the submitted quads globally and renders them in batches.
      */
     private void processBatches() {
-        // Normalize all submissions to RenderableQuad format
-        for (SpriteRendererSubmission sub : spriteRendererSubmissions) {
-            renderableQuads.add(normalizeFromSpriteRenderer(sub));
-        }
-
-        for (TileSubmission sub : tileSubmissions) {
-            renderableQuads.add(normalizeFromTile(sub));
-        }
+        resolveChunks();
 
-        for (SpriteSubmission sub : spriteSubmissions) {
-            renderableQuads.add(normalizeFromSprite(sub));
-        }
-
-        if (renderableQuads.isEmpty()) {
+        if (quads.size == 0) {
             return;
         }
 
         // Global sort
-        sortQuads(renderableQuads);
+        sortQuads(quads);
 
         // Render with auto-flush
-        renderQuads(renderableQuads);
+        renderQuads(quads);
     }
 
-    // ========================================================================
-    // NORMALIZATION (convert submissions to RenderableQuad)
-    // ========================================================================
-
     /**
-     * Normalizes a SpriteRenderer submission to RenderableQuad.
+     * Turns each chunk submission into either a static mesh slot or expanded tile quads.
+     * <p>
+     * A tilemap may use its static mesh only when it owns its z-index for this frame:
+     * nothing else is sorted by Y against its tiles, so drawing the chunk as a unit
+     * produces the same image as drawing its tiles individually.
      */
-    private RenderableQuad normalizeFromSpriteRenderer(SpriteRendererSubmission sub) {
-        SpriteRenderer sr = sub.spriteRenderer();
-        Sprite sprite = sr.getSprite();
-        Transform transform = sr.getGameObject().getTransform();
-
-        Vector3f pos = transform.getPosition();
-        Vector3f scale = transform.getScale();
-
-        float width = sprite.getWorldWidth() * scale.x;
-        float height = sprite.getWorldHeight() * scale.y;
-
-        // Pre-multiply tints
-        Vector4f tint = sub.tintColor();
-        Vector4f spriteTint = sr.getTintColor();
+    private void resolveChunks() {
+        TilemapRenderer lastTilemap = null;
+        boolean useStatic = false;
+
+        for (int c = 0; c < chunks.count; c++) {
+            TilemapRenderer tilemap = chunks.tilemaps[c];
+            if (tilemap != lastTilemap) {
+                useStatic = chunkMeshCache != null && ownsZIndex(tilemap);
+                lastTilemap = tilemap;
+            }
 
-        return new RenderableQuad(
-                sprite.getTexture().getTextureId(),
-                pos.x, pos.y,
-                width, height,
-                transform.getRotation().z,
-                sr.getEffectiveOriginX(), sr.getEffectiveOriginY(),
-                sprite.getU0(), sprite.getV0(), sprite.getU1(), sprite.getV1(),
-                sr.getZIndex(),
-                pos.y,
-                spriteTint.x * tint.x,
-                spriteTint.y * tint.y,
-                spriteTint.z * tint.z,
-                spriteTint.w * tint.w
-        );
+            if (useStatic) {
+                quads.addMesh(c, tilemap.getZIndex());
+            } else {
+                expandChunk(c);
+            }
+        }
     }
 
     /**
-     * Normalizes a tile submission to RenderableQuad.
+     * Checks that no dynamic quad and no other tilemap shares this tilemap's z-index.
+     * Both sets are filled at submission time, so this is a lookup over the layers in use.
      */
-    private RenderableQuad normalizeFromTile(TileSubmission sub) {
-        Sprite sprite = sub.sprite();
-        Vector4f tint = sub.tintColor();
-
-        return new RenderableQuad(
-                sprite.getTexture().getTextureId(),
-                sub.x(), sub.y(),
-                sub.width(), sub.height(),
-                0f,    // No rotation for tiles
-                0f, 0f, // Origin at bottom-left
-                sprite.getU0(), sprite.getV0(), sprite.getU1(), sprite.getV1(),
-                sub.zIndex(),
-                sub.y(),
-                tint.x, tint.y, tint.z, tint.w
-        );
+    private boolean ownsZIndex(TilemapRenderer tilemap) {
+        float z = tilemap.getZIndex();
+        return !dynamicZIndices.contains(z) && !chunks.sharedZIndices.contains(z);
     }
 
     /**
-     * Normalizes a sprite submission to RenderableQuad.
+     * Writes every tile of a chunk submission as an individual quad.
      */
-    private RenderableQuad normalizeFromSprite(SpriteSubmission sub) {
-        Sprite sprite = sub.sprite();
-        Vector4f tint = sub.tintColor();
+    private void expandChunk(int c) {
+        TilemapRenderer tilemapRenderer = chunks.tilemaps[c];
+        TilemapRenderer.TileChunk chunk = chunks.chunks[c];
+        float[] tints = chunks.tints;
+        float r = tints[c * 4], g = tints[c * 4 + 1], b = tints[c * 4 + 2], a = tints[c * 4 + 3];
 
-        return new RenderableQuad(
-                sprite.getTexture().getTextureId(),
-                sub.x(), sub.y(),
-                sub.width(), sub.height(),
-                sub.rotation(),
-                sub.originX(), sub.originY(),
-                sprite.getU0(), sprite.getV0(), sprite.getU1(), sprite.getV1(),
-                sub.zIndex(),
-                sub.y(),
-                tint.x, tint.y, tint.z, tint.w
-        );
+        Vector3f tilemapPos = tilemapRenderer.getGameObject().getTransform().getPosition();
+        float tileSize = tilemapRenderer.getTileSize();
+        float zIndex = tilemapRenderer.getZIndex();
+
+        int chunkSize = TilemapRenderer.TileChunk.CHUNK_SIZE;
+        int baseX = chunk.getChunkX() * chunkSize;
+        int baseY = chunk.getChunkY() * chunkSize;
+
+        TilemapRenderer.Tile[][] tiles = chunk.getTiles();
+
+        for (int tx = 0; tx < chunkSize; tx++) {
+            for (int ty = 0; ty < chunkSize; ty++) {
+                TilemapRenderer.Tile tile = tiles[tx][ty];
+                if (tile == null || tile.sprite() == null || tile.sprite().getTexture() == null) {
+                    continue;
+                }
+
+                Sprite sprite = tile.sprite();
+                float worldX = tilemapPos.x + ((baseX + tx) * tileSize);
+                float worldY = tilemapPos.y + ((baseY + ty) * tileSize);
+
+                // No rotation for tiles, origin at bottom-left
+                quads.add(
+                        sprite.getTexture().getTextureId(),
+                        worldX, worldY, tileSize, tileSize,
+                        0f, 0f, 0f,
+                        sprite.getU0(), sprite.getV0(), sprite.getU1(), sprite.getV1(),
+                        zIndex,
+                        r, g, b, a
+                );
+            }
+        }
     }
 
     // ========================================================================
@@ -478,53 +534,11 @@ public class SpriteBatch {
 
     /**
      * Sorts quads according to the current sorting strategy.
+     * <p>
+     * Only {@link QuadBuffer#order} is permuted. See {@link QuadSorter} for the packed key layout.
      */
-    void sortQuads(List<RenderableQuad> quads) {
-        switch (sortingStrategy) {
-            case TEXTURE_PRIORITY:
-                // Z-index → Texture → Y-position (descending: higher Y = behind)
-                quads.sort((a, b) -> {
-                    int zCompare = Float.compare(a.zIndex(), b.zIndex());
-                    if (zCompare != 0) return zCompare;
-
-                    int texCompare = Integer.compare(a.textureId(), b.textureId());
-                    if (texCompare != 0) return texCompare;
-
-                    return Float.compare(b.yPosition(), a.yPosition());
-                });
-                break;
-
-            case DEPTH_PRIORITY:
-                // Z-index → Y-position (descending) → Texture
-                quads.sort((a, b) -> {
-                    int zCompare = Float.compare(a.zIndex(), b.zIndex());
-                    if (zCompare != 0) return zCompare;
-
-                    int yCompare = Float.compare(b.yPosition(), a.yPosition());
-                    if (yCompare != 0) return yCompare;
-
-                    return Integer.compare(a.textureId(), b.textureId());
-                });
-                break;
-
-            case BALANCED:
-                // Z-index → Texture (group nearby Y) → Y-position (descending)
-                quads.sort((a, b) -> {
-                    int zCompare = Float.compare(a.zIndex(), b.zIndex());
-                    if (zCompare != 0) return zCompare;
-
-                    // Group sprites within 4 world units Y-distance by texture
-                    float yDiff = Math.abs(a.yPosition() - b.yPosition());
-                    if (yDiff > 4f) {
-                        return Float.compare(b.yPosition(), a.yPosition());
-                    }
-
-                    int texCompare = Integer.compare(a.textureId(), b.textureId());
-                    if (texCompare != 0) return texCompare;
-                    return Float.compare(b.yPosition(), a.yPosition());
-                });
-                break;
-        }
+    void sortQuads(QuadBuffer quads) {
+        sorter.sort(quads, sortingStrategy);
     }
 
     // ========================================================================
@@ -532,15 +546,34 @@ public class SpriteBatch {
     // ========================================================================
 
     /**
-     * Renders all quads, automatically flushing when buffer is full or texture changes.
+     * Renders all quads in sorted order, automatically flushing when buffer is full or texture changes.
      */
-    private void renderQuads(List<RenderableQuad> quads) {
+    private void renderQuads(QuadBuffer quads) {
         int currentTextureId = -1;
         int spriteCountInBuffer = 0;
 
-        for (RenderableQuad quad : quads) {
+        int[] order = quads.order;
+        for (int n = 0; n < quads.size; n++) {
+            int i = order[n];
+
+            // Static chunk mesh: flush pending quads, then draw the cached mesh
+            int meshRef = quads.meshRef[i];
+            if (meshRef >= 0) {
+                if (spriteCountInBuffer > 0) {
+                    flushBuffer(currentTextureId, spriteCountInBuffer);
+                    spriteCountInBuffer = 0;
+                }
+                float[] tints = chunks.tints;
+                drawCalls += chunkMeshCache.draw(chunks.tilemaps[meshRef], chunks.chunks[meshRef],
+                        tints[meshRef * 4], tints[meshRef * 4 + 1], tints[meshRef * 4 + 2], tints[meshRef * 4 + 3]);
+                currentTextureId = -1;
+                continue;
+            }
+
+            int textureId = quads.textureId[i];
+
             // Check if we need to flush due to texture change
-            boolean textureChanged = (quad.textureId() != currentTextureId && currentTextureId != -1);
+            boolean textureChanged = (textureId != currentTextureId && currentTextureId != -1);
 
             // Check if we need to flush due to buffer full
             boolean bufferFull = (spriteCountInBuffer >= maxBatchSize);
@@ -553,9 +586,9 @@ public class SpriteBatch {
             }
 
             // Add quad vertices to buffer
-            addQuadVertices(quad);
+            addQuadVertices(quads, i);
 
-            currentTextureId = quad.textureId();
+            currentTextureId = textureId;
             spriteCountInBuffer++;
         }
 
@@ -597,61 +630,65 @@ public class SpriteBatch {
     // ========================================================================
 
     /**
-     * Adds vertex data for a quad to the vertex buffer.
+     * Adds vertex data for a quad slot to the vertex buffer.
      * Handles rotation if non-zero, otherwise uses fast path.
      */
-    private void addQuadVertices(RenderableQuad quad) {
+    private void addQuadVertices(QuadBuffer q, int i) {
+        float x = q.x[i];
+        float y = q.y[i];
+        float width = q.width[i];
+        float height = q.height[i];
+        float u0 = q.u0[i], v0 = q.v0[i], u1 = q.u1[i], v1 = q.v1[i];
+        float r = q.r[i], g = q.g[i], b = q.b[i], a = q.a[i];
+
         // Origin offset in world units
-        float originOffsetX = quad.width() * quad.originX();
-        float originOffsetY = quad.height() * quad.originY();
+        float originOffsetX = width * q.originX[i];
+        float originOffsetY = height * q.originY[i];
 
         // Quad corners (Y-up coordinate system)
-        float x0 = quad.x() - originOffsetX;
-        float y0 = quad.y() - originOffsetY;
-        float x1 = quad.x() + (quad.width() - originOffsetX);
-        float y1 = quad.y() + (quad.height() - originOffsetY);
+        float x0 = x - originOffsetX;
+        float y0 = y - originOffsetY;
+        float x1 = x + (width - originOffsetX);
+        float y1 = y + (height - originOffsetY);
 
         // Rotation
-        float angle = (float) Math.toRadians(quad.rotation());
+        float angle = (float) Math.toRadians(q.rotation[i]);
 
         if (angle != 0.0f) {
             // Rotated path
-            float centerX = quad.x();
-            float centerY = quad.y();
-
             float cos = (float) Math.cos(angle);
             float sin = (float) Math.sin(angle);
 
             // Rotate all 4 corners
-            float blX = rotateX(x0, y0, centerX, centerY, cos, sin);
-            float blY = rotateY(x0, y0, centerX, centerY, cos, sin);
-            float tlX = rotateX(x0, y1, centerX, centerY, cos, sin);
-            float tlY = rotateY(x0, y1, centerX, centerY, cos, sin);
-            float trX = rotateX(x1, y1, centerX, centerY, cos, sin);
-            float trY = rotateY(x1, y1, centerX, centerY, cos, sin);
-            float brX = rotateX(x1, y0, centerX, centerY, cos, sin);
-            float brY = rotateY(x1, y0, centerX, centerY, cos, sin);
+            float blX = rotateX(x0, y0, x, y, cos, sin);
+            float blY = rotateY(x0, y0, x, y, cos, sin);
+            float tlX = rotateX(x0, y1, x, y, cos, sin);
+            float tlY = rotateY(x0, y1, x, y, cos, sin);
+            float trX = rotateX(x1, y1, x, y, cos, sin);
+            float trY = rotateY(x1, y1, x, y, cos, sin);
+            float brX = rotateX(x1, y0, x, y, cos, sin);
+            float brY = rotateY(x1, y0, x, y, cos, sin);
 
             // Triangle 1: BL, TL, TR
-            putVertex(blX, blY, quad.u0(), quad.v0(), quad.r(), quad.g(), quad.b(), quad.a());
-            putVertex(tlX, tlY, quad.u0(), quad.v1(), quad.r(), quad.g(), quad.b(), quad.a());
-            putVertex(trX, trY, quad.u1(), quad.v1(), quad.r(), quad.g(), quad.b(), quad.a());
+            putVertex(blX, blY, u0, v0, r, g, b, a);
+            putVertex(tlX, tlY, u0, v1, r, g, b, a);
+            putVertex(trX, trY, u1, v1, r, g, b, a);
 
             // Triangle 2: BL, TR, BR
-            putVertex(blX, blY, quad.u0(), quad.v0(), quad.r(), quad.g(), quad.b(), quad.a());
-            putVertex(trX, trY, quad.u1(), quad.v1(), quad.r(), quad.g(), quad.b(), quad.a());
-            putVertex(brX, brY, quad.u1(), quad.v0(), quad.r(), quad.g(), quad.b(), quad.a());
+            putVertex(blX, blY, u0, v0, r, g, b, a);
+            putVertex(trX, trY, u1, v1, r, g, b, a);
+            putVertex(brX, brY, u1, v0, r, g, b, a);
         } else {
             // Fast path - no rotation
             // Triangle 1: BL, TL, TR
-            putVertex(x0, y0, quad.u0(), quad.v0(), quad.r(), quad.g(), quad.b(), quad.a());
-            putVertex(x0, y1, quad.u0(), quad.v1(), quad.r(), quad.g(), quad.b(), quad.a());
-            putVertex(x1, y1, quad.u1(), quad.v1(), quad.r(), quad.g(), quad.b(), quad.a());
+            putVertex(x0, y0, u0, v0, r, g, b, a);
+            putVertex(x0, y1, u0, v1, r, g, b, a);
+            putVertex(x1, y1, u1, v1, r, g, b, a);
 
             // Triangle 2: BL, TR, BR
-            putVertex(x0, y0, quad.u0(), quad.v0(), quad.r(), quad.g(), quad.b(), quad.a());
-            putVertex(x1, y1, quad.u1(), quad.v1(), quad.r(), quad.g(), quad.b(), quad.a());
-            putVertex(x1, y0, quad.u1(), quad.v0(), quad.r(), quad.g(), quad.b(), quad.a());
+            putVertex(x0, y0, u0, v0, r, g, b, a);
+            putVertex(x1, y1, u1, v1, r, g, b, a);
+            putVertex(x1, y0, u1, v0, r, g, b, a);
         }
     }
 
@@ -696,5 +733,8 @@ public class SpriteBatch {
         if (vertexBuffer != null) {
             MemoryUtil.memFree(vertexBuffer);
         }
+        if (chunkMeshCache != null) {
+            chunkMeshCache.destroy();
+        }
     }
 }
\ No newline at end of file
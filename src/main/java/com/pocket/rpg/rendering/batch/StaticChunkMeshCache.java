@@ -0,0 +1,301 @@
+package com.pocket.rpg.rendering.batch;
+
+import com.pocket.rpg.components.rendering.TilemapRenderer;
+import com.pocket.rpg.rendering.resources.Sprite;
+import com.pocket.rpg.rendering.resources.Texture;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.lwjgl.opengl.GL33.*;
+
+/**
+ * Caches one static GPU mesh (VAO + VBO) per tilemap chunk per texture.
+ * <p>
+ * A chunk's mesh is built the first time it is drawn and rebuilt only when the chunk's
+ * {@link TilemapRenderer.TileChunk#getVersion() version} changes, or when the baked
+ * inputs (tilemap position, tile size) differ from the last build. A hot reload of
+ * any texture the mesh uses ({@link Texture#getVersion()}) also triggers a rebuild, since
+ * the reload replaces the GL texture and may move sprite UVs. Drawing a cached chunk
+ * costs one draw call per texture used in the chunk, with no vertex upload.
+ * <p>
+ * Meshes hold position and UV only. The tint is not baked: section VAOs leave the color
+ * attribute array disabled, so the shader reads the constant value set with
+ * {@code glVertexAttrib4f} before each draw, and a tint fade never rebuilds a mesh.
+ * <p>
+ * Meshes for chunks that have not been drawn for {@link #EVICT_AFTER_FRAMES} frames
+ * (culled, or their tilemap was destroyed) are deleted in {@link #endFrame()}.
+ * <p>
+ * Requires an OpenGL context. Owned by {@link SpriteBatch}.
+ */
+final class StaticChunkMeshCache {
+
+    /** Frames a mesh may go unused before its GPU buffers are released. */
+    static final int EVICT_AFTER_FRAMES = 600;
+
+    // Baked vertex: position + texcoord, no color
+    private static final int FLOATS_PER_VERTEX = VertexLayout.POSITION_COMPONENTS + VertexLayout.TEXCOORD_COMPONENTS;
+    private static final int STRIDE = FLOATS_PER_VERTEX * Float.BYTES;
+    private static final int FLOATS_PER_TILE = VertexLayout.VERTICES_PER_SPRITE * FLOATS_PER_VERTEX;
+
+    private static final int CELLS_PER_CHUNK = TilemapRenderer.TileChunk.CHUNK_SIZE * TilemapRenderer.TileChunk.CHUNK_SIZE;
+
+    private final Map<TilemapRenderer.TileChunk, ChunkMesh> meshes = new IdentityHashMap<>();
+    private long frame;
+
+    // Build scratch, reused across builds: texture slot of each cell (-1 if empty),
+    // the distinct textures in first-seen order, and cells grouped by slot
+    private final int[] cellSlots = new int[CELLS_PER_CHUNK];
+    private final int[] groupedCells = new int[CELLS_PER_CHUNK];
+    private Texture[] slotTextures = new Texture[4];
+    private int[] slotEnds = new int[4];
+
+    /**
+     * A single-texture section of a chunk mesh.
+     */
+    private record Section(Texture texture, int textureVersion, int vao, int vbo, int vertexCount) {}
+
+    /**
+     * All sections of one chunk, plus the inputs they were built from.
+     */
+    private static final class ChunkMesh {
+        final List<Section> sections = new ArrayList<>();
+        int version;
+        float originX, originY, tileSize;
+        long lastUsedFrame;
+
+        boolean matches(TilemapRenderer.TileChunk chunk, float originX, float originY, float tileSize) {
+            if (version != chunk.getVersion()
+                    || this.originX != originX || this.originY != originY || this.tileSize != tileSize) {
+                return false;
+            }
+            for (Section section : sections) {
+                if (section.texture().getVersion() != section.textureVersion()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Draws a chunk from its cached mesh, building or rebuilding it if needed.
+     * Expects the batch shader to be bound. The tint is applied per draw.
+     *
+     * @return Number of draw calls issued
+     */
+    int draw(TilemapRenderer tilemap, TilemapRenderer.TileChunk chunk, float r, float g, float b, float a) {
+        float originX = tilemap.getGameObject().getTransform().getPosition().x;
+        float originY = tilemap.getGameObject().getTransform().getPosition().y;
+        float tileSize = tilemap.getTileSize();
+
+        ChunkMesh mesh = meshes.get(chunk);
+        if (mesh == null) {
+            mesh = new ChunkMesh();
+            build(mesh, chunk, originX, originY, tileSize);
+            meshes.put(chunk, mesh);
+        } else if (!mesh.matches(chunk, originX, originY, tileSize)) {
+            deleteSections(mesh);
+            build(mesh, chunk, originX, originY, tileSize);
+        }
+        mesh.lastUsedFrame = frame;
+
+        glVertexAttrib4f(VertexLayout.ATTRIB_COLOR, r, g, b, a);
+        glActiveTexture(GL_TEXTURE0);
+        for (Section section : mesh.sections) {
+            glBindTexture(GL_TEXTURE_2D, section.texture().getTextureId());
+            glBindVertexArray(section.vao());
+            glDrawArrays(GL_TRIANGLES, 0, section.vertexCount());
+        }
+        glBindVertexArray(0);
+
+        return mesh.sections.size();
+    }
+
+    /**
+     * Advances the frame counter and releases meshes that have gone unused.
+     */
+    void endFrame() {
+        frame++;
+
+        Iterator<ChunkMesh> it = meshes.values().iterator();
+        while (it.hasNext()) {
+            ChunkMesh mesh = it.next();
+            if (frame - mesh.lastUsedFrame > EVICT_AFTER_FRAMES) {
+                deleteSections(mesh);
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Deletes all cached GPU buffers.
+     */
+    void destroy() {
+        for (ChunkMesh mesh : meshes.values()) {
+            deleteSections(mesh);
+        }
+        meshes.clear();
+    }
+
+    // ========================================================================
+    // MESH BUILDING
+    // ========================================================================
+
+    private void build(ChunkMesh mesh, TilemapRenderer.TileChunk chunk,
+                       float originX, float originY, float tileSize) {
+        mesh.version = chunk.getVersion();
+        mesh.originX = originX;
+        mesh.originY = originY;
+        mesh.tileSize = tileSize;
+
+        int chunkSize = TilemapRenderer.TileChunk.CHUNK_SIZE;
+        int baseX = chunk.getChunkX() * chunkSize;
+        int baseY = chunk.getChunkY() * chunkSize;
+        TilemapRenderer.Tile[][] tiles = chunk.getTiles();
+
+        // Assign each cell (tx * CHUNK_SIZE + ty) the slot of its texture, counting per slot
+        int textureCount = 0;
+        int lastSlot = -1;
+        for (int tx = 0; tx < chunkSize; tx++) {
+            for (int ty = 0; ty < chunkSize; ty++) {
+                int cell = tx * chunkSize + ty;
+                TilemapRenderer.Tile tile = tiles[tx][ty];
+                if (tile == null || tile.sprite() == null || tile.sprite().getTexture() == null) {
+                    cellSlots[cell] = -1;
+                    continue;
+                }
+
+                Texture texture = tile.sprite().getTexture();
+                int slot = lastSlot >= 0 && slotTextures[lastSlot] == texture
+                        ? lastSlot
+                        : slotOf(texture, textureCount);
+                if (slot < 0) {
+                    if (textureCount == slotTextures.length) {
+                        slotTextures = Arrays.copyOf(slotTextures, textureCount * 2);
+                        slotEnds = Arrays.copyOf(slotEnds, textureCount * 2);
+                    }
+                    slot = textureCount++;
+                    slotTextures[slot] = texture;
+                    slotEnds[slot] = 0;
+                }
+                slotEnds[slot]++;
+                cellSlots[cell] = slot;
+                lastSlot = slot;
+            }
+        }
+        if (textureCount == 0) {
+            return;
+        }
+
+        // Counting sort of cells by slot: counts become start offsets, then end offsets
+        int tileCount = 0;
+        for (int slot = 0; slot < textureCount; slot++) {
+            int count = slotEnds[slot];
+            slotEnds[slot] = tileCount;
+            tileCount += count;
+        }
+        for (int cell = 0; cell < CELLS_PER_CHUNK; cell++) {
+            int slot = cellSlots[cell];
+            if (slot >= 0) {
+                groupedCells[slotEnds[slot]++] = cell;
+            }
+        }
+
+        FloatBuffer vertices = MemoryUtil.memAllocFloat(tileCount * FLOATS_PER_TILE);
+        try {
+            int start = 0;
+            for (int slot = 0; slot < textureCount; slot++) {
+                int end = slotEnds[slot];
+                vertices.clear();
+                for (int i = start; i < end; i++) {
+                    int cell = groupedCells[i];
+                    int tx = cell / chunkSize;
+                    int ty = cell % chunkSize;
+                    Sprite sprite = tiles[tx][ty].sprite();
+
+                    float worldX = originX + ((baseX + tx) * tileSize);
+                    float worldY = originY + ((baseY + ty) * tileSize);
+
+                    putTile(vertices, worldX, worldY, tileSize,
+                            sprite.getU0(), sprite.getV0(), sprite.getU1(), sprite.getV1());
+                }
+                vertices.flip();
+
+                int vao = glGenVertexArrays();
+                int vbo = glGenBuffers();
+                glBindVertexArray(vao);
+                glBindBuffer(GL_ARRAY_BUFFER, vbo);
+                glBufferData(GL_ARRAY_BUFFER, vertices, GL_STATIC_DRAW);
+                setupVertexAttributes();
+                glBindVertexArray(0);
+                glBindBuffer(GL_ARRAY_BUFFER, 0);
+
+                Texture texture = slotTextures[slot];
+                mesh.sections.add(new Section(texture, texture.getVersion(), vao, vbo,
+                        (end - start) * VertexLayout.VERTICES_PER_SPRITE));
+                start = end;
+            }
+        } finally {
+            MemoryUtil.memFree(vertices);
+            // Do not keep textures alive through the scratch array
+            Arrays.fill(slotTextures, 0, textureCount, null);
+        }
+    }
+
+    private int slotOf(Texture texture, int textureCount) {
+        for (int slot = 0; slot < textureCount; slot++) {
+            if (slotTextures[slot] == texture) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Position and texcoord from the VBO; the color attribute array stays disabled so
+     * the per-draw constant from {@code glVertexAttrib4f} is used.
+     */
+    private static void setupVertexAttributes() {
+        glEnableVertexAttribArray(VertexLayout.ATTRIB_POSITION);
+        glVertexAttribPointer(VertexLayout.ATTRIB_POSITION, VertexLayout.POSITION_COMPONENTS,
+                GL_FLOAT, false, STRIDE, 0);
+        glEnableVertexAttribArray(VertexLayout.ATTRIB_TEXCOORD);
+        glVertexAttribPointer(VertexLayout.ATTRIB_TEXCOORD, VertexLayout.TEXCOORD_COMPONENTS,
+                GL_FLOAT, false, STRIDE, VertexLayout.POSITION_SIZE);
+        glDisableVertexAttribArray(VertexLayout.ATTRIB_COLOR);
+    }
+
+    /**
+     * Writes one unrotated, bottom-left-origin tile quad (two triangles).
+     */
+    private static void putTile(FloatBuffer buffer, float x0, float y0, float size,
+                                float u0, float v0, float u1, float v1) {
+        float x1 = x0 + size;
+        float y1 = y0 + size;
+
+        // Triangle 1: BL, TL, TR
+        buffer.put(x0).put(y0).put(u0).put(v0);
+        buffer.put(x0).put(y1).put(u0).put(v1);
+        buffer.put(x1).put(y1).put(u1).put(v1);
+
+        // Triangle 2: BL, TR, BR
+        buffer.put(x0).put(y0).put(u0).put(v0);
+        buffer.put(x1).put(y1).put(u1).put(v1);
+        buffer.put(x1).put(y0).put(u1).put(v0);
+    }
+
+    private static void deleteSections(ChunkMesh mesh) {
+        for (Section section : mesh.sections) {
+            glDeleteVertexArrays(section.vao());
+            glDeleteBuffers(section.vbo());
+        }
+        mesh.sections.clear();
+    }
+}
@@ -0,0 +1,65 @@
+package com.pocket.rpg.rendering.batch;
+
+import java.util.Arrays;
+
+/**
+ * Small set of the distinct z-index values submitted to a {@link SpriteBatch} during one frame.
+ * <p>
+ * A scene uses a handful of sorting layers, so values are kept in a flat array and looked up
+ * linearly, with the most recently touched value checked first (consecutive submissions
+ * usually share a layer). The array is reused across frames; nothing is allocated once it
+ * has grown to the number of layers in use.
+ */
+final class ZIndexSet {
+
+    private float[] values = new float[8];
+    private int size;
+    private int last = -1;
+
+    /**
+     * Returns the slot of a value, or -1 if it is not in the set.
+     */
+    int indexOf(float zIndex) {
+        if (last >= 0 && values[last] == zIndex) {
+            return last;
+        }
+        for (int i = 0; i < size; i++) {
+            if (values[i] == zIndex) {
+                last = i;
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    boolean contains(float zIndex) {
+        return indexOf(zIndex) >= 0;
+    }
+
+    /**
+     * Adds a value if absent.
+     *
+     * @return The slot of the value; slots are assigned in insertion order from 0
+     */
+    int add(float zIndex) {
+        int i = indexOf(zIndex);
+        if (i >= 0) {
+            return i;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size] = zIndex;
+        last = size;
+        return size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+        last = -1;
+    }
+}
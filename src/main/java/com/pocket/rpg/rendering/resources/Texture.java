@@ -8,6 +8,7 @@ import java.nio.ByteBuffer;
 import static org.lwjgl.opengl.GL33.*;
 import static org.lwjgl.stb.STBImage.stbi_failure_reason;
 import static org.lwjgl.stb.STBImage.stbi_image_free;
+import static org.lwjgl.stb.STBImage.stbi_info;
 import static org.lwjgl.stb.STBImage.stbi_load;
 
 /**
@@ -40,10 +41,28 @@ public class Texture {
     private int width;
     private int height;
     private int channels;
+    private int version;            // Bumped by reloadFromDisk
     private final boolean ownsTexture;
     @Getter
     private FilterMode filterMode = FilterMode.NEAREST;
 
+    /**
+     * RGBA pixels decoded from an image file, not yet uploaded to the GPU.
+     * Produced by {@link #decode(String)} on any thread; consumed (and freed) by
+     * {@link #Texture(String, DecodedImage)} on the GL thread.
+     *
+     * @param pixels Tightly packed RGBA rows, bottom row first
+     */
+    public record DecodedImage(ByteBuffer pixels, int width, int height) {
+
+        /**
+         * Frees the pixel data. Only needed if the image is never uploaded.
+         */
+        public void free() {
+            stbi_image_free(pixels);
+        }
+    }
+
     /**
      * Loads a texture from the specified file path.
      *
@@ -51,11 +70,37 @@ public class Texture {
      * @throws RuntimeException if the image fails to load
      */
     public Texture(String filepath) {
+        this(filepath, decode(filepath));
+    }
+
+    /**
+     * Creates a texture from an already decoded image. Must be called on the GL thread.
+     * Takes ownership of the image and frees its pixel data.
+     *
+     * @param filepath Path the image was decoded from
+     * @param image    Decoded pixels from {@link #decode(String)}
+     */
+    public Texture(String filepath, DecodedImage image) {
         this.filePath = filepath;
         this.ownsTexture = true;
+        this.width = image.width();
+        this.height = image.height();
+        this.channels = 4;
+        this.textureId = upload(image, filterMode);
+    }
 
-        // Flip image vertically (OpenGL expects bottom-left origin)
-        STBImage.stbi_set_flip_vertically_on_load(true);
+    /**
+     * Reads and decodes an image file without touching OpenGL, so it is safe to call
+     * from worker threads.
+     *
+     * @param filepath Path to the image file
+     * @return Decoded RGBA image
+     * @throws RuntimeException if the image fails to load
+     */
+    public static DecodedImage decode(String filepath) {
+        // Flip image vertically (OpenGL expects bottom-left origin).
+        // Per-thread flag: the global one would race with decodes on other worker threads.
+        STBImage.stbi_set_flip_vertically_on_load_thread(true);
 
         int[] widthArr = new int[1];
         int[] heightArr = new int[1];
@@ -67,14 +112,35 @@ public class Texture {
             throw new RuntimeException("Failed to load texture: " + filepath +
                     "\nReason: " + stbi_failure_reason());
         }
+        return new DecodedImage(imageData, widthArr[0], heightArr[0]);
+    }
 
-        this.width = widthArr[0];
-        this.height = heightArr[0];
-        this.channels = 4;
+    /**
+     * Reads an image's dimensions from its header without decoding the pixels.
+     * Safe to call from worker threads.
+     *
+     * @param filepath Path to the image file
+     * @return {width, height}, or null if the file can't be read
+     */
+    public static int[] readSize(String filepath) {
+        int[] widthArr = new int[1];
+        int[] heightArr = new int[1];
+        int[] channelsArr = new int[1];
+        if (!stbi_info(filepath, widthArr, heightArr, channelsArr)) {
+            return null;
+        }
+        return new int[]{widthArr[0], heightArr[0]};
+    }
 
+    /**
+     * Creates a GL texture from decoded pixels and frees them.
+     *
+     * @return The new texture id
+     */
+    private static int upload(DecodedImage image, FilterMode filterMode) {
         // Create and bind texture
-        textureId = glGenTextures();
-        glBindTexture(GL_TEXTURE_2D, textureId);
+        int id = glGenTextures();
+        glBindTexture(GL_TEXTURE_2D, id);
 
         // Set texture parameters for pixel-perfect rendering
         glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
@@ -84,14 +150,15 @@ public class Texture {
 
         // Upload texture data (alignment=1 since STB packs rows tightly)
         glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
-        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, width, height, 0,
-                GL_RGBA, GL_UNSIGNED_BYTE, imageData);
+        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, image.width(), image.height(), 0,
+                GL_RGBA, GL_UNSIGNED_BYTE, image.pixels());
 
         // Free image data
-        stbi_image_free(imageData);
+        image.free();
 
         // Unbind texture
         glBindTexture(GL_TEXTURE_2D, 0);
+        return id;
     }
 
     /**
@@ -180,38 +247,18 @@ public class Texture {
         }
 
         // 1. Load new image data FIRST (fail-fast, don't destroy old yet)
-        STBImage.stbi_set_flip_vertically_on_load(true);
-
-        int[] widthArr = new int[1];
-        int[] heightArr = new int[1];
-        int[] channelsArr = new int[1];
-
-        ByteBuffer imageData = stbi_load(path, widthArr, heightArr, channelsArr, 4);
-        if (imageData == null) {
-            throw new RuntimeException("Failed to reload texture: " + path +
-                    "\nReason: " + stbi_failure_reason());
+        DecodedImage image;
+        try {
+            image = decode(path);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Failed to reload texture: " + path, e);
         }
 
-        int newWidth = widthArr[0];
-        int newHeight = heightArr[0];
-
-        // 2. Create new GL texture
-        int newTextureId = glGenTextures();
-        glBindTexture(GL_TEXTURE_2D, newTextureId);
+        int newWidth = image.width();
+        int newHeight = image.height();
 
-        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
-        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
-        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, filterMode.getGlValue());
-        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, filterMode.getGlValue());
-
-        glPixelStorei(GL_UNPACK_ALIGNMENT, 1);
-        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA, newWidth, newHeight, 0,
-                GL_RGBA, GL_UNSIGNED_BYTE, imageData);
-
-        glBindTexture(GL_TEXTURE_2D, 0);
-
-        // 3. Free CPU-side image data
-        stbi_image_free(imageData);
+        // 2-3. Create new GL texture and free CPU-side image data
+        int newTextureId = upload(image, filterMode);
 
         // 4. Only NOW destroy old texture (no gap - new one ready)
         glDeleteTextures(this.textureId);
@@ -221,6 +268,7 @@ public class Texture {
         this.width = newWidth;
         this.height = newHeight;
         this.channels = 4;
+        this.version++;
     }
 
     /**
@@ -253,6 +301,14 @@ public class Texture {
         return channels;
     }
 
+    /**
+     * Gets the reload counter. Changes every time {@link #reloadFromDisk(String)} swaps
+     * the GL texture, so caches that baked the texture id or its UVs can notice.
+     */
+    public int getVersion() {
+        return version;
+    }
+
     /**
      * Returns true if this texture owns its OpenGL resource.
      * Wrapped textures do not own their resources.
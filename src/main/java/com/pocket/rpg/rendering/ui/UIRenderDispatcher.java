@@ -15,7 +15,7 @@ import org.joml.Vector4f;
 /**
  * Dispatches UI component rendering to the appropriate rendering method.
  * Owns the type-specific rendering knowledge (panel, image, text) while
- * UIRenderer owns the low-level GPU resources and backend implementation.
+ * UIVertexBuffer turns the backend calls into vertices and UIRenderer owns the GPU resources.
  */
 public class UIRenderDispatcher {
 
@@ -217,11 +217,15 @@ public class UIRenderDispatcher {
             String line = lines[lineIndex];
             float lineWidth = lineWidths[lineIndex];
 
+            // Typewriter reveal: lines are laid out for the full text, only the glyph count changes
+            int visibleChars = text.getVisibleCharCount(lineIndex);
+            if (visibleChars == 0 && !line.isEmpty()) break;
+
             float lineX = text.calculateHorizontalStart(baseX, boxWidth, lineWidth);
             float cursorX = lineX;
             float baseline = lineY + ascent;
 
-            for (int i = 0; i < line.length(); i++) {
+            for (int i = 0; i < visibleChars; i++) {
                 char c = line.charAt(i);
                 Glyph glyph = renderFont.getGlyph(c);
 
@@ -0,0 +1,629 @@
+package com.pocket.rpg.rendering.ui;
+
+import com.pocket.rpg.rendering.resources.NineSlice;
+import com.pocket.rpg.rendering.resources.Sprite;
+import com.pocket.rpg.rendering.resources.Texture;
+import org.joml.Vector4f;
+
+import java.util.Arrays;
+
+/**
+ * CPU-side vertex stream for UI rendering.
+ * <p>
+ * Every UI primitive (quads, sprites, nine-slice, tiled, filled, text) becomes quads in one
+ * interleaved array: position (2) + uv (2) + color (4) per vertex, 4 vertices per quad,
+ * already in screen space (rotation is applied here, not in the shader). Triangles, used by
+ * radial fills, are stored as quads whose last vertex repeats the first.
+ * <p>
+ * Consecutive quads sharing a texture, text mode and scissor rect form one draw command, so
+ * {@link UIRenderer} issues one draw call per command instead of one per element. The stream
+ * makes no GL calls and can be filled and inspected headlessly.
+ * <p>
+ * Backing arrays grow (doubling) and are reused after {@link #clear()}.
+ */
+final class UIVertexBuffer implements UIRendererBackend {
+
+    static final int FLOATS_PER_VERTEX = 8;  // pos(2) + uv(2) + color(4)
+    static final int VERTICES_PER_QUAD = 4;
+    static final int FLOATS_PER_QUAD = FLOATS_PER_VERTEX * VERTICES_PER_QUAD;
+    static final int INDICES_PER_QUAD = 6;
+
+    private static final int INITIAL_QUADS = 256;
+    private static final int INITIAL_COMMANDS = 16;
+
+    // ========================================================================
+    // VERTEX DATA
+    // ========================================================================
+
+    float[] vertices = new float[INITIAL_QUADS * FLOATS_PER_QUAD];
+    int quadCount;
+
+    // ========================================================================
+    // DRAW COMMANDS (runs of quads sharing texture, text mode and scissor)
+    // ========================================================================
+
+    int commandCount;
+    Texture[] commandTexture = new Texture[INITIAL_COMMANDS];   // null = white texture
+    boolean[] commandText = new boolean[INITIAL_COMMANDS];      // font atlas (red channel = alpha)
+    boolean[] commandClipped = new boolean[INITIAL_COMMANDS];
+    float[] commandScissor = new float[INITIAL_COMMANDS * 4];   // x, y, width, height
+    int[] commandFirstQuad = new int[INITIAL_COMMANDS];
+    int[] commandQuadCount = new int[INITIAL_COMMANDS];
+
+    // ========================================================================
+    // CURRENT STATE
+    // ========================================================================
+
+    private boolean clipped;
+    private float scissorX, scissorY, scissorWidth, scissorHeight;
+
+    private boolean batching;
+    private Texture batchTexture;
+    private boolean batchIsText;
+
+    // Rotation of the primitive being emitted
+    private boolean rotating;
+    private float cos = 1, sin = 0;
+    private float pivotX, pivotY;
+
+    private final float[] edgePoint = new float[2];
+
+    /**
+     * Resets the stream for a new frame. Backing arrays are kept.
+     */
+    void clear() {
+        quadCount = 0;
+        commandCount = 0;
+        clipped = false;
+        batching = false;
+        batchTexture = null;
+        batchIsText = false;
+    }
+
+    /**
+     * Clips the following quads to a rect in game coordinates.
+     */
+    void setScissor(float x, float y, float width, float height) {
+        clipped = true;
+        scissorX = x;
+        scissorY = y;
+        scissorWidth = width;
+        scissorHeight = height;
+    }
+
+    /**
+     * Stops clipping the following quads.
+     */
+    void clearScissor() {
+        clipped = false;
+    }
+
+    boolean isEmpty() {
+        return quadCount == 0;
+    }
+
+    /**
+     * Checks whether another stream holds exactly the same quads and commands.
+     */
+    boolean contentEquals(UIVertexBuffer other) {
+        if (quadCount != other.quadCount || commandCount != other.commandCount) {
+            return false;
+        }
+        for (int i = 0; i < commandCount; i++) {
+            if (commandTexture[i] != other.commandTexture[i]
+                    || commandText[i] != other.commandText[i]
+                    || commandClipped[i] != other.commandClipped[i]
+                    || commandFirstQuad[i] != other.commandFirstQuad[i]
+                    || commandQuadCount[i] != other.commandQuadCount[i]) {
+                return false;
+            }
+        }
+        return Arrays.equals(commandScissor, 0, commandCount * 4, other.commandScissor, 0, commandCount * 4)
+                && Arrays.equals(vertices, 0, quadCount * FLOATS_PER_QUAD, other.vertices, 0, quadCount * FLOATS_PER_QUAD);
+    }
+
+    // ========================================================================
+    // IMMEDIATE MODE - UIRendererBackend Implementation
+    // ========================================================================
+
+    @Override
+    public void drawQuad(float x, float y, float width, float height, Vector4f color) {
+        drawQuad(x, y, width, height, 0, 0, 0, color);
+    }
+
+    @Override
+    public void drawQuad(float x, float y, float width, float height,
+                         float rotation, float originX, float originY, Vector4f color) {
+        setRotation(rotation, x + originX * width, y + originY * height);
+        addQuad(null, false, x, y, width, height, 0, 0, 1, 1, color);
+    }
+
+    @Override
+    public void drawSprite(float x, float y, float width, float height, Sprite sprite, Vector4f tint) {
+        drawSprite(x, y, width, height, 0, 0, 0, sprite, tint);
+    }
+
+    @Override
+    public void drawSprite(float x, float y, float width, float height,
+                           float rotation, float originX, float originY,
+                           Sprite sprite, Vector4f tint) {
+        if (sprite == null || sprite.getTexture() == null) {
+            drawQuad(x, y, width, height, rotation, originX, originY, tint);
+            return;
+        }
+
+        setRotation(rotation, x + originX * width, y + originY * height);
+        // Flip V coordinates for sprites: textures are loaded with Y-flip,
+        // so v0 (image top) maps to V=1 and v1 (image bottom) maps to V=0.
+        // Swap v0/v1 so screen top shows image top.
+        addQuad(sprite.getTexture(), false, x, y, width, height,
+                sprite.getU0(), sprite.getV1(), sprite.getU1(), sprite.getV0(), tint);
+    }
+
+    // ========================================================================
+    // NINE-SLICE MODE - UIRendererBackend Implementation
+    // ========================================================================
+
+    @Override
+    public void drawNineSlice(float x, float y, float width, float height,
+                              float rotation, float originX, float originY,
+                              Sprite sprite, Vector4f tint, boolean fillCenter) {
+        if (sprite == null || !sprite.hasNineSlice() || sprite.getTexture() == null) {
+            // Fallback to simple sprite draw
+            drawSprite(x, y, width, height, rotation, originX, originY, sprite, tint);
+            return;
+        }
+
+        NineSlice nineSlice = sprite.createNineSlice();
+
+        // Get border sizes in pixels
+        float left = nineSlice.getLeftBorder();
+        float right = nineSlice.getRightBorder();
+        float top = nineSlice.getTopBorder();
+        float bottom = nineSlice.getBottomBorder();
+
+        // Scale borders proportionally if size is smaller than minimum (Unity behavior)
+        float minWidth = left + right;
+        float minHeight = top + bottom;
+        if (width < minWidth && minWidth > 0) {
+            float scale = width / minWidth;
+            left *= scale;
+            right *= scale;
+        }
+        if (height < minHeight && minHeight > 0) {
+            float scale = height / minHeight;
+            top *= scale;
+            bottom *= scale;
+        }
+
+        // Snap positions and sizes to integer pixels to prevent sub-pixel seams between regions
+        x = Math.round(x);
+        y = Math.round(y);
+        width = Math.round(width);
+        height = Math.round(height);
+        left = Math.round(left);
+        right = Math.round(right);
+        top = Math.round(top);
+        bottom = Math.round(bottom);
+
+        // Calculate center region size (may be 0 or negative if borders fill/exceed the space)
+        float centerWidth = Math.max(0, width - left - right);
+        float centerHeight = Math.max(0, height - top - bottom);
+
+        setRotation(rotation, x + originX * width, y + originY * height);
+        Texture texture = sprite.getTexture();
+
+        // NineSlice UV regions are correctly mapped for Y-flipped textures:
+        // TOP_* = visual top (high V), BOTTOM_* = visual bottom (low V)
+
+        // Screen top row (visual top of image)
+        addNineSliceRegion(texture, x, y, left, top, nineSlice.getRegionUV(NineSlice.TOP_LEFT), tint);
+        addNineSliceRegion(texture, x + left, y, centerWidth, top, nineSlice.getRegionUV(NineSlice.TOP_CENTER), tint);
+        addNineSliceRegion(texture, x + left + centerWidth, y, right, top, nineSlice.getRegionUV(NineSlice.TOP_RIGHT), tint);
+
+        // Middle row
+        addNineSliceRegion(texture, x, y + top, left, centerHeight, nineSlice.getRegionUV(NineSlice.MIDDLE_LEFT), tint);
+        if (fillCenter) {
+            addNineSliceRegion(texture, x + left, y + top, centerWidth, centerHeight,
+                    nineSlice.getRegionUV(NineSlice.MIDDLE_CENTER), tint);
+        }
+        addNineSliceRegion(texture, x + left + centerWidth, y + top, right, centerHeight,
+                nineSlice.getRegionUV(NineSlice.MIDDLE_RIGHT), tint);
+
+        // Screen bottom row (visual bottom of image)
+        addNineSliceRegion(texture, x, y + top + centerHeight, left, bottom,
+                nineSlice.getRegionUV(NineSlice.BOTTOM_LEFT), tint);
+        addNineSliceRegion(texture, x + left, y + top + centerHeight, centerWidth, bottom,
+                nineSlice.getRegionUV(NineSlice.BOTTOM_CENTER), tint);
+        addNineSliceRegion(texture, x + left + centerWidth, y + top + centerHeight, right, bottom,
+                nineSlice.getRegionUV(NineSlice.BOTTOM_RIGHT), tint);
+    }
+
+    private void addNineSliceRegion(Texture texture, float x, float y, float width, float height,
+                                    float[] uv, Vector4f tint) {
+        if (width <= 0 || height <= 0) return;
+
+        // Swap V for sprite (textures are loaded with Y-flip)
+        // uv = [u0, v0, u1, v1] -> pass as [u0, v1, u1, v0]
+        addQuad(texture, false, x, y, width, height, uv[0], uv[3], uv[2], uv[1], tint);
+    }
+
+    // ========================================================================
+    // TILED MODE - UIRendererBackend Implementation
+    // ========================================================================
+
+    @Override
+    public void drawTiled(float x, float y, float width, float height,
+                          float rotation, float originX, float originY,
+                          Sprite sprite, Vector4f tint, float pixelsPerUnit) {
+        if (sprite == null || sprite.getTexture() == null) {
+            drawQuad(x, y, width, height, rotation, originX, originY, tint);
+            return;
+        }
+
+        // Calculate tile size based on sprite dimensions and pixels per unit
+        float tileWidth = sprite.getWidth() * (pixelsPerUnit / 100f);
+        float tileHeight = sprite.getHeight() * (pixelsPerUnit / 100f);
+
+        if (tileWidth <= 0) tileWidth = sprite.getWidth();
+        if (tileHeight <= 0) tileHeight = sprite.getHeight();
+        if (tileWidth <= 0 || tileHeight <= 0) return;
+
+        setRotation(rotation, x + originX * width, y + originY * height);
+
+        // Swap V for sprite (textures are loaded with Y-flip)
+        float u0 = sprite.getU0(), v0 = sprite.getV1();
+        float u1 = sprite.getU1(), v1 = sprite.getV0();
+
+        for (float ty = y; ty < y + height; ty += tileHeight) {
+            for (float tx = x; tx < x + width; tx += tileWidth) {
+                // Actual tile dimensions (may be clipped at edges)
+                float tw = Math.min(tileWidth, x + width - tx);
+                float th = Math.min(tileHeight, y + height - ty);
+
+                // Adjust UVs for partial tiles
+                float tu1 = u0 + (u1 - u0) * (tw / tileWidth);
+                float tv1 = v0 + (v1 - v0) * (th / tileHeight);
+
+                addQuad(sprite.getTexture(), false, tx, ty, tw, th, u0, v0, tu1, tv1, tint);
+            }
+        }
+    }
+
+    // ========================================================================
+    // FILLED MODE - UIRendererBackend Implementation
+    // ========================================================================
+
+    @Override
+    public void drawFilled(float x, float y, float width, float height,
+                           float rotation, float originX, float originY,
+                           Sprite sprite, Vector4f tint,
+                           FillMethod fillMethod, FillOrigin fillOrigin,
+                           float fillAmount, boolean clockwise) {
+        if (sprite == null || sprite.getTexture() == null || fillAmount <= 0) return;
+
+        fillAmount = Math.min(fillAmount, 1.0f);
+
+        // For horizontal, vertical, and radial 360, full fill = full sprite
+        // For radial 90/180, full fill only shows that portion of the sprite
+        if (fillAmount >= 1.0f && fillMethod != FillMethod.RADIAL_90
+                && fillMethod != FillMethod.RADIAL_180) {
+            drawSprite(x, y, width, height, rotation, originX, originY, sprite, tint);
+            return;
+        }
+
+        // Filled sprites rotate around the origin of the full rect, not the filled part
+        setRotation(rotation, x + originX * width, y + originY * height);
+
+        switch (fillMethod) {
+            case HORIZONTAL -> addFilledHorizontal(x, y, width, height, sprite, tint, fillOrigin, fillAmount);
+            case VERTICAL -> addFilledVertical(x, y, width, height, sprite, tint, fillOrigin, fillAmount);
+            case RADIAL_90, RADIAL_180, RADIAL_360 ->
+                    addFilledRadial(x, y, width, height, sprite, tint, fillMethod, fillOrigin, fillAmount, clockwise);
+        }
+    }
+
+    private void addFilledHorizontal(float x, float y, float width, float height,
+                                     Sprite sprite, Vector4f tint,
+                                     FillOrigin fillOrigin, float fillAmount) {
+        float u0 = sprite.getU0(), v0 = sprite.getV0();
+        float u1 = sprite.getU1(), v1 = sprite.getV1();
+
+        float fillWidth = width * fillAmount;
+        float drawX = x;
+        float drawU0 = u0, drawU1 = u1;
+
+        if (fillOrigin == FillOrigin.LEFT) {
+            drawU1 = u0 + (u1 - u0) * fillAmount;
+        } else {
+            drawX = x + width - fillWidth;
+            drawU0 = u1 - (u1 - u0) * fillAmount;
+        }
+
+        // Swap V for sprite (textures are loaded with Y-flip)
+        addQuad(sprite.getTexture(), false, drawX, y, fillWidth, height, drawU0, v1, drawU1, v0, tint);
+    }
+
+    private void addFilledVertical(float x, float y, float width, float height,
+                                   Sprite sprite, Vector4f tint,
+                                   FillOrigin fillOrigin, float fillAmount) {
+        float u0 = sprite.getU0(), v0 = sprite.getV0();
+        float u1 = sprite.getU1(), v1 = sprite.getV1();
+
+        float fillHeight = height * fillAmount;
+        float drawY = y;
+        float drawV0 = v0, drawV1 = v1;
+
+        if (fillOrigin == FillOrigin.TOP) {
+            // Fill from top (Y-down coordinate system)
+            drawV1 = v0 + (v1 - v0) * fillAmount;
+        } else {
+            drawY = y + height - fillHeight;
+            drawV0 = v1 - (v1 - v0) * fillAmount;
+        }
+
+        // Swap V for sprite (textures are loaded with Y-flip)
+        addQuad(sprite.getTexture(), false, x, drawY, width, fillHeight, u0, drawV1, u1, drawV0, tint);
+    }
+
+    private void addFilledRadial(float x, float y, float width, float height,
+                                 Sprite sprite, Vector4f tint,
+                                 FillMethod fillMethod, FillOrigin fillOrigin,
+                                 float fillAmount, boolean clockwise) {
+        // Triangle fan segments from the center
+        // Screen coordinates: 0° = right, 90° = down, 180° = left, 270° = up
+
+        float maxAngle = switch (fillMethod) {
+            case RADIAL_90 -> 90f;
+            case RADIAL_180 -> 180f;
+            default -> 360f;
+        };
+
+        float sweepAngle = maxAngle * fillAmount;
+
+        float centerX = x + width / 2;
+        float centerY = y + height / 2;
+
+        // Start angle depends on origin - use cardinal directions
+        // For RADIAL_90, the corner origins define which quadrant to fill
+        // For RADIAL_180/360, we use the edge that the corner is adjacent to
+        float startAngle = switch (fillOrigin) {
+            case BOTTOM_LEFT -> clockwise ? 90f : 180f;
+            case TOP_LEFT -> clockwise ? 180f : 270f;
+            case TOP_RIGHT -> clockwise ? 270f : 0f;
+            case BOTTOM_RIGHT -> clockwise ? 0f : 90f;
+            default -> 0f;
+        };
+
+        float actualSweep = clockwise ? sweepAngle : -sweepAngle;
+
+        // Swap V coordinates for sprites (textures are loaded with Y-flip)
+        float u0 = sprite.getU0(), v0 = sprite.getV1();
+        float u1 = sprite.getU1(), v1 = sprite.getV0();
+        float uCenter = (u0 + u1) / 2, vCenter = (v0 + v1) / 2;
+
+        // At least 1 segment per 5 degrees
+        int segments = (int) Math.max(8, Math.abs(actualSweep) / 5);
+        float angleStep = actualSweep / segments;
+
+        radialEdgePoint(centerX, centerY, width, height, (float) Math.toRadians(startAngle));
+        float px1 = edgePoint[0], py1 = edgePoint[1];
+
+        for (int i = 0; i < segments; i++) {
+            float angle2 = startAngle + angleStep * (i + 1);
+            radialEdgePoint(centerX, centerY, width, height, (float) Math.toRadians(angle2));
+            float px2 = edgePoint[0], py2 = edgePoint[1];
+
+            addTriangle(sprite.getTexture(), tint,
+                    centerX, centerY, uCenter, vCenter,
+                    px1, py1, u0 + (u1 - u0) * ((px1 - x) / width), v0 + (v1 - v0) * ((py1 - y) / height),
+                    px2, py2, u0 + (u1 - u0) * ((px2 - x) / width), v0 + (v1 - v0) * ((py2 - y) / height));
+
+            px1 = px2;
+            py1 = py2;
+        }
+    }
+
+    /**
+     * Writes to {@link #edgePoint} where a ray from the center at the given angle
+     * leaves the quad.
+     */
+    private void radialEdgePoint(float cx, float cy, float width, float height, float angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+
+        float hw = width / 2;
+        float hh = height / 2;
+
+        float t = Float.MAX_VALUE;
+
+        // Right edge (x = cx + hw)
+        if (cos > 0.0001f) {
+            float tRight = hw / cos;
+            if (tRight > 0 && Math.abs(sin * tRight) <= hh) t = Math.min(t, tRight);
+        }
+        // Left edge (x = cx - hw)
+        if (cos < -0.0001f) {
+            float tLeft = -hw / cos;
+            if (tLeft > 0 && Math.abs(sin * tLeft) <= hh) t = Math.min(t, tLeft);
+        }
+        // Bottom edge (y = cy + hh)
+        if (sin > 0.0001f) {
+            float tBottom = hh / sin;
+            if (tBottom > 0 && Math.abs(cos * tBottom) <= hw) t = Math.min(t, tBottom);
+        }
+        // Top edge (y = cy - hh)
+        if (sin < -0.0001f) {
+            float tTop = -hh / sin;
+            if (tTop > 0 && Math.abs(cos * tTop) <= hw) t = Math.min(t, tTop);
+        }
+
+        edgePoint[0] = cx + cos * t;
+        edgePoint[1] = cy + sin * t;
+    }
+
+    // ========================================================================
+    // BATCHED MODE - UIRendererBackend Implementation
+    // ========================================================================
+
+    /**
+     * Starts a run of {@link #batchSprite} calls. A non-null texture is treated as a
+     * font atlas (red channel as alpha); null draws solid quads.
+     */
+    @Override
+    public void beginBatch(Texture texture) {
+        batchTexture = texture;
+        batchIsText = texture != null;
+        batching = true;
+    }
+
+    @Override
+    public void batchSprite(float x, float y, float width, float height,
+                            float u0, float v0, float u1, float v1, Vector4f tint) {
+        batchSprite(x, y, width, height, u0, v0, u1, v1, 0, 0, 0, tint);
+    }
+
+    @Override
+    public void batchSprite(float x, float y, float width, float height,
+                            float u0, float v0, float u1, float v1,
+                            float rotation, float pivotX, float pivotY, Vector4f tint) {
+        if (!batching) {
+            System.err.println("[UIVertexBuffer] WARNING: batchSprite called without beginBatch");
+            return;
+        }
+
+        // Raw UVs (no V flip): font atlases are uploaded without Y-flip, so V=0 = top
+        setRotation(rotation, pivotX, pivotY);
+        addQuad(batchTexture, batchIsText, x, y, width, height, u0, v0, u1, v1, tint);
+    }
+
+    @Override
+    public void endBatch() {
+        batching = false;
+        batchTexture = null;
+        batchIsText = false;
+    }
+
+    /**
+     * @return No fixed limit; the stream grows as needed
+     */
+    @Override
+    public int getMaxBatchSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    // ========================================================================
+    // VERTEX EMISSION
+    // ========================================================================
+
+    /**
+     * Sets the rotation (degrees, clockwise) and pivot applied to the following quads.
+     */
+    private void setRotation(float rotation, float pivotX, float pivotY) {
+        rotating = rotation != 0;
+        if (rotating) {
+            double radians = Math.toRadians(-rotation);  // Negative for clockwise
+            cos = (float) Math.cos(radians);
+            sin = (float) Math.sin(radians);
+            this.pivotX = pivotX;
+            this.pivotY = pivotY;
+        }
+    }
+
+    /**
+     * Appends an axis-aligned quad (before rotation).
+     * v0 is applied at the screen top, v1 at the screen bottom.
+     */
+    private void addQuad(Texture texture, boolean text,
+                         float x, float y, float w, float h,
+                         float u0, float v0, float u1, float v1, Vector4f color) {
+        int offset = beginQuad(texture, text);
+        putVertex(offset, x, y, u0, v0, color);
+        putVertex(offset + FLOATS_PER_VERTEX, x + w, y, u1, v0, color);
+        putVertex(offset + FLOATS_PER_VERTEX * 2, x + w, y + h, u1, v1, color);
+        putVertex(offset + FLOATS_PER_VERTEX * 3, x, y + h, u0, v1, color);
+    }
+
+    /**
+     * Appends a triangle as a degenerate quad (last vertex repeats the first).
+     */
+    private void addTriangle(Texture texture, Vector4f color,
+                             float x0, float y0, float u0, float v0,
+                             float x1, float y1, float u1, float v1,
+                             float x2, float y2, float u2, float v2) {
+        int offset = beginQuad(texture, false);
+        putVertex(offset, x0, y0, u0, v0, color);
+        putVertex(offset + FLOATS_PER_VERTEX, x1, y1, u1, v1, color);
+        putVertex(offset + FLOATS_PER_VERTEX * 2, x2, y2, u2, v2, color);
+        putVertex(offset + FLOATS_PER_VERTEX * 3, x0, y0, u0, v0, color);
+    }
+
+    private void putVertex(int offset, float x, float y, float u, float v, Vector4f color) {
+        if (rotating) {
+            float dx = x - pivotX;
+            float dy = y - pivotY;
+            x = pivotX + dx * cos - dy * sin;
+            y = pivotY + dx * sin + dy * cos;
+        }
+        float[] data = vertices;
+        data[offset] = x;
+        data[offset + 1] = y;
+        data[offset + 2] = u;
+        data[offset + 3] = v;
+        data[offset + 4] = color.x;
+        data[offset + 5] = color.y;
+        data[offset + 6] = color.z;
+        data[offset + 7] = color.w;
+    }
+
+    /**
+     * Reserves the next quad, starting a new draw command if its texture, text mode or
+     * scissor differs from the previous quad. Returns its vertex offset.
+     */
+    private int beginQuad(Texture texture, boolean text) {
+        if (commandCount == 0 || !continuesLastCommand(texture, text)) {
+            startCommand(texture, text);
+        }
+        if ((quadCount + 1) * FLOATS_PER_QUAD > vertices.length) {
+            vertices = Arrays.copyOf(vertices, vertices.length * 2);
+        }
+        commandQuadCount[commandCount - 1]++;
+        return quadCount++ * FLOATS_PER_QUAD;
+    }
+
+    private boolean continuesLastCommand(Texture texture, boolean text) {
+        int last = commandCount - 1;
+        if (commandTexture[last] != texture || commandText[last] != text || commandClipped[last] != clipped) {
+            return false;
+        }
+        if (!clipped) {
+            return true;
+        }
+        int s = last * 4;
+        return commandScissor[s] == scissorX && commandScissor[s + 1] == scissorY
+                && commandScissor[s + 2] == scissorWidth && commandScissor[s + 3] == scissorHeight;
+    }
+
+    private void startCommand(Texture texture, boolean text) {
+        if (commandCount == commandTexture.length) {
+            int capacity = commandCount * 2;
+            commandTexture = Arrays.copyOf(commandTexture, capacity);
+            commandText = Arrays.copyOf(commandText, capacity);
+            commandClipped = Arrays.copyOf(commandClipped, capacity);
+            commandScissor = Arrays.copyOf(commandScissor, capacity * 4);
+            commandFirstQuad = Arrays.copyOf(commandFirstQuad, capacity);
+            commandQuadCount = Arrays.copyOf(commandQuadCount, capacity);
+        }
+
+        int i = commandCount++;
+        commandTexture[i] = texture;
+        commandText[i] = text;
+        commandClipped[i] = clipped;
+        commandScissor[i * 4] = clipped ? scissorX : 0;
+        commandScissor[i * 4 + 1] = clipped ? scissorY : 0;
+        commandScissor[i * 4 + 2] = clipped ? scissorWidth : 0;
+        commandScissor[i * 4 + 3] = clipped ? scissorHeight : 0;
+        commandFirstQuad[i] = quadCount;
+        commandQuadCount[i] = 0;
+    }
+}
@@ -7,6 +7,7 @@ import org.joml.Vector3f;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Interface for asset management operations.
@@ -189,12 +190,105 @@ public interface AssetContext {
      */
     List<String> scanAll(String directory);
 
+    /**
+     * Fuzzy-searches the asset directory by path, best matches first.
+     * Does NOT load the assets.
+     *
+     * @param query Search text
+     * @param limit Maximum number of results
+     * @return Matching index entries (empty if the context keeps no index)
+     */
+    default List<AssetIndex.Entry> searchAssets(String query, int limit) {
+        return List.of();
+    }
+
+    /**
+     * Re-walks scanned directories to pick up changes the file watcher missed.
+     * Differences are reported through {@link #processFileChanges}.
+     */
+    default void rescanAssets() {
+    }
+
+    /**
+     * Hot-reloads cached assets whose files changed on disk and reports each change.
+     * Must be called on the GL thread, once per frame.
+     *
+     * @param listener Receives each change after its reload (may be null)
+     * @return Number of changes processed
+     */
+    default int processFileChanges(Consumer<AssetIndex.Change> listener) {
+        return 0;
+    }
+
     void setAssetRoot(String assetRoot);
 
     String getAssetRoot();
 
     ResourceCache getCache();
 
+    /**
+     * Starts loading a resource in the background and returns immediately.
+     * <p>
+     * Decoding happens off the GL thread; the GL upload is deferred to
+     * {@link #processUploads(long)}. Until then {@link AssetHandle#get()} returns the
+     * loader's placeholder. The default implementation loads synchronously.
+     *
+     * @param path Resource path, sub-asset references supported
+     * @param type Resource type class, or null to infer it from the extension
+     * @param <T>  Resource type
+     * @return Handle to the pending resource
+     */
+    default <T> AssetHandle<T> loadAsync(String path, Class<T> type) {
+        T resource = type != null ? load(path, type) : load(path);
+        return AssetHandle.completed(path, resource);
+    }
+
+    /**
+     * Runs queued GL uploads for async loads until the time budget is spent.
+     * Must be called on the GL thread, once per frame.
+     *
+     * @param budgetNanos Time budget in nanoseconds (at least one upload always runs)
+     * @return Number of uploads processed
+     */
+    default int processUploads(long budgetNanos) {
+        return 0;
+    }
+
+    /**
+     * Parks the GL thread until an async upload is queued or the timeout elapses, so a
+     * caller waiting on async loads does not spin. The default implementation has no
+     * async uploads and returns immediately.
+     *
+     * @param timeoutNanos Maximum time to wait in nanoseconds
+     */
+    default void awaitUploads(long timeoutNanos) {
+    }
+
+    /**
+     * Stops background work (async loader threads, file watchers). Call once at shutdown.
+     */
+    default void destroy() {
+    }
+
+    /**
+     * Pins an asset so the cache never evicts it. Each pin needs a matching {@link #unpin}.
+     * Use for assets held in long-lived fields outside any scene.
+     *
+     * @param path Asset path
+     */
+    default void pin(String path) {
+        getCache().pin(path);
+    }
+
+    /**
+     * Releases a pin taken with {@link #pin}.
+     *
+     * @param path Asset path
+     */
+    default void unpin(String path) {
+        getCache().unpin(path);
+    }
+
     void setErrorMode(ErrorMode errorMode);
 
     void setStatisticsEnabled(boolean enableStatistics);
@@ -0,0 +1,86 @@
+package com.pocket.rpg.resources;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Handle to an asset requested through {@link Assets#loadAsync(String, Class)}.
+ * <p>
+ * {@link #get()} never blocks: it returns the asset once it has arrived, and until then
+ * the loader's placeholder when {@link ErrorMode#USE_PLACEHOLDER} is configured (null
+ * otherwise, or if the loader has none). Callers can poll {@link #isDone()} or chain on
+ * {@link #future()}; the future completes on the GL thread, during
+ * {@link Assets#processUploads()}, so its callbacks may use OpenGL.
+ *
+ * @param <T> Asset type
+ */
+public final class AssetHandle<T> {
+
+    private final String path;
+    private final CompletableFuture<T> future;
+    private final T placeholder;
+
+    AssetHandle(String path, CompletableFuture<T> future, T placeholder) {
+        this.path = path;
+        this.future = future;
+        this.placeholder = placeholder;
+    }
+
+    /**
+     * Creates a handle for an asset that is already available.
+     *
+     * @param path  Asset path
+     * @param asset The loaded asset
+     * @return A completed handle
+     */
+    public static <T> AssetHandle<T> completed(String path, T asset) {
+        return new AssetHandle<>(path, CompletableFuture.completedFuture(asset), null);
+    }
+
+    /**
+     * Returns the loaded asset, or the placeholder while loading or after a failure.
+     */
+    public T get() {
+        if (future.isDone()) {
+            try {
+                T asset = future.getNow(null);
+                return asset != null ? asset : placeholder;
+            } catch (CompletionException e) {
+                return placeholder;
+            }
+        }
+        return placeholder;
+    }
+
+    /**
+     * Returns true once the asset has arrived or failed.
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Returns true if loading failed with {@link ErrorMode#THROW_EXCEPTION}.
+     * In placeholder mode, failures complete normally with the placeholder.
+     */
+    public boolean isFailed() {
+        return future.isCompletedExceptionally();
+    }
+
+    /**
+     * Future completed with the asset on the GL thread.
+     */
+    public CompletableFuture<T> future() {
+        return future;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AssetHandle[%s, %s]", path,
+                !isDone() ? "loading" : isFailed() ? "failed" : "done");
+    }
+}
@@ -0,0 +1,485 @@
+package com.pocket.rpg.resources;
+
+import com.pocket.rpg.editor.utils.FuzzyMatcher;
+import com.pocket.rpg.logging.Log;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * In-memory index of the loadable files under a directory, kept current by a
+ * {@link WatchService} thread.
+ * <p>
+ * The directory is walked once on first use; after that, scans, type/prefix queries and
+ * fuzzy search are answered from memory. File-system events update the index and are
+ * recorded as {@link Change}s, coalesced per path and held until the file has settled
+ * (editors and image tools often write a file in several steps). {@link AssetManager}
+ * drains them on the GL thread to hot-reload cached assets.
+ * <p>
+ * If the platform can't watch the directory, the index stays static until {@link #rescan()}.
+ * <p>
+ * Every mutation (build, rescan, watcher events) runs under this object's monitor, so a
+ * rescan from the GL thread never interleaves with the watch thread. Queries read the
+ * concurrent entry map without locking.
+ */
+public final class AssetIndex {
+
+    /** Time a path must go without new events before its change is reported. */
+    static final long SETTLE_NANOS = TimeUnit.MILLISECONDS.toNanos(150);
+
+    /**
+     * An indexed file.
+     *
+     * @param path          Path relative to the indexed directory, '/' separated
+     * @param type          Asset type inferred from the extension
+     * @param size          File size in bytes
+     * @param lastModified  Last-modified time in milliseconds
+     * @param subAssetCount Number of sub-assets (e.g. spritesheet cells), 0 if none
+     */
+    public record Entry(String path, Class<?> type, long size, long lastModified, int subAssetCount) {
+    }
+
+    /**
+     * A file that was created, modified or deleted on disk.
+     *
+     * @param path Path relative to the indexed directory
+     */
+    public record Change(String path, Kind kind) {
+        public enum Kind {
+            CREATED,
+            MODIFIED,
+            DELETED
+        }
+    }
+
+    private final Path root;
+    private final Function<String, Class<?>> typeResolver;
+    private final ToIntFunction<String> subAssetCounter;
+    private final boolean recordChanges;
+
+    private final ConcurrentSkipListMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+    private final Map<String, PendingChange> pendingChanges = new LinkedHashMap<>();
+
+    private volatile boolean built;
+    private WatchService watchService;
+    private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+    private Thread watchThread;
+
+    private static final class PendingChange {
+        Change.Kind kind;
+        long lastEventNanos;
+
+        PendingChange(Change.Kind kind, long lastEventNanos) {
+            this.kind = kind;
+            this.lastEventNanos = lastEventNanos;
+        }
+    }
+
+    /**
+     * @param root            Directory to index
+     * @param typeResolver    Maps a relative path to its asset type, or null if no loader handles it
+     * @param subAssetCounter Counts the sub-assets of a relative path
+     * @param recordChanges   Whether to record changes for {@link #drainChanges}
+     */
+    AssetIndex(Path root, Function<String, Class<?>> typeResolver, ToIntFunction<String> subAssetCounter,
+               boolean recordChanges) {
+        this.root = root;
+        this.typeResolver = typeResolver;
+        this.subAssetCounter = subAssetCounter;
+        this.recordChanges = recordChanges;
+    }
+
+    // ========================================================================
+    // QUERIES
+    // ========================================================================
+
+    /**
+     * Gets the indexed entry for a path, or null if the file isn't indexed.
+     */
+    public Entry get(String path) {
+        ensureBuilt();
+        return entries.get(path);
+    }
+
+    /**
+     * Gets all indexed paths, sorted.
+     */
+    public List<String> paths() {
+        ensureBuilt();
+        return new ArrayList<>(entries.keySet());
+    }
+
+    /**
+     * Gets the paths whose file name ends with one of the given extensions
+     * (case-insensitive), sorted.
+     */
+    public List<String> findByExtensions(String[] extensions) {
+        ensureBuilt();
+        String[] lower = new String[extensions.length];
+        for (int i = 0; i < extensions.length; i++) {
+            lower[i] = extensions[i].toLowerCase();
+        }
+
+        List<String> results = new ArrayList<>();
+        for (String path : entries.keySet()) {
+            String lowerPath = path.toLowerCase();
+            for (String ext : lower) {
+                if (lowerPath.endsWith(ext)) {
+                    results.add(path);
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Gets the entries whose primary type is exactly the given type, sorted by path.
+     */
+    public List<Entry> findByType(Class<?> type) {
+        ensureBuilt();
+        List<Entry> results = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (entry.type() == type) {
+                results.add(entry);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Gets the paths starting with a prefix (e.g. a folder followed by '/'), sorted.
+     */
+    public List<String> findByPrefix(String prefix) {
+        ensureBuilt();
+        if (prefix.isEmpty()) {
+            return paths();
+        }
+        // Keys are sorted, so the prefix range is contiguous
+        return new ArrayList<>(entries.subMap(prefix, true, prefix + Character.MAX_VALUE, true).keySet());
+    }
+
+    /**
+     * Fuzzy-searches paths, best matches first (see {@link FuzzyMatcher#score}).
+     *
+     * @param query Search text
+     * @param limit Maximum number of results
+     */
+    public List<Entry> search(String query, int limit) {
+        ensureBuilt();
+        record Scored(Entry entry, int score) {
+        }
+
+        List<Scored> scored = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            int score = FuzzyMatcher.score(query, entry.path());
+            if (score > 0) {
+                scored.add(new Scored(entry, score));
+            }
+        }
+        // Stable sort keeps equal scores in path order
+        scored.sort(Comparator.comparingInt(Scored::score).reversed());
+
+        List<Entry> results = new ArrayList<>(Math.min(limit, scored.size()));
+        for (int i = 0; i < scored.size() && i < limit; i++) {
+            results.add(scored.get(i).entry());
+        }
+        return results;
+    }
+
+    public int size() {
+        ensureBuilt();
+        return entries.size();
+    }
+
+    // ========================================================================
+    // CHANGE FEED
+    // ========================================================================
+
+    /**
+     * Reports recorded changes whose files have settled, oldest first.
+     *
+     * @param listener Receives each change
+     * @return Number of changes reported
+     */
+    public int drainChanges(Consumer<Change> listener) {
+        return drainChanges(System.nanoTime(), listener);
+    }
+
+    int drainChanges(long nowNanos, Consumer<Change> listener) {
+        List<Change> settled = new ArrayList<>();
+        synchronized (pendingChanges) {
+            Iterator<Map.Entry<String, PendingChange>> it = pendingChanges.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, PendingChange> e = it.next();
+                if (nowNanos - e.getValue().lastEventNanos >= SETTLE_NANOS) {
+                    settled.add(new Change(e.getKey(), e.getValue().kind));
+                    it.remove();
+                }
+            }
+        }
+        settled.forEach(listener);
+        return settled.size();
+    }
+
+    /**
+     * Merges a new event for a path into its pending change.
+     */
+    private void record(String path, Change.Kind kind, long nowNanos) {
+        if (!recordChanges) return;
+
+        synchronized (pendingChanges) {
+            PendingChange pending = pendingChanges.get(path);
+            if (pending == null) {
+                pendingChanges.put(path, new PendingChange(kind, nowNanos));
+                return;
+            }
+
+            pending.lastEventNanos = nowNanos;
+            if (pending.kind == Change.Kind.CREATED && kind == Change.Kind.DELETED) {
+                pendingChanges.remove(path); // Came and went
+            } else if (pending.kind == Change.Kind.DELETED && kind == Change.Kind.CREATED) {
+                pending.kind = Change.Kind.MODIFIED; // Replaced (e.g. save via temp file + rename)
+            } else if (pending.kind != Change.Kind.CREATED) {
+                pending.kind = kind;
+            }
+        }
+    }
+
+    // ========================================================================
+    // INDEXING
+    // ========================================================================
+
+    private void ensureBuilt() {
+        if (!built) {
+            build(true);
+        }
+    }
+
+    /**
+     * Walks the directory, registering every folder with the watch service on the way,
+     * then starts the watch thread. Runs once; later calls return immediately.
+     *
+     * @param watch Whether to watch for changes (tests feed events by hand)
+     */
+    synchronized void build(boolean watch) {
+        if (built) return;
+
+        if (watch) {
+            try {
+                watchService = root.getFileSystem().newWatchService();
+            } catch (IOException | UnsupportedOperationException e) {
+                Log.warn("AssetIndex", "File watching unavailable for " + root + ": " + e.getMessage());
+            }
+        }
+
+        walk(root, false, System.nanoTime());
+        built = true;
+
+        if (watchService != null) {
+            watchThread = new Thread(this::watchLoop, "asset-watcher");
+            watchThread.setDaemon(true);
+            watchThread.start();
+        }
+    }
+
+    /**
+     * Re-walks the whole directory, reporting any difference with the index as changes.
+     * Recovers from missed events (watch overflow, or no watch service at all).
+     */
+    public synchronized void rescan() {
+        if (!built) {
+            build(true);
+            return;
+        }
+
+        long now = System.nanoTime();
+        Set<String> seen = walk(root, true, now);
+        for (String path : entries.keySet()) {
+            if (!seen.contains(path)) {
+                entries.remove(path);
+                record(path, Change.Kind.DELETED, now);
+            }
+        }
+    }
+
+    /**
+     * Indexes every file below a directory and registers its folders for watching.
+     *
+     * @return Relative paths of the loadable files found
+     */
+    private Set<String> walk(Path directory, boolean recordNew, long nowNanos) {
+        Set<String> found = new HashSet<>();
+        if (!Files.isDirectory(directory)) {
+            return found;
+        }
+
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    register(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile()) {
+                        String path = relativize(file);
+                        if (index(path, attrs, recordNew, nowNanos)) {
+                            found.add(path);
+                        }
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            Log.error("AssetIndex", "Error scanning directory: " + directory + " - " + e.getMessage());
+        }
+        return found;
+    }
+
+    /**
+     * Adds or updates one file. Records CREATED/MODIFIED when asked and the file is
+     * new or its size/mtime changed. Callers hold the monitor.
+     *
+     * @return true if the file is loadable (and now indexed)
+     */
+    private boolean index(String path, BasicFileAttributes attrs, boolean record, long nowNanos) {
+        Class<?> type = typeResolver.apply(path);
+        if (type == null) {
+            return false;
+        }
+
+        long size = attrs.size();
+        long modified = attrs.lastModifiedTime().toMillis();
+        Entry previous = entries.get(path);
+        if (previous != null && previous.size() == size && previous.lastModified() == modified) {
+            return true;
+        }
+
+        entries.put(path, new Entry(path, type, size, modified, subAssetCounter.applyAsInt(path)));
+        if (record) {
+            record(path, previous == null ? Change.Kind.CREATED : Change.Kind.MODIFIED, nowNanos);
+        }
+        return true;
+    }
+
+    /**
+     * Handles a created or modified path. A file is (re)indexed; a folder is only walked
+     * when new, since some platforms also report folders as modified when their
+     * contents change.
+     */
+    synchronized void fileChanged(Path file, boolean created, long nowNanos) {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            if (attrs.isDirectory()) {
+                if (created) {
+                    walk(file, true, nowNanos);
+                }
+            } else if (attrs.isRegularFile()) {
+                index(relativize(file), attrs, true, nowNanos);
+            }
+        } catch (IOException e) {
+            // Gone again before we could read it; the delete event will follow
+        }
+    }
+
+    /**
+     * Handles a deleted path: removes the file, or everything below it if it was a folder.
+     */
+    synchronized void fileDeleted(Path file, long nowNanos) {
+        String path = relativize(file);
+        if (entries.remove(path) != null) {
+            record(path, Change.Kind.DELETED, nowNanos);
+            return;
+        }
+
+        for (String child : findByPrefix(path + "/")) {
+            entries.remove(child);
+            record(child, Change.Kind.DELETED, nowNanos);
+        }
+    }
+
+    private String relativize(Path file) {
+        return root.relativize(file).toString().replace('\\', '/');
+    }
+
+    // ========================================================================
+    // WATCHING
+    // ========================================================================
+
+    private void register(Path directory) {
+        if (watchService == null) return;
+        try {
+            WatchKey key = directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+            watchedDirectories.put(key, directory);
+        } catch (IOException e) {
+            Log.warn("AssetIndex", "Cannot watch " + directory + ": " + e.getMessage());
+        }
+    }
+
+    private void watchLoop() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                Path directory = watchedDirectories.get(key);
+                long now = System.nanoTime();
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        rescan();
+                        continue;
+                    }
+                    if (directory == null) continue;
+
+                    Path file = directory.resolve((Path) event.context());
+                    if (event.kind() == ENTRY_DELETE) {
+                        fileDeleted(file, now);
+                    } else {
+                        fileChanged(file, event.kind() == ENTRY_CREATE, now);
+                    }
+                }
+
+                if (!key.reset()) {
+                    watchedDirectories.remove(key);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed
+        }
+    }
+
+    /**
+     * Stops watching. Queries keep answering from the last known state.
+     */
+    public synchronized void close() {
+        if (watchThread != null) {
+            watchThread.interrupt();
+            watchThread = null;
+        }
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+            }
+            watchService = null;
+        }
+        watchedDirectories.clear();
+    }
+}
@@ -83,6 +83,50 @@ public interface AssetLoader<T> {
         );
     }
 
+    // ========================================================================
+    // ASYNC LOADING
+    // ========================================================================
+
+    /**
+     * Worker-thread half of an asynchronous load: reads and decodes the asset without
+     * touching OpenGL, and returns the step that completes it on the GL thread.
+     * <p>
+     * The default defers the whole {@link #load(String)} to the GL thread, which is always
+     * safe. Loaders override this to move disk I/O and decoding onto the worker.
+     *
+     * @param path Full path to the asset file
+     * @return The GL-thread completion step
+     * @throws IOException if reading or decoding fails
+     */
+    default AssetUpload<T> prepareAsync(String path) throws IOException {
+        return () -> load(path);
+    }
+
+    // ========================================================================
+    // CACHE SUPPORT
+    // ========================================================================
+
+    /**
+     * Estimates the memory held by a loaded asset, in bytes.
+     * Counts toward the {@link ResourceCache} weight budget. Small CPU-side assets
+     * can return 0 and only count toward the entry limit.
+     *
+     * @param asset The loaded asset
+     * @return Estimated size in bytes
+     */
+    default long getCacheWeight(T asset) {
+        return 0;
+    }
+
+    /**
+     * Releases resources held by an asset evicted from the cache (e.g. GPU textures).
+     * Not called for placeholders or for instances still cached under another path.
+     *
+     * @param asset The evicted asset
+     */
+    default void unload(T asset) {
+    }
+
     // ========================================================================
     // EDITOR INSTANTIATION SUPPORT
     // ========================================================================
@@ -197,4 +241,15 @@ public interface AssetLoader<T> {
                 "Asset type " + parent.getClass().getSimpleName() + " does not support sub-assets"
         );
     }
+
+    /**
+     * Counts the sub-assets of a file without loading it. Used by the asset index,
+     * so it may run on any thread and should only read what it needs (headers, metadata).
+     *
+     * @param path Full path to the asset file
+     * @return Number of addressable sub-assets, 0 if none
+     */
+    default int getSubAssetCount(String path) {
+        return 0;
+    }
 }
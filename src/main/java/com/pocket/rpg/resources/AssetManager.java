@@ -3,6 +3,7 @@ package com.pocket.rpg.resources;
 import com.pocket.rpg.editor.EditorPanelType;
 import com.pocket.rpg.editor.core.MaterialIcons;
 import com.pocket.rpg.editor.scene.EditorGameObject;
+import com.pocket.rpg.logging.Log;
 import com.pocket.rpg.rendering.resources.Sprite;
 import lombok.Getter;
 import lombok.Setter;
@@ -20,7 +21,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Default implementation of AssetContext.
@@ -85,6 +88,33 @@ public class AssetManager implements AssetContext {
      */
     private final Map<String, String> cachedFullPaths;
 
+    /**
+     * Async loads that have not completed yet, keyed by normalized path.
+     * <p>
+     * Repeated {@link #loadAsync(String, Class)} calls for the same path share one handle.
+     */
+    private final Map<String, AssetHandle<?>> pendingLoads;
+
+    /**
+     * Worker pool and GL-thread upload queue backing {@link #loadAsync(String, Class)}.
+     */
+    private final AsyncUploadQueue asyncQueue;
+
+    /**
+     * Thread that created this manager, taken to be the GL thread. Unloads of assets
+     * evicted on any other thread are queued to {@link #processUploads(long)}.
+     */
+    private final Thread glThread;
+
+    /**
+     * Watched file indexes answering scans, keyed by absolute directory.
+     * <p>
+     * The asset root's index also records file changes, which drive hot reload in
+     * {@link #processFileChanges}. Indexes are built on first scan and dropped when the
+     * root or the set of loaders changes.
+     */
+    private final Map<Path, AssetIndex> indexes;
+
     @Getter
     private String assetRoot = "gameData/assets/";
     @Getter
@@ -103,6 +133,13 @@ public class AssetManager implements AssetContext {
         this.resourcePaths = new ConcurrentHashMap<>();
         this.cachedTypes = new ConcurrentHashMap<>();
         this.cachedFullPaths = new ConcurrentHashMap<>();
+        this.pendingLoads = new ConcurrentHashMap<>();
+        this.asyncQueue = new AsyncUploadQueue();
+        this.glThread = Thread.currentThread();
+        this.indexes = new ConcurrentHashMap<>();
+
+        cache.setWeigher(this::getCacheWeight);
+        cache.setEvictionListener(this::onEvicted);
 
         // Auto-register default loaders
         registerDefaultLoaders();
@@ -216,6 +253,9 @@ public class AssetManager implements AssetContext {
 
         System.out.println("Registered loader: " + type.getSimpleName() +
                 " (" + String.join(", ", loader.getSupportedExtensions()) + ")");
+
+        // Indexed entries were typed with the previous extension set
+        closeIndexes();
     }
 
     /**
@@ -362,14 +402,7 @@ public class AssetManager implements AssetContext {
 
         try {
             T resource = loader.load(fullPath);
-
-            if (options.isUseCache()) {
-                cache.put(normalizedPath, resource);
-                cachedTypes.put(normalizedPath, type);
-                cachedFullPaths.put(normalizedPath, fullPath);
-            }
-            resourcePaths.put(resource, normalizedPath);
-
+            registerLoaded(normalizedPath, fullPath, type, resource, options.isUseCache());
             return resource;
 
         } catch (IOException e) {
@@ -391,6 +424,180 @@ public class AssetManager implements AssetContext {
         }
     }
 
+    /**
+     * Records a freshly loaded asset in the cache and path maps.
+     */
+    private void registerLoaded(String normalizedPath, String fullPath, Class<?> type,
+                                Object resource, boolean useCache) {
+        if (useCache) {
+            cache.put(normalizedPath, resource);
+            cachedTypes.put(normalizedPath, type);
+            cachedFullPaths.put(normalizedPath, fullPath);
+        }
+        resourcePaths.put(resource, normalizedPath);
+    }
+
+    // ========================================================================
+    // ASYNC LOADING
+    // ========================================================================
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Must be called from the GL thread. File reading and decoding run on a small
+     * daemon worker pool; the GL step (texture upload, object construction) is queued
+     * and run by {@link #processUploads(long)}, where the asset is also cached exactly
+     * as a synchronous {@link #load(String, Class)} would cache it.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> AssetHandle<T> loadAsync(String path, Class<T> type) {
+        String normalizedPath = migrateSpritesheetPath(normalizePath(path));
+
+        T cached = cache.get(normalizedPath);
+        if (cached != null) {
+            return AssetHandle.completed(normalizedPath, cached);
+        }
+
+        AssetHandle<?> pending = pendingLoads.get(normalizedPath);
+        if (pending != null) {
+            return (AssetHandle<T>) pending;
+        }
+
+        Class<?> resolvedType = type;
+        if (resolvedType == null || resolvedType == Object.class) {
+            resolvedType = getTypeFromPath(normalizedPath);
+            if (resolvedType == null) {
+                throw new IllegalArgumentException("Unknown file extension for: " + normalizedPath);
+            }
+        }
+
+        int hashIndex = normalizedPath.indexOf(SUB_ASSET_SEPARATOR);
+        AssetHandle<T> handle = hashIndex != -1
+                ? loadSubAssetAsync(normalizedPath, hashIndex, resolvedType)
+                : loadWithTypeAsync(normalizedPath, resolvedType);
+
+        if (!handle.isDone()) {
+            pendingLoads.put(normalizedPath, handle);
+            handle.future().whenComplete((result, error) -> pendingLoads.remove(normalizedPath));
+        }
+        return handle;
+    }
+
+    /**
+     * Sub-assets are cheap to extract, so only the parent is streamed. Once it arrives
+     * the sub-asset is resolved through the synchronous path, which finds the parent cached.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> AssetHandle<T> loadSubAssetAsync(String normalizedPath, int hashIndex, Class<?> subType) {
+        String basePath = normalizedPath.substring(0, hashIndex);
+        Class<?> parentType = getTypeFromExtension(basePath);
+        if (parentType == null) {
+            throw new IllegalArgumentException("Unknown parent asset type for: " + basePath);
+        }
+
+        AssetHandle<?> parent = loadAsync(basePath, parentType);
+        // A failed parent is not cached; don't retry it synchronously on the GL thread
+        CompletableFuture<T> future = parent.future().thenApply(loaded -> cache.contains(basePath)
+                ? (T) loadInternal(normalizedPath, subType, LoadOptions.defaults())
+                : (T) placeholderFor(subType));
+        return new AssetHandle<>(normalizedPath, future, (T) placeholderFor(subType));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> AssetHandle<T> loadWithTypeAsync(String normalizedPath, Class<?> type) {
+        AssetLoader<T> loader = (AssetLoader<T>) loaders.get(type);
+        if (loader == null) {
+            throw new IllegalArgumentException("No loader registered for type: " + type.getSimpleName());
+        }
+
+        String fullPath = resolvePath(normalizedPath, LoadOptions.defaults());
+        CompletableFuture<T> future = new CompletableFuture<>();
+
+        if (statisticsEnabled) {
+            cache.getStats().recordLoad();
+        }
+
+        asyncQueue.submit(() -> {
+            AssetUpload<T> upload;
+            try {
+                upload = loader.prepareAsync(fullPath);
+            } catch (Exception e) {
+                asyncQueue.enqueueUpload(() -> failAsync(normalizedPath, loader, future, e));
+                return;
+            }
+            asyncQueue.enqueueUpload(() -> {
+                try {
+                    T resource = upload.finish();
+                    T existing = cache.get(normalizedPath);
+                    if (existing != null) {
+                        // A synchronous load won the race; keep the instance callers already hold
+                        loader.unload(resource);
+                        future.complete(existing);
+                        return;
+                    }
+                    registerLoaded(normalizedPath, fullPath, type, resource, true);
+                    future.complete(resource);
+                } catch (Exception e) {
+                    failAsync(normalizedPath, loader, future, e);
+                }
+            });
+        });
+
+        return new AssetHandle<>(normalizedPath, future, placeholderFor(type));
+    }
+
+    /**
+     * Fails the future in {@link ErrorMode#THROW_EXCEPTION}, otherwise completes it with
+     * the loader's placeholder. Unlike the synchronous path the placeholder is not cached
+     * under the asset's path, so a later load retries the file instead of finding the
+     * placeholder (async loads often race with the file still being written).
+     */
+    private <T> void failAsync(String normalizedPath, AssetLoader<T> loader,
+                               CompletableFuture<T> future, Exception error) {
+        if (errorMode == ErrorMode.THROW_EXCEPTION) {
+            future.completeExceptionally(new RuntimeException("Failed to load: " + normalizedPath, error));
+            return;
+        }
+
+        System.err.println("WARNING: Failed to load '" + normalizedPath + "', using placeholder. Error: " + error.getMessage());
+        future.complete(loader.getPlaceholder());
+    }
+
+    private Object placeholderFor(Class<?> type) {
+        if (errorMode != ErrorMode.USE_PLACEHOLDER) {
+            return null;
+        }
+        AssetLoader<?> loader = loaders.get(type);
+        return loader != null ? loader.getPlaceholder() : null;
+    }
+
+    @Override
+    public int processUploads(long budgetNanos) {
+        return asyncQueue.processUploads(budgetNanos);
+    }
+
+    @Override
+    public void awaitUploads(long timeoutNanos) {
+        asyncQueue.awaitUploads(timeoutNanos);
+    }
+
+    /**
+     * Stops the async loader threads and file watchers. Queued uploads are dropped.
+     */
+    @Override
+    public void destroy() {
+        asyncQueue.shutdown();
+        closeIndexes();
+    }
+
+    /**
+     * Returns the number of async loads that have been requested but not completed.
+     */
+    public int getPendingLoadCount() {
+        return pendingLoads.size();
+    }
+
     // ========================================================================
     // PATH RESOLUTION
     // ========================================================================
@@ -721,13 +928,7 @@ public class AssetManager implements AssetContext {
 
     @Override
     public List<String> scanByType(Class<?> type) {
-        AssetLoader<?> loader = loaders.get(type);
-        if (loader == null) {
-            return new ArrayList<>();
-        }
-
-        String[] extensions = loader.getSupportedExtensions();
-        return scanDirectory(assetRoot, extensions);
+        return scanByType(type, assetRoot);
     }
 
     @Override
@@ -758,44 +959,173 @@ public class AssetManager implements AssetContext {
         return scanDirectory(directory, allExtensions.toArray(new String[0]));
     }
 
+    @Override
+    public List<AssetIndex.Entry> searchAssets(String query, int limit) {
+        return getAssetIndex().search(query, limit);
+    }
+
+    @Override
+    public void rescanAssets() {
+        for (AssetIndex index : indexes.values()) {
+            index.rescan();
+        }
+    }
+
     /**
-     * Recursively scans a directory for files with specified extensions.
-     * Returns paths relative to asset root.
+     * Gets the index of the asset root, building it on first use.
+     */
+    public AssetIndex getAssetIndex() {
+        Path root = Paths.get(assetRoot).toAbsolutePath().normalize();
+        return indexes.computeIfAbsent(root, dir -> new AssetIndex(dir, this::getTypeFromExtension,
+                this::countSubAssets, true));
+    }
+
+    /**
+     * Lists files with the given extensions below a directory, from the watched index.
+     * Returns paths relative to that directory. Directories inside the asset root are
+     * answered from the root's index; others get their own.
      */
     private List<String> scanDirectory(String directory, String[] extensions) {
+        Path dirPath = Paths.get(directory).toAbsolutePath().normalize();
+        if (!Files.isDirectory(dirPath)) {
+            return new ArrayList<>();
+        }
+
+        Path root = Paths.get(assetRoot).toAbsolutePath().normalize();
+        if (!dirPath.startsWith(root)) {
+            return indexes.computeIfAbsent(dirPath, dir -> new AssetIndex(dir, this::getTypeFromExtension,
+                    path -> 0, false)).findByExtensions(extensions);
+        }
+
+        List<String> paths = getAssetIndex().findByExtensions(extensions);
+        if (dirPath.equals(root)) {
+            return paths;
+        }
+
+        String prefix = root.relativize(dirPath).toString().replace('\\', '/') + "/";
         List<String> results = new ArrayList<>();
+        for (String path : paths) {
+            if (path.startsWith(prefix)) {
+                results.add(path.substring(prefix.length()));
+            }
+        }
+        return results;
+    }
 
-        try {
-            Path dirPath = Paths.get(directory);
-            if (!Files.exists(dirPath) || !Files.isDirectory(dirPath)) {
-                return results;
+    /**
+     * Counts the sub-assets of a file in the asset root, asking every loader that
+     * handles its extension (e.g. both the texture and sprite loaders for a .png).
+     */
+    private int countSubAssets(String path) {
+        String lowerPath = path.toLowerCase();
+        int count = 0;
+        for (AssetLoader<?> loader : loaders.values()) {
+            for (String ext : loader.getSupportedExtensions()) {
+                if (lowerPath.endsWith(ext.toLowerCase())) {
+                    count = Math.max(count, loader.getSubAssetCount(assetRoot + path));
+                    break;
+                }
             }
+        }
+        return count;
+    }
 
-            Set<String> extSet = new HashSet<>();
-            for (String ext : extensions) {
-                extSet.add(ext.toLowerCase());
+    private void closeIndexes() {
+        for (AssetIndex index : indexes.values()) {
+            index.close();
+        }
+        indexes.clear();
+    }
+
+    // ========================================================================
+    // FILE CHANGES
+    // ========================================================================
+
+    /**
+     * Hot-reloads cached assets whose files changed on disk since the last call, then
+     * reports every settled change under the asset root. Must be called on the GL thread.
+     *
+     * @param listener Receives each change after its reload (may be null)
+     * @return Number of changes processed
+     */
+    @Override
+    public int processFileChanges(Consumer<AssetIndex.Change> listener) {
+        Path root = Paths.get(assetRoot).toAbsolutePath().normalize();
+        AssetIndex index = indexes.get(root);
+        if (index == null) {
+            return 0; // Nothing scanned yet, so nothing watched
+        }
+
+        return index.drainChanges(change -> {
+            if (change.kind() == AssetIndex.Change.Kind.MODIFIED) {
+                reload(change.path());
+            }
+            if (listener != null) {
+                listener.accept(change);
             }
+        });
+    }
 
-            Files.walk(dirPath)
-                    .filter(Files::isRegularFile)
-                    .forEach(path -> {
-                        String fileName = path.getFileName().toString();
-
-                        for (String ext : extSet) {
-                            if (fileName.toLowerCase().endsWith(ext)) {
-                                String relativePath = dirPath.relativize(path).toString();
-                                relativePath = relativePath.replace('\\', '/');
-                                results.add(relativePath);
-                                break;
-                            }
-                        }
-                    });
+    /**
+     * Reloads a cached asset from disk, mutating the cached instance in place.
+     * For sub-asset paths, the parent asset is reloaded.
+     *
+     * @param path Asset path
+     * @return true if reloaded, false if not cached or reload not supported
+     */
+    public boolean reload(String path) {
+        // Skip sub-asset paths - reload parent instead
+        if (path.indexOf(SUB_ASSET_SEPARATOR) != -1) {
+            path = path.substring(0, path.indexOf(SUB_ASSET_SEPARATOR));
+        }
 
-        } catch (IOException e) {
-            System.err.println("Error scanning directory: " + directory + " - " + e.getMessage());
+        Object cached = cache.get(path);
+        if (cached == null) {
+            return false; // Not loaded, nothing to reload
         }
 
-        return results;
+        Class<?> type = cachedTypes.get(path);
+        AssetLoader<?> loader = type != null ? loaders.get(type) : null;
+        if (loader == null || !loader.supportsHotReload()) {
+            return false;
+        }
+
+        // Use the same full path that was used during initial load
+        String fullPath = cachedFullPaths.get(path);
+        if (fullPath == null) {
+            return false;
+        }
+
+        try {
+            reloadWithLoader(loader, cached, fullPath, path);
+            return true;
+        } catch (Exception e) {
+            // Include root cause for better debugging
+            String cause = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            Log.error("Assets", "Failed to reload " + path + ": " + cause);
+            return false;
+        }
+    }
+
+    /**
+     * Helper method to invoke reload with proper type casting and contract validation.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void reloadWithLoader(AssetLoader<T> loader, Object asset, String fullPath, String path)
+            throws IOException {
+        T existing = (T) asset;
+        T result = loader.reload(existing, fullPath);
+
+        // Guard: ensure loader mutated in place rather than creating new reference
+        if (result != existing) {
+            Log.error("Assets",
+                    "Hot-reload contract violation for " + existing.getClass().getSimpleName() +
+                    ": " + loader.getClass().getSimpleName() + ".reload() returned new reference " +
+                    "instead of mutating existing. Path: " + path + ". " +
+                    "Fix: Update the loader's reload() method to mutate the existing instance in place " +
+                    "and return it, rather than creating a new object. Keeping old asset to prevent broken references.");
+            // Don't use the new reference - keep existing to avoid breaking external references
+        }
     }
 
     // ========================================================================
@@ -817,6 +1147,7 @@ public class AssetManager implements AssetContext {
             throw new IllegalArgumentException("Asset root cannot be null or empty");
         }
         this.assetRoot = assetRoot;
+        closeIndexes();
         System.out.println("Asset root set to: " + assetRoot);
     }
 
@@ -865,6 +1196,65 @@ public class AssetManager implements AssetContext {
         return removed;
     }
 
+    // ========================================================================
+    // CACHE EVICTION
+    // ========================================================================
+
+    @Override
+    public void pin(String path) {
+        cache.pin(normalizePath(path));
+    }
+
+    @Override
+    public void unpin(String path) {
+        cache.unpin(normalizePath(path));
+    }
+
+    @SuppressWarnings("unchecked")
+    private long getCacheWeight(Object resource) {
+        AssetLoader<Object> loader = (AssetLoader<Object>) loaders.get(resource.getClass());
+        return loader != null ? loader.getCacheWeight(resource) : 0;
+    }
+
+    /**
+     * Called by the cache for each evicted entry. Drops path tracking and releases
+     * the asset through its loader, unless the same instance is still cached under
+     * another path or is the loader's shared placeholder.
+     * <p>
+     * The cache calls this on whichever thread triggered the eviction. Unloading
+     * deletes GL objects, so off the GL thread it is queued like an async upload.
+     */
+    @SuppressWarnings("unchecked")
+    private void onEvicted(String path, Object resource) {
+        Class<?> type = cachedTypes.remove(path);
+        cachedFullPaths.remove(path);
+        if (path.equals(resourcePaths.get(resource))) {
+            resourcePaths.remove(resource);
+        }
+
+        // Sub-assets share their parent's resources; only the parent is unloaded
+        if (path.indexOf(SUB_ASSET_SEPARATOR) != -1) {
+            return;
+        }
+        if (type == null || !type.isInstance(resource) || cache.containsResource(resource)) {
+            return;
+        }
+        AssetLoader<Object> loader = (AssetLoader<Object>) loaders.get(type);
+        if (loader == null || loader.getPlaceholder() == resource) {
+            return;
+        }
+        if (Thread.currentThread() == glThread) {
+            loader.unload(resource);
+        } else {
+            asyncQueue.enqueueUpload(() -> {
+                // The instance may have been cached again before the GL thread got here
+                if (!cache.containsResource(resource)) {
+                    loader.unload(resource);
+                }
+            });
+        }
+    }
+
     @Override
     public String toString() {
         return String.format("AssetManager[root=%s, errorMode=%s, %s]",
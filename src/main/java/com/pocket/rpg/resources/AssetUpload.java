@@ -0,0 +1,25 @@
+package com.pocket.rpg.resources;
+
+import java.io.IOException;
+
+/**
+ * GL-thread half of an asynchronous asset load.
+ * <p>
+ * Returned by {@link AssetLoader#prepareAsync(String)} after the worker thread has done
+ * the file I/O and decoding. {@link #finish()} runs on the GL thread, within the
+ * per-frame upload budget, and should only do the work that needs the GL context
+ * (e.g. {@code glTexImage2D}).
+ *
+ * @param <T> Asset type
+ */
+@FunctionalInterface
+public interface AssetUpload<T> {
+
+    /**
+     * Completes the load on the GL thread.
+     *
+     * @return The loaded asset
+     * @throws IOException if the asset cannot be created
+     */
+    T finish() throws IOException;
+}
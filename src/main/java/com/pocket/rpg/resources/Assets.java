@@ -2,7 +2,6 @@ package com.pocket.rpg.resources;
 
 import com.pocket.rpg.editor.EditorPanelType;
 import com.pocket.rpg.editor.scene.EditorGameObject;
-import com.pocket.rpg.logging.Log;
 import com.pocket.rpg.rendering.resources.Sprite;
 import com.pocket.rpg.rendering.resources.SpriteGrid;
 import com.pocket.rpg.resources.loaders.SpriteLoader;
@@ -10,10 +9,10 @@ import lombok.Getter;
 import lombok.Setter;
 import org.joml.Vector3f;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Static facade for asset loading.
@@ -85,6 +84,16 @@ public final class Assets {
         initialize(new AssetManager());
     }
 
+    /**
+     * Shuts down the asset system's background threads.
+     */
+    public static void destroy() {
+        if (context != null) {
+            context.destroy();
+            context = null;
+        }
+    }
+
     /**
      * Loads a resource from the given path.
      * Type is inferred from the return value.
@@ -137,6 +146,65 @@ public final class Assets {
         return getContext().load(path, loadOptions, type);
     }
 
+    /**
+     * Starts loading a resource in the background, inferring its type from the extension.
+     * <p>
+     * The returned handle yields the placeholder until the asset has been uploaded by
+     * {@link #processUploads()}.
+     *
+     * @param path Resource path (relative to asset root)
+     * @param <T>  Resource type
+     * @return Handle to the pending resource
+     */
+    public static <T> AssetHandle<T> loadAsync(String path) {
+        return getContext().loadAsync(path, null);
+    }
+
+    /**
+     * Starts loading a resource of the given type in the background.
+     *
+     * @param path Resource path (relative to asset root)
+     * @param type Resource type class
+     * @param <T>  Resource type
+     * @return Handle to the pending resource
+     */
+    public static <T> AssetHandle<T> loadAsync(String path, Class<T> type) {
+        return getContext().loadAsync(path, type);
+    }
+
+    /**
+     * Runs queued async GL uploads with the default per-frame budget (2 ms).
+     * Called once per frame by the engine. No-op if the asset system is not initialized.
+     *
+     * @return Number of uploads processed
+     */
+    public static int processUploads() {
+        return processUploads(AsyncUploadQueue.DEFAULT_UPLOAD_BUDGET_NANOS);
+    }
+
+    /**
+     * Runs queued async GL uploads until the budget is spent.
+     *
+     * @param budgetNanos Time budget in nanoseconds
+     * @return Number of uploads processed
+     */
+    public static int processUploads(long budgetNanos) {
+        return context != null ? context.processUploads(budgetNanos) : 0;
+    }
+
+    /**
+     * Parks the GL thread until an async upload is ready to process or the timeout
+     * elapses. Returns immediately if uploads are pending or the asset system is not
+     * initialized.
+     *
+     * @param timeoutNanos Maximum time to wait in nanoseconds
+     */
+    public static void awaitUploads(long timeoutNanos) {
+        if (context != null) {
+            context.awaitUploads(timeoutNanos);
+        }
+    }
+
     /**
      * Gets a cached resource without loading.
      * Returns null if the resource is not loaded.
@@ -252,6 +320,64 @@ public final class Assets {
         return getContext().getStats();
     }
 
+    /**
+     * Pins an asset so the cache never evicts it.
+     * Each pin needs a matching {@link #unpin(String)}.
+     *
+     * @param path Resource path (relative to asset root)
+     */
+    public static void pin(String path) {
+        getContext().pin(path);
+    }
+
+    /**
+     * Releases a pin taken with {@link #pin(String)}.
+     *
+     * @param path Resource path (relative to asset root)
+     */
+    public static void unpin(String path) {
+        getContext().unpin(path);
+    }
+
+    /**
+     * Marks the start of a scene load. Assets accessed from now on are pinned to the
+     * incoming scene. No-op if the asset system is not initialized.
+     *
+     * @see ResourceCache#beginSceneScope()
+     */
+    public static void beginSceneScope() {
+        ResourceCache cache = context != null ? context.getCache() : null;
+        if (cache != null) {
+            cache.beginSceneScope();
+        }
+    }
+
+    /**
+     * Marks the end of a scene load. Assets only used by the previous scene
+     * become evictable. No-op if the asset system is not initialized.
+     *
+     * @see ResourceCache#endSceneScope()
+     */
+    public static void endSceneScope() {
+        ResourceCache cache = context != null ? context.getCache() : null;
+        if (cache != null) {
+            cache.endSceneScope();
+        }
+    }
+
+    /**
+     * Abandons a scene load started with {@link #beginSceneScope()}, keeping the
+     * current scene's assets pinned. No-op if the asset system is not initialized.
+     *
+     * @see ResourceCache#cancelSceneScope()
+     */
+    public static void cancelSceneScope() {
+        ResourceCache cache = context != null ? context.getCache() : null;
+        if (cache != null) {
+            cache.cancelSceneScope();
+        }
+    }
+
     /**
      * Scans the asset directory for files loadable by a specific type's loader.
      * Does NOT load the assets, just returns their paths.
@@ -327,6 +453,36 @@ public final class Assets {
         return getContext().scanAll(directory);
     }
 
+    /**
+     * Fuzzy-searches the asset directory by path, best matches first.
+     * Answered from the in-memory asset index; does NOT load the assets.
+     *
+     * @param query Search text
+     * @param limit Maximum number of results
+     * @return Matching index entries (path, type, size, mtime, sub-asset count)
+     */
+    public static List<AssetIndex.Entry> searchAssets(String query, int limit) {
+        return getContext().searchAssets(query, limit);
+    }
+
+    /**
+     * Re-walks scanned directories to pick up changes the file watcher missed.
+     */
+    public static void rescanAssets() {
+        getContext().rescanAssets();
+    }
+
+    /**
+     * Hot-reloads cached assets whose files changed on disk and reports each change.
+     * Called once per frame by the editor. No-op if the asset system is not initialized.
+     *
+     * @param listener Receives each change after its reload (may be null)
+     * @return Number of changes processed
+     */
+    public static int processFileChanges(Consumer<AssetIndex.Change> listener) {
+        return context != null ? context.processFileChanges(listener) : 0;
+    }
+
 
     public static String getRelativePath(String fullPath) {
         if (fullPath == null) {
@@ -581,63 +737,7 @@ public final class Assets {
         if (!(ctx instanceof AssetManager manager)) {
             return false;
         }
-
-        // Skip sub-asset paths - reload parent instead
-        if (path.contains("#")) {
-            path = path.substring(0, path.indexOf('#'));
-        }
-
-        Object cached = manager.getCache().get(path);
-        if (cached == null) {
-            return false; // Not loaded, nothing to reload
-        }
-
-        Class<?> type = manager.getCachedType(path);
-        if (type == null) {
-            return false;
-        }
-
-        AssetLoader<?> loader = manager.getLoader(type);
-        if (loader == null || !loader.supportsHotReload()) {
-            return false;
-        }
-
-        // Use the same full path that was used during initial load
-        String fullPath = manager.getCachedFullPath(path);
-        if (fullPath == null) {
-            return false;
-        }
-
-        try {
-            reloadWithLoader(loader, cached, fullPath, path);
-            return true;
-        } catch (Exception e) {
-            // Include root cause for better debugging
-            String cause = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
-            Log.error("Assets", "Failed to reload " + path + ": " + cause);
-            return false;
-        }
-    }
-
-    /**
-     * Helper method to invoke reload with proper type casting and contract validation.
-     */
-    @SuppressWarnings("unchecked")
-    private static <T> void reloadWithLoader(AssetLoader<T> loader, Object asset, String fullPath, String path)
-            throws IOException {
-        T existing = (T) asset;
-        T result = loader.reload(existing, fullPath);
-
-        // Guard: ensure loader mutated in place rather than creating new reference
-        if (result != existing) {
-            Log.error("Assets",
-                    "Hot-reload contract violation for " + existing.getClass().getSimpleName() +
-                    ": " + loader.getClass().getSimpleName() + ".reload() returned new reference " +
-                    "instead of mutating existing. Path: " + path + ". " +
-                    "Fix: Update the loader's reload() method to mutate the existing instance in place " +
-                    "and return it, rather than creating a new object. Keeping old asset to prevent broken references.");
-            // Don't use the new reference - keep existing to avoid breaking external references
-        }
+        return manager.reload(path);
     }
 
     /**
@@ -9,6 +9,7 @@ public class AssetsConfiguration {
     private final AssetContext context;
     private String assetRoot = "assets/";
     private Integer cacheSize = 10000;
+    private Long cacheWeight = ResourceCache.DEFAULT_MAX_WEIGHT;
     private ErrorMode errorMode = ErrorMode.THROW_EXCEPTION;
     private Boolean enableStatistics = false;
 
@@ -44,6 +45,18 @@ public class AssetsConfiguration {
         return this;
     }
 
+    /**
+     * Sets the cache weight budget. Least recently used assets not referenced by the
+     * active scene are evicted once the summed weight exceeds it.
+     *
+     * @param cacheWeight Budget in bytes of estimated asset memory (0 = unlimited)
+     * @return This builder for chaining
+     */
+    public AssetsConfiguration setCacheWeight(long cacheWeight) {
+        this.cacheWeight = cacheWeight;
+        return this;
+    }
+
     /**
      * Sets the error handling mode.
      *
@@ -73,6 +86,7 @@ public class AssetsConfiguration {
     public void apply() {
         context.setAssetRoot(assetRoot);
         context.getCache().setMaxSize(cacheSize);
+        context.getCache().setMaxWeight(cacheWeight);
         context.setErrorMode(errorMode);
         context.setStatisticsEnabled(enableStatistics);
     }
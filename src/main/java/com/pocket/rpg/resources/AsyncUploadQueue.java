@@ -0,0 +1,117 @@
+package com.pocket.rpg.resources;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Worker pool plus GL-thread task queue used by {@link AssetManager} for async loads.
+ * <p>
+ * Worker tasks do file I/O and decoding, then enqueue their GL step. The GL thread
+ * drains the queue once per frame in {@link #processUploads(long)}, stopping when the
+ * time budget is spent so a burst of loads is spread over several frames.
+ */
+final class AsyncUploadQueue {
+
+    /** Default GL upload budget per frame: 2 ms. */
+    static final long DEFAULT_UPLOAD_BUDGET_NANOS = 2_000_000L;
+
+    private final ConcurrentLinkedQueue<Runnable> uploads = new ConcurrentLinkedQueue<>();
+    private volatile ExecutorService workers;
+
+    // GL thread parked in awaitUploads(), woken by enqueueUpload()
+    private volatile Thread waiter;
+
+    /**
+     * Runs a task on the worker pool. The pool is created on first use.
+     */
+    void submit(Runnable task) {
+        workers().execute(task);
+    }
+
+    /**
+     * Queues a task to run on the GL thread during {@link #processUploads(long)}.
+     */
+    void enqueueUpload(Runnable task) {
+        uploads.add(task);
+        Thread thread = waiter;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Parks the calling thread until a GL task is queued or the timeout elapses.
+     * Returns immediately if tasks are already pending.
+     */
+    void awaitUploads(long timeoutNanos) {
+        waiter = Thread.currentThread();
+        try {
+            // Checked after publishing the waiter, so an upload queued in between unparks us
+            if (uploads.isEmpty()) {
+                LockSupport.parkNanos(this, timeoutNanos);
+            }
+        } finally {
+            waiter = null;
+        }
+    }
+
+    /**
+     * Runs queued GL tasks until the queue is empty or the budget is spent.
+     * At least one task runs per call, so progress is guaranteed.
+     *
+     * @param budgetNanos Time budget in nanoseconds
+     * @return Number of tasks run
+     */
+    int processUploads(long budgetNanos) {
+        long start = System.nanoTime();
+        int processed = 0;
+        Runnable task;
+        while ((task = uploads.poll()) != null) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                System.err.println("Asset upload failed: " + e.getMessage());
+            }
+            processed++;
+            if (System.nanoTime() - start >= budgetNanos) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    int pendingUploads() {
+        return uploads.size();
+    }
+
+    void shutdown() {
+        ExecutorService pool = workers;
+        if (pool != null) {
+            pool.shutdownNow();
+            workers = null;
+        }
+    }
+
+    private ExecutorService workers() {
+        ExecutorService pool = workers;
+        if (pool == null) {
+            synchronized (this) {
+                pool = workers;
+                if (pool == null) {
+                    int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+                    AtomicInteger counter = new AtomicInteger();
+                    pool = Executors.newFixedThreadPool(threads, runnable -> {
+                        Thread thread = new Thread(runnable, "asset-loader-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    workers = pool;
+                }
+            }
+        }
+        return pool;
+    }
+}
@@ -11,6 +11,7 @@ public class CacheStats {
     private final AtomicLong hits = new AtomicLong(0);
     private final AtomicLong misses = new AtomicLong(0);
     private final AtomicLong totalLoads = new AtomicLong(0);
+    private final AtomicLong evictions = new AtomicLong(0);
     
     /**
      * Records a cache hit.
@@ -33,6 +34,13 @@ public class CacheStats {
         totalLoads.incrementAndGet();
     }
     
+    /**
+     * Records an entry evicted to stay within the cache limits.
+     */
+    public void recordEviction() {
+        evictions.incrementAndGet();
+    }
+    
     /**
      * Gets the number of cache hits.
      * 
@@ -60,6 +68,15 @@ public class CacheStats {
         return totalLoads.get();
     }
     
+    /**
+     * Gets the number of evicted entries.
+     * 
+     * @return Eviction count
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+    
     /**
      * Calculates the cache hit rate.
      * 
@@ -78,11 +95,12 @@ public class CacheStats {
         hits.set(0);
         misses.set(0);
         totalLoads.set(0);
+        evictions.set(0);
     }
     
     @Override
     public String toString() {
-        return String.format("CacheStats[hits=%d, misses=%d, loads=%d, hitRate=%.2f%%]",
-                getHits(), getMisses(), getTotalLoads(), getHitRate() * 100);
+        return String.format("CacheStats[hits=%d, misses=%d, loads=%d, evictions=%d, hitRate=%.2f%%]",
+                getHits(), getMisses(), getTotalLoads(), getEvictions(), getHitRate() * 100);
     }
 }
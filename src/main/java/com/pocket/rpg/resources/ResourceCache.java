@@ -1,40 +1,92 @@
 package com.pocket.rpg.resources;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
 
 /**
- * Simple cache with hard references.
- * Stores loaded resources in a thread-safe map.
+ * LRU resource cache bounded by entry count and total weight.
+ * <p>
+ * Each entry has a weight (estimated bytes, e.g. {@code width * height * 4} for a texture)
+ * supplied by the {@link #setWeigher weigher}. When a put pushes the cache over
+ * {@link #getMaxSize() maxSize} entries or {@link #getMaxWeight() maxWeight} bytes, the least
+ * recently used <b>unpinned</b> entries are evicted and handed to the
+ * {@link #setEvictionListener eviction listener}, which releases their GPU resources.
+ * <p>
+ * An entry is pinned, and never evicted, when any of these holds:
+ * <ul>
+ *   <li>It was explicitly {@link #pin pinned}.</li>
+ *   <li>It was loaded before the first scene scope (engine-wide assets such as fonts and
+ *       UI textures, which are typically held in fields and never looked up again).</li>
+ *   <li>It was accessed during the current scene scope or the one being replaced.
+ *       Scene loading resolves every asset reference through the cache, so this pins
+ *       exactly what the active scene uses. See {@link #beginSceneScope()}.</li>
+ * </ul>
+ * Sub-asset entries ({@code "sheet.png#3"}) keep their parent entry alive: accessing a
+ * sub-asset also touches its parent, and evicting a parent evicts its sub-assets.
+ * <p>
+ * Limits are soft: if every entry is pinned, the cache grows past them rather than
+ * refusing new entries. All methods are thread-safe; the eviction listener is called
+ * outside the lock, on the thread that triggered the eviction.
  */
 public class ResourceCache {
-    
-    private final Map<String, Object> cache = new ConcurrentHashMap<>();
+
+    /** Default weight budget: 512 MB of estimated resource memory. */
+    public static final long DEFAULT_MAX_WEIGHT = 512L * 1024 * 1024;
+
+    private static final class Entry {
+        final Object resource;
+        final long weight;
+        final boolean global;
+        int generation;
+
+        Entry(Object resource, long weight, boolean global, int generation) {
+            this.resource = resource;
+            this.weight = weight;
+            this.global = global;
+            this.generation = generation;
+        }
+    }
+
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, Integer> pins = new HashMap<>();
     private final CacheStats stats = new CacheStats();
     private int maxSize = 10000;
-    
+    private long maxWeight = DEFAULT_MAX_WEIGHT;
+    private long totalWeight;
+
+    // Scene scopes: entries touched at generation >= retainedGeneration are pinned
+    private int generation;
+    private int retainedGeneration;
+    private boolean scopeOpen;
+
+    private volatile ToLongFunction<Object> weigher = resource -> 0;
+    private volatile BiConsumer<String, Object> evictionListener = (path, resource) -> {};
+
     /**
-     * Gets a resource from the cache.
-     * 
+     * Gets a resource from the cache and marks it as recently used.
+     *
      * @param path Resource path
      * @param <T> Resource type
      * @return Cached resource, or null if not found
      */
     @SuppressWarnings("unchecked")
-    public <T> T get(String path) {
-        Object resource = cache.get(path);
-        if (resource != null) {
+    public synchronized <T> T get(String path) {
+        Entry entry = entries.get(path);
+        if (entry != null) {
             stats.recordHit();
-        } else {
-            stats.recordMiss();
+            touch(path, entry);
+            return (T) entry.resource;
         }
-        return (T) resource;
+        stats.recordMiss();
+        return null;
     }
-    
+
     /**
-     * Stores a resource in the cache.
-     * 
+     * Stores a resource in the cache, evicting least recently used unpinned
+     * entries if this pushes the cache over its limits.
+     *
      * @param path Resource path (key)
      * @param resource Resource to cache
      */
@@ -42,107 +94,381 @@ public class ResourceCache {
         if (resource == null) {
             throw new IllegalArgumentException("Cannot cache null resource");
         }
-        
-        // Simple eviction: if at max size, don't add more
-        // In a real LRU implementation, we'd evict oldest
-        if (cache.size() >= maxSize && !cache.containsKey(path)) {
-            System.err.println("WARNING: Cache full (" + maxSize + " items). Consider increasing cache size.");
-            return;
+
+        long weight = Math.max(0, weigher.applyAsLong(resource));
+        List<Map.Entry<String, Object>> evicted;
+        synchronized (this) {
+            Entry previous = entries.remove(path);
+            if (previous != null) {
+                totalWeight -= previous.weight;
+            }
+            boolean global = generation == 0 || (previous != null && previous.global);
+            Entry entry = new Entry(resource, weight, global, generation);
+            entries.put(path, entry);
+            totalWeight += weight;
+            touchParent(path);
+
+            evicted = trim();
         }
-        
-        cache.put(path, resource);
+        notifyEvicted(evicted);
     }
-    
+
     /**
-     * Checks if a resource is cached.
-     * 
+     * Checks if a resource is cached. Does not affect LRU order.
+     *
      * @param path Resource path
      * @return true if resource is in cache
      */
-    public boolean contains(String path) {
-        return cache.containsKey(path);
+    public synchronized boolean contains(String path) {
+        return entries.containsKey(path);
     }
-    
+
+    /**
+     * Checks if a resource instance is cached under any path.
+     *
+     * @param resource Resource instance
+     * @return true if any entry holds this exact instance
+     */
+    public synchronized boolean containsResource(Object resource) {
+        for (Entry entry : entries.values()) {
+            if (entry.resource == resource) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Gets all resources of a specific type.
-     * 
+     *
      * @param type Resource type class
      * @param <T> Resource type
      * @return List of all cached resources of that type
      */
-    public <T> List<T> getAllOfType(Class<T> type) {
-        return cache.values().stream()
-                .filter(type::isInstance)
-                .map(type::cast)
-                .collect(Collectors.toList());
+    public synchronized <T> List<T> getAllOfType(Class<T> type) {
+        List<T> result = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (type.isInstance(entry.resource)) {
+                result.add(type.cast(entry.resource));
+            }
+        }
+        return result;
     }
-    
+
     /**
      * Gets all cached resource paths.
-     * 
+     *
      * @return Set of all cached paths
      */
-    public Set<String> getPaths() {
-        return new HashSet<>(cache.keySet());
+    public synchronized Set<String> getPaths() {
+        return new HashSet<>(entries.keySet());
     }
-    
+
     /**
-     * Removes a resource from the cache.
-     * 
+     * Removes a resource from the cache without disposing it.
+     *
      * @param path Resource path
      * @return The removed resource, or null if not found
      */
-    public Object remove(String path) {
-        return cache.remove(path);
+    public synchronized Object remove(String path) {
+        Entry entry = entries.remove(path);
+        if (entry == null) {
+            return null;
+        }
+        totalWeight -= entry.weight;
+        return entry.resource;
     }
-    
+
     /**
-     * Clears all cached resources.
+     * Clears all cached resources without disposing them.
      */
-    public void clear() {
-        cache.clear();
+    public synchronized void clear() {
+        entries.clear();
+        totalWeight = 0;
         stats.reset();
     }
-    
+
     /**
      * Gets the current cache size.
-     * 
+     *
      * @return Number of cached resources
      */
-    public int size() {
-        return cache.size();
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the summed weight of all cached resources.
+     *
+     * @return Total weight in bytes
+     */
+    public synchronized long getTotalWeight() {
+        return totalWeight;
     }
-    
+
     /**
      * Gets the maximum cache size.
-     * 
+     *
      * @return Maximum number of resources that can be cached
      */
-    public int getMaxSize() {
+    public synchronized int getMaxSize() {
         return maxSize;
     }
-    
+
     /**
-     * Sets the maximum cache size.
-     * 
+     * Sets the maximum cache size. Evicts immediately if the cache is now over the limit.
+     *
      * @param maxSize Maximum cache size (0 = unlimited)
      */
     public void setMaxSize(int maxSize) {
-        this.maxSize = maxSize;
+        List<Map.Entry<String, Object>> evicted;
+        synchronized (this) {
+            this.maxSize = maxSize;
+            evicted = trim();
+        }
+        notifyEvicted(evicted);
+    }
+
+    /**
+     * Gets the maximum total weight.
+     *
+     * @return Weight budget in bytes (0 = unlimited)
+     */
+    public synchronized long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Sets the maximum total weight. Evicts immediately if the cache is now over the limit.
+     *
+     * @param maxWeight Weight budget in bytes (0 = unlimited)
+     */
+    public void setMaxWeight(long maxWeight) {
+        List<Map.Entry<String, Object>> evicted;
+        synchronized (this) {
+            this.maxWeight = maxWeight;
+            evicted = trim();
+        }
+        notifyEvicted(evicted);
     }
-    
+
+    /**
+     * Sets the function that estimates a resource's weight in bytes.
+     * Only affects entries put after the call.
+     */
+    public void setWeigher(ToLongFunction<Object> weigher) {
+        this.weigher = weigher != null ? weigher : resource -> 0;
+    }
+
+    /**
+     * Sets the callback invoked for each evicted entry, used to release GPU resources.
+     */
+    public void setEvictionListener(BiConsumer<String, Object> evictionListener) {
+        this.evictionListener = evictionListener != null ? evictionListener : (path, resource) -> {};
+    }
+
     /**
      * Gets cache statistics.
-     * 
+     *
      * @return Cache statistics
      */
     public CacheStats getStats() {
         return stats;
     }
-    
+
+    // ========================================================================
+    // PINNING
+    // ========================================================================
+
+    /**
+     * Pins a path so it is never evicted. Pins are counted: each pin needs a matching
+     * {@link #unpin}. The path does not need to be cached yet.
+     *
+     * @param path Resource path
+     */
+    public synchronized void pin(String path) {
+        pins.merge(path, 1, Integer::sum);
+    }
+
+    /**
+     * Releases one pin on a path.
+     *
+     * @param path Resource path
+     */
+    public void unpin(String path) {
+        List<Map.Entry<String, Object>> evicted;
+        synchronized (this) {
+            Integer count = pins.get(path);
+            if (count == null) {
+                return;
+            }
+            if (count <= 1) {
+                pins.remove(path);
+            } else {
+                pins.put(path, count - 1);
+            }
+            evicted = trim();
+        }
+        notifyEvicted(evicted);
+    }
+
+    /**
+     * Starts a scene scope. Entries accessed from now on are pinned to the incoming scene.
+     * Entries pinned by the outgoing scene stay pinned until {@link #endSceneScope()},
+     * so nothing the outgoing scene uses is evicted while the new one loads.
+     * Calling this while a scope is already open has no effect.
+     */
+    public synchronized void beginSceneScope() {
+        if (scopeOpen) {
+            return;
+        }
+        scopeOpen = true;
+        generation++;
+    }
+
+    /**
+     * Ends the scene scope started by {@link #beginSceneScope()}. Entries only used by
+     * the previous scene become evictable, and the cache is trimmed to its limits.
+     */
+    public void endSceneScope() {
+        List<Map.Entry<String, Object>> evicted;
+        synchronized (this) {
+            if (!scopeOpen) {
+                return;
+            }
+            scopeOpen = false;
+            retainedGeneration = generation;
+            evicted = trim();
+        }
+        notifyEvicted(evicted);
+    }
+
+    /**
+     * Closes a scene scope whose load failed, without ending it. The current scene
+     * keeps its pins, and entries touched during the failed load stay pinned until the
+     * next scene scope ends.
+     */
+    public synchronized void cancelSceneScope() {
+        scopeOpen = false;
+    }
+
+    // ========================================================================
+    // EVICTION
+    // ========================================================================
+
+    private void touch(String path, Entry entry) {
+        entry.generation = Math.max(entry.generation, generation);
+        touchParent(path);
+    }
+
+    private void touchParent(String path) {
+        int hashIndex = path.indexOf(AssetManager.SUB_ASSET_SEPARATOR);
+        if (hashIndex != -1) {
+            Entry parent = entries.get(path.substring(0, hashIndex));
+            if (parent != null) {
+                parent.generation = Math.max(parent.generation, generation);
+            }
+        }
+    }
+
+    private boolean isPinned(String path, Entry entry) {
+        return entry.global
+                || (generation > 0 && entry.generation >= retainedGeneration)
+                || pins.containsKey(path);
+    }
+
+    private boolean overLimit(int size, long weight) {
+        return (maxSize > 0 && size > maxSize) || (maxWeight > 0 && weight > maxWeight);
+    }
+
+    /**
+     * Removes least recently used unpinned entries until the cache is within its limits.
+     * Must hold the lock.
+     *
+     * @return Evicted (path, resource) pairs, to be passed to the listener outside the lock
+     */
+    private List<Map.Entry<String, Object>> trim() {
+        if (!overLimit(entries.size(), totalWeight)) {
+            return List.of();
+        }
+
+        // Pick victims in LRU order without mutating the map during iteration
+        List<String> victims = new ArrayList<>();
+        int size = entries.size();
+        long weight = totalWeight;
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            if (!overLimit(size, weight)) {
+                break;
+            }
+            String path = e.getKey();
+            if (isPinned(path, e.getValue()) || hasPinnedSubAsset(path)) {
+                continue;
+            }
+            victims.add(path);
+            size--;
+            weight -= e.getValue().weight;
+        }
+
+        List<Map.Entry<String, Object>> evicted = new ArrayList<>();
+        for (String path : victims) {
+            evictWithSubAssets(path, evicted);
+        }
+        return evicted;
+    }
+
+    private boolean hasPinnedSubAsset(String parentPath) {
+        if (pins.isEmpty()) {
+            return false;
+        }
+        String prefix = parentPath + AssetManager.SUB_ASSET_SEPARATOR;
+        for (String pinned : pins.keySet()) {
+            if (pinned.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void evictWithSubAssets(String path, List<Map.Entry<String, Object>> evicted) {
+        Entry entry = entries.remove(path);
+        if (entry == null) {
+            return; // Already evicted as a sub-asset of an earlier victim
+        }
+        totalWeight -= entry.weight;
+        evicted.add(Map.entry(path, entry.resource));
+        stats.recordEviction();
+
+        if (path.indexOf(AssetManager.SUB_ASSET_SEPARATOR) == -1) {
+            String prefix = path + AssetManager.SUB_ASSET_SEPARATOR;
+            List<String> subAssets = new ArrayList<>();
+            for (String key : entries.keySet()) {
+                if (key.startsWith(prefix)) {
+                    subAssets.add(key);
+                }
+            }
+            for (String subPath : subAssets) {
+                evictWithSubAssets(subPath, evicted);
+            }
+        }
+    }
+
+    private void notifyEvicted(List<Map.Entry<String, Object>> evicted) {
+        if (evicted.isEmpty()) {
+            return;
+        }
+        BiConsumer<String, Object> listener = evictionListener;
+        for (Map.Entry<String, Object> e : evicted) {
+            try {
+                listener.accept(e.getKey(), e.getValue());
+            } catch (Exception ex) {
+                System.err.println("Failed to release evicted resource '" + e.getKey() + "': " + ex.getMessage());
+            }
+        }
+    }
+
     @Override
     public String toString() {
-        return String.format("ResourceCache[size=%d/%d, %s]", 
-                size(), maxSize, stats);
+        return String.format("ResourceCache[size=%d/%d, weight=%d/%d, %s]",
+                size(), getMaxSize(), getTotalWeight(), getMaxWeight(), stats);
     }
 }
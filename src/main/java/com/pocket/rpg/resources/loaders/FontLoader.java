@@ -158,6 +158,17 @@ public class FontLoader implements AssetLoader<Font> {
         return load(path);
     }
 
+    @Override
+    public long getCacheWeight(Font font) {
+        // Single-channel (GL_RED) glyph atlas
+        return (long) font.getAtlasWidth() * font.getAtlasHeight();
+    }
+
+    @Override
+    public void unload(Font font) {
+        font.destroy();
+    }
+
     /**
      * Gets the font file path for saving.
      * Attempts to make it relative to the JSON file's directory.
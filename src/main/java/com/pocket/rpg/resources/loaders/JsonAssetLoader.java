@@ -6,6 +6,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.pocket.rpg.editor.EditorPanelType;
 import com.pocket.rpg.resources.AssetLoader;
+import com.pocket.rpg.resources.AssetUpload;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -128,9 +129,32 @@ public abstract class JsonAssetLoader<T> implements AssetLoader<T> {
 
     @Override
     public final T load(String path) throws IOException {
+        return build(readJson(path), path);
+    }
+
+    /**
+     * Reads and parses the file on the worker; {@link #fromJson} and {@link #afterLoad}
+     * run on the GL thread, since they may resolve other assets.
+     */
+    @Override
+    public final AssetUpload<T> prepareAsync(String path) throws IOException {
+        JsonObject json = readJson(path);
+        return () -> build(json, path);
+    }
+
+    private JsonObject readJson(String path) throws IOException {
         try {
             String jsonContent = Files.readString(Paths.get(path));
-            JsonObject json = JsonParser.parseString(jsonContent).getAsJsonObject();
+            return JsonParser.parseString(jsonContent).getAsJsonObject();
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Failed to load " + path, e);
+        }
+    }
+
+    private T build(JsonObject json, String path) throws IOException {
+        try {
             T asset = fromJson(json, path);
             afterLoad(asset, path);
             return asset;
@@ -8,6 +8,7 @@ import com.pocket.rpg.resources.AssetLoader;
 import com.pocket.rpg.serialization.GameObjectData;
 import com.pocket.rpg.serialization.SceneData;
 import com.pocket.rpg.serialization.Serializer;
+import com.pocket.rpg.serialization.binary.BinarySceneFormat;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -17,13 +18,18 @@ import java.util.List;
 /**
  * Loader for scene files.
  * Handles both v3 (legacy) and v4 (current) scene formats.
+ * <p>
+ * Scene files are JSON or {@link BinarySceneFormat}, detected from the first bytes, so
+ * a converted scene can replace its JSON file under the same path. Saving always writes JSON.
  */
 public class SceneDataLoader implements AssetLoader<SceneData> {
 
     @Override
     public SceneData load(String path) throws IOException {
-        String jsonContent = new String(Files.readAllBytes(Paths.get(path)));
-        SceneData data = Serializer.fromJson(jsonContent, SceneData.class);
+        byte[] bytes = Files.readAllBytes(Paths.get(path));
+        SceneData data = BinarySceneFormat.isBinary(bytes)
+                ? BinarySceneFormat.read(bytes)
+                : Serializer.fromJson(new String(bytes), SceneData.class);
 
         if (data == null) {
             throw new IOException("Failed to parse scene: " + path);
@@ -9,6 +9,7 @@ import com.pocket.rpg.rendering.resources.SpriteGrid;
 import com.pocket.rpg.rendering.resources.Texture;
 import com.pocket.rpg.resources.AssetLoader;
 import com.pocket.rpg.resources.AssetMetadata;
+import com.pocket.rpg.resources.AssetUpload;
 import com.pocket.rpg.resources.Assets;
 import com.pocket.rpg.resources.EditorCapability;
 import com.pocket.rpg.resources.SpriteMetadata;
@@ -56,30 +57,70 @@ public class SpriteLoader implements AssetLoader<Sprite> {
 
     @Override
     public Sprite load(String path) throws IOException {
-        try {
-            // Load texture directly (path is already fully resolved by AssetManager)
-            Texture texture = new Texture(path);
+        return prepareAsync(path).finish();
+    }
 
-            // Create sprite from texture
-            // Path tracking is handled by AssetManager.resourcePaths
-            Sprite sprite = new Sprite(texture, path);
+    /**
+     * Decodes the image and reads the sprite metadata on the calling thread;
+     * texture upload and sprite setup happen in the returned GL-thread step.
+     */
+    @Override
+    public AssetUpload<Sprite> prepareAsync(String path) throws IOException {
+        Texture.DecodedImage image;
+        SpriteMetadata meta = null;
+        try {
+            // Path is already fully resolved by AssetManager
+            image = Texture.decode(path);
 
-            // Apply metadata if it exists (pivot, ppu override, 9-slice)
+            // Metadata (pivot, ppu override, 9-slice) if it exists
             String relativePath = Assets.getRelativePath(path);
             if (relativePath != null) {
-                SpriteMetadata meta = AssetMetadata.load(relativePath, SpriteMetadata.class);
-                if (meta != null) {
-                    applyMetadata(sprite, texture, meta);
-                    metadataCache.put(sprite, meta);
+                meta = AssetMetadata.load(relativePath, SpriteMetadata.class);
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Failed to load texture for sprite: " + path, e);
+        }
+
+        SpriteMetadata metadata = meta;
+        return () -> {
+            try {
+                Texture texture = new Texture(path, image);
+
+                // Create sprite from texture
+                // Path tracking is handled by AssetManager.resourcePaths
+                Sprite sprite = new Sprite(texture, path);
+
+                if (metadata != null) {
+                    applyMetadata(sprite, texture, metadata);
+                    metadataCache.put(sprite, metadata);
 
                     // For MULTIPLE mode, prepare grid sprite generation (lazy)
                     // Grid sprites are generated on first sub-asset access
                 }
+                return sprite;
+            } catch (RuntimeException e) {
+                throw new IOException("Failed to load texture for sprite: " + path, e);
             }
+        };
+    }
 
-            return sprite;
-        } catch (RuntimeException e) {
-            throw new IOException("Failed to load texture for sprite: " + path, e);
+    @Override
+    public long getCacheWeight(Sprite sprite) {
+        Texture texture = sprite.getTexture();
+        return texture != null ? (long) texture.getWidth() * texture.getHeight() * 4 : 0;
+    }
+
+    /**
+     * Releases the sprite's texture and its grid. Only called for parent sprites
+     * loaded from an image; grid sub-sprites share the parent's texture and are
+     * evicted with it.
+     */
+    @Override
+    public void unload(Sprite sprite) {
+        clearGridCache(sprite);
+        metadataCache.remove(sprite);
+        if (sprite.getTexture() != null) {
+            sprite.getTexture().destroy();
         }
     }
 
@@ -308,6 +349,27 @@ public class SpriteLoader implements AssetLoader<Sprite> {
         return new String[]{".png", ".jpg", ".jpeg", ".bmp", ".tga"};
     }
 
+    /**
+     * Counts grid cells for MULTIPLE mode sprites from the metadata and the image header.
+     */
+    @Override
+    public int getSubAssetCount(String path) {
+        try {
+            String relativePath = Assets.getRelativePath(path);
+            if (relativePath == null || !AssetMetadata.exists(relativePath)) {
+                return 0;
+            }
+            SpriteMetadata meta = AssetMetadata.load(relativePath, SpriteMetadata.class);
+            if (meta == null || !meta.isMultiple() || meta.grid == null) {
+                return 0;
+            }
+            int[] size = Texture.readSize(path);
+            return size != null ? meta.grid.calculateTotalSprites(size[0], size[1]) : 0;
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
     @Override
     public boolean supportsHotReload() {
         return true;
@@ -6,6 +6,7 @@ import com.pocket.rpg.editor.scene.EditorGameObject;
 import com.pocket.rpg.rendering.resources.Sprite;
 import com.pocket.rpg.rendering.resources.Texture;
 import com.pocket.rpg.resources.AssetLoader;
+import com.pocket.rpg.resources.AssetUpload;
 import org.joml.Vector3f;
 
 import java.io.IOException;
@@ -65,6 +66,27 @@ public class TextureLoader implements AssetLoader<Texture> {
         }
     }
 
+    @Override
+    public AssetUpload<Texture> prepareAsync(String path) throws IOException {
+        Texture.DecodedImage image;
+        try {
+            image = Texture.decode(path);
+        } catch (RuntimeException e) {
+            throw new IOException("Failed to load texture: " + path, e);
+        }
+        return () -> new Texture(path, image);
+    }
+
+    @Override
+    public long getCacheWeight(Texture texture) {
+        return (long) texture.getWidth() * texture.getHeight() * 4;
+    }
+
+    @Override
+    public void unload(Texture texture) {
+        texture.destroy();
+    }
+
     /**
      * Creates a 1x1 magenta placeholder texture.
      * Magenta is highly visible and indicates missing texture.
@@ -0,0 +1,190 @@
+package com.pocket.rpg.save;
+
+import com.pocket.rpg.serialization.Serializer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact on-disk save format.
+ * <p>
+ * Layout, one compact JSON document per line:
+ * <pre>
+ * POCKETSAVE/2
+ * {header}          version, saveId, displayName, timestamp, playTime, currentScene
+ * {global}          globalState
+ * {scene section}   one line per scene: {"scene": name, "state": SavedSceneState}
+ * </pre>
+ * The header comes first so slot listings read two lines instead of parsing the
+ * whole file. Scene sections are self-contained strings, which lets
+ * {@link SaveManager} keep the serialized form of unchanged scenes and write
+ * them back without serializing them again.
+ * <p>
+ * Files that do not start with the magic line are read as legacy pretty-printed
+ * {@link SaveData} JSON.
+ */
+final class SaveFile {
+
+    static final String MAGIC = "POCKETSAVE/2";
+
+    private SaveFile() {
+    }
+
+    /**
+     * Save metadata stored on the second line.
+     */
+    static final class Header {
+        int version;
+        String saveId;
+        String displayName;
+        long timestamp;
+        float playTime;
+        String currentScene;
+
+        static Header of(SaveData save) {
+            Header header = new Header();
+            header.version = save.getVersion();
+            header.saveId = save.getSaveId();
+            header.displayName = save.getDisplayName();
+            header.timestamp = save.getTimestamp();
+            header.playTime = save.getPlayTime();
+            header.currentScene = save.getCurrentScene();
+            return header;
+        }
+
+        SaveSlotInfo toSlotInfo(String slotName) {
+            return new SaveSlotInfo(slotName, displayName, timestamp, playTime, currentScene);
+        }
+    }
+
+    private static final class GlobalSection {
+        Map<String, Map<String, Object>> globalState;
+    }
+
+    private static final class SceneSection {
+        String scene;
+        SavedSceneState state;
+    }
+
+    // ========================================================================
+    // WRITING
+    // ========================================================================
+
+    static String headerLine(SaveData save) {
+        return Serializer.toJson(Header.of(save));
+    }
+
+    static String globalLine(SaveData save) {
+        GlobalSection section = new GlobalSection();
+        section.globalState = save.getGlobalState();
+        return Serializer.toJson(section);
+    }
+
+    static String sceneLine(String sceneName, SavedSceneState state) {
+        SceneSection section = new SceneSection();
+        section.scene = sceneName;
+        section.state = state;
+        return Serializer.toJson(section);
+    }
+
+    static String encode(String headerLine, String globalLine, Iterable<String> sceneLines) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append(MAGIC).append('\n');
+        sb.append(headerLine).append('\n');
+        sb.append(globalLine).append('\n');
+        for (String line : sceneLines) {
+            sb.append(line).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes to a temporary sibling file, then renames it over the target so a crash
+     * mid-write never leaves a truncated save behind.
+     */
+    static void writeAtomically(Path target, String content) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.writeString(temp, content, StandardCharsets.UTF_8);
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // ========================================================================
+    // READING
+    // ========================================================================
+
+    /**
+     * Reads only the header of a save file.
+     *
+     * @return The header, or null if the file uses the legacy format
+     */
+    static Header readHeader(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            if (!MAGIC.equals(reader.readLine())) {
+                return null;
+            }
+            String line = reader.readLine();
+            if (line == null) {
+                throw new IOException("Truncated save header: " + path);
+            }
+            return Serializer.fromJson(line, Header.class);
+        }
+    }
+
+    /**
+     * Reads a full save file, in either format.
+     *
+     * @param path        Save file
+     * @param sceneLines  Receives the raw section line of each scene (compact format only)
+     * @return The save data
+     */
+    static SaveData read(Path path, Map<String, String> sceneLines) throws IOException {
+        String content = Files.readString(path, StandardCharsets.UTF_8);
+        if (!content.startsWith(MAGIC + "\n")) {
+            return Serializer.fromJson(content, SaveData.class);
+        }
+
+        String[] lines = content.split("\n");
+        if (lines.length < 3) {
+            throw new IOException("Truncated save file: " + path);
+        }
+
+        Header header = Serializer.fromJson(lines[1], Header.class);
+        SaveData save = new SaveData();
+        save.setVersion(header.version);
+        if (header.saveId != null) {
+            save.setSaveId(header.saveId);
+        }
+        save.setDisplayName(header.displayName);
+        save.setTimestamp(header.timestamp);
+        save.setPlayTime(header.playTime);
+        save.setCurrentScene(header.currentScene);
+
+        GlobalSection global = Serializer.fromJson(lines[2], GlobalSection.class);
+        if (global != null && global.globalState != null) {
+            save.setGlobalState(global.globalState);
+        }
+
+        Map<String, SavedSceneState> sceneStates = new HashMap<>();
+        for (int i = 3; i < lines.length; i++) {
+            String line = lines[i];
+            if (line.isBlank()) continue;
+            SceneSection section = Serializer.fromJson(line, SceneSection.class);
+            if (section == null || section.scene == null || section.state == null) continue;
+            sceneStates.put(section.scene, section.state);
+            sceneLines.put(section.scene, line);
+        }
+        save.setSceneStates(sceneStates);
+        return save;
+    }
+}
@@ -16,6 +16,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Static API for save/load operations.
@@ -25,6 +29,12 @@ import java.util.*;
  * - Per-scene state captures deltas from initial scene files
  * - Only entities with PersistentId are tracked
  * - Only components implementing ISaveable are saved
+ * <p>
+ * Saves use the compact {@link SaveFile} format. State is captured and serialized on
+ * the game thread (only scenes changed since the last save are re-serialized), then
+ * written atomically by a background writer thread. Reads of save files wait for
+ * pending writes, so a save followed by a load always sees the new data. The writer is
+ * a daemon thread: call {@link #shutdown()} before exiting so queued writes land.
  */
 public final class SaveManager {
 
@@ -74,12 +84,44 @@ public final class SaveManager {
      */
     private float sessionPlayTime = 0;
 
+    // ========================================================================
+    // WRITE STATE
+    // ========================================================================
+
+    /**
+     * Single background thread that performs file writes in submission order.
+     */
+    private final ExecutorService writer;
+
+    /**
+     * Most recently submitted write. Writes run in order, so waiting on it waits for all.
+     */
+    private Future<Boolean> lastWrite;
+
+    /**
+     * Serialized section line per scene, reused while the scene is not dirty.
+     * Belongs to {@link #sectionsOwner}; discarded when another SaveData becomes current.
+     */
+    private final Map<String, String> sceneSections = new HashMap<>();
+
+    /**
+     * Scenes whose state changed since their section was serialized.
+     */
+    private final Set<String> dirtyScenes = new HashSet<>();
+
+    private SaveData sectionsOwner;
+
     // ========================================================================
     // INITIALIZATION
     // ========================================================================
 
     private SaveManager(Path savesDirectory) {
         this.savesDirectory = savesDirectory;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "save-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
         ensureDirectoryExists();
     }
 
@@ -95,6 +137,10 @@ public final class SaveManager {
      * Initializes with custom save directory.
      */
     public static void initialize(Path savesDirectory) {
+        if (instance != null) {
+            instance.awaitPendingWrites();
+            instance.writer.shutdown();
+        }
         instance = new SaveManager(savesDirectory);
 
         // Hook into scene lifecycle
@@ -163,9 +209,13 @@ public final class SaveManager {
 
     /**
      * Saves current game state to the specified slot.
+     * <p>
+     * The state is captured immediately; the file is written in the background.
+     * The result only says the write was queued, not that it reached the disk:
+     * use {@link #flush()} to wait for the write and learn whether it succeeded.
      *
      * @param slotName Save slot name (e.g., "slot1", "autosave")
-     * @return true if save succeeded
+     * @return true once the state was captured and the write queued
      */
     public static boolean save(String slotName) {
         return save(slotName, "Save " + slotName);
@@ -173,6 +223,11 @@ public final class SaveManager {
 
     /**
      * Saves with custom display name.
+     * <p>
+     * Like {@link #save(String)}, returns true once the write is queued, not once it is
+     * written. After {@link #shutdown()}, the file is written before returning.
+     *
+     * @return true once the state was captured and the write queued (or written)
      */
     public static boolean save(String slotName, String displayName) {
         if (instance == null) {
@@ -198,16 +253,24 @@ public final class SaveManager {
             if (currentSceneName != null) {
                 SavedSceneState sceneState = captureCurrentSceneState();
                 currentSave.getSceneStates().put(currentSceneName, sceneState);
+                markSceneDirty(currentSceneName);
             }
 
-            // Write to file
-            Path savePath = savesDirectory.resolve(slotName + ".save");
-            String json = Serializer.toPrettyJson(currentSave);
-            Files.writeString(savePath, json);
+            // Serialize on this thread so the writer never touches live game state
+            String content = SaveFile.encode(
+                    SaveFile.headerLine(currentSave),
+                    SaveFile.globalLine(currentSave),
+                    collectSceneSections()
+            );
 
+            Path savePath = savesDirectory.resolve(slotName + ".save");
             sessionPlayTime = 0;  // Reset session timer
 
-            System.out.println("[SaveManager] Saved to: " + savePath);
+            if (writer.isShutdown()) {
+                // Late save during shutdown (e.g. autosave on scene exit): write it now
+                return writeSave(savePath, content);
+            }
+            lastWrite = writer.submit(() -> writeSave(savePath, content));
             return true;
 
         } catch (Exception e) {
@@ -217,6 +280,94 @@ public final class SaveManager {
         }
     }
 
+    /**
+     * Returns the section line of every scene, re-serializing only dirty or unseen scenes.
+     */
+    private List<String> collectSceneSections() {
+        if (sectionsOwner != currentSave) {
+            sceneSections.clear();
+            dirtyScenes.clear();
+            sectionsOwner = currentSave;
+        }
+
+        Map<String, SavedSceneState> states = currentSave.getSceneStates();
+        sceneSections.keySet().retainAll(states.keySet());
+
+        List<String> lines = new ArrayList<>(states.size());
+        for (Map.Entry<String, SavedSceneState> entry : states.entrySet()) {
+            String sceneName = entry.getKey();
+            String line = sceneSections.get(sceneName);
+            if (line == null || dirtyScenes.contains(sceneName)) {
+                line = SaveFile.sceneLine(sceneName, entry.getValue());
+                sceneSections.put(sceneName, line);
+            }
+            lines.add(line);
+        }
+        dirtyScenes.clear();
+        return lines;
+    }
+
+    private void markSceneDirty(String sceneName) {
+        dirtyScenes.add(sceneName);
+    }
+
+    /**
+     * Runs on the writer thread.
+     */
+    private static boolean writeSave(Path savePath, String content) {
+        try {
+            SaveFile.writeAtomically(savePath, content);
+            System.out.println("[SaveManager] Saved to: " + savePath);
+            return true;
+        } catch (IOException e) {
+            System.err.println("[SaveManager] Failed to write save: " + savePath + " - " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Waits for all queued save writes to finish.
+     *
+     * @return true if the last write succeeded (or there was nothing to write)
+     */
+    public static boolean flush() {
+        return instance == null || instance.awaitPendingWrites();
+    }
+
+    /**
+     * Waits for all queued save writes, then stops the writer thread.
+     * <p>
+     * Call on game shutdown and when editor play mode stops. The writer is a daemon
+     * thread, so writes still queued when the JVM exits would be lost. Saves made
+     * afterwards are written on the calling thread.
+     *
+     * @return true if the last write succeeded (or there was nothing to write)
+     */
+    public static boolean shutdown() {
+        if (instance == null) {
+            return true;
+        }
+        boolean written = instance.awaitPendingWrites();
+        instance.writer.shutdown();
+        return written;
+    }
+
+    private boolean awaitPendingWrites() {
+        Future<Boolean> pending = lastWrite;
+        if (pending == null) {
+            return true;
+        }
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            System.err.println("[SaveManager] Save write failed: " + e.getCause());
+            return false;
+        }
+    }
+
     /**
      * Captures state of all saveable entities in current scene.
      */
@@ -293,6 +444,7 @@ public final class SaveManager {
 
     private boolean doLoad(String slotName) {
         try {
+            awaitPendingWrites();
             Path savePath = savesDirectory.resolve(slotName + ".save");
 
             if (!Files.exists(savePath)) {
@@ -300,8 +452,15 @@ public final class SaveManager {
                 return false;
             }
 
-            String json = Files.readString(savePath);
-            currentSave = Serializer.fromJson(json, SaveData.class);
+            Map<String, String> sections = new HashMap<>();
+            SaveData loaded = SaveFile.read(savePath, sections);
+            currentSave = loaded;
+
+            // Unchanged scenes are written back from their loaded section lines
+            sceneSections.clear();
+            sceneSections.putAll(sections);
+            dirtyScenes.clear();
+            sectionsOwner = loaded;
 
             if (currentSave.needsMigration()) {
                 currentSave.migrate();
@@ -457,6 +616,7 @@ public final class SaveManager {
                 .computeIfAbsent(instance.currentSceneName, SavedSceneState::new);
         sceneState.getDestroyedEntities().add(persistentId);
         sceneState.getModifiedEntities().remove(persistentId);
+        instance.markSceneDirty(instance.currentSceneName);
     }
 
     // ========================================================================
@@ -559,6 +719,7 @@ public final class SaveManager {
         SavedSceneState sceneState = instance.currentSave.getSceneStates()
                 .computeIfAbsent(instance.currentSceneName, SavedSceneState::new);
         sceneState.getSceneFlags().put(key, value);
+        instance.markSceneDirty(instance.currentSceneName);
     }
 
     /**
@@ -585,10 +746,13 @@ public final class SaveManager {
 
     /**
      * Lists available save slots.
+     * <p>
+     * Only the header of each file is read; legacy saves are fully parsed.
      */
     public static List<SaveSlotInfo> listSaves() {
         if (instance == null) return List.of();
 
+        instance.awaitPendingWrites();
         List<SaveSlotInfo> saves = new ArrayList<>();
 
         try (DirectoryStream<Path> stream = Files.newDirectoryStream(
@@ -596,12 +760,18 @@ public final class SaveManager {
 
             for (Path path : stream) {
                 try {
-                    String json = Files.readString(path);
-                    SaveData data = Serializer.fromJson(json, SaveData.class);
-
                     String slotName = path.getFileName().toString()
                             .replace(".save", "");
 
+                    SaveFile.Header header = SaveFile.readHeader(path);
+                    if (header != null) {
+                        saves.add(header.toSlotInfo(slotName));
+                        continue;
+                    }
+
+                    String json = Files.readString(path);
+                    SaveData data = Serializer.fromJson(json, SaveData.class);
+
                     saves.add(new SaveSlotInfo(
                             slotName,
                             data.getDisplayName(),
@@ -628,6 +798,7 @@ public final class SaveManager {
     public static boolean deleteSave(String slotName) {
         if (instance == null) return false;
 
+        instance.awaitPendingWrites();
         try {
             Path savePath = instance.savesDirectory.resolve(slotName + ".save");
             return Files.deleteIfExists(savePath);
@@ -642,6 +813,7 @@ public final class SaveManager {
      */
     public static boolean saveExists(String slotName) {
         if (instance == null) return false;
+        instance.awaitPendingWrites();
         return Files.exists(instance.savesDirectory.resolve(slotName + ".save"));
     }
 
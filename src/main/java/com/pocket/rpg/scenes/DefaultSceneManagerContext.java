@@ -5,12 +5,15 @@ import com.pocket.rpg.config.RenderingConfig;
 import com.pocket.rpg.core.GameObject;
 import com.pocket.rpg.core.camera.GameCamera;
 import com.pocket.rpg.core.window.ViewportConfig;
+import com.pocket.rpg.resources.Assets;
 import com.pocket.rpg.save.SaveManager;
 import com.pocket.rpg.serialization.SceneData;
 import com.pocket.rpg.ui.ComponentKeyRegistry;
 import lombok.Getter;
 import lombok.NonNull;
 
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -92,13 +95,22 @@ public class DefaultSceneManagerContext implements SceneManagerContext {
     public void loadScene(String sceneName) {
         ComponentKeyRegistry.clear();
 
-        Scene scene = scenes.get(sceneName);
+        // Pin assets resolved while loading the scene file to the incoming scene
+        Assets.beginSceneScope();
 
-        if (scene == null && sceneLoader != null) {
-            scene = loadSceneFromFile(sceneName);
+        Scene scene;
+        try {
+            scene = scenes.get(sceneName);
+            if (scene == null && sceneLoader != null) {
+                scene = loadSceneFromFile(sceneName);
+            }
+        } catch (RuntimeException e) {
+            Assets.cancelSceneScope();
+            throw e;
         }
 
         if (scene == null) {
+            Assets.cancelSceneScope();
             System.err.println("Scene not found: " + sceneName);
             return;
         }
@@ -119,35 +131,58 @@ public class DefaultSceneManagerContext implements SceneManagerContext {
     }
 
     private void loadSceneInternal(Scene scene, String spawnId) {
-        if (currentScene != null) {
-            currentScene.notifyBeforeUnload();
-            currentScene.destroy();
-            fireSceneUnloaded(currentScene);
-            activeScene = null;
-        }
+        Assets.beginSceneScope();
+        try {
+            if (currentScene != null) {
+                currentScene.notifyBeforeUnload();
+                currentScene.destroy();
+                fireSceneUnloaded(currentScene);
+                activeScene = null;
+            }
 
-        currentScene = scene;
-        activeScene = scene;
+            currentScene = scene;
+            activeScene = scene;
 
-        currentScene.initialize(viewportConfig, renderingConfig);
+            currentScene.initialize(viewportConfig, renderingConfig);
 
-        if (scene instanceof RuntimeScene runtimeScene) {
-            applyCameraData(runtimeScene);
-        }
+            if (scene instanceof RuntimeScene runtimeScene) {
+                applyCameraData(runtimeScene);
+            }
 
-        firePostSceneInitialize(currentScene);
-        fireSceneLoaded(currentScene);
+            firePostSceneInitialize(currentScene);
+            fireSceneLoaded(currentScene);
+        } finally {
+            // Assets only the previous scene used become evictable
+            Assets.endSceneScope();
+        }
 
         System.out.println("Loaded scene: " + scene.getName());
     }
 
-    private Scene loadSceneFromFile(String sceneName) {
-        String[] pathsToTry = {
+    @Override
+    public void prefetchScene(String sceneName) {
+        if (sceneLoader == null || scenes.containsKey(sceneName)) {
+            return;
+        }
+        for (String path : scenePathCandidates(sceneName)) {
+            if (Files.isRegularFile(Paths.get(path))) {
+                sceneLoader.prefetch(path);
+                return;
+            }
+        }
+    }
+
+    private String[] scenePathCandidates(String sceneName) {
+        return new String[]{
                 scenesBasePath + sceneName + ".scene",
                 scenesBasePath + sceneName,
                 sceneName + ".scene",
                 sceneName
         };
+    }
+
+    private Scene loadSceneFromFile(String sceneName) {
+        String[] pathsToTry = scenePathCandidates(sceneName);
 
         for (String path : pathsToTry) {
             try {
@@ -77,18 +77,51 @@ public class RuntimeSceneLoader {
     /**
      * Loads a RuntimeScene from a file path.
      * Uses LoadOptions.rawUncached() to bypass asset root prepending and avoid cached stale state.
+     * <p>
+     * If a cached {@link SceneManifest} exists, its assets are streamed in parallel before
+     * the scene file is parsed. Otherwise the manifest is built after parsing and written
+     * to the manifest cache for the next load.
+     * <p>
+     * The file may be JSON or binary ({@link com.pocket.rpg.serialization.binary.BinarySceneFormat});
+     * the format is detected from its header. Binary tilemaps decode chunks as they become visible.
      *
      * @param scenePath Path to .scene file (e.g., "gameData/scenes/Test.scene")
      * @return Uninitialized RuntimeScene
      */
     public RuntimeScene loadFromPath(String scenePath) {
+        SceneManifest manifest = SceneManifest.readCached(scenePath);
+        if (manifest != null) {
+            SceneManifest.awaitAll(manifest.prefetch());
+        }
+
         SceneData data = Assets.load(scenePath, LoadOptions.rawUncached());
         if (data == null) {
             throw new RuntimeException("Failed to load scene from path: " + scenePath);
         }
+
+        if (manifest == null) {
+            SceneManifest.fromSceneData(data).writeCached(scenePath);
+        }
         return load(data);
     }
 
+    /**
+     * Starts streaming the assets of a scene without loading it, so a later
+     * {@link #loadFromPath(String)} finds them cached. Used by scene transitions
+     * to overlap asset loading with the fade-out.
+     *
+     * @param scenePath Path to .scene file
+     * @return True if the scene had a cached manifest to prefetch from
+     */
+    public boolean prefetch(String scenePath) {
+        SceneManifest manifest = SceneManifest.readCached(scenePath);
+        if (manifest == null) {
+            return false;
+        }
+        manifest.prefetch();
+        return true;
+    }
+
     // ========================================================================
     // GAMEOBJECT LOADING WITH HIERARCHY
     // ========================================================================
@@ -484,23 +517,9 @@ public class RuntimeSceneLoader {
 
     /**
      * Copies tile data from source to destination tilemap.
+     * Chunks the source has not decoded yet stay encoded in the destination.
      */
     private void copyTilemapData(TilemapRenderer source, TilemapRenderer dest) {
-        for (Long chunkKey : source.chunkKeys()) {
-            int cx = TilemapRenderer.chunkKeyToX(chunkKey);
-            int cy = TilemapRenderer.chunkKeyToY(chunkKey);
-            TilemapRenderer.TileChunk chunk = source.getChunk(cx, cy);
-
-            for (int tx = 0; tx < TilemapRenderer.TileChunk.CHUNK_SIZE; tx++) {
-                for (int ty = 0; ty < TilemapRenderer.TileChunk.CHUNK_SIZE; ty++) {
-                    TilemapRenderer.Tile tile = chunk.get(tx, ty);
-                    if (tile != null) {
-                        int worldTx = cx * TilemapRenderer.TileChunk.CHUNK_SIZE + tx;
-                        int worldTy = cy * TilemapRenderer.TileChunk.CHUNK_SIZE + ty;
-                        dest.set(worldTx, worldTy, tile);
-                    }
-                }
-            }
-        }
+        dest.copyTilesFrom(source);
     }
 }
\ No newline at end of file
@@ -15,15 +15,18 @@ import com.pocket.rpg.config.RenderingConfig;
 import com.pocket.rpg.ui.ComponentKeyRegistry;
 import com.pocket.rpg.core.camera.GameCamera;
 import com.pocket.rpg.core.GameObject;
+import com.pocket.rpg.core.HierarchyVersion;
 import com.pocket.rpg.core.window.ViewportConfig;
 import com.pocket.rpg.rendering.core.Renderable;
 import com.pocket.rpg.serialization.ComponentReferenceResolver;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
 
 /**
  * Scene holds and manages GameObjects.
@@ -42,7 +45,8 @@ public abstract class Scene {
     @Getter
     private ViewportConfig viewportConfig;
 
-    private final CopyOnWriteArrayList<GameObject> gameObjects;
+    // Root GameObjects; drives update/lateUpdate without per-object list scans
+    private final SceneUpdateScheduler gameObjects;
 
     // Cached renderables for quick access (sorted by zIndex)
     private final List<Renderable> renderables;
@@ -66,11 +70,18 @@ public abstract class Scene {
     @Getter
     private final TriggerSystem triggerSystem;
 
+    // getComponentsImplementing() results by type, valid while both versions match.
+    // Root objects adopt hierarchyVersion, so only changes inside this scene invalidate.
+    private final HierarchyVersion hierarchyVersion = new HierarchyVersion();
+    private final Map<Class<?>, List<?>> componentQueryCache = new HashMap<>();
+    private int componentQuerySceneVersion = -1;
+    private int componentQueryHierarchyVersion = -1;
+
     private boolean initialized = false;
 
     public Scene(String name) {
         this.name = name;
-        this.gameObjects = new CopyOnWriteArrayList<>();
+        this.gameObjects = new SceneUpdateScheduler();
         this.renderables = new ArrayList<>();
         this.uiCanvases = new ArrayList<>();
 
@@ -115,7 +126,7 @@ public abstract class Scene {
         }
 
         // Search GameObjects for SpawnPoint components (recursively)
-        for (GameObject obj : gameObjects) {
+        for (GameObject obj : gameObjects.view()) {
             TileCoord found = findSpawnPointRecursive(obj, spawnId);
             if (found != null) {
                 return found;
@@ -222,11 +233,12 @@ public abstract class Scene {
         onLoad();
 
         // Resolve all @ComponentReference annotations (hierarchy + key in single pass)
-        for (GameObject go : gameObjects) {
+        GameObject[] loaded = gameObjects.toArray();
+        for (GameObject go : loaded) {
             ComponentReferenceResolver.resolveAll(go);
         }
 
-        for (GameObject go : gameObjects) {
+        for (GameObject go : loaded) {
             go.start();
         }
     }
@@ -249,21 +261,8 @@ public abstract class Scene {
             renderableSortDirty = false;
         }
 
-        // Phase 1: Regular update
-        for (GameObject gameObject : gameObjects) {
-            if (!gameObjects.contains(gameObject)) continue;
-            if (gameObject.isEnabled()) {
-                gameObject.update(deltaTime);
-            }
-        }
-
-        // Phase 2: Late update
-        for (GameObject gameObject : gameObjects) {
-            if (!gameObjects.contains(gameObject)) continue;
-            if (gameObject.isEnabled()) {
-                gameObject.lateUpdate(deltaTime);
-            }
-        }
+        // Phase 1: Regular update, Phase 2: Late update
+        gameObjects.update(deltaTime);
     }
 
     /**
@@ -272,7 +271,7 @@ public abstract class Scene {
      * prevent others from being notified.
      */
     public void notifyBeforeUnload() {
-        for (GameObject go : new ArrayList<>(gameObjects)) {
+        for (GameObject go : gameObjects.toArray()) {
             notifyBeforeUnloadRecursive(go);
         }
     }
@@ -289,8 +288,7 @@ public abstract class Scene {
     public void destroy() {
         onUnload();
 
-        List<GameObject> gameObjectsToDestroy = new ArrayList<>(gameObjects);
-        for (GameObject gameObject : gameObjectsToDestroy) {
+        for (GameObject gameObject : gameObjects.toArray()) {
             gameObject.destroy();
         }
 
@@ -312,13 +310,13 @@ public abstract class Scene {
     // ===========================================
 
     public void addGameObject(GameObject obj) {
-        if (gameObjects.contains(obj)) {
+        if (!gameObjects.add(obj)) {
             throw new IllegalStateException(
                     "GameObject '" + obj.getName() + "' already belongs to this scene"
             );
         }
+        obj.setHierarchyVersion(hierarchyVersion);
 
-        gameObjects.add(obj);
         registerCachedComponents(obj);
 
         if (initialized) {
@@ -345,8 +343,15 @@ public abstract class Scene {
         }
     }
 
+    /**
+     * Returns true if the GameObject is a root object of this scene. O(1).
+     */
+    public boolean containsGameObject(GameObject obj) {
+        return gameObjects.contains(obj);
+    }
+
     public GameObject findGameObject(String name) {
-        for (GameObject go : gameObjects) {
+        for (GameObject go : gameObjects.view()) {
             if (go.getName().equals(name)) {
                 return go;
             }
@@ -362,7 +367,7 @@ public abstract class Scene {
      * @return the owning GameObject, or null if not found
      */
     public <T extends Component> GameObject findGameObjectByComponent(Class<T> componentType) {
-        for (GameObject go : gameObjects) {
+        for (GameObject go : gameObjects.view()) {
             GameObject found = findGameObjectByComponentRecursive(go, componentType);
             if (found != null) return found;
         }
@@ -381,31 +386,47 @@ public abstract class Scene {
     }
 
     public List<GameObject> getGameObjects() {
-        return new ArrayList<>(gameObjects);
+        return new ArrayList<>(gameObjects.view());
     }
 
     /**
      * Finds all components across all GameObjects (including children) that implement the given interface or extend the given class.
      * Useful for querying by interface (e.g. IPausable) or by concrete component type.
+     * <p>
+     * Results are indexed by type and only recomputed after the scene's hierarchy or any
+     * component list changes, so repeated queries in a stable scene do not walk the hierarchy.
      *
      * @param type The interface or class to match against
-     * @return List of matching components (empty list if none found, never null)
+     * @return Read-only list of matching components (empty list if none found, never null)
      */
     @SuppressWarnings("unchecked")
     public <T> List<T> getComponentsImplementing(Class<T> type) {
-        List<T> result = new ArrayList<>();
-        for (GameObject go : gameObjects) {
-            collectComponentsImplementing(go, type, result);
+        int sceneVersion = gameObjects.version();
+        int objectsVersion = hierarchyVersion.get();
+        if (sceneVersion != componentQuerySceneVersion || objectsVersion != componentQueryHierarchyVersion) {
+            componentQueryCache.clear();
+            componentQuerySceneVersion = sceneVersion;
+            componentQueryHierarchyVersion = objectsVersion;
+        }
+
+        List<?> cached = componentQueryCache.get(type);
+        if (cached == null) {
+            List<T> result = new ArrayList<>();
+            for (GameObject go : gameObjects.view()) {
+                collectComponentsImplementing(go, type, result);
+            }
+            cached = Collections.unmodifiableList(result);
+            componentQueryCache.put(type, cached);
         }
-        return result;
+        return (List<T>) cached;
     }
 
     private <T> void collectComponentsImplementing(GameObject go, Class<T> type, List<T> result) {
-        for (Component component : go.getAllComponents()) {
+        go.forEachComponent(component -> {
             if (type.isInstance(component)) {
                 result.add(type.cast(component));
             }
-        }
+        });
         for (GameObject child : go.getChildren()) {
             collectComponentsImplementing(child, type, result);
         }
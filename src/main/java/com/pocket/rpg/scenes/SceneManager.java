@@ -64,6 +64,12 @@ public class SceneManager {
         getContext().loadScene(scene);
     }
 
+    public static void prefetchScene(String sceneName) {
+        if (context != null) {
+            context.prefetchScene(sceneName);
+        }
+    }
+
     public static void update(float deltaTime) {
         getContext().update(deltaTime);
     }
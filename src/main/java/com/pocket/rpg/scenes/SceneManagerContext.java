@@ -29,6 +29,15 @@ public interface SceneManagerContext {
 
     void loadScene(Scene scene);
 
+    /**
+     * Starts streaming a scene's assets ahead of {@link #loadScene(String)}.
+     * Does nothing by default or when the scene has no cached manifest.
+     *
+     * @param sceneName Scene name, resolved like {@link #loadScene(String)}
+     */
+    default void prefetchScene(String sceneName) {
+    }
+
     void update(float deltaTime);
 
     void destroy();
@@ -0,0 +1,407 @@
+package com.pocket.rpg.scenes;
+
+import com.pocket.rpg.components.Component;
+import com.pocket.rpg.components.rendering.TilemapRenderer;
+import com.pocket.rpg.prefab.JsonPrefab;
+import com.pocket.rpg.resources.AssetHandle;
+import com.pocket.rpg.resources.AssetManager;
+import com.pocket.rpg.resources.Assets;
+import com.pocket.rpg.serialization.ComponentMeta;
+import com.pocket.rpg.serialization.ComponentReflectionUtils;
+import com.pocket.rpg.serialization.FieldMeta;
+import com.pocket.rpg.serialization.GameObjectData;
+import com.pocket.rpg.serialization.SceneData;
+import com.pocket.rpg.serialization.Serializer;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * List of assets a scene depends on, used to prefetch them before the scene is built.
+ * <p>
+ * Scene files resolve asset references while they are parsed, so loads are interleaved
+ * with object construction and happen one at a time. The manifest is built from a parsed
+ * {@link SceneData} (component fields, tilemap sprites, prefabs and their contents,
+ * override values) and cached under the gitignored {@value #DEFAULT_CACHE_DIR}, keyed by
+ * scene path, so scene folders stay clean. On the next load the assets it lists are
+ * streamed in parallel through
+ * {@link Assets#loadAsync(String, Class)} before the scene file is parsed.
+ * <p>
+ * A cached manifest older than its scene file, or than any prefab the scene uses, is
+ * ignored and rebuilt: editing a prefab can add dependencies without touching the scene.
+ * Sub-asset references are recorded as their parent path: decoding the parent is the
+ * expensive part, extracting a sprite from it is not.
+ */
+public class SceneManifest {
+
+    /** Default cache directory, relative to working directory. */
+    public static final String DEFAULT_CACHE_DIR = "gameData/.cache/manifests/";
+
+    /** Suffix of cached manifest files. */
+    public static final String FILE_SUFFIX = ".manifest";
+
+    // Version 2 added the prefab list
+    private static final int FORMAT_VERSION = 2;
+
+    /** How long {@link #awaitAll} waits before leaving the remaining assets to the scene load. */
+    private static final long AWAIT_TIMEOUT_SECONDS = 30;
+
+    private int version = FORMAT_VERSION;
+
+    /**
+     * Asset paths in discovery order, without duplicates.
+     */
+    @Getter
+    private List<String> assets = new ArrayList<>();
+
+    /**
+     * Prefab paths the scene uses, directly or through other prefabs. Their modification
+     * times are part of the staleness check.
+     */
+    @Getter
+    private List<String> prefabs = new ArrayList<>();
+
+    public SceneManifest() {
+    }
+
+    public SceneManifest(Collection<String> assets) {
+        this(assets, List.of());
+    }
+
+    public SceneManifest(Collection<String> assets, Collection<String> prefabs) {
+        this.assets = new ArrayList<>(assets);
+        this.prefabs = new ArrayList<>(prefabs);
+    }
+
+    // ========================================================================
+    // BUILDING
+    // ========================================================================
+
+    /**
+     * Builds the manifest of a parsed scene.
+     * <p>
+     * Asset references are resolved through {@link Assets#getPathForResource(Object)},
+     * so this must run after the scene data has been deserialized.
+     *
+     * @param data Parsed scene data
+     * @return Manifest listing every asset the scene references
+     */
+    public static SceneManifest fromSceneData(SceneData data) {
+        Set<String> paths = new LinkedHashSet<>();
+        Set<String> visitedPrefabs = new LinkedHashSet<>();
+        if (data.getGameObjects() != null) {
+            for (GameObjectData goData : data.getGameObjects()) {
+                collectGameObject(goData, paths, visitedPrefabs);
+            }
+        }
+        return new SceneManifest(paths, visitedPrefabs);
+    }
+
+    private static void collectGameObject(GameObjectData goData, Set<String> paths, Set<String> visitedPrefabs) {
+        if (goData.getComponents() != null) {
+            for (Component component : goData.getComponents()) {
+                collectComponent(component, paths);
+            }
+        }
+
+        String prefabPath = goData.getPrefab();
+        if (prefabPath != null && !prefabPath.isEmpty()) {
+            collectPrefab(prefabPath, paths, visitedPrefabs);
+        }
+
+        collectOverrides(goData.getComponentOverrides(), paths);
+        if (goData.getChildOverrides() != null) {
+            for (GameObjectData.ChildNodeOverrides child : goData.getChildOverrides().values()) {
+                collectOverrides(child.getComponentOverrides(), paths);
+            }
+        }
+
+        if (goData.getChildren() != null) {
+            for (GameObjectData child : goData.getChildren()) {
+                collectGameObject(child, paths, visitedPrefabs);
+            }
+        }
+    }
+
+    /**
+     * Adds a prefab's own dependencies ahead of the prefab, so they are decoded in
+     * parallel rather than while the prefab is being built.
+     */
+    private static void collectPrefab(String prefabPath, Set<String> paths, Set<String> visitedPrefabs) {
+        if (!visitedPrefabs.add(prefabPath)) {
+            return;
+        }
+
+        try {
+            JsonPrefab prefab = Assets.load(prefabPath, JsonPrefab.class);
+            if (prefab != null && prefab.getGameObjects() != null) {
+                for (GameObjectData node : prefab.getGameObjects()) {
+                    collectGameObject(node, paths, visitedPrefabs);
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Could not scan prefab '" + prefabPath + "' for dependencies: " + e.getMessage());
+        }
+        paths.add(prefabPath);
+    }
+
+    private static void collectComponent(Component component, Set<String> paths) {
+        if (component == null) {
+            return;
+        }
+
+        if (component instanceof TilemapRenderer tilemap) {
+            collectTilemap(tilemap, paths);
+            return;
+        }
+
+        ComponentMeta meta = ComponentReflectionUtils.getMeta(component);
+        if (meta == null) {
+            return;
+        }
+
+        for (FieldMeta fieldMeta : meta.fields()) {
+            if (fieldMeta.field().getType().isPrimitive()) {
+                continue;
+            }
+            Object value = readField(fieldMeta, component);
+            if (value instanceof Collection<?> collection) {
+                for (Object element : collection) {
+                    collectValue(element, paths);
+                }
+            } else {
+                collectValue(value, paths);
+            }
+        }
+    }
+
+    private static void collectTilemap(TilemapRenderer tilemap, Set<String> paths) {
+        // Palettes of encoded chunks are enough; collecting must not force a decode
+        for (TilemapRenderer.Tile tile : tilemap.getUsedTiles()) {
+            collectValue(tile.sprite(), paths);
+        }
+    }
+
+    private static void collectOverrides(Map<String, Map<String, Object>> overrides, Set<String> paths) {
+        if (overrides == null) {
+            return;
+        }
+        for (Map<String, Object> fields : overrides.values()) {
+            if (fields == null) continue;
+            for (Object value : fields.values()) {
+                collectValue(value, paths);
+            }
+        }
+    }
+
+    private static void collectValue(Object value, Set<String> paths) {
+        if (value == null) {
+            return;
+        }
+
+        String path;
+        if (value instanceof String string) {
+            // Plain strings count only when they look like an asset path
+            path = Assets.getTypeForPath(stripSubAsset(string)) != null ? string : null;
+        } else {
+            path = Assets.getPathForResource(value);
+        }
+
+        if (path != null && !path.isEmpty()) {
+            paths.add(stripSubAsset(path));
+        }
+    }
+
+    private static String stripSubAsset(String path) {
+        int hashIndex = path.indexOf(AssetManager.SUB_ASSET_SEPARATOR);
+        return hashIndex != -1 ? path.substring(0, hashIndex) : path;
+    }
+
+    private static Object readField(FieldMeta fieldMeta, Component component) {
+        try {
+            return fieldMeta.accessor().get(component);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // ========================================================================
+    // PREFETCHING
+    // ========================================================================
+
+    /**
+     * Starts streaming every listed asset. Returns immediately; the assets arrive as
+     * {@link Assets#processUploads()} runs. Must be called on the GL thread.
+     *
+     * @return One handle per asset that could be requested
+     */
+    public List<AssetHandle<?>> prefetch() {
+        List<AssetHandle<?>> handles = new ArrayList<>(assets.size());
+        for (String path : assets) {
+            try {
+                handles.add(Assets.loadAsync(path));
+            } catch (Exception e) {
+                System.err.println("Skipping prefetch of '" + path + "': " + e.getMessage());
+            }
+        }
+        return handles;
+    }
+
+    /**
+     * Blocks the GL thread until every handle is done, processing uploads without a budget
+     * as they arrive and parking while the workers are still decoding.
+     * <p>
+     * Gives up after {@value #AWAIT_TIMEOUT_SECONDS} seconds; assets still loading are
+     * then loaded synchronously by the scene itself.
+     *
+     * @param handles Handles returned by {@link #prefetch()}
+     */
+    public static void awaitAll(List<AssetHandle<?>> handles) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(AWAIT_TIMEOUT_SECONDS);
+        for (AssetHandle<?> handle : handles) {
+            while (!handle.isDone()) {
+                if (Assets.processUploads(Long.MAX_VALUE) > 0) {
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    System.err.println("Timed out waiting for prefetched asset '" + handle.getPath() + "'");
+                    return;
+                }
+                Assets.awaitUploads(remaining);
+            }
+        }
+    }
+
+    // ========================================================================
+    // CACHE FILE
+    // ========================================================================
+
+    /**
+     * Returns the cached manifest path for a scene file in the default cache directory.
+     */
+    public static Path manifestPath(String scenePath) {
+        return manifestPath(scenePath, Paths.get(DEFAULT_CACHE_DIR));
+    }
+
+    /**
+     * Returns the cached manifest path for a scene file.
+     * The name is the scene file name plus a hash of its absolute path, so scenes
+     * with the same name in different folders don't share a manifest.
+     *
+     * @param scenePath Path to the .scene file
+     * @param cacheDir  Manifest cache directory
+     */
+    public static Path manifestPath(String scenePath, Path cacheDir) {
+        Path scene = Paths.get(scenePath).toAbsolutePath().normalize();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] hash = digest.digest(scene.toString().getBytes(StandardCharsets.UTF_8));
+            String key = HexFormat.of().formatHex(hash, 0, 8);
+            return cacheDir.resolve(scene.getFileName() + "-" + key + FILE_SUFFIX);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+
+    /**
+     * Reads the cached manifest of a scene from the default cache directory.
+     *
+     * @param scenePath Path to the .scene file
+     * @return The manifest, or null if missing, unreadable or stale
+     */
+    public static SceneManifest readCached(String scenePath) {
+        return readCached(scenePath, Paths.get(DEFAULT_CACHE_DIR));
+    }
+
+    /**
+     * Reads the cached manifest of a scene, resolving prefabs against the asset root.
+     *
+     * @param scenePath Path to the .scene file
+     * @param cacheDir  Manifest cache directory
+     * @return The manifest, or null if missing, unreadable or stale
+     */
+    public static SceneManifest readCached(String scenePath, Path cacheDir) {
+        return readCached(scenePath, cacheDir, Paths.get(Assets.getAssetRoot()));
+    }
+
+    /**
+     * Reads the cached manifest of a scene.
+     *
+     * @param scenePath Path to the .scene file
+     * @param cacheDir  Manifest cache directory
+     * @param assetRoot Directory the manifest's prefab paths are relative to
+     * @return The manifest, or null if missing, unreadable, or older than the scene file
+     *         or any of its prefabs (a missing prefab also counts as stale)
+     */
+    public static SceneManifest readCached(String scenePath, Path cacheDir, Path assetRoot) {
+        Path manifestFile = manifestPath(scenePath, cacheDir);
+        Path sceneFile = Paths.get(scenePath);
+        try {
+            if (!Files.isRegularFile(manifestFile) || !Files.isRegularFile(sceneFile)) {
+                return null;
+            }
+            FileTime written = Files.getLastModifiedTime(manifestFile);
+            if (written.compareTo(Files.getLastModifiedTime(sceneFile)) < 0) {
+                return null;
+            }
+            SceneManifest manifest = Serializer.fromJson(Files.readString(manifestFile), SceneManifest.class);
+            if (manifest == null || manifest.version != FORMAT_VERSION
+                    || manifest.assets == null || manifest.prefabs == null) {
+                return null;
+            }
+            for (String prefab : manifest.prefabs) {
+                Path prefabFile = assetRoot.resolve(prefab);
+                if (!Files.isRegularFile(prefabFile)
+                        || written.compareTo(Files.getLastModifiedTime(prefabFile)) < 0) {
+                    return null;
+                }
+            }
+            return manifest;
+        } catch (Exception e) {
+            System.err.println("Ignoring unreadable scene manifest '" + manifestFile + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes this manifest to the default cache directory. Failures are logged and
+     * ignored: the manifest is only an optimization.
+     *
+     * @param scenePath Path to the .scene file
+     */
+    public void writeCached(String scenePath) {
+        writeCached(scenePath, Paths.get(DEFAULT_CACHE_DIR));
+    }
+
+    /**
+     * Writes this manifest to a cache directory, creating it if needed.
+     *
+     * @param scenePath Path to the .scene file
+     * @param cacheDir  Manifest cache directory
+     */
+    public void writeCached(String scenePath, Path cacheDir) {
+        Path manifestFile = manifestPath(scenePath, cacheDir);
+        try {
+            Files.createDirectories(cacheDir);
+            Files.writeString(manifestFile, Serializer.toPrettyJson(this));
+        } catch (IOException e) {
+            System.err.println("Could not write scene manifest '" + manifestFile + "': " + e.getMessage());
+        }
+    }
+}
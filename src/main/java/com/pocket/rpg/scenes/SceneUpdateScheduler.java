@@ -0,0 +1,182 @@
+package com.pocket.rpg.scenes;
+
+import com.pocket.rpg.core.GameObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Owns a scene's root GameObjects and drives their update phases.
+ * <p>
+ * Structural changes (add/remove) apply to the live list immediately, so lookups always
+ * see the current state. Update phases instead iterate a stable array snapshot that is
+ * only rebuilt at a phase boundary, and only if the structure changed since the last one:
+ * <ul>
+ *   <li>Objects added during a phase are picked up by the next phase.</li>
+ *   <li>Objects removed during a phase are recorded as pending removals and skipped for
+ *       the rest of that phase. The pending set is empty on almost every frame, in which
+ *       case the per-object check is a single {@code isEmpty()}.</li>
+ * </ul>
+ * This replaces a per-object {@code List.contains} scan, which made each frame O(n²).
+ */
+final class SceneUpdateScheduler {
+
+    private final List<GameObject> objects = new ArrayList<>();
+    private final List<GameObject> objectsView = Collections.unmodifiableList(objects);
+    private final Set<GameObject> members = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    // Stable iteration snapshot, rebuilt at phase boundaries when structure changed
+    private GameObject[] snapshot = new GameObject[16];
+    private int snapshotSize;
+    private boolean structureChanged = true;
+    private int version;
+
+    // Objects removed while a phase is running
+    private final Set<GameObject> pendingRemovals = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean inPhase;
+
+    /**
+     * Adds an object.
+     *
+     * @return false if the object was already scheduled
+     */
+    boolean add(GameObject gameObject) {
+        if (!members.add(gameObject)) {
+            return false;
+        }
+        objects.add(gameObject);
+        pendingRemovals.remove(gameObject);
+        structureChanged = true;
+        version++;
+        return true;
+    }
+
+    /**
+     * Removes an object. If a phase is running, the object is skipped for the rest of it.
+     *
+     * @return false if the object was not scheduled
+     */
+    boolean remove(GameObject gameObject) {
+        if (!members.remove(gameObject)) {
+            return false;
+        }
+        objects.remove(gameObject);
+        if (inPhase) {
+            pendingRemovals.add(gameObject);
+        }
+        structureChanged = true;
+        version++;
+        return true;
+    }
+
+    boolean contains(GameObject gameObject) {
+        return members.contains(gameObject);
+    }
+
+    /**
+     * Counter bumped on every add, remove or clear.
+     */
+    int version() {
+        return version;
+    }
+
+    int size() {
+        return objects.size();
+    }
+
+    /**
+     * Live, read-only view of the scheduled objects in insertion order.
+     * Do not iterate it while calling code that may add or remove objects.
+     */
+    List<GameObject> view() {
+        return objectsView;
+    }
+
+    /**
+     * Copies the current objects into a new array, safe to iterate while calling
+     * code that may add or remove objects.
+     */
+    GameObject[] toArray() {
+        return objects.toArray(new GameObject[0]);
+    }
+
+    void clear() {
+        objects.clear();
+        members.clear();
+        pendingRemovals.clear();
+        structureChanged = true;
+        version++;
+    }
+
+    // ========================================================================
+    // UPDATE PHASES
+    // ========================================================================
+
+    /**
+     * Runs the update phase then the late-update phase on every enabled object.
+     * A phase that throws still ends, so later add/remove calls are not treated as
+     * happening mid-phase.
+     */
+    void update(float deltaTime) {
+        int count = beginPhase();
+        try {
+            for (int i = 0; i < count; i++) {
+                GameObject gameObject = snapshot[i];
+                if (isPendingRemoval(gameObject)) continue;
+                if (gameObject.isEnabled()) {
+                    gameObject.update(deltaTime);
+                }
+            }
+        } finally {
+            endPhase();
+        }
+
+        count = beginPhase();
+        try {
+            for (int i = 0; i < count; i++) {
+                GameObject gameObject = snapshot[i];
+                if (isPendingRemoval(gameObject)) continue;
+                if (gameObject.isEnabled()) {
+                    gameObject.lateUpdate(deltaTime);
+                }
+            }
+        } finally {
+            endPhase();
+        }
+    }
+
+    private boolean isPendingRemoval(GameObject gameObject) {
+        return !pendingRemovals.isEmpty() && pendingRemovals.contains(gameObject);
+    }
+
+    /**
+     * Refreshes the snapshot if needed and returns the number of objects to visit.
+     */
+    private int beginPhase() {
+        if (structureChanged) {
+            int size = objects.size();
+            if (snapshot.length < size) {
+                snapshot = new GameObject[Math.max(size, snapshot.length * 2)];
+            }
+            for (int i = 0; i < size; i++) {
+                snapshot[i] = objects.get(i);
+            }
+            // Drop stale references past the new end
+            for (int i = size; i < snapshotSize; i++) {
+                snapshot[i] = null;
+            }
+            snapshotSize = size;
+            structureChanged = false;
+        }
+        inPhase = true;
+        return snapshotSize;
+    }
+
+    private void endPhase() {
+        inPhase = false;
+        pendingRemovals.clear();
+    }
+}
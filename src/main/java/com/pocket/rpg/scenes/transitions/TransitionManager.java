@@ -155,6 +155,11 @@ public class TransitionManager {
         this.currentTransition.reset();
         this.state = State.FADING_OUT;
 
+        // Stream the target scene's assets while the fade-out plays
+        if (SceneManager.hasContext()) {
+            SceneManager.prefetchScene(sceneName);
+        }
+
         // Clear input to prevent movement during the one-frame gap
         // (transition starts mid-scene-update, remaining components still run this frame)
         if (Input.hasContext()) {
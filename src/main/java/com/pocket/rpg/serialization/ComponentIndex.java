@@ -0,0 +1,315 @@
+package com.pocket.rpg.serialization;
+
+import com.pocket.rpg.components.Component;
+import com.pocket.rpg.logging.Log;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Build-time index of concrete {@link Component} subclasses.
+ * <p>
+ * The index is a plain text resource with one class name per line, written into each
+ * compiled classes directory by {@link #main} during Maven's {@code process-classes}
+ * and {@code process-test-classes} phases.
+ * {@link ComponentRegistry} loads the listed classes directly instead of scanning the
+ * classpath with Reflections, and falls back to scanning when {@link #load} reports
+ * the index missing or stale.
+ * <p>
+ * An index written into a classes directory also records the modification time of every
+ * folder in it. Adding, removing or renaming a class file changes its folder's time, so
+ * staleness (e.g. a class compiled by an IDE that skips the build step) is detected with
+ * one {@code stat} per package instead of a walk over every class file.
+ * <p>
+ * Only class names are indexed: component metadata needs live {@link java.lang.reflect.Field}s
+ * and is still built from the loaded classes.
+ * <p>
+ * Manual regeneration (e.g. after an IDE-only build):
+ * <pre>
+ * mvn exec:java -Dexec.mainClass="com.pocket.rpg.serialization.ComponentIndex" \
+ *               -Dexec.args="target/classes"
+ * </pre>
+ */
+public final class ComponentIndex {
+
+    /** Classpath location of the index. */
+    public static final String RESOURCE = "META-INF/pocket-rpg/components.idx";
+
+    private static final String PACKAGE_PATH = "com/pocket/rpg";
+
+    private static final String HEADER = "# Concrete Component subclasses, generated by ComponentIndex. Do not edit.";
+
+    /** Comment prefix of a folder stamp line: {@code # dir <mtime millis> <relative folder>}. */
+    private static final String STAMP_PREFIX = "# dir ";
+
+    /** Folder (relative to the classes directory) holding the index; excluded from stamps. */
+    private static final String RESOURCE_ROOT = RESOURCE.substring(0, RESOURCE.indexOf('/'));
+
+    private ComponentIndex() {
+    }
+
+    // ========================================================================
+    // LOADING
+    // ========================================================================
+
+    /**
+     * Loads the indexed component classes without initializing them.
+     * <p>
+     * Every classpath root holding {@code com.pocket.rpg} classes (main classes, test
+     * classes, jars) carries its own index; their entries are merged. Returns null when
+     * the indices cannot be trusted, so the caller scans instead:
+     * <ul>
+     *   <li>some root has no index</li>
+     *   <li>a listed class no longer exists or is no longer a concrete component</li>
+     *   <li>an index lives in a classes directory (not a jar) and a folder there changed
+     *       after the index was written, or the index has no folder stamps</li>
+     * </ul>
+     */
+    public static List<Class<? extends Component>> load(ClassLoader loader) {
+        try {
+            List<URL> indices = findIndices(loader);
+            if (indices == null) {
+                return null;
+            }
+
+            List<Class<? extends Component>> result = new ArrayList<>();
+            for (URL index : indices) {
+                if (isOutdated(index)) {
+                    Log.info("ComponentIndex", "Component index is older than compiled classes: " + index);
+                    return null;
+                }
+                for (String name : read(index)) {
+                    Class<? extends Component> clazz = resolve(name, loader);
+                    if (clazz == null) {
+                        Log.info("ComponentIndex", "Component index is stale: " + name);
+                        return null;
+                    }
+                    result.add(clazz);
+                }
+            }
+            return result;
+        } catch (IOException e) {
+            Log.warn("ComponentIndex", "Failed to read component index: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<URL> findIndices(ClassLoader loader) throws IOException {
+        List<URL> indices = new ArrayList<>();
+        Enumeration<URL> packages = loader.getResources(PACKAGE_PATH);
+        while (packages.hasMoreElements()) {
+            String packageUrl = packages.nextElement().toString();
+            if (packageUrl.endsWith("/")) {
+                packageUrl = packageUrl.substring(0, packageUrl.length() - 1);
+            }
+            String root = packageUrl.substring(0, packageUrl.length() - PACKAGE_PATH.length());
+            URL index = URI.create(root + RESOURCE).toURL();
+            if (!exists(index)) {
+                Log.debug("ComponentIndex", "No component index in " + root);
+                return null;
+            }
+            indices.add(index);
+        }
+        return indices.isEmpty() ? null : indices;
+    }
+
+    private static boolean exists(URL url) {
+        try (InputStream ignored = url.openStream()) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Parses index contents: one class name per line, blank lines and {@code #} comments ignored.
+     */
+    static List<String> read(URL url) throws IOException {
+        try (InputStream in = url.openStream()) {
+            return parse(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines());
+        }
+    }
+
+    /**
+     * Reads the folder stamps of an index, keyed by folder relative to the classes directory.
+     */
+    static Map<String, Long> readStamps(URL url) throws IOException {
+        try (InputStream in = url.openStream()) {
+            return parseStamps(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines());
+        }
+    }
+
+    static Map<String, Long> parseStamps(Stream<String> lines) {
+        Map<String, Long> stamps = new LinkedHashMap<>();
+        lines.filter(line -> line.startsWith(STAMP_PREFIX)).forEach(line -> {
+            String stamp = line.substring(STAMP_PREFIX.length());
+            int space = stamp.indexOf(' ');
+            stamps.put(stamp.substring(space + 1), Long.parseLong(stamp.substring(0, space)));
+        });
+        return stamps;
+    }
+
+    static List<String> parse(Stream<String> lines) {
+        return lines.map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Component> resolve(String name, ClassLoader loader) {
+        try {
+            Class<?> clazz = Class.forName(name, false, loader);
+            return isConcreteComponent(clazz) ? (Class<? extends Component>) clazz : null;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static boolean isOutdated(URL url) throws IOException {
+        if (!"file".equals(url.getProtocol())) {
+            // Packaged jar: written by the same build as the classes
+            return false;
+        }
+
+        Path index;
+        try {
+            index = Path.of(URI.create(url.toString()));
+        } catch (IllegalArgumentException | FileSystemNotFoundException e) {
+            return false;
+        }
+        return isOutdated(rootOf(index), readStamps(url));
+    }
+
+    /**
+     * Checks recorded folder stamps against a classes directory.
+     *
+     * @return true if there are no stamps, or a stamped folder is gone or has a different time
+     */
+    static boolean isOutdated(Path root, Map<String, Long> stamps) {
+        if (stamps.isEmpty()) {
+            return true;
+        }
+        for (Map.Entry<String, Long> stamp : stamps.entrySet()) {
+            try {
+                if (Files.getLastModifiedTime(root.resolve(stamp.getKey())).toMillis() != stamp.getValue()) {
+                    return true;
+                }
+            } catch (IOException e) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Path rootOf(Path index) {
+        Path root = index;
+        for (int i = RESOURCE.split("/").length; i > 0; i--) {
+            root = root.getParent();
+        }
+        return root;
+    }
+
+    static boolean isConcreteComponent(Class<?> clazz) {
+        return Component.class.isAssignableFrom(clazz)
+                && clazz != Component.class
+                && !clazz.isInterface()
+                && !Modifier.isAbstract(clazz.getModifiers());
+    }
+
+    // ========================================================================
+    // GENERATION
+    // ========================================================================
+
+    /**
+     * Build step: writes the index into a compiled classes directory.
+     *
+     * @param args classes directory, e.g. {@code target/classes}
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: ComponentIndex <classes directory>");
+            System.exit(1);
+        }
+
+        Path root = Path.of(args[0]);
+        List<String> names = generate(root, ComponentIndex.class.getClassLoader());
+        Path output = root.resolve(RESOURCE);
+        // Create the index folder first, so stamping sees the final time of its parents
+        Files.createDirectories(output.getParent());
+        write(output, names, stampFolders(root));
+
+        System.out.println("ComponentIndex: indexed " + names.size() + " components in " + output);
+    }
+
+    /**
+     * Lists the concrete components among the class files under a classes directory, sorted by name.
+     */
+    static List<String> generate(Path root, ClassLoader loader) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = className(root, file);
+                if (name != null && resolve(name, loader) != null) {
+                    names.add(name);
+                }
+            }
+        }
+        names.sort(null);
+        return names;
+    }
+
+    /**
+     * Records the modification time of every folder under a classes directory, except the
+     * folder the index itself is written to.
+     */
+    static Map<String, Long> stampFolders(Path root) throws IOException {
+        Map<String, Long> stamps = new LinkedHashMap<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path dir : (Iterable<Path>) files.filter(Files::isDirectory)::iterator) {
+                String relative = root.relativize(dir).toString().replace('\\', '/');
+                if (relative.equals(RESOURCE_ROOT) || relative.startsWith(RESOURCE_ROOT + "/")) {
+                    continue;
+                }
+                stamps.put(relative.isEmpty() ? "." : relative, Files.getLastModifiedTime(dir).toMillis());
+            }
+        }
+        return stamps;
+    }
+
+    static void write(Path output, List<String> names) throws IOException {
+        write(output, names, Map.of());
+    }
+
+    static void write(Path output, List<String> names, Map<String, Long> stamps) throws IOException {
+        List<String> lines = new ArrayList<>(names.size() + stamps.size() + 1);
+        lines.add(HEADER);
+        stamps.forEach((dir, millis) -> lines.add(STAMP_PREFIX + millis + " " + dir));
+        lines.addAll(names);
+        Files.createDirectories(output.getParent());
+        Files.write(output, lines, StandardCharsets.UTF_8);
+    }
+
+    private static String className(Path root, Path file) {
+        String relative = root.relativize(file).toString().replace('\\', '/');
+        if (!relative.endsWith(".class") || relative.endsWith("module-info.class")
+                || relative.endsWith("package-info.class")) {
+            return null;
+        }
+        return relative.substring(0, relative.length() - ".class".length()).replace('/', '.');
+    }
+}
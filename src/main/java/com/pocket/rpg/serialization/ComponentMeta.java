@@ -3,6 +3,7 @@ package com.pocket.rpg.serialization;
 import com.pocket.rpg.components.Component;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Metadata about a component class.
@@ -15,8 +16,24 @@ public record ComponentMeta(
         Class<? extends Component> componentClass,
         List<FieldMeta> fields,                         // Serializable fields
         List<ComponentReferenceMeta> componentReferences, // @ComponentReference fields (unified)
-        boolean hasNoArgConstructor                     // Can we instantiate it?
+        boolean hasNoArgConstructor,                    // Can we instantiate it?
+        Supplier<Component> factory,                    // Precompiled no-arg constructor
+        List<FieldAccessor> transientFields             // Reset after deserialization/cloning
 ) {
+    /**
+     * Finds a serializable field by name.
+     *
+     * @return The field, or null if the component has no such field
+     */
+    public FieldMeta findField(String name) {
+        for (FieldMeta field : fields) {
+            if (field.name().equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
     /**
      * Gets a display-friendly name from class name.
      * "SpriteRenderer" → "Sprite Renderer"
@@ -10,8 +10,12 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * Utility for reading/writing Component fields via reflection.
+ * Utility for reading/writing Component fields by name.
  * Used by editor UI when working with Component instances directly.
+ * <p>
+ * Field access goes through each field's precompiled {@link FieldAccessor}; the typed
+ * getters ({@link #getFloat}, {@link #getInt}, {@link #getBoolean}) and
+ * {@link #cloneComponent} do not box primitive fields.
  */
 public final class ComponentReflectionUtils {
 
@@ -40,24 +44,16 @@ public final class ComponentReflectionUtils {
             return key.isEmpty() ? null : key;
         }
 
-        for (FieldMeta fm : meta.fields()) {
-            if (fm.name().equals(fieldName)) {
-                Field field = fm.field();
-                boolean wasAccessible = field.canAccess(component);
-                try {
-                    field.setAccessible(true);
-                    return field.get(component);
-                } catch (IllegalAccessException e) {
-                    System.err.println("Failed to read field " + fieldName + ": " + e.getMessage());
-                    return null;
-                } finally {
-                    if (!wasAccessible) {
-                        field.setAccessible(false);
-                    }
-                }
-            }
+        FieldMeta fm = meta.findField(fieldName);
+        if (fm == null) {
+            return null;
+        }
+        try {
+            return fm.accessor().get(component);
+        } catch (RuntimeException e) {
+            System.err.println("Failed to read field " + fieldName + ": " + e.getMessage());
+            return null;
         }
-        return null;
     }
 
     /**
@@ -85,26 +81,18 @@ public final class ComponentReflectionUtils {
             return true;
         }
 
-        for (FieldMeta fm : meta.fields()) {
-            if (fm.name().equals(fieldName)) {
-                Field field = fm.field();
-                boolean wasAccessible = field.canAccess(component);
-                try {
-                    field.setAccessible(true);
-                    Object converted = SerializationUtils.fromSerializable(value, fm.type());
-                    field.set(component, converted);
-                    return true;
-                } catch (Exception e) {
-                    System.err.println("Failed to set field " + fieldName + ": " + e.getMessage());
-                    return false;
-                } finally {
-                    if (!wasAccessible) {
-                        field.setAccessible(false);
-                    }
-                }
-            }
+        FieldMeta fm = meta.findField(fieldName);
+        if (fm == null) {
+            return false;
+        }
+        try {
+            Object converted = SerializationUtils.fromSerializable(value, fm.type());
+            fm.accessor().set(component, converted);
+            return true;
+        } catch (Exception e) {
+            System.err.println("Failed to set field " + fieldName + ": " + e.getMessage());
+            return false;
         }
-        return false;
     }
 
     /**
@@ -124,12 +112,7 @@ public final class ComponentReflectionUtils {
             return null;
         }
 
-        for (FieldMeta fm : meta.fields()) {
-            if (fm.name().equals(fieldName)) {
-                return fm;
-            }
-        }
-        return null;
+        return meta.findField(fieldName);
     }
 
     /**
@@ -197,12 +180,15 @@ public final class ComponentReflectionUtils {
         }
 
         for (FieldMeta fm : meta.fields()) {
-            Object value = getFieldValue(source, fm.name());
-            if (value != null) {
-                // Deep copy for mutable types
-                value = deepCopyValue(value);
-                setFieldValue(clone, fm.name(), value);
+            if (isKeyRefField(meta, fm.name())) {
+                // Pending key lives outside the field
+                String key = ComponentReferenceResolver.getPendingKey(source, fm.name());
+                if (!key.isEmpty()) {
+                    ComponentReferenceResolver.storePendingKey(clone, fm.name(), key);
+                }
+                continue;
             }
+            copyField(fm.accessor(), source, clone);
         }
 
         // Copy base Component fields (not in meta.fields())
@@ -217,6 +203,25 @@ public final class ComponentReflectionUtils {
         return clone;
     }
 
+    /**
+     * Copies one field from source to clone. Nulls are skipped so the clone keeps its
+     * field initializer, and mutable values are deep-copied.
+     */
+    private static void copyField(FieldAccessor accessor, Component source, Component clone) {
+        try {
+            if (accessor.getType().isPrimitive()) {
+                accessor.copy(source, clone);
+                return;
+            }
+            Object value = accessor.get(source);
+            if (value != null) {
+                accessor.set(clone, accessor.isImmutable() ? value : deepCopyValue(value));
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Failed to clone field " + accessor.getField().getName() + ": " + e.getMessage());
+        }
+    }
+
     /**
      * Creates a deep copy of a value if it's a known mutable type.
      * Recursively copies Lists, Maps, arrays, and JOML vector types.
@@ -309,6 +314,10 @@ public final class ComponentReflectionUtils {
      * Gets a float field value with default.
      */
     public static float getFloat(Component component, String fieldName, float defaultValue) {
+        FieldMeta fm = getFieldMeta(component, fieldName);
+        if (fm != null && fm.type() == float.class) {
+            return fm.accessor().getFloat(component);
+        }
         Object value = getFieldValue(component, fieldName);
         if (value instanceof Number n) {
             return n.floatValue();
@@ -320,6 +329,10 @@ public final class ComponentReflectionUtils {
      * Gets an int field value with default.
      */
     public static int getInt(Component component, String fieldName, int defaultValue) {
+        FieldMeta fm = getFieldMeta(component, fieldName);
+        if (fm != null && fm.type() == int.class) {
+            return fm.accessor().getInt(component);
+        }
         Object value = getFieldValue(component, fieldName);
         if (value instanceof Number n) {
             return n.intValue();
@@ -331,6 +344,10 @@ public final class ComponentReflectionUtils {
      * Gets a boolean field value with default.
      */
     public static boolean getBoolean(Component component, String fieldName, boolean defaultValue) {
+        FieldMeta fm = getFieldMeta(component, fieldName);
+        if (fm != null && fm.type() == boolean.class) {
+            return fm.accessor().getBoolean(component);
+        }
         Object value = getFieldValue(component, fieldName);
         if (value instanceof Boolean b) {
             return b;
@@ -11,12 +11,15 @@ import org.reflections.util.ConfigurationBuilder;
 
 import com.pocket.rpg.logging.Log;
 
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Registry of all available components.
- * Uses Reflections to discover all Component subclasses at startup.
+ * Loads Component subclasses from the build-time {@link ComponentIndex} at startup,
+ * scanning the classpath with Reflections when the index is missing or stale.
  * <p>
  * Supports categorized access for UI menus via getCategories().
  */
@@ -92,15 +95,20 @@ public class ComponentRegistry {
     }
 
     /**
-     * Initializes the registry by scanning the components package.
+     * Initializes the registry from the component index, or by scanning the
+     * components package if there is no usable index.
      * Call once at startup.
      */
     public static void initialize() {
+        initialize(false);
+    }
+
+    private static void initialize(boolean forceScan) {
         if (initialized) {
             return;
         }
 
-        System.out.println("ComponentRegistry: Scanning for components...");
+        long start = System.nanoTime();
 
         // Log any registered migrations
         if (!migrationMap.isEmpty()) {
@@ -110,7 +118,13 @@ public class ComponentRegistry {
         }
 
         try {
-            List<Class<? extends Component>> classes = scanComponentClasses();
+            List<Class<? extends Component>> classes =
+                    forceScan ? null : ComponentIndex.load(ComponentRegistry.class.getClassLoader());
+            String source = "index";
+            if (classes == null) {
+                classes = scanComponentClasses();
+                source = "classpath scan";
+            }
 
             for (Class<? extends Component> clazz : classes) {
                 if (Modifier.isAbstract(clazz.getModifiers())) {
@@ -142,7 +156,7 @@ public class ComponentRegistry {
                     );
                     category.add(meta);
 
-                    System.out.println("  Registered: " + meta.simpleName() +
+                    Log.debug("ComponentRegistry", "Registered: " + meta.simpleName() +
                             " [" + categoryName + "] (" + meta.fields().size() + " fields)");
 
                     validateRequiredComponents(clazz);
@@ -175,8 +189,8 @@ public class ComponentRegistry {
             allComponents.sort(Comparator.comparing(ComponentMeta::simpleName));
 
             initialized = true;
-            System.out.println("ComponentRegistry: Found " + allComponents.size() +
-                    " components in " + categories.size() + " categories");
+            Log.info("ComponentRegistry", String.format("Found %d components in %d categories from %s (%.1f ms)",
+                    allComponents.size(), categories.size(), source, (System.nanoTime() - start) / 1_000_000.0));
 
         } catch (Exception e) {
             System.err.println("ComponentRegistry: Failed to scan components");
@@ -187,6 +201,7 @@ public class ComponentRegistry {
 
     /**
      * Clears all cached component metadata and re-scans the classpath.
+     * Always scans, since the component index predates any hot-reloaded classes.
      * <p>
      * Must only be called from the main thread.
      * <p>
@@ -200,7 +215,7 @@ public class ComponentRegistry {
         allComponents.clear();
         categories.clear();
         initialized = false;
-        initialize();
+        initialize(true);
         System.out.println("ComponentRegistry reinitialized: " + allComponents.size() + " components");
     }
 
@@ -259,6 +274,9 @@ public class ComponentRegistry {
         }
 
         try {
+            if (meta.factory() != null) {
+                return meta.factory().get();
+            }
             Constructor<? extends Component> constructor =
                     meta.componentClass().getDeclaredConstructor();
             constructor.setAccessible(true);
@@ -292,27 +310,18 @@ public class ComponentRegistry {
     public static void resetTransientFields(Component component) {
         if (component == null) return;
 
-        String className = component.getClass().getName();
-        Component freshInstance = instantiateByClassName(className);
+        ComponentMeta meta = byFullName.get(component.getClass().getName());
+        if (meta == null) {
+            return;
+        }
+        Component freshInstance = instantiate(meta.simpleName());
         if (freshInstance == null) {
             return;
         }
 
-        // Walk up the class hierarchy to get all transient fields
-        Class<?> clazz = component.getClass();
-        while (clazz != null && clazz != Object.class) {
-            for (Field field : clazz.getDeclaredFields()) {
-                if (Modifier.isTransient(field.getModifiers()) && !Modifier.isStatic(field.getModifiers())) {
-                    try {
-                        field.setAccessible(true);
-                        Object defaultValue = field.get(freshInstance);
-                        field.set(component, defaultValue);
-                    } catch (IllegalAccessException e) {
-                        // Skip fields we can't access
-                    }
-                }
-            }
-            clazz = clazz.getSuperclass();
+        // All transient fields up the class hierarchy, collected at registration
+        for (FieldAccessor accessor : meta.transientFields()) {
+            accessor.copy(freshInstance, component);
         }
     }
 
@@ -414,10 +423,69 @@ public class ComponentRegistry {
                 clazz,
                 fields,
                 componentReferences,
-                hasNoArgConstructor
+                hasNoArgConstructor,
+                buildFactory(clazz),
+                collectTransientFields(clazz)
         );
     }
 
+    private static List<FieldAccessor> collectTransientFields(Class<?> clazz) {
+        List<FieldAccessor> accessors = new ArrayList<>();
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isTransient(field.getModifiers()) && !Modifier.isStatic(field.getModifiers())) {
+                    try {
+                        accessors.add(FieldAccessor.of(field));
+                    } catch (IllegalStateException e) {
+                        // Skip fields we can't access
+                    }
+                }
+            }
+        }
+        return List.copyOf(accessors);
+    }
+
+    /**
+     * Compiles the no-arg constructor into a Supplier. Public constructors of public
+     * classes go through LambdaMetafactory, so instantiation is a plain {@code new};
+     * others fall back to invoking a constructor MethodHandle.
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<Component> buildFactory(Class<? extends Component> clazz) {
+        MethodHandle constructor;
+        try {
+            Constructor<? extends Component> ctor = clazz.getDeclaredConstructor();
+            ctor.setAccessible(true);
+            constructor = MethodHandles.lookup().unreflectConstructor(ctor);
+
+            if (Modifier.isPublic(clazz.getModifiers()) && Modifier.isPublic(ctor.getModifiers())) {
+                try {
+                    CallSite site = LambdaMetafactory.metafactory(
+                            MethodHandles.lookup(),
+                            "get",
+                            MethodType.methodType(Supplier.class),
+                            MethodType.methodType(Object.class),
+                            constructor,
+                            MethodType.methodType(clazz));
+                    return (Supplier<Component>) site.getTarget().invoke();
+                } catch (Throwable e) {
+                    // Not linkable from here; invoke the handle directly below
+                }
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null; // instantiate() falls back to reflection
+        }
+
+        MethodHandle generic = constructor.asType(MethodType.methodType(Component.class));
+        return () -> {
+            try {
+                return (Component) generic.invokeExact();
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to instantiate " + clazz.getSimpleName(), t);
+            }
+        };
+    }
+
     private static void collectFields(Class<?> clazz, List<FieldMeta> fields,
                                       List<ComponentReferenceMeta> componentReferences) {
         if (clazz == null || clazz == Component.class || clazz == Object.class) {
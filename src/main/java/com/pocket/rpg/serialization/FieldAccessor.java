@@ -0,0 +1,209 @@
+package com.pocket.rpg.serialization;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precompiled read/write access to one field, built from {@link MethodHandle}s.
+ * <p>
+ * Created once per field (see {@link FieldMeta#accessor()}) so the access checks and
+ * {@code setAccessible} toggling that {@link Field#get}/{@link Field#set} need on every
+ * call are paid only at registry initialization. Primitive fields additionally get
+ * exactly typed handles: {@link #getFloat}, {@link #copy} and friends move the value
+ * without boxing.
+ */
+public final class FieldAccessor {
+
+    private static final Map<Field, FieldAccessor> CACHE = new ConcurrentHashMap<>();
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final Class<?> type;
+    private final boolean immutable;
+
+    // (Object)Object and (Object, Object)void, boxing primitives
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    // (Object)T and (Object, T)void with the field's own type
+    private final MethodHandle typedGetter;
+    private final MethodHandle typedSetter;
+
+    // (Object from, Object to)void, never boxes
+    private final MethodHandle copier;
+
+    private FieldAccessor(Field field) {
+        this.field = field;
+        this.type = field.getType();
+        this.immutable = type.isPrimitive() || isImmutableType(type);
+
+        try {
+            field.setAccessible(true);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle rawGetter = lookup.unreflectGetter(field);
+            typedGetter = rawGetter.asType(MethodType.methodType(type, Object.class));
+            getter = rawGetter.asType(GETTER);
+
+            MethodHandle rawSetter = lookup.unreflectSetter(field);
+            typedSetter = rawSetter.asType(MethodType.methodType(void.class, Object.class, type));
+            setter = rawSetter.asType(SETTER);
+
+            // setter(to, getter(from)), then swap to (from, to)
+            MethodHandle copyTo = MethodHandles.collectArguments(typedSetter, 1, typedGetter);
+            copier = MethodHandles.permuteArguments(copyTo,
+                    MethodType.methodType(void.class, Object.class, Object.class), 1, 0);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Cannot access field " + field.getDeclaringClass().getSimpleName()
+                    + "." + field.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the accessor for a field, building it on first use.
+     *
+     * @throws IllegalStateException if the field cannot be made accessible
+     */
+    public static FieldAccessor of(Field field) {
+        FieldAccessor accessor = CACHE.get(field);
+        if (accessor == null) {
+            accessor = CACHE.computeIfAbsent(field, FieldAccessor::new);
+        }
+        return accessor;
+    }
+
+    // ========================================================================
+    // GENERIC ACCESS
+    // ========================================================================
+
+    /**
+     * Reads the field. Primitive values are boxed.
+     */
+    public Object get(Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Writes the field. Primitive fields unbox the value, widening numbers if needed.
+     *
+     * @throws ClassCastException   if the value does not fit the field type
+     * @throws NullPointerException if a primitive field is set to null
+     */
+    public void set(Object target, Object value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Copies the field from one instance to another without boxing. Reference values
+     * are shared, so use this alone only for {@link #isImmutable() immutable} fields.
+     */
+    public void copy(Object from, Object to) {
+        try {
+            copier.invokeExact(from, to);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    // ========================================================================
+    // PRIMITIVE ACCESS (field type must match exactly)
+    // ========================================================================
+
+    public float getFloat(Object target) {
+        try {
+            return (float) typedGetter.invokeExact(target);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public void setFloat(Object target, float value) {
+        try {
+            typedSetter.invokeExact(target, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public int getInt(Object target) {
+        try {
+            return (int) typedGetter.invokeExact(target);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public void setInt(Object target, int value) {
+        try {
+            typedSetter.invokeExact(target, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public boolean getBoolean(Object target) {
+        try {
+            return (boolean) typedGetter.invokeExact(target);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public void setBoolean(Object target, boolean value) {
+        try {
+            typedSetter.invokeExact(target, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    // ========================================================================
+    // INFO
+    // ========================================================================
+
+    public Field getField() {
+        return field;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * True for primitives and types whose values can be shared between copies
+     * (String, boxed primitives, enums).
+     */
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    private static boolean isImmutableType(Class<?> type) {
+        return type == String.class || type.isEnum()
+                || type == Integer.class || type == Float.class || type == Double.class
+                || type == Long.class || type == Boolean.class || type == Short.class
+                || type == Byte.class || type == Character.class;
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException e) {
+            return e;
+        }
+        if (t instanceof Error e) {
+            throw e;
+        }
+        return new IllegalStateException(t);
+    }
+}
@@ -12,8 +12,16 @@ public record FieldMeta(
         Class<?> type,         // Field type (e.g., float.class)
         Field field,           // Actual Field object for reflection
         Object defaultValue,   // Default value for reset
-        Class<?> elementType   // For List<T>, the element type T; null for non-List fields
+        Class<?> elementType,  // For List<T>, the element type T; null for non-List fields
+        FieldAccessor accessor // Precompiled get/set, use instead of field
 ) {
+    /**
+     * Constructor that builds the field's accessor.
+     */
+    public FieldMeta(String name, Class<?> type, Field field, Object defaultValue, Class<?> elementType) {
+        this(name, type, field, defaultValue, elementType, FieldAccessor.of(field));
+    }
+
     /**
      * Constructor for non-List fields (backwards compatible).
      */
@@ -0,0 +1,398 @@
+package com.pocket.rpg.serialization.binary;
+
+import com.google.gson.*;
+import com.pocket.rpg.components.Component;
+import com.pocket.rpg.components.rendering.TilemapRenderer;
+import com.pocket.rpg.logging.Log;
+import com.pocket.rpg.resources.SpriteReference;
+import com.pocket.rpg.serialization.GameObjectData;
+import com.pocket.rpg.serialization.SceneData;
+import com.pocket.rpg.serialization.Serializer;
+import com.pocket.rpg.serialization.binary.TilemapData.ChunkData;
+import com.pocket.rpg.serialization.binary.TilemapData.TileSpec;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Compact binary encoding of scene files, read alongside the JSON format.
+ * <p>
+ * The scene is encoded from the same JSON tree Gson produces, so every component
+ * adapter works unchanged. Keys and string values (component class names, asset
+ * paths, ids) are written once into a string table and referenced by index.
+ * TilemapRenderer tile data is stored as palettes and packed indices (see
+ * {@link TilemapData}) and is only decoded when a chunk is first rendered or queried.
+ *
+ * <h2>Layout</h2>
+ * <pre>
+ * int     MAGIC, short VERSION
+ * varint  string count, then per string: varint byte length, UTF-8 bytes
+ * value   scene tree: tag byte + payload (strings and object keys as table indices)
+ * varint  tilemap count, then per tilemap:
+ *         varint gameObject index, varint component index,
+ *         varint palette size, per tile: name, sprite path, boolean solid, byte ledge,
+ *         varint chunk count, per chunk: zigzag cx, zigzag cy,
+ *         varint local palette size, varint global indices, byte bits, packed cells
+ * </pre>
+ */
+public final class BinarySceneFormat {
+
+    /**
+     * "PSCB" - JSON scenes can never start with these bytes.
+     */
+    public static final int MAGIC = 0x50534342;
+    public static final int VERSION = 1;
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_TRUE = 1;
+    private static final int TAG_FALSE = 2;
+    private static final int TAG_LONG = 3;
+    private static final int TAG_FLOAT = 4;
+    private static final int TAG_DOUBLE = 5;
+    private static final int TAG_STRING = 6;
+    private static final int TAG_ARRAY = 7;
+    private static final int TAG_OBJECT = 8;
+
+    private BinarySceneFormat() {
+    }
+
+    /**
+     * Checks whether file contents are a binary scene.
+     */
+    public static boolean isBinary(byte[] bytes) {
+        return bytes.length >= 4
+                && ((bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 | (bytes[2] & 0xFF) << 8 | (bytes[3] & 0xFF)) == MAGIC;
+    }
+
+    // ========================================================================
+    // WRITING
+    // ========================================================================
+
+    /**
+     * Encodes scene data.
+     */
+    public static byte[] write(SceneData data) throws IOException {
+        return write(SceneTree.fromJson(Serializer.getGson().toJsonTree(data).getAsJsonObject()));
+    }
+
+    /**
+     * Encodes a scene tree, e.g. one lifted from a JSON scene file by a converter.
+     */
+    public static byte[] write(SceneTree tree) throws IOException {
+        Encoder encoder = new Encoder();
+        encoder.writeValue(tree.json());
+
+        DataOutputStream body = encoder.out;
+        writeVarInt(body, tree.tilemaps().size());
+        for (TilemapData tilemap : tree.tilemaps()) {
+            writeVarInt(body, tilemap.gameObjectIndex());
+            writeVarInt(body, tilemap.componentIndex());
+
+            writeVarInt(body, tilemap.palette().size());
+            for (TileSpec tile : tilemap.palette()) {
+                encoder.writeString(tile.name());
+                encoder.writeString(tile.spritePath());
+                body.writeBoolean(tile.solid());
+                body.writeByte(tile.ledgeOrdinal());
+            }
+
+            writeVarInt(body, tilemap.chunks().size());
+            for (ChunkData chunk : tilemap.chunks()) {
+                writeVarInt(body, zigzag(chunk.chunkX()));
+                writeVarInt(body, zigzag(chunk.chunkY()));
+                writeVarInt(body, chunk.palette().length);
+                for (int index : chunk.palette()) {
+                    writeVarInt(body, index);
+                }
+                body.writeByte(chunk.bits());
+                body.write(chunk.packed());
+            }
+        }
+        body.flush();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(encoder.buffer.size() + 4096);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        writeVarInt(out, encoder.strings.size());
+        for (String s : encoder.strings.keySet()) {
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, utf8.length);
+            out.write(utf8);
+        }
+        encoder.buffer.writeTo(out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static final class Encoder {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+        final DataOutputStream out = new DataOutputStream(buffer);
+        final Map<String, Integer> strings = new LinkedHashMap<>();
+
+        void writeString(String s) throws IOException {
+            String value = s != null ? s : "";
+            Integer index = strings.get(value);
+            if (index == null) {
+                index = strings.size();
+                strings.put(value, index);
+            }
+            writeVarInt(out, index);
+        }
+
+        void writeValue(JsonElement element) throws IOException {
+            if (element == null || element.isJsonNull()) {
+                out.writeByte(TAG_NULL);
+            } else if (element.isJsonObject()) {
+                Set<Map.Entry<String, JsonElement>> entries = element.getAsJsonObject().entrySet();
+                out.writeByte(TAG_OBJECT);
+                writeVarInt(out, entries.size());
+                for (Map.Entry<String, JsonElement> entry : entries) {
+                    writeString(entry.getKey());
+                    writeValue(entry.getValue());
+                }
+            } else if (element.isJsonArray()) {
+                JsonArray array = element.getAsJsonArray();
+                out.writeByte(TAG_ARRAY);
+                writeVarInt(out, array.size());
+                for (JsonElement item : array) {
+                    writeValue(item);
+                }
+            } else {
+                writePrimitive(element.getAsJsonPrimitive());
+            }
+        }
+
+        private void writePrimitive(JsonPrimitive primitive) throws IOException {
+            if (primitive.isBoolean()) {
+                out.writeByte(primitive.getAsBoolean() ? TAG_TRUE : TAG_FALSE);
+            } else if (primitive.isString()) {
+                out.writeByte(TAG_STRING);
+                writeString(primitive.getAsString());
+            } else {
+                writeNumber(primitive.getAsString());
+            }
+        }
+
+        /**
+         * Numbers are written from their JSON text so a binary scene reads back exactly
+         * what the JSON file held: integers as varints, and decimals as a float only when
+         * that is lossless.
+         */
+        private void writeNumber(String text) throws IOException {
+            if (text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0) {
+                try {
+                    long value = Long.parseLong(text);
+                    out.writeByte(TAG_LONG);
+                    writeVarLong(out, (value << 1) ^ (value >> 63));
+                    return;
+                } catch (NumberFormatException e) {
+                    // Out of long range, fall through to double
+                }
+            }
+            double value = Double.parseDouble(text);
+            if ((float) value == value) {
+                out.writeByte(TAG_FLOAT);
+                out.writeFloat((float) value);
+            } else {
+                out.writeByte(TAG_DOUBLE);
+                out.writeDouble(value);
+            }
+        }
+    }
+
+    // ========================================================================
+    // READING
+    // ========================================================================
+
+    /**
+     * Decodes a binary scene into SceneData. Tilemap chunks are attached encoded and
+     * decode on first access.
+     */
+    public static SceneData read(byte[] bytes) throws IOException {
+        SceneTree tree = readTree(bytes);
+        SceneData data;
+        try {
+            data = Serializer.getGson().fromJson(tree.json(), SceneData.class);
+        } catch (JsonParseException e) {
+            throw new IOException("Failed to parse binary scene: " + e.getMessage(), e);
+        }
+        if (data == null) {
+            throw new IOException("Failed to parse binary scene");
+        }
+
+        for (TilemapData tilemap : tree.tilemaps()) {
+            TilemapRenderer target = findTilemap(data, tilemap);
+            if (target == null) {
+                Log.warn("BinarySceneFormat", "No TilemapRenderer at gameObject " + tilemap.gameObjectIndex()
+                        + ", component " + tilemap.componentIndex() + "; tiles skipped");
+                continue;
+            }
+            tilemap.attachTo(target, SpriteReference::fromPath);
+        }
+        return data;
+    }
+
+    /**
+     * Decodes a binary scene into its tree form without building any components.
+     */
+    public static SceneTree readTree(byte[] bytes) throws IOException {
+        if (!isBinary(bytes)) {
+            throw new IOException("Not a binary scene");
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 4, bytes.length - 4));
+        int version = in.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary scene version: " + version);
+        }
+
+        String[] strings = new String[readVarInt(in)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] utf8 = new byte[readVarInt(in)];
+            in.readFully(utf8);
+            strings[i] = new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        JsonElement root = readValue(in, strings);
+        if (!root.isJsonObject()) {
+            throw new IOException("Binary scene root is not an object");
+        }
+
+        int tilemapCount = readVarInt(in);
+        List<TilemapData> tilemaps = new ArrayList<>(tilemapCount);
+        for (int t = 0; t < tilemapCount; t++) {
+            int gameObjectIndex = readVarInt(in);
+            int componentIndex = readVarInt(in);
+
+            int paletteSize = readVarInt(in);
+            List<TileSpec> palette = new ArrayList<>(paletteSize);
+            for (int i = 0; i < paletteSize; i++) {
+                palette.add(new TileSpec(strings[readVarInt(in)], strings[readVarInt(in)],
+                        in.readBoolean(), in.readByte()));
+            }
+
+            int chunkCount = readVarInt(in);
+            List<ChunkData> chunks = new ArrayList<>(chunkCount);
+            for (int c = 0; c < chunkCount; c++) {
+                int cx = unzigzag(readVarInt(in));
+                int cy = unzigzag(readVarInt(in));
+                int[] local = new int[readVarInt(in)];
+                for (int i = 0; i < local.length; i++) {
+                    local[i] = readVarInt(in);
+                }
+                int bits = in.readUnsignedByte();
+                byte[] packed = new byte[ChunkData.packedLength(bits)];
+                in.readFully(packed);
+                chunks.add(new ChunkData(cx, cy, local, bits, packed));
+            }
+            tilemaps.add(new TilemapData(gameObjectIndex, componentIndex, palette, chunks));
+        }
+        return new SceneTree(root.getAsJsonObject(), tilemaps);
+    }
+
+    private static JsonElement readValue(DataInputStream in, String[] strings) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case TAG_NULL:
+                return JsonNull.INSTANCE;
+            case TAG_TRUE:
+                return new JsonPrimitive(true);
+            case TAG_FALSE:
+                return new JsonPrimitive(false);
+            case TAG_LONG: {
+                long zigzag = readVarLong(in);
+                return new JsonPrimitive((zigzag >>> 1) ^ -(zigzag & 1));
+            }
+            case TAG_FLOAT:
+                return new JsonPrimitive((double) in.readFloat());
+            case TAG_DOUBLE:
+                return new JsonPrimitive(in.readDouble());
+            case TAG_STRING:
+                return new JsonPrimitive(strings[readVarInt(in)]);
+            case TAG_ARRAY: {
+                int size = readVarInt(in);
+                JsonArray array = new JsonArray(size);
+                for (int i = 0; i < size; i++) {
+                    array.add(readValue(in, strings));
+                }
+                return array;
+            }
+            case TAG_OBJECT: {
+                int size = readVarInt(in);
+                JsonObject object = new JsonObject();
+                for (int i = 0; i < size; i++) {
+                    String key = strings[readVarInt(in)];
+                    object.add(key, readValue(in, strings));
+                }
+                return object;
+            }
+            default:
+                throw new IOException("Corrupt binary scene: unknown value tag " + tag);
+        }
+    }
+
+    private static TilemapRenderer findTilemap(SceneData data, TilemapData tilemap) {
+        List<GameObjectData> gameObjects = data.getGameObjects();
+        if (gameObjects == null || tilemap.gameObjectIndex() >= gameObjects.size()) {
+            return null;
+        }
+        List<Component> components = gameObjects.get(tilemap.gameObjectIndex()).getComponents();
+        if (components == null || tilemap.componentIndex() >= components.size()) {
+            return null;
+        }
+        return components.get(tilemap.componentIndex()) instanceof TilemapRenderer target ? target : null;
+    }
+
+    // ========================================================================
+    // VARINTS
+    // ========================================================================
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt binary scene: varint too long");
+    }
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt binary scene: varint too long");
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,67 @@
+package com.pocket.rpg.serialization.binary;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.pocket.rpg.components.rendering.TilemapRenderer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A scene as Gson's JSON tree with tilemap tile data held separately.
+ * <p>
+ * This is the common form of both formats: JSON scenes become a SceneTree by lifting the
+ * tilemap blobs out of the parsed JSON ({@link #fromJson}), binary scenes decode straight
+ * into one ({@link BinarySceneFormat#readTree}).
+ *
+ * @param json      Scene JSON, with each lifted TilemapRenderer's properties reduced to
+ *                  {@code {tileSize, zIndex}}
+ * @param tilemaps  Tile data of the lifted tilemaps
+ */
+public record SceneTree(JsonObject json, List<TilemapData> tilemaps) {
+
+    static final String TILEMAP_TYPE = TilemapRenderer.class.getCanonicalName();
+
+    /**
+     * Lifts the tile data of every top-level TilemapRenderer out of a scene's JSON tree.
+     * The source tree is not modified.
+     */
+    public static SceneTree fromJson(JsonObject source) throws IOException {
+        JsonObject json = source.deepCopy();
+        List<TilemapData> tilemaps = new ArrayList<>();
+
+        JsonElement gameObjects = json.get("gameObjects");
+        if (gameObjects == null || !gameObjects.isJsonArray()) {
+            return new SceneTree(json, tilemaps);
+        }
+
+        JsonArray objects = gameObjects.getAsJsonArray();
+        for (int i = 0; i < objects.size(); i++) {
+            JsonElement components = objects.get(i).isJsonObject()
+                    ? objects.get(i).getAsJsonObject().get("components") : null;
+            if (components == null || !components.isJsonArray()) {
+                continue;
+            }
+            JsonArray list = components.getAsJsonArray();
+            for (int j = 0; j < list.size(); j++) {
+                if (isTilemapBlob(list.get(j))) {
+                    tilemaps.add(TilemapData.lift(i, j, list.get(j).getAsJsonObject()));
+                }
+            }
+        }
+        return new SceneTree(json, tilemaps);
+    }
+
+    private static boolean isTilemapBlob(JsonElement component) {
+        if (!component.isJsonObject()) {
+            return false;
+        }
+        JsonObject object = component.getAsJsonObject();
+        JsonElement type = object.get("type");
+        JsonElement properties = object.get("properties");
+        return type != null && type.isJsonPrimitive() && TILEMAP_TYPE.equals(type.getAsString())
+                && properties != null && properties.isJsonPrimitive() && properties.getAsJsonPrimitive().isString();
+    }
+}
@@ -0,0 +1,214 @@
+package com.pocket.rpg.serialization.binary;
+
+import com.google.gson.JsonObject;
+import com.pocket.rpg.components.rendering.TilemapRenderer;
+import com.pocket.rpg.components.rendering.TilemapRenderer.LedgeDirection;
+import com.pocket.rpg.components.rendering.TilemapRenderer.Tile;
+import com.pocket.rpg.components.rendering.TilemapRenderer.TileChunk;
+import com.pocket.rpg.rendering.resources.Sprite;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Tile data of one TilemapRenderer, lifted out of the scene tree.
+ * <p>
+ * Tiles are stored once in a tilemap-wide palette. Each chunk keeps a local palette of
+ * the global indices it uses, and one bit-packed local index per cell, so a chunk with
+ * a handful of distinct tiles costs a few hundred bytes and never repeats a sprite path.
+ *
+ * @param gameObjectIndex Index of the owning GameObject in {@code SceneData.gameObjects}
+ * @param componentIndex  Index of the TilemapRenderer in that GameObject's components
+ * @param palette         Distinct tiles of the tilemap
+ * @param chunks          Non-empty chunks
+ */
+public record TilemapData(int gameObjectIndex, int componentIndex,
+                          List<TileSpec> palette, List<ChunkData> chunks) {
+
+    static final int CELLS = TileChunk.CHUNK_SIZE * TileChunk.CHUNK_SIZE;
+
+    /**
+     * A palette entry. The sprite is kept as its asset path until the tilemap is attached.
+     */
+    public record TileSpec(String name, String spritePath, boolean solid, int ledgeOrdinal) {
+    }
+
+    /**
+     * One chunk: cell {@code tx * CHUNK_SIZE + ty} holds a 1-based index into
+     * {@code palette} (0 = empty), packed LSB-first with {@code bits} bits per cell.
+     *
+     * @param palette Global palette indices used by this chunk
+     */
+    public record ChunkData(int chunkX, int chunkY, int[] palette, int bits, byte[] packed) {
+
+        /**
+         * Packs cells holding global palette index + 1 (0 = empty).
+         *
+         * @return The chunk, or null if every cell is empty
+         */
+        static ChunkData pack(int chunkX, int chunkY, int[] cells, int paletteSize) {
+            int[] localOf = new int[paletteSize + 1];
+            int[] palette = new int[8];
+            int count = 0;
+            for (int cell : cells) {
+                if (cell != 0 && localOf[cell] == 0) {
+                    if (count == palette.length) {
+                        palette = Arrays.copyOf(palette, count * 2);
+                    }
+                    palette[count] = cell - 1;
+                    localOf[cell] = ++count;
+                }
+            }
+            if (count == 0) {
+                return null;
+            }
+
+            int bits = 32 - Integer.numberOfLeadingZeros(count);
+            byte[] packed = new byte[packedLength(bits)];
+            long acc = 0;
+            int accBits = 0;
+            int pos = 0;
+            for (int cell : cells) {
+                acc |= (long) localOf[cell] << accBits;
+                accBits += bits;
+                while (accBits >= 8) {
+                    packed[pos++] = (byte) acc;
+                    acc >>>= 8;
+                    accBits -= 8;
+                }
+            }
+            if (accBits > 0) {
+                packed[pos] = (byte) acc;
+            }
+            return new ChunkData(chunkX, chunkY, Arrays.copyOf(palette, count), bits, packed);
+        }
+
+        static int packedLength(int bits) {
+            return (CELLS * bits + 7) / 8;
+        }
+
+        /**
+         * Unpacks into {@code out[cell] = local index} (1-based, 0 = empty).
+         */
+        void unpack(int[] out) {
+            int mask = (1 << bits) - 1;
+            long acc = 0;
+            int accBits = 0;
+            int pos = 0;
+            for (int i = 0; i < CELLS; i++) {
+                while (accBits < bits) {
+                    acc |= (packed[pos++] & 0xFFL) << accBits;
+                    accBits += 8;
+                }
+                out[i] = (int) (acc & mask);
+                acc >>>= bits;
+                accBits -= bits;
+            }
+        }
+    }
+
+    // ========================================================================
+    // LIFTING FROM JSON
+    // ========================================================================
+
+    /**
+     * Decodes the base64 properties ComponentTypeAdapterFactory writes for a TilemapRenderer
+     * and replaces them on {@code component} with a {@code {tileSize, zIndex}} object,
+     * which the adapter reads back as an empty tilemap.
+     */
+    static TilemapData lift(int gameObjectIndex, int componentIndex, JsonObject component) throws IOException {
+        byte[] bytes = Base64.getDecoder().decode(component.get("properties").getAsString());
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            JsonObject properties = new JsonObject();
+            properties.addProperty("tileSize", in.readFloat());
+            properties.addProperty("zIndex", in.readInt());
+            component.add("properties", properties);
+
+            int paletteSize = in.readInt();
+            List<TileSpec> palette = new ArrayList<>(paletteSize);
+            for (int i = 0; i < paletteSize; i++) {
+                palette.add(new TileSpec(in.readUTF(), in.readUTF(), in.readBoolean(), in.readByte()));
+            }
+
+            // Same chunk can appear twice in hand-edited files; merge by coordinates
+            Map<Long, int[]> cellsByChunk = new LinkedHashMap<>();
+            int chunkCount = in.readInt();
+            for (int i = 0; i < chunkCount; i++) {
+                int cx = in.readInt();
+                int cy = in.readInt();
+                int[] cells = cellsByChunk.computeIfAbsent(((long) cx << 32) ^ (cy & 0xffffffffL),
+                        k -> new int[CELLS]);
+                int tileCount = in.readInt();
+                for (int j = 0; j < tileCount; j++) {
+                    int tx = in.readByte();
+                    int ty = in.readByte();
+                    cells[tx * TileChunk.CHUNK_SIZE + ty] = in.readInt() + 1;
+                }
+            }
+
+            List<ChunkData> chunks = new ArrayList<>(cellsByChunk.size());
+            for (Map.Entry<Long, int[]> entry : cellsByChunk.entrySet()) {
+                ChunkData chunk = ChunkData.pack(TilemapRenderer.chunkKeyToX(entry.getKey()),
+                        TilemapRenderer.chunkKeyToY(entry.getKey()), entry.getValue(), paletteSize);
+                if (chunk != null) {
+                    chunks.add(chunk);
+                }
+            }
+            return new TilemapData(gameObjectIndex, componentIndex, palette, chunks);
+        }
+    }
+
+    // ========================================================================
+    // ATTACHING
+    // ========================================================================
+
+    /**
+     * Resolves the palette and registers every chunk on the tilemap as an encoded chunk.
+     *
+     * @param sprites Resolves sprite paths, e.g. {@code SpriteReference::fromPath}
+     */
+    public void attachTo(TilemapRenderer tilemap, Function<String, Sprite> sprites) {
+        LedgeDirection[] ledges = LedgeDirection.values();
+        Tile[] tiles = new Tile[palette.size()];
+        for (int i = 0; i < tiles.length; i++) {
+            TileSpec spec = palette.get(i);
+            tiles[i] = new Tile(spec.name(), sprites.apply(spec.spritePath()), spec.solid(),
+                    ledges[spec.ledgeOrdinal()]);
+        }
+
+        for (ChunkData chunk : chunks) {
+            Tile[] local = new Tile[chunk.palette().length + 1];
+            for (int i = 0; i < chunk.palette().length; i++) {
+                local[i + 1] = tiles[chunk.palette()[i]];
+            }
+            tilemap.addEncodedChunk(chunk.chunkX(), chunk.chunkY(), new PaletteChunk(chunk, local));
+        }
+    }
+
+    /**
+     * Encoded chunk backed by packed indices. Immutable, so tilemap copies can share it.
+     */
+    private record PaletteChunk(ChunkData data, Tile[] local) implements TilemapRenderer.EncodedChunk {
+
+        @Override
+        public TileChunk decode(int chunkX, int chunkY) {
+            int[] cells = new int[CELLS];
+            data.unpack(cells);
+            TileChunk chunk = new TileChunk(chunkX, chunkY);
+            for (int i = 0; i < CELLS; i++) {
+                if (cells[i] != 0) {
+                    chunk.set(i / TileChunk.CHUNK_SIZE, i % TileChunk.CHUNK_SIZE, local[cells[i]]);
+                }
+            }
+            return chunk;
+        }
+
+        @Override
+        public Collection<Tile> palette() {
+            return Arrays.asList(local).subList(1, local.length);
+        }
+    }
+}
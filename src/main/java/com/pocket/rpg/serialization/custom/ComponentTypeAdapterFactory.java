@@ -20,7 +20,6 @@ import com.pocket.rpg.serialization.ComponentRegistry;
 import com.pocket.rpg.serialization.FieldMeta;
 
 import java.io.*;
-import java.lang.reflect.Field;
 import java.util.*;
 
 /**
@@ -180,9 +179,6 @@ public class ComponentTypeAdapterFactory implements TypeAdapterFactory {
 
         if (meta != null) {
             for (FieldMeta fieldMeta : meta.fields()) {
-                Field field = fieldMeta.field();
-                field.setAccessible(true);
-
                 try {
                     // @ComponentReference(source=KEY) fields: write the pending key string
                     ComponentReferenceMeta keyRef = findKeyRef(meta, fieldMeta.name());
@@ -207,7 +203,7 @@ public class ComponentTypeAdapterFactory implements TypeAdapterFactory {
                         continue;
                     }
 
-                    Object value = field.get(component);
+                    Object value = fieldMeta.accessor().get(component);
                     if (value == null) {
                         continue;
                     }
@@ -220,7 +216,7 @@ public class ComponentTypeAdapterFactory implements TypeAdapterFactory {
                     } else {
                         writeFieldValue(out, value, gson);
                     }
-                } catch (IllegalAccessException e) {
+                } catch (RuntimeException e) {
                     System.err.println("Failed to read field " + fieldMeta.name() + ": " + e.getMessage());
                 }
             }
@@ -317,9 +313,6 @@ public class ComponentTypeAdapterFactory implements TypeAdapterFactory {
                 continue;
             }
 
-            Field field = fieldMeta.field();
-            field.setAccessible(true);
-
             try {
                 // @ComponentReference(source=KEY) fields: read key(s) and store as pending
                 ComponentReferenceMeta keyRef = findKeyRef(meta, fieldMeta.name());
@@ -347,7 +340,7 @@ public class ComponentTypeAdapterFactory implements TypeAdapterFactory {
                 } else {
                     value = readFieldValue(element, fieldMeta.type(), gson);
                 }
-                field.set(component, value);
+                fieldMeta.accessor().set(component, value);
             } catch (Exception e) {
                 System.err.println("Failed to set field " + fieldMeta.name() + ": " + e.getMessage());
             }
@@ -0,0 +1,177 @@
+package com.pocket.rpg.tools;
+
+import com.pocket.rpg.audio.mixing.AudioChannel;
+import com.pocket.rpg.components.Component;
+import com.pocket.rpg.components.audio.AudioSource;
+import com.pocket.rpg.serialization.ComponentMeta;
+import com.pocket.rpg.serialization.ComponentReflectionUtils;
+import com.pocket.rpg.serialization.ComponentRegistry;
+import com.pocket.rpg.serialization.FieldAccessor;
+import com.pocket.rpg.serialization.FieldMeta;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Benchmarks component field access through {@link FieldAccessor} against plain reflection.
+ * <p>
+ * Uses {@link AudioSource} (float, int, boolean and enum fields, plus transient state)
+ * for two workloads:
+ * <ul>
+ *   <li>clone: {@link ComponentReflectionUtils#cloneComponent} followed by
+ *       {@link ComponentRegistry#resetTransientFields}, against the reflective path it
+ *       replaced (field lookup by name, {@code setAccessible}, {@link Field} get/set,
+ *       {@code Constructor.newInstance}, class hierarchy walk for transient fields)</li>
+ *   <li>read: every float field read through {@link FieldAccessor#getFloat} against
+ *       {@link Field#getFloat}</li>
+ * </ul>
+ * Needs no GL context. Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass="com.pocket.rpg.tools.ComponentCloneBenchmark" -Dexec.args="[iterations]"
+ * </pre>
+ */
+public class ComponentCloneBenchmark {
+
+    private static final int DEFAULT_ITERATIONS = 500_000;
+    private static final int WARMUP_ROUNDS = 3;
+
+    private static float sink;
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+
+        ComponentRegistry.initialize();
+        ComponentMeta meta = ComponentRegistry.getByClassName(AudioSource.class.getName());
+        if (meta == null) {
+            throw new IllegalStateException("AudioSource is not registered");
+        }
+
+        AudioSource source = new AudioSource();
+        source.setVolume(0.8f);
+        source.setPitch(1.2f);
+        source.setLoop(true);
+        source.setChannel(AudioChannel.MUSIC);
+        source.setPriority(64);
+
+        System.out.printf("AudioSource, %d serialized fields, %,d iterations%n", meta.fields().size(), iterations);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            cloneReflective(meta, source, iterations / 10);
+            cloneAccessors(source, iterations / 10);
+            readReflective(meta, source, iterations / 10);
+            readAccessors(meta, source, iterations / 10);
+        }
+
+        System.out.printf("clone (ns/op):  reflection %8.1f   accessors %8.1f%n",
+                cloneReflective(meta, source, iterations), cloneAccessors(source, iterations));
+        System.out.printf("read (ns/op):   reflection %8.1f   accessors %8.1f%n",
+                readReflective(meta, source, iterations), readAccessors(meta, source, iterations));
+
+        if (sink == Float.MIN_VALUE) {
+            System.out.println();
+        }
+    }
+
+    // ========================================================================
+    // WORKLOADS
+    // ========================================================================
+
+    private static double cloneAccessors(Component source, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            Component clone = ComponentReflectionUtils.cloneComponent(source);
+            ComponentRegistry.resetTransientFields(clone);
+            sink += clone.isOwnEnabled() ? 1 : 0;
+        }
+        return (System.nanoTime() - start) / (double) iterations;
+    }
+
+    private static double cloneReflective(ComponentMeta meta, Component source, int iterations) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            Component clone = reflectiveClone(meta, source);
+            sink += clone.isOwnEnabled() ? 1 : 0;
+        }
+        return (System.nanoTime() - start) / (double) iterations;
+    }
+
+    private static double readAccessors(ComponentMeta meta, Component source, int iterations) {
+        FieldAccessor[] floats = meta.fields().stream()
+                .filter(fm -> fm.type() == float.class)
+                .map(FieldMeta::accessor)
+                .toArray(FieldAccessor[]::new);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (FieldAccessor accessor : floats) {
+                sink += accessor.getFloat(source);
+            }
+        }
+        return (System.nanoTime() - start) / (double) iterations;
+    }
+
+    private static double readReflective(ComponentMeta meta, Component source, int iterations) throws Exception {
+        Field[] floats = meta.fields().stream()
+                .filter(fm -> fm.type() == float.class)
+                .map(FieldMeta::field)
+                .toArray(Field[]::new);
+        for (Field field : floats) {
+            field.setAccessible(true);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (Field field : floats) {
+                sink += field.getFloat(source);
+            }
+        }
+        return (System.nanoTime() - start) / (double) iterations;
+    }
+
+    // ========================================================================
+    // REFLECTIVE BASELINE
+    // ========================================================================
+
+    /**
+     * The clone path as it was before accessors: every field is looked up by name in the
+     * meta, made accessible and copied through {@link Field}, and transient fields are
+     * reset from a fresh instance found by walking the class hierarchy.
+     */
+    private static Component reflectiveClone(ComponentMeta meta, Component source) throws Exception {
+        Component clone = meta.componentClass().getDeclaredConstructor().newInstance();
+
+        for (FieldMeta fm : meta.fields()) {
+            Field field = findField(meta, fm.name());
+            field.setAccessible(true);
+            Object value = field.get(source);
+            if (value != null) {
+                field.set(clone, ComponentReflectionUtils.deepCopyValue(value));
+            }
+        }
+
+        Component fresh = meta.componentClass().getDeclaredConstructor().newInstance();
+        for (Class<?> clazz = clone.getClass(); clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isTransient(modifiers) && !Modifier.isStatic(modifiers)) {
+                    try {
+                        field.setAccessible(true);
+                        field.set(clone, field.get(fresh));
+                    } catch (IllegalAccessException e) {
+                        // Skipped, as the old path did
+                    }
+                }
+            }
+        }
+        return clone;
+    }
+
+    private static Field findField(ComponentMeta meta, String name) {
+        for (FieldMeta fm : meta.fields()) {
+            if (fm.name().equals(name)) {
+                return fm.field();
+            }
+        }
+        throw new IllegalStateException("No field " + name);
+    }
+}
@@ -0,0 +1,192 @@
+package com.pocket.rpg.tools;
+
+import com.pocket.rpg.IPausable;
+import com.pocket.rpg.components.Component;
+import com.pocket.rpg.components.audio.AudioSource;
+import com.pocket.rpg.components.interaction.Door;
+import com.pocket.rpg.components.interaction.TriggerZone;
+import com.pocket.rpg.components.interaction.WarpZone;
+import com.pocket.rpg.components.pokemon.GridMovement;
+import com.pocket.rpg.components.rendering.SpriteRenderer;
+import com.pocket.rpg.core.GameObject;
+import com.pocket.rpg.save.PersistentId;
+import com.pocket.rpg.scenes.RuntimeScene;
+import com.pocket.rpg.scenes.Scene;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmarks the cached component lookups of {@link GameObject} and {@link Scene} against
+ * the linear scans they replaced.
+ * <p>
+ * Builds a prefab-heavy scene: N root objects, each carrying the components of a typical
+ * NPC prefab (sprite, grid movement, trigger, door, audio, persistent id) plus two child
+ * sprites. Three workloads, timed per frame:
+ * <ul>
+ *   <li>getComponent: three lookups per root (two hits, one miss), as gameplay
+ *       update loops do, against an {@code isInstance} scan of the component list</li>
+ *   <li>query: {@link Scene#getComponentsImplementing} once per frame, against the
+ *       recursive hierarchy walk it replaced</li>
+ *   <li>query with churn: the same query while one component is added to or removed
+ *       from the scene every frame, so the cached index is rebuilt each time</li>
+ * </ul>
+ * Needs no GL context. Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass="com.pocket.rpg.tools.ComponentLookupBenchmark" -Dexec.args="[prefabs] [frames]"
+ * </pre>
+ */
+public class ComponentLookupBenchmark {
+
+    private static final int DEFAULT_PREFABS = 2_000;
+    private static final int DEFAULT_FRAMES = 500;
+    private static final int WARMUP_ROUNDS = 3;
+
+    private static int sink;
+
+    public static void main(String[] args) {
+        int prefabs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PREFABS;
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_FRAMES;
+
+        Scene scene = new RuntimeScene("ComponentLookupBenchmark");
+        List<GameObject> roots = new ArrayList<>(prefabs);
+        for (int i = 0; i < prefabs; i++) {
+            GameObject root = createPrefab(i);
+            scene.addGameObject(root);
+            roots.add(root);
+        }
+
+        System.out.printf("%,d prefabs (%,d objects), %,d frames%n", prefabs, prefabs * 3, frames);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            getComponent(roots, frames / 10, false);
+            getComponent(roots, frames / 10, true);
+            query(scene, roots, frames / 10, false, false);
+            query(scene, roots, frames / 10, true, false);
+            query(scene, roots, frames / 10, true, true);
+        }
+
+        System.out.printf("getComponent (ns/lookup):  scan %8.2f   cached %8.2f%n",
+                getComponent(roots, frames, false), getComponent(roots, frames, true));
+        System.out.printf("query (us/call):           walk %8.2f   cached %8.2f   cached+churn %8.2f%n",
+                query(scene, roots, frames, false, false), query(scene, roots, frames, true, false),
+                query(scene, roots, frames, true, true));
+
+        if (sink == Integer.MIN_VALUE) {
+            System.out.println();
+        }
+    }
+
+    private static GameObject createPrefab(int index) {
+        GameObject root = new GameObject("Npc " + index);
+        root.addComponent(new SpriteRenderer());
+        root.addComponent(new GridMovement());
+        root.addComponent(new TriggerZone());
+        root.addComponent(new Door());
+        root.addComponent(new AudioSource());
+        root.addComponent(new PersistentId());
+
+        for (int c = 0; c < 2; c++) {
+            GameObject child = new GameObject("Part " + c);
+            child.addComponent(new SpriteRenderer());
+            root.addChild(child);
+        }
+        return root;
+    }
+
+    // ========================================================================
+    // WORKLOADS
+    // ========================================================================
+
+    private static double getComponent(List<GameObject> roots, int frames, boolean cached) {
+        // The scan baseline reads the same component order the GameObject holds
+        List<List<Component>> components = new ArrayList<>(roots.size());
+        for (GameObject root : roots) {
+            components.add(root.getAllComponents());
+        }
+
+        long start = System.nanoTime();
+        for (int f = 0; f < frames; f++) {
+            for (int i = 0, n = roots.size(); i < n; i++) {
+                if (cached) {
+                    GameObject root = roots.get(i);
+                    sink += root.getComponent(GridMovement.class) != null ? 1 : 0;
+                    sink += root.getComponent(Door.class) != null ? 1 : 0;
+                    sink += root.getComponent(WarpZone.class) != null ? 1 : 0;
+                } else {
+                    List<Component> list = components.get(i);
+                    sink += scan(list, GridMovement.class) != null ? 1 : 0;
+                    sink += scan(list, Door.class) != null ? 1 : 0;
+                    sink += scan(list, WarpZone.class) != null ? 1 : 0;
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        return elapsed / (double) frames / (roots.size() * 3);
+    }
+
+    private static double query(Scene scene, List<GameObject> roots, int frames, boolean cached, boolean churn) {
+        GameObject churned = roots.get(roots.size() / 2);
+        SpriteRenderer extra = new SpriteRenderer();
+
+        long start = System.nanoTime();
+        for (int f = 0; f < frames; f++) {
+            if (churn) {
+                if ((f & 1) == 0) {
+                    churned.addComponent(extra);
+                } else {
+                    churned.removeComponent(extra);
+                }
+            }
+            List<IPausable> pausables = cached
+                    ? scene.getComponentsImplementing(IPausable.class)
+                    : walk(roots, IPausable.class);
+            sink += pausables.size();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (churned.getComponents(SpriteRenderer.class).contains(extra)) {
+            churned.removeComponent(extra);
+        }
+        return elapsed / 1_000.0 / frames;
+    }
+
+    // ========================================================================
+    // UNCACHED BASELINE
+    // ========================================================================
+
+    /**
+     * GameObject.getComponent before the type cache: first {@code isInstance} match.
+     */
+    private static <T extends Component> T scan(List<Component> components, Class<T> type) {
+        for (Component component : components) {
+            if (type.isInstance(component)) {
+                return type.cast(component);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Scene.getComponentsImplementing before the index: a recursive walk that copies
+     * each object's component list.
+     */
+    private static <T> List<T> walk(List<GameObject> roots, Class<T> type) {
+        List<T> result = new ArrayList<>();
+        for (GameObject root : roots) {
+            collect(root, type, result);
+        }
+        return result;
+    }
+
+    private static <T> void collect(GameObject go, Class<T> type, List<T> result) {
+        for (Component component : go.getAllComponents()) {
+            if (type.isInstance(component)) {
+                result.add(type.cast(component));
+            }
+        }
+        for (GameObject child : go.getChildren()) {
+            collect(child, type, result);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.pocket.rpg.tools;
+
+import com.google.gson.JsonParser;
+import com.pocket.rpg.components.rendering.TilemapRenderer;
+import com.pocket.rpg.serialization.binary.BinarySceneFormat;
+import com.pocket.rpg.serialization.binary.SceneTree;
+import com.pocket.rpg.serialization.binary.TilemapData;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Converts JSON .scene files to {@link BinarySceneFormat} and benchmarks both formats.
+ * <p>
+ * Conversion works on the JSON tree directly, so it needs no asset loading or GL context.
+ * The output keeps the .scene extension; loaders detect the format from the file header.
+ * To go back to JSON, open the binary scene in the editor and save it.
+ * <p>
+ * The benchmark times decoding the same scene from both formats up to the point where
+ * they converge (JSON tree plus tilemap tile data); component construction and sprite
+ * loading that follow are identical for both. It also reports the cost of decoding every
+ * binary tilemap chunk, which a running game only pays for chunks that become visible.
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass="com.pocket.rpg.tools.SceneFormatConverter" \
+ *               -Dexec.args="gameData/scenes/MenuMockups.scene [output.scene]"
+ *
+ * mvn exec:java -Dexec.mainClass="com.pocket.rpg.tools.SceneFormatConverter" \
+ *               -Dexec.args="gameData/scenes/MenuMockups.scene --benchmark [iterations]"
+ * </pre>
+ * Without an output path, {@code Name.scene} is written to {@code Name.bin.scene}.
+ */
+public class SceneFormatConverter {
+
+    private static final int DEFAULT_ITERATIONS = 50;
+    private static final int WARMUP_ITERATIONS = 10;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: SceneFormatConverter <scene> [output | --benchmark [iterations]]");
+            System.exit(1);
+        }
+
+        Path input = Path.of(args[0]);
+        if (!Files.exists(input)) {
+            System.err.println("Scene file not found: " + input.toAbsolutePath());
+            System.exit(1);
+        }
+
+        byte[] json = Files.readAllBytes(input);
+        if (BinarySceneFormat.isBinary(json)) {
+            System.err.println("Scene is already binary: " + input);
+            System.exit(1);
+        }
+
+        if (args.length > 1 && args[1].equals("--benchmark")) {
+            int iterations = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_ITERATIONS;
+            benchmark(input, json, iterations);
+            return;
+        }
+
+        Path output = args.length > 1 ? Path.of(args[1]) : defaultOutput(input);
+        byte[] binary = convert(json);
+        Files.write(output, binary);
+
+        System.out.printf("Wrote %s: %,d bytes (JSON %,d bytes, %.0f%%)%n",
+                output, binary.length, json.length, 100.0 * binary.length / json.length);
+    }
+
+    /**
+     * Converts JSON scene file contents to the binary format.
+     */
+    public static byte[] convert(byte[] json) throws IOException {
+        return BinarySceneFormat.write(parseJson(json));
+    }
+
+    private static SceneTree parseJson(byte[] json) throws IOException {
+        String text = new String(json, StandardCharsets.UTF_8);
+        return SceneTree.fromJson(JsonParser.parseString(text).getAsJsonObject());
+    }
+
+    private static Path defaultOutput(Path input) {
+        String name = input.getFileName().toString();
+        String base = name.endsWith(".scene") ? name.substring(0, name.length() - ".scene".length()) : name;
+        return input.resolveSibling(base + ".bin.scene");
+    }
+
+    // ========================================================================
+    // BENCHMARK
+    // ========================================================================
+
+    private static void benchmark(Path input, byte[] json, int iterations) throws IOException {
+        byte[] binary = convert(json);
+        System.out.printf("%s: JSON %,d bytes, binary %,d bytes%n", input, json.length, binary.length);
+
+        double jsonMs = time(iterations, () -> parseJson(json));
+        double binaryMs = time(iterations, () -> BinarySceneFormat.readTree(binary));
+        double decodeAllMs = time(iterations, () -> decodeAllChunks(BinarySceneFormat.readTree(binary)));
+
+        System.out.printf("JSON decode:                     %8.3f ms%n", jsonMs);
+        System.out.printf("Binary decode:                   %8.3f ms (%.1fx)%n", binaryMs, jsonMs / binaryMs);
+        System.out.printf("Binary decode + all tile chunks: %8.3f ms%n", decodeAllMs);
+    }
+
+    private static int decodeAllChunks(SceneTree tree) {
+        int chunks = 0;
+        for (TilemapData data : tree.tilemaps()) {
+            TilemapRenderer tilemap = new TilemapRenderer();
+            data.attachTo(tilemap, path -> null);
+            chunks += tilemap.allChunks().size();
+        }
+        return chunks;
+    }
+
+    private static double time(int iterations, Decode decode) throws IOException {
+        Object sink = null;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink = decode.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = decode.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == null) {
+            throw new IllegalStateException("Decode produced nothing");
+        }
+        return elapsed / 1_000_000.0 / iterations;
+    }
+
+    @FunctionalInterface
+    private interface Decode {
+        Object run() throws IOException;
+    }
+}
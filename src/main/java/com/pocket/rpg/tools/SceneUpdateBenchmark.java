@@ -0,0 +1,134 @@
+package com.pocket.rpg.tools;
+
+import com.pocket.rpg.components.Component;
+import com.pocket.rpg.core.GameObject;
+import com.pocket.rpg.scenes.RuntimeScene;
+import com.pocket.rpg.scenes.Scene;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Benchmarks how {@link Scene#update} scales with the number of root objects, against the
+ * per-object {@code contains} scan it replaced.
+ * <p>
+ * Each root carries one trivial component, so the timing is dominated by the scene's own
+ * iteration. The scheduler should stay flat per object; the old loop grows linearly per
+ * object (quadratic per frame), so it gets fewer frames at large counts to keep the run short.
+ * <p>
+ * Needs no GL context. Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass="com.pocket.rpg.tools.SceneUpdateBenchmark" -Dexec.args="[frames] [counts...]"
+ * </pre>
+ */
+public class SceneUpdateBenchmark {
+
+    private static final int DEFAULT_FRAMES = 50;
+    private static final int[] DEFAULT_COUNTS = {1_000, 10_000, 50_000};
+    private static final int WARMUP_ROUNDS = 3;
+
+    // Upper bound on contains() comparisons spent on the old loop per count
+    private static final long BASELINE_BUDGET = 5_000_000_000L;
+
+    private static final float DELTA_TIME = 0.016f;
+
+    public static void main(String[] args) {
+        int frames = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_FRAMES;
+        int[] counts = DEFAULT_COUNTS;
+        if (args.length > 1) {
+            counts = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                counts[i - 1] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.printf("%d frames, one component per object%n", frames);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            scheduler(counts[0], frames);
+            containsScan(counts[0], frames);
+        }
+
+        for (int count : counts) {
+            int baselineFrames = (int) Math.max(1, Math.min(frames, BASELINE_BUDGET / ((long) count * count)));
+            System.out.printf("%,7d objects (ns/object/frame):  scheduler %8.1f   contains scan %10.1f (%d frames)%n",
+                    count, scheduler(count, frames), containsScan(count, baselineFrames), baselineFrames);
+        }
+    }
+
+    // ========================================================================
+    // WORKLOADS
+    // ========================================================================
+
+    private static double scheduler(int count, int frames) {
+        Scene scene = new RuntimeScene("SceneUpdateBenchmark");
+        for (int i = 0; i < count; i++) {
+            scene.addGameObject(createObject(i));
+        }
+        // First frame starts every component
+        scene.update(DELTA_TIME);
+
+        long start = System.nanoTime();
+        for (int f = 0; f < frames; f++) {
+            scene.update(DELTA_TIME);
+        }
+        return (System.nanoTime() - start) / ((double) frames * count);
+    }
+
+    private static double containsScan(int count, int frames) {
+        List<GameObject> gameObjects = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < count; i++) {
+            gameObjects.add(createObject(i));
+        }
+        updateWithContains(gameObjects);
+
+        long start = System.nanoTime();
+        for (int f = 0; f < frames; f++) {
+            updateWithContains(gameObjects);
+        }
+        return (System.nanoTime() - start) / ((double) frames * count);
+    }
+
+    private static GameObject createObject(int index) {
+        GameObject gameObject = new GameObject("Object " + index);
+        gameObject.addComponent(new TickComponent());
+        return gameObject;
+    }
+
+    // ========================================================================
+    // CONTAINS-SCAN BASELINE
+    // ========================================================================
+
+    /**
+     * Scene.update before SceneUpdateScheduler: both phases re-check membership with a
+     * linear {@code contains} for every object.
+     */
+    private static void updateWithContains(List<GameObject> gameObjects) {
+        for (GameObject gameObject : gameObjects) {
+            if (!gameObjects.contains(gameObject)) continue;
+            if (gameObject.isEnabled()) {
+                gameObject.update(DELTA_TIME);
+            }
+        }
+        for (GameObject gameObject : gameObjects) {
+            if (!gameObjects.contains(gameObject)) continue;
+            if (gameObject.isEnabled()) {
+                gameObject.lateUpdate(DELTA_TIME);
+            }
+        }
+    }
+
+    private static class TickComponent extends Component {
+        private int ticks;
+
+        @Override
+        public void update(float deltaTime) {
+            ticks++;
+        }
+
+        @Override
+        public void lateUpdate(float deltaTime) {
+            ticks++;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.pocket.rpg.tools;
+
+import com.pocket.rpg.collision.EntityOccupancyMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks {@link EntityOccupancyMap} (backed by {@code TileBucketMap}) against the
+ * {@code HashMap<Long, Set<Object>>} implementation it replaced.
+ * <p>
+ * Registers N entities at random tiles of a square area, then times four workloads with
+ * the same seeded walk for both maps:
+ * <ul>
+ *   <li>register: every entity placed into an empty map, repeated on fresh maps
+ *       (one pass is too short to time on its own)</li>
+ *   <li>move: every entity steps one tile left or right, per round</li>
+ *   <li>isOccupied: the tile next to each entity, excluding itself</li>
+ *   <li>query: the entities on each entity's tile, as a copied set (old) against
+ *       a caller buffer (new)</li>
+ * </ul>
+ * Needs no GL context. Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass="com.pocket.rpg.tools.TileBucketMapBenchmark" -Dexec.args="[entities] [area] [rounds]"
+ * </pre>
+ */
+public class TileBucketMapBenchmark {
+
+    private static final int DEFAULT_ENTITIES = 10_000;
+    private static final int DEFAULT_AREA = 200;
+    private static final int DEFAULT_ROUNDS = 100;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final long SEED = 1;
+
+    private static int sink;
+
+    public static void main(String[] args) {
+        int entities = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ENTITIES;
+        int area = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_AREA;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_ROUNDS;
+
+        Object[] items = new Object[entities];
+        for (int i = 0; i < entities; i++) {
+            items[i] = new Object();
+        }
+
+        System.out.printf("%,d entities on %dx%d tiles, %d rounds%n", entities, area, area, rounds);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(HashMapOccupancy::new, items, area, rounds / 10);
+            run(BucketOccupancy::new, items, area, rounds / 10);
+        }
+
+        double[] old = run(HashMapOccupancy::new, items, area, rounds);
+        double[] bucket = run(BucketOccupancy::new, items, area, rounds);
+        System.out.printf("register (ns/op):    HashMap %8.1f   TileBucketMap %8.1f%n", old[0], bucket[0]);
+        System.out.printf("move (ns/op):        HashMap %8.1f   TileBucketMap %8.1f%n", old[1], bucket[1]);
+        System.out.printf("isOccupied (ns/op):  HashMap %8.1f   TileBucketMap %8.1f%n", old[2], bucket[2]);
+        System.out.printf("query (ns/op):       HashMap %8.1f   TileBucketMap %8.1f%n", old[3], bucket[3]);
+
+        if (sink == Integer.MIN_VALUE) {
+            System.out.println();
+        }
+    }
+
+    // ========================================================================
+    // WORKLOADS
+    // ========================================================================
+
+    /**
+     * @return ns/op for register, move, isOccupied and query, in that order
+     */
+    private static double[] run(Supplier<Occupancy> factory, Object[] items, int area, int rounds) {
+        int n = items.length;
+        int registrations = Math.max(1, rounds / 10);
+        int[] xs = new int[n];
+        int[] ys = new int[n];
+        Random random = new Random(SEED);
+        for (int i = 0; i < n; i++) {
+            xs[i] = random.nextInt(area);
+            ys[i] = random.nextInt(area);
+        }
+
+        Occupancy map = null;
+        long start = System.nanoTime();
+        for (int r = 0; r < registrations; r++) {
+            map = factory.get();
+            for (int i = 0; i < n; i++) {
+                map.register(items[i], xs[i], ys[i]);
+            }
+        }
+        long registered = System.nanoTime();
+
+        for (int r = 0; r < rounds; r++) {
+            for (int i = 0; i < n; i++) {
+                int toX = xs[i] + (random.nextBoolean() ? 1 : -1);
+                map.move(items[i], xs[i], ys[i], toX, ys[i]);
+                xs[i] = toX;
+            }
+        }
+        long moved = System.nanoTime();
+
+        for (int r = 0; r < rounds; r++) {
+            for (int i = 0; i < n; i++) {
+                sink += map.isOccupied(xs[i] + 1, ys[i], items[i]) ? 1 : 0;
+            }
+        }
+        long checked = System.nanoTime();
+
+        for (int r = 0; r < rounds; r++) {
+            for (int i = 0; i < n; i++) {
+                sink += map.query(xs[i], ys[i]);
+            }
+        }
+        long queried = System.nanoTime();
+
+        double ops = (double) rounds * n;
+        return new double[]{
+                (registered - start) / ((double) registrations * n),
+                (moved - registered) / ops,
+                (checked - moved) / ops,
+                (queried - checked) / ops
+        };
+    }
+
+    private interface Occupancy {
+        void register(Object entity, int x, int y);
+
+        void move(Object entity, int fromX, int fromY, int toX, int toY);
+
+        boolean isOccupied(int x, int y, Object entity);
+
+        int query(int x, int y);
+    }
+
+    private static final class BucketOccupancy implements Occupancy {
+        private final EntityOccupancyMap map = new EntityOccupancyMap();
+        private final List<Object> buffer = new ArrayList<>();
+
+        @Override
+        public void register(Object entity, int x, int y) {
+            map.register(entity, x, y, 0);
+        }
+
+        @Override
+        public void move(Object entity, int fromX, int fromY, int toX, int toY) {
+            map.move(entity, fromX, fromY, 0, toX, toY, 0);
+        }
+
+        @Override
+        public boolean isOccupied(int x, int y, Object entity) {
+            return map.isOccupied(x, y, 0, entity);
+        }
+
+        @Override
+        public int query(int x, int y) {
+            buffer.clear();
+            return map.getEntities(x, y, 0, buffer);
+        }
+    }
+
+    // ========================================================================
+    // HASHMAP BASELINE
+    // ========================================================================
+
+    /**
+     * EntityOccupancyMap as it was before TileBucketMap: boxed keys, a HashSet per
+     * occupied tile (dropped when emptied), synchronized methods and copied query results.
+     */
+    private static final class HashMapOccupancy implements Occupancy {
+        private final Map<Long, Set<Object>> occupancy = new HashMap<>();
+
+        @Override
+        public synchronized void register(Object entity, int x, int y) {
+            occupancy.computeIfAbsent(key(x, y, 0), k -> new HashSet<>()).add(entity);
+        }
+
+        private synchronized void unregister(Object entity, int x, int y) {
+            long key = key(x, y, 0);
+            Set<Object> entities = occupancy.get(key);
+            if (entities != null) {
+                entities.remove(entity);
+                if (entities.isEmpty()) {
+                    occupancy.remove(key);
+                }
+            }
+        }
+
+        @Override
+        public synchronized void move(Object entity, int fromX, int fromY, int toX, int toY) {
+            unregister(entity, fromX, fromY);
+            register(entity, toX, toY);
+        }
+
+        @Override
+        public synchronized boolean isOccupied(int x, int y, Object entity) {
+            Set<Object> entities = occupancy.get(key(x, y, 0));
+            if (entities == null || entities.isEmpty()) {
+                return false;
+            }
+            return entities.size() > 1 || !entities.contains(entity);
+        }
+
+        @Override
+        public synchronized int query(int x, int y) {
+            Set<Object> entities = occupancy.get(key(x, y, 0));
+            Set<Object> copy = entities != null ? new HashSet<>(entities) : Collections.emptySet();
+            return copy.size();
+        }
+
+        private static long key(int x, int y, int z) {
+            return ((long) z << 48) | ((long) (x & 0xFFFFFF) << 24) | (y & 0xFFFFFF);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.pocket.rpg.tools;
+
+import com.pocket.rpg.animation.tween.Ease;
+import com.pocket.rpg.animation.tween.FloatTween;
+import com.pocket.rpg.animation.tween.Tween;
+import com.pocket.rpg.animation.tween.TweenManager;
+
+/**
+ * Benchmarks {@link TweenManager} with many concurrent tweens.
+ * <p>
+ * Compares generic {@link Tween}s (boxed values, allocated per tween) against pooled
+ * {@link FloatTween}s for three workloads:
+ * <ul>
+ *   <li>update: N looping tweens, one manager update per frame</li>
+ *   <li>churn: N short tweens started, run to completion and started again</li>
+ *   <li>kill: N tweens on N targets, killed one target at a time</li>
+ * </ul>
+ * Needs no GL context. Usage:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass="com.pocket.rpg.tools.TweenBenchmark" -Dexec.args="[tweens] [frames]"
+ * </pre>
+ */
+public class TweenBenchmark {
+
+    private static final int DEFAULT_TWEENS = 10_000;
+    private static final int DEFAULT_FRAMES = 500;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final float FRAME = 1f / 60f;
+
+    private static float sink;
+
+    public static void main(String[] args) {
+        int tweens = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TWEENS;
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_FRAMES;
+
+        System.out.printf("%,d concurrent tweens, %,d frames%n", tweens, frames);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            update(tweens, frames / 10, false);
+            update(tweens, frames / 10, true);
+            churn(tweens, frames / 10, false);
+            churn(tweens, frames / 10, true);
+            kill(tweens, false);
+            kill(tweens, true);
+        }
+
+        System.out.printf("update (ms/frame):  generic %8.3f   pooled %8.3f%n",
+                update(tweens, frames, false), update(tweens, frames, true));
+        System.out.printf("churn (ms/frame):   generic %8.3f   pooled %8.3f%n",
+                churn(tweens, frames, false), churn(tweens, frames, true));
+        System.out.printf("kill all (ms):      generic %8.3f   pooled %8.3f%n",
+                kill(tweens, false), kill(tweens, true));
+
+        if (sink == Float.MIN_VALUE) {
+            System.out.println();
+        }
+    }
+
+    // ========================================================================
+    // WORKLOADS
+    // ========================================================================
+
+    private static double update(int tweens, int frames, boolean pooled) {
+        TweenManager.killAll(false);
+        for (int i = 0; i < tweens; i++) {
+            start(pooled, 1f + (i % 7) * 0.25f).setLoops(-1).setYoyo(true);
+        }
+        TweenManager.update(0f);
+
+        long start = System.nanoTime();
+        for (int f = 0; f < frames; f++) {
+            TweenManager.update(FRAME);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        TweenManager.killAll(false);
+        return elapsed / 1_000_000.0 / frames;
+    }
+
+    private static double churn(int tweens, int frames, boolean pooled) {
+        TweenManager.killAll(false);
+
+        long start = System.nanoTime();
+        for (int f = 0; f < frames; f++) {
+            // Every tween lasts ~4 frames, so a quarter of them restart each frame
+            while (TweenManager.getActiveCount() < tweens) {
+                start(pooled, FRAME * 4);
+            }
+            TweenManager.update(FRAME);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        TweenManager.killAll(false);
+        return elapsed / 1_000_000.0 / frames;
+    }
+
+    private static double kill(int tweens, boolean pooled) {
+        TweenManager.killAll(false);
+        Object[] targets = new Object[tweens];
+        for (int i = 0; i < tweens; i++) {
+            targets[i] = new Object();
+            start(pooled, 1f).setTarget(targets[i]);
+        }
+        TweenManager.update(0f);
+
+        long start = System.nanoTime();
+        for (Object target : targets) {
+            TweenManager.kill(target, false);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (TweenManager.getActiveCount() != 0) {
+            throw new IllegalStateException("Tweens left after kill: " + TweenManager.getActiveCount());
+        }
+        return elapsed / 1_000_000.0;
+    }
+
+    private static Tween<Float> start(boolean pooled, float duration) {
+        Tween<Float> tween = pooled
+                ? FloatTween.obtain(0f, 1f, duration, value -> sink += value)
+                : new Tween<>(0f, 1f, duration, (a, b, t) -> a + (b - a) * t, value -> sink += value);
+        return tween.setEase(Ease.IN_OUT_QUAD);
+    }
+}
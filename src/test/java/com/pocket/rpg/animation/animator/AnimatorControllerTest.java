@@ -274,4 +274,68 @@ class AnimatorControllerTest {
         assertTrue(controller.isValid());
         assertTrue(controller.validate().isEmpty());
     }
+
+    // ========================================================================
+    // COMPILED FORM TESTS
+    // ========================================================================
+
+    private AnimatorTransition compiledIdleToWalk() {
+        controller.addState(new AnimatorState("idle", "idle.anim"));
+        controller.addState(new AnimatorState("walk", "walk.anim"));
+        controller.addParameter(new AnimatorParameter("isMoving", false));
+        AnimatorTransition trans = new AnimatorTransition("idle", "walk", TransitionType.INSTANT);
+        trans.addCondition(new TransitionCondition("isMoving", true));
+        controller.addTransition(trans);
+        controller.getCompiled();
+        return trans;
+    }
+
+    @Test
+    void testCompiledIsCachedUntilEdited() {
+        compiledIdleToWalk();
+
+        assertSame(controller.getCompiled(), controller.getCompiled());
+    }
+
+    @Test
+    void testRenamingStateInPlaceRecompiles() {
+        compiledIdleToWalk();
+        CompiledAnimator before = controller.getCompiled();
+
+        controller.getState("walk").setName("run");
+
+        CompiledAnimator after = controller.getCompiled();
+        assertNotSame(before, after);
+        assertEquals(1, after.stateIndex("run"));
+        assertEquals(CompiledAnimator.NONE, after.stateIndex("walk"));
+    }
+
+    @Test
+    void testEditingTransitionAndConditionInPlaceRecompiles() {
+        AnimatorTransition trans = compiledIdleToWalk();
+
+        CompiledAnimator before = controller.getCompiled();
+        trans.setTo("idle");
+        assertNotSame(before, controller.getCompiled());
+
+        before = controller.getCompiled();
+        trans.getCondition(0).setValue(false);
+        assertNotSame(before, controller.getCompiled());
+
+        before = controller.getCompiled();
+        controller.getParameter("isMoving").setName("moving");
+        assertNotSame(before, controller.getCompiled());
+        assertNotEquals(CompiledAnimator.NONE, controller.getCompiled().parameterIndex("moving"));
+    }
+
+    @Test
+    void testEditingCopyDoesNotInvalidateOriginal() {
+        compiledIdleToWalk();
+        CompiledAnimator before = controller.getCompiled();
+
+        AnimatorController copy = controller.copy();
+        copy.getState("idle").setName("rest");
+
+        assertSame(before, controller.getCompiled());
+    }
 }
@@ -279,4 +279,85 @@ class AnimatorStateMachineTest {
     void testGetPlayer() {
         assertSame(player, stateMachine.getPlayer());
     }
+
+    @Test
+    void testIndexedSetters() {
+        int isMoving = stateMachine.getParameterIndex("isMoving");
+        int attack = stateMachine.getParameterIndex("attackTrigger");
+        int direction = stateMachine.getParameterIndex("direction");
+
+        stateMachine.setBool(isMoving, true);
+        stateMachine.setDirection(direction, Direction.LEFT);
+        stateMachine.update(0.016f);
+
+        assertEquals("walk", stateMachine.getCurrentState());
+        assertEquals(Direction.LEFT, stateMachine.getDirection("direction"));
+
+        stateMachine.setTrigger(attack);
+        stateMachine.update(0.016f);
+
+        assertEquals("attack", stateMachine.getCurrentState());
+        assertFalse(stateMachine.getBool("attackTrigger"));
+    }
+
+    @Test
+    void testIndexedSettersIgnoreWrongSlots() {
+        int isMoving = stateMachine.getParameterIndex("isMoving");
+
+        stateMachine.setDirection(isMoving, Direction.UP);
+        stateMachine.setTrigger(isMoving);
+        stateMachine.setBool(CompiledAnimator.NONE, true);
+        stateMachine.setBool(99, true);
+
+        assertEquals(CompiledAnimator.NONE, stateMachine.getParameterIndex("missing"));
+        assertFalse(stateMachine.getBool("isMoving"));
+    }
+
+    @Test
+    void testDirectionConditionStoredAsString() {
+        AnimatorTransition turn = new AnimatorTransition("idle", "walk", TransitionType.INSTANT);
+        turn.addCondition(new TransitionCondition("direction", "UP"));
+        controller.addTransition(turn);
+
+        stateMachine.update(0.016f);
+        assertEquals("idle", stateMachine.getCurrentState());
+
+        stateMachine.setDirection("direction", Direction.UP);
+        stateMachine.update(0.016f);
+        assertEquals("walk", stateMachine.getCurrentState());
+    }
+
+    @Test
+    void testRecompileKeepsStateAndParameters() {
+        stateMachine.setBool("isMoving", true);
+        stateMachine.update(0.016f);
+        assertEquals("walk", stateMachine.getCurrentState());
+
+        // Hot reload: parameters reordered, a new state added
+        AnimatorController reloaded = controller.copy();
+        reloaded.getParameters().add(0, new AnimatorParameter("isRunning", false));
+        reloaded.getStates().add(0, new AnimatorState("run", "animations/run.anim"));
+        controller.copyFrom(reloaded);
+
+        stateMachine.update(0.016f);
+
+        assertEquals("walk", stateMachine.getCurrentState());
+        assertEquals("idle", stateMachine.getPreviousState());
+        assertTrue(stateMachine.getBool("isMoving"));
+        assertFalse(stateMachine.getBool("isRunning"));
+        assertEquals(1, stateMachine.getParameterIndex("isMoving"));
+    }
+
+    @Test
+    void testCompiledFormIsSharedUntilChanged() {
+        CompiledAnimator compiled = controller.getCompiled();
+        AnimatorStateMachine other = new AnimatorStateMachine(controller, new AnimationPlayer());
+
+        assertSame(compiled, stateMachine.getCompiled());
+        assertSame(compiled, other.getCompiled());
+
+        controller.addParameter(new AnimatorParameter("extra", false));
+
+        assertNotSame(compiled, controller.getCompiled());
+    }
 }
@@ -0,0 +1,207 @@
+package com.pocket.rpg.animation.tween;
+
+import org.joml.Vector2f;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TweenManagerTest {
+
+    @BeforeEach
+    void setUp() {
+        TweenManager.killAll(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TweenManager.killAll(false);
+    }
+
+    @Nested
+    @DisplayName("Pooled tweens")
+    class PooledTweens {
+
+        @Test
+        @DisplayName("float tween reaches its end value and leaves the manager")
+        void floatTween() {
+            float[] value = new float[1];
+            FloatTween.obtain(0f, 10f, 1f, v -> value[0] = v).setEase(Ease.LINEAR);
+
+            TweenManager.update(0.5f);
+            assertEquals(5f, value[0], 0.0001f);
+            assertEquals(1, TweenManager.getActiveCount());
+
+            TweenManager.update(0.5f);
+            assertEquals(10f, value[0], 0.0001f);
+            assertEquals(0, TweenManager.getActiveCount());
+        }
+
+        @Test
+        @DisplayName("vector tween sets both channels")
+        void vectorTween() {
+            Vector2f value = new Vector2f();
+            Vector2Tween.obtain(new Vector2f(0, 0), new Vector2f(4, -8), 1f, value::set).setEase(Ease.LINEAR);
+
+            TweenManager.update(0.25f);
+
+            assertEquals(1f, value.x, 0.0001f);
+            assertEquals(-2f, value.y, 0.0001f);
+        }
+
+        @Test
+        @DisplayName("finished tweens are reused with fresh options")
+        void reuse() {
+            FloatTween first = FloatTween.obtain(0f, 1f, 0.1f, v -> {});
+            first.setId("first").setTarget(this).setLoops(2);
+            TweenManager.kill(this, false);
+
+            FloatTween second = FloatTween.obtain(0f, 1f, 0.1f, v -> {});
+
+            assertSame(first, second);
+            assertNull(second.getId());
+            assertNull(second.getTarget());
+            assertFalse(second.isCompleted());
+        }
+
+        @Test
+        @DisplayName("non-recyclable tweens are not reused")
+        void keep() {
+            FloatTween kept = FloatTween.obtain(0f, 1f, 0.1f, v -> {});
+            kept.setRecyclable(false);
+
+            TweenManager.update(0.2f);
+
+            assertTrue(kept.isCompleted());
+            assertNotSame(kept, FloatTween.obtain(0f, 1f, 0.1f, v -> {}));
+        }
+    }
+
+    @Nested
+    @DisplayName("Killing")
+    class Killing {
+
+        @Test
+        @DisplayName("kill by target only stops that target's tweens")
+        void killByTarget() {
+            Object a = new Object();
+            Object b = new Object();
+            float[] values = new float[2];
+            FloatTween.obtain(0f, 1f, 1f, v -> values[0] = v).setTarget(a);
+            FloatTween.obtain(0f, 1f, 1f, v -> values[1] = v).setTarget(b);
+
+            TweenManager.kill(a, false);
+            TweenManager.update(0.5f);
+
+            assertEquals(0f, values[0]);
+            assertTrue(values[1] > 0f);
+            assertFalse(TweenManager.hasActiveTweens(a));
+            assertTrue(TweenManager.hasActiveTweens(b));
+        }
+
+        @Test
+        @DisplayName("kill with complete jumps to the end value")
+        void killAndComplete() {
+            Object target = new Object();
+            float[] value = new float[1];
+            boolean[] completed = new boolean[1];
+            FloatTween.obtain(0f, 3f, 1f, v -> value[0] = v)
+                    .setTarget(target)
+                    .onComplete(() -> completed[0] = true);
+
+            TweenManager.kill(target, true);
+
+            assertEquals(3f, value[0]);
+            assertTrue(completed[0]);
+            assertEquals(0, TweenManager.getActiveCount());
+        }
+
+        @Test
+        @DisplayName("kill from a callback during update is deferred safely")
+        void killDuringUpdate() {
+            Object target = new Object();
+            List<Float> values = new ArrayList<>();
+            FloatTween.obtain(0f, 1f, 1f, values::add).setTarget(target).setEase(Ease.LINEAR);
+            FloatTween.obtain(0f, 1f, 0.1f, v -> {})
+                    .onComplete(() -> TweenManager.kill(target, false));
+
+            TweenManager.update(0.2f);
+            TweenManager.update(0.2f);
+
+            assertFalse(TweenManager.hasActiveTweens(target));
+            assertEquals(0, TweenManager.getActiveCount());
+            assertTrue(values.size() <= 1);
+        }
+
+        @Test
+        @DisplayName("kill by id")
+        void killById() {
+            FloatTween.obtain(0f, 1f, 1f, v -> {}).setId("fade");
+            FloatTween.obtain(0f, 1f, 1f, v -> {}).setId("slide");
+
+            TweenManager.kill("fade", false);
+
+            assertEquals(1, TweenManager.getActiveCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Update")
+    class Update {
+
+        @Test
+        @DisplayName("removing finished tweens does not skip the others")
+        void swapRemoval() {
+            int count = 50;
+            int[] updates = new int[count];
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                float duration = i % 2 == 0 ? 0.1f : 1f;
+                FloatTween.obtain(0f, 1f, duration, v -> updates[index]++);
+            }
+
+            TweenManager.update(0.2f);
+            TweenManager.update(0.2f);
+
+            assertEquals(count / 2, TweenManager.getActiveCount());
+            for (int i = 0; i < count; i++) {
+                assertEquals(i % 2 == 0 ? 1 : 2, updates[i], "tween " + i);
+            }
+        }
+
+        @Test
+        @DisplayName("tweens started from callbacks begin on the next update")
+        void chained() {
+            float[] value = new float[1];
+            FloatTween.obtain(0f, 1f, 0.1f, v -> {})
+                    .onComplete(() -> FloatTween.obtain(0f, 10f, 1f, v -> value[0] = v).setEase(Ease.LINEAR));
+
+            TweenManager.update(0.2f);
+            assertEquals(0f, value[0]);
+            assertEquals(0, TweenManager.getActiveCount());
+
+            TweenManager.update(0.5f);
+            assertEquals(5f, value[0], 0.0001f);
+        }
+
+        @Test
+        @DisplayName("generic tweens still interpolate through their interpolator")
+        void genericTween() {
+            String[] value = new String[1];
+            new Tween<>("a", "b", 1f, (start, end, t) -> t < 0.5f ? start : end, v -> value[0] = v)
+                    .setEase(Ease.LINEAR);
+
+            TweenManager.update(0.25f);
+            assertEquals("a", value[0]);
+
+            TweenManager.update(0.5f);
+            assertEquals("b", value[0]);
+        }
+    }
+}
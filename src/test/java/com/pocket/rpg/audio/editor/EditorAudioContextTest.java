@@ -0,0 +1,105 @@
+package com.pocket.rpg.audio.editor;
+
+import com.pocket.rpg.audio.backend.NullAudioBackend;
+import com.pocket.rpg.audio.clips.AudioDecoder;
+import com.pocket.rpg.audio.clips.StreamingAudioClip;
+import com.pocket.rpg.audio.sources.AudioHandle;
+import com.pocket.rpg.components.audio.AudioSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests editor previews of streaming clips.
+ */
+class EditorAudioContextTest {
+
+    private static final int SAMPLE_RATE = 1000;
+    private static final int CHUNK_FRAMES = 4096;
+
+    private NullAudioBackend backend;
+    private EditorAudioContext context;
+
+    @BeforeEach
+    void setUp() {
+        backend = new NullAudioBackend();
+        context = new EditorAudioContext(backend);
+    }
+
+    /**
+     * Mono clip of silence, long enough to fill the whole buffer ring.
+     */
+    private static StreamingAudioClip silentClip(int totalFrames) {
+        return new StreamingAudioClip("silence", (float) totalFrames / SAMPLE_RATE, SAMPLE_RATE, 1, () -> new AudioDecoder() {
+            private long position;
+
+            @Override
+            public int getChannels() {
+                return 1;
+            }
+
+            @Override
+            public int getSampleRate() {
+                return SAMPLE_RATE;
+            }
+
+            @Override
+            public int read(short[] out, int offset, int length) {
+                int n = (int) Math.min(length, totalFrames - position);
+                position += n;
+                return n;
+            }
+
+            @Override
+            public void seekToFrame(long frame) {
+                position = Math.min(frame, totalFrames);
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("clip preview of a streaming clip queues buffers and keeps streaming on update")
+    void clipPreviewStreams() throws InterruptedException {
+        StreamingAudioClip clip = silentClip(CHUNK_FRAMES * 20);
+
+        AudioHandle handle = context.playPreview(clip, 1f);
+
+        assertNotNull(handle);
+        assertTrue(backend.getQueuedBufferCount(handle.getSourceId()) > 0);
+        long primed = backend.getStreamedSamples();
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (backend.getStreamedSamples() == primed) {
+            assertTrue(System.nanoTime() < deadline, "Timed out pumping preview");
+            context.update(0.016f);
+            Thread.sleep(1);
+        }
+        assertTrue(context.isPreviewingClip(clip));
+
+        context.stopPreview(clip);
+        assertEquals(0, backend.getQueuedBufferCount(handle.getSourceId()));
+        assertFalse(context.isPreviewingClip(clip));
+    }
+
+    @Test
+    @DisplayName("AudioSource preview of a streaming clip queues buffers")
+    void sourcePreviewStreams() {
+        AudioSource source = new AudioSource();
+        source.setClip(silentClip(CHUNK_FRAMES * 20));
+        source.setLoop(true);
+
+        context.previewSource(source);
+
+        assertTrue(context.isPreviewingSource(source));
+        assertTrue(backend.getStreamedSamples() > 0);
+
+        context.stopSourcePreview(source);
+        assertFalse(context.isPreviewingSource(source));
+    }
+}
@@ -0,0 +1,102 @@
+package com.pocket.rpg.audio.sources;
+
+import com.pocket.rpg.audio.backend.NullAudioBackend;
+import com.pocket.rpg.audio.clips.AudioDecoder;
+import com.pocket.rpg.audio.clips.StreamingAudioClip;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests streaming clips played through the source pool.
+ */
+class AudioSourcePoolTest {
+
+    private static final int SAMPLE_RATE = 1000;
+
+    private NullAudioBackend backend;
+    private AudioSourcePool pool;
+
+    @BeforeEach
+    void setUp() {
+        backend = new NullAudioBackend();
+        pool = new AudioSourcePool(backend, 2);
+    }
+
+    /**
+     * Mono clip of silence, long enough to fill the whole buffer ring.
+     */
+    private static StreamingAudioClip silentClip(int totalFrames) {
+        return new StreamingAudioClip("silence", (float) totalFrames / SAMPLE_RATE, SAMPLE_RATE, 1, () -> new AudioDecoder() {
+            private long position;
+
+            @Override
+            public int getChannels() {
+                return 1;
+            }
+
+            @Override
+            public int getSampleRate() {
+                return SAMPLE_RATE;
+            }
+
+            @Override
+            public int read(short[] out, int offset, int length) {
+                int n = (int) Math.min(length, totalFrames - position);
+                position += n;
+                return n;
+            }
+
+            @Override
+            public void seekToFrame(long frame) {
+                position = Math.min(frame, totalFrames);
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("acquiring a streaming clip queues buffers on the pooled source")
+    void streamingClipQueuesBuffers() {
+        AudioHandle handle = pool.acquire(silentClip(AudioStream.CHUNK_FRAMES * 20), 0);
+
+        assertInstanceOf(StreamingAudioHandle.class, handle);
+        assertEquals(AudioStream.BUFFER_COUNT, backend.getQueuedBufferCount(handle.getSourceId()));
+        assertTrue(handle.isPlaying());
+        assertEquals(1, pool.getActiveCount());
+    }
+
+    @Test
+    @DisplayName("update pumps the stream until the clip ends, then frees the source")
+    void updatePumpsStream() throws InterruptedException {
+        int totalFrames = AudioStream.CHUNK_FRAMES * 12;
+        AudioHandle handle = pool.acquire(silentClip(totalFrames), 0);
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (pool.getActiveCount() > 0) {
+            assertTrue(System.nanoTime() < deadline, "Timed out pumping pool");
+            pool.update();
+            Thread.sleep(1);
+        }
+
+        assertEquals(totalFrames, backend.getStreamedSamples());
+        assertFalse(handle.isValid());
+    }
+
+    @Test
+    @DisplayName("releasing a streaming handle stops its stream")
+    void releaseClosesStream() {
+        AudioHandle handle = pool.acquire(silentClip(AudioStream.CHUNK_FRAMES * 20), 0);
+
+        pool.release(handle);
+
+        assertEquals(0, backend.getQueuedBufferCount(handle.getSourceId()));
+        assertFalse(handle.isPlaying());
+        assertEquals(0, pool.getActiveCount());
+    }
+}
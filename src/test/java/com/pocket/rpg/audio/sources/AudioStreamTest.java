@@ -0,0 +1,216 @@
+package com.pocket.rpg.audio.sources;
+
+import com.pocket.rpg.audio.backend.NullAudioBackend;
+import com.pocket.rpg.audio.clips.AudioDecoder;
+import com.pocket.rpg.audio.clips.StreamingAudioClip;
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for streaming playback, driven through the NullAudioBackend buffer queue.
+ */
+class AudioStreamTest {
+
+    private static final int SAMPLE_RATE = 1000;
+
+    private NullAudioBackend backend;
+    private int sourceId;
+
+    @BeforeEach
+    void setUp() {
+        backend = new NullAudioBackend();
+        sourceId = backend.createSource();
+    }
+
+    /**
+     * Mono decoder producing a ramp of {@code totalFrames} samples.
+     */
+    private static final class RampDecoder implements AudioDecoder {
+        private final int totalFrames;
+        private long position;
+
+        RampDecoder(int totalFrames) {
+            this.totalFrames = totalFrames;
+        }
+
+        @Override
+        public int getChannels() {
+            return 1;
+        }
+
+        @Override
+        public int getSampleRate() {
+            return SAMPLE_RATE;
+        }
+
+        @Override
+        public int read(short[] out, int offset, int length) {
+            int n = (int) Math.min(length, totalFrames - position);
+            for (int i = 0; i < n; i++) {
+                out[offset + i] = (short) (position++ % Short.MAX_VALUE);
+            }
+            return n;
+        }
+
+        @Override
+        public void seekToFrame(long frame) {
+            position = Math.min(frame, totalFrames);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static StreamingAudioClip rampClip(int totalFrames, AtomicInteger opened) {
+        return new StreamingAudioClip("ramp", (float) totalFrames / SAMPLE_RATE, SAMPLE_RATE, 1, () -> {
+            opened.incrementAndGet();
+            return new RampDecoder(totalFrames);
+        });
+    }
+
+    /**
+     * Pumps the stream like AudioEngine.update() until the condition holds.
+     */
+    private static void pumpUntil(AudioStream stream, BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out pumping stream");
+            stream.update();
+            Thread.sleep(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Playback")
+    class Playback {
+
+        @Test
+        @DisplayName("plays a non-looping clip to the end")
+        void playsToEnd() throws Exception {
+            int totalFrames = AudioStream.CHUNK_FRAMES * 10 + 123;
+            AudioStream stream = new AudioStream(backend, sourceId, rampClip(totalFrames, new AtomicInteger()), false);
+
+            stream.start();
+            pumpUntil(stream, stream::isFinished);
+
+            assertEquals(totalFrames, backend.getStreamedSamples());
+            assertEquals(0, backend.getQueuedBufferCount(sourceId));
+            assertEquals((float) totalFrames / SAMPLE_RATE, stream.getPlaybackTime(), 0.001f);
+            stream.close();
+        }
+
+        @Test
+        @DisplayName("short clips finish during start without a decode thread")
+        void shortClip() throws Exception {
+            AudioStream stream = new AudioStream(backend, sourceId, rampClip(100, new AtomicInteger()), false);
+
+            stream.start();
+            assertEquals(100, backend.getStreamedSamples());
+            assertEquals(1, backend.getQueuedBufferCount(sourceId));
+
+            stream.update();
+            assertTrue(stream.isFinished());
+            stream.close();
+        }
+
+        @Test
+        @DisplayName("looping clip keeps streaming past its end")
+        void loops() throws Exception {
+            int totalFrames = AudioStream.CHUNK_FRAMES + 500;
+            AudioStream stream = new AudioStream(backend, sourceId, rampClip(totalFrames, new AtomicInteger()), true);
+
+            stream.start();
+            pumpUntil(stream, () -> backend.getStreamedSamples() > totalFrames * 3L);
+
+            assertFalse(stream.isFinished());
+            float time = stream.getPlaybackTime();
+            assertTrue(time >= 0f && time < (float) totalFrames / SAMPLE_RATE);
+            stream.close();
+            assertTrue(stream.isFinished());
+        }
+
+        @Test
+        @DisplayName("each playback opens its own decoder")
+        void opensDecoderPerPlayback() throws Exception {
+            AtomicInteger opened = new AtomicInteger();
+            StreamingAudioClip clip = rampClip(100, opened);
+
+            AudioStream first = new AudioStream(backend, sourceId, clip, false);
+            AudioStream second = new AudioStream(backend, backend.createSource(), clip, false);
+            first.start();
+            second.start();
+
+            assertEquals(2, opened.get());
+            first.close();
+            second.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Buffering")
+    class Buffering {
+
+        @Test
+        @DisplayName("never queues more than the buffer ring")
+        void boundedQueue() throws Exception {
+            int totalFrames = AudioStream.CHUNK_FRAMES * 50;
+            AudioStream stream = new AudioStream(backend, sourceId, rampClip(totalFrames, new AtomicInteger()), false);
+
+            stream.start();
+            assertEquals(AudioStream.BUFFER_COUNT, backend.getQueuedBufferCount(sourceId));
+            pumpUntil(stream, () -> {
+                assertTrue(backend.getQueuedBufferCount(sourceId) <= AudioStream.BUFFER_COUNT);
+                return stream.isFinished();
+            });
+            stream.close();
+        }
+
+        @Test
+        @DisplayName("seek restarts decoding from the new position")
+        void seek() throws Exception {
+            int totalFrames = AudioStream.CHUNK_FRAMES * 20;
+            AudioStream stream = new AudioStream(backend, sourceId, rampClip(totalFrames, new AtomicInteger()), false);
+            stream.start();
+
+            float target = (float) (totalFrames - AudioStream.CHUNK_FRAMES) / SAMPLE_RATE;
+            stream.seek(target);
+            assertEquals(target, stream.getPlaybackTime(), 0.002f);
+
+            long before = backend.getStreamedSamples();
+            pumpUntil(stream, stream::isFinished);
+            // Only the last chunk remained after the seek, and it was primed by seek itself
+            assertEquals(before, backend.getStreamedSamples());
+            stream.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Handle")
+    class Handle {
+
+        @Test
+        @DisplayName("reports playing until the stream finishes, and stop closes it")
+        void handleState() throws Exception {
+            StreamingAudioClip clip = rampClip(AudioStream.CHUNK_FRAMES * 8, new AtomicInteger());
+            AudioStream stream = new AudioStream(backend, sourceId, clip, true);
+            stream.start();
+            StreamingAudioHandle handle = new StreamingAudioHandle(backend, stream, clip);
+
+            assertTrue(handle.isPlaying());
+            handle.pause();
+            assertFalse(handle.isPlaying());
+            handle.resume();
+            assertTrue(handle.isPlaying());
+
+            handle.stop();
+            assertFalse(handle.isPlaying());
+            assertTrue(stream.isFinished());
+            assertEquals(0, backend.getQueuedBufferCount(sourceId));
+        }
+    }
+}
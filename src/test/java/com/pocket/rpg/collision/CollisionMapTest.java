@@ -0,0 +1,197 @@
+package com.pocket.rpg.collision;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for CollisionMap storage, region queries and serialization.
+ */
+class CollisionMapTest {
+
+    private CollisionMap map;
+
+    @BeforeEach
+    void setUp() {
+        map = new CollisionMap();
+    }
+
+    /**
+     * Fills a 100x80 area around the origin with a deterministic mix of types.
+     */
+    private void fillRandom(long seed) {
+        Random random = new Random(seed);
+        CollisionType[] types = {CollisionType.SOLID, CollisionType.WATER, CollisionType.ICE, CollisionType.LEDGE_DOWN};
+        for (int i = 0; i < 2000; i++) {
+            map.set(random.nextInt(100) - 50, random.nextInt(80) - 40, random.nextInt(2),
+                    types[random.nextInt(types.length)]);
+        }
+    }
+
+    @Nested
+    @DisplayName("Storage")
+    class Storage {
+
+        @Test
+        @DisplayName("handles negative coordinates across chunk borders")
+        void negativeCoordinates() {
+            map.set(-1, -1, CollisionType.SOLID);
+            map.set(-32, 0, CollisionType.WATER);
+            map.set(-33, 31, 2, CollisionType.ICE);
+
+            assertEquals(CollisionType.SOLID, map.get(-1, -1));
+            assertEquals(CollisionType.WATER, map.get(-32, 0));
+            assertEquals(CollisionType.ICE, map.get(-33, 31, 2));
+            assertEquals(CollisionType.NONE, map.get(0, 0));
+            assertTrue(map.hasChunk(-1, -1, 0));
+            assertTrue(map.hasChunk(-2, 0, 2));
+        }
+
+        @Test
+        @DisplayName("lookups stay correct when the cached chunk is removed and recreated")
+        void cacheInvalidation() {
+            map.set(5, 5, CollisionType.SOLID);
+            assertEquals(CollisionType.SOLID, map.get(5, 5));
+
+            map.clear(5, 5);
+            assertFalse(map.hasChunk(0, 0, 0));
+
+            map.set(6, 6, CollisionType.WATER);
+            assertEquals(CollisionType.WATER, map.get(6, 6));
+            assertEquals(CollisionType.NONE, map.get(5, 5));
+            assertEquals(1, map.getTileCount());
+        }
+
+        @Test
+        @DisplayName("same tile coordinates on different Z-levels are independent")
+        void zLevels() {
+            map.set(3, 3, 0, CollisionType.SOLID);
+            map.set(3, 3, 1, CollisionType.WATER);
+
+            assertEquals(CollisionType.SOLID, map.get(3, 3, 0));
+            assertEquals(CollisionType.WATER, map.get(3, 3, 1));
+            assertEquals(Set.of(0, 1), map.getZLevels());
+        }
+    }
+
+    @Nested
+    @DisplayName("Region queries")
+    class RegionQueries {
+
+        private final Set<CollisionType> blocking = EnumSet.of(CollisionType.SOLID, CollisionType.WATER);
+
+        @Test
+        @DisplayName("anyInRow only looks inside the span")
+        void anyInRow() {
+            map.set(40, 7, CollisionType.SOLID);
+
+            assertTrue(map.anyInRow(7, 10, 40, 0, blocking));
+            assertTrue(map.anyInRow(7, 40, 70, 0, blocking));
+            assertFalse(map.anyInRow(7, 10, 39, 0, blocking));
+            assertFalse(map.anyInRow(7, 41, 70, 0, blocking));
+            assertFalse(map.anyInRow(8, 10, 70, 0, blocking));
+        }
+
+        @Test
+        @DisplayName("NONE matches tiles in missing chunks")
+        void noneInMissingChunks() {
+            map.set(0, 0, CollisionType.SOLID);
+
+            assertEquals(10 * 10 - 1, map.countInRect(0, 0, 9, 9, 0, EnumSet.of(CollisionType.NONE)));
+            assertEquals(100, map.countInRect(500, 500, 509, 509, 0, EnumSet.of(CollisionType.NONE)));
+        }
+
+        @Test
+        @DisplayName("countInRect and forEachInRect match a tile-by-tile scan")
+        void matchesBruteForce() {
+            fillRandom(7);
+            Set<CollisionType> walkable = EnumSet.complementOf(EnumSet.copyOf(blocking));
+
+            for (int z = 0; z < 2; z++) {
+                Set<Long> expected = new HashSet<>();
+                for (int x = -45; x <= 37; x++) {
+                    for (int y = -33; y <= 20; y++) {
+                        if (walkable.contains(map.get(x, y, z))) {
+                            expected.add(((long) x << 32) | (y & 0xFFFFFFFFL));
+                        }
+                    }
+                }
+
+                Set<Long> visited = new HashSet<>();
+                map.forEachInRect(-45, -33, 37, 20, z, walkable,
+                        (x, y) -> assertTrue(visited.add(((long) x << 32) | (y & 0xFFFFFFFFL))));
+
+                assertEquals(expected, visited);
+                assertEquals(expected.size(), map.countInRect(-45, -33, 37, 20, z, walkable));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Serialization")
+    class Serialization {
+
+        @Test
+        @DisplayName("round-trips every tile")
+        void roundTrip() {
+            fillRandom(3);
+
+            CollisionMap loaded = new CollisionMap();
+            loaded.fromBase64(map.toBase64());
+
+            assertEquals(map.getTileCount(), loaded.getTileCount());
+            for (int z = 0; z < 2; z++) {
+                for (int x = -50; x < 50; x++) {
+                    for (int y = -40; y < 40; y++) {
+                        assertEquals(map.get(x, y, z), loaded.get(x, y, z));
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("uniform chunks encode to a few bytes")
+        void compactRuns() {
+            for (int x = 0; x < 32; x++) {
+                for (int y = 0; y < 32; y++) {
+                    map.set(x, y, CollisionType.SOLID);
+                }
+            }
+
+            assertTrue(Base64.getDecoder().decode(map.toBase64()).length < 32);
+        }
+
+        @Test
+        @DisplayName("reads the older per-tile format")
+        void legacyFormat() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(1);   // layers
+            out.writeInt(0);   // z
+            out.writeInt(1);   // chunks
+            out.writeInt(-1);  // cx
+            out.writeInt(0);   // cy
+            out.writeInt(2);   // tiles
+            out.writeByte(31);
+            out.writeByte(4);
+            out.writeInt(CollisionType.SOLID.getId());
+            out.writeByte(0);
+            out.writeByte(0);
+            out.writeInt(CollisionType.ICE.getId());
+
+            map.fromBase64(Base64.getEncoder().encodeToString(bytes.toByteArray()));
+
+            assertEquals(CollisionType.SOLID, map.get(-1, 4));
+            assertEquals(CollisionType.ICE, map.get(-32, 0));
+            assertEquals(2, map.getTileCount());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.pocket.rpg.collision;
+
+import com.pocket.rpg.collision.trigger.TileCoord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TileBucketMap and the occupancy maps built on it.
+ */
+class TileBucketMapTest {
+
+    private static long key(int x, int y, int z) {
+        return TileCoord.pack(x, y, z);
+    }
+
+    @Nested
+    @DisplayName("TileBucketMap")
+    class Buckets {
+
+        @Test
+        @DisplayName("add is idempotent and remove empties the tile")
+        void addRemove() {
+            TileBucketMap<String> map = new TileBucketMap<>();
+
+            assertTrue(map.add(key(1, 2, 0), "a"));
+            assertFalse(map.add(key(1, 2, 0), "a"));
+            assertTrue(map.add(key(1, 2, 0), "b"));
+            assertEquals(1, map.getTileCount());
+            assertEquals(2, map.getItemCount());
+
+            assertTrue(map.remove(key(1, 2, 0), "a"));
+            assertFalse(map.remove(key(1, 2, 0), "a"));
+            assertTrue(map.remove(key(1, 2, 0), "b"));
+            assertEquals(-1, map.find(key(1, 2, 0)));
+            assertEquals(0, map.getTileCount());
+        }
+
+        @Test
+        @DisplayName("collect appends into the caller's list")
+        void collect() {
+            TileBucketMap<String> map = new TileBucketMap<>();
+            map.add(key(-5, 7, 2), "a");
+            map.add(key(-5, 7, 2), "b");
+            List<String> out = new ArrayList<>(List.of("existing"));
+
+            assertEquals(2, map.collect(key(-5, 7, 2), out));
+            assertEquals(Set.of("existing", "a", "b"), new HashSet<>(out));
+            assertEquals(0, map.collect(key(-5, 7, 3), out));
+        }
+
+        @Test
+        @DisplayName("matches a HashMap model under random churn")
+        void randomChurn() {
+            TileBucketMap<Integer> map = new TileBucketMap<>();
+            Map<Long, Set<Integer>> model = new HashMap<>();
+            Random random = new Random(42);
+
+            for (int op = 0; op < 200_000; op++) {
+                long k = key(random.nextInt(64) - 32, random.nextInt(64) - 32, random.nextInt(3));
+                Integer item = random.nextInt(8);
+                if (random.nextInt(3) == 0) {
+                    boolean expected = model.containsKey(k) && model.get(k).remove(item);
+                    if (model.containsKey(k) && model.get(k).isEmpty()) {
+                        model.remove(k);
+                    }
+                    assertEquals(expected, map.remove(k, item));
+                } else {
+                    assertEquals(model.computeIfAbsent(k, x -> new HashSet<>()).add(item), map.add(k, item));
+                }
+            }
+
+            assertEquals(model.size(), map.getTileCount());
+            for (Map.Entry<Long, Set<Integer>> entry : model.entrySet()) {
+                List<Integer> out = new ArrayList<>();
+                map.collect(entry.getKey(), out);
+                assertEquals(entry.getValue(), new HashSet<>(out));
+            }
+        }
+
+        @Test
+        @DisplayName("copies are independent")
+        void copy() {
+            TileBucketMap<String> map = new TileBucketMap<>();
+            map.add(key(0, 0, 0), "a");
+
+            TileBucketMap<String> copy = map.copy();
+            map.remove(key(0, 0, 0), "a");
+            map.add(key(0, 0, 0), "b");
+
+            List<String> out = new ArrayList<>();
+            copy.collect(key(0, 0, 0), out);
+            assertEquals(List.of("a"), out);
+        }
+    }
+
+    @Nested
+    @DisplayName("EntityOccupancyMap")
+    class Occupancy {
+
+        @Test
+        @DisplayName("excludes the asking entity")
+        void isOccupied() {
+            EntityOccupancyMap map = new EntityOccupancyMap();
+            Object npc = new Object();
+            Object player = new Object();
+            map.register(npc, 3, 4, 0);
+
+            assertTrue(map.isOccupied(3, 4, 0, null));
+            assertTrue(map.isOccupied(3, 4, 0, player));
+            assertFalse(map.isOccupied(3, 4, 0, npc));
+            assertFalse(map.isOccupied(3, 4, 1, player));
+
+            map.register(player, 3, 4, 0);
+            assertTrue(map.isOccupied(3, 4, 0, npc));
+        }
+
+        @Test
+        @DisplayName("move updates both tiles")
+        void move() {
+            EntityOccupancyMap map = new EntityOccupancyMap();
+            Object npc = new Object();
+            map.register(npc, 3, 4, 0);
+
+            map.move(npc, 3, 4, 0, 3, 5, 0);
+
+            assertFalse(map.isOccupied(3, 4, 0, null));
+            assertTrue(map.isOccupied(3, 5, 0, null));
+            assertEquals(1, map.getEntityCount());
+        }
+    }
+}
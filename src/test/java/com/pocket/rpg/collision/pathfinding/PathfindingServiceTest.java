@@ -0,0 +1,249 @@
+package com.pocket.rpg.collision.pathfinding;
+
+import com.pocket.rpg.collision.CollisionMap;
+import com.pocket.rpg.collision.CollisionSystem;
+import com.pocket.rpg.collision.CollisionType;
+import com.pocket.rpg.collision.Direction;
+import com.pocket.rpg.collision.trigger.TileCoord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for PathfindingService over a 96x64 map (3x2 chunks).
+ */
+class PathfindingServiceTest {
+
+    private CollisionMap map;
+    private CollisionSystem system;
+    private PathfindingService paths;
+
+    @BeforeEach
+    void setUp() {
+        map = new CollisionMap();
+        // Corner tiles define the navigable bounds: chunks (0..2, 0..1)
+        map.set(0, 0, CollisionType.SOLID);
+        map.set(95, 63, CollisionType.SOLID);
+        system = new CollisionSystem(map);
+        paths = system.getPathfinding();
+    }
+
+    private Path find(int fromX, int fromY, int toX, int toY) {
+        return paths.findPath(PathRequest.terrainOnly(new TileCoord(fromX, fromY), new TileCoord(toX, toY)));
+    }
+
+    /**
+     * Checks that a path of single-tile moves is continuous and ends at the goal.
+     */
+    private static void assertContinuous(TileCoord start, TileCoord goal, Path path) {
+        assertTrue(path.found());
+        TileCoord current = start;
+        for (PathStep step : path.steps()) {
+            int dx = step.target().x() - current.x();
+            int dy = step.target().y() - current.y();
+            assertEquals(step.direction().dx, Integer.signum(dx), "Step " + step + " from " + current);
+            assertEquals(step.direction().dy, Integer.signum(dy), "Step " + step + " from " + current);
+            current = step.target();
+        }
+        assertEquals(goal, current);
+    }
+
+    private static boolean visits(Path path, int x, int y) {
+        return path.steps().stream().anyMatch(s -> s.target().x() == x && s.target().y() == y);
+    }
+
+    @Nested
+    @DisplayName("Terrain")
+    class Terrain {
+
+        @Test
+        @DisplayName("crosses several chunks on open ground")
+        void openGround() {
+            Path path = find(2, 2, 90, 40);
+
+            assertContinuous(new TileCoord(2, 2), new TileCoord(90, 40), path);
+            assertTrue(path.size() >= 88 + 38);
+        }
+
+        @Test
+        @DisplayName("routes through the only gap in a wall")
+        void wallGap() {
+            for (int y = 0; y < 64; y++) {
+                if (y != 50) {
+                    map.set(40, y, CollisionType.SOLID);
+                }
+            }
+
+            Path path = find(30, 5, 50, 5);
+
+            assertContinuous(new TileCoord(30, 5), new TileCoord(50, 5), path);
+            assertTrue(visits(path, 40, 50));
+        }
+
+        @Test
+        @DisplayName("ledges can be jumped down but not climbed")
+        void ledges() {
+            for (int x = 0; x < 96; x++) {
+                map.set(x, 10, CollisionType.LEDGE_DOWN);
+            }
+
+            Path down = find(5, 15, 5, 5);
+            assertContinuous(new TileCoord(5, 15), new TileCoord(5, 5), down);
+            assertTrue(down.steps().stream().anyMatch(s -> s.direction() == Direction.DOWN
+                    && s.target().y() == 10));
+
+            assertFalse(find(5, 5, 5, 15).found());
+        }
+
+        @Test
+        @DisplayName("elevated ledges move the path to another Z-level")
+        void elevatedLedge() {
+            map.set(10, 10, 0, CollisionType.LEDGE_UP_ELEV);
+
+            Path path = paths.findPath(PathRequest.terrainOnly(new TileCoord(10, 5, 0), new TileCoord(10, 12, 1)));
+
+            assertTrue(path.found());
+            assertTrue(path.steps().contains(new PathStep(Direction.UP, new TileCoord(10, 10, 1))));
+            assertEquals(new TileCoord(10, 12, 1), path.steps().get(path.size() - 1).target());
+        }
+
+        @Test
+        @DisplayName("an ice slide is a single step")
+        void iceSlide() {
+            for (int x = 10; x <= 20; x++) {
+                map.set(x, 5, CollisionType.ICE);
+            }
+
+            Path path = find(9, 5, 21, 5);
+
+            assertEquals(List.of(new PathStep(Direction.RIGHT, new TileCoord(21, 5))), path.steps());
+        }
+
+        @Test
+        @DisplayName("water needs the swim ability")
+        void water() {
+            for (int y = 0; y < 64; y++) {
+                map.set(40, y, CollisionType.WATER);
+            }
+            TileCoord from = new TileCoord(30, 5);
+            TileCoord to = new TileCoord(50, 5);
+
+            assertFalse(paths.findPath(PathRequest.terrainOnly(from, to)).found());
+
+            PathRequest swimmer = new PathRequest(from, to, null,
+                    new com.pocket.rpg.collision.behavior.TileBehavior.MoveContext(null, true, false, false), false);
+            assertTrue(paths.findPath(swimmer).found());
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("sees tiles set after the first query")
+        void seesChanges() {
+            assertTrue(find(2, 2, 20, 2).found());
+
+            for (int y = 0; y < 64; y++) {
+                map.set(10, y, CollisionType.SOLID);
+            }
+
+            assertFalse(find(2, 2, 20, 2).found());
+        }
+
+        @Test
+        @DisplayName("only regions that read a changed chunk are rebuilt")
+        void incremental() {
+            assertTrue(find(2, 2, 90, 40).found());
+            int before = paths.getCachedRegionCount();
+            assertTrue(before > 2);
+
+            map.set(80, 50, CollisionType.SOLID);
+            paths.refresh();
+
+            int after = paths.getCachedRegionCount();
+            assertTrue(after < before, "Regions next to the change should be dropped");
+            assertTrue(after > 0, "Distant regions should be kept");
+        }
+
+        @Test
+        @DisplayName("clearing the map drops everything")
+        void reset() {
+            assertTrue(find(2, 2, 20, 2).found());
+
+            map.clear();
+
+            assertFalse(find(2, 2, 20, 2).found());
+            assertEquals(0, paths.getCachedRegionCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Entities")
+    class Entities {
+
+        @Test
+        @DisplayName("routes around occupied tiles when asked to")
+        void avoidsEntities() {
+            Object npc = new Object();
+            Object mover = new Object();
+            system.registerEntity(npc, 5, 2);
+
+            TileCoord from = new TileCoord(2, 2);
+            TileCoord to = new TileCoord(8, 2);
+
+            Path avoiding = paths.findPath(PathRequest.of(from, to, mover));
+            assertContinuous(from, to, avoiding);
+            assertFalse(visits(avoiding, 5, 2));
+
+            Path ignoring = paths.findPath(PathRequest.terrainOnly(from, to));
+            assertTrue(visits(ignoring, 5, 2));
+        }
+
+        @Test
+        @DisplayName("the mover's own tile does not block it")
+        void ignoresSelf() {
+            Object mover = new Object();
+            system.registerEntity(mover, 2, 2);
+
+            assertTrue(paths.findPath(PathRequest.of(new TileCoord(2, 2), new TileCoord(4, 2), mover)).found());
+        }
+    }
+
+    @Nested
+    @DisplayName("Async")
+    class Async {
+
+        @Test
+        @DisplayName("batched queries match synchronous results")
+        void batch() throws Exception {
+            for (int y = 0; y < 60; y++) {
+                map.set(48, y, CollisionType.SOLID);
+            }
+
+            List<PathRequest> requests = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                requests.add(PathRequest.terrainOnly(new TileCoord(2 + i % 30, 2 + i % 50),
+                        new TileCoord(60 + i % 30, 5 + i % 40)));
+            }
+
+            List<CompletableFuture<Path>> futures = paths.findPathsAsync(requests);
+
+            for (int i = 0; i < requests.size(); i++) {
+                Path async = futures.get(i).get(10, TimeUnit.SECONDS);
+                Path sync = paths.findPath(requests.get(i));
+                assertEquals(sync.found(), async.found());
+                assertContinuous(requests.get(i).start(), requests.get(i).goal(), async);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.pocket.rpg.components.rendering;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TileChunk modification tracking used by static chunk meshes.
+ */
+class TileChunkVersionTest {
+
+    private static TilemapRenderer.Tile tile(String name) {
+        return new TilemapRenderer.Tile(name, null, false, TilemapRenderer.LedgeDirection.NONE);
+    }
+
+    @Test
+    @DisplayName("Setting a different tile bumps the version")
+    void setBumpsVersion() {
+        TilemapRenderer tilemap = new TilemapRenderer();
+        tilemap.set(3, 4, tile("grass"));
+        TilemapRenderer.TileChunk chunk = tilemap.getChunk(0, 0);
+        int version = chunk.getVersion();
+
+        tilemap.set(3, 4, tile("water"));
+
+        assertTrue(chunk.getVersion() > version);
+    }
+
+    @Test
+    @DisplayName("Setting the same tile instance does not bump the version")
+    void sameTileKeepsVersion() {
+        TilemapRenderer tilemap = new TilemapRenderer();
+        TilemapRenderer.Tile grass = tile("grass");
+        tilemap.set(3, 4, grass);
+        TilemapRenderer.TileChunk chunk = tilemap.getChunk(0, 0);
+        int version = chunk.getVersion();
+
+        tilemap.set(3, 4, grass);
+
+        assertEquals(version, chunk.getVersion());
+    }
+
+    @Test
+    @DisplayName("Clearing a tile and markDirty() bump the version")
+    void clearAndMarkDirtyBumpVersion() {
+        TilemapRenderer tilemap = new TilemapRenderer();
+        tilemap.set(-1, -1, tile("grass"));
+        TilemapRenderer.TileChunk chunk = tilemap.getChunk(-1, -1);
+        int version = chunk.getVersion();
+
+        tilemap.clear(-1, -1);
+        assertTrue(chunk.getVersion() > version);
+
+        version = chunk.getVersion();
+        chunk.markDirty();
+        assertTrue(chunk.getVersion() > version);
+    }
+}
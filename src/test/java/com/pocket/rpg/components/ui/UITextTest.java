@@ -0,0 +1,144 @@
+package com.pocket.rpg.components.ui;
+
+import com.pocket.rpg.ui.text.Font;
+import com.pocket.rpg.ui.text.Glyph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyChar;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests UIText layout and typewriter reveal.
+ * The font is mocked with a fixed 10px advance per character, so no font file or OpenGL is needed.
+ */
+class UITextTest {
+
+    private static final float ADVANCE = 10;
+
+    private Font font;
+    private UIText text;
+
+    @BeforeEach
+    void setUp() {
+        font = mock(Font.class);
+        when(font.getStringWidth(anyString())).thenAnswer(inv -> inv.<String>getArgument(0).length() * ADVANCE);
+        when(font.getGlyph(anyChar())).thenAnswer(inv -> glyph(inv.getArgument(0)));
+        text = new UIText();
+    }
+
+    private static Glyph glyph(char c) {
+        return new Glyph(c, ADVANCE, ADVANCE, 0, ADVANCE, ADVANCE, 0, 0, 1, 1);
+    }
+
+    /** Visible characters per laid-out line. */
+    private int[] visibleCounts() {
+        int[] counts = new int[text.getLines().length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = text.getVisibleCharCount(i);
+        }
+        return counts;
+    }
+
+    @Nested
+    class LineStarts {
+
+        @Test
+        void simpleLayoutSkipsNewlines() {
+            text.setText("ab\n\ncde");
+            text.ensureLayout(0, font);
+
+            assertArrayEquals(new String[]{"ab", "", "cde"}, text.getLines());
+            assertArrayEquals(new int[]{0, 3, 4}, text.getLineStarts());
+        }
+
+        @Test
+        void wrappedLayoutPointsAtFirstWordOfEachLine() {
+            text.setWordWrap(true);
+            // 60px fits "hello" (50px) but not "hello big" (90px)
+            text.setText("hello big world\nok");
+            text.ensureLayout(60, font);
+
+            assertArrayEquals(new String[]{"hello", "big", "world", "ok"}, text.getLines());
+            assertArrayEquals(new int[]{0, 6, 10, 16}, text.getLineStarts());
+        }
+
+        @Test
+        void repeatedSpacesKeepOffsets() {
+            text.setWordWrap(true);
+            text.setText("a  b");
+            text.ensureLayout(1000, font);
+
+            assertArrayEquals(new String[]{"a  b"}, text.getLines());
+            assertArrayEquals(new int[]{0}, text.getLineStarts());
+        }
+    }
+
+    @Nested
+    class Reveal {
+
+        @BeforeEach
+        void layOut() {
+            text.setWordWrap(true);
+            text.setText("hello big world");
+            text.ensureLayout(60, font);
+        }
+
+        @Test
+        void allCharactersVisibleByDefault() {
+            assertEquals(-1, text.getVisibleCharacters());
+            assertArrayEquals(new int[]{5, 3, 5}, visibleCounts());
+        }
+
+        @Test
+        void partialRevealStopsMidLine() {
+            text.setVisibleCharacters(8);
+
+            assertArrayEquals(new int[]{5, 2, 0}, visibleCounts());
+        }
+
+        @Test
+        void revealDoesNotRelayout() {
+            String[] lines = text.getLines();
+            clearInvocations(font);
+
+            for (int i = 0; i <= 15; i++) {
+                text.setVisibleCharacters(i);
+                text.ensureLayout(60, font);
+            }
+
+            assertSame(lines, text.getLines());
+            verifyNoInteractions(font);
+        }
+
+        @Test
+        void partialWordIsLaidOutOnItsFinalLine() {
+            // "wo" is already on the third line, where the full word ends up
+            text.setVisibleCharacters(12);
+
+            assertArrayEquals(new int[]{5, 3, 2}, visibleCounts());
+        }
+
+        @Test
+        void negativeCountShowsEverything() {
+            text.setVisibleCharacters(3);
+            text.setVisibleCharacters(-5);
+
+            assertEquals(-1, text.getVisibleCharacters());
+            assertArrayEquals(new int[]{5, 3, 5}, visibleCounts());
+        }
+
+        @Test
+        void sameTextKeepsLayout() {
+            String[] lines = text.getLines();
+
+            text.setText(text.getText());
+            text.ensureLayout(60, font);
+
+            assertSame(lines, text.getLines());
+        }
+    }
+}
@@ -5,7 +5,12 @@ import org.joml.Vector3f;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class GameObjectTest {
 
@@ -99,7 +104,111 @@ class GameObjectTest {
         assertTrue(component.lateUpdateCalled);
     }
 
-    private static class TestComponent extends Component {
+    @Test
+    void testGetComponentBySupertype() {
+        TestComponent component = gameObject.addComponent(new TestComponent());
+
+        // Transform is added first, so it is the first Component match
+        assertSame(gameObject.getTransform(), gameObject.getComponent(Component.class));
+        assertSame(component, gameObject.getComponent(MarkedComponent.class));
+        assertSame(component, gameObject.getComponent(TestComponent.class));
+        assertNull(gameObject.getComponent(OtherComponent.class));
+    }
+
+    @Test
+    void testGetComponentCacheInvalidatedOnAddAndRemove() {
+        assertNull(gameObject.getComponent(TestComponent.class));
+
+        TestComponent component = gameObject.addComponent(new TestComponent());
+        assertSame(component, gameObject.getComponent(TestComponent.class));
+
+        gameObject.removeComponent(component);
+        assertNull(gameObject.getComponent(TestComponent.class));
+    }
+
+    @Test
+    void testComponentAddedDuringUpdateRunsNextFrame() {
+        TestComponent added = new TestComponent();
+        gameObject.addComponent(new Component() {
+            @Override
+            public void update(float deltaTime) {
+                if (added.getGameObject() == null) {
+                    getGameObject().addComponent(added);
+                }
+            }
+        });
+        gameObject.start();
+
+        gameObject.update(0.016f);
+        assertFalse(added.updateCalled);
+
+        gameObject.update(0.016f);
+        assertTrue(added.updateCalled);
+    }
+
+    @Test
+    void testNonAllocatingComponentQueries() {
+        TestComponent a = gameObject.addComponent(new TestComponent());
+        TestComponent b = gameObject.addComponent(new TestComponent());
+
+        List<TestComponent> out = new ArrayList<>();
+        assertEquals(2, gameObject.getComponents(TestComponent.class, out));
+        assertEquals(List.of(a, b), out);
+
+        List<Component> all = new ArrayList<>();
+        gameObject.getAllComponents(all);
+        assertEquals(gameObject.getAllComponents(), all);
+
+        List<Component> visited = new ArrayList<>();
+        gameObject.forEachComponent(visited::add);
+        assertEquals(all, visited);
+    }
+
+    @Test
+    void testSteadyStateUpdateDoesNotAllocate() {
+        var threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        var allocBean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(allocBean.isThreadAllocatedMemorySupported());
+        allocBean.setThreadAllocatedMemoryEnabled(true);
+
+        // Three-level hierarchy: root -> 10 children -> 10 grandchildren each
+        gameObject.addComponent(new TestComponent());
+        for (int i = 0; i < 10; i++) {
+            GameObject child = new GameObject("Child" + i);
+            child.addComponent(new TestComponent());
+            child.setParent(gameObject);
+            for (int j = 0; j < 10; j++) {
+                GameObject grandchild = new GameObject("Grandchild" + j);
+                grandchild.addComponent(new TestComponent());
+                grandchild.setParent(child);
+            }
+        }
+        gameObject.start();
+
+        for (int frame = 0; frame < 50; frame++) {
+            gameObject.update(0.016f);
+            gameObject.lateUpdate(0.016f);
+        }
+
+        long before = allocBean.getCurrentThreadAllocatedBytes();
+        for (int frame = 0; frame < 100; frame++) {
+            gameObject.update(0.016f);
+            gameObject.lateUpdate(0.016f);
+        }
+        long allocated = allocBean.getCurrentThreadAllocatedBytes() - before;
+
+        // Copying components and children per call would allocate hundreds of KB here
+        assertTrue(allocated < 1024, "Expected no per-frame allocation, got " + allocated + " bytes");
+    }
+
+    private static class MarkedComponent extends Component {
+    }
+
+    private static class OtherComponent extends Component {
+    }
+
+    private static class TestComponent extends MarkedComponent {
         boolean updateCalled = false;
         boolean lateUpdateCalled = false;
 
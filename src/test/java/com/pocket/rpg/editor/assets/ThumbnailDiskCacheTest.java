@@ -0,0 +1,99 @@
+package com.pocket.rpg.editor.assets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThumbnailDiskCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ThumbnailDiskCache cache;
+    private Path source;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cache = new ThumbnailDiskCache(tempDir.resolve("thumbnails"));
+        source = Files.writeString(tempDir.resolve("sprite.png"), "image");
+    }
+
+    private ThumbnailDiskCache.Entry entry(long stamp) {
+        byte[] pixels = new byte[ThumbnailTile.BYTES];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = (byte) i;
+        }
+        return new ThumbnailDiskCache.Entry(stamp, source.toString(), ThumbnailDiskCache.lastModified(source), pixels);
+    }
+
+    @Test
+    void roundTripsTile() throws IOException {
+        ThumbnailDiskCache.Entry written = entry(42);
+        cache.write("sprites/player.png", written);
+
+        ThumbnailDiskCache.Entry read = cache.read("sprites/player.png", 42);
+
+        assertNotNull(read);
+        assertEquals(source.toString(), read.sourceFile());
+        assertArrayEquals(written.pixels(), read.pixels());
+    }
+
+    @Test
+    void missingKeyReturnsNull() {
+        assertNull(cache.read("sprites/none.png", 42));
+    }
+
+    @Test
+    void changedAssetStampIsStale() throws IOException {
+        cache.write("sprites/player.png", entry(42));
+
+        assertNull(cache.read("sprites/player.png", 43));
+    }
+
+    @Test
+    void changedSourceImageIsStale() throws IOException {
+        cache.write("anims/walk.anim", entry(42));
+        Files.setLastModifiedTime(source, FileTime.fromMillis(ThumbnailDiskCache.lastModified(source) + 5000));
+
+        assertNull(cache.read("anims/walk.anim", 42));
+    }
+
+    @Test
+    void rewriteReplacesSameFile() throws IOException {
+        cache.write("sprites/player.png#3", entry(1));
+        cache.write("sprites/player.png#3", entry(2));
+
+        assertNull(cache.read("sprites/player.png#3", 1));
+        assertNotNull(cache.read("sprites/player.png#3", 2));
+        try (var files = Files.list(tempDir.resolve("thumbnails"))) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void deleteRemovesTile() throws IOException {
+        cache.write("sprites/player.png", entry(42));
+        cache.delete("sprites/player.png");
+
+        assertNull(cache.read("sprites/player.png", 42));
+    }
+
+    @Test
+    void stampChangesWithMetadata() throws IOException {
+        Path meta = tempDir.resolve("sprite.png.meta");
+        long before = ThumbnailDiskCache.stamp(source, meta);
+
+        Files.writeString(meta, "{}");
+
+        assertNotEquals(0, before);
+        assertNotEquals(before, ThumbnailDiskCache.stamp(source, meta));
+        assertEquals(0, ThumbnailDiskCache.stamp(tempDir.resolve("missing.png"), meta));
+    }
+}
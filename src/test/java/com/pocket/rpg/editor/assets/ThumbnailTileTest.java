@@ -0,0 +1,170 @@
+package com.pocket.rpg.editor.assets;
+
+import com.pocket.rpg.resources.SpriteMetadata;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThumbnailTileTest {
+
+    private static final int S = ThumbnailTile.SIZE;
+
+    /** Creates an RGBA image filled with one color. */
+    private static ByteBuffer image(int width, int height, int r, int g, int b, int a) {
+        ByteBuffer buffer = ByteBuffer.allocate(width * height * 4);
+        for (int i = 0; i < width * height; i++) {
+            buffer.put((byte) r).put((byte) g).put((byte) b).put((byte) a);
+        }
+        return buffer.flip();
+    }
+
+    private static void setPixel(ByteBuffer image, int width, int x, int y, int r, int g, int b, int a) {
+        int i = (y * width + x) * 4;
+        image.put(i, (byte) r).put(i + 1, (byte) g).put(i + 2, (byte) b).put(i + 3, (byte) a);
+    }
+
+    private static int channel(byte[] tile, int x, int y, int c) {
+        return tile[(y * S + x) * 4 + c] & 0xFF;
+    }
+
+    @Nested
+    class Render {
+
+        @Test
+        void squareRegionFillsTile() {
+            byte[] tile = ThumbnailTile.render(image(256, 256, 10, 20, 30, 255), 256, 256, new int[]{0, 0, 256, 256});
+
+            assertEquals(ThumbnailTile.BYTES, tile.length);
+            assertEquals(10, channel(tile, 0, 0, 0));
+            assertEquals(30, channel(tile, S - 1, S - 1, 2));
+            assertEquals(255, channel(tile, S / 2, S / 2, 3));
+        }
+
+        @Test
+        void wideRegionIsCenteredVertically() {
+            byte[] tile = ThumbnailTile.render(image(128, 32, 255, 0, 0, 255), 128, 32, new int[]{0, 0, 128, 32});
+
+            // 128x32 scales to 64x16, centered: rows 24..39 filled
+            assertEquals(0, channel(tile, 10, 23, 3));
+            assertEquals(255, channel(tile, 10, 24, 3));
+            assertEquals(255, channel(tile, 10, 39, 3));
+            assertEquals(0, channel(tile, 10, 40, 3));
+        }
+
+        @Test
+        void smallRegionIsUpscaledWithNearestSampling() {
+            ByteBuffer img = image(16, 16, 0, 0, 0, 255);
+            setPixel(img, 16, 0, 0, 255, 255, 255, 255);
+
+            byte[] tile = ThumbnailTile.render(img, 16, 16, new int[]{0, 0, 16, 16});
+
+            // One source pixel covers a 4x4 block
+            assertEquals(255, channel(tile, 3, 3, 0));
+            assertEquals(0, channel(tile, 4, 0, 0));
+            assertEquals(0, channel(tile, 0, 4, 0));
+        }
+
+        @Test
+        void onlyRequestedRegionIsSampled() {
+            ByteBuffer img = image(32, 16, 255, 0, 0, 255);
+            for (int y = 0; y < 16; y++) {
+                for (int x = 16; x < 32; x++) {
+                    setPixel(img, 32, x, y, 0, 0, 255, 255);
+                }
+            }
+
+            byte[] tile = ThumbnailTile.render(img, 32, 16, new int[]{16, 0, 16, 16});
+
+            assertEquals(0, channel(tile, 0, 0, 0));
+            assertEquals(255, channel(tile, 0, 0, 2));
+        }
+
+        @Test
+        void transparentPixelsDoNotDarkenAverage() {
+            ByteBuffer img = image(128, 128, 0, 0, 0, 0);
+            setPixel(img, 128, 0, 0, 200, 100, 50, 255);
+
+            byte[] tile = ThumbnailTile.render(img, 128, 128, new int[]{0, 0, 128, 128});
+
+            // 2x2 box with one opaque pixel: color kept, alpha averaged
+            assertEquals(200, channel(tile, 0, 0, 0));
+            assertEquals(100, channel(tile, 0, 0, 1));
+            assertEquals(63, channel(tile, 0, 0, 3));
+        }
+
+        @Test
+        void regionOutsideImageGivesEmptyTile() {
+            byte[] tile = ThumbnailTile.render(image(16, 16, 255, 255, 255, 255), 16, 16, new int[]{32, 32, 8, 8});
+
+            for (byte b : tile) {
+                assertEquals(0, b);
+            }
+        }
+    }
+
+    @Nested
+    class Regions {
+
+        @Test
+        void cellRectMatchesSpriteGridLayout() {
+            SpriteMetadata.GridSettings grid = new SpriteMetadata.GridSettings(16, 16, 2, 2, 1, 1);
+
+            // 64x64 image: 3 columns, 3 rows. Index 4 = row 1, col 1
+            int[] rect = ThumbnailTile.cellRect(grid, 4, 64, 64);
+
+            assertArrayEquals(new int[]{19, 64 - (19 + 16), 16, 16}, rect);
+        }
+
+        @Test
+        void cellRectOutOfRangeIsNull() {
+            SpriteMetadata.GridSettings grid = new SpriteMetadata.GridSettings(16, 16);
+
+            assertNull(ThumbnailTile.cellRect(grid, 4, 32, 32));
+            assertNull(ThumbnailTile.cellRect(grid, -1, 32, 32));
+            assertNull(ThumbnailTile.cellRect(grid, 0, 8, 8));
+        }
+
+        @Test
+        void uvRectConvertsToPixels() {
+            assertArrayEquals(new int[]{16, 32, 16, 32},
+                    ThumbnailTile.uvRect(0.25f, 0.5f, 0.5f, 1f, 64, 64));
+        }
+
+        @Test
+        void uvRectHandlesFlippedUVs() {
+            assertArrayEquals(new int[]{0, 0, 32, 32},
+                    ThumbnailTile.uvRect(0.5f, 0.5f, 0f, 0f, 64, 64));
+        }
+    }
+
+    @Nested
+    class AtlasSlots {
+
+        @Test
+        void freedSlotsAreReused() {
+            ThumbnailAtlas atlas = new ThumbnailAtlas();
+            int a = atlas.allocate();
+            int b = atlas.allocate();
+            atlas.free(a);
+
+            assertEquals(a, atlas.allocate());
+            assertEquals(b + 1, atlas.allocate());
+            assertEquals(3, atlas.usedSlots());
+        }
+
+        @Test
+        void slotsWrapOntoNextPage() {
+            float tile = (float) ThumbnailTile.SIZE / ThumbnailAtlas.PAGE_SIZE;
+
+            assertEquals(0, ThumbnailAtlas.page(ThumbnailAtlas.TILES_PER_PAGE - 1));
+            assertEquals(1, ThumbnailAtlas.page(ThumbnailAtlas.TILES_PER_PAGE));
+            assertArrayEquals(new float[]{0, 0, tile, tile},
+                    ThumbnailAtlas.uvs(ThumbnailAtlas.TILES_PER_PAGE), 1e-6f);
+            assertArrayEquals(new float[]{tile, tile, 2 * tile, 2 * tile},
+                    ThumbnailAtlas.uvs(ThumbnailAtlas.TILES_PER_ROW + 1), 1e-6f);
+        }
+    }
+}
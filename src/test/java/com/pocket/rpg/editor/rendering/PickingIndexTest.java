@@ -0,0 +1,278 @@
+package com.pocket.rpg.editor.rendering;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests CPU picking against the batch geometry conventions.
+ * Headless — masks are built from in-memory pixels, no OpenGL or image files.
+ */
+class PickingIndexTest {
+
+    private final Map<String, AlphaMask> masks = new HashMap<>();
+    private int maskLoads;
+    private PickingIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PickingIndex<>(path -> {
+            maskLoads++;
+            AlphaMask mask = masks.get(path);
+            if (mask == null) throw new RuntimeException("missing " + path);
+            return mask;
+        });
+    }
+
+    /** Adds an unrotated, centered, fully opaque quad. */
+    private void addQuad(String item, float x, float y, float size, float zIndex) {
+        index.add(item, x, y, size, size, 0, 0.5f, 0.5f, zIndex, null, 0, 0, 1, 1);
+    }
+
+    /**
+     * 2x2 mask, bottom row first: bottom-left opaque, the rest transparent.
+     */
+    private static AlphaMask cornerMask() {
+        ByteBuffer pixels = ByteBuffer.allocate(2 * 2 * 4);
+        pixels.put(3, (byte) 255);
+        return AlphaMask.fromRgba(pixels, 2, 2);
+    }
+
+    @Nested
+    class Pick {
+
+        @Test
+        void hitsInsideAndMissesOutside() {
+            addQuad("a", 10, 20, 2, 0);
+
+            assertEquals("a", index.pick(10.9f, 20.9f));
+            assertNull(index.pick(11.1f, 20f));
+            assertNull(index.pick(-10, -20));
+        }
+
+        @Test
+        void originOffsetsQuad() {
+            // Origin bottom-left: quad spans [5, 7] x [5, 7]
+            index.add("a", 5, 5, 2, 2, 0, 0, 0, 0, null, 0, 0, 1, 1);
+
+            assertEquals("a", index.pick(6.5f, 6.5f));
+            assertNull(index.pick(4.5f, 4.5f));
+        }
+
+        @Test
+        void rotationIsExact() {
+            // 4x1 bar rotated 90 degrees around its center becomes 1x4
+            index.add("bar", 0, 0, 4, 1, 90, 0.5f, 0.5f, 0, null, 0, 0, 1, 1);
+
+            assertEquals("bar", index.pick(0, 1.8f));
+            assertNull(index.pick(1.8f, 0));
+        }
+
+        @Test
+        void higherZIndexWins() {
+            addQuad("front", 0, 0, 2, 5);
+            addQuad("back", 0, 0, 2, 1);
+
+            assertEquals("front", index.pick(0, 0));
+        }
+
+        @Test
+        void lowerYWinsOnSameZIndex() {
+            addQuad("lower", 0, 0, 4, 0);
+            addQuad("upper", 0, 1, 4, 0);
+
+            assertEquals("lower", index.pick(0, 0.5f));
+        }
+
+        @Test
+        void lastAddedWinsOnTie() {
+            addQuad("first", 0, 0, 2, 0);
+            addQuad("second", 0, 0, 2, 0);
+
+            assertEquals("second", index.pick(0, 0));
+        }
+
+        @Test
+        void quadsAcrossCellBoundaryAreFound() {
+            float edge = PickingIndex.CELL_SIZE;
+            addQuad("a", edge, edge, 1, 0);
+
+            assertEquals("a", index.pick(edge - 0.4f, edge - 0.4f));
+            assertEquals("a", index.pick(edge + 0.4f, edge + 0.4f));
+        }
+
+        @Test
+        void hugeQuadsArePickable() {
+            addQuad("ground", 0, 0, 1000, 0);
+            addQuad("tree", 300, 300, 1, 1);
+
+            assertEquals("ground", index.pick(-400, 250));
+            assertEquals("tree", index.pick(300, 300));
+        }
+
+        @Test
+        void clearRemovesQuads() {
+            addQuad("a", 0, 0, 2, 0);
+            index.pick(0, 0);
+            index.clear();
+
+            assertNull(index.pick(0, 0));
+            assertEquals(0, index.getSize());
+        }
+
+        @Test
+        void zeroSizeQuadsAreIgnored() {
+            index.add("flat", 0, 0, 0, 2, 0, 0.5f, 0.5f, 0, null, 0, 0, 1, 1);
+
+            assertEquals(0, index.getSize());
+        }
+    }
+
+    @Nested
+    class AlphaTest {
+
+        @BeforeEach
+        void addMaskedQuad() {
+            masks.put("corner.png", cornerMask());
+            // Quad spans [0, 2] x [0, 2], one texel per world unit
+            index.add("sprite", 0, 0, 2, 2, 0, 0, 0, 0, "corner.png", 0, 0, 1, 1);
+        }
+
+        @Test
+        void opaqueTexelIsPickable() {
+            assertEquals("sprite", index.pick(0.5f, 0.5f));
+        }
+
+        @Test
+        void transparentTexelFallsThrough() {
+            addQuad("behind", 1, 1, 2, -1);
+
+            assertEquals("behind", index.pick(1.5f, 1.5f));
+        }
+
+        @Test
+        void thresholdIsApplied() {
+            index.setAlphaThreshold(0f);
+
+            assertEquals("sprite", index.pick(1.5f, 1.5f));
+        }
+
+        @Test
+        void flippedQuadSamplesMirroredTexel() {
+            index.clear();
+            // Negative width mirrors the quad: the opaque texel is now on the right
+            index.add("flipped", 1, 0, -2, 2, 0, 0.5f, 0, 0, "corner.png", 0, 0, 1, 1);
+
+            assertEquals("flipped", index.pick(1.5f, 0.5f));
+            assertNull(index.pick(0.5f, 0.5f));
+        }
+
+        @Test
+        void subRegionUvsSampleThatRegion() {
+            index.clear();
+            // Only the top-right texel (transparent)
+            index.add("cell", 0, 0, 1, 1, 0, 0, 0, 0, "corner.png", 0.5f, 0.5f, 1, 1);
+
+            assertNull(index.pick(0.5f, 0.5f));
+        }
+
+        @Test
+        void masksAreLoadedOnce() {
+            index.pick(0.5f, 0.5f);
+            index.clear();
+            index.add("sprite", 0, 0, 2, 2, 0, 0, 0, 0, "corner.png", 0, 0, 1, 1);
+            index.pick(0.5f, 0.5f);
+
+            assertEquals(1, maskLoads);
+
+            index.clearMasks();
+            index.pick(0.5f, 0.5f);
+            assertEquals(2, maskLoads);
+        }
+
+        @Test
+        void missingMaskMakesWholeQuadPickable() {
+            index.add("plain", 10, 10, 2, 2, 0, 0, 0, 0, "missing.png", 0, 0, 1, 1);
+
+            assertEquals("plain", index.pick(11.5f, 11.5f));
+            assertEquals("plain", index.pick(10.5f, 10.5f));
+            assertEquals(1, maskLoads);
+        }
+    }
+
+    @Nested
+    class QueryRect {
+
+        @Test
+        void returnsOverlappingQuadsInAddOrder() {
+            addQuad("c", 30, 30, 2, 0);
+            addQuad("a", 0, 0, 2, 0);
+            addQuad("b", 5, 0, 2, 0);
+
+            assertEquals(List.of("a", "b"), index.queryRect(-1, -1, 4.5f, 1));
+            assertEquals(List.of("c", "a", "b"), index.queryRect(-100, -100, 100, 100));
+        }
+
+        @Test
+        void partialOverlapCounts() {
+            addQuad("a", 0, 0, 2, 0);
+
+            assertEquals(List.of("a"), index.queryRect(0.9f, 0.9f, 3, 3));
+            assertTrue(index.queryRect(1.1f, 1.1f, 3, 3).isEmpty());
+        }
+
+        @Test
+        void quadsSpanningCellsAreReportedOnce() {
+            addQuad("wide", 0, 0, PickingIndex.CELL_SIZE * 3, 0);
+            addQuad("huge", 0, 0, 1000, 0);
+
+            assertEquals(List.of("wide", "huge"), index.queryRect(-10, -10, 10, 10));
+        }
+    }
+
+    @Nested
+    class LargeScene {
+
+        @Test
+        void matchesBruteForceOnTenThousandQuads() {
+            Random random = new Random(42);
+            int count = 10_000;
+            float[][] quads = new float[count][];
+            for (int i = 0; i < count; i++) {
+                float x = random.nextFloat() * 500;
+                float y = random.nextFloat() * 500;
+                float size = 0.5f + random.nextFloat() * 3;
+                float z = random.nextInt(3);
+                quads[i] = new float[]{x, y, size, z};
+                addQuad(String.valueOf(i), x, y, size, z);
+            }
+
+            for (int q = 0; q < 2000; q++) {
+                float px = random.nextFloat() * 500;
+                float py = random.nextFloat() * 500;
+
+                int expected = -1;
+                for (int i = 0; i < count; i++) {
+                    float[] b = quads[i];
+                    float half = b[2] / 2;
+                    if (Math.abs(px - b[0]) > half || Math.abs(py - b[1]) > half) continue;
+                    if (expected < 0 || b[3] > quads[expected][3]
+                            || (b[3] == quads[expected][3] && (b[1] < quads[expected][1]
+                            || (b[1] == quads[expected][1])))) {
+                        expected = i;
+                    }
+                }
+
+                assertEquals(expected < 0 ? null : String.valueOf(expected), index.pick(px, py));
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.pocket.rpg.editor.tools;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the span engine against a plain grid and a reference BFS fill.
+ */
+class ScanlineFillTest {
+
+    /**
+     * Boolean grid with origin at (originX, originY). Cells outside are open.
+     */
+    private static final class Grid {
+        final int originX, originY, width, height;
+        final boolean[][] wall;
+        final int[][] filled;
+
+        Grid(int originX, int originY, int width, int height) {
+            this.originX = originX;
+            this.originY = originY;
+            this.width = width;
+            this.height = height;
+            this.wall = new boolean[width][height];
+            this.filled = new int[width][height];
+        }
+
+        boolean open(int x, int y) {
+            return !wall[x - originX][y - originY] && filled[x - originX][y - originY] == 0;
+        }
+
+        void fill(int y, int x0, int x1) {
+            for (int x = x0; x <= x1; x++) {
+                filled[x - originX][y - originY]++;
+            }
+        }
+
+        ScanlineFill.Bounds bounds() {
+            return new ScanlineFill.Bounds(originX, originY, originX + width - 1, originY + height - 1);
+        }
+    }
+
+    @Nested
+    class Flood {
+
+        @Test
+        void fillsOpenGridCompletely() {
+            Grid grid = new Grid(0, 0, 200, 200);
+
+            long count = ScanlineFill.flood(10, 10, grid.bounds(), grid::open, grid::fill);
+
+            assertEquals(200 * 200, count);
+            for (int[] column : grid.filled) {
+                for (int cell : column) assertEquals(1, cell);
+            }
+        }
+
+        @Test
+        void stopsAtWalls() {
+            Grid grid = new Grid(0, 0, 10, 10);
+            for (int y = 0; y < 10; y++) grid.wall[5][y] = true;
+
+            long count = ScanlineFill.flood(0, 0, grid.bounds(), grid::open, grid::fill);
+
+            assertEquals(50, count);
+            assertEquals(0, grid.filled[6][0]);
+        }
+
+        @Test
+        void doesNotLeakDiagonally() {
+            Grid grid = new Grid(0, 0, 3, 3);
+            // Diagonal wall from (0,2) to (2,0) seals the bottom-left corner
+            grid.wall[0][1] = true;
+            grid.wall[1][0] = true;
+
+            long count = ScanlineFill.flood(0, 0, grid.bounds(), grid::open, grid::fill);
+
+            assertEquals(1, count);
+        }
+
+        @Test
+        void negativeCoordinatesWork() {
+            Grid grid = new Grid(-50, -40, 30, 20);
+
+            long count = ScanlineFill.flood(-30, -30, grid.bounds(), grid::open, grid::fill);
+
+            assertEquals(600, count);
+        }
+
+        @Test
+        void startOutsideBoundsOrNotMatchingFillsNothing() {
+            Grid grid = new Grid(0, 0, 4, 4);
+            grid.wall[1][1] = true;
+
+            assertEquals(0, ScanlineFill.flood(1, 1, grid.bounds(), grid::open, grid::fill));
+            assertEquals(0, ScanlineFill.flood(9, 9, grid.bounds(), (x, y) -> true, (y, x0, x1) -> fail("no spans")));
+        }
+
+        @Test
+        void matcherMayObserveOwnWrites() {
+            // The consumer marks cells filled, so the matcher stops matching them
+            Grid grid = new Grid(0, 0, 64, 3);
+            List<int[]> spans = new ArrayList<>();
+
+            ScanlineFill.flood(0, 1, grid.bounds(), grid::open, (y, x0, x1) -> {
+                spans.add(new int[]{y, x0, x1});
+                grid.fill(y, x0, x1);
+            });
+
+            assertEquals(3, spans.size());
+            for (int[] span : spans) {
+                assertEquals(0, span[1]);
+                assertEquals(63, span[2]);
+            }
+        }
+
+        @Test
+        void matchesReferenceFillOnRandomMaze() {
+            Random random = new Random(7);
+            int size = 300;
+            Grid grid = new Grid(-100, -100, size, size);
+            for (int x = 0; x < size; x++) {
+                for (int y = 0; y < size; y++) {
+                    grid.wall[x][y] = random.nextInt(100) < 35;
+                }
+            }
+            grid.wall[150][150] = false;
+
+            // Reference: 4-connected BFS
+            boolean[][] expected = new boolean[size][size];
+            ArrayDeque<int[]> queue = new ArrayDeque<>();
+            queue.add(new int[]{150, 150});
+            expected[150][150] = true;
+            int expectedCount = 0;
+            while (!queue.isEmpty()) {
+                int[] p = queue.poll();
+                expectedCount++;
+                int[][] neighbours = {{p[0] + 1, p[1]}, {p[0] - 1, p[1]}, {p[0], p[1] + 1}, {p[0], p[1] - 1}};
+                for (int[] n : neighbours) {
+                    if (n[0] < 0 || n[1] < 0 || n[0] >= size || n[1] >= size) continue;
+                    if (grid.wall[n[0]][n[1]] || expected[n[0]][n[1]]) continue;
+                    expected[n[0]][n[1]] = true;
+                    queue.add(n);
+                }
+            }
+
+            long count = ScanlineFill.flood(50, 50, grid.bounds(),
+                    (x, y) -> !grid.wall[x + 100][y + 100], grid::fill);
+
+            assertEquals(expectedCount, count);
+            for (int x = 0; x < size; x++) {
+                for (int y = 0; y < size; y++) {
+                    assertEquals(expected[x][y] ? 1 : 0, grid.filled[x][y], "cell " + x + "," + y);
+                }
+            }
+        }
+
+        @Test
+        void fillsMillionCells() {
+            ScanlineFill.Bounds bounds = new ScanlineFill.Bounds(0, 0, 999, 999);
+
+            long count = ScanlineFill.flood(500, 500, bounds, (x, y) -> true, (y, x0, x1) -> {
+                assertEquals(0, x0);
+                assertEquals(999, x1);
+            });
+
+            assertEquals(1_000_000, count);
+        }
+
+        @Test
+        void rejectsOversizedBounds() {
+            ScanlineFill.Bounds bounds = new ScanlineFill.Bounds(0, 0, 1 << 13, 1 << 13);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> ScanlineFill.flood(0, 0, bounds, (x, y) -> true, (y, x0, x1) -> {
+                    }));
+        }
+    }
+
+    @Nested
+    class Scan {
+
+        @Test
+        void nullMatcherReportsWholeRows() {
+            List<int[]> spans = new ArrayList<>();
+
+            long count = ScanlineFill.scan(ScanlineFill.Bounds.of(3, 4, -1, 2),
+                    null, (y, x0, x1) -> spans.add(new int[]{y, x0, x1}));
+
+            assertEquals(15, count);
+            assertEquals(3, spans.size());
+            assertArrayEquals(new int[]{2, -1, 3}, spans.get(0));
+            assertArrayEquals(new int[]{4, -1, 3}, spans.get(2));
+        }
+
+        @Test
+        void reportsMatchingRunsIncludingRowEnds() {
+            List<int[]> spans = new ArrayList<>();
+            // Matches x in {0, 1, 4}
+            ScanlineFill.CellMatcher matcher = (x, y) -> x <= 1 || x == 4;
+
+            long count = ScanlineFill.scan(new ScanlineFill.Bounds(0, 0, 4, 0), matcher,
+                    (y, x0, x1) -> spans.add(new int[]{x0, x1}));
+
+            assertEquals(3, count);
+            assertEquals(2, spans.size());
+            assertArrayEquals(new int[]{0, 1}, spans.get(0));
+            assertArrayEquals(new int[]{4, 4}, spans.get(1));
+        }
+    }
+
+    @Nested
+    class BoundsLimits {
+
+        @Test
+        void unionCoversBoth() {
+            ScanlineFill.Bounds a = new ScanlineFill.Bounds(0, 0, 10, 10);
+            ScanlineFill.Bounds b = new ScanlineFill.Bounds(-5, 3, 2, 20);
+
+            assertEquals(new ScanlineFill.Bounds(-5, 0, 10, 20), a.union(b));
+        }
+
+        @Test
+        void limitAroundKeepsSmallBounds() {
+            ScanlineFill.Bounds bounds = new ScanlineFill.Bounds(0, 0, 199, 199);
+
+            assertSame(bounds, bounds.limitAround(5, 5));
+        }
+
+        @Test
+        void limitAroundShrinksHugeBoundsAroundPoint() {
+            ScanlineFill.Bounds bounds = new ScanlineFill.Bounds(-100_000, -100_000, 100_000, 100_000);
+
+            ScanlineFill.Bounds limited = bounds.limitAround(90_000, -99_990);
+
+            assertTrue(limited.area() <= ScanlineFill.MAX_AREA);
+            assertTrue(limited.contains(90_000, -99_990));
+            assertEquals(-100_000, limited.minY());
+        }
+
+        @Test
+        void emptyBoundsAreRejected() {
+            assertThrows(IllegalArgumentException.class, () -> new ScanlineFill.Bounds(1, 0, 0, 0));
+        }
+    }
+}
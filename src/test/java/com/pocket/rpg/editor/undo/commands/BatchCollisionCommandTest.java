@@ -0,0 +1,93 @@
+package com.pocket.rpg.editor.undo.commands;
+
+import com.pocket.rpg.collision.CollisionMap;
+import com.pocket.rpg.collision.CollisionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests batch undo/redo on top of the compact change set.
+ */
+class BatchCollisionCommandTest {
+
+    private CollisionMap map;
+
+    @BeforeEach
+    void setUp() {
+        map = new CollisionMap();
+    }
+
+    private void recordAndSet(BatchCollisionCommand command, int x, int y, CollisionType type) {
+        command.recordChange(x, y, type);
+        map.set(x, y, 0, type);
+    }
+
+    @Test
+    void firstExecuteKeepsAppliedChangesAndUndoRestores() {
+        map.set(1, 1, 0, CollisionType.WATER);
+        BatchCollisionCommand command = new BatchCollisionCommand(map, 0, "Fill");
+
+        recordAndSet(command, 0, 0, CollisionType.SOLID);
+        recordAndSet(command, 1, 1, CollisionType.SOLID);
+        command.execute();
+
+        assertEquals(CollisionType.SOLID, map.get(1, 1, 0));
+
+        command.undo();
+        assertEquals(CollisionType.NONE, map.get(0, 0, 0));
+        assertEquals(CollisionType.WATER, map.get(1, 1, 0));
+
+        command.execute();
+        assertEquals(CollisionType.SOLID, map.get(0, 0, 0));
+        assertEquals(CollisionType.SOLID, map.get(1, 1, 0));
+    }
+
+    @Test
+    void firstBeforeAndLastAfterWin() {
+        BatchCollisionCommand command = new BatchCollisionCommand(map, 0, "Paint");
+
+        recordAndSet(command, -3, 7, CollisionType.SOLID);
+        recordAndSet(command, -3, 7, CollisionType.WATER);
+        command.execute();
+
+        assertEquals("Paint (1 cells)", command.getDescription());
+
+        command.undo();
+        assertEquals(CollisionType.NONE, map.get(-3, 7, 0));
+        command.execute();
+        assertEquals(CollisionType.WATER, map.get(-3, 7, 0));
+    }
+
+    @Test
+    void holdsWholeMapFill() {
+        int size = 500;
+        BatchCollisionCommand command = new BatchCollisionCommand(map, 0, "Fill");
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                recordAndSet(command, x, y, (x + y) % 2 == 0 ? CollisionType.SOLID : CollisionType.WATER);
+            }
+        }
+        command.execute();
+
+        assertTrue(command.hasChanges());
+        assertEquals("Fill (" + size * size + " cells)", command.getDescription());
+
+        command.undo();
+        for (int y = 0; y < size; y += 37) {
+            for (int x = 0; x < size; x += 41) {
+                assertEquals(CollisionType.NONE, map.get(x, y, 0));
+            }
+        }
+
+        command.execute();
+        assertEquals(CollisionType.SOLID, map.get(0, 0, 0));
+        assertEquals(CollisionType.WATER, map.get(499, 0, 0));
+    }
+
+    @Test
+    void emptyCommandHasNoChanges() {
+        assertFalse(new BatchCollisionCommand(map, 0, "Fill").hasChanges());
+    }
+}
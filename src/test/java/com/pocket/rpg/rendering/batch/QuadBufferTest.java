@@ -0,0 +1,90 @@
+package com.pocket.rpg.rendering.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for the struct-of-arrays quad storage used by SpriteBatch.
+ */
+class QuadBufferTest {
+
+    private static void addQuad(QuadBuffer buffer, int textureId, float y, float zIndex) {
+        buffer.add(textureId, 1f, y, 2f, 3f, 0f, 0.5f, 0.5f,
+                0f, 0f, 1f, 1f, zIndex, 1f, 1f, 1f, 1f);
+    }
+
+    @Test
+    @DisplayName("Growing past initial capacity keeps previously written quads")
+    void growPreservesData() {
+        QuadBuffer buffer = new QuadBuffer(2);
+
+        for (int i = 0; i < 10; i++) {
+            addQuad(buffer, i, i * 2f, i);
+        }
+
+        assertEquals(10, buffer.size);
+        assertTrue(buffer.capacity() >= 10);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, buffer.textureId[i]);
+            assertEquals(i * 2f, buffer.y[i]);
+            assertEquals(i * 2f, buffer.yPosition[i]);
+            assertEquals(i, buffer.order[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("clear() resets the count but keeps capacity")
+    void clearKeepsCapacity() {
+        QuadBuffer buffer = new QuadBuffer(4);
+        for (int i = 0; i < 100; i++) {
+            addQuad(buffer, 1, 0f, 0f);
+        }
+        int capacity = buffer.capacity();
+
+        buffer.clear();
+
+        assertEquals(0, buffer.size);
+        assertEquals(capacity, buffer.capacity());
+    }
+
+    @Test
+    @DisplayName("Steady-state frame (submit + sort) allocates nothing")
+    void steadyStateFrameDoesNotAllocate() {
+        var threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        var allocBean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(allocBean.isThreadAllocatedMemorySupported());
+        allocBean.setThreadAllocatedMemoryEnabled(true);
+
+        SpriteBatch batch = new SpriteBatch(SpriteBatch.SortingStrategy.DEPTH_PRIORITY);
+        QuadBuffer buffer = new QuadBuffer();
+        int quadsPerFrame = 10_000;
+
+        // Warm up: grow the arrays once and let the JIT settle
+        for (int frame = 0; frame < 20; frame++) {
+            runFrame(batch, buffer, quadsPerFrame);
+        }
+
+        long before = allocBean.getCurrentThreadAllocatedBytes();
+        for (int frame = 0; frame < 10; frame++) {
+            runFrame(batch, buffer, quadsPerFrame);
+        }
+        long allocated = allocBean.getCurrentThreadAllocatedBytes() - before;
+
+        // A record-per-quad path would allocate megabytes here
+        assertTrue(allocated < 1024, "Expected no per-frame allocation, got " + allocated + " bytes");
+    }
+
+    private static void runFrame(SpriteBatch batch, QuadBuffer buffer, int count) {
+        buffer.clear();
+        for (int i = 0; i < count; i++) {
+            addQuad(buffer, i % 7, (i * 31) % 97, i % 3);
+        }
+        batch.sortQuads(buffer);
+    }
+}
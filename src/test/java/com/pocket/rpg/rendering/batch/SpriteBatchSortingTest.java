@@ -5,7 +5,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -18,20 +21,40 @@ import static org.junit.jupiter.api.Assertions.*;
 class SpriteBatchSortingTest {
 
     /**
-     * Helper to create a RenderableQuad with only the fields relevant to sorting.
+     * Helper to build a quad buffer with only the fields relevant to sorting.
+     * Each entry is {textureId, zIndex, yPosition}.
      */
-    private static SpriteBatch.RenderableQuad quad(int textureId, float zIndex, float yPosition) {
-        return new SpriteBatch.RenderableQuad(
-                textureId,
-                0f, 0f,           // x, y world position
-                1f, 1f,           // width, height
-                0f,               // rotation
-                0.5f, 0.5f,       // originX, originY
-                0f, 0f, 1f, 1f,   // u0, v0, u1, v1
-                zIndex,
-                yPosition,
-                1f, 1f, 1f, 1f    // r, g, b, a
-        );
+    private static QuadBuffer quads(float[]... entries) {
+        QuadBuffer buffer = new QuadBuffer();
+        for (float[] e : entries) {
+            buffer.add(
+                    (int) e[0],
+                    0f, e[2],         // x, y world position (y doubles as sort Y)
+                    1f, 1f,           // width, height
+                    0f,               // rotation
+                    0.5f, 0.5f,       // originX, originY
+                    0f, 0f, 1f, 1f,   // u0, v0, u1, v1
+                    e[1],
+                    1f, 1f, 1f, 1f    // r, g, b, a
+            );
+        }
+        return buffer;
+    }
+
+    private static float[] quad(int textureId, float zIndex, float yPosition) {
+        return new float[]{textureId, zIndex, yPosition};
+    }
+
+    private static float y(QuadBuffer q, int n) {
+        return q.yPosition[q.order[n]];
+    }
+
+    private static float z(QuadBuffer q, int n) {
+        return q.zIndex[q.order[n]];
+    }
+
+    private static int tex(QuadBuffer q, int n) {
+        return q.textureId[q.order[n]];
     }
 
     @Nested
@@ -43,43 +66,43 @@ class SpriteBatchSortingTest {
         @Test
         @DisplayName("Same zIndex, different Y — lower Y renders in front (sorted last)")
         void lowerYSortsLast() {
-            var quads = new ArrayList<>(List.of(
+            var quads = quads(
                     quad(1, 0f, 5f),   // higher Y → behind
                     quad(1, 0f, 2f)    // lower Y → in front
-            ));
+            );
 
             batch.sortQuads(quads);
 
-            assertEquals(5f, quads.get(0).yPosition(), "Higher Y should be first (behind)");
-            assertEquals(2f, quads.get(1).yPosition(), "Lower Y should be last (in front)");
+            assertEquals(5f, y(quads, 0), "Higher Y should be first (behind)");
+            assertEquals(2f, y(quads, 1), "Lower Y should be last (in front)");
         }
 
         @Test
         @DisplayName("Different zIndex — higher zIndex renders in front regardless of Y")
         void zIndexOverridesY() {
-            var quads = new ArrayList<>(List.of(
+            var quads = quads(
                     quad(1, 0f, 2f),   // low Z, low Y
                     quad(1, 5f, 10f)   // high Z, high Y
-            ));
+            );
 
             batch.sortQuads(quads);
 
-            assertEquals(0f, quads.get(0).zIndex(), "Lower zIndex should be first (behind)");
-            assertEquals(5f, quads.get(1).zIndex(), "Higher zIndex should be last (in front)");
+            assertEquals(0f, z(quads, 0), "Lower zIndex should be first (behind)");
+            assertEquals(5f, z(quads, 1), "Higher zIndex should be last (in front)");
         }
 
         @Test
         @DisplayName("Same zIndex, same Y — falls through to texture tiebreaker")
         void sameYFallsToTexture() {
-            var quads = new ArrayList<>(List.of(
+            var quads = quads(
                     quad(5, 0f, 3f),
                     quad(2, 0f, 3f)
-            ));
+            );
 
             batch.sortQuads(quads);
 
-            assertEquals(2, quads.get(0).textureId());
-            assertEquals(5, quads.get(1).textureId());
+            assertEquals(2, tex(quads, 0));
+            assertEquals(5, tex(quads, 1));
         }
     }
 
@@ -92,43 +115,43 @@ class SpriteBatchSortingTest {
         @Test
         @DisplayName("Same zIndex, different Y — lower Y renders in front (sorted last)")
         void lowerYSortsLast() {
-            var quads = new ArrayList<>(List.of(
+            var quads = quads(
                     quad(1, 0f, 5f),
                     quad(1, 0f, 2f)
-            ));
+            );
 
             batch.sortQuads(quads);
 
-            assertEquals(5f, quads.get(0).yPosition(), "Higher Y should be first (behind)");
-            assertEquals(2f, quads.get(1).yPosition(), "Lower Y should be last (in front)");
+            assertEquals(5f, y(quads, 0), "Higher Y should be first (behind)");
+            assertEquals(2f, y(quads, 1), "Lower Y should be last (in front)");
         }
 
         @Test
         @DisplayName("Different zIndex — higher zIndex renders in front regardless of Y")
         void zIndexOverridesY() {
-            var quads = new ArrayList<>(List.of(
+            var quads = quads(
                     quad(1, 0f, 2f),
                     quad(1, 5f, 10f)
-            ));
+            );
 
             batch.sortQuads(quads);
 
-            assertEquals(0f, quads.get(0).zIndex());
-            assertEquals(5f, quads.get(1).zIndex());
+            assertEquals(0f, z(quads, 0));
+            assertEquals(5f, z(quads, 1));
         }
 
         @Test
         @DisplayName("Same zIndex, same Y — falls through to texture tiebreaker")
         void sameYFallsToTexture() {
-            var quads = new ArrayList<>(List.of(
+            var quads = quads(
                     quad(5, 0f, 3f),
                     quad(2, 0f, 3f)
-            ));
+            );
 
             batch.sortQuads(quads);
 
-            assertEquals(2, quads.get(0).textureId());
-            assertEquals(5, quads.get(1).textureId());
+            assertEquals(2, tex(quads, 0));
+            assertEquals(5, tex(quads, 1));
         }
     }
 
@@ -141,82 +164,200 @@ class SpriteBatchSortingTest {
         @Test
         @DisplayName("Same zIndex, different Y — lower Y renders in front (sorted last)")
         void lowerYSortsLast() {
-            // Y-distance > 4 to trigger depth-first branch
-            var quads = new ArrayList<>(List.of(
+            // Different 4-unit bands to trigger depth-first ordering
+            var quads = quads(
                     quad(1, 0f, 10f),
                     quad(1, 0f, 2f)
-            ));
+            );
 
             batch.sortQuads(quads);
 
-            assertEquals(10f, quads.get(0).yPosition(), "Higher Y should be first (behind)");
-            assertEquals(2f, quads.get(1).yPosition(), "Lower Y should be last (in front)");
+            assertEquals(10f, y(quads, 0), "Higher Y should be first (behind)");
+            assertEquals(2f, y(quads, 1), "Lower Y should be last (in front)");
         }
 
         @Test
         @DisplayName("Different zIndex — higher zIndex renders in front regardless of Y")
         void zIndexOverridesY() {
-            var quads = new ArrayList<>(List.of(
+            var quads = quads(
                     quad(1, 0f, 2f),
                     quad(1, 5f, 10f)
-            ));
+            );
 
             batch.sortQuads(quads);
 
-            assertEquals(0f, quads.get(0).zIndex());
-            assertEquals(5f, quads.get(1).zIndex());
+            assertEquals(0f, z(quads, 0));
+            assertEquals(5f, z(quads, 1));
         }
 
         @Test
         @DisplayName("Same zIndex, same Y — falls through to texture tiebreaker")
         void sameYFallsToTexture() {
-            var quads = new ArrayList<>(List.of(
+            var quads = quads(
                     quad(5, 0f, 3f),
                     quad(2, 0f, 3f)
-            ));
+            );
 
             batch.sortQuads(quads);
 
-            assertEquals(2, quads.get(0).textureId());
-            assertEquals(5, quads.get(1).textureId());
+            assertEquals(2, tex(quads, 0));
+            assertEquals(5, tex(quads, 1));
         }
 
         @Test
-        @DisplayName("Y-distance > 4 units — sorts by Y depth, not texture")
+        @DisplayName("Different Y bands — sorts by Y depth, not texture")
         void farApartSortsByY() {
-            // Different textures, but Y-distance > 4 means Y takes priority
-            var quads = new ArrayList<>(List.of(
+            // Different textures, but different bands means Y takes priority
+            var quads = quads(
                     quad(1, 0f, 2f),    // lower Y, texture 1
                     quad(2, 0f, 10f)    // higher Y, texture 2
-            ));
+            );
 
             batch.sortQuads(quads);
 
             // Higher Y should sort first (behind) regardless of texture
-            assertEquals(10f, quads.get(0).yPosition(), "Higher Y should be first when far apart");
-            assertEquals(2f, quads.get(1).yPosition(), "Lower Y should be last when far apart");
+            assertEquals(10f, y(quads, 0), "Higher Y should be first when far apart");
+            assertEquals(2f, y(quads, 1), "Lower Y should be last when far apart");
         }
 
         @Test
-        @DisplayName("Y-distance ≤ 4 units — groups by texture first, then Y")
-        void closeTogetherGroupsByTexture() {
-            // Y-distance ≤ 4, different textures
-            var quads = new ArrayList<>(List.of(
-                    quad(5, 0f, 3f),    // texture 5, Y=3
-                    quad(2, 0f, 5f),    // texture 2, Y=5 (distance=2, within 4)
-                    quad(2, 0f, 3f)     // texture 2, Y=3
-            ));
+        @DisplayName("Same Y band — groups by texture first, then Y")
+        void sameBandGroupsByTexture() {
+            // All in band [0, 4), different textures
+            var quads = quads(
+                    quad(5, 0f, 1f),    // texture 5, Y=1
+                    quad(2, 0f, 3f),    // texture 2, Y=3
+                    quad(2, 0f, 1f)     // texture 2, Y=1
+            );
 
             batch.sortQuads(quads);
 
             // Texture 2 should group together, with higher Y first within group
-            assertEquals(2, quads.get(0).textureId(), "Texture 2 group should come first");
-            assertEquals(2, quads.get(1).textureId(), "Texture 2 group should come first");
-            assertEquals(5, quads.get(2).textureId(), "Texture 5 should come after");
+            assertEquals(2, tex(quads, 0), "Texture 2 group should come first");
+            assertEquals(2, tex(quads, 1), "Texture 2 group should come first");
+            assertEquals(5, tex(quads, 2), "Texture 5 should come after");
 
             // Within texture 2 group, higher Y should be first (behind)
-            assertEquals(5f, quads.get(0).yPosition(), "Higher Y within group should be first");
-            assertEquals(3f, quads.get(1).yPosition(), "Lower Y within group should be last");
+            assertEquals(3f, y(quads, 0), "Higher Y within group should be first");
+            assertEquals(1f, y(quads, 1), "Lower Y within group should be last");
+        }
+
+        @Test
+        @DisplayName("Band boundary — close sprites in different bands sort by Y")
+        void bandBoundarySortsByY() {
+            var quads = quads(
+                    quad(2, 0f, 3.9f),  // band [0, 4)
+                    quad(5, 0f, 4.1f)   // band [4, 8)
+            );
+
+            batch.sortQuads(quads);
+
+            assertEquals(4.1f, y(quads, 0), "Higher band should be first (behind)");
+            assertEquals(3.9f, y(quads, 1));
+        }
+
+        @Test
+        @DisplayName("Ordering is a deterministic total order (no transitivity violations)")
+        void largeSceneIsDeterministic() {
+            Random random = new Random(42);
+            float[][] entries = new float[5000][];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = quad(random.nextInt(8), random.nextInt(3), random.nextFloat() * 40f);
+            }
+
+            QuadBuffer first = quads(entries);
+            QuadBuffer second = quads(entries);
+            batch.sortQuads(first);
+            batch.sortQuads(second);
+
+            assertArrayEquals(
+                    Arrays.copyOf(first.order, first.size),
+                    Arrays.copyOf(second.order, second.size));
+            assertKeysNonDecreasing(first);
+        }
+    }
+
+    @Nested
+    @DisplayName("Packed key radix sort")
+    class RadixSort {
+
+        /**
+         * Matches the (transitive) comparator semantics of TEXTURE_PRIORITY / DEPTH_PRIORITY
+         * against a stable reference sort, using integral Y so quantization never ties.
+         */
+        @Test
+        @DisplayName("Matches reference comparator sort on a large random scene")
+        void matchesReferenceSort() {
+            Random random = new Random(7);
+            float[][] entries = new float[50_000][];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = quad(1 + random.nextInt(20), random.nextInt(7) - 3, random.nextInt(200) - 100);
+            }
+
+            Comparator<float[]> zCompare = Comparator.comparingDouble(e -> e[1]);
+            Comparator<float[]> yDescending = Comparator.comparingDouble(e -> -e[2]);
+            Comparator<float[]> texture = Comparator.comparingDouble(e -> e[0]);
+
+            assertMatchesReference(SpriteBatch.SortingStrategy.TEXTURE_PRIORITY, entries,
+                    zCompare.thenComparing(texture).thenComparing(yDescending));
+            assertMatchesReference(SpriteBatch.SortingStrategy.DEPTH_PRIORITY, entries,
+                    zCompare.thenComparing(yDescending).thenComparing(texture));
+        }
+
+        @Test
+        @DisplayName("Negative zIndex sorts before positive zIndex")
+        void negativeZIndex() {
+            var quads = quads(
+                    quad(1, 2f, 0f),
+                    quad(1, -1.5f, 0f),
+                    quad(1, 0f, 0f),
+                    quad(1, -3f, 0f)
+            );
+
+            new SpriteBatch(SpriteBatch.SortingStrategy.DEPTH_PRIORITY).sortQuads(quads);
+
+            assertEquals(-3f, z(quads, 0));
+            assertEquals(-1.5f, z(quads, 1));
+            assertEquals(0f, z(quads, 2));
+            assertEquals(2f, z(quads, 3));
+        }
+
+        @Test
+        @DisplayName("Equal keys keep submission order (stable)")
+        void stableForEqualKeys() {
+            var quads = quads(
+                    quad(1, 0f, 2f),
+                    quad(1, 0f, 2f),
+                    quad(1, 0f, 2f)
+            );
+
+            new SpriteBatch(SpriteBatch.SortingStrategy.TEXTURE_PRIORITY).sortQuads(quads);
+
+            assertArrayEquals(new int[]{0, 1, 2}, Arrays.copyOf(quads.order, 3));
+        }
+
+        private void assertMatchesReference(SpriteBatch.SortingStrategy strategy, float[][] entries,
+                                            Comparator<float[]> reference) {
+            QuadBuffer quads = quads(entries);
+            new SpriteBatch(strategy).sortQuads(quads);
+
+            List<float[]> expected = new ArrayList<>(List.of(entries));
+            expected.sort(reference);
+
+            for (int n = 0; n < entries.length; n++) {
+                float[] e = expected.get(n);
+                assertEquals(e[0], tex(quads, n), strategy + " texture mismatch at " + n);
+                assertEquals(e[1], z(quads, n), strategy + " zIndex mismatch at " + n);
+                assertEquals(e[2], y(quads, n), strategy + " Y mismatch at " + n);
+            }
+        }
+    }
+
+    private static void assertKeysNonDecreasing(QuadBuffer quads) {
+        for (int n = 1; n < quads.size; n++) {
+            long previous = quads.sortKey[quads.order[n - 1]];
+            long current = quads.sortKey[quads.order[n]];
+            assertTrue(Long.compareUnsigned(previous, current) <= 0, "Keys out of order at " + n);
         }
     }
 }
@@ -0,0 +1,57 @@
+package com.pocket.rpg.rendering.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the per-frame z-index set SpriteBatch uses to decide static chunk mesh ownership.
+ */
+class ZIndexSetTest {
+
+    @Test
+    @DisplayName("Adding a value twice keeps one slot")
+    void addIsIdempotent() {
+        ZIndexSet set = new ZIndexSet();
+
+        assertEquals(0, set.add(2f));
+        assertEquals(1, set.add(-1f));
+        assertEquals(0, set.add(2f));
+
+        assertEquals(2, set.size());
+        assertTrue(set.contains(2f));
+        assertTrue(set.contains(-1f));
+        assertFalse(set.contains(0f));
+        assertEquals(-1, set.indexOf(0f));
+    }
+
+    @Test
+    @DisplayName("Growing past initial capacity keeps every value")
+    void growKeepsValues() {
+        ZIndexSet set = new ZIndexSet();
+
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i, set.add(i * 0.5f));
+        }
+
+        assertEquals(40, set.size());
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i, set.indexOf(i * 0.5f));
+        }
+    }
+
+    @Test
+    @DisplayName("Clear empties the set for the next frame")
+    void clearEmpties() {
+        ZIndexSet set = new ZIndexSet();
+        set.add(3f);
+        set.add(4f);
+
+        set.clear();
+
+        assertEquals(0, set.size());
+        assertFalse(set.contains(3f));
+        assertEquals(0, set.add(4f));
+    }
+}
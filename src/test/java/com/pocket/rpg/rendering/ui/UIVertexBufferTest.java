@@ -0,0 +1,340 @@
+package com.pocket.rpg.rendering.ui;
+
+import com.pocket.rpg.rendering.resources.NineSliceData;
+import com.pocket.rpg.rendering.resources.Sprite;
+import com.pocket.rpg.rendering.resources.Texture;
+import org.joml.Vector4f;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UIVertexBufferTest {
+
+    private static final Vector4f WHITE = new Vector4f(1, 1, 1, 1);
+    private static final Vector4f RED = new Vector4f(1, 0, 0, 0.5f);
+
+    private UIVertexBuffer buffer;
+    private Texture textureA;
+    private Texture textureB;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new UIVertexBuffer();
+        textureA = Texture.wrap(1, 64, 64);
+        textureB = Texture.wrap(2, 64, 64);
+    }
+
+    @Nested
+    class Commands {
+
+        @Test
+        void quadsWithSameStateShareOneCommand() {
+            buffer.drawQuad(0, 0, 10, 10, RED);
+            buffer.drawQuad(20, 0, 10, 10, WHITE);
+            buffer.drawSprite(40, 0, 10, 10, null, WHITE);
+
+            assertEquals(3, buffer.quadCount);
+            assertEquals(1, buffer.commandCount);
+            assertNull(buffer.commandTexture[0]);
+            assertEquals(3, buffer.commandQuadCount[0]);
+        }
+
+        @Test
+        void textureChangeStartsNewCommand() {
+            buffer.drawSprite(0, 0, 10, 10, sprite(textureA), WHITE);
+            buffer.drawSprite(0, 0, 10, 10, sprite(textureA), WHITE);
+            buffer.drawSprite(0, 0, 10, 10, sprite(textureB), WHITE);
+            buffer.drawSprite(0, 0, 10, 10, sprite(textureA), WHITE);
+
+            assertEquals(3, buffer.commandCount);
+            assertSame(textureA, buffer.commandTexture[0]);
+            assertSame(textureB, buffer.commandTexture[1]);
+            assertSame(textureA, buffer.commandTexture[2]);
+            assertArrayEquals(new int[]{0, 2, 3}, Arrays.copyOf(buffer.commandFirstQuad, 3));
+            assertArrayEquals(new int[]{2, 1, 1}, Arrays.copyOf(buffer.commandQuadCount, 3));
+        }
+
+        @Test
+        void scissorChangeStartsNewCommand() {
+            buffer.drawQuad(0, 0, 10, 10, WHITE);
+            buffer.setScissor(5, 5, 100, 50);
+            buffer.drawQuad(0, 0, 10, 10, WHITE);
+            buffer.drawQuad(0, 0, 10, 10, WHITE);
+            buffer.clearScissor();
+            buffer.drawQuad(0, 0, 10, 10, WHITE);
+
+            assertEquals(3, buffer.commandCount);
+            assertFalse(buffer.commandClipped[0]);
+            assertTrue(buffer.commandClipped[1]);
+            assertEquals(2, buffer.commandQuadCount[1]);
+            assertEquals(5f, buffer.commandScissor[4]);
+            assertEquals(50f, buffer.commandScissor[7]);
+            assertFalse(buffer.commandClipped[2]);
+        }
+
+        @Test
+        void scissorWithoutQuadsAddsNoCommand() {
+            buffer.setScissor(0, 0, 10, 10);
+            buffer.clearScissor();
+            buffer.drawQuad(0, 0, 10, 10, WHITE);
+
+            assertEquals(1, buffer.commandCount);
+            assertFalse(buffer.commandClipped[0]);
+        }
+
+        @Test
+        void textBatchUsesAtlasInTextMode() {
+            buffer.drawQuad(0, 0, 10, 10, WHITE);
+            buffer.beginBatch(textureA);
+            buffer.batchSprite(0, 0, 8, 8, 0, 0, 0.5f, 0.5f, WHITE);
+            buffer.batchSprite(8, 0, 8, 8, 0.5f, 0, 1, 0.5f, WHITE);
+            buffer.endBatch();
+
+            assertEquals(2, buffer.commandCount);
+            assertSame(textureA, buffer.commandTexture[1]);
+            assertTrue(buffer.commandText[1]);
+            assertEquals(2, buffer.commandQuadCount[1]);
+        }
+
+        @Test
+        void batchSpriteOutsideBatchIsIgnored() {
+            buffer.batchSprite(0, 0, 8, 8, 0, 0, 1, 1, WHITE);
+
+            assertTrue(buffer.isEmpty());
+        }
+
+        @Test
+        void clearResetsQuadsAndCommands() {
+            buffer.setScissor(0, 0, 10, 10);
+            buffer.drawQuad(0, 0, 10, 10, WHITE);
+            buffer.clear();
+            buffer.drawQuad(0, 0, 10, 10, WHITE);
+
+            assertEquals(1, buffer.quadCount);
+            assertEquals(1, buffer.commandCount);
+            assertFalse(buffer.commandClipped[0]);
+        }
+
+        @Test
+        void growsPastInitialCapacity() {
+            for (int i = 0; i < 1000; i++) {
+                buffer.drawSprite(i, 0, 1, 1, sprite(i % 2 == 0 ? textureA : textureB), WHITE);
+            }
+
+            assertEquals(1000, buffer.quadCount);
+            assertEquals(1000, buffer.commandCount);
+            assertEquals(999f, vertex(999 * 4)[0]);
+        }
+    }
+
+    @Nested
+    class Vertices {
+
+        @Test
+        void quadCornersAndColor() {
+            buffer.drawQuad(10, 20, 30, 40, RED);
+
+            assertVertex(0, 10, 20, 0, 0);
+            assertVertex(1, 40, 20, 1, 0);
+            assertVertex(2, 40, 60, 1, 1);
+            assertVertex(3, 10, 60, 0, 1);
+            float[] v = vertex(0);
+            assertEquals(1f, v[4]);
+            assertEquals(0f, v[5]);
+            assertEquals(0.5f, v[7]);
+        }
+
+        @Test
+        void spriteUVsAreFlippedVertically() {
+            Sprite sprite = sprite(textureA);
+            sprite.setUVs(0.25f, 0.1f, 0.75f, 0.9f);
+
+            buffer.drawSprite(0, 0, 10, 10, sprite, WHITE);
+
+            // Top of the screen quad samples the sprite's v1 (textures are loaded with Y-flip)
+            assertVertex(0, 0, 0, 0.25f, 0.9f);
+            assertVertex(2, 10, 10, 0.75f, 0.1f);
+        }
+
+        @Test
+        void batchSpriteKeepsRawUVs() {
+            buffer.beginBatch(textureA);
+            buffer.batchSprite(0, 0, 10, 10, 0.1f, 0.2f, 0.3f, 0.4f, WHITE);
+
+            assertVertex(0, 0, 0, 0.1f, 0.2f);
+            assertVertex(2, 10, 10, 0.3f, 0.4f);
+        }
+
+        @Test
+        void rotationIsAppliedAroundOrigin() {
+            buffer.drawQuad(0, 0, 10, 10, 90, 0.5f, 0.5f, WHITE);
+
+            assertVertex(0, 0, 10, 0, 0);
+            assertVertex(1, 0, 0, 1, 0);
+            assertVertex(2, 10, 0, 1, 1);
+            assertVertex(3, 10, 10, 0, 1);
+        }
+
+        @Test
+        void rotationDoesNotLeakToNextQuad() {
+            buffer.drawQuad(0, 0, 10, 10, 45, 0.5f, 0.5f, WHITE);
+            buffer.drawQuad(0, 0, 10, 10, WHITE);
+
+            assertVertex(4, 0, 0, 0, 0);
+            assertVertex(6, 10, 10, 1, 1);
+        }
+    }
+
+    @Nested
+    class ImageModes {
+
+        @Test
+        void nineSliceEmitsNineRegions() {
+            Sprite sprite = sprite(textureA);
+            sprite.setNineSliceData(new NineSliceData(4));
+
+            buffer.drawNineSlice(0, 0, 100, 50, 0, 0, 0, sprite, WHITE, true);
+
+            assertEquals(9, buffer.quadCount);
+            assertEquals(1, buffer.commandCount);
+            // Top-right corner region: 4x4 at the far edge
+            assertPosition(2 * 4, 96, 0);
+            assertPosition(2 * 4 + 2, 100, 4);
+        }
+
+        @Test
+        void nineSliceWithoutCenterSkipsIt() {
+            Sprite sprite = sprite(textureA);
+            sprite.setNineSliceData(new NineSliceData(4));
+
+            buffer.drawNineSlice(0, 0, 100, 50, 0, 0, 0, sprite, WHITE, false);
+
+            assertEquals(8, buffer.quadCount);
+        }
+
+        @Test
+        void tiledCoversAreaWithPartialEdgeTiles() {
+            Sprite sprite = new Sprite(textureA, 16, 16);
+
+            buffer.drawTiled(0, 0, 40, 16, 0, 0, 0, sprite, WHITE, 100);
+
+            assertEquals(3, buffer.quadCount);
+            // Last tile is 8 px wide and samples half the sprite
+            assertVertex(2 * 4 + 1, 40, 0, 0.5f, 1);
+        }
+
+        @Test
+        void horizontalFillShrinksQuadAndUVs() {
+            buffer.drawFilled(0, 0, 100, 10, 0, 0, 0, sprite(textureA), WHITE,
+                    FillMethod.HORIZONTAL, FillOrigin.LEFT, 0.25f, true);
+
+            assertEquals(1, buffer.quadCount);
+            assertVertex(1, 25, 0, 0.25f, 1);
+        }
+
+        @Test
+        void radialFillEmitsTrianglesAsDegenerateQuads() {
+            buffer.drawFilled(0, 0, 100, 100, 0, 0, 0, sprite(textureA), WHITE,
+                    FillMethod.RADIAL_360, FillOrigin.TOP_LEFT, 0.5f, true);
+
+            assertTrue(buffer.quadCount >= 8);
+            assertEquals(1, buffer.commandCount);
+            for (int q = 0; q < buffer.quadCount; q++) {
+                float[] first = vertex(q * 4);
+                float[] last = vertex(q * 4 + 3);
+                assertArrayEquals(first, last, "quad " + q);
+                assertEquals(50f, first[0], 0.001f);
+                assertEquals(50f, first[1], 0.001f);
+            }
+        }
+
+        @Test
+        void emptyFillDrawsNothing() {
+            buffer.drawFilled(0, 0, 100, 10, 0, 0, 0, sprite(textureA), WHITE,
+                    FillMethod.HORIZONTAL, FillOrigin.LEFT, 0f, true);
+
+            assertTrue(buffer.isEmpty());
+        }
+    }
+
+    @Nested
+    class ContentEquals {
+
+        @Test
+        void sameDrawsAreEqual() {
+            UIVertexBuffer other = new UIVertexBuffer();
+            drawScene(buffer, RED);
+            drawScene(other, RED);
+
+            assertTrue(buffer.contentEquals(other));
+        }
+
+        @Test
+        void colorChangeIsDetected() {
+            UIVertexBuffer other = new UIVertexBuffer();
+            drawScene(buffer, RED);
+            drawScene(other, WHITE);
+
+            assertFalse(buffer.contentEquals(other));
+        }
+
+        @Test
+        void scissorChangeIsDetected() {
+            UIVertexBuffer other = new UIVertexBuffer();
+            drawScene(buffer, RED);
+            other.setScissor(0, 0, 10, 10);
+            drawScene(other, RED);
+
+            assertFalse(buffer.contentEquals(other));
+        }
+
+        @Test
+        void staleDataAfterClearIsIgnored() {
+            UIVertexBuffer other = new UIVertexBuffer();
+            drawScene(buffer, WHITE);
+            buffer.clear();
+            drawScene(buffer, RED);
+            drawScene(other, RED);
+
+            assertTrue(buffer.contentEquals(other));
+        }
+
+        private void drawScene(UIVertexBuffer target, Vector4f color) {
+            target.drawQuad(0, 0, 50, 50, color);
+            target.drawSprite(10, 10, 20, 20, sprite(textureA), WHITE);
+            target.beginBatch(textureB);
+            target.batchSprite(0, 0, 8, 8, 0, 0, 1, 1, color);
+            target.endBatch();
+        }
+    }
+
+    // ========================================================================
+    // Helpers
+    // ========================================================================
+
+    private Sprite sprite(Texture texture) {
+        return new Sprite(texture, 16, 16);
+    }
+
+    private float[] vertex(int index) {
+        int offset = index * UIVertexBuffer.FLOATS_PER_VERTEX;
+        return Arrays.copyOfRange(buffer.vertices, offset, offset + UIVertexBuffer.FLOATS_PER_VERTEX);
+    }
+
+    private void assertPosition(int index, float x, float y) {
+        float[] data = vertex(index);
+        assertEquals(x, data[0], 0.001f, "x of vertex " + index);
+        assertEquals(y, data[1], 0.001f, "y of vertex " + index);
+    }
+
+    private void assertVertex(int index, float x, float y, float u, float v) {
+        assertPosition(index, x, y);
+        float[] data = vertex(index);
+        assertEquals(u, data[2], 0.001f, "u of vertex " + index);
+        assertEquals(v, data[3], 0.001f, "v of vertex " + index);
+    }
+}
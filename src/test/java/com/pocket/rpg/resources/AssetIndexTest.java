@@ -0,0 +1,252 @@
+package com.pocket.rpg.resources;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetIndexTest {
+
+    @TempDir
+    Path root;
+
+    private AssetIndex index;
+
+    /** Stand-in asset types keyed by extension, like AssetManager's extension map. */
+    private static Class<?> typeOf(String path) {
+        if (path.toLowerCase().endsWith(".png")) return Integer.class;
+        if (path.endsWith(".anim.json")) return String.class;
+        return null;
+    }
+
+    private Path write(String path, String content) throws IOException {
+        Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content);
+    }
+
+    private List<AssetIndex.Change> drainAll() {
+        List<AssetIndex.Change> changes = new ArrayList<>();
+        index.drainChanges(System.nanoTime() + AssetIndex.SETTLE_NANOS, changes::add);
+        return changes;
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        write("sprites/player.png", "png");
+        write("sprites/enemies/slime.PNG", "png");
+        write("anims/walk.anim.json", "{}");
+        write("notes/readme.txt", "ignored");
+
+        index = new AssetIndex(root, AssetIndexTest::typeOf,
+                path -> path.startsWith("sprites/player") ? 12 : 0, true);
+        index.build(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Nested
+    @DisplayName("Queries")
+    class Queries {
+
+        @Test
+        @DisplayName("indexes only loadable files, sorted by path")
+        void indexesLoadableFiles() {
+            assertEquals(List.of("anims/walk.anim.json", "sprites/enemies/slime.PNG", "sprites/player.png"),
+                    index.paths());
+        }
+
+        @Test
+        @DisplayName("records type, size and sub-asset count")
+        void recordsEntryData() {
+            AssetIndex.Entry entry = index.get("sprites/player.png");
+
+            assertEquals(Integer.class, entry.type());
+            assertEquals(3, entry.size());
+            assertEquals(12, entry.subAssetCount());
+            assertTrue(entry.lastModified() > 0);
+        }
+
+        @Test
+        @DisplayName("matches extensions case-insensitively")
+        void findsByExtension() {
+            assertEquals(List.of("sprites/enemies/slime.PNG", "sprites/player.png"),
+                    index.findByExtensions(new String[]{".png"}));
+        }
+
+        @Test
+        @DisplayName("finds by exact type")
+        void findsByType() {
+            List<AssetIndex.Entry> anims = index.findByType(String.class);
+
+            assertEquals(1, anims.size());
+            assertEquals("anims/walk.anim.json", anims.get(0).path());
+        }
+
+        @Test
+        @DisplayName("finds by folder prefix")
+        void findsByPrefix() {
+            assertEquals(List.of("sprites/enemies/slime.PNG", "sprites/player.png"), index.findByPrefix("sprites/"));
+            assertEquals(List.of("sprites/enemies/slime.PNG"), index.findByPrefix("sprites/enemies/"));
+            assertTrue(index.findByPrefix("music/").isEmpty());
+        }
+
+        @Test
+        @DisplayName("fuzzy search ranks file-name matches first")
+        void fuzzySearch() {
+            List<AssetIndex.Entry> results = index.search("play", 10);
+
+            assertEquals("sprites/player.png", results.get(0).path());
+            assertTrue(index.search("zzz", 10).isEmpty());
+            assertEquals(1, index.search("s", 1).size());
+        }
+    }
+
+    @Nested
+    @DisplayName("File changes")
+    class FileChanges {
+
+        @Test
+        @DisplayName("new file is indexed and reported as created")
+        void createdFile() throws IOException {
+            Path file = write("sprites/tree.png", "tree");
+            index.fileChanged(file, true, System.nanoTime());
+
+            assertNotNull(index.get("sprites/tree.png"));
+            assertEquals(List.of(new AssetIndex.Change("sprites/tree.png", AssetIndex.Change.Kind.CREATED)), drainAll());
+        }
+
+        @Test
+        @DisplayName("modified file is re-indexed and reported once")
+        void modifiedFile() throws IOException {
+            Path file = write("sprites/player.png", "bigger png");
+            long now = System.nanoTime();
+            index.fileChanged(file, false, now);
+            index.fileChanged(file, false, now); // Duplicate event, same contents
+
+            assertEquals(10, index.get("sprites/player.png").size());
+            assertEquals(List.of(new AssetIndex.Change("sprites/player.png", AssetIndex.Change.Kind.MODIFIED)), drainAll());
+        }
+
+        @Test
+        @DisplayName("unchanged file reports nothing")
+        void unchangedFile() {
+            index.fileChanged(root.resolve("sprites/player.png"), false, System.nanoTime());
+
+            assertTrue(drainAll().isEmpty());
+        }
+
+        @Test
+        @DisplayName("deleted folder removes every file below it")
+        void deletedFolder() {
+            index.fileDeleted(root.resolve("sprites"), System.nanoTime());
+
+            assertEquals(List.of("anims/walk.anim.json"), index.paths());
+            assertEquals(2, drainAll().size());
+        }
+
+        @Test
+        @DisplayName("new folder is walked")
+        void createdFolder() throws IOException {
+            write("music/theme/a.png", "a");
+            write("music/theme/b.png", "b");
+            index.fileChanged(root.resolve("music"), true, System.nanoTime());
+
+            assertEquals(List.of("music/theme/a.png", "music/theme/b.png"), index.findByPrefix("music/"));
+        }
+
+        @Test
+        @DisplayName("files ignored by every loader are not reported")
+        void ignoredFile() throws IOException {
+            index.fileChanged(write("notes/todo.txt", "x"), true, System.nanoTime());
+
+            assertNull(index.get("notes/todo.txt"));
+            assertTrue(drainAll().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Change feed")
+    class ChangeFeed {
+
+        @Test
+        @DisplayName("changes are held until the file settles")
+        void waitsForSettle() throws IOException {
+            long now = System.nanoTime();
+            index.fileChanged(write("sprites/tree.png", "tree"), true, now);
+
+            List<AssetIndex.Change> changes = new ArrayList<>();
+            assertEquals(0, index.drainChanges(now + AssetIndex.SETTLE_NANOS / 2, changes::add));
+            assertEquals(1, index.drainChanges(now + AssetIndex.SETTLE_NANOS, changes::add));
+            assertEquals(0, index.drainChanges(now + AssetIndex.SETTLE_NANOS * 2, changes::add));
+        }
+
+        @Test
+        @DisplayName("created then deleted reports nothing")
+        void createdThenDeleted() throws IOException {
+            long now = System.nanoTime();
+            Path file = write("sprites/tmp.png", "tmp");
+            index.fileChanged(file, true, now);
+            Files.delete(file);
+            index.fileDeleted(file, now);
+
+            assertTrue(drainAll().isEmpty());
+        }
+
+        @Test
+        @DisplayName("deleted then recreated reports a modification")
+        void replacedFile() throws IOException {
+            long now = System.nanoTime();
+            Path file = root.resolve("sprites/player.png");
+            index.fileDeleted(file, now);
+            write("sprites/player.png", "replaced");
+            index.fileChanged(file, true, now);
+
+            assertEquals(List.of(new AssetIndex.Change("sprites/player.png", AssetIndex.Change.Kind.MODIFIED)), drainAll());
+        }
+
+        @Test
+        @DisplayName("rescan reports what the watcher missed")
+        void rescanDiffs() throws IOException {
+            Files.delete(root.resolve("anims/walk.anim.json"));
+            Path player = write("sprites/player.png", "edited");
+            Files.setLastModifiedTime(player, FileTime.fromMillis(Files.getLastModifiedTime(player).toMillis() + 5000));
+            write("sprites/tree.png", "tree");
+
+            index.rescan();
+
+            assertEquals(Set.of(
+                    new AssetIndex.Change("sprites/player.png", AssetIndex.Change.Kind.MODIFIED),
+                    new AssetIndex.Change("sprites/tree.png", AssetIndex.Change.Kind.CREATED),
+                    new AssetIndex.Change("anims/walk.anim.json", AssetIndex.Change.Kind.DELETED)
+            ), Set.copyOf(drainAll()));
+        }
+
+        @Test
+        @DisplayName("indexes without change recording report nothing")
+        void notRecording() throws IOException {
+            AssetIndex quiet = new AssetIndex(root, AssetIndexTest::typeOf, path -> 0, false);
+            quiet.build(false);
+            quiet.fileChanged(write("sprites/tree.png", "tree"), true, System.nanoTime());
+
+            assertNotNull(quiet.get("sprites/tree.png"));
+            assertEquals(0, quiet.drainChanges(Long.MAX_VALUE, change -> fail("unexpected change " + change)));
+            quiet.close();
+        }
+    }
+}
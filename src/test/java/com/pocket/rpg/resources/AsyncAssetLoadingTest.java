@@ -0,0 +1,258 @@
+package com.pocket.rpg.resources;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncAssetLoadingTest {
+
+    @Nested
+    @DisplayName("Upload queue")
+    class UploadQueue {
+
+        private final AsyncUploadQueue queue = new AsyncUploadQueue();
+
+        @Test
+        @DisplayName("runs at least one task even with an exhausted budget")
+        void alwaysMakesProgress() {
+            List<Integer> ran = new ArrayList<>();
+            queue.enqueueUpload(() -> ran.add(1));
+            queue.enqueueUpload(() -> ran.add(2));
+            queue.enqueueUpload(() -> ran.add(3));
+
+            assertEquals(1, queue.processUploads(0));
+            assertEquals(List.of(1), ran);
+            assertEquals(2, queue.pendingUploads());
+        }
+
+        @Test
+        @DisplayName("drains tasks in order within the budget")
+        void drainsInOrder() {
+            List<Integer> ran = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                int n = i;
+                queue.enqueueUpload(() -> ran.add(n));
+            }
+
+            assertEquals(5, queue.processUploads(Long.MAX_VALUE));
+            assertEquals(List.of(0, 1, 2, 3, 4), ran);
+        }
+
+        @Test
+        @DisplayName("a failing task does not block the rest of the queue")
+        void failingTaskIsIsolated() {
+            List<Integer> ran = new ArrayList<>();
+            queue.enqueueUpload(() -> { throw new IllegalStateException("boom"); });
+            queue.enqueueUpload(() -> ran.add(1));
+
+            assertEquals(2, queue.processUploads(Long.MAX_VALUE));
+            assertEquals(List.of(1), ran);
+        }
+    }
+
+    @Nested
+    @DisplayName("AssetManager.loadAsync")
+    class LoadAsync {
+
+        @TempDir
+        Path root;
+
+        private AssetManager manager;
+
+        @BeforeEach
+        void setUp() throws IOException {
+            manager = new AssetManager();
+            manager.registerLoader(TextAsset.class, new TextAssetLoader());
+            manager.setAssetRoot(root.toString());
+            Files.writeString(root.resolve("hello.asynctext"), "hello");
+        }
+
+        @Test
+        @DisplayName("returns the placeholder until the upload is processed")
+        void placeholderUntilUploaded() {
+            AssetHandle<TextAsset> handle = manager.loadAsync("hello.asynctext", TextAsset.class);
+
+            assertSame(TextAssetLoader.PLACEHOLDER, handle.get());
+            assertFalse(handle.isDone());
+
+            awaitUpload(handle);
+
+            assertEquals("hello", handle.get().text());
+            assertSame(handle.get(), manager.get("hello.asynctext"));
+            assertEquals("hello.asynctext", manager.getPathForResource(handle.get()));
+        }
+
+        @Test
+        @DisplayName("concurrent requests for the same path share one load")
+        void deduplicatesInFlightLoads() {
+            AssetHandle<TextAsset> first = manager.loadAsync("hello.asynctext", TextAsset.class);
+            AssetHandle<TextAsset> second = manager.loadAsync("hello.asynctext", TextAsset.class);
+
+            assertSame(first, second);
+            assertEquals(1, manager.getPendingLoadCount());
+
+            awaitUpload(first);
+
+            assertEquals(0, manager.getPendingLoadCount());
+        }
+
+        @Test
+        @DisplayName("cached assets complete immediately")
+        void cachedCompletesImmediately() {
+            TextAsset loaded = manager.load("hello.asynctext", TextAsset.class);
+
+            AssetHandle<TextAsset> handle = manager.loadAsync("hello.asynctext", TextAsset.class);
+
+            assertTrue(handle.isDone());
+            assertSame(loaded, handle.get());
+        }
+
+        @Test
+        @DisplayName("missing files complete with the placeholder in placeholder mode")
+        void missingUsesPlaceholder() {
+            AssetHandle<TextAsset> handle = manager.loadAsync("missing.asynctext", TextAsset.class);
+
+            awaitUpload(handle);
+
+            assertFalse(handle.isFailed());
+            assertSame(TextAssetLoader.PLACEHOLDER, handle.get());
+        }
+
+        @Test
+        @DisplayName("a failed load is not cached, so the next load retries the file")
+        void failedLoadIsRetried() throws IOException {
+            AssetHandle<TextAsset> failed = manager.loadAsync("late.asynctext", TextAsset.class);
+            awaitUpload(failed);
+
+            assertFalse(manager.isLoaded("late.asynctext"));
+
+            Files.writeString(root.resolve("late.asynctext"), "late");
+            AssetHandle<TextAsset> retried = manager.loadAsync("late.asynctext", TextAsset.class);
+            awaitUpload(retried);
+
+            assertEquals("late", retried.get().text());
+        }
+
+        @Test
+        @DisplayName("assets evicted off the GL thread are unloaded by processUploads")
+        void evictionUnloadIsDeferredToGlThread() throws Exception {
+            TextAssetLoader loader = new TextAssetLoader();
+            manager.registerLoader(TextAsset.class, loader);
+            ResourceCache cache = manager.getCache();
+            cache.beginSceneScope();
+            cache.endSceneScope();
+            TextAsset loaded = manager.load("hello.asynctext", TextAsset.class);
+            // Next scene: "hello" is no longer in use
+            cache.beginSceneScope();
+            cache.endSceneScope();
+            cache.setMaxSize(1);
+
+            Thread worker = new Thread(() -> cache.put("other.asynctext", new TextAsset("other")));
+            worker.start();
+            worker.join();
+
+            assertFalse(cache.contains("hello.asynctext"));
+            assertTrue(loader.unloaded.isEmpty());
+
+            manager.processUploads(Long.MAX_VALUE);
+            assertEquals(List.of(loaded), loader.unloaded);
+        }
+
+        @Test
+        @DisplayName("destroy stops the loader threads")
+        void destroyStopsWorkers() throws InterruptedException {
+            Set<Thread> before = Thread.getAllStackTraces().keySet();
+            awaitUpload(manager.loadAsync("hello.asynctext", TextAsset.class));
+            List<Thread> workers = Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> !before.contains(thread) && thread.getName().startsWith("asset-loader-"))
+                    .toList();
+            assertFalse(workers.isEmpty());
+
+            manager.destroy();
+
+            for (Thread worker : workers) {
+                worker.join(5_000);
+                assertFalse(worker.isAlive(), worker.getName());
+            }
+        }
+
+        @Test
+        @DisplayName("missing files fail the handle in exception mode")
+        void missingFailsInThrowMode() {
+            manager.setErrorMode(ErrorMode.THROW_EXCEPTION);
+
+            AssetHandle<TextAsset> handle = manager.loadAsync("missing.asynctext", TextAsset.class);
+
+            awaitUpload(handle);
+
+            assertTrue(handle.isFailed());
+            assertNull(handle.get());
+        }
+
+        private void awaitUpload(AssetHandle<?> handle) {
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (!handle.isDone()) {
+                manager.processUploads(Long.MAX_VALUE);
+                if (System.nanoTime() > deadline) {
+                    fail("Timed out waiting for " + handle);
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    // ========================================================================
+    // TEST ASSET
+    // ========================================================================
+
+    record TextAsset(String text) {
+    }
+
+    static class TextAssetLoader implements AssetLoader<TextAsset> {
+        static final TextAsset PLACEHOLDER = new TextAsset("");
+
+        final List<TextAsset> unloaded = new ArrayList<>();
+
+        @Override
+        public TextAsset load(String path) throws IOException {
+            return prepareAsync(path).finish();
+        }
+
+        @Override
+        public AssetUpload<TextAsset> prepareAsync(String path) throws IOException {
+            String text = Files.readString(Path.of(path));
+            return () -> new TextAsset(text);
+        }
+
+        @Override
+        public void save(TextAsset resource, String path) throws IOException {
+            Files.writeString(Path.of(path), resource.text());
+        }
+
+        @Override
+        public void unload(TextAsset resource) {
+            unloaded.add(resource);
+        }
+
+        @Override
+        public TextAsset getPlaceholder() {
+            return PLACEHOLDER;
+        }
+
+        @Override
+        public String[] getSupportedExtensions() {
+            return new String[]{".asynctext"};
+        }
+    }
+}
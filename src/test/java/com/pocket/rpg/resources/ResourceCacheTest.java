@@ -0,0 +1,223 @@
+package com.pocket.rpg.resources;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceCacheTest {
+
+    private ResourceCache cache;
+    private List<String> evicted;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ResourceCache();
+        evicted = new ArrayList<>();
+        cache.setEvictionListener((path, resource) -> evicted.add(path));
+        cache.setWeigher(resource -> resource instanceof Long weight ? weight : 0);
+
+        // Leave the "engine startup" phase so entries are not treated as global
+        cache.beginSceneScope();
+        cache.endSceneScope();
+    }
+
+    @Nested
+    @DisplayName("LRU eviction")
+    class LruEviction {
+
+        @Test
+        @DisplayName("evicts the least recently used entry when over maxSize")
+        void evictsLeastRecentlyUsed() {
+            cache.setMaxSize(2);
+            cache.put("a", "A");
+            cache.put("b", "B");
+            nextScene();
+
+            cache.get("a");
+            cache.put("c", "C");
+
+            assertEquals(List.of("b"), evicted);
+            assertTrue(cache.contains("a"));
+            assertTrue(cache.contains("c"));
+            assertEquals(1, cache.getStats().getEvictions());
+        }
+
+        @Test
+        @DisplayName("evicts by weight until within budget")
+        void evictsByWeight() {
+            cache.setMaxWeight(100);
+            cache.put("a", 40L);
+            cache.put("b", 40L);
+            nextScene();
+
+            cache.put("c", 50L);
+
+            assertEquals(List.of("a"), evicted);
+            assertEquals(90, cache.getTotalWeight());
+        }
+
+        @Test
+        @DisplayName("replacing an entry updates the total weight")
+        void replaceUpdatesWeight() {
+            cache.put("a", 40L);
+            cache.put("a", 10L);
+
+            assertEquals(10, cache.getTotalWeight());
+            assertEquals(1, cache.size());
+        }
+
+        @Test
+        @DisplayName("contains() does not refresh LRU order")
+        void containsDoesNotTouch() {
+            cache.setMaxSize(2);
+            cache.put("a", "A");
+            cache.put("b", "B");
+            nextScene();
+
+            cache.contains("a");
+            cache.put("c", "C");
+
+            assertEquals(List.of("a"), evicted);
+        }
+    }
+
+    @Nested
+    @DisplayName("Pinning")
+    class Pinning {
+
+        @Test
+        @DisplayName("explicitly pinned entries are never evicted, and unpinning trims")
+        void explicitPin() {
+            cache.setMaxSize(1);
+            cache.pin("a");
+            cache.put("a", "A");
+            nextScene();
+
+            cache.put("b", "B");
+            assertTrue(cache.contains("a"));
+            assertTrue(cache.contains("b"));
+
+            cache.unpin("a");
+            assertFalse(cache.contains("a"));
+            assertEquals(List.of("a"), evicted);
+        }
+
+        @Test
+        @DisplayName("entries loaded before the first scene are never evicted")
+        void startupEntriesAreGlobal() {
+            ResourceCache fresh = new ResourceCache();
+            fresh.setMaxSize(1);
+            fresh.put("font", "F");
+
+            fresh.beginSceneScope();
+            fresh.endSceneScope();
+            fresh.beginSceneScope();
+            fresh.put("tile", "T");
+            fresh.endSceneScope();
+
+            assertTrue(fresh.contains("font"));
+            assertTrue(fresh.contains("tile"));
+        }
+
+        @Test
+        @DisplayName("outgoing scene assets stay pinned until the new scene finishes loading")
+        void sceneScopes() {
+            cache.setMaxSize(2);
+            cache.put("oldOnly", "O");
+            cache.put("shared", "S");
+
+            cache.beginSceneScope();
+            cache.get("shared");
+            cache.put("newOnly", "N");
+            // Outgoing scene is still alive: nothing evicted yet
+            assertTrue(evicted.isEmpty());
+
+            cache.endSceneScope();
+            assertEquals(List.of("oldOnly"), evicted);
+            assertTrue(cache.contains("shared"));
+            assertTrue(cache.contains("newOnly"));
+        }
+
+        @Test
+        @DisplayName("a cancelled scene load keeps the current scene pinned")
+        void cancelledSceneScope() {
+            cache.setMaxSize(1);
+            cache.put("current", "C");
+
+            cache.beginSceneScope();
+            cache.put("partial", "P");
+            cache.cancelSceneScope();
+            assertTrue(evicted.isEmpty());
+
+            // The scope is closed, so the next load starts a fresh one
+            cache.beginSceneScope();
+            cache.put("next", "N");
+            cache.endSceneScope();
+            assertEquals(List.of("current", "partial"), evicted);
+            assertTrue(cache.contains("next"));
+        }
+
+        @Test
+        @DisplayName("cache grows past its limit when everything is pinned")
+        void softLimit() {
+            cache.setMaxSize(1);
+            cache.put("a", "A");
+            cache.put("b", "B");
+
+            assertEquals(2, cache.size());
+            assertTrue(evicted.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Sub-assets")
+    class SubAssets {
+
+        @Test
+        @DisplayName("accessing a sub-asset keeps its parent pinned")
+        void subAssetTouchesParent() {
+            cache.setMaxSize(3);
+            cache.put("sheet.png", "sheet");
+            cache.put("sheet.png#0", "sprite");
+            cache.put("other.png", "other");
+            nextScene();
+
+            cache.get("sheet.png#0");
+            cache.put("new.png", "new");
+
+            assertEquals(List.of("other.png"), evicted);
+            assertTrue(cache.contains("sheet.png"));
+        }
+
+        @Test
+        @DisplayName("evicting a parent evicts its sub-assets")
+        void parentEvictionCascades() {
+            cache.setMaxWeight(100);
+            cache.put("sheet.png", 80L);
+            cache.put("sheet.png#0", "sprite0");
+            cache.put("sheet.png#1", "sprite1");
+            nextScene();
+
+            cache.put("new.png", 50L);
+
+            assertTrue(evicted.contains("sheet.png"));
+            assertTrue(evicted.contains("sheet.png#0"));
+            assertTrue(evicted.contains("sheet.png#1"));
+            assertEquals(1, cache.size());
+        }
+    }
+
+    /**
+     * Simulates a scene change that does not reuse any cached asset.
+     */
+    private void nextScene() {
+        cache.beginSceneScope();
+        cache.endSceneScope();
+    }
+}
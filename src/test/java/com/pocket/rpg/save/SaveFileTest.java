@@ -0,0 +1,154 @@
+package com.pocket.rpg.save;
+
+import com.pocket.rpg.config.GameConfig;
+import com.pocket.rpg.config.RenderingConfig;
+import com.pocket.rpg.core.window.ViewportConfig;
+import com.pocket.rpg.resources.AssetManager;
+import com.pocket.rpg.resources.Assets;
+import com.pocket.rpg.scenes.DefaultSceneManagerContext;
+import com.pocket.rpg.scenes.SceneManager;
+import com.pocket.rpg.serialization.Serializer;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the compact save format and background save writes.
+ */
+class SaveFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void initSerializer() {
+        Assets.setContext(new AssetManager());
+        Serializer.init(Assets.getContext());
+    }
+
+    @Nested
+    @DisplayName("Format")
+    class FormatTests {
+
+        @Test
+        @DisplayName("round-trips header, global state and scene sections")
+        void roundTrip() throws Exception {
+            SaveData save = new SaveData();
+            save.setDisplayName("Village - Level 5");
+            save.setTimestamp(1234L);
+            save.setPlayTime(90f);
+            save.setCurrentScene("Village");
+            save.getGlobalState().put("player", new HashMap<>(Map.of("gold", 500)));
+
+            SavedSceneState village = new SavedSceneState("Village");
+            village.getSceneFlags().put("visited", true);
+            village.getDestroyedEntities().add("chest_01");
+
+            String villageLine = SaveFile.sceneLine("Village", village);
+            Path path = tempDir.resolve("slot1.save");
+            SaveFile.writeAtomically(path, SaveFile.encode(
+                    SaveFile.headerLine(save), SaveFile.globalLine(save), List.of(villageLine)));
+
+            Map<String, String> sections = new HashMap<>();
+            SaveData loaded = SaveFile.read(path, sections);
+
+            assertEquals(save.getSaveId(), loaded.getSaveId());
+            assertEquals("Village - Level 5", loaded.getDisplayName());
+            assertEquals(1234L, loaded.getTimestamp());
+            assertEquals(90f, loaded.getPlayTime(), 0.001f);
+            assertEquals(500, ((Number) loaded.getGlobalState().get("player").get("gold")).intValue());
+            assertTrue(loaded.getSceneStates().get("Village").getDestroyedEntities().contains("chest_01"));
+            assertEquals(villageLine, sections.get("Village"));
+            assertFalse(Files.exists(tempDir.resolve("slot1.save.tmp")));
+        }
+
+        @Test
+        @DisplayName("header is readable without the body")
+        void headerOnly() throws Exception {
+            SaveData save = new SaveData();
+            save.setDisplayName("Auto Save");
+            save.setCurrentScene("Dungeon");
+
+            Path path = tempDir.resolve("auto.save");
+            // A corrupt body must not prevent reading the header
+            Files.writeString(path, SaveFile.MAGIC + "\n" + SaveFile.headerLine(save) + "\n{ broken");
+
+            SaveFile.Header header = SaveFile.readHeader(path);
+
+            assertNotNull(header);
+            assertEquals("Auto Save", header.displayName);
+            assertEquals("Dungeon", header.currentScene);
+        }
+
+        @Test
+        @DisplayName("legacy pretty JSON saves are still readable")
+        void legacyFormat() throws Exception {
+            SaveData save = new SaveData();
+            save.setDisplayName("Old Save");
+            Path path = tempDir.resolve("old.save");
+            Files.writeString(path, Serializer.toPrettyJson(save));
+
+            assertNull(SaveFile.readHeader(path));
+            SaveData loaded = SaveFile.read(path, new HashMap<>());
+            assertEquals("Old Save", loaded.getDisplayName());
+        }
+    }
+
+    @Nested
+    @DisplayName("SaveManager writes")
+    class SaveManagerWrites {
+
+        @BeforeEach
+        void setUp() {
+            SceneManager.setContext(new DefaultSceneManagerContext(
+                    new ViewportConfig(GameConfig.builder()
+                            .gameWidth(800).gameHeight(600)
+                            .windowWidth(800).windowHeight(600)
+                            .build()),
+                    RenderingConfig.builder().defaultOrthographicSize(7.5f).build()
+            ));
+            SaveManager.initialize(tempDir);
+            SaveManager.newGame();
+        }
+
+        @AfterEach
+        void tearDown() {
+            SceneManager.setContext(null);
+        }
+
+        @Test
+        @DisplayName("save is written in the compact format and listed from its header")
+        void savesAndLists() throws Exception {
+            SaveManager.setGlobal("player", "gold", 42);
+
+            assertTrue(SaveManager.save("slot1", "First"));
+            assertTrue(SaveManager.flush());
+
+            Path path = tempDir.resolve("slot1.save");
+            assertEquals(SaveFile.MAGIC, Files.readAllLines(path).get(0));
+
+            List<SaveSlotInfo> slots = SaveManager.listSaves();
+            assertEquals(1, slots.size());
+            assertEquals("First", slots.get(0).displayName());
+        }
+
+        @Test
+        @DisplayName("load waits for the pending write of the same slot")
+        void loadSeesPendingWrite() {
+            SaveManager.setGlobal("player", "gold", 7);
+            assertTrue(SaveManager.save("slot1"));
+
+            SaveManager.newGame();
+            assertTrue(SaveManager.load("slot1"));
+
+            assertEquals(7, (int) SaveManager.getGlobal("player", "gold", 0));
+        }
+    }
+}
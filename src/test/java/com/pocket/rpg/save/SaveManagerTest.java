@@ -605,6 +605,45 @@ class SaveManagerTest {
         }
     }
 
+    // ========================================================================
+    // Background Writer Tests
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Background writer")
+    class BackgroundWriterTests {
+
+        @Test
+        @DisplayName("shutdown writes queued saves before returning")
+        void testShutdownWritesQueuedSave() {
+            SaveManager.initialize(tempDir);
+            SaveManager.newGame();
+            SaveManager.setGlobal("player", "gold", 42);
+
+            assertTrue(SaveManager.save("slot1"));
+            assertTrue(SaveManager.shutdown());
+
+            assertTrue(Files.exists(tempDir.resolve("slot1.save")));
+
+            SaveManager.newGame();
+            assertTrue(SaveManager.load("slot1"));
+            int gold = SaveManager.getGlobal("player", "gold", 0);
+            assertEquals(42, gold);
+        }
+
+        @Test
+        @DisplayName("saves after shutdown are written immediately")
+        void testSaveAfterShutdown() {
+            SaveManager.initialize(tempDir);
+            SaveManager.newGame();
+            SaveManager.shutdown();
+
+            assertTrue(SaveManager.save("late"));
+
+            assertTrue(Files.exists(tempDir.resolve("late.save")));
+        }
+    }
+
     // ========================================================================
     // Integration Test - Full Save/Load Cycle
     // ========================================================================
@@ -124,6 +124,87 @@ class SceneComponentQueryTest {
         assertSame(pausable, results.getFirst());
     }
 
+    @Test
+    void getComponentsImplementing_reflectsComponentAddedAfterQuery() {
+        GameObject go = new GameObject("Go");
+        scene.addGameObject(go);
+        assertTrue(scene.getComponentsImplementing(TestInterface.class).isEmpty());
+
+        PausableComponent pausable = new PausableComponent();
+        go.addComponent(pausable);
+
+        assertEquals(List.of(pausable), scene.getComponentsImplementing(TestInterface.class));
+    }
+
+    @Test
+    void getComponentsImplementing_reflectsRemovalsAndReparenting() {
+        GameObject parent = new GameObject("Parent");
+        PausableComponent parentPausable = new PausableComponent();
+        parent.addComponent(parentPausable);
+        scene.addGameObject(parent);
+
+        GameObject child = new GameObject("Child");
+        PausableComponent childPausable = new PausableComponent();
+        child.addComponent(childPausable);
+        assertEquals(1, scene.getComponentsImplementing(TestInterface.class).size());
+
+        parent.addChild(child);
+        assertEquals(2, scene.getComponentsImplementing(TestInterface.class).size());
+
+        parent.removeComponent(parentPausable);
+        assertEquals(List.of(childPausable), scene.getComponentsImplementing(TestInterface.class));
+
+        scene.removeFromScene(parent);
+        assertTrue(scene.getComponentsImplementing(TestInterface.class).isEmpty());
+    }
+
+    @Test
+    void getComponentsImplementing_stableSceneReusesResult() {
+        GameObject go = new GameObject("Go");
+        go.addComponent(new PausableComponent());
+        scene.addGameObject(go);
+
+        List<TestInterface> first = scene.getComponentsImplementing(TestInterface.class);
+        List<TestInterface> second = scene.getComponentsImplementing(TestInterface.class);
+
+        assertSame(first, second);
+        assertThrows(UnsupportedOperationException.class, () -> first.add(null));
+    }
+
+    @Test
+    void getComponentsImplementing_ignoresChangesOutsideTheScene() {
+        GameObject go = new GameObject("Go");
+        go.addComponent(new PausableComponent());
+        scene.addGameObject(go);
+        List<TestInterface> first = scene.getComponentsImplementing(TestInterface.class);
+
+        GameObject detached = new GameObject("Detached");
+        detached.addComponent(new PausableComponent());
+        detached.addChild(new GameObject("DetachedChild"));
+        TestScene other = new TestScene("Other");
+        other.addGameObject(new GameObject("Elsewhere"));
+
+        assertSame(first, scene.getComponentsImplementing(TestInterface.class));
+    }
+
+    @Test
+    void getComponentsImplementing_reflectsChangesInAttachedSubtree() {
+        GameObject root = new GameObject("Root");
+        scene.addGameObject(root);
+
+        // Built while detached, then attached as a whole
+        GameObject mid = new GameObject("Mid");
+        GameObject leaf = new GameObject("Leaf");
+        mid.addChild(leaf);
+        root.addChild(mid);
+        assertTrue(scene.getComponentsImplementing(TestInterface.class).isEmpty());
+
+        PausableComponent leafPausable = new PausableComponent();
+        leaf.addComponent(leafPausable);
+
+        assertEquals(List.of(leafPausable), scene.getComponentsImplementing(TestInterface.class));
+    }
+
     // --- Test helpers ---
 
     interface TestInterface {
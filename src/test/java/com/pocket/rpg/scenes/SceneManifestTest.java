@@ -0,0 +1,180 @@
+package com.pocket.rpg.scenes;
+
+import com.pocket.rpg.resources.AssetManager;
+import com.pocket.rpg.resources.Assets;
+import com.pocket.rpg.serialization.ComponentRegistry;
+import com.pocket.rpg.serialization.GameObjectData;
+import com.pocket.rpg.serialization.SceneData;
+import com.pocket.rpg.serialization.Serializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SceneManifestTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void initAssets() {
+        Assets.setContext(new AssetManager());
+        Serializer.init(Assets.getContext());
+        ComponentRegistry.initialize();
+    }
+
+    @Nested
+    @DisplayName("Building from SceneData")
+    class Building {
+
+        @Test
+        @DisplayName("collects asset paths from overrides, stripping sub-asset ids")
+        void collectsOverridePaths() {
+            Map<String, Object> fields = new HashMap<>();
+            fields.put("sprite", "sprites/player.png#3");
+            fields.put("label", "not an asset");
+            fields.put("speed", 2.5);
+            Map<String, Map<String, Object>> overrides = new HashMap<>();
+            overrides.put("com.example.Renderer", fields);
+
+            GameObjectData go = new GameObjectData("1", "Player", null, overrides);
+            SceneData data = new SceneData("Test");
+            data.addGameObject(go);
+
+            SceneManifest manifest = SceneManifest.fromSceneData(data);
+
+            assertEquals(List.of("sprites/player.png"), manifest.getAssets());
+        }
+
+        @Test
+        @DisplayName("lists each asset once")
+        void deduplicates() {
+            SceneData data = new SceneData("Test");
+            for (int i = 0; i < 3; i++) {
+                Map<String, Map<String, Object>> overrides = new HashMap<>();
+                overrides.put("com.example.Renderer", Map.of("sprite", "sheet.png#" + i));
+                data.addGameObject(new GameObjectData(String.valueOf(i), "Tile" + i, null, overrides));
+            }
+
+            assertEquals(List.of("sheet.png"), SceneManifest.fromSceneData(data).getAssets());
+        }
+    }
+
+    @Nested
+    @DisplayName("Cache file")
+    class CacheFile {
+
+        @Test
+        @DisplayName("round-trips through the cache directory")
+        void roundTrip() throws Exception {
+            String scenePath = writeScene("Town.scene");
+
+            new SceneManifest(List.of("a.png", "b.prefab")).writeCached(scenePath, cacheDir());
+
+            assertTrue(Files.exists(SceneManifest.manifestPath(scenePath, cacheDir())));
+            SceneManifest read = SceneManifest.readCached(scenePath, cacheDir());
+            assertNotNull(read);
+            assertEquals(List.of("a.png", "b.prefab"), read.getAssets());
+        }
+
+        @Test
+        @DisplayName("leaves the scene folder untouched")
+        void sceneFolderUntouched() throws Exception {
+            String scenePath = writeScene("Town.scene");
+
+            new SceneManifest(List.of("a.png")).writeCached(scenePath, cacheDir());
+
+            assertFalse(Files.exists(tempDir.resolve("Town.scene" + SceneManifest.FILE_SUFFIX)));
+            assertTrue(SceneManifest.manifestPath(scenePath, cacheDir()).startsWith(cacheDir()));
+        }
+
+        @Test
+        @DisplayName("keeps same-named scenes in different folders apart")
+        void keyedByScenePath() throws Exception {
+            Files.createDirectories(tempDir.resolve("a"));
+            Files.createDirectories(tempDir.resolve("b"));
+            String first = writeScene("a/Town.scene");
+            String second = writeScene("b/Town.scene");
+
+            new SceneManifest(List.of("first.png")).writeCached(first, cacheDir());
+            new SceneManifest(List.of("second.png")).writeCached(second, cacheDir());
+
+            assertEquals(List.of("first.png"), SceneManifest.readCached(first, cacheDir()).getAssets());
+            assertEquals(List.of("second.png"), SceneManifest.readCached(second, cacheDir()).getAssets());
+        }
+
+        @Test
+        @DisplayName("is ignored once the scene file is newer")
+        void staleManifestIgnored() throws Exception {
+            String scenePath = writeScene("Town.scene");
+            new SceneManifest(List.of("a.png")).writeCached(scenePath, cacheDir());
+
+            Path manifestFile = SceneManifest.manifestPath(scenePath, cacheDir());
+            FileTime manifestTime = Files.getLastModifiedTime(manifestFile);
+            Files.setLastModifiedTime(Path.of(scenePath), FileTime.fromMillis(manifestTime.toMillis() + 10_000));
+
+            assertNull(SceneManifest.readCached(scenePath, cacheDir()));
+        }
+
+        @Test
+        @DisplayName("is ignored once a referenced prefab is newer")
+        void stalePrefabIgnored() throws Exception {
+            String scenePath = writeScene("Town.scene");
+            Path prefab = tempDir.resolve("prefabs/npc.prefab.json");
+            Files.createDirectories(prefab.getParent());
+            Files.writeString(prefab, "{}");
+            new SceneManifest(List.of("a.png"), List.of("prefabs/npc.prefab.json")).writeCached(scenePath, cacheDir());
+
+            Path manifestFile = SceneManifest.manifestPath(scenePath, cacheDir());
+            FileTime manifestTime = Files.getLastModifiedTime(manifestFile);
+            Files.setLastModifiedTime(prefab, FileTime.fromMillis(manifestTime.toMillis() - 10_000));
+
+            SceneManifest current = SceneManifest.readCached(scenePath, cacheDir(), tempDir);
+            assertNotNull(current);
+            assertEquals(List.of("prefabs/npc.prefab.json"), current.getPrefabs());
+
+            Files.setLastModifiedTime(prefab, FileTime.fromMillis(manifestTime.toMillis() + 10_000));
+            assertNull(SceneManifest.readCached(scenePath, cacheDir(), tempDir));
+        }
+
+        @Test
+        @DisplayName("is ignored once a referenced prefab is gone")
+        void missingPrefabIgnored() throws Exception {
+            String scenePath = writeScene("Town.scene");
+            new SceneManifest(List.of("a.png"), List.of("prefabs/gone.prefab.json")).writeCached(scenePath, cacheDir());
+
+            assertNull(SceneManifest.readCached(scenePath, cacheDir(), tempDir));
+        }
+
+        @Test
+        @DisplayName("missing or corrupt manifests read as null")
+        void missingOrCorrupt() throws Exception {
+            String scenePath = writeScene("Town.scene");
+            assertNull(SceneManifest.readCached(scenePath, cacheDir()));
+
+            Files.createDirectories(cacheDir());
+            Files.writeString(SceneManifest.manifestPath(scenePath, cacheDir()), "{ not json");
+            assertNull(SceneManifest.readCached(scenePath, cacheDir()));
+        }
+
+        private Path cacheDir() {
+            return tempDir.resolve(".cache");
+        }
+
+        private String writeScene(String name) throws Exception {
+            Path scene = tempDir.resolve(name);
+            Files.writeString(scene, "{}");
+            return scene.toString();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.pocket.rpg.scenes;
+
+import com.pocket.rpg.components.Component;
+import com.pocket.rpg.core.GameObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SceneUpdateSchedulerTest {
+
+    private final SceneUpdateScheduler scheduler = new SceneUpdateScheduler();
+
+    @Nested
+    @DisplayName("Membership")
+    class Membership {
+
+        @Test
+        @DisplayName("add rejects duplicates and remove rejects unknown objects")
+        void addAndRemove() {
+            GameObject go = new GameObject("A");
+
+            assertTrue(scheduler.add(go));
+            assertFalse(scheduler.add(go));
+            assertTrue(scheduler.contains(go));
+
+            assertTrue(scheduler.remove(go));
+            assertFalse(scheduler.remove(go));
+            assertFalse(scheduler.contains(go));
+        }
+
+        @Test
+        @DisplayName("view preserves insertion order")
+        void viewOrder() {
+            GameObject a = new GameObject("A");
+            GameObject b = new GameObject("B");
+            GameObject c = new GameObject("C");
+            scheduler.add(a);
+            scheduler.add(b);
+            scheduler.add(c);
+            scheduler.remove(b);
+
+            assertEquals(List.of(a, c), scheduler.view());
+        }
+    }
+
+    @Nested
+    @DisplayName("Structural changes during update")
+    class StructuralChanges {
+
+        @Test
+        @DisplayName("object removed by an earlier object is skipped in both phases")
+        void removedIsSkipped() {
+            GameObject victim = new GameObject("Victim");
+            CountingComponent victimCounter = new CountingComponent();
+            victim.addComponent(victimCounter);
+
+            GameObject killer = new GameObject("Killer");
+            killer.addComponent(new ActionComponent(() -> scheduler.remove(victim)));
+
+            scheduler.add(killer);
+            scheduler.add(victim);
+            scheduler.update(0.016f);
+
+            assertEquals(0, victimCounter.updates);
+            assertEquals(0, victimCounter.lateUpdates);
+            assertFalse(scheduler.contains(victim));
+        }
+
+        @Test
+        @DisplayName("object added during update gets lateUpdate this frame and update next frame")
+        void addedJoinsNextPhase() {
+            GameObject spawned = new GameObject("Spawned");
+            CountingComponent spawnedCounter = new CountingComponent();
+            spawned.addComponent(spawnedCounter);
+
+            GameObject spawner = new GameObject("Spawner");
+            spawner.addComponent(new ActionComponent(() -> scheduler.add(spawned)));
+
+            scheduler.add(spawner);
+            scheduler.update(0.016f);
+
+            assertEquals(0, spawnedCounter.updates);
+            assertEquals(1, spawnedCounter.lateUpdates);
+
+            scheduler.update(0.016f);
+
+            assertEquals(1, spawnedCounter.updates);
+            assertEquals(2, spawnedCounter.lateUpdates);
+        }
+
+        @Test
+        @DisplayName("object removed and re-added in the same phase is not skipped later")
+        void removeThenReAdd() {
+            GameObject target = new GameObject("Target");
+            CountingComponent counter = new CountingComponent();
+            target.addComponent(counter);
+
+            GameObject toggler = new GameObject("Toggler");
+            toggler.addComponent(new ActionComponent(() -> {
+                scheduler.remove(target);
+                scheduler.add(target);
+            }));
+
+            scheduler.add(toggler);
+            scheduler.add(target);
+            scheduler.update(0.016f);
+
+            // Re-adding cancels the pending removal, so the target keeps its slot in both phases
+            assertTrue(scheduler.contains(target));
+            assertEquals(1, counter.updates);
+            assertEquals(1, counter.lateUpdates);
+        }
+
+        @Test
+        @DisplayName("disabled objects are not updated")
+        void disabledSkipped() {
+            GameObject go = new GameObject("Disabled");
+            CountingComponent counter = new CountingComponent();
+            go.addComponent(counter);
+            go.setEnabled(false);
+
+            scheduler.add(go);
+            scheduler.update(0.016f);
+
+            assertEquals(0, counter.updates);
+            assertEquals(0, counter.lateUpdates);
+        }
+    }
+
+    // ========================================================================
+    // TEST COMPONENTS
+    // ========================================================================
+
+    static class CountingComponent extends Component {
+        int updates;
+        int lateUpdates;
+
+        @Override
+        public void update(float deltaTime) {
+            updates++;
+        }
+
+        @Override
+        public void lateUpdate(float deltaTime) {
+            lateUpdates++;
+        }
+    }
+
+    static class ActionComponent extends Component {
+        private final List<Runnable> actions = new ArrayList<>();
+        private boolean fired;
+
+        ActionComponent(Runnable action) {
+            actions.add(action);
+        }
+
+        @Override
+        public void update(float deltaTime) {
+            if (fired) return;
+            fired = true;
+            actions.forEach(Runnable::run);
+        }
+    }
+}
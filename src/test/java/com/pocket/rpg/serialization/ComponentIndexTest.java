@@ -0,0 +1,208 @@
+package com.pocket.rpg.serialization;
+
+import com.pocket.rpg.components.Component;
+import com.pocket.rpg.components.TestComponent;
+import com.pocket.rpg.components.ui.UIComponent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentIndexTest {
+
+    @Nested
+    @DisplayName("Index file")
+    class IndexFile {
+
+        @Test
+        @DisplayName("ignores comments and blank lines")
+        void parse() {
+            List<String> names = ComponentIndex.parse(Stream.of(
+                    "# header", "", "  com.example.A  ", "com.example.B"));
+
+            assertEquals(List.of("com.example.A", "com.example.B"), names);
+        }
+
+        @Test
+        @DisplayName("round-trips class names")
+        void roundTrip(@TempDir Path dir) throws Exception {
+            Path output = dir.resolve(ComponentIndex.RESOURCE);
+            List<String> names = List.of("com.example.A", "com.example.B$Inner");
+
+            ComponentIndex.write(output, names);
+
+            assertEquals(names, ComponentIndex.read(output.toUri().toURL()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Generation")
+    class Generation {
+
+        @Test
+        @DisplayName("lists concrete components found in a classes directory")
+        void generate() throws Exception {
+            Path root = Path.of(ComponentIndexTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+
+            List<String> names = ComponentIndex.generate(root, ComponentIndexTest.class.getClassLoader());
+
+            assertTrue(names.contains(ComponentRegistryMetaTest.MixedRefComponent.class.getName()));
+            assertFalse(names.contains(ComponentIndexTest.class.getName()));
+            assertEquals(names.stream().sorted().toList(), names);
+        }
+
+        @Test
+        @DisplayName("accepts only concrete component classes")
+        void concreteOnly() {
+            assertTrue(ComponentIndex.isConcreteComponent(TestComponent.class));
+            assertFalse(ComponentIndex.isConcreteComponent(Component.class));
+            assertFalse(ComponentIndex.isConcreteComponent(UIComponent.class));
+            assertFalse(ComponentIndex.isConcreteComponent(String.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Loading")
+    class Loading {
+
+        /** A classpath root holding only a com.pocket.rpg folder, isolated from the test classpath. */
+        private URLClassLoader root(Path dir) throws Exception {
+            Files.createDirectories(dir.resolve("com/pocket/rpg"));
+            return new URLClassLoader(new URL[]{dir.toUri().toURL()}, null);
+        }
+
+        @Test
+        @DisplayName("returns null when a root has no index")
+        void missingIndex(@TempDir Path dir) throws Exception {
+            try (URLClassLoader loader = root(dir)) {
+                assertNull(ComponentIndex.load(loader));
+            }
+        }
+
+        @Test
+        @DisplayName("trusts an index whose folders are unchanged")
+        void currentIndex(@TempDir Path dir) throws Exception {
+            try (URLClassLoader loader = root(dir)) {
+                writeStamped(dir, List.of());
+
+                assertEquals(List.of(), ComponentIndex.load(loader));
+            }
+        }
+
+        @Test
+        @DisplayName("returns null when a class was compiled after the index")
+        void outdatedIndex(@TempDir Path dir) throws Exception {
+            try (URLClassLoader loader = root(dir)) {
+                writeStamped(dir, List.of());
+                addClassLater(dir.resolve("com/pocket/rpg"), "NewComponent.class");
+
+                assertNull(ComponentIndex.load(loader));
+            }
+        }
+
+        @Test
+        @DisplayName("returns null for an index without folder stamps")
+        void unstampedIndex(@TempDir Path dir) throws Exception {
+            try (URLClassLoader loader = root(dir)) {
+                ComponentIndex.write(dir.resolve(ComponentIndex.RESOURCE), List.of());
+
+                assertNull(ComponentIndex.load(loader));
+            }
+        }
+
+        @Test
+        @DisplayName("returns null when a listed class no longer resolves")
+        void staleEntry(@TempDir Path dir) throws Exception {
+            try (URLClassLoader loader = root(dir)) {
+                writeStamped(dir, List.of("com.example.Removed"));
+
+                assertNull(ComponentIndex.load(loader));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Folder stamps")
+    class FolderStamps {
+
+        @Test
+        @DisplayName("round-trip through the index file")
+        void roundTrip(@TempDir Path dir) throws Exception {
+            Files.createDirectories(dir.resolve("com/example"));
+            Map<String, Long> stamps = ComponentIndex.stampFolders(dir);
+            Path output = dir.resolve(ComponentIndex.RESOURCE);
+
+            ComponentIndex.write(output, List.of("com.example.A"), stamps);
+
+            assertEquals(stamps, ComponentIndex.readStamps(output.toUri().toURL()));
+            assertEquals(List.of("com.example.A"), ComponentIndex.read(output.toUri().toURL()));
+            assertTrue(stamps.containsKey("."));
+            assertTrue(stamps.containsKey("com/example"));
+        }
+
+        @Test
+        @DisplayName("writing the index does not make it outdated")
+        void indexFolderExcluded(@TempDir Path dir) throws Exception {
+            Files.createDirectories(dir.resolve("com/example"));
+
+            Map<String, Long> stamps = writeStamped(dir, List.of());
+
+            assertFalse(ComponentIndex.isOutdated(dir, stamps));
+            assertFalse(stamps.keySet().stream().anyMatch(folder -> folder.startsWith("META-INF")));
+        }
+
+        @Test
+        @DisplayName("detect added classes and new packages")
+        void detectsChanges(@TempDir Path dir) throws Exception {
+            Path pkg = Files.createDirectories(dir.resolve("com/example"));
+            Map<String, Long> stamps = ComponentIndex.stampFolders(dir);
+
+            assertFalse(ComponentIndex.isOutdated(dir, stamps));
+
+            addClassLater(pkg, "A.class");
+            assertTrue(ComponentIndex.isOutdated(dir, stamps));
+
+            stamps = ComponentIndex.stampFolders(dir);
+            Files.createDirectory(pkg.resolve("sub"));
+            Files.setLastModifiedTime(pkg, FileTime.fromMillis(stamps.get("com/example") + 5_000));
+            assertTrue(ComponentIndex.isOutdated(dir, stamps));
+        }
+
+        @Test
+        @DisplayName("treat a missing folder or no stamps as outdated")
+        void missingFolder(@TempDir Path dir) throws Exception {
+            assertTrue(ComponentIndex.isOutdated(dir, Map.of()));
+            assertTrue(ComponentIndex.isOutdated(dir, Map.of("com/gone", 0L)));
+        }
+    }
+
+    /** Writes a stamped index the way the build step does, returning its stamps. */
+    private static Map<String, Long> writeStamped(Path root, List<String> names) throws Exception {
+        Path output = root.resolve(ComponentIndex.RESOURCE);
+        Files.createDirectories(output.getParent());
+        Map<String, Long> stamps = ComponentIndex.stampFolders(root);
+        ComponentIndex.write(output, names, stamps);
+        return stamps;
+    }
+
+    /**
+     * Adds a class file and moves its folder's time forward, as a later compile would.
+     * The explicit time keeps the test independent of file system timestamp resolution.
+     */
+    private static void addClassLater(Path folder, String fileName) throws Exception {
+        long before = Files.getLastModifiedTime(folder).toMillis();
+        Files.write(folder.resolve(fileName), new byte[0]);
+        Files.setLastModifiedTime(folder, FileTime.fromMillis(before + 5_000));
+    }
+}
@@ -0,0 +1,121 @@
+package com.pocket.rpg.serialization;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldAccessorTest {
+
+    @SuppressWarnings("unused")
+    private static class Sample {
+        private float speed = 1.5f;
+        private int health = 10;
+        private boolean solid;
+        private final String name = "npc";
+        private Thread.State state = Thread.State.NEW;
+        private List<String> tags = new ArrayList<>();
+    }
+
+    private static FieldAccessor accessor(String name) throws NoSuchFieldException {
+        return FieldAccessor.of(Sample.class.getDeclaredField(name));
+    }
+
+    @Nested
+    @DisplayName("Generic access")
+    class GenericAccess {
+
+        @Test
+        @DisplayName("boxes and unboxes primitive fields")
+        void primitives() throws Exception {
+            Sample sample = new Sample();
+            FieldAccessor speed = accessor("speed");
+
+            assertEquals(1.5f, speed.get(sample));
+            speed.set(sample, 3f);
+            assertEquals(3f, sample.speed);
+        }
+
+        @Test
+        @DisplayName("widens numbers like Field.set")
+        void widening() throws Exception {
+            Sample sample = new Sample();
+
+            accessor("speed").set(sample, 4);
+
+            assertEquals(4f, sample.speed);
+        }
+
+        @Test
+        @DisplayName("rejects values of the wrong type")
+        void wrongType() throws Exception {
+            Sample sample = new Sample();
+
+            assertThrows(ClassCastException.class, () -> accessor("speed").set(sample, "fast"));
+            assertThrows(NullPointerException.class, () -> accessor("health").set(sample, null));
+        }
+
+        @Test
+        @DisplayName("writes final fields")
+        void finalField() throws Exception {
+            Sample sample = new Sample();
+
+            accessor("name").set(sample, "guard");
+
+            assertEquals("guard", accessor("name").get(sample));
+        }
+    }
+
+    @Nested
+    @DisplayName("Typed access")
+    class TypedAccess {
+
+        @Test
+        @DisplayName("reads and writes primitives without boxing")
+        void typed() throws Exception {
+            Sample sample = new Sample();
+
+            accessor("speed").setFloat(sample, 2.5f);
+            accessor("health").setInt(sample, 7);
+            accessor("solid").setBoolean(sample, true);
+
+            assertEquals(2.5f, accessor("speed").getFloat(sample));
+            assertEquals(7, accessor("health").getInt(sample));
+            assertTrue(accessor("solid").getBoolean(sample));
+        }
+
+        @Test
+        @DisplayName("copy moves a field between instances")
+        void copy() throws Exception {
+            Sample from = new Sample();
+            Sample to = new Sample();
+            from.health = 99;
+            from.tags.add("a");
+
+            accessor("health").copy(from, to);
+            accessor("tags").copy(from, to);
+
+            assertEquals(99, to.health);
+            assertSame(from.tags, to.tags);
+        }
+
+        @Test
+        @DisplayName("marks shareable types immutable")
+        void immutability() throws Exception {
+            assertTrue(accessor("speed").isImmutable());
+            assertTrue(accessor("name").isImmutable());
+            assertTrue(accessor("state").isImmutable());
+            assertFalse(accessor("tags").isImmutable());
+        }
+    }
+
+    @Test
+    @DisplayName("accessors are built once per field")
+    void cached() throws Exception {
+        assertSame(accessor("speed"), accessor("speed"));
+    }
+}
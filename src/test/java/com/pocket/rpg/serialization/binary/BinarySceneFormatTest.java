@@ -0,0 +1,166 @@
+package com.pocket.rpg.serialization.binary;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.pocket.rpg.components.Component;
+import com.pocket.rpg.components.rendering.TilemapRenderer;
+import com.pocket.rpg.components.rendering.TilemapRenderer.LedgeDirection;
+import com.pocket.rpg.components.rendering.TilemapRenderer.Tile;
+import com.pocket.rpg.resources.AssetManager;
+import com.pocket.rpg.resources.Assets;
+import com.pocket.rpg.serialization.ComponentRegistry;
+import com.pocket.rpg.serialization.GameObjectData;
+import com.pocket.rpg.serialization.SceneData;
+import com.pocket.rpg.serialization.Serializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the binary scene format and lazy tilemap chunks.
+ */
+class BinarySceneFormatTest {
+
+    @BeforeAll
+    static void initAssets() {
+        Assets.setContext(new AssetManager());
+        Serializer.init(Assets.getContext());
+        ComponentRegistry.initialize();
+    }
+
+    private static final Tile GRASS = new Tile("grass", null, false, LedgeDirection.NONE);
+    private static final Tile WALL = new Tile("wall", null, true, LedgeDirection.NONE);
+    private static final Tile LEDGE = new Tile("ledge", null, false, LedgeDirection.DOWN);
+
+    private static SceneData sceneWith(TilemapRenderer tilemap) {
+        List<Component> components = new ArrayList<>();
+        components.add(tilemap);
+        SceneData data = new SceneData("Test");
+        data.addGameObject(new GameObjectData("1", "Ground", components));
+        return data;
+    }
+
+    private static TilemapRenderer firstTilemap(SceneData data) {
+        return (TilemapRenderer) data.getGameObjects().get(0).getComponents().get(0);
+    }
+
+    @Nested
+    @DisplayName("Tree encoding")
+    class TreeEncoding {
+
+        @Test
+        @DisplayName("round-trips JSON values exactly")
+        void roundTrip() throws Exception {
+            JsonObject json = JsonParser.parseString("""
+                    {
+                      "name": "Town \\u00e9",
+                      "version": 4,
+                      "gameObjects": [
+                        {"id": "a", "active": true, "order": -12, "components": []},
+                        {"id": "b", "active": false, "parentId": null, "components": [
+                          {"type": "com.example.Mover", "properties": {"speed": 0.1, "scale": 2.5, "big": 12345678901234}}
+                        ]}
+                      ],
+                      "metadata": {"ratio": 1e-7, "huge": 123456789012345678901234567890}
+                    }
+                    """).getAsJsonObject();
+
+            byte[] bytes = BinarySceneFormat.write(SceneTree.fromJson(json));
+            SceneTree tree = BinarySceneFormat.readTree(bytes);
+
+            assertEquals(json, tree.json());
+            assertTrue(tree.tilemaps().isEmpty());
+        }
+
+        @Test
+        @DisplayName("is detected from the header")
+        void detection() throws Exception {
+            byte[] bytes = BinarySceneFormat.write(SceneTree.fromJson(new JsonObject()));
+
+            assertTrue(BinarySceneFormat.isBinary(bytes));
+            assertFalse(BinarySceneFormat.isBinary("{\"name\":\"x\"}".getBytes(StandardCharsets.UTF_8)));
+            assertFalse(BinarySceneFormat.isBinary(new byte[0]));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tilemaps")
+    class Tilemaps {
+
+        @Test
+        @DisplayName("restore tiles and tilemap settings")
+        void restoresTiles() throws Exception {
+            TilemapRenderer source = new TilemapRenderer(0.5f);
+            source.setZIndex(3);
+            source.set(0, 0, GRASS);
+            source.set(-1, 40, WALL);
+            source.set(100, -33, LEDGE);
+
+            SceneData loaded = BinarySceneFormat.read(BinarySceneFormat.write(sceneWith(source)));
+            TilemapRenderer tilemap = firstTilemap(loaded);
+
+            assertEquals(0.5f, tilemap.getTileSize());
+            assertEquals(3, tilemap.getZIndex());
+            assertEquals(source.chunkKeys(), tilemap.chunkKeys());
+            assertEquals(GRASS, tilemap.get(0, 0));
+            assertEquals(WALL, tilemap.get(-1, 40));
+            assertEquals(LEDGE, tilemap.get(100, -33));
+            assertNull(tilemap.get(1, 0));
+        }
+
+        @Test
+        @DisplayName("decode chunks only when they are read")
+        void lazyChunks() throws Exception {
+            TilemapRenderer source = new TilemapRenderer();
+            source.set(0, 0, GRASS);
+            source.set(64, 64, WALL);
+
+            TilemapRenderer tilemap = firstTilemap(BinarySceneFormat.read(BinarySceneFormat.write(sceneWith(source))));
+
+            assertTrue(tilemap.hasChunk(0, 0));
+            assertTrue(tilemap.hasChunk(2, 2));
+            assertFalse(tilemap.isChunkDecoded(0, 0));
+            assertEquals(Set.of(GRASS, WALL), tilemap.getUsedTiles());
+            assertFalse(tilemap.isChunkDecoded(2, 2));
+
+            assertEquals(GRASS, tilemap.get(0, 0));
+            assertTrue(tilemap.isChunkDecoded(0, 0));
+            assertFalse(tilemap.isChunkDecoded(2, 2));
+
+            TilemapRenderer copy = new TilemapRenderer();
+            copy.copyTilesFrom(tilemap);
+            assertFalse(copy.isChunkDecoded(2, 2));
+            assertEquals(WALL, copy.getChunk(2, 2).get(0, 0));
+            assertEquals(1, copy.getChunk(2, 2).getTileCount());
+        }
+
+        @Test
+        @DisplayName("pack chunks with many distinct tiles")
+        void widePalette() {
+            int[] cells = new int[TilemapData.CELLS];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = i % 3 == 0 ? 0 : (i * 7) % 600 + 1;
+            }
+
+            TilemapData.ChunkData chunk = TilemapData.ChunkData.pack(-3, 5, cells, 600);
+            int[] unpacked = new int[TilemapData.CELLS];
+            chunk.unpack(unpacked);
+
+            assertTrue(chunk.bits() > 8);
+            for (int i = 0; i < cells.length; i++) {
+                int expected = cells[i] == 0 ? -1 : cells[i] - 1;
+                int actual = unpacked[i] == 0 ? -1 : chunk.palette()[unpacked[i] - 1];
+                assertEquals(expected, actual);
+            }
+            assertNull(TilemapData.ChunkData.pack(0, 0, new int[TilemapData.CELLS], 600));
+        }
+    }
+}